@@ -2,11 +2,11 @@ package game;
 
 import java.util.ArrayList;
 
-import org.json.JSONObject;
-
 import game.player.Player;
+import game.player.PlayerProperties;
 import game.resources.ResourceType;
 import game.resources.Resources;
+import game.resources.ResourcesProperties;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
@@ -15,10 +15,8 @@ import javafx.scene.control.Label;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 import main.ApplicationInstance;
-import network.Mapper;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.LoseResourcesMessage;
 
 /**
  * The controller for the resources that the player has to discard due to the robber being moved.
@@ -77,11 +75,9 @@ public class DiscardResourcesController implements Controller<Player>{
 		for (Spinner<Integer> spinner : spinnerList) {
 			ResourceType type = ResourceType.valueOf(spinner.getId());
 			int amount = (int) spinner.getValue();
-			resources.getResources().put(type, amount);
+			resources.set(type, amount);
 		}
-		JSONObject jsonObject = new JSONObject();
-		jsonObject.put(Attributes.SUBMIT.toString(), (new Mapper()).writeValueAsJson(resources));
-		client.sendToServer(ServerTypes.LOSE_RESOURCE.toString(), jsonObject);
+		client.sendToServer(new LoseResourcesMessage(resources));
 		
 		for (Spinner<Integer> spinner : spinnerList) {
 			spinner.getValueFactory().setValue(0);
@@ -95,7 +91,7 @@ public class DiscardResourcesController implements Controller<Player>{
 	 */
 	private void addBindings() {
 		amountOfResourcesToDiscardLabel.textProperty().bind(
-				player.resourceQuantityProperty().divide(2).asString());
+				PlayerProperties.of(player).resourceQuantityProperty().divide(2).asString());
 		dropResourcesCardsLabelPart_1.textProperty().bind(
 				ApplicationInstance.getInstance().createStringBinding("DROP_CARDS_1"));
 		dropResourcesCardsLabelPart_2.textProperty().bind(
@@ -106,8 +102,8 @@ public class DiscardResourcesController implements Controller<Player>{
              valueFactory = new SpinnerValueFactory.IntegerSpinnerValueFactory(0, 0);
              Resources resources = client.getUser().getPlayer().getResources();
              valueFactory.maxProperty().bind(Bindings.createIntegerBinding(()-> {
-            	 return resources.getResources().get(ResourceType.valueOf(spinner.getId()));
-             },resources.getResources()));
+            	 return resources.get(ResourceType.valueOf(spinner.getId()));
+             },ResourcesProperties.of(resources).resourcesProperty()));
              spinner.setValueFactory(valueFactory);
 		}
 		
@@ -2,23 +2,42 @@ package game;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import game.bank.Bank;
 import game.board.Board;
+import game.board.BoardConfiguration;
 import game.cards.specialcards.SpecialCard;
 import game.cards.specialcards.SpecialCardType;
 import game.dice.Dice;
 import game.player.Player;
 import game.trade.Trade;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents a game of Settlers of Catan.
  * @author Christoph Hermann
  */
-public class Game {
+public class Game extends ObservableModel {
+
+	/**
+	 * The name of the property of the active player of a game.
+	 */
+	public static final String ACTIVE_PLAYER = "activePlayer";
+
+	/**
+	 * The name of the property of the trade of a game.
+	 */
+	public static final String TRADE = "trade";
+
+	/**
+	 * The name of the property of the round count of a game.
+	 */
+	public static final String ROUND_COUNT = "roundCount";
+
+	/**
+	 * The name of the property of the winner of a game.
+	 */
+	public static final String WINNER = "winner";
 
 	/**
 	 * The list of {@code Players} participating in this game.
@@ -44,11 +63,16 @@ public class Game {
 	 */
 	private Dice dice;
 
+	/**
+	 * The source of all randomness of this game, i.e. the layout of the board, the dice and the deck of the bank.
+	 */
+	private final Random random;
+
 	/**
 	 * The {@code Player} whose turn it currently is.
 	 * @see Player
 	 */
-	private SimpleObjectProperty<Player> activePlayerProperty = new SimpleObjectProperty<Player>();
+	private Player activePlayer;
 
 	/**
 	 * The longest road card.
@@ -78,34 +102,56 @@ public class Game {
 	/**
 	 * Contains a trade that an active player initiates.
 	 */
-	private ObjectProperty<Trade> tradeProperty = new SimpleObjectProperty<Trade>();
+	private Trade trade;
 
 	/**
 	 * Contains the amount of rounds played.
 	 */
-	private SimpleIntegerProperty roundCountProperty = new SimpleIntegerProperty(1);
+	private int roundCount = 1;
 
 	/**
 	 * The number of players in {@code Game}.
 	 * @see Player
 	 */
-	private SimpleIntegerProperty playersNumberInGameProperty = new SimpleIntegerProperty(0);
+	private int playersNumberInGame;
 
 	/**
-	 * The property wrapping the player who won the game.
+	 * The player who won the game.
 	 */
-	private SimpleObjectProperty<Player> winnerProperty = new SimpleObjectProperty<Player>();
+	private Player winner;
 
 	/**
-	 * Creates a new game with the specified {@code Players}.
+	 * Creates a new game with the specified {@code Players} on the standard board.
 	 * @param players the {@link Player Players}.
 	 */
 	public Game(List<Player> players) {
+		this(players, BoardConfiguration.STANDARD);
+	}
+
+	/**
+	 * Creates a new game with the specified {@code Players} on a board with the specified configuration.
+	 * @param players the {@link Player Players}.
+	 * @param boardConfiguration the {@link BoardConfiguration} of the board.
+	 */
+	public Game(List<Player> players, BoardConfiguration boardConfiguration) {
+		this(players, boardConfiguration, new Random());
+	}
+
+	/**
+	 * Creates a new game with the specified {@code Players} on a board with the specified configuration, which takes
+	 * all its randomness from the specified source. A game created with a source seeded the same way is laid out the
+	 * same way and rolls the same numbers, as long as the same moves are made.
+	 * @param players the {@link Player Players}.
+	 * @param boardConfiguration the {@link BoardConfiguration} of the board.
+	 * @param random the source of randomness.
+	 */
+	public Game(List<Player> players, BoardConfiguration boardConfiguration, Random random) {
 		this.players = players;
-		this.board = new Board();
-		this.dice = new Dice();
-		this.bank = new Bank();
-		this.playersNumberInGameProperty.set(players.size());
+		this.random = random;
+		this.board = new Board(boardConfiguration, random);
+		this.dice = new Dice(random);
+		this.bank = new Bank(random);
+		this.playersNumberInGame = players.size();
 
 		longestRoadCard = new SpecialCard(SpecialCardType.LONGEST_ROAD);
 		largestArmyCard = new SpecialCard(SpecialCardType.LARGEST_ARMY);
@@ -114,10 +160,28 @@ public class Game {
 			player.setGame(this);
 		}
 
-		activePlayerProperty.set(players.get(0));
+		setActivePlayer(players.get(0));
 	}
 
 
+	/**
+	 * Returns the Zobrist hash of this game, which covers the localities, roads and robber on the board, the resources
+	 * and development cards of the players and the active player. Two games with the same hash are in the same state
+	 * with a very high probability.
+	 * @return the hash.
+	 * @see ZobristKeys
+	 */
+	public long getHash() {
+		long hash = board.getTopology().getHash();
+		for (Player player : players) {
+			hash ^= player.getHash();
+		}
+		if (activePlayer != null) {
+			hash ^= ZobristKeys.activePlayer(activePlayer.getId());
+		}
+		return hash;
+	}
+
 	/**
 	 * Sets the next {@code Player} to be the active player.
 	 * Additionally calls on the setRoundCount method to maybe update the roundCount.
@@ -140,7 +204,7 @@ public class Game {
 		if(playersDone==getPlayersNumberInGame()) {
 			//playerDone start with value 1, after last player in round finish round(means similar before the first player in round starts), 
 			//-the playerDone should be 1 and the roundCount should be roundCount + 1 , 
-			roundCountProperty.set((getRoundCount()+1));
+			setRoundCount(getRoundCount()+1);
 			playersDone = playerDoneReset;
 		}
 		//else should be used here, otherwise playersDone = 1,3,4,6,7,9... that means short of 2,5,8,11... 
@@ -155,9 +219,9 @@ public class Game {
 	 * of player who could decline the trade . false, otherwise.
 	 */
 	public boolean haveAllPlayersDeclinedTheTrade() {
-		if(tradeProperty.get()!=null) {
-			if(tradeProperty.get().getDeclinedList()!=null) {
-				return tradeProperty.get().getDeclinedList().size() >= players.size() - 1;
+		if(trade!=null) {
+			if(trade.getDeclinedList()!=null) {
+				return trade.getDeclinedList().size() >= players.size() - 1;
 			} else {return false;}
 		} else {return false;}
 	}
@@ -168,7 +232,7 @@ public class Game {
 	 */
 	private int getActivePlayerIndex() {
 		for (int i=0; i<players.size(); i++) {
-			if (players.get(i) == activePlayerProperty.get()) {
+			if (players.get(i) == activePlayer) {
 				return i;
 			}
 		}
@@ -228,7 +292,7 @@ public class Game {
 	 */
 	public int getPreviousPlayerId() {
 		setActivePlayer(getPrevousPlayer());
-		return activePlayerProperty.get().getId();
+		return activePlayer.getId();
 	}
 
 	/**
@@ -237,7 +301,7 @@ public class Game {
 	 */
 	public int getNextPlayerId() {
 		setActivePlayer(getNextPlayer());
-		return activePlayerProperty.get().getId();
+		return activePlayer.getId();
 	}
 
 	/**
@@ -276,6 +340,15 @@ public class Game {
 		return dice;
 	}
 
+	/**
+	 * Returns the source of randomness of this game, which is used for any other random decision of the rules as well,
+	 * e.g. which resource is robbed.
+	 * @return the {@link Random} source.
+	 */
+	public Random getRandom() {
+		return random;
+	}
+
 	/**
 	 * Returns the {@code Players} in this game.
 	 * @return the {@link Player Players}.
@@ -289,7 +362,7 @@ public class Game {
 	 * @return the active {@link Player}.
 	 */
 	public Player getActivePlayer() {
-		return activePlayerProperty.get();
+		return activePlayer;
 	}
 
 	/**
@@ -297,7 +370,10 @@ public class Game {
 	 * @param activePlayer the new active {@link Player}.
 	 */
 	public void setActivePlayer(Player activePlayer) {
-		this.activePlayerProperty.set(activePlayer);
+		if (this.activePlayer != activePlayer) {
+			this.activePlayer = activePlayer;
+			fireChanged(ACTIVE_PLAYER);
+		}
 	}
 
 	/**
@@ -318,7 +394,18 @@ public class Game {
 	 * @return roundCount
 	 */
 	public int getRoundCount() {
-		return roundCountProperty.get();
+		return roundCount;
+	}
+
+	/**
+	 * Sets the amount of rounds played.
+	 * @param roundCount the round count.
+	 */
+	private void setRoundCount(int roundCount) {
+		if (this.roundCount != roundCount) {
+			this.roundCount = roundCount;
+			fireChanged(ROUND_COUNT);
+		}
 	}
 
 	/**
@@ -334,7 +421,7 @@ public class Game {
 	 * @return the {@link Trade}
 	 */
 	public Trade getTrade() {
-		return tradeProperty.get();
+		return trade;
 	}
 
 	/**
@@ -342,15 +429,10 @@ public class Game {
 	 * @param trade the {@link Trade} to set.
 	 */
 	public void setTrade(Trade trade) {
-		this.tradeProperty.set(trade);
-	}
-
-	/**
-	 * The property wrapping the round count.
-	 * @return the round count.
-	 */
-	public SimpleIntegerProperty roundCountProperty() {
-		return roundCountProperty;
+		if (this.trade != trade) {
+			this.trade = trade;
+			fireChanged(TRADE);
+		}
 	}
 
 	/**
@@ -361,14 +443,6 @@ public class Game {
 		this.dice = dice;
 	}
 
-	/**
-	 * The property wrapping the player whose turn it currently is.
-	 * @return the active player.
-	 */
-	public SimpleObjectProperty<Player> activePlayerProperty() {
-		return activePlayerProperty;
-	}
-
 	/**
 	 * Returns the {@code Player} with the specified id.
 	 * @param id the id.
@@ -399,14 +473,6 @@ public class Game {
 		this.phase = phase;
 	}
 
-	/**
-	 * Getter for the tradeProperty that is needed to bind trade in GameController
-	 * @return tradeProperty
-	 */
-	public ObjectProperty<Trade> tradeProperty() {
-		return tradeProperty;
-	}
-
 	/**
 	 * Get the longest road card in game
 	 * @return the longestRoadCard
@@ -444,15 +510,18 @@ public class Game {
 	 * @param player the winner
 	 */
 	public void setWinner(Player player) {
-		this.winnerProperty.set(player);
+		if (this.winner != player) {
+			this.winner = player;
+			fireChanged(WINNER);
+		}
 	}
 
 	/**
-	 * Getter for the property wrapping the player who won the game.
-	 * @return the winner property
+	 * Returns the winner of the game.
+	 * @return the winner or null, if nobody has won yet.
 	 */
-	public SimpleObjectProperty<Player> winnerProperty() {
-		return winnerProperty;
+	public Player getWinner() {
+		return winner;
 	}
 
 	/**
@@ -461,7 +530,7 @@ public class Game {
 	 * @see Player
 	 */
 	public int getPlayersNumberInGame() {
-		return playersNumberInGameProperty.get();
+		return playersNumberInGame;
 	}
 
 	/**
@@ -470,7 +539,7 @@ public class Game {
 	 * @see Player
 	 */
 	public void setPlayersNumberInGame(int playersNumberInGame) {
-		this.playersNumberInGameProperty.set(playersNumberInGame);
+		this.playersNumberInGame = playersNumberInGame;
 	}
 
 	/**
@@ -4,8 +4,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.json.JSONObject;
-
 import game.board.BoardController;
 import game.board.construction.Construction;
 import game.board.construction.localities.City;
@@ -15,10 +13,13 @@ import game.cards.DevelopmentCard;
 import game.dice.DiceController;
 import game.player.Player;
 import game.player.PlayerInfoController;
+import game.player.PlayerProperties;
 import game.player.PlayerState;
 import game.resources.ResourceCardsController;
 import game.resources.Resources;
+import game.resources.ResourcesProperties;
 import game.trade.TradeController;
+import game.trade.TradeProperties;
 import interfaces.Controller;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
@@ -39,6 +40,7 @@ import main.ApplicationController;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
 import network.protocol.ServerTypes;
+import network.protocol.messages.SimpleMessage;
 import network.server.Server;
 import sounds.AudioPlayer;
 
@@ -238,7 +240,7 @@ public class GameController implements Controller<Game> {
 
 		load("/game/player/PlayerInfoView.fxml", mainPlayerInfoPane, client.getUser().getPlayer());
 		loadResourceCards();
-		load("/game/cards/DevelopmentCardsView.fxml", developmentCardsPane, client.getUser().getPlayer().developmentCardsProperty());
+		load("/game/cards/DevelopmentCardsView.fxml", developmentCardsPane, PlayerProperties.of(client.getUser().getPlayer()).developmentCardsProperty());
 		load("/game/trade/OfferedTradeView.fxml", offeredTradePane, game);
 
 		tradeStart();
@@ -285,7 +287,7 @@ public class GameController implements Controller<Game> {
 	 */
 	@FXML
 	private void buyDevelopmentCard() {
-		client.sendToServer(ServerTypes.BUY_DEVLOPMENTCARD.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.BUY_DEVLOPMENTCARD));
 	}
 
 	/**
@@ -294,7 +296,7 @@ public class GameController implements Controller<Game> {
 	@FXML
 	private void endTurn() {
 		audioPlayer.playButtonSound();
-		client.sendToServer(ServerTypes.END_TURN.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.END_TURN));
 
 		tradePane.setVisible(false);
 	}
@@ -361,7 +363,7 @@ public class GameController implements Controller<Game> {
 		actionDisplay.textProperty().bind(Bindings.createStringBinding(() -> {
 			return ApplicationInstance.getInstance().getBundleProperty().get().getString(
 					client.getUser().getPlayer().getState().getDisplayText());
-		}, client.getUser().getPlayer().stateProperty(), ApplicationInstance.getInstance().getBundleProperty()));
+		}, PlayerProperties.of(client.getUser().getPlayer()).stateProperty(), ApplicationInstance.getInstance().getBundleProperty()));
 	}
 
 	@Override
@@ -386,7 +388,7 @@ public class GameController implements Controller<Game> {
 	 */
 	private void bindConstructionCosts() {
 		Player player = client.getUser().getPlayer();
-		player.getResources().getResources().addListener((InvalidationListener) observable -> {
+		ResourcesProperties.of(player.getResources()).resourcesProperty().addListener((InvalidationListener) observable -> {
 			setOpacityOfCost(costRoadPane, Road.getCost());
 			setOpacityOfCost(costSettlementPane, Settlement.getCost());
 			setOpacityOfCost(costCityPane, City.getCost());
@@ -439,10 +441,10 @@ public class GameController implements Controller<Game> {
 			boolean tradeExists = game.getTrade() != null;
 
 			return !playerIsInBuildingState || tradeExists;
-		}, client.getUser().getPlayer().stateProperty(), game.tradeProperty()));
+		}, PlayerProperties.of(client.getUser().getPlayer()).stateProperty(), GameProperties.of(game).tradeProperty()));
 
 		// Enable the trade button only when the player is in TRADE_OR_BUILD state.
-		tradeButton.disableProperty().bind(client.getUser().getPlayer()
+		tradeButton.disableProperty().bind(PlayerProperties.of(client.getUser().getPlayer())
 				.stateProperty().isNotEqualTo(PlayerState.TRADE_OR_BUILD));
 
 		// Enable the development button only when the player is in TRADE_OR_BUILD state and has enough resources to buy
@@ -452,19 +454,20 @@ public class GameController implements Controller<Game> {
 			boolean isPlayerInBuildingState = player.getState() == PlayerState.TRADE_OR_BUILD;
 			boolean hasPlayerEnoughResources = player.getResources().isGreaterThanOrEqualTo(DevelopmentCard.getCost());
 			return !isPlayerInBuildingState	|| !hasPlayerEnoughResources;
-		}, client.getUser().getPlayer().stateProperty(), client.getUser().getPlayer().getResources().getResources()));
+		}, PlayerProperties.of(client.getUser().getPlayer()).stateProperty(), 
+				ResourcesProperties.of(client.getUser().getPlayer().getResources()).resourcesProperty()));
 	}
 
 	/**
 	 * Binds the visibility of the end screen to the model.
 	 */
 	private void bindEndScreen() {
-		game.winnerProperty().addListener((observable) -> {
-			applicationController.loadEndScreenView(game.winnerProperty().get().getName() + " has won!!!");
+		GameProperties.of(game).winnerProperty().addListener((observable) -> {
+			applicationController.loadEndScreenView(game.getWinner().getName() + " has won!!!");
 		});
 
 		for (Player player : game.getPlayers()) {
-			player.stateProperty().addListener(observable -> {
+			PlayerProperties.of(player).stateProperty().addListener(observable -> {
 				if (player.getState() == PlayerState.CONNECTION_LOST) {
 					applicationController.loadEndScreenView(player.getName() + " has disconnected.");
 				}
@@ -523,7 +526,7 @@ public class GameController implements Controller<Game> {
 	 */
 	private void bindDiscardResources() {
 		Player player = client.getUser().getPlayer();
-		discardResources.visibleProperty().bind(player.stateProperty()
+		discardResources.visibleProperty().bind(PlayerProperties.of(player).stateProperty()
 				.isEqualTo(PlayerState.DISCARD_RESOURCES));
 	}
 
@@ -532,14 +535,14 @@ public class GameController implements Controller<Game> {
 	 * by binding the visibility to the clienttype that is being handled
 	 */
 	private void bindTradeOffer() {
-		game.tradeProperty().addListener(object -> {
+		GameProperties.of(game).tradeProperty().addListener(object -> {
 			if (game.getTrade() != null) {
 				offeredTradePane.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 					boolean tradeExists = game.getTrade() != null;
 					boolean playerDidStartTheTrade = client.getUser().getPlayer() == game.getTrade().getPlayer();
 					boolean playerDidDeclineTheTrade = game.getTrade().getDeclinedList().contains(client.getUser().getPlayer());
 					return tradeExists && !playerDidStartTheTrade && !playerDidDeclineTheTrade;
-				}, game.getTrade().getDeclinedList()));
+				}, TradeProperties.of(game.getTrade()).declinedPlayersProperty()));
 			} else {
 				offeredTradePane.visibleProperty().unbind();
 				offeredTradePane.setVisible(false);
@@ -585,7 +588,7 @@ public class GameController implements Controller<Game> {
 			} else {
 				return null;
 			}
-		},player.stateProperty()));
+		},PlayerProperties.of(player).stateProperty()));
 
 		//when trade or build
 		developmentButton.effectProperty().bind(Bindings.createObjectBinding(() -> {
@@ -594,7 +597,7 @@ public class GameController implements Controller<Game> {
 			} else {
 				return null;
 			}
-		},player.stateProperty()));
+		},PlayerProperties.of(player).stateProperty()));
 		tradeButton.effectProperty().bind(Bindings.createObjectBinding(() -> {
 			if (!tradeButton.isDisable()) {
 				return amplifyShadow;
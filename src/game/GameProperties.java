@@ -0,0 +1,70 @@
+package game;
+
+import game.player.Player;
+import game.trade.Trade;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+
+/**
+ * Wraps a {@code Game} in JavaFX properties for the views of the game.
+ * @author Christoph Hermann
+ * @see Game
+ */
+public class GameProperties extends ModelProperties {
+
+	/**
+	 * The wrapped game.
+	 */
+	private final Game game;
+
+	/**
+	 * Creates a new adapter of the specified game.
+	 * @param game the {@link Game}.
+	 */
+	private GameProperties(Game game) {
+		super(game);
+		this.game = game;
+	}
+
+	/**
+	 * Returns the adapter of the specified game, which is created when it is requested first.
+	 * @param game the {@link Game}.
+	 * @return the adapter.
+	 */
+	public static GameProperties of(Game game) {
+		return game.getView(() -> new GameProperties(game));
+	}
+
+	/**
+	 * Returns the property of the player whose turn it currently is.
+	 * @return the active {@link Player} property.
+	 */
+	public ObjectProperty<Player> activePlayerProperty() {
+		return objectProperty(Game.ACTIVE_PLAYER, game::getActivePlayer, game::setActivePlayer);
+	}
+
+	/**
+	 * Returns the property of the current trade, which the views of the trade bind to.
+	 * @return the {@link Trade} property.
+	 */
+	public ObjectProperty<Trade> tradeProperty() {
+		return objectProperty(Game.TRADE, game::getTrade, game::setTrade);
+	}
+
+	/**
+	 * Returns the property of the amount of rounds played.
+	 * @return the round count property.
+	 */
+	public IntegerProperty roundCountProperty() {
+		return integerProperty(Game.ROUND_COUNT, game::getRoundCount, null);
+	}
+
+	/**
+	 * Returns the property of the player who won the game.
+	 * @return the winner property.
+	 */
+	public ObjectProperty<Player> winnerProperty() {
+		return objectProperty(Game.WINNER, game::getWinner, game::setWinner);
+	}
+
+}
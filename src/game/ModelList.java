@@ -0,0 +1,114 @@
+package game;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of the model, which notifies its {@link ModelListListener ModelListListeners} about added and removed
+ * elements. It replaces the observable lists of JavaFX in the model, so the model runs without JavaFX. Every change
+ * made through the {@code List} interface, including its iterators, is reported.
+ * @author Christoph Hermann
+ * @param <E> the type of the elements.
+ */
+public class ModelList<E> extends AbstractList<E> implements RandomAccess {
+
+	/**
+	 * The elements of this list.
+	 */
+	private final ArrayList<E> elements = new ArrayList<E>();
+
+	/**
+	 * The listeners notified about added and removed elements or null, if there are none.
+	 */
+	private List<ModelListListener<E>> listeners;
+
+	@Override
+	public E get(int index) {
+		return elements.get(index);
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	@Override
+	public E set(int index, E element) {
+		E oldElement = elements.set(index, element);
+		fireChanged(Collections.singletonList(oldElement), Collections.singletonList(element));
+		return oldElement;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		elements.add(index, element);
+		modCount++;
+		fireChanged(Collections.<E>emptyList(), Collections.singletonList(element));
+	}
+
+	@Override
+	public E remove(int index) {
+		E element = elements.remove(index);
+		modCount++;
+		fireChanged(Collections.singletonList(element), Collections.<E>emptyList());
+		return element;
+	}
+
+	@Override
+	public void clear() {
+		setAll(Collections.<E>emptyList());
+	}
+
+	/**
+	 * Replaces all elements of this list by the specified ones. The listeners are notified only once.
+	 * @param newElements the new elements.
+	 */
+	public void setAll(Collection<? extends E> newElements) {
+		List<E> removed = listeners == null ? null : new ArrayList<E>(elements);
+		elements.clear();
+		elements.addAll(newElements);
+		modCount++;
+		if (removed != null) {
+			fireChanged(removed, new ArrayList<E>(elements));
+		}
+	}
+
+	/**
+	 * Adds a listener, which is notified whenever elements are added or removed.
+	 * @param listener the {@link ModelListListener}.
+	 */
+	public void addListener(ModelListListener<E> listener) {
+		if (listeners == null) {
+			listeners = new ArrayList<ModelListListener<E>>(1);
+		}
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 * @param listener the {@link ModelListListener}.
+	 */
+	public void removeListener(ModelListListener<E> listener) {
+		if (listeners != null) {
+			listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Notifies all listeners about added and removed elements.
+	 * @param removed the removed elements.
+	 * @param added the added elements.
+	 */
+	private void fireChanged(List<E> removed, List<E> added) {
+		if (listeners != null) {
+			for (int i = 0; i < listeners.size(); i++) {
+				listeners.get(i).elementsChanged(removed, added);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package game;
+
+import java.util.List;
+
+/**
+ * Is notified whenever elements are added to or removed from a {@code ModelList}.
+ * @author Christoph Hermann
+ * @param <E> the type of the elements.
+ * @see ModelList#addListener(ModelListListener)
+ */
+@FunctionalInterface
+public interface ModelListListener<E> {
+
+	/**
+	 * Called after elements have been added to or removed from the list.
+	 * @param removed the removed elements, which may be empty.
+	 * @param added the added elements, which may be empty.
+	 */
+	void elementsChanged(List<E> removed, List<E> added);
+
+}
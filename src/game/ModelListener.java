@@ -0,0 +1,18 @@
+package game;
+
+/**
+ * Is notified whenever a property of an {@code ObservableModel} changes. The listener needs no classes of JavaFX, so
+ * the model can be observed on a dedicated server or in a simulation as well.
+ * @author Christoph Hermann
+ * @see ObservableModel#addListener(ModelListener)
+ */
+@FunctionalInterface
+public interface ModelListener {
+
+	/**
+	 * Called after a property of the model has changed.
+	 * @param property the name of the property, one of the constants of the model class.
+	 */
+	void modelChanged(String property);
+
+}
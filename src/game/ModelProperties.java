@@ -0,0 +1,247 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.MapProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SetProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleMapProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleSetProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.MapChangeListener;
+
+/**
+ * The base of the adapters, which wrap an {@code ObservableModel} in JavaFX properties for the user interface.
+ * <p>
+ * Every property is created, when it is requested first, and is set from the model object whenever the object
+ * reports a change of it. If the model object has a setter for the property, changes of the property are written back
+ * to the model object. Only the views use the adapters, so the model needs no classes of JavaFX. The model objects may
+ * be changed by the thread of the connection, so the properties are always set on the JavaFX application thread.
+ * @author Christoph Hermann
+ * @see ObservableModel
+ */
+public abstract class ModelProperties {
+
+	/**
+	 * The properties which have been requested, by their name.
+	 */
+	private final Map<String, Property<?>> properties = new HashMap<String, Property<?>>();
+
+	/**
+	 * The functions setting the properties from the model object, by the name of the property.
+	 */
+	private final Map<String, Runnable> updaters = new HashMap<String, Runnable>();
+
+	/**
+	 * Creates a new adapter of the specified model object.
+	 * @param model the {@link ObservableModel}.
+	 */
+	protected ModelProperties(ObservableModel model) {
+		model.addListener(this::update);
+	}
+
+	/**
+	 * Sets a property from the model object, if it has been requested.
+	 * @param name the name of the property.
+	 */
+	private void update(String name) {
+		Runnable updater = updaters.get(name);
+		if (updater != null) {
+			runOnFxThread(updater);
+		}
+	}
+
+	/**
+	 * Runs the specified action on the JavaFX application thread. It is run at once, if the current thread is the
+	 * JavaFX application thread, e.g. when a view has written a property back to the model object.
+	 * @param action the action.
+	 */
+	private static void runOnFxThread(Runnable action) {
+		if (Platform.isFxApplicationThread()) {
+			action.run();
+		} else {
+			Platform.runLater(action);
+		}
+	}
+
+	/**
+	 * Returns the object property with the specified name, which is created when it is requested first.
+	 * @param <T> the type of the value.
+	 * @param name the name of the property.
+	 * @param getter reads the value from the model object.
+	 * @param setter writes the value to the model object or null, if the model object has no setter.
+	 * @return the property.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> ObjectProperty<T> objectProperty(String name, Supplier<T> getter, Consumer<T> setter) {
+		ObjectProperty<T> property = (ObjectProperty<T>) properties.get(name);
+		if (property == null) {
+			ObjectProperty<T> newProperty = new SimpleObjectProperty<T>(getter.get());
+			if (setter != null) {
+				newProperty.addListener((observable, oldValue, newValue) -> setter.accept(newValue));
+			}
+			updaters.put(name, () -> newProperty.set(getter.get()));
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+	/**
+	 * Returns the integer property with the specified name, which is created when it is requested first.
+	 * @param name the name of the property.
+	 * @param getter reads the value from the model object.
+	 * @param setter writes the value to the model object or null, if the model object has no setter.
+	 * @return the property.
+	 */
+	protected IntegerProperty integerProperty(String name, IntSupplier getter, IntConsumer setter) {
+		IntegerProperty property = (IntegerProperty) properties.get(name);
+		if (property == null) {
+			IntegerProperty newProperty = new SimpleIntegerProperty(getter.getAsInt());
+			if (setter != null) {
+				newProperty.addListener((observable, oldValue, newValue) -> setter.accept(newValue.intValue()));
+			}
+			updaters.put(name, () -> newProperty.set(getter.getAsInt()));
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+	/**
+	 * Returns the string property with the specified name, which is created when it is requested first.
+	 * @param name the name of the property.
+	 * @param getter reads the value from the model object.
+	 * @param setter writes the value to the model object or null, if the model object has no setter.
+	 * @return the property.
+	 */
+	protected StringProperty stringProperty(String name, Supplier<String> getter, Consumer<String> setter) {
+		StringProperty property = (StringProperty) properties.get(name);
+		if (property == null) {
+			StringProperty newProperty = new SimpleStringProperty(getter.get());
+			if (setter != null) {
+				newProperty.addListener((observable, oldValue, newValue) -> setter.accept(newValue));
+			}
+			updaters.put(name, () -> newProperty.set(getter.get()));
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+	/**
+	 * Returns the list property with the specified name, which is created when it is requested first. It contains the
+	 * elements of the specified list of the model object and is updated, whenever the list changes. The views change
+	 * the list of the model object, not the property.
+	 * @param <E> the type of the elements.
+	 * @param name the name of the property.
+	 * @param list the {@link ModelList} of the model object.
+	 * @return the property.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <E> ListProperty<E> listProperty(String name, ModelList<E> list) {
+		ListProperty<E> property = (ListProperty<E>) properties.get(name);
+		if (property == null) {
+			ListProperty<E> newProperty = new SimpleListProperty<E>(FXCollections.observableArrayList(list));
+			list.addListener((removed, added) -> {
+				// Copy the elements on the thread changing the list, it may change again before the property is set.
+				List<E> elements = new ArrayList<E>(list);
+				runOnFxThread(() -> newProperty.setAll(elements));
+			});
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+	/**
+	 * Returns the set property with the specified name, which is created when it is requested first. It contains the
+	 * elements of the specified set of the model object and is replaced, whenever the model object reports a change
+	 * of it. The views change the set through the model object, not the property.
+	 * @param <E> the type of the elements.
+	 * @param name the name of the property.
+	 * @param getter reads the set from the model object.
+	 * @return the property.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <E> SetProperty<E> setProperty(String name, Supplier<Set<E>> getter) {
+		SetProperty<E> property = (SetProperty<E>) properties.get(name);
+		if (property == null) {
+			SetProperty<E> newProperty = new SimpleSetProperty<E>(FXCollections.observableSet(
+					new HashSet<E>(getter.get())));
+			updaters.put(name, () -> {
+				// Validate the property first, it only notifies its listeners about a new set, if it is valid.
+				newProperty.get();
+				newProperty.set(FXCollections.observableSet(new HashSet<E>(getter.get())));
+			});
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+	/**
+	 * Returns the map property with the specified name, which is created when it is requested first. It contains the
+	 * entries of the specified map of the model object and is replaced as a whole, whenever the model object reports a
+	 * change of it, so the views are notified only once per change. If the model object has a setter for the values,
+	 * entries put into the property are written back to the model object.
+	 * @param <K> the type of the keys.
+	 * @param <V> the type of the values.
+	 * @param name the name of the property.
+	 * @param getter reads the map from the model object.
+	 * @param setter writes a value to the model object or null, if the model object has no setter.
+	 * @return the property.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <K, V> MapProperty<K, V> mapProperty(String name, Supplier<Map<K, V>> getter, BiConsumer<K, V> setter) {
+		MapProperty<K, V> property = (MapProperty<K, V>) properties.get(name);
+		if (property == null) {
+			MapProperty<K, V> newProperty = new SimpleMapProperty<K, V>(FXCollections.observableMap(
+					new HashMap<K, V>(getter.get())));
+			// Set while a value put into the property is written back, which needs no new map.
+			boolean[] writingBack = new boolean[1];
+			if (setter != null) {
+				newProperty.addListener((MapChangeListener<K, V>) change -> {
+					if (change.wasAdded()) {
+						writingBack[0] = true;
+						try {
+							setter.accept(change.getKey(), change.getValueAdded());
+						} finally {
+							writingBack[0] = false;
+						}
+					}
+				});
+			}
+			updaters.put(name, () -> {
+				if (!writingBack[0]) {
+					// Validate the property first, it only notifies its listeners about a new map, if it is valid.
+					newProperty.get();
+					newProperty.set(FXCollections.observableMap(new HashMap<K, V>(getter.get())));
+				}
+			});
+			properties.put(name, newProperty);
+			property = newProperty;
+		}
+		return property;
+	}
+
+}
@@ -0,0 +1,77 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The base of the model objects which the user interface observes.
+ * <p>
+ * A model object notifies its {@link ModelListener ModelListeners} with the name of a property, whenever the property
+ * changes. The model itself contains no classes of JavaFX, so it runs on a dedicated server or in a simulation without
+ * them. The JavaFX properties the views bind to are held by an adapter, which is created when it is requested first
+ * and stored in the model object, so all views share it.
+ * @author Christoph Hermann
+ */
+public abstract class ObservableModel {
+
+	/**
+	 * The listeners notified about changed properties or null, if there are none.
+	 */
+	private List<ModelListener> listeners;
+
+	/**
+	 * The adapter of this model object for the user interface or null, if it hasn't been requested yet.
+	 */
+	private Object view;
+
+	/**
+	 * Adds a listener, which is notified whenever a property changes.
+	 * @param listener the {@link ModelListener}.
+	 */
+	public void addListener(ModelListener listener) {
+		if (listeners == null) {
+			listeners = new ArrayList<ModelListener>(1);
+		}
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 * @param listener the {@link ModelListener}.
+	 */
+	public void removeListener(ModelListener listener) {
+		if (listeners != null) {
+			listeners.remove(listener);
+		}
+	}
+
+	/**
+	 * Notifies all listeners that a property has changed.
+	 * @param property the name of the property.
+	 */
+	protected void fireChanged(String property) {
+		if (listeners != null) {
+			// Listeners may add other listeners, e.g. when they start observing another part of the model.
+			for (int i = 0; i < listeners.size(); i++) {
+				listeners.get(i).modelChanged(property);
+			}
+		}
+	}
+
+	/**
+	 * Returns the adapter of this model object for the user interface. The adapter is created by the specified
+	 * factory, when it is requested first.
+	 * @param <V> the type of the adapter.
+	 * @param factory creates the adapter.
+	 * @return the adapter.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V getView(Supplier<V> factory) {
+		if (view == null) {
+			view = factory.get();
+		}
+		return (V) view;
+	}
+
+}
@@ -1,14 +1,13 @@
 package game;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import game.bank.Bank;
 import game.player.Player;
 import game.resources.ResourceType;
-import javafx.beans.property.SimpleMapProperty;
-import javafx.collections.FXCollections;
 
 /**
  * Represents the ratios at which a {@code Player} can trade resources with the {@code Bank}.
@@ -16,14 +15,17 @@ import javafx.collections.FXCollections;
  * @see Player
  * @see Bank
  */
-public class TradingRatios {
+public class TradingRatios extends ObservableModel {
+
+	/**
+	 * The name of the property of the ratios.
+	 */
+	public static final String RATIOS = "ratios";
 
 	/**
 	 * A {@link Map Map} representing the different types of resources and the ratio at which they can be traded.
 	 */
-	private SimpleMapProperty<ResourceType, Integer> ratios = 
-			new SimpleMapProperty<ResourceType, Integer>(
-					FXCollections.observableMap(new HashMap<ResourceType, Integer>()));
+	private final Map<ResourceType, Integer> ratios = new EnumMap<ResourceType, Integer>(ResourceType.class);
 
 	/**
 	 * Creates a new TradingRatios allowing a {@code Player} to trade the specified {@code ResourceType} at the
@@ -69,6 +71,7 @@ public class TradingRatios {
 	 * @param newRatios the second trading ratios.
 	 */
 	public void combine(TradingRatios newRatios) {
+		boolean changed = false;
 		for (Entry<ResourceType, Integer> entry: newRatios.getRatios().entrySet()) {
 			ResourceType type = entry.getKey();
 			int newRatio = entry.getValue();
@@ -76,8 +79,12 @@ public class TradingRatios {
 
 			if (newRatio < oldRatio) {
 				ratios.put(type, newRatio);
+				changed = true;
 			}
 		}
+		if (changed) {
+			fireChanged(RATIOS);
+		}
 	}
 
 	/**
@@ -88,7 +95,7 @@ public class TradingRatios {
 	 */
 	public boolean isCorrectRatio(ResourceType type, int ratioToTest) {
 		if (ratios.containsKey(type)) {
-			int thisRatio = ratios.getValue().get(type);
+			int thisRatio = ratios.get(type);
 			return ratioToTest % thisRatio == 0;
 		} else {
 			return false;
@@ -97,10 +104,10 @@ public class TradingRatios {
 
 	/**
 	 * Returns a {@code Map} representing the different types of resources and the ratio at which they can be traded.
-	 * @return the ratios.
+	 * @return the ratios, which can't be modified.
 	 */
-	public SimpleMapProperty<ResourceType, Integer> getRatios() {
-		return ratios;
+	public Map<ResourceType, Integer> getRatios() {
+		return Collections.unmodifiableMap(ratios);
 	}
 
 }
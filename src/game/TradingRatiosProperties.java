@@ -0,0 +1,44 @@
+package game;
+
+import game.resources.ResourceType;
+import javafx.beans.property.MapProperty;
+
+/**
+ * Wraps {@code TradingRatios} in JavaFX properties for the view of trades with the bank.
+ * @author Christoph Hermann
+ * @see TradingRatios
+ */
+public class TradingRatiosProperties extends ModelProperties {
+
+	/**
+	 * The wrapped trading ratios.
+	 */
+	private final TradingRatios tradingRatios;
+
+	/**
+	 * Creates a new adapter of the specified trading ratios.
+	 * @param tradingRatios the {@link TradingRatios}.
+	 */
+	private TradingRatiosProperties(TradingRatios tradingRatios) {
+		super(tradingRatios);
+		this.tradingRatios = tradingRatios;
+	}
+
+	/**
+	 * Returns the adapter of the specified trading ratios, which is created when it is requested first.
+	 * @param tradingRatios the {@link TradingRatios}.
+	 * @return the adapter.
+	 */
+	public static TradingRatiosProperties of(TradingRatios tradingRatios) {
+		return tradingRatios.getView(() -> new TradingRatiosProperties(tradingRatios));
+	}
+
+	/**
+	 * Returns the property of the ratios, at which the resources can be traded.
+	 * @return the ratios by the {@link ResourceType} as a property.
+	 */
+	public MapProperty<ResourceType, Integer> ratiosProperty() {
+		return mapProperty(TradingRatios.RATIOS, tradingRatios::getRatios, null);
+	}
+
+}
@@ -0,0 +1,163 @@
+package game;
+
+import game.board.BoardTopology;
+import game.cards.DevelopmentCard;
+import game.cards.playabledevelopmentcards.PlayableDevelopmentCard;
+import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
+import game.resources.ResourceType;
+
+/**
+ * The random 64 bit keys of the Zobrist hash of a game. The hash of a state is the exclusive or of the keys of all its
+ * parts, so it can be updated in constant time by removing the key of the old value of a part and adding the key of
+ * the new one.
+ * <p>
+ * The keys are not stored in tables but derived from the part and its value by a fixed mixing function, so they are
+ * the same in every program, e.g. on the server and the clients, and any number of corners, edges or players is
+ * supported. Empty parts, like an empty corner or a player without ore, have the key 0, so an empty board hashes to 0.
+ * @author Christoph Hermann
+ * @see Game#getHash()
+ */
+public final class ZobristKeys {
+
+	/**
+	 * The part of a key describing a locality.
+	 */
+	private static final int LOCALITY = 1;
+
+	/**
+	 * The part of a key describing a road.
+	 */
+	private static final int ROAD = 2;
+
+	/**
+	 * The part of a key describing the robber.
+	 */
+	private static final int ROBBER = 3;
+
+	/**
+	 * The part of a key describing the resources of a player.
+	 */
+	private static final int RESOURCES = 4;
+
+	/**
+	 * The part of a key describing the development cards of a player.
+	 */
+	private static final int DEVELOPMENT_CARDS = 5;
+
+	/**
+	 * The part of a key describing the active player.
+	 */
+	private static final int ACTIVE_PLAYER = 6;
+
+	/**
+	 * The number of kinds of development cards: the playable ones and the victory point cards.
+	 */
+	public static final int DEVELOPMENT_CARD_KINDS = PlayableDevelopmentCardType.values().length + 1;
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private ZobristKeys() {
+	}
+
+	/**
+	 * Returns the key of a locality.
+	 * @param corner the id of the corner.
+	 * @param owner the id of the owner.
+	 * @param building the building, as defined by {@link BoardTopology}.
+	 * @return the key or 0, if there is no building.
+	 */
+	public static long locality(int corner, int owner, int building) {
+		return building == BoardTopology.NO_BUILDING ? 0 : key(LOCALITY, corner, owner, building);
+	}
+
+	/**
+	 * Returns the key of a road.
+	 * @param edge the id of the edge.
+	 * @param owner the id of the owner or {@link BoardTopology#NONE}.
+	 * @return the key or 0, if there is no road.
+	 */
+	public static long road(int edge, int owner) {
+		return owner == BoardTopology.NONE ? 0 : key(ROAD, edge, owner, 0);
+	}
+
+	/**
+	 * Returns the key of the position of the robber.
+	 * @param hex the id of the hex or {@link BoardTopology#NONE}.
+	 * @return the key or 0, if the robber is not on the board.
+	 */
+	public static long robber(int hex) {
+		return hex == BoardTopology.NONE ? 0 : key(ROBBER, hex, 0, 0);
+	}
+
+	/**
+	 * Returns the key of the amount of resources of one type a player has.
+	 * @param player the id of the player.
+	 * @param type the {@link ResourceType}.
+	 * @param amount the amount.
+	 * @return the key or 0, if the amount is 0.
+	 */
+	public static long resources(int player, ResourceType type, int amount) {
+		return amount == 0 ? 0 : key(RESOURCES, player, type.ordinal(), amount);
+	}
+
+	/**
+	 * Returns the key of the number of development cards of one kind a player has.
+	 * @param player the id of the player.
+	 * @param kind the kind, as returned by {@link #kindOf(DevelopmentCard)}.
+	 * @param count the number of cards.
+	 * @return the key or 0, if the player has no such cards.
+	 */
+	public static long developmentCards(int player, int kind, int count) {
+		return count == 0 ? 0 : key(DEVELOPMENT_CARDS, player, kind, count);
+	}
+
+	/**
+	 * Returns the key of the active player.
+	 * @param player the id of the player.
+	 * @return the key.
+	 */
+	public static long activePlayer(int player) {
+		return key(ACTIVE_PLAYER, player, 0, 0);
+	}
+
+	/**
+	 * Returns the kind of a development card: the ordinal of the type of a playable card or
+	 * {@link PlayableDevelopmentCardType#values()}{@code .length} for a victory point card.
+	 * @param card the {@link DevelopmentCard}.
+	 * @return the kind.
+	 */
+	public static int kindOf(DevelopmentCard card) {
+		if (card instanceof PlayableDevelopmentCard) {
+			return ((PlayableDevelopmentCard) card).getType().ordinal();
+		}
+		return DEVELOPMENT_CARD_KINDS - 1;
+	}
+
+	/**
+	 * Derives a key from a part of the state and its value.
+	 * @param part the part, e.g. {@link #LOCALITY}.
+	 * @param a the first value.
+	 * @param b the second value.
+	 * @param c the third value.
+	 * @return the key.
+	 */
+	private static long key(int part, int a, int b, int c) {
+		long key = mix(0x5DEECE66DL + part);
+		key = mix(key ^ a);
+		key = mix(key ^ b);
+		return mix(key ^ c);
+	}
+
+	/**
+	 * Mixes the bits of a value, as the finalizer of the SplitMix64 generator does.
+	 * @param value the value.
+	 * @return the mixed value.
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
+}
@@ -3,11 +3,11 @@ package game.ai;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
-import org.json.JSONObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import game.Game;
 import game.ai.aiplan.AiPlan;
@@ -27,13 +27,25 @@ import game.player.PlayerState;
 import game.resources.ResourceType;
 import game.resources.Resources;
 import game.trade.Trade;
-import javafx.beans.InvalidationListener;
-import javafx.beans.Observable;
-import network.Mapper;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
 import network.protocol.ProtocolStringConverter;
 import network.protocol.ServerTypes;
+import network.protocol.messages.AcceptTradeMessage;
+import network.protocol.messages.BuildMessage;
+import network.protocol.messages.CancelTradeMessage;
+import network.protocol.messages.Coordinates;
+import network.protocol.messages.FinishTradeMessage;
+import network.protocol.messages.LoseResourcesMessage;
+import network.protocol.messages.MoveRobberMessage;
+import network.protocol.messages.OfferTradeMessage;
+import network.protocol.messages.PlayKnightMessage;
+import network.protocol.messages.PlayMonopolyMessage;
+import network.protocol.messages.PlayRoadBuildingMessage;
+import network.protocol.messages.PlayYearOfPlentyMessage;
+import network.protocol.messages.PlayerMessage;
+import network.protocol.messages.SeaTradeMessage;
+import network.protocol.messages.SimpleMessage;
 import network.server.Server;
 import users.AIUser;
 import users.User;
@@ -47,6 +59,11 @@ import utility.Utility;
  */
 public class Ai {
 
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(Ai.class.getName());
+
 	/**
 	 * The maximum number of times an ai will try to to choose its color.
 	 */
@@ -118,10 +135,25 @@ public class Ai {
 	 */
 	public boolean allowdToPlayDevCard = true;
 
+	/**
+	 * The source of randomness for the decisions of the ai
+	 */
+	private final Random random;
+
 	/**
 	 * Constructor for the ai
 	 */
 	public Ai() {
+		this(new Random());
+	}
+
+	/**
+	 * Constructor for an ai, which takes its random decisions from the specified source,
+	 * e.g. a seeded one to replay a game
+	 * @param random the source of randomness
+	 */
+	public Ai(Random random) {
+		this.random = random;
 	}
 
 	/**
@@ -138,8 +170,11 @@ public class Ai {
 			state = player.getState();
 		}
 
-		if(state == null) { System.out.println("state null"); }
-		System.out.println(state.toString());
+		if (state == null) {
+			logger.error("The ai does not know its state.");
+			return;
+		}
+		logger.debug(state);
 
 		if(state == PlayerState.TRADE_OR_BUILD || state == PlayerState.BUILD_FREE_ROAD ||
 				state == PlayerState.BUILD_FREE_SETTLEMENT){
@@ -184,8 +219,7 @@ public class Ai {
 	 */
 	public void acceptTrade(Trade trade){
 		
-		JSONObject j_accept_trade = new JSONObject();
-		j_accept_trade.put(Attributes.TRADING_ID.toString(), trade.getTradeID());
+		int tradeId = trade.getTradeID();
 		
 		boolean hasEnoughResources = this.player.getResources().isGreaterThanOrEqualTo(trade.getTradeRequest());
 		
@@ -195,26 +229,20 @@ public class Ai {
 			int loseRatio = willILose(trade);
 			
 			if(winRatio > loseRatio) {   //accept trade
-			j_accept_trade.put(Attributes.ACCEPT.toString(), true);
-			client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), j_accept_trade);
+			client.sendToServer(new AcceptTradeMessage(tradeId, true));
 		} else if(winRatio < loseRatio ){                  //reject trade
-			j_accept_trade.put(Attributes.ACCEPT.toString(), false);
-			client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), j_accept_trade);
+			client.sendToServer(new AcceptTradeMessage(tradeId, false));
 		} else {
-			Random r = new Random();
-			int acceptRatio = r.nextInt(2);
+			int acceptRatio = random.nextInt(2);
 			
 			if(acceptRatio == 0 && hasEnoughResources) {   //50% accept trade
-				j_accept_trade.put(Attributes.ACCEPT.toString(), true);
-				client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), j_accept_trade);
+				client.sendToServer(new AcceptTradeMessage(tradeId, true));
 			} else {                                       //50% reject trade
-				j_accept_trade.put(Attributes.ACCEPT.toString(), false);
-				client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), j_accept_trade);
+				client.sendToServer(new AcceptTradeMessage(tradeId, false));
 			}	
 		}
 	} else {// has not enough resources
-		j_accept_trade.put(Attributes.ACCEPT.toString(), false);
-		client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), j_accept_trade);
+		client.sendToServer(new AcceptTradeMessage(tradeId, false));
 	}
 	}
 
@@ -231,24 +259,19 @@ public class Ai {
 	 * @see Game
 	 */
 	public void executeTrade(Player fellowPlayer, Trade trade, int playersNumber){
-		JSONObject j_execute_trade = new JSONObject();
-		j_execute_trade.put(Attributes.TRADING_ID.toString(), trade.getTradeID());
 		int mediumGoal = 6;
 		int advancedGoal = 8;
 		boolean finishTrade = false;
 		
 		if(fellowPlayer.getVictoryPoints()< mediumGoal) {
-			j_execute_trade.put(Attributes.FELLOW_PLAYER.toString(), fellowPlayer.getId());
-			client.sendToServer(ServerTypes.FINISH_TRADE.toString(), j_execute_trade);
+			client.sendToServer(new FinishTradeMessage(trade.getTradeID(), fellowPlayer.getId()));
 			resetTradeActor();
 			finishTrade = true;
 		} else if (fellowPlayer.getVictoryPoints()< advancedGoal) {
-			Random r = new Random();
-			int executeRatio = r.nextInt(2);
+			int executeRatio = random.nextInt(2);
 			
 			if(executeRatio == 0) {   //50% execute trade
-				j_execute_trade.put(Attributes.FELLOW_PLAYER.toString(), fellowPlayer.getId());
-				client.sendToServer(ServerTypes.FINISH_TRADE.toString(), j_execute_trade);
+				client.sendToServer(new FinishTradeMessage(trade.getTradeID(), fellowPlayer.getId()));
 				resetTradeActor();
 				finishTrade = true;
 			}
@@ -266,9 +289,7 @@ public class Ai {
 	 */
 	public void cancelTrade(Trade trade) {
 		//Danke Wanja
-		JSONObject j_cancel_trade = new JSONObject();
-		j_cancel_trade.put(Attributes.TRADING_ID.toString(), trade.getTradeID());
-		client.sendToServer(ServerTypes.CANCEL_TRADE.toString(), j_cancel_trade);	
+		client.sendToServer(new CancelTradeMessage(trade.getTradeID()));
 	}
 	
 	/**
@@ -310,8 +331,8 @@ public class Ai {
 		Resources supply = trade.getTradeOffer();
 		Resources demand = trade.getTradeRequest();
 		Resources resources = new Resources();
-		for(ResourceType type: this.player.getResources().getResources().keySet()) {
-			resources.getResources().put(type, this.player.getResources().getResources().get(type));
+		for(ResourceType type: ResourceType.values()) {
+			resources.set(type, this.player.getResources().get(type));
 		}
 		//resources of ai after trade
 		resources.add(supply);
@@ -367,12 +388,10 @@ public class Ai {
 		user.chooseDifferentColor();
 
 		// Create message.
-		JSONObject object = new JSONObject();
-		object.put(Attributes.COLOR.toString(), ProtocolStringConverter.getName(user.getColor()));
-		object.put(Attributes.NAME.toString(), user.getName());
+		PlayerMessage message = new PlayerMessage(user.getName(), ProtocolStringConverter.getName(user.getColor()));
 
 		// Send message.
-		client.sendToServer(ServerTypes.PLAYER.toString(), object);
+		client.sendToServer(message);
 
 		// Disconnect after too many tries.
 		if (nColorChoosingAttempts > MAX_COLOR_CHOOSING_ATTEMPTS) {
@@ -391,14 +410,14 @@ public class Ai {
 	 * @see AIUser
 	 */
 	private void startGame() {
-		client.sendToServer(ServerTypes.GAME_START.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.GAME_START));
 	}
 
 	/**
 	 * Rolls the {@code Dice}.
 	 */
 	private void rollDice() {
-		client.sendToServer(ServerTypes.ROLL_DICE.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.ROLL_DICE));
 	}
 
 	/**
@@ -409,16 +428,14 @@ public class Ai {
 		Resources discarded = new Resources();
 		int cardsToDiscard = player.getResourceQuantity()/2;
 
-		for (Map.Entry<ResourceType, Integer> entry : resources.getResources().entrySet()) {
-			for(int i = 0; i<=entry.getValue(); i++) {
+		for (ResourceType type : ResourceType.values()) {
+			for(int i = 0; i<=resources.get(type); i++) {
 				if(discarded.getSum() < cardsToDiscard) {
-					discarded.getResources().put(entry.getKey(), i);
+					discarded.set(type, i);
 				}
 			}
 		}
-		JSONObject jsonObject = new JSONObject();
-		jsonObject.put(Attributes.SUBMIT.toString(), (new Mapper().writeValueAsJson(discarded)));
-		client.sendToServer(ServerTypes.LOSE_RESOURCE.toString(), jsonObject);
+		client.sendToServer(new LoseResourcesMessage(discarded));
 	}
 
 	/**
@@ -429,22 +446,14 @@ public class Ai {
 		Player bestPlayer = players.get(Math.min(attempt, players.size()-1));
 		ArrayList<Hex> hexes = searchBestHex(bestPlayer.getOccupiedCorners());
 
-		Hex hex = hexes.get(new Random().nextInt(hexes.size()));
+		Hex hex = hexes.get(random.nextInt(hexes.size()));
 		for (int i=attempt; i<hexes.size(); i++) {
 			if (!doesAiOccupyCorners(hexes.get(i)) && game.getBoard().getRobber().getPosition() != hexes.get(i)) {
 				hex = hexes.get(i);
 			}
 		}
 
-		JSONObject jsonObject = new JSONObject();
-		JSONObject position = new JSONObject();
-
-		position.put(Attributes.X.toString(), hex.getxPosAxialHex());
-		position.put(Attributes.Y.toString(), hex.getyPosAxialHex());
-
-		jsonObject.put(Attributes.POSITION.toString(), position);
-		jsonObject.put(Attributes.TARGET.toString(), bestPlayer.getId());
-		client.sendToServer(ServerTypes.MOVE_ROBBER.toString(), jsonObject);
+		client.sendToServer(new MoveRobberMessage(Coordinates.of(hex), bestPlayer.getId()));
 	}
 
 	/**
@@ -503,13 +512,12 @@ public class Ai {
 	}
 
 	/**
-	 * The ai creates a JSONObject with the Developmentcard it wants to player and sends it to the server
+	 * The ai creates a message with the Developmentcard it wants to player and sends it to the server
 	 * @param devCard
 	 * 			they type of the Developmentcard the ai wants to play
 	 */
 	private void playDevCard(PlayableDevelopmentCard devCard) {
 		PlayableDevelopmentCardType type = devCard.getType();
-		JSONObject card = new JSONObject();
 		
 		switch(type){
 		case KNIGHT: {
@@ -519,50 +527,41 @@ public class Ai {
 			}
 			ArrayList<Hex> hexes = searchBestHex(p.getOccupiedCorners());
 
-			Hex hex = hexes.get(new Random().nextInt(hexes.size()));
+			Hex hex = hexes.get(random.nextInt(hexes.size()));
 			for (int i=attempt; i<hexes.size(); i++) {
 				if (!doesAiOccupyCorners(hexes.get(i)) && game.getBoard().getRobber().getPosition() != hexes.get(i)) {
 					hex = hexes.get(i);
 				}
 			}
 			
-			JSONObject position = new JSONObject();
-
-			position.put(Attributes.X.toString(), hex.getxPosAxialHex());
-			position.put(Attributes.Y.toString(), hex.getyPosAxialHex());
-
-			card.put(Attributes.POSITION.toString(), position);
-			card.put(Attributes.TARGET.toString(), p.getId());
-			client.sendToServer(ServerTypes.PLAY_KNIGHT.toString(), card);
+			client.sendToServer(new PlayKnightMessage(Coordinates.of(hex), p.getId()));
 		}
 			break;
 		case MONOPOLY: {
 			String resource = aiPlan.getMonopoly().getMonopolyChoice().toString();
-			card.put(Attributes.RESOURCE.toString(), resource);
-			client.sendToServer(ServerTypes.PLAY_MONOPOLY.toString(), card);
+			client.sendToServer(new PlayMonopolyMessage(resource));
 		}
 			break;
 		case ROAD_BUILDING:
 			Edge[] roads = aiPlan.getFreeRoads();
+			PlayRoadBuildingMessage card;
 			if(roads[1] != null){
-				card = new Mapper().writeValueStreetBuildingAsJson(new Road(client.getUser().getPlayer(), roads[0]), new Road(client.getUser().getPlayer(), roads[1]));
+				card = new PlayRoadBuildingMessage(Coordinates.of(roads[0]), Coordinates.of(roads[1]));
 				if(longestRoad != null){
 					longestRoad.remove(0);
 					longestRoad.remove(1);
 				}
 			}else{
-				card = new Mapper().writeValueStreetBuildingAsJson(new Road(client.getUser().getPlayer(), roads[0]), null);
+				card = new PlayRoadBuildingMessage(Coordinates.of(roads[0]), null);
 				if(longestRoad != null){
 					longestRoad.remove(0);
 				}
 			}
-			client.sendToServer(ServerTypes.PLAY_ROAD_BUILDING.toString(), card);
+			client.sendToServer(card);
 
 			break;
 		case YEAR_OF_PLENTY: {
-			JSONObject resources = new Mapper().writeValueAsJson(aiPlan.getYearOfPleanty());
-			card.put(Attributes.RESOURCES.toString(), resources);
-			client.sendToServer(ServerTypes.PLAY_YEAR_OF_PLENTY.toString(), card);
+			client.sendToServer(new PlayYearOfPlentyMessage(aiPlan.getYearOfPleanty()));
 		}
 			break;
 		default:
@@ -591,8 +590,7 @@ public class Ai {
 	 * Sends an buy request for a {@code DevelopmentCard} to the server
 	 */
 	private void buyDevCard() {
-		JSONObject devCard = new JSONObject();
-		client.sendToServer(ServerTypes.BUY_DEVLOPMENTCARD.toString(), devCard);
+		client.sendToServer(new SimpleMessage(ServerTypes.BUY_DEVLOPMENTCARD));
 	}
 
 	/**
@@ -611,8 +609,7 @@ public class Ai {
 		Resources offerRe = Resources.convertIntToResources(offerResources);
 		Resources wantedRe = Resources.convertIntToResources(wantedResources);
 		
-		JSONObject trade = new Mapper().writeValueAsJson(offerRe, wantedRe);
-		client.sendToServer(ServerTypes.SEA_TRADING.toString(), trade);
+		client.sendToServer(new SeaTradeMessage(offerRe, wantedRe));
 	}
 
 	/**
@@ -629,8 +626,7 @@ public class Ai {
 		//setTradeWithPlayer(false) will be called when the Trade is executed or when it is canceld
 		setTradeWithPlayer(true);
 		
-		JSONObject j_trade = new Mapper().writeValueAsJson(offer, request);
-		client.sendToServer(ServerTypes.OFFER_TRADE.toString(), j_trade);
+		client.sendToServer(new OfferTradeMessage(offer, request));
 	}
 	
 	/**
@@ -639,8 +635,7 @@ public class Ai {
 	private void buildCity() {
 		Corner corner = aiPlan.getBuildingCorner();
 
-		JSONObject city = new Mapper().writeValueAsJson(new City(client.getUser().getPlayer(), corner));
-		client.sendToServer(ServerTypes.BUILD.toString(), city);
+		client.sendToServer(new BuildMessage(Attributes.CITY.toString(), Coordinates.of(corner)));
 	}
 
 	/**
@@ -650,8 +645,7 @@ public class Ai {
 	private void buildSettlement() {
 		Corner corner = aiPlan.getBuildingCorner();
 
-		JSONObject settlement = new Mapper().writeValueAsJson(new Settlement(client.getUser().getPlayer(), corner));
-		client.sendToServer(ServerTypes.BUILD.toString(), settlement);
+		client.sendToServer(new BuildMessage(Attributes.SETTLEMENT.toString(), Coordinates.of(corner)));
 	}
 
 	/**
@@ -673,8 +667,7 @@ public class Ai {
 			}
 		}
 
-		JSONObject road = new Mapper().writeValueAsJson(new Road(client.getUser().getPlayer(), edge));
-		client.sendToServer(ServerTypes.BUILD.toString(), road);
+		client.sendToServer(new BuildMessage(Attributes.ROAD.toString(), Coordinates.of(edge)));
 	}
 
 	/**
@@ -768,9 +761,8 @@ public class Ai {
 			}
 		}
 
-		player.stateProperty().addListener(new InvalidationListener() {
-			@Override
-			public void invalidated(Observable observable) {
+		player.addListener(property -> {
+			if (property.equals(Player.STATE)) {
 				attempt = 0;
 				if (!game.isOver()) {
 					makeNextMove();
@@ -873,7 +865,7 @@ public class Ai {
 	public void endTurn() {
 		setAllowdToPlayDevCard(true);
 		setWasTrade(false);
-		client.sendToServer(ServerTypes.END_TURN.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.END_TURN));
 	}
 
 	/**
@@ -884,6 +876,14 @@ public class Ai {
 		return longestRoad;
 	}
 
+	/**
+	 * gets the source of randomness for the decisions of the ai
+	 * @return the {@link Random} source
+	 */
+	public Random getRandom() {
+		return random;
+	}
+
 	/**
 	 * sets the {@code longestRoad}
 	 * @param longestRoad
@@ -3,10 +3,9 @@ package game.ai.aiplan;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import game.Game;
 import game.ai.Ai;
@@ -139,7 +138,7 @@ public class AiPlan {
 	/**
 	 * A map with the edge and its quality
 	 */
-	private Map<Edge, Float> edgeQuality = new HashMap<Edge, Float>();
+	private Map<Edge, Float> edgeQuality = new LinkedHashMap<Edge, Float>();
 	
 	/**
 	 * Constructor
@@ -276,7 +275,7 @@ public class AiPlan {
 	 * @return the best edge the ai can build
 	 */
 	private Edge searchRoadsExpanding(ArrayList<Edge> edges){
-		edgeQuality = new HashMap<Edge, Float>();
+		edgeQuality = new LinkedHashMap<Edge, Float>();
 		for(Edge edge : edges){
 			if(areCornersUnoccupied(edge.getAdjacentCornersOfEdge())){
 				//search all edges with two unoccupied corners, assess them and put them into the map edgeQuality
@@ -775,7 +774,7 @@ public class AiPlan {
 		List<Corner> corners = sortCornersExpanding(cornerDisTwo);
 		
 		if (corners.isEmpty())
-			return edges.get(new Random().nextInt(edges.size()));
+			return edges.get(ai.getRandom().nextInt(edges.size()));
 		
 		Corner bestCorner = corners.get(Math.min(attempt, corners.size()-1));
 		
@@ -785,7 +784,7 @@ public class AiPlan {
 			}
 		}
 		
-		return edges.get(new Random().nextInt(edges.size()));
+		return edges.get(ai.getRandom().nextInt(edges.size()));
 	}
 	
 	/**
@@ -829,7 +828,7 @@ public class AiPlan {
 			}
 		}
 		
-		Map<Edge, Corner> cornersDisTwoMap = new HashMap<Edge, Corner>();
+		Map<Edge, Corner> cornersDisTwoMap = new LinkedHashMap<Edge, Corner>();
 		for(Corner corner : startingCorners){
 			for(Corner corner2 : cornersDisTwo){
 				List<Corner> cs = game.getBoard().shortesPath(corner, corner2, Player.getMaxRoad() - player.getCountRoad());
@@ -871,11 +870,11 @@ public class AiPlan {
 		neededResources = settlementResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -906,11 +905,11 @@ public class AiPlan {
 		int[] neededResources = cityResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -933,11 +932,11 @@ public class AiPlan {
 		neededResources = cityResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -968,11 +967,11 @@ public class AiPlan {
 		int[] neededResources = devCardResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -994,11 +993,11 @@ public class AiPlan {
 		neededResources = devResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -1021,11 +1020,11 @@ public class AiPlan {
 		neededResources = roadResources.convertResources();
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] re = new int[5];
 		for(int i = 0; i < playerResources.length; i++){
@@ -1047,8 +1046,7 @@ public class AiPlan {
 		if(!ai.isTradeWithPlayer()){
 			int[] offerResources = new int[5];
 			int[] wantedResources = new int[5];
-			Random r = new Random();
-			int randomLevel = r.nextInt(3);
+			int randomLevel = ai.getRandom().nextInt(3);
 			
 			int lowWinLevel = 6;
 			int highWinLevel = 7;
@@ -1237,11 +1235,11 @@ public class AiPlan {
 		int[] playerResources = new int[5];
 		ResourceType type = getWantedResource();
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 
 		neededResources = new int[5];
 		
@@ -1372,11 +1370,11 @@ public class AiPlan {
 	private void setWantedResource(int buildingPlan) {
 		int[] playerResources = new int[5];
 		
-		playerResources[0] = player.getResources().getResources().get(ResourceType.LUMBER);
-		playerResources[1] = player.getResources().getResources().get(ResourceType.WOOL);
-		playerResources[2] = player.getResources().getResources().get(ResourceType.GRAIN);
-		playerResources[3] = player.getResources().getResources().get(ResourceType.BRICK);
-		playerResources[4] = player.getResources().getResources().get(ResourceType.ORE);
+		playerResources[0] = player.getResources().get(ResourceType.LUMBER);
+		playerResources[1] = player.getResources().get(ResourceType.WOOL);
+		playerResources[2] = player.getResources().get(ResourceType.GRAIN);
+		playerResources[3] = player.getResources().get(ResourceType.BRICK);
+		playerResources[4] = player.getResources().get(ResourceType.ORE);
 		
 		int[] neededResources = null;
 		
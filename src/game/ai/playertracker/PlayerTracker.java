@@ -261,7 +261,7 @@ public class PlayerTracker {
 	 */
 	private boolean sameResources(Resources r1, Resources r2){
 		for(ResourceType type : ResourceType.values()){
-			if(r1.getResources().get(type) != r2.getResources().get(type)){
+			if(r1.get(type) != r2.get(type)){
 				return false;
 			}
 		}
@@ -593,7 +593,7 @@ public class PlayerTracker {
 		float propability = 0f;
 		ArrayList<Integer> resourceType = new ArrayList<Integer>();
 		for(Resources re : resources){
-			resourceType.add(re.getResources().get(reType));
+			resourceType.add(re.get(reType));
 		}
 		for(Integer integer : resourceType){
 			if(integer.intValue() > 0){
@@ -633,7 +633,7 @@ public class PlayerTracker {
 		if(loseResources){
 			copyList = new ArrayList<Resources>(this.resources);
 			for(Resources resource : copyList){
-				if(resource.getResources().get(monopoly) != amount){
+				if(resource.get(monopoly) != amount){
 					resources.remove(resource);
 				}else{
 					resource.subtractOneTypeResource(amount, monopoly);
@@ -671,7 +671,7 @@ public class PlayerTracker {
 			Resources res = re.get(i);
 			message += "\n";
 			for(ResourceType reType : ResourceType.values()){
-				message += reType.toString() + ": " + res.getResources().get(reType) + "\n";
+				message += reType.toString() + ": " + res.get(reType) + "\n";
 			}	
 		}
 		return message;
@@ -706,7 +706,7 @@ public class PlayerTracker {
 				}else{
 					this.resources.remove(re);
 					for(ResourceType type : ResourceType.values()){
-						if(re.getResources().get(type) >= cost){
+						if(re.get(type) >= cost){
 							re.subtract(new Resources(type, cost));
 							setAllNewResources(1, type);
 							for(Resources newResources : subtractResources){
@@ -0,0 +1,213 @@
+package game.ai.simulation;
+
+/**
+ * The result of a single simulated game. The players are identified by their seat, i.e. the order in which their AIs
+ * joined the game. An aborted game keeps the state it has been aborted in, a game which has never been started has
+ * neither victory points nor rounds.
+ * @author Christoph Hermann
+ * @see Simulation
+ */
+public final class GameResult {
+
+	/**
+	 * The separator of the columns of a row in CSV format.
+	 */
+	private static final char CSV_SEPARATOR = ',';
+
+	/**
+	 * The seed the game has been played with.
+	 */
+	private final long seed;
+
+	/**
+	 * How far the game has been played.
+	 */
+	private final GameStatus status;
+
+	/**
+	 * The seat of the winner or -1, if the game has not been finished.
+	 */
+	private final int winner;
+
+	/**
+	 * The victory points of every seat at the end of the game.
+	 */
+	private final int[] victoryPoints;
+
+	/**
+	 * The number of rounds played.
+	 */
+	private final int rounds;
+
+	/**
+	 * The number of moves, i.e. messages sent by the AIs.
+	 */
+	private final int moves;
+
+	/**
+	 * The time in nanoseconds the game took.
+	 */
+	private final long nanos;
+
+	/**
+	 * The time in nanoseconds the AIs spent handling the messages of the server and deciding on their moves.
+	 */
+	private final long aiNanos;
+
+	/**
+	 * The longest time in nanoseconds an AI spent handling a single message of the server.
+	 */
+	private final long maxAiNanos;
+
+	/**
+	 * Creates a new result.
+	 * @param seed the seed the game has been played with.
+	 * @param status how far the game has been played.
+	 * @param winner the seat of the winner or -1, if the game has not been finished.
+	 * @param victoryPoints the victory points of every seat.
+	 * @param rounds the number of rounds played.
+	 * @param moves the number of moves.
+	 * @param nanos the time the game took.
+	 * @param aiNanos the time the AIs spent on the game.
+	 * @param maxAiNanos the longest time an AI spent handling a single message.
+	 */
+	public GameResult(long seed, GameStatus status, int winner, int[] victoryPoints, int rounds, int moves, long nanos,
+			long aiNanos, long maxAiNanos) {
+		this.seed = seed;
+		this.status = status;
+		this.winner = winner;
+		this.victoryPoints = victoryPoints.clone();
+		this.rounds = rounds;
+		this.moves = moves;
+		this.nanos = nanos;
+		this.aiNanos = aiNanos;
+		this.maxAiNanos = maxAiNanos;
+	}
+
+	/**
+	 * Returns the seed the game has been played with. Playing a game with the same seed again lays out the board the
+	 * same way, rolls the same numbers and lets the AIs take the same decisions.
+	 * @return the seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns how far the game has been played.
+	 * @return the {@link GameStatus}.
+	 */
+	public GameStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns whether the game has been played until a player won.
+	 * @return true, if the game is over. false, if it has been aborted.
+	 */
+	public boolean isFinished() {
+		return status == GameStatus.FINISHED;
+	}
+
+	/**
+	 * Returns the seat of the winner.
+	 * @return the seat or -1, if the game has not been finished.
+	 */
+	public int getWinner() {
+		return winner;
+	}
+
+	/**
+	 * Returns the number of players.
+	 * @return the number of seats.
+	 */
+	public int getNumberOfPlayers() {
+		return victoryPoints.length;
+	}
+
+	/**
+	 * Returns the victory points of a seat at the end of the game.
+	 * @param seat the seat.
+	 * @return the victory points.
+	 */
+	public int getVictoryPoints(int seat) {
+		return victoryPoints[seat];
+	}
+
+	/**
+	 * Returns the number of rounds played.
+	 * @return the number of rounds.
+	 */
+	public int getRounds() {
+		return rounds;
+	}
+
+	/**
+	 * Returns the number of moves, i.e. messages sent by the AIs.
+	 * @return the number of moves.
+	 */
+	public int getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Returns the time the game took.
+	 * @return the time in nanoseconds.
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Returns the time the AIs spent handling the messages of the server and deciding on their moves. The rest of the
+	 * time has been spent by the server.
+	 * @return the time in nanoseconds.
+	 */
+	public long getAiNanos() {
+		return aiNanos;
+	}
+
+	/**
+	 * Returns the longest time an AI spent handling a single message of the server.
+	 * @return the time in nanoseconds.
+	 */
+	public long getMaxAiNanos() {
+		return maxAiNanos;
+	}
+
+	/**
+	 * Returns the names of the columns of {@link #toCSV()} in CSV format. The victory points and the rounds of a game
+	 * which has never been started are left empty.
+	 * @param numberOfPlayers the number of players.
+	 * @return the header row without line separator.
+	 */
+	public static String getCSVHeader(int numberOfPlayers) {
+		StringBuilder header = new StringBuilder("seed,status,winner");
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			header.append(CSV_SEPARATOR).append("victory_points_").append(seat);
+		}
+		header.append(",rounds,moves,nanos,ai_nanos,max_ai_nanos");
+		return header.toString();
+	}
+
+	/**
+	 * Returns this result as a row in CSV format.
+	 * @return the row without line separator.
+	 * @see #getCSVHeader(int)
+	 */
+	public String toCSV() {
+		StringBuilder row = new StringBuilder();
+		row.append(seed).append(CSV_SEPARATOR).append(status).append(CSV_SEPARATOR).append(winner);
+		boolean started = status != GameStatus.NEVER_STARTED;
+		for (int points : victoryPoints) {
+			row.append(CSV_SEPARATOR).append(started ? String.valueOf(points) : "");
+		}
+		row.append(CSV_SEPARATOR).append(started ? String.valueOf(rounds) : "");
+		row.append(CSV_SEPARATOR).append(moves);
+		row.append(CSV_SEPARATOR).append(nanos);
+		row.append(CSV_SEPARATOR).append(aiNanos);
+		row.append(CSV_SEPARATOR).append(maxAiNanos);
+		return row.toString();
+	}
+
+}
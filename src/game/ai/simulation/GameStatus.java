@@ -0,0 +1,44 @@
+package game.ai.simulation;
+
+/**
+ * Represents how far a simulated game has been played.
+ * @author Christoph Hermann
+ * @see GameResult
+ */
+public enum GameStatus {
+
+	/**
+	 * The game has been played until a player won.
+	 */
+	FINISHED("finished"),
+
+	/**
+	 * The game has been started, but has been aborted before a player won, e.g. because an AI exceeded its number of
+	 * moves.
+	 */
+	ABORTED("aborted"),
+
+	/**
+	 * The game has been aborted in the lobby, before the board has been laid out.
+	 */
+	NEVER_STARTED("never_started");
+
+	/**
+	 * The name of the status in the results of a simulation.
+	 */
+	private final String name;
+
+	/**
+	 * Creates a new status.
+	 * @param name the name in the results of a simulation.
+	 */
+	private GameStatus(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -0,0 +1,91 @@
+package game.ai.simulation;
+
+/**
+ * Aggregates a stream of values into their count, mean and variance in constant memory by Welford's algorithm, which
+ * stays accurate even for many values. Two aggregates can be merged, e.g. those of games played in parallel.
+ * @author Christoph Hermann
+ * @see SimulationStatistics
+ */
+class RunningStatistics {
+
+	/**
+	 * The quantile of the standard normal distribution for a confidence level of 95%.
+	 */
+	static final double Z_95 = 1.959963984540054;
+
+	/**
+	 * The number of values.
+	 */
+	private long count;
+
+	/**
+	 * The mean of the values.
+	 */
+	private double mean;
+
+	/**
+	 * The sum of the squared differences of the values from their mean.
+	 */
+	private double squaredDifferences;
+
+	/**
+	 * Adds a value.
+	 * @param value the value.
+	 */
+	void add(double value) {
+		count++;
+		double difference = value - mean;
+		mean += difference / count;
+		squaredDifferences += difference * (value - mean);
+	}
+
+	/**
+	 * Adds all values of other statistics, as if they had been added to these statistics one by one.
+	 * @param other the other {@link RunningStatistics}.
+	 */
+	void merge(RunningStatistics other) {
+		if (other.count == 0) {
+			return;
+		}
+		long mergedCount = count + other.count;
+		double difference = other.mean - mean;
+
+		mean += difference * other.count / mergedCount;
+		squaredDifferences += other.squaredDifferences + difference * difference * count * other.count / mergedCount;
+		count = mergedCount;
+	}
+
+	/**
+	 * Returns the number of values.
+	 * @return the count.
+	 */
+	long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the mean of the values.
+	 * @return the mean or 0, if there are no values.
+	 */
+	double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Returns the sample standard deviation of the values.
+	 * @return the standard deviation or 0, if there are less than two values.
+	 */
+	double getStandardDeviation() {
+		return count < 2 ? 0 : Math.sqrt(squaredDifferences / (count - 1));
+	}
+
+	/**
+	 * Returns half the width of the 95% confidence interval of the mean, i.e. the true mean lies between the mean
+	 * minus and plus this margin with a probability of about 95%.
+	 * @return the margin or 0, if there are less than two values.
+	 */
+	double getConfidenceMargin() {
+		return count < 2 ? 0 : Z_95 * getStandardDeviation() / Math.sqrt(count);
+	}
+
+}
@@ -0,0 +1,333 @@
+package game.ai.simulation;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import game.Game;
+import game.board.BoardConfiguration;
+import game.player.Player;
+import network.client.LocalClientConnection;
+import network.server.Room;
+import network.server.Server;
+import network.server.ServerController;
+import users.AIUser;
+
+/**
+ * Plays games between AIs as fast as possible, e.g. to tune the AI on many games. The games are played by the
+ * {@code ServerController} of a {@code Server} and unmodified {@code Ais}, which are connected to it by
+ * {@code LocalClientConnections}, so the same rules apply as in a game over the network. Neither sockets nor threads
+ * of their own are used, the messages are passed by method calls without being encoded and each game runs one step
+ * after another in the {@code Mailbox} of its room.
+ * <p>
+ * All randomness of a game, i.e. the board, the dice, the deck and the decisions of the AIs, is derived from a seed,
+ * so a game played with the same seed again takes the same course. Games may be played by several threads at once,
+ * each in a room of its own, or be started without waiting for them.
+ * </p>
+ * <p>
+ * Whether a game is finished depends on its course only. A game is aborted, when an AI exceeds its number of moves or
+ * when the game is stuck, i.e. the room's mailbox has nothing left to do while the AIs are still connected. A time
+ * limit can be set in addition to guard against an AI that hangs, but it makes the results depend on the load of the
+ * machine.
+ * </p>
+ * <p>
+ * Usage: {@code java game.ai.simulation.Simulation [games] [players] [circles of the board] [seed]}
+ * </p>
+ * @author Christoph Hermann
+ * @see LocalClientConnection
+ * @see SimulationStatistics
+ * @see Tournament
+ */
+public class Simulation {
+
+	/**
+	 * The number of games played by default.
+	 */
+	private static final int DEFAULT_NUMBER_OF_GAMES = 100;
+
+	/**
+	 * The number of players per game by default.
+	 */
+	private static final int DEFAULT_NUMBER_OF_PLAYERS = 4;
+
+	/**
+	 * The number of moves an AI may make per game, if not specified otherwise. A game usually takes a few hundred
+	 * moves per AI.
+	 */
+	private static final int DEFAULT_MAX_MOVES = 5000;
+
+	/**
+	 * The server playing the games. It is never started, because the AIs are connected locally.
+	 */
+	private final Server server = new Server(0, Integer.MAX_VALUE);
+
+	/**
+	 * The number of players per game.
+	 */
+	private final int numberOfPlayers;
+
+	/**
+	 * The time in milliseconds a game may take, before it is aborted, or 0, if the time is not limited.
+	 */
+	private long timeout;
+
+	/**
+	 * Aborts the games taking longer than the timeout or null, if the time is not limited.
+	 */
+	private ScheduledExecutorService hangGuard;
+
+	/**
+	 * The number of moves an AI may make per game, before the game is aborted.
+	 */
+	private int maxMoves = DEFAULT_MAX_MOVES;
+
+	/**
+	 * The id of the room of the next game.
+	 */
+	private final AtomicInteger nextRoomId = new AtomicInteger(1);
+
+	/**
+	 * Creates a new simulation.
+	 * @param numberOfPlayers the number of AIs playing every game.
+	 * @throws IllegalArgumentException if the server cannot start a game with this number of players.
+	 */
+	public Simulation(int numberOfPlayers) {
+		if (numberOfPlayers < ServerController.MIN_PLAYERS || numberOfPlayers > ServerController.MAX_PLAYERS) {
+			throw new IllegalArgumentException("A game needs " + ServerController.MIN_PLAYERS + " to "
+					+ ServerController.MAX_PLAYERS + " players: " + numberOfPlayers);
+		}
+		this.numberOfPlayers = numberOfPlayers;
+	}
+
+	/**
+	 * Plays games one after another and aggregates their results. The games are played with consecutive seeds.
+	 * @param numberOfGames the number of games.
+	 * @param seed the seed of the first game.
+	 * @return the {@link SimulationStatistics}.
+	 * @throws InterruptedException if the current thread is interrupted while waiting for a game.
+	 */
+	public SimulationStatistics run(int numberOfGames, long seed) throws InterruptedException {
+		SimulationStatistics statistics = new SimulationStatistics(numberOfPlayers);
+
+		for (int i = 0; i < numberOfGames; i++) {
+			statistics.add(playGame(seed + i));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Plays a single game until a player has won or the game is aborted, because an AI exceeded its number of moves,
+	 * the game is stuck or it takes longer than the timeout. This method may be called by several threads at once.
+	 * @param seed the seed all randomness of the game is derived from.
+	 * @return the {@link GameResult}.
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the game.
+	 */
+	public GameResult playGame(long seed) throws InterruptedException {
+		try {
+			return startGame(seed).toCompletableFuture().get();
+		} catch (ExecutionException exception) {
+			throw new IllegalStateException("The game with seed " + seed + " failed.", exception.getCause());
+		}
+	}
+
+	/**
+	 * Starts a single game without waiting for it. The game is played by the game threads of the server until a player
+	 * has won or the game is aborted, just like {@link #playGame(long)} does. This method may be called by several
+	 * threads at once.
+	 * @param seed the seed all randomness of the game is derived from.
+	 * @return a {@link CompletionStage}, which is completed with the {@link GameResult} by the game thread handling the
+	 *         last message of the game.
+	 */
+	public CompletionStage<GameResult> startGame(long seed) {
+		Room room = server.findRoom(nextRoomId.getAndIncrement());
+
+		// Derive the randomness of the rules and of every AI from the seed.
+		SplittableRandom seeds = new SplittableRandom(seed);
+		room.getServerController().setRandom(new Random(seeds.nextLong()));
+
+		// Create the AIs.
+		LocalClientConnection[] clients = new LocalClientConnection[numberOfPlayers];
+		CompletableFuture<?>[] terminations = new CompletableFuture<?>[numberOfPlayers];
+		for (int seat = 0; seat < clients.length; seat++) {
+			clients[seat] = AIUser.createLocalClient(server, room.getId(), new Random(seeds.nextLong()));
+			clients[seat].setMaxNumberOfSentMessages(maxMoves);
+			terminations[seat] = clients[seat].getTermination().toCompletableFuture();
+		}
+
+		// Nothing but the AIs makes the game go on, so it is stuck, once the mailbox runs dry before all have left.
+		room.getMailbox().setIdleHandler(() -> {
+			if (!isTerminated(clients)) {
+				room.close();
+			}
+		});
+
+		// Connect the AIs by the room's mailbox, so all of them have joined, before the first one is ready. The time
+		// is taken from then on, so the time spent waiting for a game thread is not counted.
+		AtomicLong start = new AtomicLong();
+		AtomicReference<ScheduledFuture<?>> timer = new AtomicReference<>();
+		room.getMailbox().post(() -> {
+			start.set(System.nanoTime());
+			if (hangGuard != null) {
+				timer.set(hangGuard.schedule(room::close, timeout, TimeUnit.MILLISECONDS));
+			}
+
+			for (LocalClientConnection client : clients) {
+				client.start();
+			}
+		});
+
+		// Evaluate the game, once all AIs have left.
+		return CompletableFuture.allOf(terminations).thenApply(ignored -> {
+			long nanos = System.nanoTime() - start.get();
+			if (timer.get() != null) {
+				timer.get().cancel(false);
+			}
+
+			return createResult(seed, room.getServerController(), clients, nanos);
+		});
+	}
+
+	/**
+	 * Returns whether all clients of a game have been disconnected.
+	 * @param clients the clients.
+	 * @return true, if all clients have been disconnected. false, otherwise.
+	 */
+	private static boolean isTerminated(LocalClientConnection[] clients) {
+		for (LocalClientConnection client : clients) {
+			if (!client.isTerminated()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Evaluates a game, which is over.
+	 * @param seed the seed the game has been played with.
+	 * @param serverController the {@link ServerController} of the game.
+	 * @param clients the clients of the AIs by their seat.
+	 * @param nanos the time in nanoseconds the game took.
+	 * @return the {@link GameResult}.
+	 */
+	private static GameResult createResult(long seed, ServerController serverController,
+			LocalClientConnection[] clients, long nanos) {
+		Game game = serverController.getGame();
+		int winner = -1;
+		int[] victoryPoints = new int[clients.length];
+		int moves = 0;
+		long aiNanos = 0;
+		long maxAiNanos = 0;
+
+		for (int seat = 0; seat < clients.length; seat++) {
+			LocalClientConnection client = clients[seat];
+			moves += client.getNumberOfSentMessages();
+			aiNanos += client.getHandlingNanos();
+			maxAiNanos = Math.max(maxAiNanos, client.getMaxHandlingNanos());
+
+			if (game != null) {
+				Player player = game.getPlayerWithId(client.getUser().getId());
+				if (player != null) {
+					victoryPoints[seat] = player.getVictoryPoints();
+					if (player == game.getWinner()) {
+						winner = seat;
+					}
+				}
+			}
+		}
+
+		GameStatus status;
+		if (game == null) {
+			status = GameStatus.NEVER_STARTED;
+		} else if (winner < 0) {
+			status = GameStatus.ABORTED;
+		} else {
+			status = GameStatus.FINISHED;
+		}
+
+		int rounds = game == null ? 0 : game.getRoundCount();
+		return new GameResult(seed, status, winner, victoryPoints, rounds, moves, nanos, aiNanos, maxAiNanos);
+	}
+
+	/**
+	 * Sets the configuration of the boards of the games played afterwards.
+	 * @param boardConfiguration the {@link BoardConfiguration}.
+	 */
+	public void setBoardConfiguration(BoardConfiguration boardConfiguration) {
+		server.setBoardConfiguration(boardConfiguration);
+	}
+
+	/**
+	 * Sets the time a game may take, before it is aborted, e.g. because an AI hangs while deciding on its move. The time
+	 * is taken from the first message of the game on. Unlike the limit of moves, it aborts a game at a point depending
+	 * on the load of the machine, so it should only be set to guard against hangs. The time is not limited by default.
+	 * Must be set before the games are played.
+	 * @param timeout the time in milliseconds or 0, if the time should not be limited.
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+
+		if (timeout > 0 && hangGuard == null) {
+			hangGuard = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "Simulation-HangGuard");
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else if (timeout <= 0 && hangGuard != null) {
+			hangGuard.shutdownNow();
+			hangGuard = null;
+		}
+	}
+
+	/**
+	 * Sets the number of moves an AI may make per game, before the game is aborted, e.g. because the AI repeats an
+	 * invalid move. The limit aborts a game at the same move, whenever it is played with the same seed.
+	 * @param maxMoves the maximum number of moves per AI.
+	 */
+	public void setMaxMoves(int maxMoves) {
+		this.maxMoves = maxMoves;
+	}
+
+	/**
+	 * Returns the number of players per game.
+	 * @return the number of players.
+	 */
+	public int getNumberOfPlayers() {
+		return numberOfPlayers;
+	}
+
+	/**
+	 * Plays the games and prints the statistics.
+	 * @param args the number of games, the number of players, the number of circles of the board and the seed of the
+	 *            first game, all optional.
+	 * @throws InterruptedException if the main thread is interrupted while waiting for a game.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		int numberOfGames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_GAMES;
+		int numberOfPlayers = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_PLAYERS;
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : new Random().nextLong();
+
+		// Log warnings only, logging every room would slow the simulation down.
+		Configurator.setRootLevel(Level.WARN);
+
+		Simulation simulation = new Simulation(numberOfPlayers);
+		if (args.length > 2) {
+			simulation.setBoardConfiguration(BoardConfiguration.withNumberOfCircles(Integer.parseInt(args[2])));
+		}
+
+		System.out.println("seed: " + seed);
+		simulation.run(numberOfGames, seed).print(System.out);
+	}
+
+}
@@ -0,0 +1,322 @@
+package game.ai.simulation;
+
+import java.io.PrintStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Aggregates the results of simulated games: the win rate of every seat, the length of the games and the time spent
+ * per move, together with their 95% confidence intervals. Only sums and running moments are kept, so any number of
+ * games can be aggregated in constant memory. The statistics of games played in parallel can be merged.
+ * @author Christoph Hermann
+ * @see GameResult
+ * @see Simulation
+ * @see Tournament
+ */
+public class SimulationStatistics {
+
+	/**
+	 * The number of nanoseconds per microsecond.
+	 */
+	private static final double NANOS_PER_MICRO = 1000.0;
+
+	/**
+	 * The number of nanoseconds per millisecond.
+	 */
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	/**
+	 * The number of games won by every seat.
+	 */
+	private final int[] wins;
+
+	/**
+	 * The number of games aggregated.
+	 */
+	private int games;
+
+	/**
+	 * The number of games aborted before a player won.
+	 */
+	private int unfinishedGames;
+
+	/**
+	 * The number of games aborted in the lobby, before the board has been laid out.
+	 */
+	private int neverStartedGames;
+
+	/**
+	 * The rounds of the finished games.
+	 */
+	private final RunningStatistics rounds = new RunningStatistics();
+
+	/**
+	 * The fewest rounds of a finished game.
+	 */
+	private int minRounds = Integer.MAX_VALUE;
+
+	/**
+	 * The most rounds of a finished game.
+	 */
+	private int maxRounds;
+
+	/**
+	 * The time in milliseconds every game took.
+	 */
+	private final RunningStatistics gameMillis = new RunningStatistics();
+
+	/**
+	 * The sum of the moves of all games.
+	 */
+	private long moves;
+
+	/**
+	 * The time in nanoseconds all games took.
+	 */
+	private long nanos;
+
+	/**
+	 * The time in nanoseconds the AIs spent on all games.
+	 */
+	private long aiNanos;
+
+	/**
+	 * The longest time in nanoseconds an AI spent handling a single message of the server.
+	 */
+	private long maxAiNanos;
+
+	/**
+	 * Creates new, empty statistics.
+	 * @param numberOfPlayers the number of players of every game.
+	 */
+	public SimulationStatistics(int numberOfPlayers) {
+		this.wins = new int[numberOfPlayers];
+	}
+
+	/**
+	 * Adds the result of a game.
+	 * @param result the {@link GameResult}.
+	 */
+	public void add(GameResult result) {
+		games++;
+		moves += result.getMoves();
+		nanos += result.getNanos();
+		aiNanos += result.getAiNanos();
+		maxAiNanos = Math.max(maxAiNanos, result.getMaxAiNanos());
+		gameMillis.add(result.getNanos() / NANOS_PER_MILLI);
+
+		if (!result.isFinished()) {
+			unfinishedGames++;
+			if (result.getStatus() == GameStatus.NEVER_STARTED) {
+				neverStartedGames++;
+			}
+			return;
+		}
+		wins[result.getWinner()]++;
+		rounds.add(result.getRounds());
+		minRounds = Math.min(minRounds, result.getRounds());
+		maxRounds = Math.max(maxRounds, result.getRounds());
+	}
+
+	/**
+	 * Adds all games of other statistics with the same number of players, as if their results had been added one by
+	 * one.
+	 * @param other the other {@link SimulationStatistics}.
+	 */
+	public void merge(SimulationStatistics other) {
+		for (int seat = 0; seat < wins.length; seat++) {
+			wins[seat] += other.wins[seat];
+		}
+		games += other.games;
+		unfinishedGames += other.unfinishedGames;
+		neverStartedGames += other.neverStartedGames;
+		rounds.merge(other.rounds);
+		minRounds = Math.min(minRounds, other.minRounds);
+		maxRounds = Math.max(maxRounds, other.maxRounds);
+		gameMillis.merge(other.gameMillis);
+		moves += other.moves;
+		nanos += other.nanos;
+		aiNanos += other.aiNanos;
+		maxAiNanos = Math.max(maxAiNanos, other.maxAiNanos);
+	}
+
+	/**
+	 * Returns the number of games aggregated.
+	 * @return the number of games.
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Returns the number of games aborted before a player won.
+	 * @return the number of unfinished games.
+	 */
+	public int getUnfinishedGames() {
+		return unfinishedGames;
+	}
+
+	/**
+	 * Returns the number of games aborted in the lobby, before the board has been laid out. These games are counted as
+	 * unfinished games as well.
+	 * @return the number of games never started.
+	 */
+	public int getNeverStartedGames() {
+		return neverStartedGames;
+	}
+
+	/**
+	 * Returns the share of the finished games a seat has won.
+	 * @param seat the seat.
+	 * @return the win rate between 0 and 1.
+	 */
+	public double getWinRate(int seat) {
+		int finishedGames = games - unfinishedGames;
+		return finishedGames == 0 ? 0 : (double) wins[seat] / finishedGames;
+	}
+
+	/**
+	 * Returns the lower bound of the 95% confidence interval of the win rate of a seat. The Wilson score interval is
+	 * used, which stays meaningful for few games and win rates close to 0 or 1.
+	 * @param seat the seat.
+	 * @return the lower bound between 0 and 1.
+	 */
+	public double getWinRateLowerBound(int seat) {
+		return getWilsonBound(seat, -1);
+	}
+
+	/**
+	 * Returns the upper bound of the 95% confidence interval of the win rate of a seat.
+	 * @param seat the seat.
+	 * @return the upper bound between 0 and 1.
+	 * @see #getWinRateLowerBound(int)
+	 */
+	public double getWinRateUpperBound(int seat) {
+		return getWilsonBound(seat, 1);
+	}
+
+	/**
+	 * Returns a bound of the Wilson score interval of the win rate of a seat.
+	 * @param seat the seat.
+	 * @param sign -1 for the lower bound, 1 for the upper bound.
+	 * @return the bound between 0 and 1.
+	 */
+	private double getWilsonBound(int seat, int sign) {
+		int finishedGames = games - unfinishedGames;
+		if (finishedGames == 0) {
+			return sign < 0 ? 0 : 1;
+		}
+		double z = RunningStatistics.Z_95;
+		double rate = getWinRate(seat);
+		double zSquaredPerGame = z * z / finishedGames;
+
+		double center = rate + zSquaredPerGame / 2;
+		double margin = z * Math.sqrt(rate * (1 - rate) / finishedGames + zSquaredPerGame / finishedGames / 4);
+		double bound = (center + sign * margin) / (1 + zSquaredPerGame);
+		return Math.min(1, Math.max(0, bound));
+	}
+
+	/**
+	 * Returns the average number of rounds of the finished games.
+	 * @return the average game length.
+	 */
+	public double getAverageRounds() {
+		return rounds.getMean();
+	}
+
+	/**
+	 * Returns half the width of the 95% confidence interval of the average number of rounds.
+	 * @return the margin in rounds.
+	 */
+	public double getAverageRoundsMargin() {
+		return rounds.getConfidenceMargin();
+	}
+
+	/**
+	 * Returns the average time per move, spent by the AIs and the server together.
+	 * @return the time in nanoseconds.
+	 */
+	public double getNanosPerMove() {
+		return moves == 0 ? 0 : (double) nanos / moves;
+	}
+
+	/**
+	 * Returns the average time per move spent by the AIs.
+	 * @return the time in nanoseconds.
+	 */
+	public double getAiNanosPerMove() {
+		return moves == 0 ? 0 : (double) aiNanos / moves;
+	}
+
+	/**
+	 * Prints a summary of the statistics.
+	 * @param out the stream to print to.
+	 */
+	public void print(PrintStream out) {
+		out.printf("games: %d (%d unfinished, thereof %d never started)%n", games, unfinishedGames,
+				neverStartedGames);
+		for (int seat = 0; seat < wins.length; seat++) {
+			out.printf("seat %d: %d wins (%.1f%%, 95%% CI %.1f%% - %.1f%%)%n", seat, wins[seat],
+					getWinRate(seat) * 100, getWinRateLowerBound(seat) * 100, getWinRateUpperBound(seat) * 100);
+		}
+		if (games > unfinishedGames) {
+			out.printf("rounds: average %.1f +- %.1f, min %d, max %d%n", getAverageRounds(), getAverageRoundsMargin(),
+					minRounds, maxRounds);
+		}
+		out.printf("moves: %d, average %.1f per game%n", moves, games == 0 ? 0 : (double) moves / games);
+		out.printf("time per move: %.1f us, thereof ai %.1f us, longest ai move %.1f us%n",
+				getNanosPerMove() / NANOS_PER_MICRO, getAiNanosPerMove() / NANOS_PER_MICRO,
+				maxAiNanos / NANOS_PER_MICRO);
+		out.printf("time per game: %.2f +- %.2f ms%n", gameMillis.getMean(), gameMillis.getConfidenceMargin());
+	}
+
+	/**
+	 * Returns the statistics as a JSON object, e.g. to compare simulations with a script. All bounds and margins
+	 * belong to 95% confidence intervals.
+	 * @return the {@link JSONObject}.
+	 */
+	public JSONObject toJSON() {
+		JSONObject json = new JSONObject();
+		json.put("games", games);
+		json.put("unfinished_games", unfinishedGames);
+		json.put("never_started_games", neverStartedGames);
+
+		// Add the wins of every seat.
+		JSONArray seats = new JSONArray();
+		for (int seat = 0; seat < wins.length; seat++) {
+			JSONObject jsonSeat = new JSONObject();
+			jsonSeat.put("wins", wins[seat]);
+			jsonSeat.put("win_rate", getWinRate(seat));
+			jsonSeat.put("win_rate_lower_bound", getWinRateLowerBound(seat));
+			jsonSeat.put("win_rate_upper_bound", getWinRateUpperBound(seat));
+			seats.put(jsonSeat);
+		}
+		json.put("seats", seats);
+
+		// Add the lengths of the games.
+		JSONObject jsonRounds = new JSONObject();
+		jsonRounds.put("average", getAverageRounds());
+		jsonRounds.put("margin", getAverageRoundsMargin());
+		jsonRounds.put("standard_deviation", rounds.getStandardDeviation());
+		if (games > unfinishedGames) {
+			jsonRounds.put("min", minRounds);
+			jsonRounds.put("max", maxRounds);
+		}
+		json.put("rounds", jsonRounds);
+
+		// Add the times.
+		json.put("moves", moves);
+		json.put("nanos_per_move", getNanosPerMove());
+		json.put("ai_nanos_per_move", getAiNanosPerMove());
+		json.put("max_ai_nanos", maxAiNanos);
+		JSONObject jsonGameMillis = new JSONObject();
+		jsonGameMillis.put("average", gameMillis.getMean());
+		jsonGameMillis.put("margin", gameMillis.getConfidenceMargin());
+		jsonGameMillis.put("standard_deviation", gameMillis.getStandardDeviation());
+		json.put("millis_per_game", jsonGameMillis);
+
+		return json;
+	}
+
+}
@@ -0,0 +1,320 @@
+package game.ai.simulation;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import game.board.BoardConfiguration;
+import network.server.ServerController;
+
+/**
+ * Plays many independent games between AIs in parallel on all cores. Every game is played by a {@code Simulation} in a
+ * room of its own, so the games are handled by the game threads of the simulation's server, one thread per core.
+ * Game {@code i} of a tournament is played with the seed {@code seed + i}, so a tournament played with the same seed
+ * again yields the same results, no matter in which order the games are finished.
+ * <p>
+ * No thread waits for a game. A game is started by posting its first task to the mailbox of its room, and the thread
+ * handling the last message of a game starts the next one, so the given number of games is in play at any time. The
+ * game threads take the mailboxes from a single queue in the order they have been scheduled. A work-stealing pool is
+ * not used on purpose: its threads prefer the mailboxes they have scheduled themselves, so the games already running
+ * would keep the threads to themselves, while a new game waits.
+ * </p>
+ * <p>
+ * Usage: {@code java game.ai.simulation.Tournament [--name value]...} with the options
+ * <ul>
+ * <li>{@code games}: the number of games, 1000 by default.</li>
+ * <li>{@code players}: the number of AIs per game, 4 by default.</li>
+ * <li>{@code parallelism}: the number of games played at the same time, the number of cores by default.</li>
+ * <li>{@code seed}: the seed of the first game, random by default.</li>
+ * <li>{@code board-circles}: the number of circles of hexes of the boards.</li>
+ * <li>{@code timeout}: the time in milliseconds a game may take, before it is aborted, not limited by default. Only
+ * meant to guard against hangs, because it makes the results depend on the load of the machine.</li>
+ * <li>{@code max-moves}: the number of moves an AI may make per game, before the game is aborted.</li>
+ * <li>{@code csv}: the file the result of every game is written to in CSV format.</li>
+ * <li>{@code json}: the file the statistics are written to in JSON format.</li>
+ * </ul>
+ * </p>
+ * @author Christoph Hermann
+ * @see Simulation
+ * @see SimulationStatistics
+ */
+public class Tournament {
+
+	/**
+	 * The number of games played by default.
+	 */
+	private static final int DEFAULT_NUMBER_OF_GAMES = 1000;
+
+	/**
+	 * The number of players per game by default.
+	 */
+	private static final int DEFAULT_NUMBER_OF_PLAYERS = 4;
+
+	/**
+	 * The number of nanoseconds per second.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * The simulation playing the games.
+	 */
+	private final Simulation simulation;
+
+	/**
+	 * The number of games played at the same time.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Creates a new tournament.
+	 * @param simulation the {@link Simulation} playing the games.
+	 * @param parallelism the number of games played at the same time.
+	 */
+	public Tournament(Simulation simulation, int parallelism) {
+		this.simulation = simulation;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Plays the games of this tournament and aggregates their results. The current thread only waits until all games
+	 * are over, the games are played by the game threads of the simulation.
+	 * @param numberOfGames the number of games.
+	 * @param seed the seed of the first game.
+	 * @param listener is told the result of every game as soon as it is over. It is called by several threads at once.
+	 * @return the {@link SimulationStatistics}.
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the games.
+	 */
+	public SimulationStatistics run(int numberOfGames, long seed, Consumer<GameResult> listener)
+			throws InterruptedException {
+		Games games = new Games(numberOfGames, seed, listener);
+
+		// Start as many games as may be played at the same time, every game over starts the next one.
+		for (int i = 0; i < Math.min(parallelism, numberOfGames); i++) {
+			games.startNextGame();
+		}
+
+		try {
+			games.done.get();
+		} catch (ExecutionException exception) {
+			throw new IllegalStateException("A game of the tournament failed.", exception.getCause());
+		}
+		return games.statistics;
+	}
+
+	/**
+	 * The games of a single run of a tournament.
+	 */
+	private final class Games {
+
+		/**
+		 * The number of games.
+		 */
+		private final int numberOfGames;
+
+		/**
+		 * The seed of the first game.
+		 */
+		private final long seed;
+
+		/**
+		 * Is told the result of every game.
+		 */
+		private final Consumer<GameResult> listener;
+
+		/**
+		 * The results of the games over so far.
+		 */
+		private final SimulationStatistics statistics = new SimulationStatistics(simulation.getNumberOfPlayers());
+
+		/**
+		 * The number of the next game to start.
+		 */
+		private final AtomicInteger nextGame = new AtomicInteger();
+
+		/**
+		 * The number of games, which are not over yet.
+		 */
+		private final AtomicInteger remainingGames;
+
+		/**
+		 * Is completed, when all games are over or a game failed.
+		 */
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		/**
+		 * Creates the games of a run.
+		 * @param numberOfGames the number of games.
+		 * @param seed the seed of the first game.
+		 * @param listener is told the result of every game.
+		 */
+		private Games(int numberOfGames, long seed, Consumer<GameResult> listener) {
+			this.numberOfGames = numberOfGames;
+			this.seed = seed;
+			this.listener = listener;
+			this.remainingGames = new AtomicInteger(numberOfGames);
+
+			if (numberOfGames <= 0) {
+				done.complete(null);
+			}
+		}
+
+		/**
+		 * Starts the next game, unless all games have been started already.
+		 */
+		private void startNextGame() {
+			int game = nextGame.getAndIncrement();
+			if (game >= numberOfGames || done.isDone()) {
+				return;
+			}
+
+			try {
+				simulation.startGame(seed + game).whenComplete(this::gameOver);
+			} catch (RuntimeException exception) {
+				done.completeExceptionally(exception);
+			}
+		}
+
+		/**
+		 * Adds the result of a game and starts the next game. Called by the game thread which handled the last message
+		 * of the game.
+		 * @param result the {@link GameResult} or null, if the game failed.
+		 * @param failure the reason the game failed or null.
+		 */
+		private void gameOver(GameResult result, Throwable failure) {
+			if (failure != null) {
+				done.completeExceptionally(failure);
+				return;
+			}
+
+			try {
+				synchronized (statistics) {
+					statistics.add(result);
+				}
+				listener.accept(result);
+			} catch (RuntimeException exception) {
+				done.completeExceptionally(exception);
+				return;
+			}
+
+			if (remainingGames.decrementAndGet() == 0) {
+				done.complete(null);
+			} else {
+				startNextGame();
+			}
+		}
+
+	}
+
+	/**
+	 * Plays a tournament with the options given on the command line, prints the statistics and writes the results to
+	 * the requested files.
+	 * @param args the command line arguments.
+	 * @throws IOException if a file cannot be written.
+	 * @throws InterruptedException if the main thread is interrupted while waiting for the games.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Properties options = parseOptions(args);
+
+		int numberOfGames = Integer.parseInt(
+				options.getProperty("games", String.valueOf(DEFAULT_NUMBER_OF_GAMES)));
+		int numberOfPlayers = Integer.parseInt(
+				options.getProperty("players", String.valueOf(DEFAULT_NUMBER_OF_PLAYERS)));
+		if (numberOfPlayers < ServerController.MIN_PLAYERS || numberOfPlayers > ServerController.MAX_PLAYERS) {
+			throw new IllegalArgumentException("--players must be between " + ServerController.MIN_PLAYERS + " and "
+					+ ServerController.MAX_PLAYERS + ", but got " + numberOfPlayers);
+		}
+		int parallelism = Integer.parseInt(options.getProperty("parallelism",
+				String.valueOf(Runtime.getRuntime().availableProcessors())));
+		long seed = Long.parseLong(options.getProperty("seed", String.valueOf(new Random().nextLong())));
+
+		// Log warnings only, logging every room would slow the tournament down.
+		Configurator.setRootLevel(Level.WARN);
+
+		// Create simulation.
+		Simulation simulation = new Simulation(numberOfPlayers);
+		if (options.containsKey("board-circles")) {
+			simulation.setBoardConfiguration(
+					BoardConfiguration.withNumberOfCircles(Integer.parseInt(options.getProperty("board-circles"))));
+		}
+		if (options.containsKey("timeout")) {
+			simulation.setTimeout(Long.parseLong(options.getProperty("timeout")));
+		}
+		if (options.containsKey("max-moves")) {
+			simulation.setMaxMoves(Integer.parseInt(options.getProperty("max-moves")));
+		}
+
+		// Play the games and write their results as soon as they are over.
+		SimulationStatistics statistics;
+		long start = System.nanoTime();
+		String csv = options.getProperty("csv");
+		if (csv == null) {
+			statistics = new Tournament(simulation, parallelism).run(numberOfGames, seed, result -> { });
+		} else {
+			try (Writer writer = Files.newBufferedWriter(Paths.get(csv), StandardCharsets.UTF_8)) {
+				writer.write(GameResult.getCSVHeader(numberOfPlayers) + System.lineSeparator());
+				statistics = new Tournament(simulation, parallelism).run(numberOfGames, seed,
+						result -> writeRow(writer, result.toCSV()));
+			}
+		}
+		long nanos = System.nanoTime() - start;
+
+		// Print the statistics.
+		PrintStream out = System.out;
+		out.printf("seed: %d, parallelism: %d%n", seed, parallelism);
+		statistics.print(out);
+		out.printf("wall time: %.2f s, games per second: %.1f%n", nanos / NANOS_PER_SECOND,
+				numberOfGames * NANOS_PER_SECOND / nanos);
+
+		String json = options.getProperty("json");
+		if (json != null) {
+			Files.write(Paths.get(json), statistics.toJSON().put("seed", seed).toString(2).getBytes(
+					StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Writes a row to a file shared by several threads.
+	 * @param writer the {@link Writer} of the file.
+	 * @param row the row without line separator.
+	 */
+	private static void writeRow(Writer writer, String row) {
+		synchronized (writer) {
+			try {
+				writer.write(row + System.lineSeparator());
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+		}
+	}
+
+	/**
+	 * Reads the options from the command line. An option is given as {@code --name value}.
+	 * @param args the command line arguments.
+	 * @return the options.
+	 * @throws IllegalArgumentException if an argument is not an option or has no value.
+	 */
+	private static Properties parseOptions(String[] args) {
+		Properties options = new Properties();
+		for (int i = 0; i < args.length; i += 2) {
+			if (!args[i].startsWith("--") || i + 1 >= args.length) {
+				throw new IllegalArgumentException("Expected an option followed by its value, but got " + args[i]);
+			}
+			options.setProperty(args[i].substring(2), args[i + 1]);
+		}
+		return options;
+	}
+
+}
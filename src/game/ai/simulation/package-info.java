@@ -0,0 +1,5 @@
+/**
+ * Contains all files concerning simulations of games between AIs.
+ * @author Christoph Hermann
+ */
+package game.ai.simulation;
\ No newline at end of file
@@ -1,6 +1,9 @@
 package game.bank;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import game.Game;
 import game.cards.DevelopmentCard;
@@ -10,9 +13,6 @@ import game.cards.victorypointcards.VictoryPointCard;
 import game.player.Player;
 import game.resources.ResourceType;
 import game.resources.Resources;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 
 /**
  * Represents a game bank managing all {@code Resources} and {@code DevelopmentCards} not owned by {@code Players}.
@@ -56,16 +56,16 @@ public class Bank {
 	private final static int N_VICTORY_POINT_CARDS = 5;
 
 	/**
-	 * The {@code Resources} property in this {@code Bank}.
+	 * The {@code Resources} in this {@code Bank}.
 	 * @see Resources
 	 */
-	private SimpleObjectProperty<Resources> resources = new SimpleObjectProperty<>();
+	private final Resources resources;
 
 	/**
 	 * The {@code DevelopmentCards} in this bank.
 	 * @see DevelopmentCard
 	 */
-	private ObservableList<DevelopmentCard> developmentCards = FXCollections.observableArrayList();
+	private final List<DevelopmentCard> developmentCards = new ArrayList<>();
 
 	/**
 	 * Creates a new Bank containing all {@code Resources} and 
@@ -75,15 +75,25 @@ public class Bank {
 	 * @see Player
 	 */
 	public Bank() {
-		resources.set(new Resources(
+		this(new Random());
+	}
+
+	/**
+	 * Creates a new Bank, whose deck of {@code DevelopmentCards} is shuffled by the specified source of randomness,
+	 * e.g. a seeded one to replay a game.
+	 * @param random the source of randomness.
+	 * @see DevelopmentCard
+	 */
+	public Bank(Random random) {
+		resources = new Resources(
 				ResourceType.BRICK, N_RESOURCES,
 				ResourceType.GRAIN, N_RESOURCES,
 				ResourceType.LUMBER, N_RESOURCES,
 				ResourceType.ORE, N_RESOURCES,
-				ResourceType.WOOL, N_RESOURCES));
+				ResourceType.WOOL, N_RESOURCES);
 
 		createAllDevelopmentCards();
-		shuffleDevelopmentCards();
+		shuffleDevelopmentCards(random);
 	}
 
 	/**
@@ -120,8 +130,8 @@ public class Bank {
 	 * @param resourcesToRemove the {@link Resources Resources}.
 	 */
 	public void removeResources(Resources resourcesToRemove) {
-		if (resources.get().isGreaterThanOrEqualTo(resourcesToRemove)) {
-			resources.get().subtract(resourcesToRemove);
+		if (resources.isGreaterThanOrEqualTo(resourcesToRemove)) {
+			resources.subtract(resourcesToRemove);
 		}
 	}
 
@@ -130,7 +140,7 @@ public class Bank {
 	 * @param resourcesToAdd the {@link Resources Resources}.
 	 */
 	public void addResources(Resources resourcesToAdd) {
-		resources.get().add(resourcesToAdd);
+		resources.add(resourcesToAdd);
 	}
 
 	/**
@@ -150,15 +160,16 @@ public class Bank {
 	 * @return the amount of {@code Resources}.
 	 */
 	public int getResourceAmount(ResourceType type) {
-		return resources.get().getResources().get(type);
+		return resources.get(type);
 	}
 
 	/**
 	 * Shuffles the deck of {@code DevelopmentCards} within this bank.
+	 * @param random the source of randomness.
 	 * @see DevelopmentCard
 	 */
-	private void shuffleDevelopmentCards() {
-		Collections.shuffle(developmentCards);
+	private void shuffleDevelopmentCards(Random random) {
+		Collections.shuffle(developmentCards, random);
 	}
 
 	/**
@@ -166,14 +177,14 @@ public class Bank {
 	 * @return {@code Resources}
 	 */
 	public Resources getResources() {
-		return resources.get();
+		return resources;
 	}
 
 	/**
 	 * Returns the developmentCards.
 	 * @return the developmentCards.
 	 */
-	public ObservableList<DevelopmentCard> getDevelopmentCards() {
+	public List<DevelopmentCard> getDevelopmentCards() {
 		return developmentCards;
 	}
 
@@ -1,13 +1,11 @@
 package game.board;
 
 import java.util.ArrayList; 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
+import java.util.Random;
 
+import game.ModelList;
+import game.ObservableModel;
 import game.board.construction.Construction;
 import game.board.construction.localities.City;
 import game.board.construction.localities.Locality;
@@ -21,15 +19,19 @@ import game.board.hexes.Hex;
 import game.board.hexes.HexType;
 import game.board.robber.Robber;
 import game.board.tokens.Token;
-import javafx.beans.property.SimpleListProperty;
-import javafx.collections.FXCollections;
 
 /**
  * Represents the game board.
  * @author Christoph Hermann
  * @author Cornelia Sedlmeir-Hofmann
  */
-public class Board {
+public class Board extends ObservableModel {
+
+	/**
+	 * The size, land types, tokens and harbors of this board.
+	 * @see BoardConfiguration
+	 */
+	private final BoardConfiguration configuration;
 
 	/**
 	 * The {@code Robber}.
@@ -38,8 +40,9 @@ public class Board {
 	private Robber robber;
 
 	/**
-	 * The number of {@code Hex} circles on this board.
+	 * The number of {@code Hex} circles on the standard board.
 	 * @see Hex
+	 * @see BoardConfiguration#STANDARD
 	 */
 	public static final int NUMBER_OF_CIRCLES = 3;
 
@@ -81,9 +84,7 @@ public class Board {
 	 * The {@code Construction} on this board.
 	 * @see Construction
 	 */
-	private SimpleListProperty<Construction> constructionsProperty
-	= new SimpleListProperty<Construction>(FXCollections.observableArrayList(
-			new ArrayList<Construction>()));
+	private final ModelList<Construction> constructions = new ModelList<Construction>();
 
 	/**
 	 * The {@code Settlement} on this board.
@@ -116,10 +117,73 @@ public class Board {
 	private ArrayList<Token> tokens = new ArrayList<>();
 
 	/**
-	 * Creates a new board. It will be initialized by an internal {@link BoardInitialization} object.
+	 * The topology of this board, which stores adjacency and constructions in arrays indexed by dense ids.
+	 * @see BoardTopology
+	 */
+	private BoardTopology topology;
+
+	/**
+	 * The number of bits used for a single {@code Hex} or coordinate in a key of a {@code PositionIndex}.
+	 * @see PositionIndex
+	 */
+	private static final int KEY_BITS = 10;
+
+	/**
+	 * The number of every {@code Hex}, i.e. its index in {@link #hexes} plus one, by the character it is represented
+	 * by. 0, if no hex is represented by a character.
+	 * @see Hex
+	 */
+	private int[] hexNumbers;
+
+	/**
+	 * The {@code Hexes} by the key of their String identifier.
+	 * @see #positionKey(String)
+	 */
+	private PositionIndex<Hex> hexesByPosition;
+
+	/**
+	 * The {@code Hexes} by the key of their axial coordinates.
+	 * @see #coordinatesKey(int, int)
+	 */
+	private PositionIndex<Hex> hexesByCoordinates;
+
+	/**
+	 * The {@code Corners} by the key of their String identifier.
+	 * @see #positionKey(String)
+	 */
+	private PositionIndex<Corner> cornersByPosition;
+
+	/**
+	 * The {@code Edges} by the key of their String identifier.
+	 * @see #positionKey(String)
+	 */
+	private PositionIndex<Edge> edgesByPosition;
+
+	/**
+	 * Creates a new standard board. It will be initialized by an internal {@link BoardInitialization} object.
 	 */
 	public Board() {
-		BoardInitialization boardIntitializer = new BoardInitialization();
+		this(BoardConfiguration.STANDARD);
+	}
+
+	/**
+	 * Creates a new board with the specified configuration. It will be initialized by an internal
+	 * {@link BoardInitialization} object.
+	 * @param configuration the {@link BoardConfiguration} defining size, land types, tokens and harbors.
+	 */
+	public Board(BoardConfiguration configuration) {
+		this(configuration, new Random());
+	}
+
+	/**
+	 * Creates a new board with the specified configuration, whose land types and harbors are laid out by the specified
+	 * source of randomness, e.g. a seeded one to replay a game.
+	 * @param configuration the {@link BoardConfiguration} defining size, land types, tokens and harbors.
+	 * @param random the source of randomness for the layout.
+	 */
+	public Board(BoardConfiguration configuration, Random random) {
+		this.configuration = configuration;
+		BoardInitialization boardIntitializer = new BoardInitialization(configuration, random);
 
 		this.hexes = boardIntitializer.getHexes();
 		this.corners = boardIntitializer.getCorners();
@@ -135,6 +199,116 @@ public class Board {
 		}
 
 		setTokens();
+		createIndexes();
+		topology = new BoardTopology(hexes, corners, edges);
+
+		// Keep the production of the hexes up to date with the position of the robber.
+		robber.attach(topology);
+	}
+
+	/**
+	 * Creates the indexes used to search hexes, corners and edges by their position in constant time.
+	 */
+	private void createIndexes() {
+		if (hexes.size() >= 1 << KEY_BITS) {
+			throw new IllegalStateException("Too many hexes on the board.");
+		}
+
+		char maxCharacter = 0;
+		for (Hex hex : hexes) {
+			maxCharacter = (char) Math.max(maxCharacter, hex.getLocality().charAt(0));
+		}
+		hexNumbers = new int[maxCharacter + 1];
+
+		hexesByPosition = new PositionIndex<>(hexes.size());
+		hexesByCoordinates = new PositionIndex<>(hexes.size());
+		for (int i = 0; i < hexes.size(); i++) {
+			Hex hex = hexes.get(i);
+			hexNumbers[hex.getLocality().charAt(0)] = i + 1;
+			hexesByCoordinates.putIfAbsent(coordinatesKey(hex.getxPosAxialHex(), hex.getyPosAxialHex()), hex);
+		}
+		for (Hex hex : hexes) {
+			hexesByPosition.putIfAbsent(positionKey(hex.getLocality()), hex);
+		}
+
+		cornersByPosition = new PositionIndex<>(corners.size());
+		for (Corner corner : corners) {
+			cornersByPosition.putIfAbsent(positionKey(corner.getCornerLocality()), corner);
+		}
+
+		edgesByPosition = new PositionIndex<>(edges.size());
+		for (Edge edge : edges) {
+			edgesByPosition.putIfAbsent(positionKey(edge.getEdgeStringPosition()), edge);
+		}
+	}
+
+	/**
+	 * Returns the key of a String identifier. The identifier consists of the characters of up to three
+	 * {@code Hexes}, in any order. The key is the same for every order of the characters.
+	 * @param position the String identifier.
+	 * @return the key or -1, if the identifier is not valid on this board.
+	 */
+	private int positionKey(String position) {
+		if (position == null || position.isEmpty() || position.length() > 3) {
+			return -1;
+		}
+
+		int first = hexNumber(position, 0);
+		int second = hexNumber(position, 1);
+		int third = hexNumber(position, 2);
+		if (first < 0 || second < 0 || third < 0) {
+			return -1;
+		}
+
+		// Sort the numbers of the hexes.
+		if (first > second) {
+			int swap = first;
+			first = second;
+			second = swap;
+		}
+		if (second > third) {
+			int swap = second;
+			second = third;
+			third = swap;
+		}
+		if (first > second) {
+			int swap = first;
+			first = second;
+			second = swap;
+		}
+		return (first << 2 * KEY_BITS) | (second << KEY_BITS) | third;
+	}
+
+	/**
+	 * Returns the number of the {@code Hex} represented by a character of a String identifier.
+	 * @param position the String identifier.
+	 * @param index the index of the character.
+	 * @return the number of the hex, 0 if the identifier is shorter or -1, if no hex is represented by the character.
+	 */
+	private int hexNumber(String position, int index) {
+		if (index >= position.length()) {
+			return 0;
+		}
+
+		char character = position.charAt(index);
+		if (character >= hexNumbers.length || hexNumbers[character] == 0) {
+			return -1;
+		}
+		return hexNumbers[character];
+	}
+
+	/**
+	 * Returns the key of axial coordinates.
+	 * @param x the x-coordinate.
+	 * @param y the y-coordinate.
+	 * @return the key or -1, if the coordinates are out of range.
+	 */
+	private static int coordinatesKey(int x, int y) {
+		int offset = 1 << KEY_BITS - 1;
+		if (x < -offset || x >= offset || y < -offset || y >= offset) {
+			return -1;
+		}
+		return (x + offset) << KEY_BITS | (y + offset);
 	}
 
 	/**
@@ -156,7 +330,7 @@ public class Board {
 			road.getPosition().setRoad(road);
 			roads.add((Road)construction);
 		}
-		constructionsProperty.get().add(construction);
+		constructions.add(construction);
 	}
 
 	/**
@@ -165,16 +339,7 @@ public class Board {
 	 * @return the hex.
 	 */
 	public Hex searchHex(String position) {
-		char[] charArray = position.toCharArray();
-		Arrays.sort(charArray);
-		for (Hex hex : this.hexes) {
-			char[] hexPosition = hex.getLocality().toCharArray();
-			Arrays.sort(hexPosition);
-			if (Arrays.equals(hexPosition, charArray)) {
-				return hex;
-			}
-		}
-		return null;
+		return hexesByPosition.get(positionKey(position));
 	}
 
 	/**
@@ -184,11 +349,7 @@ public class Board {
 	 * @return the hex.
 	 */
 	public Hex searchHex(int x, int y) {
-		for(Hex hex:this.hexes) {
-			if(x == hex.getxPosAxialHex() && y== hex.getyPosAxialHex())
-				return hex;
-		}
-		return null;
+		return hexesByCoordinates.get(coordinatesKey(x, y));
 	}
 
 	/**
@@ -197,16 +358,7 @@ public class Board {
 	 * @return the corner.
 	 */
 	public Corner searchCorner(String position) {
-		char[] charArray = position.toCharArray();
-		Arrays.sort(charArray);
-		for (Corner corner : this.corners) {
-			char[] cornerPosition = corner.getCornerLocality().toCharArray();
-			Arrays.sort(cornerPosition);
-			if (Arrays.equals(cornerPosition, charArray)) {
-				return corner;
-			}
-		}
-		return null;
+		return cornersByPosition.get(positionKey(position));
 	}
 
 	/**
@@ -215,16 +367,7 @@ public class Board {
 	 * @return the edge.
 	 */
 	public Edge searchEdge(String position) {
-		char[] charArray = position.toCharArray();
-		Arrays.sort(charArray);
-		for (Edge edge : this.edges) {
-			char[] edgePosition = edge.getEdgeStringPosition().toCharArray();
-			Arrays.sort(edgePosition);
-			if (Arrays.equals(edgePosition, charArray)) {
-				return edge;
-			}
-		}
-		return null;
+		return edgesByPosition.get(positionKey(position));
 	}
 
 	/**
@@ -235,6 +378,30 @@ public class Board {
 		return hexes;
 	}
 
+	/**
+	 * Returns the topology of this board.
+	 * @return the {@link BoardTopology}.
+	 */
+	public BoardTopology getTopology() {
+		return topology;
+	}
+
+	/**
+	 * Takes an immutable snapshot of the constructions on this board and the position of the robber.
+	 * @return the {@link BoardState}.
+	 */
+	public BoardState getState() {
+		return BoardState.of(topology);
+	}
+
+	/**
+	 * Returns the configuration of this board.
+	 * @return the {@link BoardConfiguration} defining size, land types, tokens and harbors.
+	 */
+	public BoardConfiguration getConfiguration() {
+		return configuration;
+	}
+
 	/**
 	 * Returns the {@code Robber} on this board.
 	 * @return the {@link Robber}.
@@ -263,8 +430,8 @@ public class Board {
 	 * Returns the {@code Constructions} on this board.
 	 * @return the {@link Construction Constructions}.
 	 */
-	public List<Construction> getConstructions() {
-		return constructionsProperty.get();
+	public ModelList<Construction> getConstructions() {
+		return constructions;
 	}
 
 	/**
@@ -346,14 +513,6 @@ public class Board {
 		return roads;
 	}
 
-	/**
-	 * The property wrapping the list of constructions on the board.
-	 * @return the constructions list property
-	 */
-	public SimpleListProperty<Construction> constructionsProperty() {
-		return constructionsProperty;
-	}
-
 	/**
 	 * checks if the corner has a Harbor with the HarborType type
 	 * @param corner the corner which we check
@@ -390,15 +549,18 @@ public class Board {
 	}
 
 	/**
-	 * Searches the edge with the two given corners on the board.
+	 * Searches the edge with the two given corners on the board. Only the edges adjacent to the first corner are
+	 * checked.
 	 * @param corner1 Corner
 	 * @param corner2 Corner
 	 * @return the edge, if it exists. null, otherwise
 	 */
 	public Edge searchEdge(Corner corner1, Corner corner2) {
-		for(Edge edge : this.getEdges()){
-			if((corner1 == edge.getCorner1() && corner2 == edge.getCorner2()) ||
-					(corner1 == edge.getCorner2() && corner2 == edge.getCorner1())){
+		List<Edge> adjacentEdges = corner1.getAdjacentEdgesOfCorner();
+		for (int i = 0; i < adjacentEdges.size(); i++) {
+			Edge edge = adjacentEdges.get(i);
+			if ((corner1 == edge.getCorner1() && corner2 == edge.getCorner2())
+					|| (corner1 == edge.getCorner2() && corner2 == edge.getCorner1())) {
 				return edge;
 			}
 		}
@@ -406,60 +568,24 @@ public class Board {
 	}
 	
 	/**
-	 * gets the shortest path between startingNode and destinationNode
+	 * gets the shortest path between startingNode and destinationNode over empty corners and edges
 	 * @param destinationNode the corner we want to reach
 	 * @param startingNode the corner we start our search
-	 * @param length 
-	 * @return an List with the Corners on the path. null, if there is no available path
+	 * @param length the number of roads the path has to be shorter than
+	 * @return an List with the Corners on the path, beginning with the destinationNode. null, if there is no available path
+	 * @see PathFinder
 	 */
 	public List<Corner> shortesPath(Corner startingNode, Corner destinationNode, int length) {
-	    Map<Corner, Corner> backlinks = new HashMap<Corner, Corner>();
-	    Map<Corner, Integer> distanceCorner = new HashMap<Corner, Integer>();
-	    Corner currentNode = startingNode;
-
-	    distanceCorner.put(currentNode, 0);
-	    Queue<Corner> queue = new LinkedList<Corner>();
-	    queue.add(currentNode);
-
-	    int i = 0;
-	    while (!queue.isEmpty()) {
-	    	if(i > length){
-	    		break;
-	    	}
-	        currentNode = queue.remove();
-	        if (currentNode.equals(destinationNode)) {
-	            break;
-	        } else {
-	            for (Corner nextNode : currentNode.getAdjacentCornersOfCorner()) {
-	            	if(nextNode.isOnLand()){
-	            		Edge edge = this.searchEdge(currentNode, nextNode);
-
-		            	if (!backlinks.containsKey(nextNode) && !nextNode.isCornerOccupied() && !edge.isOccupied()) {
-		            		if(!distanceCorner.containsKey((nextNode))){
-		            			distanceCorner.put(nextNode, distanceCorner.get(currentNode) + 1);
-		            		}
-		            		if(distanceCorner.get(nextNode) < length){
-			            		backlinks.put(nextNode, currentNode);
-			            	    queue.add(nextNode);
-		            		}
-		            	}
-	            	}
-	            }
-	        }
-	        i++;
-	    }
-
-	    if (!currentNode.equals(destinationNode)) {
-	        return null;
-	    }
-
-	    List<Corner> directions = new LinkedList<Corner>();
-	    for (Corner node = destinationNode; node != null; node = backlinks.get(node)) {
-	        directions.add(node);
-	    }
-
-	    //Collections.reverse(directions);
-	    return directions;
+		int[] path = topology.getPathFinder().findPath(startingNode.getCornerID(), destinationNode.getCornerID(), length);
+		if (path == null) {
+			return null;
+		}
+
+		List<Corner> directions = new ArrayList<Corner>(path.length);
+		for (int corner : path) {
+			directions.add(topology.getCorner(corner));
+		}
+		return directions;
 	}
 
 }
@@ -0,0 +1,353 @@
+package game.board;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import game.board.harbors.HarborType;
+import game.board.hexes.HexType;
+
+/**
+ * Describes the layout of a {@code Board}: the number of {@code Hex} circles around the center, how many hexes of
+ * every land type there are, the numbers on the tokens and the harbors on the coast. The outermost circle is always
+ * water, all other circles are land. Configurations are immutable, so a single configuration can be shared by all
+ * games of a server.
+ * @author Christoph Hermann
+ * @see Board
+ * @see BoardInitialization
+ */
+public final class BoardConfiguration {
+
+	/**
+	 * The smallest number of {@code Hex} circles, a single circle of land around the center and the water.
+	 * @see Hex
+	 */
+	public static final int MIN_NUMBER_OF_CIRCLES = 2;
+
+	/**
+	 * The largest number of {@code Hex} circles. Larger boards have too many hexes for the indexes of a
+	 * {@code Board}.
+	 * @see Board
+	 */
+	public static final int MAX_NUMBER_OF_CIRCLES = 17;
+
+	/**
+	 * The numbers on the tokens of the standard board, in the order they are placed.
+	 */
+	private static final int[] STANDARD_TOKEN_NUMBERS = { 5, 2, 6, 3, 8, 10, 9, 12, 11, 4, 8, 10, 9, 4, 5, 6, 3, 11 };
+
+	/**
+	 * The configuration of the standard board for three or four players, with 19 land hexes and 9 harbors.
+	 */
+	public static final BoardConfiguration STANDARD = createStandard();
+
+	/**
+	 * The configuration of a larger board, with one more circle of land than the standard board. It is played by three
+	 * or four players as well, because a game seats no more than {@link network.server.ServerController#MAX_PLAYERS}.
+	 */
+	public static final BoardConfiguration EXTENDED = withNumberOfCircles(STANDARD.getNumberOfCircles() + 1);
+
+	/**
+	 * The number of {@code Hex} circles around the center, including the circle of water.
+	 * @see Hex
+	 */
+	private final int numberOfCircles;
+
+	/**
+	 * The number of land hexes of every type. Water is not included.
+	 * @see HexType
+	 */
+	private final Map<HexType, Integer> landTypes;
+
+	/**
+	 * The numbers on the tokens, in the order they are placed on the land hexes other than deserts.
+	 */
+	private final List<Integer> tokenNumbers;
+
+	/**
+	 * The number of harbors of every type. {@code HarborType.NONE} is not included.
+	 * @see HarborType
+	 */
+	private final Map<HarborType, Integer> harbors;
+
+	/**
+	 * Creates a new configuration.
+	 * @param numberOfCircles the number of {@code Hex} circles around the center, including the circle of water.
+	 * @param landTypes the number of land hexes of every {@link HexType}. There must be at least one desert and as
+	 *        many land hexes as there are on the circles of land.
+	 * @param tokenNumbers the numbers on the tokens, one for every land hex other than a desert.
+	 * @param harbors the number of harbors of every {@link HarborType}. No two harbors may be next to each other.
+	 * @throws IllegalArgumentException if the parameters do not describe a valid board.
+	 */
+	public BoardConfiguration(int numberOfCircles, Map<HexType, Integer> landTypes, List<Integer> tokenNumbers,
+			Map<HarborType, Integer> harbors) {
+		checkNumberOfCircles(numberOfCircles);
+		this.numberOfCircles = numberOfCircles;
+		this.landTypes = Collections.unmodifiableMap(new EnumMap<>(landTypes));
+		this.tokenNumbers = Collections.unmodifiableList(new ArrayList<>(tokenNumbers));
+		this.harbors = Collections.unmodifiableMap(new EnumMap<>(harbors));
+
+		// Check the land types.
+		if (this.landTypes.containsKey(HexType.WATER) || count(this.landTypes) != getNumberOfLandHexes()) {
+			throw new IllegalArgumentException(
+					"The land types must add up to " + getNumberOfLandHexes() + " land hexes: " + landTypes);
+		}
+		if (this.landTypes.getOrDefault(HexType.DESERT, 0) < 1) {
+			throw new IllegalArgumentException("The board needs at least one desert for the robber.");
+		}
+
+		// Check the tokens.
+		if (this.tokenNumbers.size() != getNumberOfLandHexes() - this.landTypes.get(HexType.DESERT)) {
+			throw new IllegalArgumentException("Every land hex except the deserts needs a token: " + tokenNumbers);
+		}
+		for (int number : this.tokenNumbers) {
+			if (number < 2 || number > 12 || number == 7) {
+				throw new IllegalArgumentException("Invalid token number: " + number);
+			}
+		}
+
+		// Check the harbors.
+		if (this.harbors.containsKey(HarborType.NONE) || count(this.harbors) > getNumberOfCoasts() / 2) {
+			throw new IllegalArgumentException(
+					"At most " + getNumberOfCoasts() / 2 + " harbors fit on the coast: " + harbors);
+		}
+	}
+
+	/**
+	 * Creates the configuration of the standard board.
+	 * @return the {@link BoardConfiguration}.
+	 */
+	private static BoardConfiguration createStandard() {
+		Map<HexType, Integer> landTypes = new EnumMap<>(HexType.class);
+		landTypes.put(HexType.DESERT, 1);
+		landTypes.put(HexType.FIELDS, 4);
+		landTypes.put(HexType.FOREST, 4);
+		landTypes.put(HexType.HILLS, 3);
+		landTypes.put(HexType.MOUNTAIN, 3);
+		landTypes.put(HexType.PASTURE, 4);
+
+		List<Integer> tokenNumbers = new ArrayList<>();
+		for (int number : STANDARD_TOKEN_NUMBERS) {
+			tokenNumbers.add(number);
+		}
+
+		// One harbor for every resource and four universal harbors.
+		Map<HarborType, Integer> harbors = new EnumMap<>(HarborType.class);
+		for (HarborType type : HarborType.values()) {
+			if (type != HarborType.NONE) {
+				harbors.put(type, 1);
+			}
+		}
+		harbors.put(HarborType.UNIVERSAL, 4);
+
+		return new BoardConfiguration(Board.NUMBER_OF_CIRCLES, landTypes, tokenNumbers, harbors);
+	}
+
+	/**
+	 * Creates a configuration with the specified number of circles, which has the same proportions as the standard
+	 * board: the land types and harbors are scaled to the size of the board, the numbers on the tokens of the standard
+	 * board are repeated as often as needed and there is about one desert per 19 land hexes.
+	 * @param numberOfCircles the number of {@code Hex} circles around the center, including the circle of water.
+	 * @return the {@link BoardConfiguration}.
+	 * @throws IllegalArgumentException if the number of circles is out of range.
+	 */
+	public static BoardConfiguration withNumberOfCircles(int numberOfCircles) {
+		checkNumberOfCircles(numberOfCircles);
+		if (numberOfCircles == STANDARD.getNumberOfCircles()) {
+			return STANDARD;
+		}
+
+		int numberOfLandHexes = numberOfLandHexes(numberOfCircles);
+		int numberOfDeserts = Math.max(1, Math.round(numberOfLandHexes / 19f));
+
+		// Scale the other land types.
+		Map<HexType, Integer> standardTypes = new EnumMap<>(STANDARD.landTypes);
+		standardTypes.remove(HexType.DESERT);
+		Map<HexType, Integer> landTypes = scale(standardTypes, numberOfLandHexes - numberOfDeserts);
+		landTypes.put(HexType.DESERT, numberOfDeserts);
+
+		List<Integer> tokenNumbers = new ArrayList<>();
+		for (int i = 0; i < numberOfLandHexes - numberOfDeserts; i++) {
+			tokenNumbers.add(STANDARD.tokenNumbers.get(i % STANDARD.tokenNumbers.size()));
+		}
+
+		int numberOfHarbors = Math.round(count(STANDARD.harbors) * (float) numberOfCoasts(numberOfCircles)
+				/ STANDARD.getNumberOfCoasts());
+		Map<HarborType, Integer> harbors = scale(STANDARD.harbors, numberOfHarbors);
+
+		return new BoardConfiguration(numberOfCircles, landTypes, tokenNumbers, harbors);
+	}
+
+	/**
+	 * Returns the number of circles of a board with the specified number of hexes, e.g. to rebuild the board received
+	 * from a server.
+	 * @param numberOfHexes the number of hexes including water.
+	 * @return the number of circles around the center, including the circle of water.
+	 * @throws IllegalArgumentException if no board has this number of hexes.
+	 */
+	public static int numberOfCircles(int numberOfHexes) {
+		for (int circles = MIN_NUMBER_OF_CIRCLES; circles <= MAX_NUMBER_OF_CIRCLES; circles++) {
+			if (numberOfHexes(circles) == numberOfHexes) {
+				return circles;
+			}
+		}
+		throw new IllegalArgumentException("No board has " + numberOfHexes + " hexes.");
+	}
+
+	/**
+	 * Checks whether a board with the specified number of circles can be created.
+	 * @param numberOfCircles the number of circles around the center, including the circle of water.
+	 * @throws IllegalArgumentException if the number of circles is out of range.
+	 */
+	private static void checkNumberOfCircles(int numberOfCircles) {
+		if (numberOfCircles < MIN_NUMBER_OF_CIRCLES || numberOfCircles > MAX_NUMBER_OF_CIRCLES) {
+			throw new IllegalArgumentException("The number of circles must be between " + MIN_NUMBER_OF_CIRCLES
+					+ " and " + MAX_NUMBER_OF_CIRCLES + ": " + numberOfCircles);
+		}
+	}
+
+	/**
+	 * Distributes a total number over the keys of a map, proportionally to their values. The remainders are rounded
+	 * so that the counts add up exactly to the total.
+	 * @param weights the weights of the keys.
+	 * @param total the total number.
+	 * @param <K> the type of the keys.
+	 * @return the counts of the keys.
+	 */
+	private static <K extends Enum<K>> Map<K, Integer> scale(Map<K, Integer> weights, int total) {
+		Map<K, Integer> counts = new EnumMap<>(weights);
+		int sumOfWeights = count(weights);
+		int remaining = total;
+
+		// Give every key the lower bound of its share.
+		for (Map.Entry<K, Integer> entry : counts.entrySet()) {
+			entry.setValue(entry.getValue() * total / sumOfWeights);
+			remaining -= entry.getValue();
+		}
+
+		// Give the rest to the keys with the largest remainders.
+		List<K> keys = new ArrayList<>(weights.keySet());
+		keys.sort((first, second) -> Integer.compare(weights.get(second) * total % sumOfWeights,
+				weights.get(first) * total % sumOfWeights));
+		for (int i = 0; i < remaining; i++) {
+			K key = keys.get(i);
+			counts.put(key, counts.get(key) + 1);
+		}
+		return counts;
+	}
+
+	/**
+	 * Adds up the values of a map.
+	 * @param counts the map.
+	 * @return the sum of the values.
+	 */
+	private static int count(Map<?, Integer> counts) {
+		int sum = 0;
+		for (int count : counts.values()) {
+			sum += count;
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the number of hexes on a board with the specified number of circles.
+	 * @param numberOfCircles the number of circles around the center, including the circle of water.
+	 * @return the number of hexes including water.
+	 */
+	private static int numberOfHexes(int numberOfCircles) {
+		return 3 * numberOfCircles * (numberOfCircles + 1) + 1;
+	}
+
+	/**
+	 * Returns the number of land hexes on a board with the specified number of circles.
+	 * @param numberOfCircles the number of circles around the center, including the circle of water.
+	 * @return the number of land hexes.
+	 */
+	private static int numberOfLandHexes(int numberOfCircles) {
+		return numberOfHexes(numberOfCircles - 1);
+	}
+
+	/**
+	 * Returns the number of coasts on a board with the specified number of circles, i.e. the edges between the
+	 * outermost circle of land and the water.
+	 * @param numberOfCircles the number of circles around the center, including the circle of water.
+	 * @return the number of coasts.
+	 */
+	private static int numberOfCoasts(int numberOfCircles) {
+		return 6 * (2 * numberOfCircles - 1);
+	}
+
+	/**
+	 * Returns the number of {@code Hex} circles around the center, including the circle of water.
+	 * @return the number of circles.
+	 * @see Hex
+	 */
+	public int getNumberOfCircles() {
+		return numberOfCircles;
+	}
+
+	/**
+	 * Returns the number of hexes on the board, including water.
+	 * @return the number of hexes.
+	 */
+	public int getNumberOfHexes() {
+		return numberOfHexes(numberOfCircles);
+	}
+
+	/**
+	 * Returns the number of land hexes on the board.
+	 * @return the number of land hexes.
+	 */
+	public int getNumberOfLandHexes() {
+		return numberOfLandHexes(numberOfCircles);
+	}
+
+	/**
+	 * Returns the number of coasts on the board, i.e. the edges between land and water.
+	 * @return the number of coasts.
+	 */
+	public int getNumberOfCoasts() {
+		return numberOfCoasts(numberOfCircles);
+	}
+
+	/**
+	 * Returns the number of land hexes of every type.
+	 * @return an unmodifiable map of the counts by {@link HexType}.
+	 */
+	public Map<HexType, Integer> getLandTypes() {
+		return landTypes;
+	}
+
+	/**
+	 * Returns the numbers on the tokens, in the order they are placed on the land hexes other than deserts.
+	 * @return an unmodifiable list of the numbers.
+	 */
+	public List<Integer> getTokenNumbers() {
+		return tokenNumbers;
+	}
+
+	/**
+	 * Returns the number of harbors of every type.
+	 * @return an unmodifiable map of the counts by {@link HarborType}.
+	 */
+	public Map<HarborType, Integer> getHarbors() {
+		return harbors;
+	}
+
+	/**
+	 * Returns the total number of harbors.
+	 * @return the number of harbors.
+	 */
+	public int getNumberOfHarbors() {
+		return count(harbors);
+	}
+
+	@Override
+	public String toString() {
+		return "BoardConfiguration [numberOfCircles=" + numberOfCircles + ", landTypes=" + landTypes
+				+ ", tokenNumbers=" + tokenNumbers + ", harbors=" + harbors + "]";
+	}
+
+}
@@ -4,14 +4,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.json.JSONObject;
-
 import game.board.construction.localities.Locality;
 import game.board.construction.localities.Settlement;
 import game.board.corners.Corner;
 import game.board.corners.CornerController;
+import game.board.corners.CornerProperties;
 import game.board.edges.Edge;
 import game.board.edges.EdgeController;
+import game.board.edges.EdgeProperties;
 import game.board.harbors.HarborType;
 import game.board.hexes.Hex;
 import game.board.hexes.HexController;
@@ -20,6 +20,7 @@ import game.board.robber.Robber;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
 import game.player.Player;
 import game.player.PlayerInfoController;
+import game.player.PlayerProperties;
 import game.player.PlayerState;
 import interfaces.Controller;
 import javafx.animation.FadeTransition;
@@ -37,8 +38,9 @@ import javafx.scene.input.TransferMode;
 import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.Coordinates;
+import network.protocol.messages.MoveRobberMessage;
+import network.protocol.messages.PlayKnightMessage;
 
 /**
  * The controller connected to the BoardView FXML file. It manages the view elements, 
@@ -175,7 +177,7 @@ public class BoardController implements Controller<Board> {
 	 */
 	private void bindConstructions() {
 		for (Corner corner: board.getCorners()) {
-			corner.localityProperty().addListener(new InvalidationListener() {
+			CornerProperties.of(corner).localityProperty().addListener(new InvalidationListener() {
 				@Override
 				public void invalidated(Observable observable) {
 					if(corner.getLocality() instanceof Settlement) {
@@ -187,7 +189,7 @@ public class BoardController implements Controller<Board> {
 			});
 		}
 		for (Edge edge: board.getEdges()) {
-			edge.roadProperty().addListener(new InvalidationListener() {
+			EdgeProperties.of(edge).roadProperty().addListener(new InvalidationListener() {
 				@Override
 				public void invalidated(Observable observable) {
 					load("/game/board/construction/roads/RoadView.fxml", roadsGroup, edge.getRoad());
@@ -225,8 +227,8 @@ public class BoardController implements Controller<Board> {
 	 */
 	private void bindStealResourceCardVisibility() {
 		Player player = client.getUser().getPlayer();
-		player.currentySelectedDevelopmentCardProperty().addListener((observable) -> {
-			if(player.currentySelectedDevelopmentCardProperty().get()==null ) {
+		PlayerProperties.of(player).selectedDevelopmentCardProperty().addListener((observable) -> {
+			if(player.getSelectedDevelopmentCard()==null ) {
 				playerSelectionPane.getChildren().clear();
 				stealResourceCardPane.setVisible(false);
 				board.getRobber().resetPosition();	
@@ -253,8 +255,8 @@ public class BoardController implements Controller<Board> {
 		view.setOnDragDropped((event) -> {
 			Player player = client.getUser().getPlayer();
 			boolean playingKnight = false;
-			if(player.currentySelectedDevelopmentCardProperty().get()!=null) {
-				playingKnight = player.currentySelectedDevelopmentCardProperty().get()
+			if(player.getSelectedDevelopmentCard()!=null) {
+				playingKnight = player.getSelectedDevelopmentCard()
 						.equals(PlayableDevelopmentCardType.KNIGHT);
 			}
 			if(player.getState().equals(PlayerState.MOVE_ROBBER) || playingKnight) {
@@ -274,7 +276,7 @@ public class BoardController implements Controller<Board> {
 									playerInfo.makeClickable(false);
 								}
 							}
-							board.getRobber().getPositionProperty().set(hex);
+							board.getRobber().setPosition(hex);
 						}
 					}
 				};
@@ -288,19 +290,15 @@ public class BoardController implements Controller<Board> {
 	 * @see Robber
 	 */
 	private void sendRobberWithoutTarget(Hex hex) {
-		JSONObject jsonObject = new JSONObject();
-		JSONObject position = new JSONObject();
-		position.put(Attributes.X.toString(), hex.getxPosAxialHex());
-		position.put(Attributes.Y.toString(), hex.getyPosAxialHex());
-		jsonObject.put(Attributes.POSITION.toString(), position);
+		Coordinates position = Coordinates.of(hex);
 		
-		if(client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get()!=null) {
-			if(client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get().equals(PlayableDevelopmentCardType.KNIGHT)) {
-				client.sendToServer(ServerTypes.PLAY_KNIGHT.toString(), jsonObject);
-				client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().setValue(null);
+		if(client.getUser().getPlayer().getSelectedDevelopmentCard()!=null) {
+			if(client.getUser().getPlayer().getSelectedDevelopmentCard().equals(PlayableDevelopmentCardType.KNIGHT)) {
+				client.sendToServer(new PlayKnightMessage(position, null));
+				client.getUser().getPlayer().setSelectedDevelopmentCard(null);
 			} 
 		} else {
-			client.sendToServer(ServerTypes.MOVE_ROBBER.toString(), jsonObject);
+			client.sendToServer(new MoveRobberMessage(position, null));
 		}
 		stealResourceCardPane.setVisible(false);
 		board.getRobber().resetPosition();
@@ -361,8 +359,8 @@ public class BoardController implements Controller<Board> {
 			boolean edgeIsFree = edge.getRoad()==null;
 			boolean adjRoad = false;
 			boolean adjEdgeSelectedforRoadBuilding = false;
-			boolean roadBuilding = player.currentySelectedDevelopmentCardProperty().get() != null &&
-					player.currentySelectedDevelopmentCardProperty().get()
+			boolean roadBuilding = player.getSelectedDevelopmentCard() != null &&
+					player.getSelectedDevelopmentCard()
 					.equals(PlayableDevelopmentCardType.ROAD_BUILDING);
 			int localityCount = player.getLocalities().size();
 			//first two rounds
@@ -389,8 +387,8 @@ public class BoardController implements Controller<Board> {
 				adjRoad = edge.hasRoadInAdjacentEdges(player);
 			}
 			return (adjRoad || adjEdgeSelectedforRoadBuilding) && edgeIsFree;
-		}, board.constructionsProperty(), player.stateProperty(), player.lastTwoClickedOnEdgesProperty(), 
-				player.currentySelectedDevelopmentCardProperty()));
+		}, BoardProperties.of(board).constructionsProperty(), PlayerProperties.of(player).stateProperty(), PlayerProperties.of(player).lastTwoClickedOnEdgesProperty(), 
+				PlayerProperties.of(player).selectedDevelopmentCardProperty()));
 	}
 
 	/**
@@ -437,25 +435,16 @@ public class BoardController implements Controller<Board> {
 		view.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 			if(player.getState().equals(PlayerState.BUILD_FREE_SETTLEMENT) 
 					|| player.getState().equals(PlayerState.TRADE_OR_BUILD)) {
-				boolean cornerFree = corner.getLocality()==null;
-				boolean enoughDistance = true;
-				for (Corner adjCorner: corner.getAdjacentCornersOfCorner()) {
-					enoughDistance = enoughDistance && adjCorner.getLocality()==null;
-				}
-				boolean adjRoad = false;
-				for(Edge edge: corner.getAdjacentEdgesOfCorner()) {
-					boolean ownRoadHere = false;
-					if(edge.getRoad()!=null) {
-						ownRoadHere = edge.getRoad().getOwner()==player;
-					}
-					adjRoad = adjRoad || ownRoadHere;
-				}
+				MoveGenerator moveGenerator = board.getTopology().getMoveGenerator();
 				boolean firstRounds = player.getLocalities().size()<=1;
-				return cornerFree && (enoughDistance && (adjRoad || firstRounds));
+				if(firstRounds) {
+					return moveGenerator.canBuildFreeSettlement(corner.getCornerID());
+				}
+				return moveGenerator.canBuildSettlement(player.getId(), corner.getCornerID());
 			} else {
 				return false;
 			}
-		}, board.constructionsProperty(), player.stateProperty()));
+		}, BoardProperties.of(board).constructionsProperty(), PlayerProperties.of(player).stateProperty()));
 	}
 
 	/**
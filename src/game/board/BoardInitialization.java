@@ -5,11 +5,12 @@ import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 import game.board.corners.Corner;
 import game.board.edges.Edge;
@@ -32,6 +33,27 @@ import game.board.tokens.Token;
  * @see Board
  */
 public class BoardInitialization {
+	/**
+	 * all positions of corners in a hex, in the order they follow each other
+	 * around the hex
+	 */
+	private static final CornerPosition[] CORNER_POSITIONS = CornerPosition.values();
+	/**
+	 * all positions of edges in a hex
+	 */
+	private static final EdgePosition[] EDGE_POSITIONS = EdgePosition.values();
+	/**
+	 * the water letters of the standard board, in the order of the water hexes
+	 */
+	private static final String STANDARD_WATER_LOCALITIES = "egikmopqrnljhfdcba";
+	/**
+	 * size, land types, tokens and harbors of the board
+	 */
+	private final BoardConfiguration configuration;
+	/**
+	 * the source of randomness for the layout of the land types and harbors
+	 */
+	private final Random random;
 	/**
 	 * ArrayList of hexagons
 	 */
@@ -74,15 +96,6 @@ public class BoardInitialization {
 	 * in the hex
 	 */
 	private ArrayList<Point> vectorC;
-	/**
-	 * y position of corner in axial coordinates, starting with 0
-	 */
-
-	private int yPosAxialCorner = 0;
-	/**
-	 * x position of corner in axial coordinates, starting with 0
-	 */
-	private int xPosAxialCorner = 0;
 	/**
 	 * associates a vector to position of a corner in a hex
 	 */
@@ -92,13 +105,15 @@ public class BoardInitialization {
 	 */
 	private Map<EdgePosition, Point> edge_direction = new HashMap<>();
 	/**
-	 * x position of edge in axial coordinates, starting with 0
+	 * the index of each corner in the list of corners, by the key of its position
+	 * on the lattice of all corners
 	 */
-	private int xPosAxialEdge;
+	private Map<Integer, Integer> cornerIndexes = new HashMap<>();
 	/**
-	 * y position of edge in axial coordinates, starting with 0
+	 * the index of each edge in the list of edges, by the key of its position on
+	 * the lattice of all edges
 	 */
-	private int yPosAxialEdge;
+	private Map<Integer, Integer> edgeIndexes = new HashMap<>();
 
 	/**
 	 * list of harbors on the coast tiles
@@ -106,10 +121,37 @@ public class BoardInitialization {
 	private ArrayList<Harbor> harbors = new ArrayList<>();
 
 	/**
-	 * BoardInitialization
+	 * BoardInitialization of the standard board
 	 * 
 	 */
 	public BoardInitialization() {
+		this(BoardConfiguration.STANDARD);
+	}
+
+	/**
+	 * BoardInitialization of a board with the given size, land types, tokens
+	 * and harbors
+	 * 
+	 * @param configuration
+	 *            the {@link BoardConfiguration} of the board
+	 */
+	public BoardInitialization(BoardConfiguration configuration) {
+		this(configuration, new Random());
+	}
+
+	/**
+	 * BoardInitialization of a board with the given size, land types, tokens
+	 * and harbors, which are laid out by the given source of randomness, e.g. a
+	 * seeded one to replay a game
+	 * 
+	 * @param configuration
+	 *            the {@link BoardConfiguration} of the board
+	 * @param random
+	 *            the source of randomness for the layout
+	 */
+	public BoardInitialization(BoardConfiguration configuration, Random random) {
+		this.configuration = configuration;
+		this.random = random;
 
 		typeList = createTypeList();
 		vector = createVector();
@@ -134,40 +176,44 @@ public class BoardInitialization {
 	 */
 	public ArrayList<Harbor> makeListOfHarbors() {
 
-		makeHarborList();
-		makeListOfCoasts();
+		List<Edge> coasts = findAllCoasts();
+		makeHarborList(coasts.size());
+		assignHarborsToCoasts(coasts);
 		return harbors;
 	}
 
 	/**
-	 * make a list of harbors 9 special one's and 21 others
+	 * make a list of harbors, one for every coast: the special ones of the
+	 * configuration and others of type NONE in between
 	 * 
+	 * @param numberOfCoasts
+	 *            the number of coasts
 	 * @return harbors ArrayList of harbors
 	 */
-	public ArrayList<Harbor> makeHarborList() {
+	public ArrayList<Harbor> makeHarborList(int numberOfCoasts) {
 
-		// Create 9 harbors in total.
-		for (HarborType type : HarborType.values()) {
-			if (type != HarborType.NONE) {
-				harbors.add(new Harbor(type));
+		// Create the harbors of the configuration.
+		List<Harbor> specialHarbors = new ArrayList<>();
+		for (Map.Entry<HarborType, Integer> entry : configuration.getHarbors().entrySet()) {
+			for (int j = 0; j < entry.getValue(); j++) {
+				specialHarbors.add(new Harbor(entry.getKey()));
 			}
 		}
-		for (int j = 0; j < 3; j++) {
-			harbors.add(new Harbor(HarborType.UNIVERSAL));
-		}
 
 		// Shuffle the harbors.
-		Collections.shuffle(harbors);
+		Collections.shuffle(specialHarbors, random);
 
-		// Space out the harbors so that no two harbors are next to each other.
-		for (int i = 9; i >= 0; i--) {
-			harbors.add(i, new Harbor(HarborType.NONE));
-			harbors.add(i, new Harbor(HarborType.NONE));
+		// Space out the harbors evenly so that no two harbors are next to each
+		// other.
+		for (int i = 0; i < numberOfCoasts; i++) {
+			harbors.add(new Harbor(HarborType.NONE));
+		}
+		for (int i = 0; i < specialHarbors.size(); i++) {
+			harbors.set(i * numberOfCoasts / specialHarbors.size(), specialHarbors.get(i));
 		}
-		harbors.add(15, new Harbor(HarborType.NONE));
 
 		// Rotate the list of harbors so it starts with a random harbor.
-		int randomRotation = new Random().nextInt(harbors.size());
+		int randomRotation = random.nextInt(harbors.size());
 		Collections.rotate(harbors, randomRotation);
 
 		return harbors;
@@ -275,29 +321,17 @@ public class BoardInitialization {
 	 */
 	public ArrayList<HexType> createTypeList() {
 
-		// land types 4 times available
-		for (int i = 0; i <= 3; i++) {
-			type = HexType.FOREST;
-			typeList.add(type);
-			type = HexType.FIELDS;
-			typeList.add(type);
-			type = HexType.PASTURE;
-			typeList.add(type);
-		}
-
-		// land types 3 times available
-		for (int i = 0; i <= 2; i++) {
-			type = HexType.HILLS;
-			typeList.add(type);
-			type = HexType.MOUNTAIN;
-			typeList.add(type);
+		// land types as often as available in the configuration
+		for (Map.Entry<HexType, Integer> landType : configuration.getLandTypes().entrySet()) {
+			type = landType.getKey();
+			for (int i = 0; i < landType.getValue(); i++) {
+				typeList.add(type);
+			}
 		}
-		// Collections.shuffle(typeList); the desert will always be in the middle
-		type = HexType.DESERT;
-		typeList.add(0, type);
-		Collections.shuffle(typeList);// Desert will be somewhere
+		Collections.shuffle(typeList, random);// Desert will be somewhere
 
-		for (int i = 0; i <= 17; i++) {
+		// the outermost circle is water
+		for (int i = configuration.getNumberOfLandHexes(); i < configuration.getNumberOfHexes(); i++) {
 			type = HexType.WATER;
 			typeList.add(type);
 
@@ -327,7 +361,7 @@ public class BoardInitialization {
 		// first step to an outer ring: TOP_LEFT, no hex made
 		// going in a spiral around the inner ring
 
-		for (int i = 1; i <= Board.NUMBER_OF_CIRCLES; i++) {
+		for (int i = 1; i <= configuration.getNumberOfCircles(); i++) {
 
 			xPosAxialHex += hex_direction.get(HexPosition.TOP_LEFT).x;
 			yPosAxialHex += hex_direction.get(HexPosition.TOP_LEFT).y;
@@ -421,7 +455,8 @@ public class BoardInitialization {
 
 	/**
 	 * makes 6 corners for each hexagon axial coordinates different from those of
-	 * hexes!! Remove doubles.
+	 * hexes!! Every corner is created only once, when it is reached from the first
+	 * hexagon it belongs to.
 	 * 
 	 * @see #makeAdjListCornersOfHex()
 	 * @see #makeAdjListHexOfCorner()
@@ -431,18 +466,21 @@ public class BoardInitialization {
 	 */
 	public ArrayList<Corner> makeListOfCorners() {
 
-		for (int i = 0; i < hexes.size(); i++) {
-			if (hexes.get(i).getType() != HexType.WATER) {
-				for (CornerPosition cornerPosition : CornerPosition.values()) {
-					xPosAxialCorner = corner_direction.get(cornerPosition).x;
-					yPosAxialCorner = corner_direction.get(cornerPosition).y;
-					Corner corner = new Corner(hexes.get(i).getxPosCartesianHex(), hexes.get(i).getyPosCartesianHex(),
-							xPosAxialCorner, yPosAxialCorner);
-
-					corners.add(corner);
+		for (Hex hex : hexes) {
+			if (hex.getType() != HexType.WATER) {
+				for (CornerPosition cornerPosition : CORNER_POSITIONS) {
+					int key = latticeKey(cornerX(hex, cornerPosition), cornerY(hex, cornerPosition));
+
+					if (!cornerIndexes.containsKey(key)) {
+						Point direction = corner_direction.get(cornerPosition);
+						Corner corner = new Corner(hex.getxPosCartesianHex(), hex.getyPosCartesianHex(), direction.x,
+								direction.y);
+
+						cornerIndexes.put(key, corners.size());
+						corners.add(corner);
+					}
 				}
 			}
-
 		}
 
 		makeAdjListHexOfCorner();
@@ -452,7 +490,8 @@ public class BoardInitialization {
 	}
 
 	/**
-	 * make 6 edges for each hexagon
+	 * make 6 edges for each hexagon, every edge is created only once, when it is
+	 * reached from the first hexagon it belongs to
 	 * 
 	 * @see #makeAdjListHexesOfEdge()
 	 * @see #makeAdjListCornersOfEdge()
@@ -463,21 +502,19 @@ public class BoardInitialization {
 	 * @return edges
 	 */
 	public ArrayList<Edge> makeListOfEdges() {
-		for (int i = 0; i < hexes.size(); i++) {
+		for (Hex hex : hexes) {
+			if (hex.getType() != HexType.WATER) {
+				for (EdgePosition edgePosition : EDGE_POSITIONS) {
+					int key = latticeKey(edgeX(hex, edgePosition), edgeY(hex, edgePosition));
 
-			if (hexes.get(i).getType() != HexType.WATER) {
-				for (EdgePosition edgePosition : EdgePosition.values()) {
-					// xPosAxialEdge = hex_direction.get(hexPosition).x;
-					// yPosAxialEdge = hex_direction.get(hexPosition).y;
-					xPosAxialEdge = edge_direction.get(edgePosition).x;
-					yPosAxialEdge = edge_direction.get(edgePosition).y;
-					Edge edge = new Edge(hexes.get(i).getxPosCartesianHex(), hexes.get(i).getyPosCartesianHex(),
-							xPosAxialEdge, yPosAxialEdge, edgePosition);
-					// System.out.println("i "+i+" x "+edge.getxPosAxialEdge()+"
-					// "+edge.getxPosCartesianEdge()+" y "+edge.getyPosAxialEdge()+"
-					// "+edge.getyPosCartesianEdge());
-					edges.add(edge);
+					if (!edgeIndexes.containsKey(key)) {
+						Point direction = edge_direction.get(edgePosition);
+						Edge edge = new Edge(hex.getxPosCartesianHex(), hex.getyPosCartesianHex(), direction.x,
+								direction.y, edgePosition);
 
+						edgeIndexes.put(key, edges.size());
+						edges.add(edge);
+					}
 				}
 			}
 		}
@@ -503,15 +540,18 @@ public class BoardInitialization {
 	 * Method to find all adjacent hexes
 	 */
 	public void makeHexNeighbor() {
-		for (int i = 0; i < hexes.size(); i++) {
+		Map<Integer, Hex> hexesByCoordinates = new HashMap<>();
+		for (Hex hex : hexes) {
+			hexesByCoordinates.put(latticeKey(hex.getxPosAxialHex(), hex.getyPosAxialHex()), hex);
+		}
+
+		for (Hex hex : hexes) {
 			for (HexPosition hp : HexPosition.values()) {
-				for (int j = 0; j < hexes.size(); j++) {
-					if (hexes.get(i).getxPosAxialHex() + hex_direction.get(hp).x == hexes.get(j).getxPosAxialHex()
-							&& hexes.get(i).getyPosAxialHex() + hex_direction.get(hp).y == hexes.get(j)
-									.getyPosAxialHex()) {
+				Hex neighbor = hexesByCoordinates.get(latticeKey(hex.getxPosAxialHex() + hex_direction.get(hp).x,
+						hex.getyPosAxialHex() + hex_direction.get(hp).y));
 
-						hexes.get(i).createHexNeighbor(hp, hexes.get(j));
-					}
+				if (neighbor != null) {
+					hex.createHexNeighbor(hp, neighbor);
 				}
 			}
 		}
@@ -519,296 +559,318 @@ public class BoardInitialization {
 	}
 
 	/**
-	 * make list of adjacent hexes for each corner all those hexes with distance of
-	 * center to corner equal or smaller than Board.RADIUS
-	 * 
-	 * filter cornerList remove all those with same localities determine string
-	 * representation of corner position
+	 * make list of adjacent hexes for each corner, i.e. all those hexes, one of
+	 * whose corners is this corner. determine string representation of corner
+	 * position
 	 */
 	public void makeAdjListHexOfCorner() {
 
-		for (int i = 0; i < corners.size(); i++) {
-			for (int j = 0; j < hexes.size(); j++) {
-				if ((corners.get(i).getxPosCartesianCorner() - Board.RADIUS <= hexes.get(j).getxPosCartesianHex()
-						&& corners.get(i).getxPosCartesianCorner() + Board.RADIUS >= hexes.get(j).getxPosCartesianHex())
-						&& (corners.get(i).getyPosCartesianCorner() - Board.RADIUS <= hexes.get(j).getyPosCartesianHex()
-								&& corners.get(i).getyPosCartesianCorner() + Board.RADIUS >= hexes.get(j)
-										.getyPosCartesianHex())) {
-
-					corners.get(i).getAdjacentHexesOfCorner().add(hexes.get(j));
+		for (Hex hex : hexes) {
+			for (CornerPosition cornerPosition : CORNER_POSITIONS) {
+				Integer index = cornerIndexes.get(latticeKey(cornerX(hex, cornerPosition), cornerY(hex, cornerPosition)));
 
+				if (index != null) {
+					corners.get(index).getAdjacentHexesOfCorner().add(hex);
 				}
 			}
-
 		}
 
-		for (int i = 0; i < corners.size(); i++) {
-			ArrayList<String> liste1 = new ArrayList<String>();
-			for (int k = 0; k < 3; k++) {
-				liste1.add(corners.get(i).getAdjacentHexesOfCorner().get(k).getLocality());
-			}
-			Collections.sort(liste1);
-
-			for (int j = 0; j < corners.size(); j++) {
-
-				if (i != j) {
-					ArrayList<String> liste2 = new ArrayList<String>();
-					for (int k = 0; k < 3; k++) {
-						liste2.add(corners.get(j).getAdjacentHexesOfCorner().get(k).getLocality());
-					}
-					Collections.sort(liste2);
-
-					if (liste1.equals(liste2)) {
-						corners.remove(corners.get(j));
-					}
-				}
-
-			}
-		}
 		/**
 		 * String representation of corner position
 		 */
-		for (int i = 0; i < corners.size(); i++) {
-			String s = "";
-			for (int k = 0; k < 3; k++) {
-				s = s + (corners.get(i).getAdjacentHexesOfCorner().get(k).getLocality());
-
+		for (Corner corner : corners) {
+			StringBuilder s = new StringBuilder();
+			for (Hex hex : corner.getAdjacentHexesOfCorner()) {
+				s.append(hex.getLocality());
 			}
-			corners.get(i).setCornerLocality(s);
+			corner.setCornerLocality(s.toString());
 		}
 
 	}
 
 	/**
-	 * make list of all {@code Hex} connecting to an edge filter edges list remove
-	 * all those with same localities determine the string representation of edge
-	 * position
+	 * make list of all {@code Hex} connecting to an edge, i.e. all those hexes,
+	 * one of whose edges is this edge. determine the string representation of
+	 * edge position
 	 */
 	public void makeAdjListHexesOfEdge() {
-		for (int i = 0; i < edges.size(); i++) {
-			for (int j = 0; j < hexes.size(); j++) {
-				if ((edges.get(i).getxPosCartesianEdge() - Board.RADIUS <= hexes.get(j).getxPosCartesianHex()
-						&& edges.get(i).getxPosCartesianEdge() + Board.RADIUS >= hexes.get(j).getxPosCartesianHex())
-						&& (edges.get(i).getyPosCartesianEdge() - Board.RADIUS <= hexes.get(j).getyPosCartesianHex()
-								&& edges.get(i).getyPosCartesianEdge() + Board.RADIUS >= hexes.get(j)
-										.getyPosCartesianHex())) {
-
-					edges.get(i).getAdjacentHexesOfEdge().add(hexes.get(j));
+		for (Hex hex : hexes) {
+			for (EdgePosition edgePosition : EDGE_POSITIONS) {
+				Integer index = edgeIndexes.get(latticeKey(edgeX(hex, edgePosition), edgeY(hex, edgePosition)));
 
+				if (index != null) {
+					edges.get(index).getAdjacentHexesOfEdge().add(hex);
 				}
-
 			}
-			// edges.get(i).makeMapAdjHexes();
 		}
 
-		for (int i = 0; i < edges.size(); i++) {
-			ArrayList<String> liste1 = new ArrayList<String>();
-			for (int k = 0; k < 2; k++) {
-				liste1.add(edges.get(i).getAdjacentHexesOfEdge().get(k).getLocality());
-			}
-			Collections.sort(liste1);
-
-			for (int j = 0; j < edges.size(); j++) {
-
-				if (i != j) {
-					ArrayList<String> liste2 = new ArrayList<String>();
-					for (int k = 0; k < 2; k++) {
-						liste2.add(edges.get(j).getAdjacentHexesOfEdge().get(k).getLocality());
-					}
-					Collections.sort(liste2);
-					//
-
-					if (liste1.equals(liste2)) {
-
-						edges.remove(edges.get(j));
-					}
-
-				}
-
-			}
-
-		}
 		/**
 		 * String representation of Edges position
 		 */
-		for (int i = 0; i < edges.size(); i++) {
-			String s = "";
-			for (int k = 0; k < 2; k++) {
-				s = s + (edges.get(i).getAdjacentHexesOfEdge().get(k).getLocality());
-
+		for (Edge edge : edges) {
+			StringBuilder s = new StringBuilder();
+			for (Hex hex : edge.getAdjacentHexesOfEdge()) {
+				s.append(hex.getLocality());
 			}
-			edges.get(i).setEdgeStringPosition(s);
+			edge.setEdgeStringPosition(s.toString());
 		}
 
 	}
 
 	/**
-	 * make list of adjacent corners for each edge maximum distance corner from
-	 * edge's center Board.distance
+	 * make list of adjacent corners for each edge, the two corners between which
+	 * the edge runs along a side of a hex
 	 */
 
 	public void makeAdjListCornersOfEdge() {
-		for (int i = 0; i < edges.size(); i++) {
-			for (int j = 0; j < corners.size(); j++) {
-				if ((edges.get(i).getxPosCartesianEdge() - Board.DISTANCE <= corners.get(j).getxPosCartesianCorner()
-						&& edges.get(i).getxPosCartesianEdge() + Board.DISTANCE >= corners.get(j)
-								.getxPosCartesianCorner())
-						&& (edges.get(i).getyPosCartesianEdge() - Board.DISTANCE <= corners.get(j)
-								.getyPosCartesianCorner()
-								&& edges.get(i).getyPosCartesianEdge() + Board.DISTANCE >= corners.get(j)
-										.getyPosCartesianCorner())) {
-					edges.get(i).getAdjacentCornersOfEdge().add(corners.get(j));
+		int[][] cornersOfEdge = new int[edges.size()][];
 
+		for (Hex hex : hexes) {
+			for (int k = 0; k < CORNER_POSITIONS.length; k++) {
+				CornerPosition first = CORNER_POSITIONS[k];
+				CornerPosition second = CORNER_POSITIONS[(k + 1) % CORNER_POSITIONS.length];
+
+				// The center of an edge lies halfway between its corners.
+				Integer edge = edgeIndexes.get(latticeKey(cornerX(hex, first) + cornerX(hex, second),
+						cornerY(hex, first) + cornerY(hex, second)));
+
+				if (edge != null && cornersOfEdge[edge] == null) {
+					int corner1 = cornerIndexes.get(latticeKey(cornerX(hex, first), cornerY(hex, first)));
+					int corner2 = cornerIndexes.get(latticeKey(cornerX(hex, second), cornerY(hex, second)));
+					cornersOfEdge[edge] = new int[] { Math.min(corner1, corner2), Math.max(corner1, corner2) };
 				}
-
 			}
+		}
 
+		for (int i = 0; i < edges.size(); i++) {
+			for (int corner : cornersOfEdge[i]) {
+				edges.get(i).getAdjacentCornersOfEdge().add(corners.get(corner));
+			}
 		}
 	}
 
 	/**
-	 * make list of adjacent corners for each hex distance {@code board.RADIUS}
+	 * make list of adjacent corners for each hex
 	 */
 	public void makeAdjListCornersOfHex() {
-		for (int i = 0; i < hexes.size(); i++) {
-			if (hexes.get(i).getType() != HexType.WATER) {
-				for (int j = 0; j < corners.size(); j++) {
-					if (((hexes.get(i).getxPosCartesianHex() - Board.RADIUS <= corners.get(j).getxPosCartesianCorner())
-							&& (hexes.get(i).getxPosCartesianHex() + Board.RADIUS >= corners.get(j)
-									.getxPosCartesianCorner()))
-							&& ((hexes.get(i).getyPosCartesianHex() - Board.RADIUS <= corners.get(j)
-									.getyPosCartesianCorner())
-									&& (hexes.get(i).getyPosCartesianHex() + Board.RADIUS >= corners.get(j)
-											.getyPosCartesianCorner()))) {
-						hexes.get(i).getAdjCornersOfHex().add(corners.get(j));
-					}
+		for (Hex hex : hexes) {
+			if (hex.getType() != HexType.WATER) {
+				int[] indexes = new int[CORNER_POSITIONS.length];
+				for (int k = 0; k < CORNER_POSITIONS.length; k++) {
+					indexes[k] = cornerIndexes
+							.get(latticeKey(cornerX(hex, CORNER_POSITIONS[k]), cornerY(hex, CORNER_POSITIONS[k])));
+				}
+
+				Arrays.sort(indexes);
+				for (int index : indexes) {
+					hex.getAdjCornersOfHex().add(corners.get(index));
 				}
 			}
 		}
 	}
 
 	/**
-	 * make list of adjacent corners for each corner distance corner from corner
-	 * {@code #Board.RADIUS}
+	 * make list of adjacent corners for each corner, i.e. the corners next to it
+	 * on the sides of its hexes
 	 */
 	public void makeAdjListCornersOfCorner() {
+		List<List<Integer>> adjacentCorners = new ArrayList<>();
 		for (int i = 0; i < corners.size(); i++) {
-			for (int j = 0; j < corners.size(); j++) {
-				if ((corners.get(i).getxPosCartesianCorner() - Board.RADIUS <= corners.get(j).getxPosCartesianCorner()
-						&& corners.get(i).getxPosCartesianCorner() + Board.RADIUS >= corners.get(j)
-								.getxPosCartesianCorner())
-						&& (corners.get(i).getyPosCartesianCorner() - Board.RADIUS <= corners.get(j)
-								.getyPosCartesianCorner()
-								&& corners.get(i).getyPosCartesianCorner() + Board.RADIUS >= corners.get(j)
-										.getyPosCartesianCorner())
-						&& (i != j)) {
-					corners.get(i).getAdjacentCornersOfCorner().add(corners.get(j));
+			adjacentCorners.add(new ArrayList<>(3));
+		}
 
+		for (Hex hex : hexes) {
+			for (int k = 0; k < CORNER_POSITIONS.length; k++) {
+				CornerPosition first = CORNER_POSITIONS[k];
+				CornerPosition second = CORNER_POSITIONS[(k + 1) % CORNER_POSITIONS.length];
+				Integer corner1 = cornerIndexes.get(latticeKey(cornerX(hex, first), cornerY(hex, first)));
+				Integer corner2 = cornerIndexes.get(latticeKey(cornerX(hex, second), cornerY(hex, second)));
+
+				// Every side is shared by two hexes.
+				if (corner1 != null && corner2 != null && !adjacentCorners.get(corner1).contains(corner2)) {
+					adjacentCorners.get(corner1).add(corner2);
+					adjacentCorners.get(corner2).add(corner1);
 				}
-
 			}
+		}
 
+		for (int i = 0; i < corners.size(); i++) {
+			Collections.sort(adjacentCorners.get(i));
+			for (int corner : adjacentCorners.get(i)) {
+				corners.get(i).getAdjacentCornersOfCorner().add(corners.get(corner));
+			}
 		}
 	}
 
 	/**
-	 * make list of adjacent edges for each corner, distance edge'center from corner
-	 * {@code #Board.distance}
+	 * make list of adjacent edges for each corner, the edges which end at this
+	 * corner
 	 */
 	public void makeAdjListEdgesOfCorner() {
-		for (int i = 0; i < corners.size(); i++) {
-			for (int j = 0; j < edges.size(); j++) {
-				if ((corners.get(i).getxPosCartesianCorner() - Board.DISTANCE <= edges.get(j).getxPosCartesianEdge())
-						&& (corners.get(i).getxPosCartesianCorner() + Board.DISTANCE >= edges.get(j)
-								.getxPosCartesianEdge())
-						&& (corners.get(i).getyPosCartesianCorner() - Board.DISTANCE <= edges.get(j)
-								.getyPosCartesianEdge())
-						&& (corners.get(i).getyPosCartesianCorner() + Board.DISTANCE >= edges.get(j)
-								.getyPosCartesianEdge())) {
-					corners.get(i).getAdjacentEdgesOfCorner().add(edges.get(j));
-				}
+		for (Edge edge : edges) {
+			for (Corner corner : edge.getAdjacentCornersOfEdge()) {
+				corner.getAdjacentEdgesOfCorner().add(edge);
 			}
 		}
 	}
 
 	/**
-	 * make list of adjacent edges for each hex, distance edge'center to hex center
-	 * {@code #Board.RADIUS}
+	 * make list of adjacent edges for each hex
 	 */
 	public void makeAdjListEdgesOfHex() {
-		for (int i = 0; i < hexes.size(); i++) {
-			if (hexes.get(i).getType() != HexType.WATER) {
-				for (int j = 0; j < edges.size(); j++) {
-					if (((hexes.get(i).getxPosCartesianHex() - Board.RADIUS <= edges.get(j).getxPosCartesianEdge())
-							&& (hexes.get(i).getxPosCartesianHex() + Board.RADIUS >= edges.get(j)
-									.getxPosCartesianEdge()))
-							&& ((hexes.get(i).getyPosCartesianHex() - Board.RADIUS <= edges.get(j)
-									.getyPosCartesianEdge())
-									&& (hexes.get(i).getyPosCartesianHex() + Board.RADIUS >= edges.get(j)
-											.getyPosCartesianEdge()))) {
-						hexes.get(i).getAdjEdgesOfHex().add(edges.get(j));
-					}
+		for (Hex hex : hexes) {
+			if (hex.getType() != HexType.WATER) {
+				int[] indexes = new int[EDGE_POSITIONS.length];
+				for (int k = 0; k < EDGE_POSITIONS.length; k++) {
+					indexes[k] = edgeIndexes
+							.get(latticeKey(edgeX(hex, EDGE_POSITIONS[k]), edgeY(hex, EDGE_POSITIONS[k])));
+				}
+
+				Arrays.sort(indexes);
+				for (int index : indexes) {
+					hex.getAdjEdgesOfHex().add(edges.get(index));
 				}
 			}
 		}
 	}
 
 	/**
-	 * make list of adjacent edges for each edge, distance edge'center to hex center
-	 * {@code #Board.RADIUS}
+	 * make list of adjacent edges for each edge, i.e. the edge itself and all
+	 * edges sharing a corner with it
 	 */
 	public void makeAdjListEdgesOfEdge() {
+		Map<Edge, Integer> edgeNumbers = new HashMap<>();
 		for (int i = 0; i < edges.size(); i++) {
-			for (int j = 0; j < edges.size(); j++) {
-				if ((edges.get(i).getxPosCartesianEdge() - Board.RADIUS <= edges.get(j).getxPosCartesianEdge()
-						&& edges.get(i).getxPosCartesianEdge() + Board.RADIUS >= edges.get(j).getxPosCartesianEdge())
-						&& (edges.get(i).getyPosCartesianEdge() - Board.RADIUS <= edges.get(j).getyPosCartesianEdge()
-								&& edges.get(i).getyPosCartesianEdge() + Board.RADIUS >= edges.get(j)
-										.getyPosCartesianEdge())) {
-					edges.get(i).getAdjacentEdgesOfEdge().add(edges.get(j));
+			edgeNumbers.put(edges.get(i), i);
+		}
 
-				}
+		for (int i = 0; i < edges.size(); i++) {
+			List<Integer> adjacentEdges = new ArrayList<>();
+			adjacentEdges.add(i);
 
+			for (Corner corner : edges.get(i).getAdjacentCornersOfEdge()) {
+				for (Edge edge : corner.getAdjacentEdgesOfCorner()) {
+					if (!adjacentEdges.contains(edgeNumbers.get(edge))) {
+						adjacentEdges.add(edgeNumbers.get(edge));
+					}
+				}
 			}
 
+			Collections.sort(adjacentEdges);
+			for (int edge : adjacentEdges) {
+				edges.get(i).getAdjacentEdgesOfEdge().add(edges.get(edge));
+			}
 		}
 	}
 
+	/**
+	 * Returns the x-coordinate of a corner on the lattice of all corners. The
+	 * lattice has a spacing of {@code Board.DISTANCE} in x-direction and
+	 * {@code Board.RADIUS / 2} in y-direction, so that every corner has exact
+	 * integer coordinates.
+	 * 
+	 * @param hex
+	 *            the {@link Hex} the corner belongs to.
+	 * @param cornerPosition
+	 *            the position of the corner in the hex.
+	 * @return the x-coordinate.
+	 */
+	private int cornerX(Hex hex, CornerPosition cornerPosition) {
+		Point direction = corner_direction.get(cornerPosition);
+		return 2 * hex.getxPosAxialHex() - hex.getyPosAxialHex() + direction.x + direction.y;
+	}
+
+	/**
+	 * Returns the y-coordinate of a corner on the lattice of all corners.
+	 * 
+	 * @param hex
+	 *            the {@link Hex} the corner belongs to.
+	 * @param cornerPosition
+	 *            the position of the corner in the hex.
+	 * @return the y-coordinate.
+	 * @see #cornerX(Hex, CornerPosition)
+	 */
+	private int cornerY(Hex hex, CornerPosition cornerPosition) {
+		Point direction = corner_direction.get(cornerPosition);
+		return -3 * hex.getyPosAxialHex() + direction.x - direction.y;
+	}
+
+	/**
+	 * Returns the x-coordinate of the center of an edge on the lattice of all
+	 * edges. The lattice has half the spacing of the lattice of all corners, so
+	 * that the center of an edge is the sum of the coordinates of its corners.
+	 * 
+	 * @param hex
+	 *            the {@link Hex} the edge belongs to.
+	 * @param edgePosition
+	 *            the position of the edge in the hex.
+	 * @return the x-coordinate.
+	 * @see #cornerX(Hex, CornerPosition)
+	 */
+	private int edgeX(Hex hex, EdgePosition edgePosition) {
+		Point direction = edge_direction.get(edgePosition);
+		return 2 * (2 * hex.getxPosAxialHex() - hex.getyPosAxialHex()) + 2 * direction.x - direction.y;
+	}
+
+	/**
+	 * Returns the y-coordinate of the center of an edge on the lattice of all
+	 * edges.
+	 * 
+	 * @param hex
+	 *            the {@link Hex} the edge belongs to.
+	 * @param edgePosition
+	 *            the position of the edge in the hex.
+	 * @return the y-coordinate.
+	 * @see #edgeX(Hex, EdgePosition)
+	 */
+	private int edgeY(Hex hex, EdgePosition edgePosition) {
+		Point direction = edge_direction.get(edgePosition);
+		return -6 * hex.getyPosAxialHex() - 3 * direction.y;
+	}
+
+	/**
+	 * Combines two coordinates on a lattice into a single key.
+	 * 
+	 * @param x
+	 *            the x-coordinate.
+	 * @param y
+	 *            the y-coordinate.
+	 * @return the key.
+	 */
+	private static int latticeKey(int x, int y) {
+		return x << 16 | (y & 0xFFFF);
+	}
+
 	/**
 	 * assigning characters to the landscapes according the customers wishes String
-	 * representation of {@code Hex}
+	 * representation of {@code Hex}: upper case letters for land, starting with
+	 * the last letter in the middle, lower case letters for water. Boards larger
+	 * than the standard board continue with the letters after the alphabet.
 	 */
 	public void makeLocality() {
 		ArrayList<String> location3 = new ArrayList<String>();
 		ArrayList<String> location2 = new ArrayList<String>();
 
-		for (int i = 0; i < 19; i++) {
-			char c = (char) (i + 65);
-			String s = "" + c;
-			location3.add(s);
-			Comparator<String> comparator = Collections.reverseOrder();
-			Collections.sort(location3, comparator);
+		char c = 'A';
+		for (int i = 0; i < configuration.getNumberOfLandHexes(); i++) {
+			c = nextLetter(c, true);
+			location3.add("" + c);
+			c++;
 		}
+		Collections.reverse(location3);
 
-		for (int j = 0; j < 10; j += 2) {
-			char c = (char) (j + 101);
-			String s = "" + c;
-			location2.add(s);
-		}
-		for (int j = 0; j < 4; j++) {
-			char c = (char) (j + 111);
-			String s = "" + c;
-			location2.add(s);
-		}
-		for (int j = 10; j > 0; j -= 2) {
-			char c = (char) (j + 100);
-			String s = "" + c;
-			location2.add(s);
-		}
-		for (int j = 4; j > 0; j--) {
-			char c = (char) (j + 96);
-			String s = "" + c;
-			location2.add(s);
+		int numberOfWaterHexes = configuration.getNumberOfHexes() - configuration.getNumberOfLandHexes();
+		if (numberOfWaterHexes == STANDARD_WATER_LOCALITIES.length()) {
+			for (int j = 0; j < numberOfWaterHexes; j++) {
+				location2.add("" + STANDARD_WATER_LOCALITIES.charAt(j));
+			}
+		} else {
+			c = 'a';
+			for (int j = 0; j < numberOfWaterHexes; j++) {
+				c = nextLetter(c, false);
+				location2.add("" + c);
+				c++;
+			}
 		}
 		ArrayList<String> location = new ArrayList<String>(location3);
 		location.addAll(location2);
@@ -821,27 +883,33 @@ public class BoardInitialization {
 	}
 
 	/**
-	 * list of all edges bordering on WATER the only places for harbors distributing
-	 * the harbors randomly
+	 * Returns the first letter from the given character on, which is an upper
+	 * or lower case letter.
 	 * 
-	 * @return coasts the list of coasts.
+	 * @param c
+	 *            the first character to check.
+	 * @param upperCase
+	 *            true, if an upper case letter is searched. false, if a lower
+	 *            case letter is searched.
+	 * @return the letter.
 	 */
-	private List<Edge> makeListOfCoasts() {
-		List<Edge> coasts = findAllCoasts();
-		assignHarborsToCoasts(coasts);
-
-		return coasts;
+	private static char nextLetter(char c, boolean upperCase) {
+		while (!Character.isLetter(c) || (upperCase ? !Character.isUpperCase(c) : !Character.isLowerCase(c))) {
+			c++;
+		}
+		return c;
 	}
 
 	/**
-	 * Assigns the {@code Harbors} to the coasts.
+	 * Assigns the {@code Harbors} to the coasts, walking along the coast from
+	 * one coast to the next.
 	 * 
 	 * @param coasts
 	 *            the coasts which the {@link Harbor Harbors} get assigned to.
 	 */
 	private void assignHarborsToCoasts(List<Edge> coasts) {
 		Edge coast = coasts.get(0);
-		List<Edge> visitedCoasts = new ArrayList<>();
+		Set<Edge> unvisitedCoasts = new HashSet<>(coasts);
 
 		for (int i = 0; i < harbors.size(); i++) {
 			// Assign the harbor to the coast and vice versa.
@@ -849,13 +917,13 @@ public class BoardInitialization {
 			harbors.get(i).setPosition(coast);
 
 			// Mark the coast as visited.
-			visitedCoasts.add(coast);
+			unvisitedCoasts.remove(coast);
 
 			// Find the unvisited, adjacent coast.
 			for (Edge neighbor : coast.getAdjacentEdgesOfEdge()) {
-				if (!visitedCoasts.contains(neighbor)) {
+				if (unvisitedCoasts.contains(neighbor)) {
 					coast = neighbor;
-					continue;
+					break;
 				}
 			}
 		}
@@ -894,12 +962,13 @@ public class BoardInitialization {
 	public ArrayList<Token> makeListOfTokens() {
 
 		ArrayList<Token> tokens = new ArrayList<>();
-		// ArrayList<Integer> number = new ArrayList<>();
-		int index = getDesert();
-		/** List of numbers shown on the tokens */
-		Integer[] numbers = new Integer[] { 5, 2, 6, 3, 8, 10, 9, 12, 11, 4, 8, 10, 9, 4, 5, 6, 3, 11 };
-		List<Integer> number = new ArrayList<Integer>(Arrays.asList(numbers));
-		number.add(index, 0);
+		/** List of numbers shown on the tokens, 0 on the deserts */
+		List<Integer> number = new ArrayList<Integer>(configuration.getTokenNumbers());
+		for (int i = 0; i < configuration.getNumberOfLandHexes(); i++) {
+			if (hexes.get(i).getType() == HexType.DESERT) {
+				number.add(i, 0);
+			}
+		}
 
 		/**
 		 * assign numbers to characters
@@ -928,9 +997,9 @@ public class BoardInitialization {
 	 */
 	public int getDesert() {
 		int index = 0;
-		for (Hex hex : hexes) {
-			if (hex.getType().equals(HexType.DESERT)) {
-				index = hexes.indexOf(hex);
+		for (int i = 0; i < hexes.size(); i++) {
+			if (hexes.get(i).getType().equals(HexType.DESERT)) {
+				index = i;
 			}
 		}
 		return index;
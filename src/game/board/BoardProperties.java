@@ -0,0 +1,50 @@
+package game.board;
+
+import game.ModelProperties;
+import game.board.construction.Construction;
+import javafx.beans.property.ListProperty;
+
+/**
+ * Wraps a {@code Board} in JavaFX properties for the view of the board.
+ * @author Christoph Hermann
+ * @see Board
+ */
+public class BoardProperties extends ModelProperties {
+
+	/**
+	 * The name of the property of the constructions on the board.
+	 */
+	private static final String CONSTRUCTIONS = "constructions";
+
+	/**
+	 * The wrapped board.
+	 */
+	private final Board board;
+
+	/**
+	 * Creates a new adapter of the specified board.
+	 * @param board the {@link Board}.
+	 */
+	private BoardProperties(Board board) {
+		super(board);
+		this.board = board;
+	}
+
+	/**
+	 * Returns the adapter of the specified board, which is created when it is requested first.
+	 * @param board the {@link Board}.
+	 * @return the adapter.
+	 */
+	public static BoardProperties of(Board board) {
+		return board.getView(() -> new BoardProperties(board));
+	}
+
+	/**
+	 * Returns the property of the constructions on the board.
+	 * @return the {@link Construction Constructions} as a property.
+	 */
+	public ListProperty<Construction> constructionsProperty() {
+		return listProperty(CONSTRUCTIONS, board.getConstructions());
+	}
+
+}
@@ -0,0 +1,300 @@
+package game.board;
+
+import game.ZobristKeys;
+
+/**
+ * An immutable snapshot of the constructions on a board and the position of the robber. Applying a move to a state
+ * yields a new state, which shares all unchanged parts with the old one, so keeping the states of a search, an undo
+ * history or a replay costs little memory, and states can be evaluated by several threads at once.
+ * <p>
+ * The adjacency of the corners, edges and hexes is read from the {@code BoardTopology} the state was taken from, which
+ * does not change during a game. The state neither reads nor changes the constructions of the topology after it has
+ * been taken.
+ * @author Christoph Hermann
+ * @see BoardTopology
+ * @see Board#getState()
+ */
+public final class BoardState {
+
+	/**
+	 * The topology the state belongs to.
+	 */
+	private final BoardTopology topology;
+
+	/**
+	 * The id of the player owning the locality on every corner or {@link BoardTopology#NONE}.
+	 */
+	private final PersistentIntArray cornerOwners;
+
+	/**
+	 * The building on every corner, one of {@link BoardTopology#NO_BUILDING}, {@link BoardTopology#SETTLEMENT} and
+	 * {@link BoardTopology#CITY}.
+	 */
+	private final PersistentIntArray cornerBuildings;
+
+	/**
+	 * The id of the player owning the road on every edge or {@link BoardTopology#NONE}.
+	 */
+	private final PersistentIntArray edgeOwners;
+
+	/**
+	 * The id of the hex the robber is positioned on or {@link BoardTopology#NONE}.
+	 */
+	private final int robberHex;
+
+	/**
+	 * The Zobrist hash of the state, which equals the hash of a topology with the same constructions.
+	 */
+	private final long hash;
+
+	/**
+	 * Creates a new state.
+	 * @param topology the topology the state belongs to.
+	 * @param cornerOwners the owners of the localities.
+	 * @param cornerBuildings the buildings on the corners.
+	 * @param edgeOwners the owners of the roads.
+	 * @param robberHex the position of the robber.
+	 * @param hash the Zobrist hash of the state.
+	 */
+	private BoardState(BoardTopology topology, PersistentIntArray cornerOwners, PersistentIntArray cornerBuildings,
+			PersistentIntArray edgeOwners, int robberHex, long hash) {
+		this.topology = topology;
+		this.cornerOwners = cornerOwners;
+		this.cornerBuildings = cornerBuildings;
+		this.edgeOwners = edgeOwners;
+		this.robberHex = robberHex;
+		this.hash = hash;
+	}
+
+	/**
+	 * Takes a snapshot of the current constructions on a topology and the position of the robber.
+	 * @param topology the {@link BoardTopology}.
+	 * @return the state.
+	 */
+	public static BoardState of(BoardTopology topology) {
+		int[] owners = new int[topology.getNumberOfCorners()];
+		int[] buildings = new int[topology.getNumberOfCorners()];
+		for (int corner = 0; corner < owners.length; corner++) {
+			owners[corner] = topology.getCornerOwner(corner);
+			buildings[corner] = topology.getCornerBuilding(corner);
+		}
+
+		int[] roads = new int[topology.getNumberOfEdges()];
+		for (int edge = 0; edge < roads.length; edge++) {
+			roads[edge] = topology.getEdgeOwner(edge);
+		}
+
+		return new BoardState(topology, new PersistentIntArray(owners), new PersistentIntArray(buildings),
+				new PersistentIntArray(roads), topology.getProduction().getRobberHex(), topology.getHash());
+	}
+
+	/**
+	 * Returns the state after a player has built a settlement.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return the new state.
+	 * @throws IllegalArgumentException if the corner is occupied.
+	 */
+	public BoardState withSettlement(int playerId, int corner) {
+		if (isCornerOccupied(corner)) {
+			throw new IllegalArgumentException("Corner " + corner + " is occupied");
+		}
+		return new BoardState(topology, cornerOwners.with(corner, playerId),
+				cornerBuildings.with(corner, BoardTopology.SETTLEMENT), edgeOwners, robberHex,
+				hash ^ ZobristKeys.locality(corner, playerId, BoardTopology.SETTLEMENT));
+	}
+
+	/**
+	 * Returns the state after a player has upgraded a settlement to a city.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return the new state.
+	 * @throws IllegalArgumentException if there is no settlement of the player on the corner.
+	 */
+	public BoardState withCity(int playerId, int corner) {
+		if (!canBuildCity(playerId, corner)) {
+			throw new IllegalArgumentException("Corner " + corner + " has no settlement of player " + playerId);
+		}
+		return new BoardState(topology, cornerOwners, cornerBuildings.with(corner, BoardTopology.CITY), edgeOwners,
+				robberHex, hash ^ ZobristKeys.locality(corner, playerId, BoardTopology.SETTLEMENT)
+						^ ZobristKeys.locality(corner, playerId, BoardTopology.CITY));
+	}
+
+	/**
+	 * Returns the state after a player has built a road.
+	 * @param playerId the id of the player.
+	 * @param edge the id of the edge.
+	 * @return the new state.
+	 * @throws IllegalArgumentException if the edge is occupied.
+	 */
+	public BoardState withRoad(int playerId, int edge) {
+		if (isEdgeOccupied(edge)) {
+			throw new IllegalArgumentException("Edge " + edge + " is occupied");
+		}
+		return new BoardState(topology, cornerOwners, cornerBuildings, edgeOwners.with(edge, playerId), robberHex,
+				hash ^ ZobristKeys.road(edge, playerId));
+	}
+
+	/**
+	 * Returns the state after the robber has been moved.
+	 * @param hex the id of the new position of the robber.
+	 * @return the new state.
+	 */
+	public BoardState withRobber(int hex) {
+		if (hex == robberHex) {
+			return this;
+		}
+		return new BoardState(topology, cornerOwners, cornerBuildings, edgeOwners, hex,
+				hash ^ ZobristKeys.robber(robberHex) ^ ZobristKeys.robber(hex));
+	}
+
+	/**
+	 * Returns whether a player may build a settlement on a corner, which has to be connected to one of their roads.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return true, if the settlement is legal.
+	 * @see MoveGenerator#canBuildSettlement(int, int)
+	 */
+	public boolean canBuildSettlement(int playerId, int corner) {
+		if (!canBuildFreeSettlement(corner)) {
+			return false;
+		}
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int edge = topology.getEdgeOfCorner(corner, i);
+			if (edge != BoardTopology.NONE && getEdgeOwner(edge) == playerId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether a settlement may be built on a corner in the free building rounds, where no road is needed.
+	 * @param corner the id of the corner.
+	 * @return true, if the corner and all adjacent corners are empty.
+	 * @see MoveGenerator#canBuildFreeSettlement(int)
+	 */
+	public boolean canBuildFreeSettlement(int corner) {
+		if (isCornerOccupied(corner)) {
+			return false;
+		}
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int neighbor = topology.getCornerOfCorner(corner, i);
+			if (neighbor != BoardTopology.NONE && isCornerOccupied(neighbor)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether a player may upgrade the locality on a corner to a city.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return true, if there is a settlement of the player on the corner.
+	 * @see MoveGenerator#canBuildCity(int, int)
+	 */
+	public boolean canBuildCity(int playerId, int corner) {
+		return getCornerOwner(corner) == playerId && getCornerBuilding(corner) == BoardTopology.SETTLEMENT;
+	}
+
+	/**
+	 * Returns whether a player may build a road on an edge.
+	 * @param playerId the id of the player.
+	 * @param edge the id of the edge.
+	 * @return true, if the edge is empty and next to a road or a locality of the player.
+	 * @see MoveGenerator#canBuildRoad(int, int)
+	 */
+	public boolean canBuildRoad(int playerId, int edge) {
+		if (isEdgeOccupied(edge)) {
+			return false;
+		}
+		for (int i = 0; i < BoardTopology.ENDS_OF_EDGE; i++) {
+			int corner = topology.getCornerOfEdge(edge, i);
+			if (corner == BoardTopology.NONE) {
+				continue;
+			}
+			if (getCornerOwner(corner) == playerId) {
+				return true;
+			}
+			for (int j = 0; j < BoardTopology.NEIGHBORS_OF_CORNER; j++) {
+				int next = topology.getEdgeOfCorner(corner, j);
+				if (next != BoardTopology.NONE && getEdgeOwner(next) == playerId) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the topology the state belongs to, which knows the adjacency of the corners, edges and hexes.
+	 * @return the {@link BoardTopology}.
+	 */
+	public BoardTopology getTopology() {
+		return topology;
+	}
+
+	/**
+	 * Returns the building on a corner.
+	 * @param corner the id of the corner.
+	 * @return {@link BoardTopology#NO_BUILDING}, {@link BoardTopology#SETTLEMENT} or {@link BoardTopology#CITY}.
+	 */
+	public byte getCornerBuilding(int corner) {
+		return (byte) cornerBuildings.get(corner);
+	}
+
+	/**
+	 * Returns the owner of the locality on a corner.
+	 * @param corner the id of the corner.
+	 * @return the id of the player or {@link BoardTopology#NONE}.
+	 */
+	public int getCornerOwner(int corner) {
+		return cornerOwners.get(corner);
+	}
+
+	/**
+	 * Returns whether there is a locality on a corner.
+	 * @param corner the id of the corner.
+	 * @return true, if the corner is occupied.
+	 */
+	public boolean isCornerOccupied(int corner) {
+		return getCornerBuilding(corner) != BoardTopology.NO_BUILDING;
+	}
+
+	/**
+	 * Returns the owner of the road on an edge.
+	 * @param edge the id of the edge.
+	 * @return the id of the player or {@link BoardTopology#NONE}.
+	 */
+	public int getEdgeOwner(int edge) {
+		return edgeOwners.get(edge);
+	}
+
+	/**
+	 * Returns whether there is a road on an edge.
+	 * @param edge the id of the edge.
+	 * @return true, if the edge is occupied.
+	 */
+	public boolean isEdgeOccupied(int edge) {
+		return getEdgeOwner(edge) != BoardTopology.NONE;
+	}
+
+	/**
+	 * Returns the hex the robber is positioned on.
+	 * @return the id of the hex or {@link BoardTopology#NONE}.
+	 */
+	public int getRobberHex() {
+		return robberHex;
+	}
+
+	/**
+	 * Returns the Zobrist hash of this state, e.g. to look it up in a transposition table.
+	 * @return the hash.
+	 * @see ZobristKeys
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+}
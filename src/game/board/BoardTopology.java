@@ -0,0 +1,648 @@
+package game.board;
+
+import java.util.Arrays;
+import java.util.List;
+
+import game.ZobristKeys;
+import game.board.construction.Construction;
+import game.board.construction.localities.City;
+import game.board.construction.localities.Locality;
+import game.board.construction.roads.Road;
+import game.board.corners.Corner;
+import game.board.edges.Edge;
+import game.board.hexes.Hex;
+import game.board.hexes.HexType;
+
+/**
+ * Represents the topology of a {@code Board} as plain arrays. Every {@code Hex}, {@code Corner} and {@code Edge} has a
+ * dense id, which is its index in the lists of the board. The adjacency of hexes, corners and edges and the
+ * constructions built on them are stored in tables indexed by these ids, so that searches and legality checks run
+ * over a few compact arrays instead of lists and JavaFX properties. The objects of the board remain a view on top of
+ * this topology: building on a corner or an edge and changing the type or token of a hex updates the tables
+ * automatically.
+ * <p>
+ * Adjacency tables have a fixed number of slots per element. Unused slots at the end are filled with {@link #NONE}.
+ * @author Christoph Hermann
+ * @see Board
+ */
+public final class BoardTopology {
+
+	/**
+	 * The id of no hex, corner, edge or player.
+	 */
+	public static final int NONE = -1;
+
+	/**
+	 * The maximum number of corners and edges of a {@code Hex}.
+	 */
+	public static final int SIDES_OF_HEX = 6;
+
+	/**
+	 * The maximum number of hexes, edges and corners adjacent to a {@code Corner}.
+	 */
+	public static final int NEIGHBORS_OF_CORNER = 3;
+
+	/**
+	 * The maximum number of corners and hexes adjacent to an {@code Edge}.
+	 */
+	public static final int ENDS_OF_EDGE = 2;
+
+	/**
+	 * The building on a corner without a {@code Locality}.
+	 */
+	public static final byte NO_BUILDING = 0;
+
+	/**
+	 * The building on a corner with a {@code Settlement}.
+	 */
+	public static final byte SETTLEMENT = 1;
+
+	/**
+	 * The building on a corner with a {@code City}.
+	 */
+	public static final byte CITY = 2;
+
+	/**
+	 * All hex types, by their ordinal.
+	 */
+	private static final HexType[] HEX_TYPES = HexType.values();
+
+	/**
+	 * The hexes, by their id.
+	 */
+	private final Hex[] hexes;
+
+	/**
+	 * The corners, by their id.
+	 */
+	private final Corner[] corners;
+
+	/**
+	 * The edges, by their id.
+	 */
+	private final Edge[] edges;
+
+	/**
+	 * The ids of the corners of every hex.
+	 */
+	private final int[] cornersOfHex;
+
+	/**
+	 * The ids of the edges of every hex.
+	 */
+	private final int[] edgesOfHex;
+
+	/**
+	 * The ids of the hexes adjacent to every corner.
+	 */
+	private final int[] hexesOfCorner;
+
+	/**
+	 * The ids of the edges adjacent to every corner.
+	 */
+	private final int[] edgesOfCorner;
+
+	/**
+	 * The ids of the corners adjacent to every corner.
+	 */
+	private final int[] cornersOfCorner;
+
+	/**
+	 * The ids of the two corners of every edge.
+	 */
+	private final int[] cornersOfEdge;
+
+	/**
+	 * The ids of the hexes adjacent to every edge.
+	 */
+	private final int[] hexesOfEdge;
+
+	/**
+	 * The ordinal of the {@code HexType} of every hex.
+	 */
+	private final byte[] hexTypes;
+
+	/**
+	 * The number of the token on every hex or 0, if there is none.
+	 */
+	private final byte[] hexNumbers;
+
+	/**
+	 * The building on every corner, i.e. {@link #NO_BUILDING}, {@link #SETTLEMENT} or {@link #CITY}.
+	 */
+	private final byte[] cornerBuildings;
+
+	/**
+	 * The id of the player owning the locality on every corner or {@link #NONE}.
+	 */
+	private final int[] cornerOwners;
+
+	/**
+	 * The id of the player owning the road on every edge or {@link #NONE}.
+	 */
+	private final int[] edgeOwners;
+
+	/**
+	 * The dice numbers and the localities producing resources when they are rolled.
+	 */
+	private final ProductionIndex production;
+
+	/**
+	 * The corners and edges where every player may build.
+	 */
+	private final MoveGenerator moveGenerator;
+
+	/**
+	 * The shortest paths over empty corners and edges.
+	 */
+	private final PathFinder pathFinder;
+
+	/**
+	 * The number of changes of the constructions on the board.
+	 */
+	private int version;
+
+	/**
+	 * The Zobrist hash of the localities, the roads and the position of the robber.
+	 */
+	private long hash;
+
+	/**
+	 * Creates the topology of a board and attaches all hexes, corners and edges to it. The ids of the hexes have to be
+	 * set already.
+	 * @param hexes the {@link Hex Hexes} of the board, ordered by their id.
+	 * @param corners the {@link Corner Corners} of the board.
+	 * @param edges the {@link Edge Edges} of the board.
+	 */
+	public BoardTopology(List<Hex> hexes, List<Corner> corners, List<Edge> edges) {
+		this.hexes = hexes.toArray(new Hex[hexes.size()]);
+		this.corners = corners.toArray(new Corner[corners.size()]);
+		this.edges = edges.toArray(new Edge[edges.size()]);
+
+		// Attach the hexes and number the corners and edges.
+		for (Hex hex : this.hexes) {
+			hex.attach(this);
+		}
+		for (int i = 0; i < this.corners.length; i++) {
+			this.corners[i].attach(this, i);
+		}
+		for (int i = 0; i < this.edges.length; i++) {
+			this.edges[i].attach(this, i);
+		}
+
+		// Fill the adjacency tables.
+		cornersOfHex = newTable(this.hexes.length, SIDES_OF_HEX);
+		edgesOfHex = newTable(this.hexes.length, SIDES_OF_HEX);
+		hexTypes = new byte[this.hexes.length];
+		hexNumbers = new byte[this.hexes.length];
+		for (Hex hex : this.hexes) {
+			int id = hex.getHexID();
+			fillCorners(cornersOfHex, id, SIDES_OF_HEX, hex.getAdjCornersOfHex());
+			fillEdges(edgesOfHex, id, SIDES_OF_HEX, hex.getAdjEdgesOfHex());
+			updateHex(hex);
+		}
+
+		hexesOfCorner = newTable(this.corners.length, NEIGHBORS_OF_CORNER);
+		edgesOfCorner = newTable(this.corners.length, NEIGHBORS_OF_CORNER);
+		cornersOfCorner = newTable(this.corners.length, NEIGHBORS_OF_CORNER);
+		for (int i = 0; i < this.corners.length; i++) {
+			Corner corner = this.corners[i];
+			fillHexes(hexesOfCorner, i, NEIGHBORS_OF_CORNER, corner.getAdjacentHexesOfCorner());
+			fillEdges(edgesOfCorner, i, NEIGHBORS_OF_CORNER, corner.getAdjacentEdgesOfCorner());
+			fillCorners(cornersOfCorner, i, NEIGHBORS_OF_CORNER, corner.getAdjacentCornersOfCorner());
+		}
+
+		cornersOfEdge = newTable(this.edges.length, ENDS_OF_EDGE);
+		hexesOfEdge = newTable(this.edges.length, ENDS_OF_EDGE);
+		for (int i = 0; i < this.edges.length; i++) {
+			Edge edge = this.edges[i];
+			fillCorners(cornersOfEdge, i, ENDS_OF_EDGE, edge.getAdjacentCornersOfEdge());
+			fillHexes(hexesOfEdge, i, ENDS_OF_EDGE, edge.getAdjacentHexesOfEdge());
+		}
+
+		// Take over the constructions already built.
+		cornerBuildings = new byte[this.corners.length];
+		cornerOwners = new int[this.corners.length];
+		Arrays.fill(cornerOwners, NONE);
+		for (int i = 0; i < this.corners.length; i++) {
+			setLocality(i, this.corners[i].getLocality());
+		}
+
+		edgeOwners = new int[this.edges.length];
+		Arrays.fill(edgeOwners, NONE);
+		for (int i = 0; i < this.edges.length; i++) {
+			setRoad(i, this.edges[i].getRoad());
+		}
+
+		production = new ProductionIndex(this);
+		moveGenerator = new MoveGenerator(this);
+		pathFinder = new PathFinder(this);
+	}
+
+	/**
+	 * Creates a new adjacency table without any entries.
+	 * @param size the number of elements.
+	 * @param slots the number of slots per element.
+	 * @return the table.
+	 */
+	private static int[] newTable(int size, int slots) {
+		int[] table = new int[size * slots];
+		Arrays.fill(table, NONE);
+		return table;
+	}
+
+	/**
+	 * Enters adjacent hexes into a table.
+	 * @param table the table.
+	 * @param id the id of the element the hexes are adjacent to.
+	 * @param slots the number of slots per element.
+	 * @param adjacentHexes the adjacent {@link Hex Hexes}.
+	 */
+	private static void fillHexes(int[] table, int id, int slots, List<Hex> adjacentHexes) {
+		checkSlots(adjacentHexes, slots);
+		for (int i = 0; i < adjacentHexes.size(); i++) {
+			table[id * slots + i] = adjacentHexes.get(i).getHexID();
+		}
+	}
+
+	/**
+	 * Enters adjacent corners into a table.
+	 * @param table the table.
+	 * @param id the id of the element the corners are adjacent to.
+	 * @param slots the number of slots per element.
+	 * @param adjacentCorners the adjacent {@link Corner Corners}.
+	 */
+	private static void fillCorners(int[] table, int id, int slots, List<Corner> adjacentCorners) {
+		checkSlots(adjacentCorners, slots);
+		for (int i = 0; i < adjacentCorners.size(); i++) {
+			table[id * slots + i] = adjacentCorners.get(i).getCornerID();
+		}
+	}
+
+	/**
+	 * Enters adjacent edges into a table.
+	 * @param table the table.
+	 * @param id the id of the element the edges are adjacent to.
+	 * @param slots the number of slots per element.
+	 * @param adjacentEdges the adjacent {@link Edge Edges}.
+	 */
+	private static void fillEdges(int[] table, int id, int slots, List<Edge> adjacentEdges) {
+		checkSlots(adjacentEdges, slots);
+		for (int i = 0; i < adjacentEdges.size(); i++) {
+			table[id * slots + i] = adjacentEdges.get(i).getEdgeID();
+		}
+	}
+
+	/**
+	 * Checks that a list of adjacent elements fits into the slots of a table.
+	 * @param adjacentElements the adjacent elements.
+	 * @param slots the number of slots per element.
+	 */
+	private static void checkSlots(List<?> adjacentElements, int slots) {
+		if (adjacentElements.size() > slots) {
+			throw new IllegalArgumentException("Too many adjacent elements: " + adjacentElements.size());
+		}
+	}
+
+	/**
+	 * Updates the type and the number of a hex. Called by the hex, whenever its type or token changes, e.g. when a
+	 * client receives the board from the server.
+	 * @param hex the {@link Hex}.
+	 */
+	public void updateHex(Hex hex) {
+		int id = hex.getHexID();
+		int oldNumber = hexNumbers[id];
+		hexTypes[id] = (byte) hex.getType().ordinal();
+		hexNumbers[id] = (byte) (hex.getToken() == null ? 0 : hex.getToken().getNumber());
+
+		if (production != null) {
+			production.updateHex(id, oldNumber);
+		}
+	}
+
+	/**
+	 * Updates the building on a corner. Called by the corner, whenever its locality changes.
+	 * @param corner the id of the corner.
+	 * @param locality the new {@link Locality} or null, if the corner is empty.
+	 */
+	public void setLocality(int corner, Locality locality) {
+		hash ^= ZobristKeys.locality(corner, cornerOwners[corner], cornerBuildings[corner]);
+		if (locality == null) {
+			cornerBuildings[corner] = NO_BUILDING;
+		} else {
+			cornerBuildings[corner] = locality instanceof City ? CITY : SETTLEMENT;
+		}
+		cornerOwners[corner] = ownerOf(locality);
+		hash ^= ZobristKeys.locality(corner, cornerOwners[corner], cornerBuildings[corner]);
+		version++;
+
+		if (production != null) {
+			production.updateCorner(corner);
+		}
+		if (moveGenerator != null) {
+			moveGenerator.updateCorner(corner);
+		}
+	}
+
+	/**
+	 * Updates the road on an edge. Called by the edge, whenever its road changes.
+	 * @param edge the id of the edge.
+	 * @param road the new {@link Road} or null, if the edge is empty.
+	 */
+	public void setRoad(int edge, Road road) {
+		hash ^= ZobristKeys.road(edge, edgeOwners[edge]);
+		edgeOwners[edge] = ownerOf(road);
+		hash ^= ZobristKeys.road(edge, edgeOwners[edge]);
+		version++;
+
+		if (moveGenerator != null) {
+			moveGenerator.updateEdge(edge);
+		}
+	}
+
+	/**
+	 * Moves the robber, so that the hex it is positioned on produces nothing.
+	 * @param hex the id of the new position of the robber.
+	 */
+	public void moveRobber(int hex) {
+		hash ^= ZobristKeys.robber(production.getRobberHex()) ^ ZobristKeys.robber(hex);
+		production.moveRobber(hex);
+	}
+
+	/**
+	 * Returns the id of the owner of a construction.
+	 * @param construction the {@link Construction} or null.
+	 * @return the id of the owner or {@link #NONE}, if there is no construction or it has no owner.
+	 */
+	private static int ownerOf(Construction construction) {
+		if (construction == null || construction.getOwner() == null) {
+			return NONE;
+		}
+		return construction.getOwner().getId();
+	}
+
+	/**
+	 * Returns the index of the localities producing resources for every dice number.
+	 * @return the {@link ProductionIndex}.
+	 */
+	public ProductionIndex getProduction() {
+		return production;
+	}
+
+	/**
+	 * Returns the generator of the legal moves of every player.
+	 * @return the {@link MoveGenerator}.
+	 */
+	public MoveGenerator getMoveGenerator() {
+		return moveGenerator;
+	}
+
+	/**
+	 * Returns the finder of the shortest paths over empty corners and edges.
+	 * @return the {@link PathFinder}.
+	 */
+	public PathFinder getPathFinder() {
+		return pathFinder;
+	}
+
+	/**
+	 * Returns the version of the constructions on the board, which changes whenever a locality or a road changes.
+	 * @return the version.
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the Zobrist hash of the localities, the roads and the position of the robber, which is updated with
+	 * every change.
+	 * @return the hash.
+	 * @see ZobristKeys
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * Returns the number of hexes.
+	 * @return the number of hexes.
+	 */
+	public int getNumberOfHexes() {
+		return hexes.length;
+	}
+
+	/**
+	 * Returns the number of corners.
+	 * @return the number of corners.
+	 */
+	public int getNumberOfCorners() {
+		return corners.length;
+	}
+
+	/**
+	 * Returns the number of edges.
+	 * @return the number of edges.
+	 */
+	public int getNumberOfEdges() {
+		return edges.length;
+	}
+
+	/**
+	 * Returns the hex with the specified id.
+	 * @param hex the id of the hex.
+	 * @return the {@link Hex}.
+	 */
+	public Hex getHex(int hex) {
+		return hexes[hex];
+	}
+
+	/**
+	 * Returns the corner with the specified id.
+	 * @param corner the id of the corner.
+	 * @return the {@link Corner}.
+	 */
+	public Corner getCorner(int corner) {
+		return corners[corner];
+	}
+
+	/**
+	 * Returns the edge with the specified id.
+	 * @param edge the id of the edge.
+	 * @return the {@link Edge}.
+	 */
+	public Edge getEdge(int edge) {
+		return edges[edge];
+	}
+
+	/**
+	 * Returns whether a hex belongs to this topology.
+	 * @param hex the {@link Hex} or null.
+	 * @return true, if the hex is one of the hexes of the board.
+	 */
+	public boolean contains(Hex hex) {
+		return hex != null && isElement(hexes, hex.getHexID(), hex);
+	}
+
+	/**
+	 * Returns whether a corner belongs to this topology.
+	 * @param corner the {@link Corner} or null.
+	 * @return true, if the corner is one of the corners of the board.
+	 */
+	public boolean contains(Corner corner) {
+		return corner != null && isElement(corners, corner.getCornerID(), corner);
+	}
+
+	/**
+	 * Returns whether an edge belongs to this topology.
+	 * @param edge the {@link Edge} or null.
+	 * @return true, if the edge is one of the edges of the board.
+	 */
+	public boolean contains(Edge edge) {
+		return edge != null && isElement(edges, edge.getEdgeID(), edge);
+	}
+
+	/**
+	 * Returns whether an element is stored in an array at its id.
+	 * @param elements the hexes, corners or edges of this topology.
+	 * @param id the id of the element.
+	 * @param element the element.
+	 * @return true, if the id is valid and the element is stored there.
+	 */
+	private static boolean isElement(Object[] elements, int id, Object element) {
+		return id >= 0 && id < elements.length && elements[id] == element;
+	}
+
+	/**
+	 * Returns a corner of a hex.
+	 * @param hex the id of the hex.
+	 * @param index the index of the corner, less than {@link #SIDES_OF_HEX}.
+	 * @return the id of the corner or {@link #NONE}, if the hex has less corners.
+	 */
+	public int getCornerOfHex(int hex, int index) {
+		return cornersOfHex[hex * SIDES_OF_HEX + index];
+	}
+
+	/**
+	 * Returns an edge of a hex.
+	 * @param hex the id of the hex.
+	 * @param index the index of the edge, less than {@link #SIDES_OF_HEX}.
+	 * @return the id of the edge or {@link #NONE}, if the hex has less edges.
+	 */
+	public int getEdgeOfHex(int hex, int index) {
+		return edgesOfHex[hex * SIDES_OF_HEX + index];
+	}
+
+	/**
+	 * Returns a hex adjacent to a corner.
+	 * @param corner the id of the corner.
+	 * @param index the index of the hex, less than {@link #NEIGHBORS_OF_CORNER}.
+	 * @return the id of the hex or {@link #NONE}, if the corner has less adjacent hexes.
+	 */
+	public int getHexOfCorner(int corner, int index) {
+		return hexesOfCorner[corner * NEIGHBORS_OF_CORNER + index];
+	}
+
+	/**
+	 * Returns an edge adjacent to a corner.
+	 * @param corner the id of the corner.
+	 * @param index the index of the edge, less than {@link #NEIGHBORS_OF_CORNER}.
+	 * @return the id of the edge or {@link #NONE}, if the corner has less adjacent edges.
+	 */
+	public int getEdgeOfCorner(int corner, int index) {
+		return edgesOfCorner[corner * NEIGHBORS_OF_CORNER + index];
+	}
+
+	/**
+	 * Returns a corner adjacent to a corner.
+	 * @param corner the id of the corner.
+	 * @param index the index of the adjacent corner, less than {@link #NEIGHBORS_OF_CORNER}.
+	 * @return the id of the adjacent corner or {@link #NONE}, if the corner has less adjacent corners.
+	 */
+	public int getCornerOfCorner(int corner, int index) {
+		return cornersOfCorner[corner * NEIGHBORS_OF_CORNER + index];
+	}
+
+	/**
+	 * Returns a corner of an edge.
+	 * @param edge the id of the edge.
+	 * @param index the index of the corner, less than {@link #ENDS_OF_EDGE}.
+	 * @return the id of the corner or {@link #NONE}, if the edge has less corners.
+	 */
+	public int getCornerOfEdge(int edge, int index) {
+		return cornersOfEdge[edge * ENDS_OF_EDGE + index];
+	}
+
+	/**
+	 * Returns a hex adjacent to an edge.
+	 * @param edge the id of the edge.
+	 * @param index the index of the hex, less than {@link #ENDS_OF_EDGE}.
+	 * @return the id of the hex or {@link #NONE}, if the edge has less adjacent hexes.
+	 */
+	public int getHexOfEdge(int edge, int index) {
+		return hexesOfEdge[edge * ENDS_OF_EDGE + index];
+	}
+
+	/**
+	 * Returns the type of a hex.
+	 * @param hex the id of the hex.
+	 * @return the {@link HexType}.
+	 */
+	public HexType getHexType(int hex) {
+		return HEX_TYPES[hexTypes[hex]];
+	}
+
+	/**
+	 * Returns the number of the token on a hex.
+	 * @param hex the id of the hex.
+	 * @return the number or 0, if there is no token on the hex.
+	 */
+	public int getHexNumber(int hex) {
+		return hexNumbers[hex];
+	}
+
+	/**
+	 * Returns the building on a corner.
+	 * @param corner the id of the corner.
+	 * @return {@link #NO_BUILDING}, {@link #SETTLEMENT} or {@link #CITY}.
+	 */
+	public byte getCornerBuilding(int corner) {
+		return cornerBuildings[corner];
+	}
+
+	/**
+	 * Returns the owner of the locality on a corner.
+	 * @param corner the id of the corner.
+	 * @return the id of the player or {@link #NONE}, if there is no locality on the corner.
+	 */
+	public int getCornerOwner(int corner) {
+		return cornerOwners[corner];
+	}
+
+	/**
+	 * Returns whether a locality is built on a corner.
+	 * @param corner the id of the corner.
+	 * @return true, if the corner is occupied.
+	 */
+	public boolean isCornerOccupied(int corner) {
+		return cornerBuildings[corner] != NO_BUILDING;
+	}
+
+	/**
+	 * Returns the owner of the road on an edge.
+	 * @param edge the id of the edge.
+	 * @return the id of the player or {@link #NONE}, if there is no road on the edge.
+	 */
+	public int getEdgeOwner(int edge) {
+		return edgeOwners[edge];
+	}
+
+	/**
+	 * Returns whether a road is built on an edge.
+	 * @param edge the id of the edge.
+	 * @return true, if the edge is occupied.
+	 */
+	public boolean isEdgeOccupied(int edge) {
+		return edgeOwners[edge] != NONE;
+	}
+
+}
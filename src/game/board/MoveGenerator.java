@@ -0,0 +1,311 @@
+package game.board;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Knows for every player the corners and edges where they may build a settlement, a city or a road. The legal moves
+ * are kept in {@link BitSet BitSets} over the ids of the {@code BoardTopology}, which updates them whenever a locality
+ * or a road is built. Only the corners and edges around the construction are touched, so a query is a single bit
+ * lookup.
+ * <p>
+ * The rules are those of the server:
+ * <ul>
+ * <li>A settlement needs an empty corner without localities on the adjacent corners. Except in the free building
+ * rounds, one of the adjacent edges has to carry a road of the player.</li>
+ * <li>A city replaces a settlement of the player.</li>
+ * <li>A road needs an empty edge next to a road or a locality of the player.</li>
+ * </ul>
+ * @author Christoph Hermann
+ * @see BoardTopology
+ */
+public final class MoveGenerator {
+
+	/**
+	 * The legal moves of a single player.
+	 */
+	private static final class Moves {
+
+		/**
+		 * The corners where the player may build a settlement.
+		 */
+		private final BitSet settlementCorners = new BitSet();
+
+		/**
+		 * The corners where the player may build a city.
+		 */
+		private final BitSet cityCorners = new BitSet();
+
+		/**
+		 * The edges where the player may build a road.
+		 */
+		private final BitSet roadEdges = new BitSet();
+
+	}
+
+	/**
+	 * The topology the moves are made on.
+	 */
+	private final BoardTopology topology;
+
+	/**
+	 * The empty corners without localities on the adjacent corners.
+	 */
+	private final BitSet freeCorners = new BitSet();
+
+	/**
+	 * The legal moves of every player, by id.
+	 */
+	private final Map<Integer, Moves> moves = new HashMap<Integer, Moves>();
+
+	/**
+	 * Creates the move generator of a topology.
+	 * @param topology the {@link BoardTopology}.
+	 */
+	MoveGenerator(BoardTopology topology) {
+		this.topology = topology;
+		recalculate();
+	}
+
+	/**
+	 * Updates the moves around a corner. Called whenever a locality is built, upgraded or removed.
+	 * @param corner the id of the corner.
+	 */
+	void updateCorner(int corner) {
+		if (!topology.isCornerOccupied(corner)) {
+			// Removing a locality may free corners far away from the distance rule, so start over.
+			recalculate();
+			return;
+		}
+
+		// Neither the corner nor its neighbors can take a settlement anymore.
+		freeCorners.clear(corner);
+		for (Moves playerMoves : moves.values()) {
+			playerMoves.settlementCorners.clear(corner);
+			playerMoves.cityCorners.clear(corner);
+		}
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int neighbor = topology.getCornerOfCorner(corner, i);
+			if (neighbor != BoardTopology.NONE) {
+				freeCorners.clear(neighbor);
+				for (Moves playerMoves : moves.values()) {
+					playerMoves.settlementCorners.clear(neighbor);
+				}
+			}
+		}
+
+		addLocality(corner);
+	}
+
+	/**
+	 * Updates the moves around an edge. Called whenever a road is built or removed.
+	 * @param edge the id of the edge.
+	 */
+	void updateEdge(int edge) {
+		if (!topology.isEdgeOccupied(edge)) {
+			recalculate();
+			return;
+		}
+
+		for (Moves playerMoves : moves.values()) {
+			playerMoves.roadEdges.clear(edge);
+		}
+		addRoad(edge);
+	}
+
+	/**
+	 * Calculates all moves from scratch.
+	 */
+	private void recalculate() {
+		freeCorners.clear();
+		for (Moves playerMoves : moves.values()) {
+			playerMoves.settlementCorners.clear();
+			playerMoves.cityCorners.clear();
+			playerMoves.roadEdges.clear();
+		}
+
+		for (int corner = 0; corner < topology.getNumberOfCorners(); corner++) {
+			freeCorners.set(corner, isFree(corner));
+		}
+		for (int corner = 0; corner < topology.getNumberOfCorners(); corner++) {
+			if (topology.isCornerOccupied(corner)) {
+				addLocality(corner);
+			}
+		}
+		for (int edge = 0; edge < topology.getNumberOfEdges(); edge++) {
+			if (topology.isEdgeOccupied(edge)) {
+				addRoad(edge);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a corner and all adjacent corners are empty.
+	 * @param corner the id of the corner.
+	 * @return true, if the distance rule allows a settlement on the corner.
+	 */
+	private boolean isFree(int corner) {
+		if (topology.isCornerOccupied(corner)) {
+			return false;
+		}
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int neighbor = topology.getCornerOfCorner(corner, i);
+			if (neighbor != BoardTopology.NONE && topology.isCornerOccupied(neighbor)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the moves a locality opens to its owner: a city, if it is a settlement, and roads on the empty edges
+	 * around it.
+	 * @param corner the id of the corner of the locality.
+	 */
+	private void addLocality(int corner) {
+		int owner = topology.getCornerOwner(corner);
+		if (owner == BoardTopology.NONE) {
+			return;
+		}
+
+		Moves ownerMoves = movesOf(owner);
+		if (topology.getCornerBuilding(corner) == BoardTopology.SETTLEMENT) {
+			ownerMoves.cityCorners.set(corner);
+		}
+		addRoadEdges(ownerMoves, corner);
+	}
+
+	/**
+	 * Adds the moves a road opens to its owner: settlements on the free corners at its ends and roads on the empty
+	 * edges around them.
+	 * @param edge the id of the edge of the road.
+	 */
+	private void addRoad(int edge) {
+		int owner = topology.getEdgeOwner(edge);
+		if (owner == BoardTopology.NONE) {
+			return;
+		}
+
+		Moves ownerMoves = movesOf(owner);
+		for (int i = 0; i < BoardTopology.ENDS_OF_EDGE; i++) {
+			int corner = topology.getCornerOfEdge(edge, i);
+			if (corner == BoardTopology.NONE) {
+				continue;
+			}
+			if (freeCorners.get(corner)) {
+				ownerMoves.settlementCorners.set(corner);
+			}
+			addRoadEdges(ownerMoves, corner);
+		}
+	}
+
+	/**
+	 * Marks the empty edges at a corner as legal for a road.
+	 * @param playerMoves the moves of the player.
+	 * @param corner the id of the corner.
+	 */
+	private void addRoadEdges(Moves playerMoves, int corner) {
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int edge = topology.getEdgeOfCorner(corner, i);
+			if (edge != BoardTopology.NONE && !topology.isEdgeOccupied(edge)) {
+				playerMoves.roadEdges.set(edge);
+			}
+		}
+	}
+
+	/**
+	 * Returns the moves of a player, which are created, when the player is seen for the first time.
+	 * @param playerId the id of the player.
+	 * @return the moves.
+	 */
+	private Moves movesOf(int playerId) {
+		Moves playerMoves = moves.get(playerId);
+		if (playerMoves == null) {
+			playerMoves = new Moves();
+			moves.put(playerId, playerMoves);
+		}
+		return playerMoves;
+	}
+
+	/**
+	 * Returns whether a player may build a settlement on a corner, which has to be connected to one of their roads.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return true, if the settlement is legal.
+	 */
+	public boolean canBuildSettlement(int playerId, int corner) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves != null && playerMoves.settlementCorners.get(corner);
+	}
+
+	/**
+	 * Returns whether a settlement may be built on a corner in the free building rounds, where no road is needed.
+	 * @param corner the id of the corner.
+	 * @return true, if the corner and all adjacent corners are empty.
+	 */
+	public boolean canBuildFreeSettlement(int corner) {
+		return freeCorners.get(corner);
+	}
+
+	/**
+	 * Returns whether a player may upgrade the locality on a corner to a city.
+	 * @param playerId the id of the player.
+	 * @param corner the id of the corner.
+	 * @return true, if there is a settlement of the player on the corner.
+	 */
+	public boolean canBuildCity(int playerId, int corner) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves != null && playerMoves.cityCorners.get(corner);
+	}
+
+	/**
+	 * Returns whether a player may build a road on an edge.
+	 * @param playerId the id of the player.
+	 * @param edge the id of the edge.
+	 * @return true, if the edge is empty and next to a road or a locality of the player.
+	 */
+	public boolean canBuildRoad(int playerId, int edge) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves != null && playerMoves.roadEdges.get(edge);
+	}
+
+	/**
+	 * Returns the corners where a player may build a settlement.
+	 * @param playerId the id of the player.
+	 * @return a copy of the ids of the corners.
+	 */
+	public BitSet getSettlementCorners(int playerId) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves == null ? new BitSet() : (BitSet) playerMoves.settlementCorners.clone();
+	}
+
+	/**
+	 * Returns the corners where a settlement may be built in the free building rounds.
+	 * @return a copy of the ids of the corners.
+	 */
+	public BitSet getFreeCorners() {
+		return (BitSet) freeCorners.clone();
+	}
+
+	/**
+	 * Returns the corners where a player may build a city.
+	 * @param playerId the id of the player.
+	 * @return a copy of the ids of the corners.
+	 */
+	public BitSet getCityCorners(int playerId) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves == null ? new BitSet() : (BitSet) playerMoves.cityCorners.clone();
+	}
+
+	/**
+	 * Returns the edges where a player may build a road.
+	 * @param playerId the id of the player.
+	 * @return a copy of the ids of the edges.
+	 */
+	public BitSet getRoadEdges(int playerId) {
+		Moves playerMoves = moves.get(playerId);
+		return playerMoves == null ? new BitSet() : (BitSet) playerMoves.roadEdges.clone();
+	}
+
+}
@@ -0,0 +1,197 @@
+package game.board;
+
+import java.util.Arrays;
+
+/**
+ * Finds the shortest paths between the corners of a {@code BoardTopology} along which roads could still be built, i.e.
+ * over empty corners and edges.
+ * <p>
+ * The distances on the empty board are calculated once per start corner and bound every search: a destination which
+ * is too far away even without any constructions is rejected at once. The search itself is a breadth-first search over
+ * int arrays. It always runs to the end and is kept until the start corner or the constructions on the board change,
+ * so looking for paths from one corner to many others costs a single search.
+ * @author Christoph Hermann
+ * @see BoardTopology
+ */
+public final class PathFinder {
+
+	/**
+	 * The topology the paths are searched on.
+	 */
+	private final BoardTopology topology;
+
+	/**
+	 * The distances between the corners on the empty board, calculated for one start corner at a time.
+	 */
+	private final short[][] emptyDistances;
+
+	/**
+	 * The distance of every corner from the start corner of the last search or {@link BoardTopology#NONE}, if the
+	 * corner cannot be reached.
+	 */
+	private final int[] distances;
+
+	/**
+	 * The previous corner on the path from the start corner of the last search.
+	 */
+	private final int[] previous;
+
+	/**
+	 * The queue of the breadth-first search.
+	 */
+	private final int[] queue;
+
+	/**
+	 * The start corner of the last search or {@link BoardTopology#NONE}.
+	 */
+	private int searchStart = BoardTopology.NONE;
+
+	/**
+	 * The version of the topology at the last search.
+	 */
+	private int searchVersion;
+
+	/**
+	 * Creates the path finder of a topology.
+	 * @param topology the {@link BoardTopology}.
+	 */
+	PathFinder(BoardTopology topology) {
+		this.topology = topology;
+		int numberOfCorners = topology.getNumberOfCorners();
+		emptyDistances = new short[numberOfCorners][];
+		distances = new int[numberOfCorners];
+		previous = new int[numberOfCorners];
+		queue = new int[numberOfCorners];
+	}
+
+	/**
+	 * Returns the number of edges between two corners on the empty board, which is a lower bound of the length of
+	 * every path found by {@link #findPath(int, int, int)}.
+	 * @param from the id of the first corner.
+	 * @param to the id of the second corner.
+	 * @return the distance or {@link BoardTopology#NONE}, if there is no path.
+	 */
+	public int getEmptyDistance(int from, int to) {
+		if (emptyDistances[from] == null) {
+			// Fill the row from the other side, if that is known already.
+			if (emptyDistances[to] != null) {
+				return emptyDistances[to][from];
+			}
+			calculateEmptyDistances(from);
+		}
+		return emptyDistances[from][to];
+	}
+
+	/**
+	 * Calculates the distances from a corner to all others on the empty board.
+	 * @param from the id of the corner.
+	 */
+	private void calculateEmptyDistances(int from) {
+		short[] row = new short[topology.getNumberOfCorners()];
+		Arrays.fill(row, (short) BoardTopology.NONE);
+		row[from] = 0;
+
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = from;
+		while (head < tail) {
+			int corner = queue[head++];
+			for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+				int next = topology.getCornerOfCorner(corner, i);
+				if (next != BoardTopology.NONE && row[next] == BoardTopology.NONE
+						&& edgeBetween(corner, next) != BoardTopology.NONE) {
+					row[next] = (short) (row[corner] + 1);
+					queue[tail++] = next;
+				}
+			}
+		}
+		emptyDistances[from] = row;
+	}
+
+	/**
+	 * Finds the shortest path from a corner to another one, which passes only empty edges and, apart from the start,
+	 * empty corners.
+	 * @param start the id of the corner the path starts at.
+	 * @param destination the id of the corner the path ends at.
+	 * @param length the number of edges the path has to be shorter than.
+	 * @return the ids of the corners on the path, beginning with the destination and ending with the start, or null,
+	 *         if there is no such path.
+	 */
+	public int[] findPath(int start, int destination, int length) {
+		if (start == destination) {
+			return new int[] { start };
+		}
+		int emptyDistance = getEmptyDistance(start, destination);
+		if (emptyDistance == BoardTopology.NONE || emptyDistance >= length) {
+			return null;
+		}
+
+		if (start != searchStart || topology.getVersion() != searchVersion) {
+			search(start);
+		}
+		int distance = distances[destination];
+		if (distance == BoardTopology.NONE || distance >= length) {
+			return null;
+		}
+
+		int[] path = new int[distance + 1];
+		int corner = destination;
+		for (int i = 0; i <= distance; i++) {
+			path[i] = corner;
+			corner = previous[corner];
+		}
+		return path;
+	}
+
+	/**
+	 * Searches the shortest paths from a corner to all others over empty edges and corners.
+	 * @param start the id of the corner.
+	 */
+	private void search(int start) {
+		Arrays.fill(distances, BoardTopology.NONE);
+		distances[start] = 0;
+		previous[start] = BoardTopology.NONE;
+
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		while (head < tail) {
+			int corner = queue[head++];
+			for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+				int next = topology.getCornerOfCorner(corner, i);
+				if (next == BoardTopology.NONE || distances[next] != BoardTopology.NONE
+						|| topology.isCornerOccupied(next)) {
+					continue;
+				}
+				int edge = edgeBetween(corner, next);
+				if (edge == BoardTopology.NONE || topology.isEdgeOccupied(edge)) {
+					continue;
+				}
+				distances[next] = distances[corner] + 1;
+				previous[next] = corner;
+				queue[tail++] = next;
+			}
+		}
+
+		searchStart = start;
+		searchVersion = topology.getVersion();
+	}
+
+	/**
+	 * Returns the edge between two adjacent corners.
+	 * @param corner the id of the first corner.
+	 * @param next the id of the second corner.
+	 * @return the id of the edge or {@link BoardTopology#NONE}, if the board has no edge between the corners.
+	 */
+	private int edgeBetween(int corner, int next) {
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int edge = topology.getEdgeOfCorner(corner, i);
+			if (edge != BoardTopology.NONE
+					&& (topology.getCornerOfEdge(edge, 0) == next || topology.getCornerOfEdge(edge, 1) == next)) {
+				return edge;
+			}
+		}
+		return BoardTopology.NONE;
+	}
+
+}
@@ -0,0 +1,96 @@
+package game.board;
+
+/**
+ * An immutable array of ints. Changing an element yields a new array, which shares all unchanged chunks of elements
+ * with the old one, so only a single chunk and the table of chunks are copied.
+ * @author Christoph Hermann
+ * @see BoardState
+ */
+final class PersistentIntArray {
+
+	/**
+	 * The number of bits of an index that select the element within a chunk.
+	 */
+	private static final int CHUNK_BITS = 4;
+
+	/**
+	 * The number of elements per chunk.
+	 */
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	/**
+	 * The mask selecting the element within a chunk.
+	 */
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/**
+	 * The chunks of elements. Chunks are never modified once the array is created.
+	 */
+	private final int[][] chunks;
+
+	/**
+	 * The number of elements.
+	 */
+	private final int length;
+
+	/**
+	 * Creates an array holding a copy of some values.
+	 * @param values the values.
+	 */
+	PersistentIntArray(int[] values) {
+		length = values.length;
+		chunks = new int[(length + CHUNK_MASK) >> CHUNK_BITS][CHUNK_SIZE];
+		for (int i = 0; i < length; i++) {
+			chunks[i >> CHUNK_BITS][i & CHUNK_MASK] = values[i];
+		}
+	}
+
+	/**
+	 * Creates an array from its chunks.
+	 * @param chunks the chunks.
+	 * @param length the number of elements.
+	 */
+	private PersistentIntArray(int[][] chunks, int length) {
+		this.chunks = chunks;
+		this.length = length;
+	}
+
+	/**
+	 * Returns an element.
+	 * @param index the index of the element.
+	 * @return the element.
+	 */
+	int get(int index) {
+		if (index < 0 || index >= length) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return chunks[index >> CHUNK_BITS][index & CHUNK_MASK];
+	}
+
+	/**
+	 * Returns an array, where one element is replaced.
+	 * @param index the index of the element.
+	 * @param value the new value of the element.
+	 * @return the new array or this array, if the element already has the value.
+	 */
+	PersistentIntArray with(int index, int value) {
+		if (get(index) == value) {
+			return this;
+		}
+
+		int[][] newChunks = chunks.clone();
+		int[] chunk = chunks[index >> CHUNK_BITS].clone();
+		chunk[index & CHUNK_MASK] = value;
+		newChunks[index >> CHUNK_BITS] = chunk;
+		return new PersistentIntArray(newChunks, length);
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * @return the length.
+	 */
+	int length() {
+		return length;
+	}
+
+}
@@ -0,0 +1,85 @@
+package game.board;
+
+import java.util.Arrays;
+
+/**
+ * Maps non-negative int keys to the elements of a {@code Board}. The index is filled once, when the board is created,
+ * and afterwards only read. Looking up an element takes constant time and allocates no memory, unlike a
+ * {@code HashMap}, which would box every key.
+ * @author Christoph Hermann
+ * @param <T> the type of the elements, e.g. {@code Corner}.
+ * @see Board
+ */
+final class PositionIndex<T> {
+
+	/**
+	 * The key of an empty slot.
+	 */
+	private static final int EMPTY = -1;
+
+	/**
+	 * The keys of the elements. The length is a power of two.
+	 */
+	private final int[] keys;
+
+	/**
+	 * The elements, at the same index as their key.
+	 */
+	private final Object[] values;
+
+	/**
+	 * Creates a new index.
+	 * @param expectedSize the number of elements the index will hold.
+	 */
+	PositionIndex(int expectedSize) {
+		// Keep the index at most half full.
+		int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 4 - 1);
+		keys = new int[capacity];
+		values = new Object[capacity];
+		Arrays.fill(keys, EMPTY);
+	}
+
+	/**
+	 * Adds an element to this index, unless there already is an element with the same key.
+	 * @param key the key of the element.
+	 * @param value the element.
+	 */
+	void putIfAbsent(int key, T value) {
+		int slot = slotOf(key);
+
+		if (keys[slot] == EMPTY) {
+			keys[slot] = key;
+			values[slot] = value;
+		}
+	}
+
+	/**
+	 * Returns the element with the specified key.
+	 * @param key the key.
+	 * @return the element or null, if there is no element with this key.
+	 */
+	@SuppressWarnings("unchecked")
+	T get(int key) {
+		if (key < 0) {
+			return null;
+		}
+		return (T) values[slotOf(key)];
+	}
+
+	/**
+	 * Returns the slot of the specified key, which is either the slot holding this key or the empty slot where it would
+	 * be added.
+	 * @param key the key.
+	 * @return the index of the slot.
+	 */
+	private int slotOf(int key) {
+		int mask = keys.length - 1;
+		int slot = (key * 0x9E3779B9 >>> 16) & mask;
+
+		while (keys[slot] != EMPTY && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+}
@@ -0,0 +1,299 @@
+package game.board;
+
+import java.util.Arrays;
+
+import game.board.construction.localities.City;
+import game.board.hexes.HexType;
+import game.resources.ResourceType;
+
+/**
+ * Knows for every dice number which players receive which resources, when the number is rolled. The index is kept up
+ * to date by the {@code BoardTopology}, whenever a locality is built or upgraded, the robber moves or the type or token
+ * of a hex changes. Only the numbers of the affected hexes are recalculated, so distributing the resources of a roll
+ * is a single pass over a small array.
+ * <p>
+ * The producing localities of a number are ordered like the hexes of the board and the corners of each hex, i.e. in
+ * the order the resources have been handed out before.
+ * @author Christoph Hermann
+ * @see BoardTopology
+ */
+public final class ProductionIndex {
+
+	/**
+	 * The highest dice number.
+	 */
+	public static final int MAX_NUMBER = 12;
+
+	/**
+	 * The number of ints per producing locality: owner, resource and amount.
+	 */
+	private static final int ENTRY_LENGTH = 3;
+
+	/**
+	 * All resource types, by their ordinal.
+	 */
+	private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+	/**
+	 * The ordinal of the resource produced by every hex type or {@link BoardTopology#NONE}, if the type produces
+	 * nothing. Every hex type produces at most one resource.
+	 */
+	private static final int[] RESOURCE_OF_TYPE = new int[HexType.values().length];
+
+	static {
+		for (HexType type : HexType.values()) {
+			RESOURCE_OF_TYPE[type.ordinal()] = BoardTopology.NONE;
+			for (ResourceType resourceType : RESOURCE_TYPES) {
+				if (type.getResources().get(resourceType) > 0) {
+					RESOURCE_OF_TYPE[type.ordinal()] = resourceType.ordinal();
+				}
+			}
+		}
+	}
+
+	/**
+	 * The topology this index belongs to.
+	 */
+	private final BoardTopology topology;
+
+	/**
+	 * The ids of the hexes with every number, ordered by id. The hexes without number are not indexed.
+	 */
+	private final int[][] hexesOfNumber = new int[MAX_NUMBER + 1][];
+
+	/**
+	 * The producing localities of every number, each as owner, resource ordinal and amount.
+	 */
+	private final int[][] entries = new int[MAX_NUMBER + 1][];
+
+	/**
+	 * The number of producing localities of every number.
+	 */
+	private final int[] numberOfEntries = new int[MAX_NUMBER + 1];
+
+	/**
+	 * The id of the hex the robber is positioned on or {@link BoardTopology#NONE}.
+	 */
+	private int robberHex = BoardTopology.NONE;
+
+	/**
+	 * Creates the index of a topology.
+	 * @param topology the {@link BoardTopology}.
+	 */
+	ProductionIndex(BoardTopology topology) {
+		this.topology = topology;
+		for (int number = 0; number <= MAX_NUMBER; number++) {
+			entries[number] = new int[0];
+		}
+		indexHexes();
+	}
+
+	/**
+	 * Indexes all hexes by their number and calculates all numbers.
+	 */
+	private void indexHexes() {
+		int[] counts = new int[MAX_NUMBER + 1];
+		for (int hex = 0; hex < topology.getNumberOfHexes(); hex++) {
+			counts[numberOf(hex)]++;
+		}
+		counts[0] = 0;
+
+		for (int number = 0; number <= MAX_NUMBER; number++) {
+			hexesOfNumber[number] = new int[counts[number]];
+			counts[number] = 0;
+		}
+		for (int hex = 0; hex < topology.getNumberOfHexes(); hex++) {
+			int number = numberOf(hex);
+			if (number != 0) {
+				hexesOfNumber[number][counts[number]++] = hex;
+			}
+		}
+
+		for (int number = 2; number <= MAX_NUMBER; number++) {
+			update(number);
+		}
+	}
+
+	/**
+	 * Moves a hex from the hexes of its old number to the hexes of its new number and recalculates both numbers. Called
+	 * whenever the type or token of a hex changes, which only happens while the board is set up.
+	 * @param hex the id of the hex.
+	 * @param oldNumber the number of the hex before the change.
+	 */
+	void updateHex(int hex, int oldNumber) {
+		int from = oldNumber < 0 || oldNumber > MAX_NUMBER ? 0 : oldNumber;
+		int to = numberOf(hex);
+		if (from != to) {
+			if (from != 0) {
+				hexesOfNumber[from] = remove(hexesOfNumber[from], hex);
+				update(from);
+			}
+			if (to != 0) {
+				hexesOfNumber[to] = insert(hexesOfNumber[to], hex);
+			}
+		}
+		update(to);
+	}
+
+	/**
+	 * Inserts a hex into hexes ordered by id.
+	 * @param hexes the ids of the hexes.
+	 * @param hex the id of the hex.
+	 * @return the ids of the hexes including the hex.
+	 */
+	private static int[] insert(int[] hexes, int hex) {
+		int index = Arrays.binarySearch(hexes, hex);
+		if (index >= 0) {
+			return hexes;
+		}
+		index = -index - 1;
+
+		int[] newHexes = new int[hexes.length + 1];
+		System.arraycopy(hexes, 0, newHexes, 0, index);
+		newHexes[index] = hex;
+		System.arraycopy(hexes, index, newHexes, index + 1, hexes.length - index);
+		return newHexes;
+	}
+
+	/**
+	 * Removes a hex from hexes ordered by id.
+	 * @param hexes the ids of the hexes.
+	 * @param hex the id of the hex.
+	 * @return the ids of the hexes without the hex.
+	 */
+	private static int[] remove(int[] hexes, int hex) {
+		int index = Arrays.binarySearch(hexes, hex);
+		if (index < 0) {
+			return hexes;
+		}
+
+		int[] newHexes = new int[hexes.length - 1];
+		System.arraycopy(hexes, 0, newHexes, 0, index);
+		System.arraycopy(hexes, index + 1, newHexes, index, hexes.length - index - 1);
+		return newHexes;
+	}
+
+	/**
+	 * Recalculates the numbers of the hexes adjacent to a corner. Called whenever a locality is built, upgraded or
+	 * removed.
+	 * @param corner the id of the corner.
+	 */
+	void updateCorner(int corner) {
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int hex = topology.getHexOfCorner(corner, i);
+			if (hex != BoardTopology.NONE) {
+				update(numberOf(hex));
+			}
+		}
+	}
+
+	/**
+	 * Moves the robber, so that the hex it is positioned on produces nothing. Called by the topology, whenever the
+	 * robber moves.
+	 * @param hex the id of the new position of the robber.
+	 */
+	void moveRobber(int hex) {
+		int oldHex = robberHex;
+		robberHex = hex;
+
+		if (oldHex != BoardTopology.NONE) {
+			update(numberOf(oldHex));
+		}
+		update(numberOf(hex));
+	}
+
+	/**
+	 * Returns the number of a hex, which is 0 for hexes without a token or with a number that cannot be rolled.
+	 * @param hex the id of the hex.
+	 * @return the number.
+	 */
+	private int numberOf(int hex) {
+		int number = topology.getHexNumber(hex);
+		return number < 0 || number > MAX_NUMBER ? 0 : number;
+	}
+
+	/**
+	 * Recalculates the producing localities of a number.
+	 * @param number the dice number.
+	 */
+	private void update(int number) {
+		if (number == 0) {
+			return;
+		}
+
+		int[] numberEntries = entries[number];
+		int size = 0;
+		for (int hex : hexesOfNumber[number]) {
+			int resource = RESOURCE_OF_TYPE[topology.getHexType(hex).ordinal()];
+			if (hex == robberHex || resource == BoardTopology.NONE) {
+				continue;
+			}
+
+			for (int i = 0; i < BoardTopology.SIDES_OF_HEX; i++) {
+				int corner = topology.getCornerOfHex(hex, i);
+				if (corner == BoardTopology.NONE || topology.getCornerOwner(corner) == BoardTopology.NONE) {
+					continue;
+				}
+
+				int amount = topology.getCornerBuilding(corner) == BoardTopology.CITY ? City.getMultiplier() : 1;
+				if (size + ENTRY_LENGTH > numberEntries.length) {
+					numberEntries = Arrays.copyOf(numberEntries, Math.max(4 * ENTRY_LENGTH, 2 * numberEntries.length));
+				}
+				numberEntries[size++] = topology.getCornerOwner(corner);
+				numberEntries[size++] = resource;
+				numberEntries[size++] = amount;
+			}
+		}
+
+		entries[number] = numberEntries;
+		numberOfEntries[number] = size / ENTRY_LENGTH;
+	}
+
+	/**
+	 * Returns the number of localities producing resources, when a number is rolled.
+	 * @param number the dice number.
+	 * @return the number of producing localities or 0, if the number cannot be rolled.
+	 */
+	public int getNumberOfEntries(int number) {
+		return number < 0 || number > MAX_NUMBER ? 0 : numberOfEntries[number];
+	}
+
+	/**
+	 * Returns the owner of a producing locality.
+	 * @param number the dice number.
+	 * @param entry the index of the producing locality, less than {@link #getNumberOfEntries(int)}.
+	 * @return the id of the player.
+	 */
+	public int getOwner(int number, int entry) {
+		return entries[number][entry * ENTRY_LENGTH];
+	}
+
+	/**
+	 * Returns the resource produced by a producing locality.
+	 * @param number the dice number.
+	 * @param entry the index of the producing locality, less than {@link #getNumberOfEntries(int)}.
+	 * @return the {@link ResourceType}.
+	 */
+	public ResourceType getResource(int number, int entry) {
+		return RESOURCE_TYPES[entries[number][entry * ENTRY_LENGTH + 1]];
+	}
+
+	/**
+	 * Returns the amount of resources produced by a producing locality, i.e. 1 for a settlement and 2 for a city.
+	 * @param number the dice number.
+	 * @param entry the index of the producing locality, less than {@link #getNumberOfEntries(int)}.
+	 * @return the amount.
+	 */
+	public int getAmount(int number, int entry) {
+		return entries[number][entry * ENTRY_LENGTH + 2];
+	}
+
+	/**
+	 * Returns the hex the robber is positioned on.
+	 * @return the id of the hex or {@link BoardTopology#NONE}.
+	 */
+	public int getRobberHex() {
+		return robberHex;
+	}
+
+}
@@ -0,0 +1,218 @@
+package game.board;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The roads of a single player on a {@code BoardTopology}, split into connected components. A road network knows the
+ * length of the longest road of every component and recalculates only the component a road is added to or the
+ * components around a corner whose locality changes, e.g. when a settlement of an opponent splits a road.
+ * <p>
+ * Two roads are connected, if they share a corner without a locality of another player. The longest road of a
+ * component is the longest path through it which uses no road twice. It is found by a search over all paths, which
+ * marks the visited roads in a {@link BitSet}.
+ * @author Christoph Hermann
+ * @see BoardTopology
+ */
+public final class RoadNetwork {
+
+	/**
+	 * The topology the roads are built on.
+	 */
+	private final BoardTopology topology;
+
+	/**
+	 * The id of the player owning the roads.
+	 */
+	private final int playerId;
+
+	/**
+	 * The ids of the edges with a road of the player.
+	 */
+	private final BitSet roads = new BitSet();
+
+	/**
+	 * The corners at the ends of the roads, which were blocked by the locality of another player, when their
+	 * components were calculated.
+	 */
+	private final BitSet blockedCorners = new BitSet();
+
+	/**
+	 * The component of every edge or {@link BoardTopology#NONE}, if there is no road of the player on it.
+	 */
+	private final int[] componentOf;
+
+	/**
+	 * The length of the longest road of every component.
+	 */
+	private int[] lengthOf = new int[8];
+
+	/**
+	 * The id of the next component.
+	 */
+	private int nextComponent;
+
+	/**
+	 * The roads visited by the search for the longest road.
+	 */
+	private final BitSet visited = new BitSet();
+
+	/**
+	 * Creates a road network without roads.
+	 * @param topology the {@link BoardTopology} the roads are built on.
+	 * @param playerId the id of the player owning the roads.
+	 */
+	public RoadNetwork(BoardTopology topology, int playerId) {
+		this.topology = topology;
+		this.playerId = playerId;
+		this.componentOf = new int[topology.getNumberOfEdges()];
+		Arrays.fill(componentOf, BoardTopology.NONE);
+	}
+
+	/**
+	 * Adds a road and recalculates the component it belongs to, which may join other components.
+	 * @param edge the id of the edge the road is built on.
+	 */
+	public void addRoad(int edge) {
+		if (roads.get(edge)) {
+			return;
+		}
+		roads.set(edge);
+		calculateComponent(edge);
+	}
+
+	/**
+	 * Recalculates the components at those corners, where a locality of another player has been built or removed
+	 * since the last calculation.
+	 */
+	public void update() {
+		BitSet changedRoads = new BitSet();
+
+		for (int edge = roads.nextSetBit(0); edge >= 0; edge = roads.nextSetBit(edge + 1)) {
+			for (int i = 0; i < BoardTopology.ENDS_OF_EDGE; i++) {
+				int corner = topology.getCornerOfEdge(edge, i);
+				if (corner != BoardTopology.NONE && isBlocked(corner) != blockedCorners.get(corner)) {
+					changedRoads.set(edge);
+				}
+			}
+		}
+
+		// A split component is calculated again from each of its roads at the changed corner.
+		for (int edge = changedRoads.nextSetBit(0); edge >= 0; edge = changedRoads.nextSetBit(edge + 1)) {
+			calculateComponent(edge);
+		}
+	}
+
+	/**
+	 * Returns the length of the longest road of the player.
+	 * @return the number of roads on the longest road or 0, if the player has no roads.
+	 */
+	public int getLongestRoad() {
+		int longestRoad = 0;
+		for (int edge = roads.nextSetBit(0); edge >= 0; edge = roads.nextSetBit(edge + 1)) {
+			longestRoad = Math.max(longestRoad, lengthOf[componentOf[edge]]);
+		}
+		return longestRoad;
+	}
+
+	/**
+	 * Returns the number of roads of the player.
+	 * @return the number of roads.
+	 */
+	public int getNumberOfRoads() {
+		return roads.cardinality();
+	}
+
+	/**
+	 * Finds the roads connected to a road, assigns them to a new component and calculates its longest road.
+	 * @param start the id of the edge of the road.
+	 */
+	private void calculateComponent(int start) {
+		int component = nextComponent++;
+		if (component == lengthOf.length) {
+			lengthOf = Arrays.copyOf(lengthOf, 2 * lengthOf.length);
+		}
+
+		// Collect the component with a depth-first search.
+		BitSet members = new BitSet();
+		int[] stack = new int[roads.cardinality()];
+		int size = 0;
+		members.set(start);
+		stack[size++] = start;
+		while (size > 0) {
+			int edge = stack[--size];
+			componentOf[edge] = component;
+
+			for (int i = 0; i < BoardTopology.ENDS_OF_EDGE; i++) {
+				int corner = topology.getCornerOfEdge(edge, i);
+				if (corner == BoardTopology.NONE) {
+					continue;
+				}
+				blockedCorners.set(corner, isBlocked(corner));
+				if (isBlocked(corner)) {
+					continue;
+				}
+
+				for (int j = 0; j < BoardTopology.NEIGHBORS_OF_CORNER; j++) {
+					int next = topology.getEdgeOfCorner(corner, j);
+					if (next != BoardTopology.NONE && roads.get(next) && !members.get(next)) {
+						members.set(next);
+						stack[size++] = next;
+					}
+				}
+			}
+		}
+
+		// Try every road of the component as the start of the longest road, in both directions.
+		int longestRoad = 0;
+		for (int edge = members.nextSetBit(0); edge >= 0; edge = members.nextSetBit(edge + 1)) {
+			visited.set(edge);
+			for (int i = 0; i < BoardTopology.ENDS_OF_EDGE; i++) {
+				int corner = topology.getCornerOfEdge(edge, i);
+				if (corner != BoardTopology.NONE) {
+					longestRoad = Math.max(longestRoad, 1 + extend(edge, corner));
+				}
+			}
+			visited.clear(edge);
+		}
+		lengthOf[component] = longestRoad;
+	}
+
+	/**
+	 * Returns the length of the longest road continuing a road at one of its corners.
+	 * @param edge the id of the edge of the road.
+	 * @param corner the id of the corner where the road is continued.
+	 * @return the number of additional roads.
+	 */
+	private int extend(int edge, int corner) {
+		if (isBlocked(corner)) {
+			return 0;
+		}
+
+		int longestRoad = 0;
+		for (int i = 0; i < BoardTopology.NEIGHBORS_OF_CORNER; i++) {
+			int next = topology.getEdgeOfCorner(corner, i);
+			if (next == BoardTopology.NONE || next == edge || !roads.get(next) || visited.get(next)) {
+				continue;
+			}
+
+			visited.set(next);
+			int end = topology.getCornerOfEdge(next, 0) == corner ? topology.getCornerOfEdge(next, 1)
+					: topology.getCornerOfEdge(next, 0);
+			longestRoad = Math.max(longestRoad, 1 + extend(next, end));
+			visited.clear(next);
+		}
+		return longestRoad;
+	}
+
+	/**
+	 * Returns whether a road cannot be continued at a corner, because another player has built a locality on it.
+	 * @param corner the id of the corner.
+	 * @return true, if the corner is blocked.
+	 */
+	private boolean isBlocked(int corner) {
+		int owner = topology.getCornerOwner(corner);
+		return owner != BoardTopology.NONE && owner != playerId;
+	}
+
+}
@@ -0,0 +1,290 @@
+package game.board;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import game.Game;
+import game.board.construction.localities.Settlement;
+import game.board.construction.roads.Road;
+import game.board.corners.Corner;
+import game.board.edges.Edge;
+import game.player.Player;
+import game.player.PlayerState;
+
+/**
+ * Compares the longest road calculated by the {@code RoadNetwork} with the recursive calculation it replaced and with an
+ * exhaustive search on random games. Every game is played on a board of 2 to 4 circles, where random players build
+ * roads, mostly next to their own roads, and settlements, which may split the roads of other players. After every
+ * step the longest road of every player is calculated in all three ways.
+ * <p>
+ * The recursive calculation runs {@link Player#visitRoad(ArrayList, Road, Corner)} from every road of the player, like
+ * {@code Player.updateLongestRoadLengthProperty()} did before. It keeps roads marked across the branches of a corner
+ * and therefore reports too short a road for some networks with cycles, so differences to it are counted, but don't
+ * fail the check. The exhaustive search tries every path and is the reference. The check exits with status 1, if the
+ * {@code RoadNetwork} differs from it.
+ * </p>
+ * <p>
+ * Usage: {@code java game.board.RoadNetworkCheck [games] [seed]}
+ * </p>
+ * @author Christoph Hermann
+ * @see RoadNetwork
+ */
+public final class RoadNetworkCheck {
+
+	/**
+	 * The number of games checked by default.
+	 */
+	private static final int DEFAULT_NUMBER_OF_GAMES = 300;
+
+	/**
+	 * The number of players per game.
+	 */
+	private static final int NUMBER_OF_PLAYERS = 3;
+
+	/**
+	 * The number of steps per game, in each of which a random player builds a road or a settlement.
+	 */
+	private static final int STEPS_PER_GAME = 80;
+
+	/**
+	 * The maximum number of roads per player.
+	 */
+	private static final int MAX_ROADS = 15;
+
+	/**
+	 * The number of differences printed in detail.
+	 */
+	private static final int MAX_REPORTED_DIFFERENCES = 10;
+
+	/**
+	 * The number of comparisons.
+	 */
+	private long comparisons;
+
+	/**
+	 * The number of comparisons, in which the recursive calculation differed from the road network.
+	 */
+	private long differencesToRecursion;
+
+	/**
+	 * The number of comparisons, in which the exhaustive search differed from the road network.
+	 */
+	private long differencesToSearch;
+
+	/**
+	 * The time in nanoseconds spent by the road network.
+	 */
+	private long networkNanos;
+
+	/**
+	 * The time in nanoseconds spent by the recursive calculation.
+	 */
+	private long recursionNanos;
+
+	/**
+	 * Prevents instantiation from outside.
+	 */
+	private RoadNetworkCheck() {
+	}
+
+	/**
+	 * Runs the check and prints the results.
+	 * @param args the number of games and the seed, both optional.
+	 */
+	public static void main(String[] args) {
+		int numberOfGames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_GAMES;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : new Random().nextLong();
+
+		RoadNetworkCheck check = new RoadNetworkCheck();
+		Random random = new Random(seed);
+		for (int game = 0; game < numberOfGames; game++) {
+			check.playGame(game, random);
+		}
+
+		System.out.printf("seed: %d, games: %d, comparisons: %d%n", seed, numberOfGames, check.comparisons);
+		System.out.printf("differences to the recursive calculation: %d%n", check.differencesToRecursion);
+		System.out.printf("differences to the exhaustive search: %d%n", check.differencesToSearch);
+		System.out.printf("time per calculation: %.2f us (road network), %.2f us (recursive)%n",
+				check.networkNanos / 1e3 / check.comparisons, check.recursionNanos / 1e3 / check.comparisons);
+
+		if (check.differencesToSearch > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Builds random roads and settlements on a new board and compares the longest roads of all players after every step.
+	 * @param gameNumber the number of the game.
+	 * @param random the source of randomness.
+	 */
+	private void playGame(int gameNumber, Random random) {
+		// Create game.
+		List<Player> players = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+			players.add(new Player(i + 1, "Player " + (i + 1), null, null, PlayerState.WAIT));
+		}
+		Game game = new Game(players, BoardConfiguration.withNumberOfCircles(2 + gameNumber % 3), random);
+		Board board = game.getBoard();
+
+		for (int step = 0; step < STEPS_PER_GAME; step++) {
+			Player player = players.get(random.nextInt(players.size()));
+			if (random.nextInt(4) == 0) {
+				buildSettlement(board, player, random);
+			} else if (player.getRoads().size() < MAX_ROADS) {
+				buildRoad(board, player, random);
+			}
+
+			for (Player each : players) {
+				compare(each, gameNumber, step);
+			}
+		}
+	}
+
+	/**
+	 * Builds a settlement of a player on a random free corner, if the chosen corner is free.
+	 * @param board the {@link Board}.
+	 * @param player the {@link Player}.
+	 * @param random the source of randomness.
+	 */
+	private static void buildSettlement(Board board, Player player, Random random) {
+		Corner corner = board.getCorners().get(random.nextInt(board.getCorners().size()));
+		if (!corner.isCornerOccupied()) {
+			board.addConstruction(new Settlement(player, corner));
+		}
+	}
+
+	/**
+	 * Builds a road of a player, mostly next to one of the player's roads, so that long roads and cycles emerge.
+	 * @param board the {@link Board}.
+	 * @param player the {@link Player}.
+	 * @param random the source of randomness.
+	 */
+	private static void buildRoad(Board board, Player player, Random random) {
+		Edge edge = null;
+		if (!player.getRoads().isEmpty() && random.nextInt(5) != 0) {
+			// Choose a free edge next to one of the player's roads.
+			List<Edge> candidates = new ArrayList<>();
+			for (Road road : player.getRoads()) {
+				for (Corner corner : road.getPosition().getAdjacentCornersOfEdge()) {
+					for (Edge adjacentEdge : corner.getAdjacentEdgesOfCorner()) {
+						if (adjacentEdge.getRoad() == null) {
+							candidates.add(adjacentEdge);
+						}
+					}
+				}
+			}
+			if (!candidates.isEmpty()) {
+				edge = candidates.get(random.nextInt(candidates.size()));
+			}
+		} else {
+			Edge randomEdge = board.getEdges().get(random.nextInt(board.getEdges().size()));
+			if (randomEdge.getRoad() == null) {
+				edge = randomEdge;
+			}
+		}
+
+		if (edge != null) {
+			Road road = new Road(player, edge);
+			board.addConstruction(road);
+			player.addRoad(road);
+		}
+	}
+
+	/**
+	 * Calculates the longest road of a player in all three ways and counts the differences.
+	 * @param player the {@link Player}.
+	 * @param gameNumber the number of the game.
+	 * @param step the step of the game.
+	 */
+	private void compare(Player player, int gameNumber, int step) {
+		long start = System.nanoTime();
+		player.updateLongestRoadLengthProperty();
+		int network = player.getLongestRoadLength();
+		long afterNetwork = System.nanoTime();
+		int recursion = calculateRecursively(player);
+		long afterRecursion = System.nanoTime();
+		int search = search(player);
+
+		comparisons++;
+		networkNanos += afterNetwork - start;
+		recursionNanos += afterRecursion - afterNetwork;
+		if (network != recursion) {
+			differencesToRecursion++;
+		}
+		if (network != search) {
+			differencesToSearch++;
+			if (differencesToSearch <= MAX_REPORTED_DIFFERENCES) {
+				System.out.printf("game %d, step %d, player %d: road network %d, exhaustive search %d%n", gameNumber,
+						step, player.getId(), network, search);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the longest road of a player the way {@code Player.updateLongestRoadLengthProperty()} did, before the
+	 * {@code RoadNetwork} was introduced.
+	 * @param player the {@link Player}.
+	 * @return the length of the longest road, at least 1.
+	 */
+	private static int calculateRecursively(Player player) {
+		ArrayList<Edge> blackRoads = new ArrayList<>();
+		int longestRoad = 1;
+		for (Road road : player.getRoads()) {
+			blackRoads.clear();
+			longestRoad = Math.max(longestRoad, player.visitRoad(blackRoads, road, null));
+		}
+		return longestRoad;
+	}
+
+	/**
+	 * Calculates the longest road of a player by trying every path starting at every road in both directions.
+	 * @param player the {@link Player}.
+	 * @return the length of the longest road, at least 1.
+	 */
+	private static int search(Player player) {
+		int longestRoad = 1;
+		Set<Edge> visited = new HashSet<>();
+		for (Road road : player.getRoads()) {
+			Edge edge = road.getPosition();
+			for (Corner corner : edge.getAdjacentCornersOfEdge()) {
+				visited.add(edge);
+				longestRoad = Math.max(longestRoad, 1 + search(player, edge, corner, visited));
+				visited.remove(edge);
+			}
+		}
+		return longestRoad;
+	}
+
+	/**
+	 * Calculates the length of the longest path continuing a road of a player at one of its corners.
+	 * @param player the {@link Player}.
+	 * @param edge the {@link Edge} of the road.
+	 * @param corner the {@link Corner} at which the path continues.
+	 * @param visited the edges already on the path.
+	 * @return the number of roads the path can be continued by.
+	 */
+	private static int search(Player player, Edge edge, Corner corner, Set<Edge> visited) {
+		if (corner.getLocality() != null && corner.getLocality().getOwner() != player) {
+			return 0;
+		}
+
+		int longestPath = 0;
+		for (Edge next : corner.getAdjacentEdgesOfCorner()) {
+			if (next == edge || visited.contains(next) || next.getRoad() == null
+					|| next.getRoad().getOwner() != player) {
+				continue;
+			}
+
+			List<Corner> ends = next.getAdjacentCornersOfEdge();
+			Corner otherEnd = ends.get(0) == corner ? ends.get(1) : ends.get(0);
+			visited.add(next);
+			longestPath = Math.max(longestPath, 1 + search(player, next, otherEnd, visited));
+			visited.remove(next);
+		}
+		return longestPath;
+	}
+
+}
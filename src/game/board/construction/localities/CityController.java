@@ -37,9 +37,9 @@ public class CityController implements Controller<City> {
 	 * @see City
 	 */
 	private void draw() {
-		cityView.xProperty().set(city.positionProperty().get().getxPosCartesianCorner()
+		cityView.xProperty().set(city.getPosition().getxPosCartesianCorner()
 				- cityView.getBoundsInLocal().getWidth()/2);
-		cityView.yProperty().set(city.positionProperty().get().getyPosCartesianCorner()
+		cityView.yProperty().set(city.getPosition().getyPosCartesianCorner()
 				- cityView.getBoundsInLocal().getHeight()*0.6);
 
 		colorizeCity();
@@ -52,7 +52,7 @@ public class CityController implements Controller<City> {
 	 */
 	private void colorizeCity() {
 		Blend blend = new Blend(BlendMode.SRC_ATOP);
-		Color color = city.getOwner().getColor().deriveColor(0, 1, 1, 0.7);
+		Color color = Color.web(city.getOwner().getColor().getWebColor()).deriveColor(0, 1, 1, 0.7);
 		ColorInput colorInput = new ColorInput(cityView.getX(), cityView.getY(), cityView.getBoundsInParent().getWidth(), 
 				cityView.getBoundsInParent().getHeight(), color);
 		blend.setTopInput(colorInput);
@@ -4,7 +4,6 @@ import game.board.construction.Construction;
 import game.board.corners.Corner;
 import game.player.Player;
 import game.resources.Resources;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents a locality.
@@ -17,7 +16,7 @@ public abstract class Locality extends Construction {
 	 * The {@code Corner} this locality is positioned on.
 	 * @see Corner
 	 */
-	SimpleObjectProperty<Corner> positionProperty = new SimpleObjectProperty<Corner>();
+	private Corner position;
 
 	/**
 	 * The amount of victory points a {@code Player} gets for owning this locality.
@@ -42,7 +41,7 @@ public abstract class Locality extends Construction {
 		super(player);
 		this.victoryPoints = victoryPoints;
 		this.resourceMultiplier = resourceMultiplier;
-		this.positionProperty.set(corner);
+		this.position = corner;
 	}
 
 	/**
@@ -51,7 +50,7 @@ public abstract class Locality extends Construction {
 	 * @see Corner
 	 */
 	public Corner getPosition() {
-		return positionProperty.get();
+		return position;
 	}
 
 	/**
@@ -71,20 +70,12 @@ public abstract class Locality extends Construction {
 		return resourceMultiplier;
 	}
 
-	/**
-	 * Getter for the Position Property of the {@code Locality} on the {@code corner}
-	 * @return the position property
-	 */
-	public SimpleObjectProperty<Corner> positionProperty(){
-		return positionProperty;
-	}
-
 	/**
 	 * Sets the {@code Corner} this locality is positioned on.
 	 * @param position the {@link Corner} to set.
 	 */
 	public void setPosition(Corner position) {
-		positionProperty.set(position);
+		this.position = position;
 	}
 
 }
@@ -51,7 +51,7 @@ public class Settlement extends Locality {
 	 * Sets this settlements position to null.
 	 */
 	public void removeFromBoard() {
-		positionProperty.set(null);
+		setPosition(null);
 	}
 	
 	/**
@@ -1,9 +1,7 @@
 package game.board.construction.localities;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import game.Animations;
+import game.board.corners.CornerProperties;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
@@ -15,7 +13,8 @@ import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.BuildMessage;
+import network.protocol.messages.Coordinates;
 import network.server.Server;
 
 /**
@@ -52,22 +51,7 @@ public class SettlementController implements Controller<Settlement> {
 	 */
 	@FXML
 	public void select() {
-		JSONObject jsonObj = new JSONObject();
-		jsonObj.put(Attributes.TYPE.toString(), Attributes.CITY.toString());
-
-		JSONArray array = new JSONArray();
-		for (int i = 0; i < 3; i++) {
-			JSONObject positionHex = new JSONObject();
-			positionHex.put(Attributes.X.toString(),
-					settlement.getPosition().getAdjacentHexesOfCorner().get(i).getxPosAxialHex());
-			positionHex.put(Attributes.Y.toString(),
-					settlement.getPosition().getAdjacentHexesOfCorner().get(i).getyPosAxialHex());
-
-			array.put(positionHex);
-		}
-		jsonObj.put(Attributes.POSITION.toString(), array);
-
-		client.sendToServer(ServerTypes.BUILD.toString(), jsonObj);
+		client.sendToServer(new BuildMessage(Attributes.CITY.toString(), Coordinates.of(settlement.getPosition())));
 	}
 
 	/**
@@ -76,7 +60,7 @@ public class SettlementController implements Controller<Settlement> {
 	 */
 	private void setColor() {
 		Blend blend = new Blend(BlendMode.SRC_ATOP);
-		Color color = settlement.getOwner().getColor().deriveColor(0, 1, 1, 0.7);
+		Color color = Color.web(settlement.getOwner().getColor().getWebColor()).deriveColor(0, 1, 1, 0.7);
 		ColorInput colorInput = new ColorInput(settlementView.getX(), settlementView.getY(), settlementView.getBoundsInParent().getWidth(), 
 				settlementView.getBoundsInParent().getHeight()+2, color);
 		blend.setTopInput(colorInput);
@@ -120,12 +104,12 @@ public class SettlementController implements Controller<Settlement> {
 	 */
 	private void addBindings() {
 		settlementView.visibleProperty().bind(Bindings.createObjectBinding(()-> {
-			if (settlement.getPosition().localityProperty().get() instanceof Settlement) {
+			if (settlement.getPosition().getLocality() instanceof Settlement) {
 				return true;
 			} else {
 				return false;
 			}
-		}, settlement.positionProperty().get().localityProperty()));
+		}, CornerProperties.of(settlement.getPosition()).localityProperty()));
 	}
 
 	@Override
@@ -5,7 +5,6 @@ import game.board.edges.Edge;
 import game.player.Player;
 import game.resources.ResourceType;
 import game.resources.Resources;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents a Road.
@@ -24,11 +23,6 @@ public class Road extends Construction {
 	 */
 	private String stringPosition;
 
-	/**
-	 * The position of the road as a property
-	 */
-	private SimpleObjectProperty<Edge> positionProperty = new SimpleObjectProperty<Edge>();
-
 	/**
 	 * The cost of building a road.
 	 */
@@ -61,15 +55,6 @@ public class Road extends Construction {
 		return position;
 	}
 
-	/**
-	 * Returns the position of the {@code Edge} this road is positioned on as a property.
-	 * @return the position.
-	 * @see Edge
-	 */
-	public SimpleObjectProperty<Edge> getPositionProperty(){
-		return positionProperty;
-	}
-
 	/**
 	 * Returns the {@code String} representing the position of this Road.
 	 * @param position edge the road is built on
@@ -5,6 +5,7 @@ import game.board.Board;
 import game.board.construction.localities.City;
 import interfaces.Controller;
 import javafx.fxml.FXML;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import network.client.ClientConnection;
 
@@ -45,7 +46,7 @@ public class RoadController implements Controller<Road> {
 				- road.getPosition().getAdjacentCornersOfEdge().get(1).getyPosCartesianCorner();
 		roadView.setRotate(Math.toDegrees(Math.atan(deltaX/-deltaY)));
 
-		roadView.setFill(road.getOwner().getColor());
+		roadView.setFill(Color.web(road.getOwner().getColor().getWebColor()));
 		
 		Animations.playFadeTransition(roadView);
 	}
@@ -2,7 +2,9 @@ package game.board.corners;
 
 import java.util.ArrayList;
 
+import game.ObservableModel;
 import game.board.Board;
+import game.board.BoardTopology;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -15,7 +17,6 @@ import game.board.edges.Edge;
 import game.board.hexes.CornerPosition;
 import game.board.hexes.Hex;
 import game.board.hexes.HexType;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents the corner of a {@code Hex}
@@ -25,14 +26,19 @@ import javafx.beans.property.SimpleObjectProperty;
  * @author Yize Sun
  * @see game.board.hexes.Hex
  */
-public class Corner {
+public class Corner extends ObservableModel {
+
+	/**
+	 * The name of the property of the locality built on a corner.
+	 */
+	public static final String LOCALITY = "locality";
 
 	/**
 	 * The {@code Locality} build on this corner.
 	 * 
 	 * @see Locality
 	 */
-	private SimpleObjectProperty<Locality> localityProperty = new SimpleObjectProperty<Locality>();
+	private Locality locality;
 
 	/**
 	 * The x position of this corner in axial coordinates.
@@ -88,6 +94,18 @@ public class Corner {
 	 */
 	private ArrayList<Corner> adjacentCornersOfCorner = new ArrayList<>();
 
+	/**
+	 * The id of this corner in the {@code BoardTopology}.
+	 * @see BoardTopology
+	 */
+	private int cornerID = BoardTopology.NONE;
+
+	/**
+	 * The {@code BoardTopology} this corner belongs to or null, if it belongs to none.
+	 * @see BoardTopology
+	 */
+	private BoardTopology topology;
+
 	/**
 	 * Creates a new corner with the specified positions.
 	 * @param xPosCartesianHex x position of hex in cartesian coordinates
@@ -326,24 +344,42 @@ public class Corner {
 	 * @return the {@link Locality}.
 	 */
 	public Locality getLocality() {
-		return localityProperty.get();
+		return locality;
 	}
 	/**
-	 * Locality as SimpleObjectProperty
+	 * Sets the {@code Locality} build on this corner.
 	 * 
-	 * @return the {@link Locality}.
+	 * @param locality the {@link Locality}.
 	 */
-	public SimpleObjectProperty<Locality> localityProperty() {
-		return localityProperty;
+	public void setLocality(Locality locality) {
+		if (this.locality == locality) {
+			return;
+		}
+		this.locality = locality;
+		fireChanged(LOCALITY);
+
+		if (topology != null) {
+			topology.setLocality(cornerID, locality);
+		}
 	}
 
 	/**
-	 * Sets the {@code Locality} build on this corner.
-	 * 
-	 * @param locality the {@link Locality}.
+	 * Attaches this corner to the topology of its board. From now on, the topology is updated whenever a
+	 * {@code Locality} is built on this corner.
+	 * @param topology the {@link BoardTopology}.
+	 * @param cornerID the id of this corner in the topology.
 	 */
-	public void setLocality(Locality locality) {
-		this.localityProperty.set(locality);
+	public void attach(BoardTopology topology, int cornerID) {
+		this.topology = topology;
+		this.cornerID = cornerID;
+	}
+
+	/**
+	 * Returns the id of this corner in the {@code BoardTopology}.
+	 * @return the id or {@link BoardTopology#NONE}, if this corner belongs to no topology.
+	 */
+	public int getCornerID() {
+		return cornerID;
 	}
 
 	/**
@@ -1,15 +1,13 @@
 package game.board.corners;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import game.board.construction.localities.Settlement;
 import interfaces.Controller;
 import javafx.fxml.FXML;
 import javafx.scene.shape.Circle;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.BuildMessage;
+import network.protocol.messages.Coordinates;
 import network.server.Server;
 
 /**
@@ -47,22 +45,7 @@ public class CornerController implements Controller<Corner> {
 	 */
 	@FXML
 	public void select() {
-		JSONObject jsonObj = new JSONObject();
-		jsonObj.put(Attributes.TYPE.toString(), Attributes.SETTLEMENT.toString());
-//		jsonObj.put(Attributes.POSITION.toString(), corner.getCornerLocality());
-		JSONArray array = new JSONArray();
-		for (int i = 0; i < 3; i++) {
-			JSONObject positionHex = new JSONObject();
-			positionHex.put(Attributes.X.toString(),
-					corner.getAdjacentHexesOfCorner().get(i).getxPosAxialHex());
-			positionHex.put(Attributes.Y.toString(),
-					corner.getAdjacentHexesOfCorner().get(i).getyPosAxialHex());
-
-			array.put(positionHex);
-		}
-		
-		jsonObj.put(Attributes.POSITION.toString(), array);
-		client.sendToServer(ServerTypes.BUILD.toString(), jsonObj);
+		client.sendToServer(new BuildMessage(Attributes.SETTLEMENT.toString(), Coordinates.of(corner)));
 	}
 
 	/**
@@ -0,0 +1,45 @@
+package game.board.corners;
+
+import game.ModelProperties;
+import game.board.construction.localities.Locality;
+import javafx.beans.property.ObjectProperty;
+
+/**
+ * Wraps a {@code Corner} in JavaFX properties for the view of the board.
+ * @author Christoph Hermann
+ * @see Corner
+ */
+public class CornerProperties extends ModelProperties {
+
+	/**
+	 * The wrapped corner.
+	 */
+	private final Corner corner;
+
+	/**
+	 * Creates a new adapter of the specified corner.
+	 * @param corner the {@link Corner}.
+	 */
+	private CornerProperties(Corner corner) {
+		super(corner);
+		this.corner = corner;
+	}
+
+	/**
+	 * Returns the adapter of the specified corner, which is created when it is requested first.
+	 * @param corner the {@link Corner}.
+	 * @return the adapter.
+	 */
+	public static CornerProperties of(Corner corner) {
+		return corner.getView(() -> new CornerProperties(corner));
+	}
+
+	/**
+	 * Returns the property of the locality built on the corner.
+	 * @return the {@link Locality} property.
+	 */
+	public ObjectProperty<Locality> localityProperty() {
+		return objectProperty(Corner.LOCALITY, corner::getLocality, corner::setLocality);
+	}
+
+}
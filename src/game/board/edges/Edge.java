@@ -2,7 +2,9 @@ package game.board.edges;
 
 import java.util.ArrayList;
 
+import game.ObservableModel;
 import game.board.Board;
+import game.board.BoardTopology;
 import game.board.construction.roads.Road;
 import game.board.corners.Corner;
 import game.board.harbors.Harbor;
@@ -10,7 +12,6 @@ import game.board.harbors.HarborType;
 import game.board.hexes.EdgePosition;
 import game.board.hexes.Hex;
 import game.player.Player;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents the edge of a {@code Hex}.
@@ -19,11 +20,17 @@ import javafx.beans.property.SimpleObjectProperty;
  * @author Cornelia Sedlmeir-Hofmann
  * @see Hex
  */
-public class Edge {
-/**
- * road as SompleObjectProperty
- */
-	private SimpleObjectProperty<Road> roadProperty = new SimpleObjectProperty<Road>();
+public class Edge extends ObservableModel {
+
+	/**
+	 * The name of the property of the road built on an edge.
+	 */
+	public static final String ROAD = "road";
+	/**
+	 * The {@code Road} built on this edge.
+	 */
+	private Road road;
+
 	/**
 	 * new harbor of type NONE
 	 */
@@ -64,6 +71,14 @@ public class Edge {
 	 * y-Position of an edge in cartesian coordinates
 	 */
 	private double yPosCartesianEdge;
+	/**
+	 * id of an edge in the {@code BoardTopology}
+	 */
+	private int edgeID = BoardTopology.NONE;
+	/**
+	 * the {@code BoardTopology} this edge belongs to or null, if it belongs to none
+	 */
+	private BoardTopology topology;
 	
 	
 	/**Constructor
@@ -269,7 +284,7 @@ public class Edge {
 	 * @return The {@code Road} has been builded on this edge
 	 */
 	public Road getRoad() {
-		return roadProperty.get();
+		return road;
 	}
 
 	/**
@@ -278,16 +293,36 @@ public class Edge {
 	 * @param road the new {@link Road} on this edge.
 	 */
 	public void setRoad(Road road) {
-		roadProperty.set(road);
+		if (this.road == road) {
+			return;
+		}
+		this.road = road;
+		fireChanged(ROAD);
+
+		if (topology != null) {
+			topology.setRoad(edgeID, road);
+		}
+	}
+
+	/**
+	 * Attaches this {@code Edge} to the topology of its board. From now on, the topology is updated whenever a
+	 * {@code Road} is built on this edge.
+	 * 
+	 * @param topology the {@link BoardTopology}
+	 * @param edgeID the id of this edge in the topology
+	 */
+	public void attach(BoardTopology topology, int edgeID) {
+		this.topology = topology;
+		this.edgeID = edgeID;
 	}
 
 	/**
-	 * Getter for the road property
+	 * Get the id of this {@code Edge} in the {@code BoardTopology}
 	 * 
-	 * @return the road property wrapping the road built on this edge
+	 * @return the id or {@link BoardTopology#NONE}, if this edge belongs to no topology
 	 */
-	public SimpleObjectProperty<Road> roadProperty() {
-		return roadProperty;
+	public int getEdgeID() {
+		return edgeID;
 	}
 
 	/**
@@ -2,13 +2,11 @@ package game.board.edges;
 
 import java.util.List;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import game.board.Board;
 import game.board.construction.roads.Road;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
 import game.player.Player;
+import game.player.PlayerProperties;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
@@ -17,7 +15,8 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.BuildMessage;
+import network.protocol.messages.Coordinates;
 import network.server.Server;
 
 /**
@@ -55,8 +54,8 @@ public class EdgeController implements Controller<Edge> {
 	 */
 	@FXML
 	public void select() {
-		if(client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get()!=null) {
-			if (client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get()
+		if(client.getUser().getPlayer().getSelectedDevelopmentCard()!=null) {
+			if (client.getUser().getPlayer().getSelectedDevelopmentCard()
 					.equals(PlayableDevelopmentCardType.ROAD_BUILDING)) {
 				List<Edge> lastTwoClickedOnEdges = client.getUser().getPlayer().getLastTwoClickedOnEdges();
 				if(lastTwoClickedOnEdges.size()==2) {
@@ -69,21 +68,7 @@ public class EdgeController implements Controller<Edge> {
 				lastTwoClickedOnEdges.add(0,edge);
 			}
 		} else {
-			JSONObject jsonObj = new JSONObject();
-			jsonObj.put(Attributes.TYPE.toString(), Attributes.ROAD.toString());
-			JSONArray array = new JSONArray();
-			for (int i = 0; i < 2; i++) {
-				JSONObject positionHex = new JSONObject();
-				positionHex.put(Attributes.X.toString(),
-						edge.getAdjacentHexesOfEdge().get(i).getxPosAxialHex());
-				positionHex.put(Attributes.Y.toString(),
-						edge.getAdjacentHexesOfEdge().get(i).getyPosAxialHex());
-
-				array.put(positionHex);
-			}
-			
-			jsonObj.put(Attributes.POSITION.toString(), array);
-			client.sendToServer(ServerTypes.BUILD.toString(), jsonObj);
+			client.sendToServer(new BuildMessage(Attributes.ROAD.toString(), Coordinates.of(edge)));
 		}
 	}
 
@@ -103,15 +88,15 @@ public class EdgeController implements Controller<Edge> {
 		highlightEffect.setColor(Color.BLUE);
 		Player player = client.getUser().getPlayer();
 		edgeView.effectProperty().bind(Bindings.createObjectBinding(() -> {
-			if(player.currentySelectedDevelopmentCardProperty().get()!=null &&
-					player.currentySelectedDevelopmentCardProperty().get()
+			if(player.getSelectedDevelopmentCard()!=null &&
+					player.getSelectedDevelopmentCard()
 					.equals(PlayableDevelopmentCardType.ROAD_BUILDING)
 					&& player.getLastTwoClickedOnEdges().contains(edge)) {
 				return highlightEffect;
 			} else {
 				return null;
 			}
-		}, player.lastTwoClickedOnEdgesProperty()));
+		}, PlayerProperties.of(player).lastTwoClickedOnEdgesProperty()));
 	}
 
 	@Override
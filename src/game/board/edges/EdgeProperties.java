@@ -0,0 +1,45 @@
+package game.board.edges;
+
+import game.ModelProperties;
+import game.board.construction.roads.Road;
+import javafx.beans.property.ObjectProperty;
+
+/**
+ * Wraps an {@code Edge} in JavaFX properties for the view of the board.
+ * @author Christoph Hermann
+ * @see Edge
+ */
+public class EdgeProperties extends ModelProperties {
+
+	/**
+	 * The wrapped edge.
+	 */
+	private final Edge edge;
+
+	/**
+	 * Creates a new adapter of the specified edge.
+	 * @param edge the {@link Edge}.
+	 */
+	private EdgeProperties(Edge edge) {
+		super(edge);
+		this.edge = edge;
+	}
+
+	/**
+	 * Returns the adapter of the specified edge, which is created when it is requested first.
+	 * @param edge the {@link Edge}.
+	 * @return the adapter.
+	 */
+	public static EdgeProperties of(Edge edge) {
+		return edge.getView(() -> new EdgeProperties(edge));
+	}
+
+	/**
+	 * Returns the property of the road built on the edge.
+	 * @return the {@link Road} property.
+	 */
+	public ObjectProperty<Road> roadProperty() {
+		return objectProperty(Edge.ROAD, edge::getRoad, edge::setRoad);
+	}
+
+}
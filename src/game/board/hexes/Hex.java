@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
+import game.board.BoardTopology;
 import game.board.corners.Corner;
 import game.board.edges.Edge;
 import game.board.tokens.Token;
@@ -174,6 +175,10 @@ public class Hex {
 	 */
 	public void setType(HexType type) {
 		this.type = type;
+
+		if (topology != null) {
+			topology.updateHex(this);
+		}
 	}
 
 	/**
@@ -283,6 +288,10 @@ public class Hex {
  * */
 	public void setToken(Token token) {
 		this.token = token;
+
+		if (topology != null) {
+			topology.updateHex(this);
+		}
 	}
 /** Getter for hexNeighbor
  * 
@@ -297,6 +306,11 @@ public class Hex {
 	 */
 	private int hexID;
 
+	/**
+	 * The {@code BoardTopology} this hex belongs to or null, if it belongs to none.
+	 */
+	private BoardTopology topology;
+
 	/**
 	 * 
 	 */
@@ -314,6 +328,16 @@ public class Hex {
 		this.hexID = hexID;
 	}
 
+	/**
+	 * Attaches this hex to the topology of its board. From now on, the topology is updated whenever the type or the
+	 * token of this hex changes.
+	 * 
+	 * @param topology the {@link BoardTopology}
+	 */
+	public void attach(BoardTopology topology) {
+		this.topology = topology;
+	}
+
 	/**
 	 * Constructor of hex.
 	 * 
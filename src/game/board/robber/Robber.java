@@ -1,19 +1,25 @@
 package game.board.robber;
 
+import game.ObservableModel;
+import game.board.BoardTopology;
 import game.board.hexes.Hex;
-import javafx.beans.property.SimpleObjectProperty;
 
 /**
  * Represents the robber.
  * @author svenja
  * @author Christoph Hermann
  */
-public class Robber {
+public class Robber extends ObservableModel {
 
 	/**
-	 * The {@code Hex} this robber is positioned on as a property
+	 * The name of the property of the position of a robber.
 	 */
-	private SimpleObjectProperty<Hex> positionProperty = new SimpleObjectProperty<Hex>();
+	public static final String POSITION = "position";
+
+	/**
+	 * The {@code Hex} this robber is positioned on.
+	 */
+	private Hex position;
 
 	/**
 	 * The previous position of the Robber. Needed for reverting the position 
@@ -21,12 +27,17 @@ public class Robber {
 	 */
 	private Hex lastValidPosition;
 
+	/**
+	 * The topology of the board this robber is positioned on or null, if it is not attached to a board.
+	 */
+	private BoardTopology topology;
+
 	/**
 	 * Constructor for the Robber
 	 * @param hex The Hex the Robber is placed on
 	 */
 	public Robber(Hex hex) {
-		this.positionProperty.set(hex);
+		this.position = hex;
 		this.lastValidPosition = hex;
 	}
 
@@ -37,14 +48,14 @@ public class Robber {
 	 */
 	public void move(Hex hex) {
 		this.lastValidPosition = hex;
-		this.positionProperty.set(hex);
+		setPosition(hex);
 	}
 
 	/**
 	 * Moves the robber back to its previous position.
 	 */
 	public void resetPosition() {
-		this.positionProperty.set(lastValidPosition);
+		setPosition(lastValidPosition);
 	}
 
 	/**
@@ -53,15 +64,36 @@ public class Robber {
 	 * @see Hex
 	 */
 	public Hex getPosition() {
-		return positionProperty.get();
+		return position;
+	}
+
+	/**
+	 * Sets the {@code Hex} this robber is currently positioned on and updates the topology of the board. Unlike
+	 * {@link #move(Hex)} it keeps the previous position, e.g. while the server hasn't confirmed the move yet.
+	 * @param hex the new position.
+	 */
+	public void setPosition(Hex hex) {
+		if (position == hex) {
+			return;
+		}
+		position = hex;
+		fireChanged(POSITION);
+
+		if (topology != null && hex != null) {
+			topology.moveRobber(hex.getHexID());
+		}
 	}
 
 	/**
-	 * Returns the position of the {@code Hex} this robber is currently positioned on as a property.
-	 * @return the position
+	 * Attaches this robber to the topology of its board. From now on, the topology is updated whenever this robber
+	 * moves.
+	 * @param topology the {@link BoardTopology}.
 	 */
-	public SimpleObjectProperty<Hex> getPositionProperty() {
-		return positionProperty;
+	public void attach(BoardTopology topology) {
+		this.topology = topology;
+		if (position != null) {
+			topology.moveRobber(position.getHexID());
+		}
 	}
 
 }
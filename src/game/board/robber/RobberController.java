@@ -3,6 +3,7 @@ package game.board.robber;
 import game.board.Board;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
 import game.player.Player;
+import game.player.PlayerProperties;
 import game.player.PlayerState;
 import interfaces.Controller;
 import javafx.animation.Interpolator;
@@ -76,16 +77,16 @@ public class RobberController implements Controller<Robber> {
 		Player player = client.getUser().getPlayer();
 
 		robberView.effectProperty().bind(Bindings.createObjectBinding(() -> {
-			if (client.getUser().getPlayer().stateProperty().get().equals(PlayerState.MOVE_ROBBER)
-					|| (player.currentySelectedDevelopmentCardProperty().get()!=null 
-					&& player.currentySelectedDevelopmentCardProperty().get().equals(PlayableDevelopmentCardType.KNIGHT))) {
+			if (client.getUser().getPlayer().getState().equals(PlayerState.MOVE_ROBBER)
+					|| (player.getSelectedDevelopmentCard()!=null 
+					&& player.getSelectedDevelopmentCard().equals(PlayableDevelopmentCardType.KNIGHT))) {
 				robberView.setMouseTransparent(false);
 				return highlightEffect;
 			} else {
 				robberView.setMouseTransparent(true);
 				return null;
 			}
-		}, player.stateProperty(), player.currentySelectedDevelopmentCardProperty()));
+		}, PlayerProperties.of(player).stateProperty(), PlayerProperties.of(player).selectedDevelopmentCardProperty()));
 
 		startAnimation();
 	}
@@ -110,7 +111,7 @@ public class RobberController implements Controller<Robber> {
 	 */
 	private void bindRobberMovement(){
 
-		robber.getPositionProperty().addListener(new InvalidationListener() {
+		RobberProperties.of(robber).positionProperty().addListener(new InvalidationListener() {
 			@Override
 			public void invalidated(Observable observable) {
 				robberView.xProperty().set(robber.getPosition().getxPosCartesianHex() - width/2);
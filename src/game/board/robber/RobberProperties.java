@@ -0,0 +1,46 @@
+package game.board.robber;
+
+import game.ModelProperties;
+import game.board.hexes.Hex;
+import javafx.beans.property.ObjectProperty;
+
+/**
+ * Wraps a {@code Robber} in JavaFX properties for the view of the board.
+ * @author Christoph Hermann
+ * @see Robber
+ */
+public class RobberProperties extends ModelProperties {
+
+	/**
+	 * The wrapped robber.
+	 */
+	private final Robber robber;
+
+	/**
+	 * Creates a new adapter of the specified robber.
+	 * @param robber the {@link Robber}.
+	 */
+	private RobberProperties(Robber robber) {
+		super(robber);
+		this.robber = robber;
+	}
+
+	/**
+	 * Returns the adapter of the specified robber, which is created when it is requested first.
+	 * @param robber the {@link Robber}.
+	 * @return the adapter.
+	 */
+	public static RobberProperties of(Robber robber) {
+		return robber.getView(() -> new RobberProperties(robber));
+	}
+
+	/**
+	 * Returns the property of the {@code Hex} the robber is positioned on. Changes of it move the robber, but keep its
+	 * previous position.
+	 * @return the {@link Hex} property.
+	 */
+	public ObjectProperty<Hex> positionProperty() {
+		return objectProperty(Robber.POSITION, robber::getPosition, robber::setPosition);
+	}
+
+}
@@ -2,14 +2,12 @@ package game.cards;
 
 import java.util.List;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import game.board.edges.Edge;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCard;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
 import game.cards.victorypointcards.VictoryPointCard;
 import game.player.Player;
+import game.player.PlayerProperties;
 import game.player.PlayerState;
 import game.resources.ResourceType;
 import game.resources.Resources;
@@ -28,10 +26,12 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Pane;
 import main.ApplicationInstance;
 import javafx.scene.Node;
-import network.Mapper;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.Coordinates;
+import network.protocol.messages.PlayMonopolyMessage;
+import network.protocol.messages.PlayRoadBuildingMessage;
+import network.protocol.messages.PlayYearOfPlentyMessage;
 
 /**
  * Displays the developments cards and their infos and updates them when the
@@ -237,11 +237,9 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 			Resources resources2 = new Resources(type2, 1);
 			resources.add(resources2);
 
-			JSONObject jsonObj = new JSONObject();
-			jsonObj.put(Attributes.RESOURCES.toString(), (new Mapper()).writeValueAsJson(resources));
-			client.sendToServer(ServerTypes.PLAY_YEAR_OF_PLENTY.toString(), jsonObj);
+			client.sendToServer(new PlayYearOfPlentyMessage(resources));
 			selectedResourceCardsPane.getChildren().clear();
-			player.currentySelectedDevelopmentCardProperty().setValue(null);
+			player.setSelectedDevelopmentCard(null);
 		}
 	}
 
@@ -256,26 +254,26 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 	private void playMonopoly(MouseEvent event) {
 		Node card = (Node) event.getSource();
 		ResourceType type = ResourceType.valueOf(card.getId().toUpperCase());
-		JSONObject jsonObject = new JSONObject();
+		String resource = null;
 		switch (type) {
 		case BRICK:
-			jsonObject.put(Attributes.RESOURCE.toString(), Attributes.BRICK.toString());
+			resource = Attributes.BRICK.toString();
 			break;
 		case GRAIN:
-			jsonObject.put(Attributes.RESOURCE.toString(), Attributes.GRAIN.toString());
+			resource = Attributes.GRAIN.toString();
 			break;
 		case LUMBER:
-			jsonObject.put(Attributes.RESOURCE.toString(), Attributes.LUMBER.toString());
+			resource = Attributes.LUMBER.toString();
 			break;
 		case ORE:
-			jsonObject.put(Attributes.RESOURCE.toString(), Attributes.ORE.toString());
+			resource = Attributes.ORE.toString();
 			break;
 		case WOOL:
-			jsonObject.put(Attributes.RESOURCE.toString(), Attributes.WOOL.toString());
+			resource = Attributes.WOOL.toString();
 			break;
 		}
-		client.sendToServer(ServerTypes.PLAY_MONOPOLY.toString(), jsonObject);
-		player.currentySelectedDevelopmentCardProperty().setValue(null);
+		client.sendToServer(new PlayMonopolyMessage(resource));
+		player.setSelectedDevelopmentCard(null);
 	}
 
 	/**
@@ -285,33 +283,15 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 	private void sendRoadBuilding() {
 		List<Edge> edgesSelectedForRoadBuilding = client.getUser().getPlayer().getLastTwoClickedOnEdges();
 		if (edgesSelectedForRoadBuilding.size() >= 1) {
-			JSONObject jsonObj = new JSONObject();
-			JSONArray array = new JSONArray();
-			Edge edge = edgesSelectedForRoadBuilding.get(0);
-			for (int i = 0; i < 2; i++) {
-				JSONObject positionHex = new JSONObject();
-				positionHex.put(Attributes.X.toString(), edge.getAdjacentHexesOfEdge().get(i).getxPosAxialHex());
-				positionHex.put(Attributes.Y.toString(), edge.getAdjacentHexesOfEdge().get(i).getyPosAxialHex());
-				array.put(positionHex);
-			}
-			jsonObj.put(Attributes.STREAT_ONE.toString(), array);
-
-			
+			List<Coordinates> firstRoad = Coordinates.of(edgesSelectedForRoadBuilding.get(0));
+			List<Coordinates> secondRoad = null;
 			if (edgesSelectedForRoadBuilding.size() >= 2) {
-				JSONArray array2 = new JSONArray();
-				Edge edge2 = edgesSelectedForRoadBuilding.get(1);
-				for (int i = 0; i < 2; i++) {
-					JSONObject positionHex = new JSONObject();
-					positionHex.put(Attributes.X.toString(), edge2.getAdjacentHexesOfEdge().get(i).getxPosAxialHex());
-					positionHex.put(Attributes.Y.toString(), edge2.getAdjacentHexesOfEdge().get(i).getyPosAxialHex());
-					array2.put(positionHex);
-				}
-				jsonObj.put(Attributes.STREAT_TWO.toString(), array2);
+				secondRoad = Coordinates.of(edgesSelectedForRoadBuilding.get(1));
 			}	
 			
-			client.sendToServer(ServerTypes.PLAY_ROAD_BUILDING.toString(), jsonObj);
+			client.sendToServer(new PlayRoadBuildingMessage(firstRoad, secondRoad));
 			edgesSelectedForRoadBuilding.clear();
-			player.currentySelectedDevelopmentCardProperty().setValue(null);
+			player.setSelectedDevelopmentCard(null);
 		}
 	}
 
@@ -339,7 +319,7 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 		if (pane.getChildren().size()==1) {
 			pane.setMouseTransparent(true);
 		}
-		player.stateProperty().addListener((observable) -> {
+		PlayerProperties.of(player).stateProperty().addListener((observable) -> {
 			if (player.getState() == PlayerState.MOVE_ROBBER || player.getState() == PlayerState.DISCARD_RESOURCES) {
 				pane.setMouseTransparent(true);
 			} else {
@@ -394,10 +374,10 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 			}
 		});
 
-		player.currentySelectedDevelopmentCardProperty().addListener(new InvalidationListener() {
+		PlayerProperties.of(player).selectedDevelopmentCardProperty().addListener(new InvalidationListener() {
 			@Override
 			public void invalidated(Observable observable) {
-				PlayableDevelopmentCardType type = player.currentySelectedDevelopmentCardProperty().get();
+				PlayableDevelopmentCardType type = player.getSelectedDevelopmentCard();
 				menuPane.getChildren().forEach(node -> node.setVisible(false));
 				infoPane.getChildren().forEach(node -> node.setVisible(false));
 				infoPane.setVisible(false);
@@ -423,13 +403,13 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 			}
 		});
 		
-		player.stateProperty().addListener((observable) -> {
-			player.currentySelectedDevelopmentCardProperty().set(null);
+		PlayerProperties.of(player).stateProperty().addListener((observable) -> {
+			player.setSelectedDevelopmentCard(null);
 		});
 	}
 
 	/**
-	 * Sets the currentySelectedDevelopmentCardProperty of the player to the
+	 * Sets the selected development card of the player to the
 	 * selected card, so that clicks on edges and hexes are now registered as part
 	 * of the process of playing a development card
 	 * 
@@ -440,10 +420,10 @@ public class DevelopmentCardsController implements Controller<SimpleListProperty
 	private void cardSelected(MouseEvent event) {
 		String sourceId = ((Node) event.getSource()).getId();
 		PlayableDevelopmentCardType type = PlayableDevelopmentCardType.valueOf(sourceId);
-		if (player.currentySelectedDevelopmentCardProperty().get() != type) {
-			player.currentySelectedDevelopmentCardProperty().set(type);
+		if (player.getSelectedDevelopmentCard() != type) {
+			player.setSelectedDevelopmentCard(type);
 		} else {
-			player.currentySelectedDevelopmentCardProperty().set(null);
+			player.setSelectedDevelopmentCard(null);
 		}
 
 	}
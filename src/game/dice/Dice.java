@@ -5,36 +5,62 @@ import java.util.Random;
 //import org.apache.logging.log4j.LogManager;
 //import org.apache.logging.log4j.Logger;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import game.ObservableModel;
 
 /**
  * Represents the two dice used in Settlers of Catan.
  * @author Christoph Hermann
  */
-public class Dice {
+public class Dice extends ObservableModel {
+
+	/**
+	 * The name of the property of the number on the first die.
+	 */
+	public static final String DIE_ONE_NUMBER = "dieOneNumber";
+
+	/**
+	 * The name of the property of the number on the second die.
+	 */
+	public static final String DIE_TWO_NUMBER = "dieTwoNumber";
+
+	/**
+	 * The source of the rolled numbers.
+	 */
+	private final Random random;
 
 	/**
 	 * The number on the first die.
 	 */
-	private IntegerProperty dieOneNumber = new SimpleIntegerProperty(1);
+	private int dieOneNumber = 1;
 
 	/**
 	 * The number on the second die.
 	 */
-	private IntegerProperty dieTwoNumber = new SimpleIntegerProperty(1);
+	private int dieTwoNumber = 1;
+
+	/**
+	 * Creates new dice.
+	 */
+	public Dice() {
+		this(new Random());
+	}
+
+	/**
+	 * Creates new dice, which roll the numbers of the specified source, e.g. a seeded one to replay a game.
+	 * @param random the source of the rolled numbers.
+	 */
+	public Dice(Random random) {
+		this.random = random;
+	}
 
 	/**
 	 * Rolls the dice and adds the rolled numbers together.
 	 * @return the sum of the numbers on the two dice.
 	 */
 	public int roll() {
-		Random random = new Random();
-
-		dieOneNumber.set(random.nextInt(6) + 1);
-		dieTwoNumber.set(random.nextInt(6) + 1);
+		setDice(random.nextInt(6) + 1, random.nextInt(6) + 1);
 
-		int sum = dieOneNumber.get() + dieTwoNumber.get();
+		int sum = dieOneNumber + dieTwoNumber;
 
 		return sum;
 	}
@@ -45,8 +71,14 @@ public class Dice {
 	 * @param dieTwo the value of the second die.
 	 */
 	public void setDice(int dieOne, int dieTwo){
-		dieOneNumber.set(dieOne);
-		dieTwoNumber.set(dieTwo);
+		if (dieOneNumber != dieOne) {
+			dieOneNumber = dieOne;
+			fireChanged(DIE_ONE_NUMBER);
+		}
+		if (dieTwoNumber != dieTwo) {
+			dieTwoNumber = dieTwo;
+			fireChanged(DIE_TWO_NUMBER);
+		}
 	}
 
 	/**
@@ -54,7 +86,7 @@ public class Dice {
 	 * @return the first number.
 	 */
 	public final int getDieOneNumber() {
-		return dieOneNumber.get();
+		return dieOneNumber;
 	}
 
 	/**
@@ -62,22 +94,6 @@ public class Dice {
 	 * @return the second number.
 	 */
 	public final int getDieTwoNumber() {
-		return dieTwoNumber.get();
-	}
-
-	/**
-	 * Returns the number property of the first die.
-	 * @return the first die property.
-	 */
-	public IntegerProperty dieOneNumberProperty() {
-		return dieOneNumber;
-	}
-
-	/**
-	 * Returns the number property of the second die.
-	 * @return the second die property.
-	 */
-	public IntegerProperty dieTwoNumberProperty() {
 		return dieTwoNumber;
 	}
 
@@ -1,7 +1,6 @@
 package game.dice;
 
-import org.json.JSONObject;
-
+import game.player.PlayerProperties;
 import game.player.PlayerState;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
@@ -13,6 +12,7 @@ import javafx.scene.image.ImageView;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
 import network.protocol.ServerTypes;
+import network.protocol.messages.SimpleMessage;
 import network.server.Server;
 import sounds.AudioPlayer;
 
@@ -79,7 +79,7 @@ public class DiceController implements Controller<Dice> {
 	@FXML
 	private void roll() {
 		dice.roll();
-		client.sendToServer(ServerTypes.ROLL_DICE.toString(), new JSONObject());
+		client.sendToServer(new SimpleMessage(ServerTypes.ROLL_DICE));
 		audioPlayer.playDiceSound();
 	}
 
@@ -89,20 +89,20 @@ public class DiceController implements Controller<Dice> {
 	 */
 	public void addBindings() {
 		imageViewOne.imageProperty().bind(Bindings.createObjectBinding(() -> {
-			int diceOneNumber = dice.dieOneNumberProperty().get();
+			int diceOneNumber = dice.getDieOneNumber();
 			String imageLocation = "/game/dice/images/dice" + diceOneNumber + ".png";
 			return new Image(getClass().getResourceAsStream(imageLocation));
-		}, dice.dieOneNumberProperty()));
+		}, DiceProperties.of(dice).dieOneNumberProperty()));
 
 		imageViewTwo.imageProperty().bind(Bindings.createObjectBinding(() -> {
-			int diceTwoNumber = dice.dieTwoNumberProperty().get();
+			int diceTwoNumber = dice.getDieTwoNumber();
 			String imageLocation = "/game/dice/images/dice" + diceTwoNumber + ".png";
 			return new Image(getClass().getResourceAsStream(imageLocation));
-		}, dice.dieTwoNumberProperty()));
+		}, DiceProperties.of(dice).dieTwoNumberProperty()));
 
 		rollButton.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 			return client.getUser().getPlayer().getState() == PlayerState.ROLL_DICE;
-		}, client.getUser().getPlayer().stateProperty()));
+		}, PlayerProperties.of(client.getUser().getPlayer()).stateProperty()));
 
 		imageViewOne.visibleProperty().bind(rollButton.visibleProperty().not());
 		imageViewTwo.visibleProperty().bind(rollButton.visibleProperty().not());
@@ -0,0 +1,52 @@
+package game.dice;
+
+import game.ModelProperties;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * Wraps {@code Dice} in JavaFX properties for the views of the game.
+ * @author Christoph Hermann
+ * @see Dice
+ */
+public class DiceProperties extends ModelProperties {
+
+	/**
+	 * The wrapped dice.
+	 */
+	private final Dice dice;
+
+	/**
+	 * Creates a new adapter of the specified dice.
+	 * @param dice the {@link Dice}.
+	 */
+	private DiceProperties(Dice dice) {
+		super(dice);
+		this.dice = dice;
+	}
+
+	/**
+	 * Returns the adapter of the specified dice, which is created when it is requested first.
+	 * @param dice the {@link Dice}.
+	 * @return the adapter.
+	 */
+	public static DiceProperties of(Dice dice) {
+		return dice.getView(() -> new DiceProperties(dice));
+	}
+
+	/**
+	 * Returns the number property of the first die.
+	 * @return the first die property.
+	 */
+	public IntegerProperty dieOneNumberProperty() {
+		return integerProperty(Dice.DIE_ONE_NUMBER, dice::getDieOneNumber, null);
+	}
+
+	/**
+	 * Returns the number property of the second die.
+	 * @return the second die property.
+	 */
+	public IntegerProperty dieTwoNumberProperty() {
+		return integerProperty(Dice.DIE_TWO_NUMBER, dice::getDieTwoNumber, null);
+	}
+
+}
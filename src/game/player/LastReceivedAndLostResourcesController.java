@@ -4,12 +4,12 @@ import java.util.HashMap;
 
 import game.resources.ResourceType;
 import game.resources.Resources;
+import game.resources.ResourcesProperties;
 import interfaces.Controller;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.TranslateTransition;
 import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleMapProperty;
 import javafx.fxml.FXML;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.AnchorPane;
@@ -50,7 +50,7 @@ public class LastReceivedAndLostResourcesController implements Controller<Player
 	 * Updates the received cards.
 	 */
 	private void bindReceivedResources() {
-		player.getLastReceivedResources().getResources().addListener((InvalidationListener) o -> {
+		ResourcesProperties.of(player.getLastReceivedResources()).resourcesProperty().addListener((InvalidationListener) o -> {
 			HBox resourcesBox = createResources(player.getLastReceivedResources());
 			receivedCardsPane.getChildren().add(resourcesBox);
 			animateReceivedCards(resourcesBox);
@@ -61,7 +61,7 @@ public class LastReceivedAndLostResourcesController implements Controller<Player
 	 * Updates the lost cards.
 	 */
 	private void bindLostResources() {
-		player.getLastLostResources().getResources().addListener((InvalidationListener) o -> {
+		ResourcesProperties.of(player.getLastLostResources()).resourcesProperty().addListener((InvalidationListener) o -> {
 			HBox resourcesBox = createResources(player.getLastLostResources());
 			lostCardsPane.getChildren().add(resourcesBox);
 			animateLostCards(resourcesBox);
@@ -76,11 +76,10 @@ public class LastReceivedAndLostResourcesController implements Controller<Player
 	private HBox createResources(Resources resources) {
 		HBox hbox = new HBox();
 		hbox.setSpacing(SPACING);
-		SimpleMapProperty<ResourceType, Integer> map = resources.getResources();
-		for(ResourceType type : map.keySet()) {
-			if(map.get(type) != 0) {
+		for(ResourceType type : ResourceType.values()) {
+			if(resources.get(type) != 0) {
 				AnchorPane  pane = new AnchorPane();
-				while(pane.getChildren().size() < map.get(type)) {
+				while(pane.getChildren().size() < resources.get(type)) {
 					addCard(type, pane);
 				}
 				hbox.getChildren().add(pane);
@@ -1,13 +1,19 @@
 package game.player;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import game.Game;
+import game.ModelList;
+import game.ObservableModel;
+import game.ZobristKeys;
 import game.TradingRatios;
 import game.bank.Bank;
 import game.board.Board;
+import game.board.BoardTopology;
+import game.board.MoveGenerator;
+import game.board.RoadNetwork;
 import game.board.construction.localities.City;
 import game.board.construction.localities.Locality;
 import game.board.construction.localities.Settlement;
@@ -26,15 +32,7 @@ import game.cards.victorypointcards.VictoryPointCard;
 import game.dice.Dice;
 import game.resources.ResourceType;
 import game.resources.Resources;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleListProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
-import javafx.scene.paint.Color;
+import game.resources.ResourcesListener;
 import users.User;
 
 /**
@@ -42,7 +40,42 @@ import users.User;
  * 
  * @author Christoph Hermann
  */
-public class Player {
+public class Player extends ObservableModel {
+
+	/**
+	 * The name of the property of the state of a player.
+	 */
+	public static final String STATE = "state";
+
+	/**
+	 * The name of the property of the victory points of a player.
+	 */
+	public static final String VICTORY_POINTS = "victoryPoints";
+
+	/**
+	 * The name of the property of the visible victory points of a player.
+	 */
+	public static final String VISIBLE_VICTORY_POINTS = "visibleVictoryPoints";
+
+	/**
+	 * The name of the property of the length of the longest road of a player.
+	 */
+	public static final String LONGEST_ROAD_LENGTH = "longestRoadLength";
+
+	/**
+	 * The name of the property of the number of knight cards a player has played.
+	 */
+	public static final String PLAYED_KNIGHT_CARDS = "playedKnightCards";
+
+	/**
+	 * The name of the property of the amount of resources of a player.
+	 */
+	public static final String RESOURCE_QUANTITY = "resourceQuantity";
+
+	/**
+	 * The name of the property of the development card a player is playing.
+	 */
+	public static final String SELECTED_DEVELOPMENT_CARD = "selectedDevelopmentCard";
 
 	/**
 	 * The id of this player. It is, among other things, used to determine the turn
@@ -69,7 +102,7 @@ public class Player {
 	/**
 	 * The color of this player.
 	 */
-	private Color color;
+	private PlayerColor color;
 
 	/**
 	 * The {@code Resources} this player has.
@@ -197,13 +230,11 @@ public class Player {
 	private List<Edge> cardRoadPositions = new ArrayList<>();
 
 	/**
-	 * The property of the set of {@code SpecialCards} this player owns.
+	 * The list of {@code SpecialCards} this player owns.
 	 * 
 	 * @see SpecialCard
 	 */
-	private SimpleListProperty<SpecialCard> specialCardsProperty 
-	= new SimpleListProperty<SpecialCard>(
-			FXCollections.observableArrayList(new ArrayList<SpecialCard>()));
+	private final ModelList<SpecialCard> specialCards = new ModelList<SpecialCard>();
 
 	/**
 	 * The list of {@code Harbor} this {@code Player} owns
@@ -227,11 +258,10 @@ public class Player {
 	private List<Harbor> specialHarbors = new ArrayList<>();
 
 	/**
-	 * The property of the list of edges that are selected to build a road on in the process of
+	 * The list of edges that are selected to build a road on in the process of
 	 * playing a Road Building DevelopmentCard.
 	 */
-	private SimpleListProperty<Edge> lastTwoClickedOnEdgesProperty = new SimpleListProperty<Edge>(
-			FXCollections.observableArrayList(new ArrayList<Edge>()));
+	private final ModelList<Edge> lastTwoClickedOnEdges = new ModelList<Edge>();
 
 	/**
 	 * The ratios at which this player can trade the different resources with the
@@ -241,15 +271,14 @@ public class Player {
 	 * @see Resources
 	 * @see Bank
 	 */
-	private ObjectProperty<TradingRatios> tradingRatios = new SimpleObjectProperty<>();
+	private TradingRatios tradingRatios;
 
 	/**
 	 * The list of {@code DevelopmentCards} this player has.
 	 * 
 	 * @see DevelopmentCard
 	 */
-	private SimpleListProperty<DevelopmentCard> developmentCardsProperty = new SimpleListProperty<DevelopmentCard>(
-			FXCollections.observableArrayList(new ArrayList<DevelopmentCard>()));
+	private final ModelList<DevelopmentCard> developmentCards = new ModelList<DevelopmentCard>();
 
 	/**
 	 * The list of all {@code Localities} this player owns.
@@ -257,8 +286,7 @@ public class Player {
 	 * @see Locality
 	 * @see Board
 	 */
-	private SimpleListProperty<Locality> localitiesProperty = new SimpleListProperty<Locality>(
-			FXCollections.observableArrayList(new ArrayList<Locality>()));
+	private final ModelList<Locality> localities = new ModelList<Locality>();
 
 	/**
 	 * The list of all {@code Roads} this player owns.
@@ -266,69 +294,53 @@ public class Player {
 	 * @see Road
 	 * @see Board
 	 */
-	private SimpleListProperty<Road> roadsProperty = new SimpleListProperty<Road>(
-			FXCollections.observableArrayList(new ArrayList<Road>()));
+	private final ModelList<Road> roads = new ModelList<Road>();
 
 	/**
 	 * The amount of victory points this player has.
 	 */
-	private IntegerProperty victoryPointsProperty = new SimpleIntegerProperty();
+	private int victoryPoints;
 
 	/**
 	 * The amount of victory points this player has which are visible to all players.
 	 */
-	private IntegerProperty visibleVictoryPointsProperty = new SimpleIntegerProperty();
+	private int visibleVictoryPoints;
 
 	/**
 	 * The length of the longest road this player owns.
 	 */
-	private IntegerProperty longestRoadLengthProperty = new SimpleIntegerProperty();
-
-	/**
-	 * Specifies whether the player has played a development card this turn or not.
-	 */
-	private BooleanProperty developmentCardPlayedThisTurn = new SimpleBooleanProperty(false);
+	private int longestRoadLength;
 
 	/**
 	 * The total number of Knight cards this player has played.
 	 * 
 	 * @see PlayableDevelopmentCardType
 	 */
-	private IntegerProperty playedKnightCards = new SimpleIntegerProperty();
+	private int playedKnightCards;
 
 	/**
 	 * The current state of this player.
 	 */
-	private SimpleObjectProperty<PlayerState> stateProperty = new SimpleObjectProperty<PlayerState>();
+	private PlayerState state;
 
 	/**
 	 * The amount of Resources this player has.
 	 * 
 	 * @see Resources
 	 */
-	private IntegerProperty resourceQuantityProperty = new SimpleIntegerProperty();
+	private int resourceQuantity;
 	
 	/**
-	 * The property of the development card the player is playing. Null if the
-	 * player isn't currently playing any development card.
+	 * The development card the player is playing. Null if the player isn't
+	 * currently playing any development card.
 	 */
-	private SimpleObjectProperty<PlayableDevelopmentCardType> currentySelectedDevelopmentCardProperty = new SimpleObjectProperty<PlayableDevelopmentCardType>();
-
-	/**
-	 * an ArrayList of corners on which the player can build
-	 */
-	private ArrayList<Corner> avilableCorners = new ArrayList<Corner>();
+	private PlayableDevelopmentCardType selectedDevelopmentCard;
 
 	/**
 	 * an ArrayList of corners which the player has already occupied
 	 */
 	private ArrayList<Corner> occupiedCorners = new ArrayList<Corner>();
 
-	/**
-	 * an ArrayList of edges on which the player can build
-	 */
-	private ArrayList<Edge> avilableEdges = new ArrayList<Edge>();
-
 	/**
 	 * an ArrayList of edges which the player has already occupied
 	 */
@@ -339,6 +351,32 @@ public class Player {
 	 */
 	private Game game;
 
+	/**
+	 * The network of the roads of this player, used to calculate the longest
+	 * road.
+	 */
+	private RoadNetwork roadNetwork;
+
+	/**
+	 * The Zobrist hash of the resources and development cards of this player.
+	 * 
+	 * @see ZobristKeys
+	 */
+	private long hash;
+
+	/**
+	 * The number of development cards of every kind this player has.
+	 */
+	private int[] developmentCardCounts = new int[ZobristKeys.DEVELOPMENT_CARD_KINDS];
+
+	/**
+	 * Updates the hash, whenever the amount of a resource of this player
+	 * changes.
+	 */
+	private ResourcesListener resourcesHashListener = (type, oldAmount, newAmount) -> {
+		hash ^= ZobristKeys.resources(getId(), type, oldAmount) ^ ZobristKeys.resources(getId(), type, newAmount);
+	};
+
 	/**
 	 * Creates a new player with the specified values.
 	 * 
@@ -353,15 +391,80 @@ public class Player {
 	 * @param state
 	 *            the {@link PlayerState} of this player.
 	 */
-	public Player(int id, String name, String imageLocation, Color color, PlayerState state) {
+	public Player(int id, String name, String imageLocation, PlayerColor color, PlayerState state) {
 		this.id = id;
 		this.name = name;
 		this.imageLocation = imageLocation;
 		this.color = color;
-		this.stateProperty.set(state);
+		this.state = state;
+
+		tradingRatios = new TradingRatios(ResourceType.BRICK, 4, ResourceType.GRAIN, 4,
+				ResourceType.LUMBER, 4, ResourceType.ORE, 4, ResourceType.WOOL, 4);
+
+		// Keep the hash up to date with the resources and development cards.
+		attachResources(resources);
+		developmentCards.addListener((removed, added) -> {
+			for (DevelopmentCard card : removed) {
+				countDevelopmentCard(card, -1);
+			}
+			for (DevelopmentCard card : added) {
+				countDevelopmentCard(card, 1);
+			}
+		});
+	}
+
+	/**
+	 * Adds the keys of some resources to the hash and updates the hash,
+	 * whenever they change.
+	 * 
+	 * @param newResources
+	 *            the new {@link Resources} of this player.
+	 */
+	private void attachResources(Resources newResources) {
+		for (ResourceType type : ResourceType.values()) {
+			hash ^= ZobristKeys.resources(id, type, newResources.get(type));
+		}
+		newResources.addListener(resourcesHashListener);
+	}
 
-		tradingRatios.set(new TradingRatios(ResourceType.BRICK, 4, ResourceType.GRAIN, 4,
-				ResourceType.LUMBER, 4, ResourceType.ORE, 4, ResourceType.WOOL, 4));
+	/**
+	 * Removes the keys of some resources from the hash and stops updating the
+	 * hash, when they change.
+	 * 
+	 * @param oldResources
+	 *            the old {@link Resources} of this player.
+	 */
+	private void detachResources(Resources oldResources) {
+		oldResources.removeListener(resourcesHashListener);
+		for (ResourceType type : ResourceType.values()) {
+			hash ^= ZobristKeys.resources(id, type, oldResources.get(type));
+		}
+	}
+
+	/**
+	 * Changes the number of development cards of a kind and updates the hash.
+	 * 
+	 * @param card
+	 *            the added or removed {@link DevelopmentCard}.
+	 * @param difference
+	 *            1, if the card is added, -1, if it is removed.
+	 */
+	private void countDevelopmentCard(DevelopmentCard card, int difference) {
+		int kind = ZobristKeys.kindOf(card);
+		hash ^= ZobristKeys.developmentCards(id, kind, developmentCardCounts[kind]);
+		developmentCardCounts[kind] += difference;
+		hash ^= ZobristKeys.developmentCards(id, kind, developmentCardCounts[kind]);
+	}
+
+	/**
+	 * Returns the Zobrist hash of the resources and development cards of this
+	 * player, which is updated with every change.
+	 * 
+	 * @return the hash.
+	 * @see ZobristKeys
+	 */
+	public long getHash() {
+		return hash;
 	}
 
 	/**
@@ -370,15 +473,15 @@ public class Player {
 	public void updateVictoryPoints() {
 		updateVisibleVictoryPoints();
 
-		int newVictoryPoints = visibleVictoryPointsProperty.get();
+		int newVictoryPoints = visibleVictoryPoints;
 
-		for (DevelopmentCard card : developmentCardsProperty.get()) {
+		for (DevelopmentCard card : developmentCards) {
 			if (card instanceof VictoryPointCard) {
 				newVictoryPoints += ((VictoryPointCard) card).getVictoryPoints();
 			}
 		}
 
-		victoryPointsProperty.set(newVictoryPoints);
+		setVictoryPoints(newVictoryPoints);
 	}
 
 	/**
@@ -391,11 +494,14 @@ public class Player {
 			newVictoryPoints += card.getVictoryPoints();
 		}
 
-		for (Locality locality : localitiesProperty.get()) {
+		for (Locality locality : localities) {
 			newVictoryPoints += locality.getVictoryPoints();
 		}
 
-		visibleVictoryPointsProperty.set(newVictoryPoints);
+		if (visibleVictoryPoints != newVictoryPoints) {
+			visibleVictoryPoints = newVictoryPoints;
+			fireChanged(VISIBLE_VICTORY_POINTS);
+		}
 	}
 
 	/**
@@ -425,7 +531,7 @@ public class Player {
 	 *            the developmentCard
 	 */
 	public void addDevelopmentCard(DevelopmentCard developmentCard) {
-		developmentCardsProperty.get().add(developmentCard);
+		developmentCards.add(developmentCard);
 	}
 
 	/**
@@ -434,9 +540,9 @@ public class Player {
 	public void updateResourceQuantity() {
 		int value = 0;
 		for (ResourceType rt : ResourceType.values()) {
-			value += resources.getResources().get(rt);
+			value += resources.get(rt);
 		}
-		resourceQuantityProperty.set(value);
+		setResourceQuantity(value);
 	}
 
 	/**
@@ -447,23 +553,10 @@ public class Player {
 	 */
 	public void addLocality(Locality locality) {
 		countSettlement++;
-		this.localitiesProperty.add(locality);
+		this.localities.add(locality);
 
 		this.occupiedCorners.add(locality.getPosition());
 
-		try{
-			this.avilableCorners.remove(locality.getPosition());
-		}
-		catch(Exception e){
-			System.out.println(e.getMessage());
-		}
-
-		for(Edge edge : locality.getPosition().getAdjacentEdgesOfCorner()){
-			if(!edge.isOccupied() && !this.avilableEdges.contains(edge)){
-				this.avilableEdges.add(edge);
-			}
-		}
-		
 		if(locality instanceof Settlement){
 			Harbor cornerHarbor = game.getBoard().isHarbor(locality.getPosition());
 			if(cornerHarbor != null){
@@ -486,33 +579,12 @@ public class Player {
 	 */
 	public void addRoad(Road road) {
 		countRoad++;
-		this.roadsProperty.add(road);
-
-		this.occupiedEdges.add(road.getPosition());
-		try{
-
-			Corner adCorner = null;
-			for(Corner corner : road.getPosition().getAdjacentCornersOfEdge()){
-				if(!corner.isCornerOccupied()){
-					adCorner = corner;
-				}
-			}
-			for(Edge edge : adCorner.getAdjacentEdgesOfCorner()){
-				if(!edge.isOccupied() && edge != road.getPosition()){
-					this.avilableEdges.add(edge);
-				}
-			}
-			this.avilableEdges.remove(road.getPosition());
-		}
-		catch(Exception e){
-			System.out.println(e.getMessage());
+		this.roads.add(road);
+		if (roadNetwork != null) {
+			roadNetwork.addRoad(road.getPosition().getEdgeID());
 		}
 
-		for (Corner corner : road.getPosition().getAdjacentCornersOfEdge()){
-			if(cornersUnOccupied(corner.getAdjacentCornersOfCorner()) && !corner.isCornerOccupied()){
-				this.avilableCorners.add(corner);
-			}
-		}
+		this.occupiedEdges.add(road.getPosition());
 
 		updateLongestRoadLengthProperty();
 	}
@@ -532,29 +604,37 @@ public class Player {
 	}
 
 	/**
-	 * updates the ({@code longestRoad}) of this player
+	 * updates the ({@code longestRoad}) of this player. Only the parts of the
+	 * {@code RoadNetwork} affected by new roads or new localities of other
+	 * players are calculated again.
+	 * 
+	 * @see RoadNetwork
 	 */
 	public void updateLongestRoadLengthProperty() {
+		RoadNetwork network = getRoadNetwork();
+		network.update();
 
-		// längste Handelsstrasse erstellen Tiefensuche rekursiv aus roadsProperty
-		// longestRoadLengthProperty
-		// ausgehend von irgendeiner Strasse
-		// localitiesProperty
-
-		ArrayList<Road> visitedRoads = new ArrayList<>();
-		ArrayList<Edge> blackRoads = new ArrayList<>();
-		visitedRoads.addAll(roadsProperty);
-
-		int longestRoad = 1;
-		for (int i = 0; i < visitedRoads.size(); i++) {
-
-			blackRoads.removeAll(blackRoads);
-
-			longestRoad = Math.max(longestRoad, visitRoad(blackRoads, visitedRoads.get(i), null));
-
+		int newLongestRoadLength = Math.max(1, network.getLongestRoad());
+		if (longestRoadLength != newLongestRoadLength) {
+			longestRoadLength = newLongestRoadLength;
+			fireChanged(LONGEST_ROAD_LENGTH);
 		}
+	}
 
-		longestRoadLengthProperty.set(longestRoad);
+	/**
+	 * Returns the network of the roads of this player, which is created when it
+	 * is needed first.
+	 * 
+	 * @return the {@link RoadNetwork}.
+	 */
+	private RoadNetwork getRoadNetwork() {
+		if (roadNetwork == null) {
+			roadNetwork = new RoadNetwork(game.getBoard().getTopology(), id);
+			for (Road road : roads) {
+				roadNetwork.addRoad(road.getPosition().getEdgeID());
+			}
+		}
+		return roadNetwork;
 	}
 
 	/**
@@ -586,12 +666,7 @@ public class Player {
 								&& corner.getAdjacentEdgesOfCorner().get(k).getRoad() != null) {
 							Edge r = corner.getAdjacentEdgesOfCorner().get(k);
 
-							// if
-							// (roadsProperty.contains(corner.getAdjacentEdgesOfCorner().get(k).getRoad()))
-							// {
-							List<Road> filteredList = roadsProperty.stream().filter(s -> s.getPosition().equals(r))
-									.collect(Collectors.toList());
-							if (!filteredList.isEmpty()) {
+							if (r.getRoad().getOwner() == this) {
 
 								if (!(blackRoads.contains(corner.getAdjacentEdgesOfCorner().get(k)))) {
 
@@ -624,7 +699,7 @@ public class Player {
 		} else if (harbor.getType() != HarborType.UNIVERSAL) {
 			this.harbors.add(harbor);
 			this.specialHarbors.add(harbor);
-			tradingRatios.get().combine(harbor.getType().getTradingRatio());
+			tradingRatios.combine(harbor.getType().getTradingRatio());
 			setHasHarbor(isTrue);
 		} else {
 			this.harbors.add(harbor);
@@ -730,33 +805,6 @@ public class Player {
 		return false;
 	}
 	
-	/**
-	 * checks if a availableCorner is next to the given corner.
-	 * If so then the availableCorner gets removed form the ArrayList of avialableCorners
-	 * @param  corner a corner
-	 */
-	public void updateAvialableCorners(Corner corner) {
-		ArrayList<Corner> copyList = new ArrayList<Corner>(avilableCorners);
-		for(Corner avCorner : copyList){
-			if(avCorner.getAdjacentCornersOfCorner().contains(corner) || avCorner == corner){
-				avilableCorners.remove(avCorner);
-			}
-		}
-	}
-	
-	/**
-	 * checks if a availableEdge is the same as the given corner.
-	 * If so then the availableEdge gets removed form the ArrayList of avialableEdges
-	 * @param  edge an edge
-	 */
-	public void updateAvialableEdges(Edge edge) {
-		ArrayList<Edge> copyList = new ArrayList<Edge>(avilableEdges);
-		for(Edge avEdge : copyList){
-			if(avEdge == edge){
-				avilableEdges.remove(avEdge);
-			}
-		}
-	}
 
 
 	/*
@@ -770,8 +818,8 @@ public class Player {
 	 * 
 	 * @return the {@link Locality localities}.
 	 */
-	public List<Locality> getLocalities() {
-		return localitiesProperty.get();
+	public ModelList<Locality> getLocalities() {
+		return localities;
 	}
 
 	/**
@@ -779,8 +827,8 @@ public class Player {
 	 * 
 	 * @return the {@link Road roads}.
 	 */
-	public List<Road> getRoads() {
-		return roadsProperty.get();
+	public ModelList<Road> getRoads() {
+		return roads;
 	}
 
 	/**
@@ -790,7 +838,8 @@ public class Player {
 	 *            the {@link Road roads} to set.
 	 */
 	public void setRoads(List<Road> roads) {
-		this.roadsProperty.get().setAll(roads);
+		this.roads.setAll(roads);
+		this.roadNetwork = null;
 	}
 
 	/**
@@ -825,7 +874,7 @@ public class Player {
 	 * 
 	 * @return the color.
 	 */
-	public Color getColor() {
+	public PlayerColor getColor() {
 		return color;
 	}
 
@@ -843,26 +892,8 @@ public class Player {
 	 * 
 	 * @return the developmentCards.
 	 */
-	public List<DevelopmentCard> getDevelopmentCards() {
-		return developmentCardsProperty.get();
-	}
-
-	/**
-	 * Returns the length of the longest {@code Road} of this player.
-	 * 
-	 * @return the length of the longest {@link Road}.
-	 */
-	public IntegerProperty getLongestRoadLengthProperty() {
-		return longestRoadLengthProperty;
-	}
-
-	/**
-	 * Returns the property of the developmentCards this player has.
-	 * 
-	 * @return the developmentCards.
-	 */
-	public SimpleListProperty<DevelopmentCard> developmentCardsProperty() {
-		return developmentCardsProperty;
+	public ModelList<DevelopmentCard> getDevelopmentCards() {
+		return developmentCards;
 	}
 
 	/**
@@ -870,8 +901,8 @@ public class Player {
 	 * 
 	 * @return the specialCards.
 	 */
-	public List<SpecialCard> getSpecialCards() {
-		return specialCardsProperty.get();
+	public ModelList<SpecialCard> getSpecialCards() {
+		return specialCards;
 	}
 
 	/**
@@ -880,15 +911,6 @@ public class Player {
 	 * @return the tradingRatios.
 	 */
 	public TradingRatios getTradingRatios() {
-		return tradingRatios.get();
-	}
-
-	/**
-	 * Returns the tradingRatios property of this player.
-	 * 
-	 * @return the tradingRatios property.
-	 */
-	public ObjectProperty<TradingRatios> tradingRatios() {
 		return tradingRatios;
 	}
 
@@ -898,7 +920,7 @@ public class Player {
 	 * @return the amount of victory points.
 	 */
 	public int getVictoryPoints() {
-		return victoryPointsProperty.get();
+		return victoryPoints;
 	}
 	
 	/**
@@ -907,7 +929,7 @@ public class Player {
 	 * @return the amount of visible victory points.
 	 */
 	public int getVisibleVictoryPoints() {
-		return visibleVictoryPointsProperty.get();
+		return visibleVictoryPoints;
 	}
 
 	/**
@@ -916,7 +938,7 @@ public class Player {
 	 * @return the longest road length.
 	 */
 	public int getLongestRoadLength() {
-		return longestRoadLengthProperty.get();
+		return longestRoadLength;
 	}
 
 	/**
@@ -925,71 +947,16 @@ public class Player {
 	 * @return the number of played knight cards.
 	 */
 	public int getPlayedKnightCards() {
-		return playedKnightCards.get();
-	}
-
-	/**
-	 * Returns the victoryPoints property.
-	 * 
-	 * @return the victoryPoints.
-	 */
-	public IntegerProperty victoryPointsProperty() {
-		return victoryPointsProperty;
-	}
-
-	/**
-	 * Returns the visibleVictoryPoints property.
-	 * 
-	 * @return the visible victory points.
-	 */
-	public IntegerProperty visibleVictoryPointsProperty() {
-		return visibleVictoryPointsProperty;
-	}
-
-	/**
-	 * Returns the longestRoadLength property.
-	 * 
-	 * @return the longestRoadLength.
-	 */
-	public IntegerProperty longestRoadLengthProperty() {
-		return longestRoadLengthProperty;
-	}
-
-	/**
-	 * Returns the playedKnightCards property.
-	 * 
-	 * @return the playedKnightCards.
-	 */
-	public IntegerProperty playedKnightCardsProperty() {
 		return playedKnightCards;
 	}
 
-	/**
-	 * Returns whether this player has played a development card this turn or not.
-	 * 
-	 * @return true, if this player has played a development card this turn. false,
-	 *         otherwise.
-	 */
-	public boolean getDevelopmentCardPlayedThisTurn() {
-		return developmentCardPlayedThisTurn.get();
-	}
-
-	/**
-	 * Returns the developmentCardPlayedThisTurn property.
-	 * 
-	 * @return the developmentCardPlayedThisTurn.
-	 */
-	public BooleanProperty developmentCardPlayedThisTurnProperty() {
-		return developmentCardPlayedThisTurn;
-	}
-
 	/**
 	 * Returns the state of this player.
 	 * 
 	 * @return the {@link PlayerState}.
 	 */
 	public PlayerState getState() {
-		return stateProperty.get();
+		return state;
 	}
 
 	/**
@@ -999,7 +966,10 @@ public class Player {
 	 *            the {@link PlayerState}.
 	 */
 	public void setState(PlayerState state) {
-		this.stateProperty.set(state);
+		if (this.state != state) {
+			this.state = state;
+			fireChanged(STATE);
+		}
 	}
 
 	/**
@@ -1008,7 +978,7 @@ public class Player {
 	 * @return the amount of {@link Resources}.
 	 */
 	public int getResourceQuantity() {
-		return resourceQuantityProperty.get();
+		return resourceQuantity;
 	}
 
 	/**
@@ -1018,7 +988,10 @@ public class Player {
 	 *            the amount of {@link Resources}.
 	 */
 	public void setResourceQuantity(int resourceQuantity) {
-		this.resourceQuantityProperty.set(resourceQuantity);
+		if (this.resourceQuantity != resourceQuantity) {
+			this.resourceQuantity = resourceQuantity;
+			fireChanged(RESOURCE_QUANTITY);
+		}
 	}
 
 	/**
@@ -1037,38 +1010,10 @@ public class Player {
 	 * @param color
 	 *            the color to set.
 	 */
-	public void setColor(Color color) {
+	public void setColor(PlayerColor color) {
 		this.color = color;
 	}
 
-	/**
-	 * The Getter for the roadsProperty
-	 * 
-	 * @return The property wrapping the list of {@code Localities}.
-	 */
-	public SimpleListProperty<Locality> localitiesProperty() {
-		return localitiesProperty;
-	}
-
-	/**
-	 * The Getter for the roadsProperty
-	 * 
-	 * @return The property wrapping the list of {@code Roads}.
-	 */
-	public SimpleListProperty<Road> roadsProperty() {
-		return roadsProperty;
-	}
-
-	/**
-	 * Returns the property representing the number of {@code Resources} this player
-	 * has.
-	 * 
-	 * @return the property representing the number of {@link Resources}.
-	 */
-	public IntegerProperty resourceQuantityProperty() {
-		return resourceQuantityProperty;
-	}
-
 	/**
 	 * Sets the number of knight cards which this player has played.
 	 * 
@@ -1078,14 +1023,17 @@ public class Player {
 	 * @see PlayableDevelopmentCardType
 	 */
 	public void setPlayedKnightCards(int playedKnightCards) {
-		this.playedKnightCards.set(playedKnightCards);
+		if (this.playedKnightCards != playedKnightCards) {
+			this.playedKnightCards = playedKnightCards;
+			fireChanged(PLAYED_KNIGHT_CARDS);
+		}
 	}
 
 	/**
 	 * Player has played one more the knight card during this game
 	 */
 	public void playedOneMoreKnightCard() {
-		setPlayedKnightCards(playedKnightCardsProperty().get() + 1);
+		setPlayedKnightCards(playedKnightCards + 1);
 	}
 
 	/**
@@ -1095,16 +1043,10 @@ public class Player {
 	 *            the number of victory points to set.
 	 */
 	public void setVictoryPoints(int victoryPoints) {
-		this.victoryPointsProperty.set(victoryPoints);
-	}
-
-	/**
-	 * Returns the property of the players current state .
-	 * 
-	 * @return the PlayerState
-	 */
-	public SimpleObjectProperty<PlayerState> stateProperty() {
-		return stateProperty;
+		if (this.victoryPoints != victoryPoints) {
+			this.victoryPoints = victoryPoints;
+			fireChanged(VICTORY_POINTS);
+		}
 	}
 
 	/**
@@ -1252,7 +1194,7 @@ public class Player {
 	 *            the new {@link TradingRatios}.
 	 */
 	public void setTradingRatio(TradingRatios tradingRatios) {
-		this.tradingRatios.set(tradingRatios);
+		this.tradingRatios = tradingRatios;
 	}
 
 	/**
@@ -1336,19 +1278,33 @@ public class Player {
 	 * 
 	 * @return The list of the edges.
 	 */
-	public List<Edge> getLastTwoClickedOnEdges() {
-		return lastTwoClickedOnEdgesProperty.get();
+	public ModelList<Edge> getLastTwoClickedOnEdges() {
+		return lastTwoClickedOnEdges;
+	}
+
+	/**
+	 * Returns the type of the {@code PlayableDevelopmentCard} the player is
+	 * playing.
+	 * 
+	 * @return the {@link PlayableDevelopmentCardType} or null, if the player isn't
+	 *         currently playing any {@link PlayableDevelopmentCard}.
+	 */
+	public PlayableDevelopmentCardType getSelectedDevelopmentCard() {
+		return selectedDevelopmentCard;
 	}
 
 	/**
-	 * Returns the property of the {@code PlayableDevelopmentCard} the player is
-	 * playing. The wrapped value is null if the player in't currently playing any
-	 * {@code PlayableDevelopmentCard}
+	 * Sets the type of the {@code PlayableDevelopmentCard} the player is playing.
 	 * 
-	 * @return the PlayableDevelopmentCard list as a property
+	 * @param selectedDevelopmentCard
+	 *            the {@link PlayableDevelopmentCardType} or null, if the player
+	 *            stops playing a {@link PlayableDevelopmentCard}.
 	 */
-	public SimpleObjectProperty<PlayableDevelopmentCardType> currentySelectedDevelopmentCardProperty() {
-		return currentySelectedDevelopmentCardProperty;
+	public void setSelectedDevelopmentCard(PlayableDevelopmentCardType selectedDevelopmentCard) {
+		if (this.selectedDevelopmentCard != selectedDevelopmentCard) {
+			this.selectedDevelopmentCard = selectedDevelopmentCard;
+			fireChanged(SELECTED_DEVELOPMENT_CARD);
+		}
 	}
 
 	/**
@@ -1462,14 +1418,23 @@ public class Player {
 	 *            the new resources of this player.
 	 */
 	public void setResources(Resources resources) {
+		detachResources(this.resources);
 		this.resources = resources;
+		attachResources(resources);
 	}
 	
 	/**
-	 * Gets the ArrayList of {@code avilableCorners}
+	 * Gets the corners on which the player can build a settlement, as known
+	 * by the {@link MoveGenerator} of the board.
 	 * @return avilableCorners
 	 */
 	public ArrayList<Corner> getAvilableCorners() {
+		BoardTopology topology = game.getBoard().getTopology();
+		BitSet corners = topology.getMoveGenerator().getSettlementCorners(id);
+		ArrayList<Corner> avilableCorners = new ArrayList<Corner>(corners.cardinality());
+		for (int corner = corners.nextSetBit(0); corner >= 0; corner = corners.nextSetBit(corner + 1)) {
+			avilableCorners.add(topology.getCorner(corner));
+		}
 		return avilableCorners;
 	}
 
@@ -1482,10 +1447,17 @@ public class Player {
 	}
 
 	/**
-	 * Gets the ArrayList of {@code avilableEdges}
+	 * Gets the edges on which the player can build a road, as known by the
+	 * {@link MoveGenerator} of the board.
 	 * @return avilableEdges
 	 */
 	public ArrayList<Edge> getAvilableEdges() {
+		BoardTopology topology = game.getBoard().getTopology();
+		BitSet edges = topology.getMoveGenerator().getRoadEdges(id);
+		ArrayList<Edge> avilableEdges = new ArrayList<Edge>(edges.cardinality());
+		for (int edge = edges.nextSetBit(0); edge >= 0; edge = edges.nextSetBit(edge + 1)) {
+			avilableEdges.add(topology.getEdge(edge));
+		}
 		return avilableEdges;
 	}
 
@@ -1523,23 +1495,6 @@ public class Player {
 	}
 
 
-	/**
-	 * Getter for the property of the last two clicked on edges during 
-	 * playing of a road building card.
-	 * @return the edges list as a property.
-	 */
-	public SimpleListProperty<Edge> lastTwoClickedOnEdgesProperty() {
-		return lastTwoClickedOnEdgesProperty;
-	}
-
-	/**
-	 * Getter for the property of the players special cards.
-	 * @return the set of special cards as a property.
-	 */
-	public SimpleListProperty<SpecialCard> specialCardsProperty() {
-		return specialCardsProperty;
-	}
-
 	/**
 	 * Counts the localities which are build next to a hex with the corresponding hextype to the ResourceType
 	 * @param reType the {code ResourceType} for which the number of localities is checked.
@@ -0,0 +1,67 @@
+package game.player;
+
+/**
+ * Represents the colors a {@code Player} can choose. The views convert them into colors of JavaFX by their web
+ * representation, so the model needs no classes of JavaFX.
+ * @author Christoph Hermann
+ * @see Player
+ */
+public enum PlayerColor {
+
+	/**
+	 * The color red.
+	 */
+	RED("#ff0000", "/game/player/images/red.png"),
+
+	/**
+	 * The color orange.
+	 */
+	ORANGE("#ffa500", "/game/player/images/orange.png"),
+
+	/**
+	 * The color white.
+	 */
+	WHITE("#ffffff", "/game/player/images/white.png"),
+
+	/**
+	 * The color blue.
+	 */
+	BLUE("#0000ff", "/game/player/images/blue.png");
+
+	/**
+	 * The web representation of this color, e.g. for {@code javafx.scene.paint.Color.web(String)}.
+	 */
+	private final String webColor;
+
+	/**
+	 * The location of the profile picture of a player with this color.
+	 */
+	private final String imageLocation;
+
+	/**
+	 * Creates a new PlayerColor.
+	 * @param webColor the web representation of the color.
+	 * @param imageLocation the location of the profile picture.
+	 */
+	PlayerColor(String webColor, String imageLocation) {
+		this.webColor = webColor;
+		this.imageLocation = imageLocation;
+	}
+
+	/**
+	 * Returns the web representation of this color, e.g. "#ff0000" for red.
+	 * @return the web color.
+	 */
+	public String getWebColor() {
+		return webColor;
+	}
+
+	/**
+	 * Returns the location of the profile picture of a player with this color.
+	 * @return the image location.
+	 */
+	public String getImageLocation() {
+		return imageLocation;
+	}
+
+}
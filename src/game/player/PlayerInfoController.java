@@ -4,13 +4,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.json.JSONObject;
-
 import game.Animations;
 import game.board.hexes.Hex;
 import game.board.robber.Robber;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
 import game.dice.Dice;
+import game.dice.DiceProperties;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
@@ -27,8 +26,9 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.Coordinates;
+import network.protocol.messages.MoveRobberMessage;
+import network.protocol.messages.PlayKnightMessage;
 import network.server.Server;
 
 /**
@@ -171,10 +171,10 @@ public class PlayerInfoController implements Controller<Player> {
 		this.profilePicture.setImage(new Image(player.getImageLocation()));
 		this.nameLabel.setText(player.getName());
 
-		this.resourceCardsLabel.textProperty().bind(player.resourceQuantityProperty().asString());
-		this.developmentCardsLabel.textProperty().bind(player.developmentCardsProperty().sizeProperty().asString());
+		this.resourceCardsLabel.textProperty().bind(PlayerProperties.of(player).resourceQuantityProperty().asString());
+		this.developmentCardsLabel.textProperty().bind(PlayerProperties.of(player).developmentCardsProperty().sizeProperty().asString());
 
-		this.knightsLabel.textProperty().bind(player.playedKnightCardsProperty().asString());
+		this.knightsLabel.textProperty().bind(PlayerProperties.of(player).playedKnightCardsProperty().asString());
 		this.knightsLabel.graphicProperty().bind(Bindings.createObjectBinding(() -> {
 			if (player.hasLargestArmyCard()) {
 				largestArmyImage.setScaleX(1.5);
@@ -191,9 +191,9 @@ public class PlayerInfoController implements Controller<Player> {
 				largestArmyImage.setScaleY(1);
 				return knightsImage;
 			}
-		}, player.specialCardsProperty()));
+		}, PlayerProperties.of(player).specialCardsProperty()));
 
-		this.longestRoadLabel.textProperty().bind(player.longestRoadLengthProperty().asString());
+		this.longestRoadLabel.textProperty().bind(PlayerProperties.of(player).longestRoadLengthProperty().asString());
 		this.longestRoadLabel.graphicProperty().bind(Bindings.createObjectBinding(() -> {			
 			if (player.hasLongestRoadCard()) {
 				longestRoadVictoryPointImage.setScaleX(1.5);
@@ -210,34 +210,34 @@ public class PlayerInfoController implements Controller<Player> {
 				longestRoadVictoryPointImage.setScaleY(1);
 				return longestRoadImage;
 			}
-		}, player.specialCardsProperty()));
+		}, PlayerProperties.of(player).specialCardsProperty()));
 
 		// If the player is the one associated with this application, show all victory points. Otherwise, show only the
 		// visible victory points.
 		this.victoryPointsLabel.textProperty().bind(Bindings.createStringBinding(() -> {
 			if (player == ApplicationInstance.getInstance().getUser().getPlayer()) {
-				return player.victoryPointsProperty().asString().get();
+				return PlayerProperties.of(player).victoryPointsProperty().asString().get();
 			} else {
-				return player.visibleVictoryPointsProperty().asString().get();
+				return PlayerProperties.of(player).visibleVictoryPointsProperty().asString().get();
 			}
-		}, player.victoryPointsProperty(), player.visibleVictoryPointsProperty()));
+		}, PlayerProperties.of(player).victoryPointsProperty(), PlayerProperties.of(player).visibleVictoryPointsProperty()));
 
 		citiesLabel.textProperty().bind(Bindings.createStringBinding(() -> {
 			int nRemainingCities = Player.getMaxCity() - player.getCountCity();
 			return Integer.toString(nRemainingCities);
-		}, player.localitiesProperty()));
+		}, PlayerProperties.of(player).localitiesProperty()));
 
 		settlementsLabel.textProperty().bind(Bindings.createStringBinding(() -> {
 			int nRemainingSettlements = Player.getMaxSettlement() - player.getCountSettlement();
 			return Integer.toString(nRemainingSettlements);
-		}, player.localitiesProperty()));
+		}, PlayerProperties.of(player).localitiesProperty()));
 
 		roadsLabel.textProperty().bind(Bindings.createStringBinding(() -> {
 			int nRemainingRoads = Player.getMaxRoad() - player.getCountRoad();
 			return Integer.toString(nRemainingRoads);
-		}, player.roadsProperty()));
+		}, PlayerProperties.of(player).roadsProperty()));
 
-		activePlayerMarkerPane.visibleProperty().bind(player.stateProperty().isNotEqualTo(PlayerState.WAIT));
+		activePlayerMarkerPane.visibleProperty().bind(PlayerProperties.of(player).stateProperty().isNotEqualTo(PlayerState.WAIT));
 	}
 	
 	/**
@@ -249,18 +249,18 @@ public class PlayerInfoController implements Controller<Player> {
 		diceImageOne.imageProperty().bind(Bindings.createObjectBinding(() -> {
 			Animations.playFadeTransition(diceImageOne);
 			Animations.playFadeTransition(diceImageTwo);
-			int diceOneNumber = dice.dieOneNumberProperty().get();
+			int diceOneNumber = dice.getDieOneNumber();
 			String imageLocation = "/game/dice/images/dice" + diceOneNumber + ".png";
 			return new Image(getClass().getResourceAsStream(imageLocation));
-		}, dice.dieOneNumberProperty()));
+		}, DiceProperties.of(dice).dieOneNumberProperty()));
 
 		diceImageTwo.imageProperty().bind(Bindings.createObjectBinding(() -> {
 			Animations.playFadeTransition(diceImageOne);
 			Animations.playFadeTransition(diceImageTwo);
-			int diceTwoNumber = dice.dieTwoNumberProperty().get();
+			int diceTwoNumber = dice.getDieTwoNumber();
 			String imageLocation = "/game/dice/images/dice" + diceTwoNumber + ".png";
 			return new Image(getClass().getResourceAsStream(imageLocation));
-		}, dice.dieTwoNumberProperty()));
+		}, DiceProperties.of(dice).dieTwoNumberProperty()));
 	}
 
 	@Override
@@ -295,19 +295,14 @@ public class PlayerInfoController implements Controller<Player> {
 	@FXML
 	private void stealResources() {
 		if (clickablePart.getStyleClass().contains("clickable")) {
-			JSONObject jsonObject = new JSONObject();
-			JSONObject position = new JSONObject();
-			position.put(Attributes.X.toString(), hex.getxPosAxialHex());
-			position.put(Attributes.Y.toString(), hex.getyPosAxialHex());
-			jsonObject.put(Attributes.POSITION.toString(), position);
-			jsonObject.put(Attributes.TARGET.toString(), player.getId());
-			if(client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get()!=null) {
-				if(client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().get().equals(PlayableDevelopmentCardType.KNIGHT)) {
-					client.sendToServer(ServerTypes.PLAY_KNIGHT.toString(), jsonObject);
-					client.getUser().getPlayer().currentySelectedDevelopmentCardProperty().setValue(null);
+			Coordinates position = Coordinates.of(hex);
+			if(client.getUser().getPlayer().getSelectedDevelopmentCard()!=null) {
+				if(client.getUser().getPlayer().getSelectedDevelopmentCard().equals(PlayableDevelopmentCardType.KNIGHT)) {
+					client.sendToServer(new PlayKnightMessage(position, player.getId()));
+					client.getUser().getPlayer().setSelectedDevelopmentCard(null);
 				}
 			} else {
-				client.sendToServer(ServerTypes.MOVE_ROBBER.toString(), jsonObject);
+				client.sendToServer(new MoveRobberMessage(position, player.getId()));
 			}
 
 			for (PlayerInfoController playerInfo : playerInfos) {
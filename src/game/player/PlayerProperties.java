@@ -0,0 +1,168 @@
+package game.player;
+
+import game.ModelProperties;
+import game.board.construction.localities.Locality;
+import game.board.construction.roads.Road;
+import game.board.edges.Edge;
+import game.cards.DevelopmentCard;
+import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
+import game.cards.specialcards.SpecialCard;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.ObjectProperty;
+
+/**
+ * Wraps a {@code Player} in JavaFX properties for the views of the game.
+ * @author Christoph Hermann
+ * @see Player
+ */
+public class PlayerProperties extends ModelProperties {
+
+	/**
+	 * The name of the property of the development cards of the player.
+	 */
+	private static final String DEVELOPMENT_CARDS = "developmentCards";
+
+	/**
+	 * The name of the property of the special cards of the player.
+	 */
+	private static final String SPECIAL_CARDS = "specialCards";
+
+	/**
+	 * The name of the property of the localities of the player.
+	 */
+	private static final String LOCALITIES = "localities";
+
+	/**
+	 * The name of the property of the roads of the player.
+	 */
+	private static final String ROADS = "roads";
+
+	/**
+	 * The name of the property of the edges the player has selected while playing a road building card.
+	 */
+	private static final String LAST_TWO_CLICKED_ON_EDGES = "lastTwoClickedOnEdges";
+
+	/**
+	 * The wrapped player.
+	 */
+	private final Player player;
+
+	/**
+	 * Creates a new adapter of the specified player.
+	 * @param player the {@link Player}.
+	 */
+	private PlayerProperties(Player player) {
+		super(player);
+		this.player = player;
+	}
+
+	/**
+	 * Returns the adapter of the specified player, which is created when it is requested first.
+	 * @param player the {@link Player}.
+	 * @return the adapter.
+	 */
+	public static PlayerProperties of(Player player) {
+		return player.getView(() -> new PlayerProperties(player));
+	}
+
+	/**
+	 * Returns the state property of the player.
+	 * @return the {@link PlayerState} property.
+	 */
+	public ObjectProperty<PlayerState> stateProperty() {
+		return objectProperty(Player.STATE, player::getState, player::setState);
+	}
+
+	/**
+	 * Returns the property of the victory points of the player.
+	 * @return the victory points property.
+	 */
+	public IntegerProperty victoryPointsProperty() {
+		return integerProperty(Player.VICTORY_POINTS, player::getVictoryPoints, player::setVictoryPoints);
+	}
+
+	/**
+	 * Returns the property of the victory points of the player, which are visible to all players.
+	 * @return the visible victory points property.
+	 */
+	public IntegerProperty visibleVictoryPointsProperty() {
+		return integerProperty(Player.VISIBLE_VICTORY_POINTS, player::getVisibleVictoryPoints, null);
+	}
+
+	/**
+	 * Returns the property of the length of the longest road of the player.
+	 * @return the longest road length property.
+	 */
+	public IntegerProperty longestRoadLengthProperty() {
+		return integerProperty(Player.LONGEST_ROAD_LENGTH, player::getLongestRoadLength, null);
+	}
+
+	/**
+	 * Returns the property of the number of knight cards the player has played.
+	 * @return the played knight cards property.
+	 */
+	public IntegerProperty playedKnightCardsProperty() {
+		return integerProperty(Player.PLAYED_KNIGHT_CARDS, player::getPlayedKnightCards, player::setPlayedKnightCards);
+	}
+
+	/**
+	 * Returns the property of the amount of resources the player has.
+	 * @return the resource quantity property.
+	 */
+	public IntegerProperty resourceQuantityProperty() {
+		return integerProperty(Player.RESOURCE_QUANTITY, player::getResourceQuantity, player::setResourceQuantity);
+	}
+
+	/**
+	 * Returns the property of the type of the development card the player is playing. The value is null, if the player
+	 * isn't currently playing any development card.
+	 * @return the {@link PlayableDevelopmentCardType} property.
+	 */
+	public ObjectProperty<PlayableDevelopmentCardType> selectedDevelopmentCardProperty() {
+		return objectProperty(Player.SELECTED_DEVELOPMENT_CARD, player::getSelectedDevelopmentCard,
+				player::setSelectedDevelopmentCard);
+	}
+
+	/**
+	 * Returns the property of the development cards of the player.
+	 * @return the {@link DevelopmentCard DevelopmentCards} as a property.
+	 */
+	public ListProperty<DevelopmentCard> developmentCardsProperty() {
+		return listProperty(DEVELOPMENT_CARDS, player.getDevelopmentCards());
+	}
+
+	/**
+	 * Returns the property of the special cards of the player.
+	 * @return the {@link SpecialCard SpecialCards} as a property.
+	 */
+	public ListProperty<SpecialCard> specialCardsProperty() {
+		return listProperty(SPECIAL_CARDS, player.getSpecialCards());
+	}
+
+	/**
+	 * Returns the property of the localities of the player.
+	 * @return the {@link Locality Localities} as a property.
+	 */
+	public ListProperty<Locality> localitiesProperty() {
+		return listProperty(LOCALITIES, player.getLocalities());
+	}
+
+	/**
+	 * Returns the property of the roads of the player.
+	 * @return the {@link Road Roads} as a property.
+	 */
+	public ListProperty<Road> roadsProperty() {
+		return listProperty(ROADS, player.getRoads());
+	}
+
+	/**
+	 * Returns the property of the edges the player has selected while playing a road building card. The views change
+	 * the edges of the player, not the property.
+	 * @return the {@link Edge Edges} as a property.
+	 */
+	public ListProperty<Edge> lastTwoClickedOnEdgesProperty() {
+		return listProperty(LAST_TWO_CLICKED_ON_EDGES, player.getLastTwoClickedOnEdges());
+	}
+
+}
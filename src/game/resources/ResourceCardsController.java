@@ -6,7 +6,6 @@ import javafx.animation.Interpolator;
 import javafx.animation.ScaleTransition;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
-import javafx.beans.property.SimpleMapProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -111,8 +110,7 @@ public class ResourceCardsController implements Controller<Resources> {
 	 * to the resources of the player.
 	 */
 	private void addBindings() {
-		SimpleMapProperty<ResourceType, Integer> map = resources.getResources();
-		map.addListener(new InvalidationListener()  {
+		ResourcesProperties.of(resources).resourcesProperty().addListener(new InvalidationListener()  {
 			@Override
 			public void invalidated(Observable observable) {
 				updateCards(ResourceType.BRICK, BRICK_IMG_PATH, brickCardsPane);
@@ -133,11 +131,10 @@ public class ResourceCardsController implements Controller<Resources> {
 	 */
 	private void updateCards(ResourceType type, String imagePath, AnchorPane pane) {
 		audioPlayer.playCardSound();
-		SimpleMapProperty<ResourceType, Integer> map = resources.getResources();
-		if (map.get(type) < pane.getChildren().size()) {
-			pane.getChildren().remove(map.get(type), pane.getChildren().size());
-		} else if (map.get(type) > pane.getChildren().size()) {
-			while(pane.getChildren().size() < map.get(type)) {
+		if (resources.get(type) < pane.getChildren().size()) {
+			pane.getChildren().remove(resources.get(type), pane.getChildren().size());
+		} else if (resources.get(type) > pane.getChildren().size()) {
+			while(pane.getChildren().size() < resources.get(type)) {
 				ImageView cardView = addCard(imagePath, pane.getChildren());
 				startAnimation(cardView);
 			}
@@ -1,33 +1,53 @@
 package game.resources;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
-import javafx.beans.property.SimpleMapProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableMap;
+
+import game.ObservableModel;
 
 /**
  * Represents a group of resources and offers methods for modifying them.
+ * <p>
+ * The amounts are stored in an array of ints indexed by the ordinal of the {@link ResourceType}, and all arithmetic
+ * happens in place, without boxing. The user interface observes the resources through {@link ResourcesProperties}.
  * @author Christoph Hermann
  */
-public class Resources {
+public class Resources extends ObservableModel {
+
+	/**
+	 * The name of the property of the amounts.
+	 */
+	public static final String RESOURCES = "resources";
+
+	/**
+	 * All resource types, by their ordinal.
+	 */
+	private static final ResourceType[] TYPES = ResourceType.values();
+
+	/**
+	 * The amount of every type of resources, by the ordinal of the type.
+	 */
+	private final int[] amounts = new int[TYPES.length];
 
 	/**
-	 * A {@link Map Map} representing the different resources and their amount.
+	 * The listeners notified about changed amounts or null, if there are none.
 	 */
-	private SimpleMapProperty<ResourceType, Integer> resources = 
-			new SimpleMapProperty<ResourceType, Integer>(
-					FXCollections.observableMap(new HashMap<ResourceType, Integer>()));
+	private List<ResourcesListener> listeners;
 
 	/**
 	 * Creates new resources.
 	 */
 	public Resources() {
-		for (ResourceType type: ResourceType.values()) {
-			if(!resources.containsKey(type)) {
-				resources.put(type, 0);
-			}
-		}
+	}
+
+	/**
+	 * Creates new resources containing the same amounts as the specified resources.
+	 * @param resources the {@link Resources} to copy.
+	 */
+	public Resources(Resources resources) {
+		System.arraycopy(resources.amounts, 0, amounts, 0, amounts.length);
 	}
 
 	/**
@@ -37,7 +57,7 @@ public class Resources {
 	 */
 	public Resources(ResourceType type, int amount) {
 		this();
-		resources.put(type, amount);
+		amounts[type.ordinal()] = amount;
 	}
 
 	/**
@@ -49,8 +69,8 @@ public class Resources {
 	 */
 	public Resources(ResourceType type1, int amount1, ResourceType type2, int amount2) {
 		this();
-		resources.put(type1, amount1);
-		resources.put(type2, amount2);
+		amounts[type1.ordinal()] = amount1;
+		amounts[type2.ordinal()] = amount2;
 	}
 
 	/**
@@ -67,9 +87,9 @@ public class Resources {
 			ResourceType type2, int amount2,
 			ResourceType type3, int amount3) {
 		this();
-		resources.put(type1, amount1);
-		resources.put(type2, amount2);
-		resources.put(type3, amount3);
+		amounts[type1.ordinal()] = amount1;
+		amounts[type2.ordinal()] = amount2;
+		amounts[type3.ordinal()] = amount3;
 	}
 
 	/**
@@ -89,10 +109,10 @@ public class Resources {
 			ResourceType type3, int amount3,
 			ResourceType type4, int amount4) {
 		this();
-		resources.put(type1, amount1);
-		resources.put(type2, amount2);
-		resources.put(type3, amount3);
-		resources.put(type4, amount4);
+		amounts[type1.ordinal()] = amount1;
+		amounts[type2.ordinal()] = amount2;
+		amounts[type3.ordinal()] = amount3;
+		amounts[type4.ordinal()] = amount4;
 	}
 
 	/**
@@ -115,11 +135,40 @@ public class Resources {
 			ResourceType type4, int amount4,
 			ResourceType type5, int amount5) {
 		this();
-		resources.put(type1, amount1);
-		resources.put(type2, amount2);
-		resources.put(type3, amount3);
-		resources.put(type4, amount4);
-		resources.put(type5, amount5);
+		amounts[type1.ordinal()] = amount1;
+		amounts[type2.ordinal()] = amount2;
+		amounts[type3.ordinal()] = amount3;
+		amounts[type4.ordinal()] = amount4;
+		amounts[type5.ordinal()] = amount5;
+	}
+
+	/**
+	 * Returns the amount of resources of a type.
+	 * @param type the {@link ResourceType}.
+	 * @return the amount.
+	 */
+	public int get(ResourceType type) {
+		return amounts[type.ordinal()];
+	}
+
+	/**
+	 * Sets the amount of resources of a type.
+	 * @param type the {@link ResourceType}.
+	 * @param amount the new amount.
+	 */
+	public final void set(ResourceType type, int amount) {
+		int oldAmount = amounts[type.ordinal()];
+		if (oldAmount == amount) {
+			return;
+		}
+
+		amounts[type.ordinal()] = amount;
+		if (listeners != null) {
+			for (ResourcesListener listener : listeners) {
+				listener.resourcesChanged(type, oldAmount, amount);
+			}
+		}
+		fireChanged(RESOURCES);
 	}
 
 	/**
@@ -127,10 +176,8 @@ public class Resources {
 	 * @param additionalResources the resources to be added.
 	 */
 	public void add(Resources additionalResources) {
-		for (ResourceType type: ResourceType.values()) {
-			int oldAmount =  additionalResources.getResources().get(type);
-			int newAmount = resources.get(type)+oldAmount;
-			resources.put(type, newAmount);
+		for (ResourceType type: TYPES) {
+			set(type, get(type) + additionalResources.get(type));
 		}
 	}
 
@@ -142,10 +189,8 @@ public class Resources {
 	public Resources addResources(Resources addResources) {
 		Resources newResources = new Resources();
 
-		for (ResourceType type: ResourceType.values()) {
-			int oldAmount = addResources.getResources().get(type);
-			int newAmount = resources.get(type) + oldAmount;
-			newResources.addOneTypeResource(newAmount, type);
+		for (int i = 0; i < TYPES.length; i++) {
+			newResources.amounts[i] = amounts[i] + addResources.amounts[i];
 		}
 
 		return newResources;
@@ -158,10 +203,8 @@ public class Resources {
 	 * @param additionalResources the resources to be subtracted.
 	 */
 	public void subtract(Resources additionalResources) {
-		for (ResourceType type: ResourceType.values()) {
-			int oldAmount =  resources.get(type);
-			int newAmount =  oldAmount - additionalResources.getResources().get(type);
-			resources.put(type, newAmount);
+		for (ResourceType type: TYPES) {
+			set(type, get(type) - additionalResources.get(type));
 		}
 	}
 
@@ -175,10 +218,8 @@ public class Resources {
 	public Resources subtractResources(Resources additionalResources) {
 		Resources newResources = new Resources();
 
-		for (ResourceType type: ResourceType.values()) {
-			int oldAmount =  resources.get(type);
-			int newAmount =  oldAmount - additionalResources.getResources().get(type);
-			newResources.addOneTypeResource(newAmount, type);
+		for (int i = 0; i < TYPES.length; i++) {
+			newResources.amounts[i] = amounts[i] - additionalResources.amounts[i];
 		}
 
 		return newResources;
@@ -190,14 +231,7 @@ public class Resources {
 	 * @param resourceType the Type of resource which to be added
 	 */
 	public void addOneTypeResource(int resource, ResourceType resourceType) {
-		for(ResourceType type: ResourceType.values()) {
-			if(type == resourceType) {
-				int oldAmount = resources.get(resourceType);
-				int newAmount = oldAmount + resource;
-				resources.put(resourceType, newAmount);
-				break;
-			}
-		}
+		set(resourceType, get(resourceType) + resource);
 	}
 
 	/**
@@ -206,14 +240,7 @@ public class Resources {
 	 * @param resourceType the Type of resource which to be subtracted
 	 */
 	public void subtractOneTypeResource(int resource, ResourceType resourceType) {
-		for(ResourceType type: ResourceType.values()) {
-			if(type == resourceType) {
-				int oldAmount = resources.get(resourceType);
-				int newAmount = oldAmount - resource;
-				resources.put(resourceType, newAmount);
-				break;
-			}
-		}
+		set(resourceType, get(resourceType) - resource);
 	}
 
 	/**
@@ -221,22 +248,31 @@ public class Resources {
 	 * @param multiplier the value that the resources are multiplied by.
 	 */
 	public void multiply(int multiplier) {
-		for (ResourceType type: ResourceType.values()) {
-			resources.put(type, resources.get(type) * multiplier);
+		for (ResourceType type: TYPES) {
+			set(type, get(type) * multiplier);
 		}
 	}
 
 	/**
 	 * Sets the amount of resources of each type of this resources object to the amount specified by another resources
-	 * object.
+	 * object. The user interface is notified only once, even if no amount changes, e.g. to show the same lost
+	 * resources again.
 	 * @param newResources the other resources object.
 	 */
 	public void set(Resources newResources) {
-		ObservableMap<ResourceType, Integer> map = FXCollections.observableMap(new HashMap<ResourceType, Integer>());
-		for (ResourceType type: ResourceType.values()) {
-			map.put(type, newResources.getResources().get(type));
+		int[] oldAmounts = amounts.clone();
+		System.arraycopy(newResources.amounts, 0, amounts, 0, amounts.length);
+
+		if (listeners != null) {
+			for (ResourceType type : TYPES) {
+				if (oldAmounts[type.ordinal()] != amounts[type.ordinal()]) {
+					for (ResourcesListener listener : listeners) {
+						listener.resourcesChanged(type, oldAmounts[type.ordinal()], amounts[type.ordinal()]);
+					}
+				}
+			}
 		}
-		resources.set(map);
+		fireChanged(RESOURCES);
 	}
 
 	/**
@@ -245,8 +281,8 @@ public class Resources {
 	 * @return type ResourceType
 	 */
 	public ResourceType getResourceTypeFromTrad() {
-		for(ResourceType type:ResourceType.values()) {
-			int value = resources.get(type);
+		for(ResourceType type:TYPES) {
+			int value = get(type);
 			if(value!=0) {
 				return type;
 			}
@@ -261,8 +297,8 @@ public class Resources {
 	 * @return true, if these resources are greater than or equal to the compared resources. false, otherwise.
 	 */
 	public boolean isGreaterThanOrEqualTo(Resources comparedResources) {
-		for (ResourceType type: ResourceType.values()) {
-			if (resources.get(type) < comparedResources.getResources().get(type)) {
+		for (int i = 0; i < TYPES.length; i++) {
+			if (amounts[i] < comparedResources.amounts[i]) {
 				return false;
 			}
 		}
@@ -273,8 +309,33 @@ public class Resources {
 	 * Returns a {@code Map} representing the resources and their amount.
 	 * @return the resources and their amount.
 	 */
-	public SimpleMapProperty<ResourceType, Integer> getResources() {
-		return resources;
+	public Map<ResourceType, Integer> toMap() {
+		Map<ResourceType, Integer> map = new EnumMap<ResourceType, Integer>(ResourceType.class);
+		for (ResourceType type : TYPES) {
+			map.put(type, get(type));
+		}
+		return map;
+	}
+
+	/**
+	 * Adds a listener, which is notified whenever an amount changes.
+	 * @param listener the {@link ResourcesListener}.
+	 */
+	public void addListener(ResourcesListener listener) {
+		if (listeners == null) {
+			listeners = new ArrayList<ResourcesListener>(1);
+		}
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 * @param listener the {@link ResourcesListener}.
+	 */
+	public void removeListener(ResourcesListener listener) {
+		if (listeners != null) {
+			listeners.remove(listener);
+		}
 	}
 
 	/**
@@ -284,8 +345,8 @@ public class Resources {
 	public int getSum() {
 		int sum = 0;
 
-		for (Map.Entry<ResourceType, Integer> entry : resources.get().entrySet()) {
-			sum += entry.getValue();
+		for (int amount : amounts) {
+			sum += amount;
 		}
 
 		return sum;
@@ -298,11 +359,11 @@ public class Resources {
 	public int[] convertResources() {
 		int[] intResources = new int[5];
 
-		intResources[0] = this.getResources().get(ResourceType.LUMBER);
-		intResources[1] = this.getResources().get(ResourceType.WOOL);
-		intResources[2] = this.getResources().get(ResourceType.GRAIN);
-		intResources[3] = this.getResources().get(ResourceType.BRICK);
-		intResources[4] = this.getResources().get(ResourceType.ORE);
+		intResources[0] = get(ResourceType.LUMBER);
+		intResources[1] = get(ResourceType.WOOL);
+		intResources[2] = get(ResourceType.GRAIN);
+		intResources[3] = get(ResourceType.BRICK);
+		intResources[4] = get(ResourceType.ORE);
 
 		return intResources;
 	}
@@ -0,0 +1,20 @@
+package game.resources;
+
+/**
+ * Is notified whenever the amount of a type of resources changes. Unlike a JavaFX listener it needs no observable map
+ * and no boxing, so the model can track resources, e.g. for hashing, without paying for the user interface.
+ * @author Christoph Hermann
+ * @see Resources#addListener(ResourcesListener)
+ */
+@FunctionalInterface
+public interface ResourcesListener {
+
+	/**
+	 * Called after the amount of a type of resources has changed.
+	 * @param type the {@link ResourceType}.
+	 * @param oldAmount the amount before the change.
+	 * @param newAmount the amount after the change.
+	 */
+	void resourcesChanged(ResourceType type, int oldAmount, int newAmount);
+
+}
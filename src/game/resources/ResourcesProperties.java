@@ -0,0 +1,45 @@
+package game.resources;
+
+import game.ModelProperties;
+import javafx.beans.property.MapProperty;
+
+/**
+ * Wraps {@code Resources} in JavaFX properties for the views of resources.
+ * @author Christoph Hermann
+ * @see Resources
+ */
+public class ResourcesProperties extends ModelProperties {
+
+	/**
+	 * The wrapped resources.
+	 */
+	private final Resources resources;
+
+	/**
+	 * Creates a new adapter of the specified resources.
+	 * @param resources the {@link Resources}.
+	 */
+	private ResourcesProperties(Resources resources) {
+		super(resources);
+		this.resources = resources;
+	}
+
+	/**
+	 * Returns the adapter of the specified resources, which is created when it is requested first.
+	 * @param resources the {@link Resources}.
+	 * @return the adapter.
+	 */
+	public static ResourcesProperties of(Resources resources) {
+		return resources.getView(() -> new ResourcesProperties(resources));
+	}
+
+	/**
+	 * Returns an observable {@code Map} representing the resources and their amount, to which the user interface can
+	 * bind. Changes of the map are written back to the resources.
+	 * @return the resources and their amount.
+	 */
+	public MapProperty<ResourceType, Integer> resourcesProperty() {
+		return mapProperty(Resources.RESOURCES, resources::toMap, resources::set);
+	}
+
+}
@@ -3,15 +3,13 @@ package game.trade;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.json.JSONObject;
-
 import game.Game;
+import game.GameProperties;
 import game.player.Player;
 import game.resources.ResourceType;
 import game.resources.Resources;
 import interfaces.Controller;
 import javafx.beans.binding.Bindings;
-import javafx.beans.property.SimpleMapProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -23,8 +21,8 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Pane;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.AcceptTradeMessage;
+import network.protocol.messages.CancelTradeMessage;
 import network.server.Server;
 
 /**
@@ -177,7 +175,7 @@ public class OfferedTradeController implements Controller<Game> {
 		// Bind the name of the player who offered the trade (= the active player).
 		playerName.textProperty().bind(Bindings.createStringBinding(() -> {
 			return game.getActivePlayer().getName();
-		}, game.activePlayerProperty()));
+		}, GameProperties.of(game).activePlayerProperty()));
 
 		// Bind the image of the player who offered the trade (= the active player).
 		playerName.graphicProperty().bind(Bindings.createObjectBinding(() -> {
@@ -186,14 +184,14 @@ public class OfferedTradeController implements Controller<Game> {
 			playerPicture.setFitWidth(30);
 
 			return playerPicture;
-		}, game.activePlayerProperty()));
+		}, GameProperties.of(game).activePlayerProperty()));
 	}
 
 	/**
 	 * Updates the displayed resource cards of the player by binding them to the resources of the player.
 	 */
 	private void fillOfferAndRequest() {
-		game.tradeProperty().addListener(observable -> {
+		GameProperties.of(game).tradeProperty().addListener(observable -> {
 			if (game.getTrade() != null) {
 				// Update offered resources pane.
 				offeredCards.getChildren().clear();
@@ -209,7 +207,7 @@ public class OfferedTradeController implements Controller<Game> {
 				cancelButton.disableProperty().bind(Bindings.createBooleanBinding(() -> {
 					Player playerOfThisGameInstance = client.getUser().getPlayer();
 					return !game.getTrade().getAcceptedList().contains(playerOfThisGameInstance);
-				}, game.getTrade().getAcceptedList()));
+				}, TradeProperties.of(game.getTrade()).acceptedPlayersProperty()));
 
 				// Only enable the accept button, if the player has enough resources and hasn't already accepted.
 				acceptButton.disableProperty().bind(Bindings.createBooleanBinding(() -> {
@@ -218,7 +216,7 @@ public class OfferedTradeController implements Controller<Game> {
 					boolean playerHasEnoughResources = playerOfThisGameInstance.getResources().
 							isGreaterThanOrEqualTo(game.getTrade().getTradeRequest());
 					return !playerHasEnoughResources || playerHasAccepted;
-				}, game.getTrade().getAcceptedList()));
+				}, TradeProperties.of(game.getTrade()).acceptedPlayersProperty()));
 				
 				// Only enable the decline button if the cancel button is disabled and therefore the trade hasn't been
 				// accepted.
@@ -233,12 +231,10 @@ public class OfferedTradeController implements Controller<Game> {
 	 * @param resources the Resources to display.
 	 */
 	public void fillPane(AnchorPane pane, Resources resources) {
-		SimpleMapProperty<ResourceType, Integer> map = resources.getResources();
-
 		for (ResourceType resourceType : ResourceType.values()) {
 			String imagePath = imagePaths.get(resourceType);
 
-			for (int i=0; i<map.get(resourceType); i++) {
+			for (int i=0; i<resources.get(resourceType); i++) {
 				addCard(imagePath, pane.getChildren());
 			}
 		}
@@ -270,10 +266,7 @@ public class OfferedTradeController implements Controller<Game> {
 	 */
 	@FXML
 	public void acceptTrade() {
-		JSONObject message = new JSONObject();
-		message.put(Attributes.TRADING_ID.toString(), game.getTrade().getTradeID());
-		message.put(Attributes.ACCEPT.toString(), true);
-		client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), message);
+		client.sendToServer(new AcceptTradeMessage(game.getTrade().getTradeID(), true));
 	}
 
 	/**
@@ -284,10 +277,7 @@ public class OfferedTradeController implements Controller<Game> {
 	 */
 	@FXML
 	public void declineTrade() {
-		JSONObject message = new JSONObject();
-		message.put(Attributes.TRADING_ID.toString(), game.getTrade().getTradeID());
-		message.put(Attributes.ACCEPT.toString(), false);
-		client.sendToServer(ServerTypes.ACCEPT_TRADE.toString(), message);
+		client.sendToServer(new AcceptTradeMessage(game.getTrade().getTradeID(), false));
 	}
 
 	/**
@@ -298,9 +288,7 @@ public class OfferedTradeController implements Controller<Game> {
 	 */
 	@FXML
 	public void cancelTrade() {
-		JSONObject message = new JSONObject();
-		message.put(Attributes.TRADING_ID.toString(), game.getTrade().getTradeID());
-		client.sendToServer(ServerTypes.CANCEL_TRADE.toString(), message);
+		client.sendToServer(new CancelTradeMessage(game.getTrade().getTradeID()));
 	}
 
 	@Override
@@ -1,9 +1,12 @@
 package game.trade;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import game.ObservableModel;
 import game.player.Player;
 import game.resources.Resources;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableSet;
 
 /**
  * class that contains variables for trade offers, requests, the player and the trade-id 
@@ -12,7 +15,17 @@ import javafx.collections.ObservableSet;
  * @author Svenja Schoett
  *
  */
-public class Trade {
+public class Trade extends ObservableModel {
+
+	/**
+	 * The name of the property of the players who accepted the trade.
+	 */
+	public static final String ACCEPTED = "accepted";
+
+	/**
+	 * The name of the property of the players who declined the trade.
+	 */
+	public static final String DECLINED = "declined";
 
 	/**
 	 * variable that contains the resources the player is willing to offer
@@ -37,12 +50,12 @@ public class Trade {
 	/**
 	 * list of players who accept the trade
 	 */
-	private ObservableSet<Player> acceptedList = FXCollections.observableSet() ;
+	private Set<Player> acceptedList = new HashSet<Player>();
 
 	/**
 	 * list of players who decline the trade
 	 */
-	private ObservableSet<Player> declinedList = FXCollections.observableSet() ;
+	private Set<Player> declinedList = new HashSet<Player>();
 
 	/**
 	 * Constructor for the trade class
@@ -52,12 +65,12 @@ public class Trade {
 	 * @param tradeID the trade id.
 	 * @param acceptedList The list of player who accepted the trade.
 	 */
-	public void trade(Resources tradeOffer, Resources tradeRequest, Player player, int tradeID, ObservableSet<Player> acceptedList) {
+	public void trade(Resources tradeOffer, Resources tradeRequest, Player player, int tradeID, Set<Player> acceptedList) {
 		this.tradeOffer=tradeOffer; 
 		this.tradeRequest=tradeRequest;
 		this.player=player;
 		this.tradeID=tradeID;
-		this.acceptedList=acceptedList;
+		setAcceptedList(acceptedList);
 	}
 
 	/**
@@ -150,34 +163,36 @@ public class Trade {
 
 	/**
 	 * Getter for the list of players who accept the trade
-	 * @return acceptedList
+	 * @return acceptedList, which can't be modified.
 	 */
-	public ObservableSet<Player> getAcceptedList() {
-		return acceptedList;
+	public Set<Player> getAcceptedList() {
+		return Collections.unmodifiableSet(acceptedList);
 	}
 
 	/**
 	 * Setter for the list of players who accept the trade
 	 * @param acceptedList The list of players who accepted this trade.
 	 */
-	public void setAcceptedList(ObservableSet<Player> acceptedList) {
-		this.acceptedList=acceptedList;
+	public void setAcceptedList(Set<Player> acceptedList) {
+		this.acceptedList = new HashSet<Player>(acceptedList);
+		fireChanged(ACCEPTED);
 	}
 
 	/**
 	 * Getter for the list of players who decline the trade
-	 * @return acceptedList
+	 * @return declinedList, which can't be modified.
 	 */
-	public ObservableSet<Player> getDeclinedList(){
-		return declinedList;
+	public Set<Player> getDeclinedList(){
+		return Collections.unmodifiableSet(declinedList);
 	}
 
 	/**
 	 * Setter for the list of players who declined the trade
 	 * @param declinedList The list of players.
 	 */
-	public void setDeclinedList(ObservableSet<Player> declinedList) {
-		this.declinedList = declinedList;
+	public void setDeclinedList(Set<Player> declinedList) {
+		this.declinedList = new HashSet<Player>(declinedList);
+		fireChanged(DECLINED);
 	}
 
 	/**
@@ -185,7 +200,9 @@ public class Trade {
 	 * @param player the {@link Player} who accepted this trade.
 	 */
 	public void addAcceptingPlayer(Player player) {
-		acceptedList.add(player);
+		if (acceptedList.add(player)) {
+			fireChanged(ACCEPTED);
+		}
 	}
 
 	/**
@@ -193,7 +210,9 @@ public class Trade {
 	 * @param player the {@link Player} who no longer accepts this trade.
 	 */
 	public void removeAcceptingPlayer(Player player) {
-		acceptedList.add(player);
+		if (acceptedList.remove(player)) {
+			fireChanged(ACCEPTED);
+		}
 	}
 
 	/**
@@ -201,7 +220,9 @@ public class Trade {
 	 * @param player the {@link Player} who declined this trade.
 	 */
 	public void addDecliningPlayer(Player player) {
-		declinedList.add(player);
+		if (declinedList.add(player)) {
+			fireChanged(DECLINED);
+		}
 	}
 
 }
@@ -2,9 +2,9 @@ package game.trade;
 
 import java.io.IOException;
 
-import org.json.JSONObject;
-
 import game.Game;
+import game.GameProperties;
+import game.TradingRatiosProperties;
 import game.player.Player;
 import game.resources.ResourceType;
 import game.resources.Resources;
@@ -13,7 +13,6 @@ import interfaces.Controller;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleMapProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
@@ -24,10 +23,10 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import main.ApplicationInstance;
-import network.Mapper;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.CancelTradeMessage;
+import network.protocol.messages.OfferTradeMessage;
+import network.protocol.messages.SeaTradeMessage;
 import network.server.Server;
 
 /**
@@ -367,8 +366,8 @@ public class TradeController implements Controller<Game> {
 	 */
 	@FXML
 	private void moreBricksOffer() {
-		SimpleMapProperty<ResourceType, Integer> map = game.getActivePlayer().getResources().getResources();
-		if(brickOffer.get() < map.get(ResourceType.BRICK)) {
+		Resources resources = game.getActivePlayer().getResources();
+		if(brickOffer.get() < resources.get(ResourceType.BRICK)) {
 		brickOffer.set(brickOffer.get()+1);
 		this.BrickLabelOffer.setText(""+brickOffer.get());
 		}
@@ -390,8 +389,8 @@ public class TradeController implements Controller<Game> {
 	 */
 	@FXML
 	private void moreLumberOffer() {
-		SimpleMapProperty<ResourceType, Integer> map = game.getActivePlayer().getResources().getResources();
-		if(lumberOffer.get() < map.get(ResourceType.LUMBER)) {
+		Resources resources = game.getActivePlayer().getResources();
+		if(lumberOffer.get() < resources.get(ResourceType.LUMBER)) {
 		lumberOffer.set(lumberOffer.get()+1);
 		this.LumberLabelOffer.setText(""+lumberOffer.get());
 		}
@@ -412,8 +411,8 @@ public class TradeController implements Controller<Game> {
 	 */
 	@FXML
 	private void moreOreOffer() {
-		SimpleMapProperty<ResourceType, Integer> map = game.getActivePlayer().getResources().getResources();
-		if(oreOffer.get() < map.get(ResourceType.ORE)) {
+		Resources resources = game.getActivePlayer().getResources();
+		if(oreOffer.get() < resources.get(ResourceType.ORE)) {
 		oreOffer.set(oreOffer.get()+1);
 		this.OreLabelOffer.setText(""+oreOffer.get());
 		}
@@ -435,8 +434,8 @@ public class TradeController implements Controller<Game> {
 	 */
 	@FXML
 	private void moreGrainOffer() {
-		SimpleMapProperty<ResourceType, Integer> map = game.getActivePlayer().getResources().getResources();
-		if(grainOffer.get() < map.get(ResourceType.GRAIN)) {
+		Resources resources = game.getActivePlayer().getResources();
+		if(grainOffer.get() < resources.get(ResourceType.GRAIN)) {
 		grainOffer.set(grainOffer.get()+1);
 		this.GrainLabelOffer.setText(""+grainOffer.get());
 		}
@@ -458,8 +457,8 @@ public class TradeController implements Controller<Game> {
 	 */
 	@FXML
 	private void moreWoolOffer() {
-		SimpleMapProperty<ResourceType, Integer> map = game.getActivePlayer().getResources().getResources();
-		if(woolOffer.get() < map.get(ResourceType.WOOL)) {
+		Resources resources = game.getActivePlayer().getResources();
+		if(woolOffer.get() < resources.get(ResourceType.WOOL)) {
 		woolOffer.set(woolOffer.get()+1);
 		this.WoolLabelOffer.setText(""+woolOffer.get());
 	}
@@ -481,23 +480,23 @@ public class TradeController implements Controller<Game> {
 	private void fillRatio() {
 		brickRatio.textProperty().bind(Bindings.createStringBinding(() -> {
 			return client.getUser().getPlayer().getTradingRatios().getRatios().get(ResourceType.BRICK) + ":1";
-		}, client.getUser().getPlayer().getTradingRatios().getRatios()));
+		}, TradingRatiosProperties.of(client.getUser().getPlayer().getTradingRatios()).ratiosProperty()));
 
 		lumberRatio.textProperty().bind(Bindings.createStringBinding(() -> {
 			return client.getUser().getPlayer().getTradingRatios().getRatios().get(ResourceType.LUMBER) + ":1";
-		}, client.getUser().getPlayer().getTradingRatios().getRatios()));
+		}, TradingRatiosProperties.of(client.getUser().getPlayer().getTradingRatios()).ratiosProperty()));
 
 		grainRatio.textProperty().bind(Bindings.createStringBinding(() -> {
 			return client.getUser().getPlayer().getTradingRatios().getRatios().get(ResourceType.GRAIN) + ":1";
-		}, client.getUser().getPlayer().getTradingRatios().getRatios()));
+		}, TradingRatiosProperties.of(client.getUser().getPlayer().getTradingRatios()).ratiosProperty()));
 
 		woolRatio.textProperty().bind(Bindings.createStringBinding(() -> {
 			return client.getUser().getPlayer().getTradingRatios().getRatios().get(ResourceType.WOOL) + ":1";
-		}, client.getUser().getPlayer().getTradingRatios().getRatios()));
+		}, TradingRatiosProperties.of(client.getUser().getPlayer().getTradingRatios()).ratiosProperty()));
 
 		oreRatio.textProperty().bind(Bindings.createStringBinding(() -> {
 			return client.getUser().getPlayer().getTradingRatios().getRatios().get(ResourceType.ORE) + ":1";
-		}, client.getUser().getPlayer().getTradingRatios().getRatios()));
+		}, TradingRatiosProperties.of(client.getUser().getPlayer().getTradingRatios()).ratiosProperty()));
 	}
 
 	/**
@@ -510,8 +509,7 @@ public class TradeController implements Controller<Game> {
 				ResourceType.ORE, oreRequest.get(), ResourceType.GRAIN, grainRequest.get(), ResourceType.WOOL, woolRequest.get());
 		Resources offer = new Resources(ResourceType.BRICK, brickOffer.get(), ResourceType.LUMBER, lumberOffer.get(), 
 				ResourceType.ORE, oreOffer.get(), ResourceType.GRAIN, grainOffer.get(), ResourceType.WOOL, woolOffer.get());
-		JSONObject json = new Mapper().writeValueAsJson(offer, resources);
-		client.sendToServer(ServerTypes.SEA_TRADING.toString(), json);
+		client.sendToServer(new SeaTradeMessage(offer, resources));
 
 		resetTradeWindow();
 	}
@@ -527,8 +525,7 @@ public class TradeController implements Controller<Game> {
 				ResourceType.ORE, oreRequest.get(), ResourceType.GRAIN, grainRequest.get(), ResourceType.WOOL, woolRequest.get());
 		Resources offer = new Resources(ResourceType.BRICK, brickOffer.get(), ResourceType.LUMBER, lumberOffer.get(), 
 				ResourceType.ORE, oreOffer.get(), ResourceType.GRAIN, grainOffer.get(), ResourceType.WOOL, woolOffer.get());
-		JSONObject json = new Mapper().writeValueAsJson(offer, resources);
-		client.sendToServer(ServerTypes.OFFER_TRADE.toString(), json);
+		client.sendToServer(new OfferTradeMessage(offer, resources));
 	}
 	
 
@@ -544,7 +541,7 @@ public class TradeController implements Controller<Game> {
 			} else {
 				return game.getTrade().getPlayer() == client.getUser().getPlayer();
 			}
-		}, game.tradeProperty()));
+		}, GameProperties.of(game).tradeProperty()));
 
 		// Disable the defineTradePane, if the tradeStarterBox is visible.
 		defineTradePane.disableProperty().bind(tradeStarterBox.visibleProperty());
@@ -561,7 +558,7 @@ public class TradeController implements Controller<Game> {
 
 					// Configure view and controller.
 					tradeParticipantsBox.getChildren().add(tradeParticipantView);
-					tradeParticipantController.fillParticipantBox(player, game.tradeProperty(), client, this);
+					tradeParticipantController.fillParticipantBox(player, GameProperties.of(game).tradeProperty(), client, this);
 				} catch (IOException exception) {
 					exception.printStackTrace();
 				}
@@ -640,9 +637,7 @@ public class TradeController implements Controller<Game> {
 	public void cancelTrade() {
 		resetTradeWindow();
 
-		JSONObject message = new JSONObject();
-		message.put(Attributes.TRADING_ID.toString(), game.getTrade().getTradeID());
-		client.sendToServer(ServerTypes.CANCEL_TRADE.toString(), message);
+		client.sendToServer(new CancelTradeMessage(game.getTrade().getTradeID()));
 	}
 
 }
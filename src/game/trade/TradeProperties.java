@@ -0,0 +1,53 @@
+package game.trade;
+
+import game.ModelProperties;
+import game.player.Player;
+import javafx.beans.property.SetProperty;
+
+/**
+ * Wraps a {@code Trade} in JavaFX properties for the views of trades.
+ * @author Christoph Hermann
+ * @see Trade
+ */
+public class TradeProperties extends ModelProperties {
+
+	/**
+	 * The wrapped trade.
+	 */
+	private final Trade trade;
+
+	/**
+	 * Creates a new adapter of the specified trade.
+	 * @param trade the {@link Trade}.
+	 */
+	private TradeProperties(Trade trade) {
+		super(trade);
+		this.trade = trade;
+	}
+
+	/**
+	 * Returns the adapter of the specified trade, which is created when it is requested first.
+	 * @param trade the {@link Trade}.
+	 * @return the adapter.
+	 */
+	public static TradeProperties of(Trade trade) {
+		return trade.getView(() -> new TradeProperties(trade));
+	}
+
+	/**
+	 * Returns the property of the players who accepted the trade.
+	 * @return the {@link Player Players} as a property.
+	 */
+	public SetProperty<Player> acceptedPlayersProperty() {
+		return setProperty(Trade.ACCEPTED, trade::getAcceptedList);
+	}
+
+	/**
+	 * Returns the property of the players who declined the trade.
+	 * @return the {@link Player Players} as a property.
+	 */
+	public SetProperty<Player> declinedPlayersProperty() {
+		return setProperty(Trade.DECLINED, trade::getDeclinedList);
+	}
+
+}
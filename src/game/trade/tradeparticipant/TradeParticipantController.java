@@ -1,10 +1,9 @@
 package game.trade.tradeparticipant;
 
-import org.json.JSONObject;
-
 import game.player.Player;
 import game.trade.Trade;
 import game.trade.TradeController;
+import game.trade.TradeProperties;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -15,8 +14,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.FinishTradeMessage;
 import network.server.Server;
 
 /**
@@ -147,24 +145,25 @@ public class TradeParticipantController {
 				// Only show finish button if the player accepted the trade.
 				finishButton.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 					return trade.get().getAcceptedList().contains(player);
-				}, trade.get().getAcceptedList()));
+				}, TradeProperties.of(trade.get()).acceptedPlayersProperty()));
 
 				// Show the accept label if the player has accepted the trade.
 				acceptLabel.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 					return trade.get().getAcceptedList().contains(player);
-				}, trade.get().getAcceptedList()));
+				}, TradeProperties.of(trade.get()).acceptedPlayersProperty()));
 
 				// Show the decline label if the player has declined the trade.
 				declineLabel.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 					return trade.get().getDeclinedList().contains(player);
-				}, trade.get().getDeclinedList()));
+				}, TradeProperties.of(trade.get()).declinedPlayersProperty()));
 
 				// Show the no response label if the player hasn't accepted or declined.
 				noResponseLabel.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
 					boolean playerHasAccepted = trade.get().getAcceptedList().contains(player);
 					boolean playerHasDeclined = trade.get().getDeclinedList().contains(player);
 					return !playerHasAccepted && !playerHasDeclined;
-				}, trade.get().getAcceptedList(), trade.get().getDeclinedList()));
+				}, TradeProperties.of(trade.get()).acceptedPlayersProperty(),
+						TradeProperties.of(trade.get()).declinedPlayersProperty()));
 			}
 		});
 	}
@@ -178,13 +177,8 @@ public class TradeParticipantController {
 	 */
 	@FXML
 	private void finishTrade() {
-		// Create message.
-		JSONObject message = new JSONObject();
-		message.put(Attributes.TRADING_ID.toString(), trade.get().getTradeID());
-		message.put(Attributes.FELLOW_PLAYER.toString(), player.getId());
-
 		// Send message to server.
-		client.sendToServer(ServerTypes.FINISH_TRADE.toString(), message);
+		client.sendToServer(new FinishTradeMessage(trade.get().getTradeID(), player.getId()));
 
 		//reset the trade offers in the trade window
 		tradeController.resetTradeWindow();
@@ -1,36 +1,39 @@
 package lobby;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.scene.paint.Color;
+import game.ModelList;
+import game.ObservableModel;
+import game.player.PlayerColor;
+import network.server.ServerController;
 import users.User;
 
 /**
  * Represents a lobby.
  * @author Christoph Hermann
  */
-public class Lobby {
+public class Lobby extends ObservableModel {
 
 	/**
 	 * The maximum amount of {@code Users} allowed to join this lobby.
 	 * @see User
 	 */
-	private final static int MAX_USERS = 4;
+	private final static int MAX_USERS = ServerController.MAX_PLAYERS;
 
 	/**
 	 * The {@code Users} currently in this lobby.
 	 * @see User
 	 */
-	private ObservableList<User> users = FXCollections.observableArrayList(new ArrayList<User>());
+	private final ModelList<User> users = new ModelList<User>();
 
 	/**
 	 * The list of all possible colors available to the {@code Users}.
 	 * @see User
 	 */
-	private final ObservableList<Color> colors = FXCollections.observableArrayList(Color.RED, Color.WHITE,
-			Color.BLUE, Color.ORANGE);
+	private final List<PlayerColor> colors = Collections.unmodifiableList(Arrays.asList(PlayerColor.RED,
+			PlayerColor.WHITE, PlayerColor.BLUE, PlayerColor.ORANGE));
 
 	/**
 	 * Returns the {@code User} with the specified id.
@@ -59,7 +62,7 @@ public class Lobby {
 	 * Returns the list of users in this lobby.
 	 * @return the {@link User Users}.
 	 */
-	public ObservableList<User> getUsers() {
+	public ModelList<User> getUsers() {
 		return users;
 	}
 
@@ -76,7 +79,7 @@ public class Lobby {
 	 * @return a list of all colors.
 	 * @see User
 	 */
-	public ObservableList<Color> getAllColors() {
+	public List<PlayerColor> getAllColors() {
 		return colors;
 	}
 
@@ -0,0 +1,50 @@
+package lobby;
+
+import game.ModelProperties;
+import javafx.beans.property.ListProperty;
+import users.User;
+
+/**
+ * Wraps a {@code Lobby} in JavaFX properties for the views of the lobby.
+ * @author Christoph Hermann
+ * @see Lobby
+ */
+public class LobbyProperties extends ModelProperties {
+
+	/**
+	 * The name of the property of the users in the lobby.
+	 */
+	private static final String USERS = "users";
+
+	/**
+	 * The wrapped lobby.
+	 */
+	private final Lobby lobby;
+
+	/**
+	 * Creates a new adapter of the specified lobby.
+	 * @param lobby the {@link Lobby}.
+	 */
+	private LobbyProperties(Lobby lobby) {
+		super(lobby);
+		this.lobby = lobby;
+	}
+
+	/**
+	 * Returns the adapter of the specified lobby, which is created when it is requested first.
+	 * @param lobby the {@link Lobby}.
+	 * @return the adapter.
+	 */
+	public static LobbyProperties of(Lobby lobby) {
+		return lobby.getView(() -> new LobbyProperties(lobby));
+	}
+
+	/**
+	 * Returns the property of the users in the lobby. The views change the users of the lobby, not the property.
+	 * @return the {@link User Users} as a property.
+	 */
+	public ListProperty<User> usersProperty() {
+		return listProperty(USERS, lobby.getUsers());
+	}
+
+}
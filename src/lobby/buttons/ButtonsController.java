@@ -1,7 +1,5 @@
 package lobby.buttons;
 
-import org.json.JSONObject;
-
 import game.player.PlayerState;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
@@ -11,8 +9,10 @@ import main.ApplicationController;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
 import network.protocol.ServerTypes;
+import network.protocol.messages.SimpleMessage;
 import network.server.Server;
 import users.User;
+import users.UserProperties;
 
 /**
  * Represents the controller responsible for controlling the buttons area in the lobby.
@@ -61,9 +61,8 @@ public class ButtonsController {
 	 */
 	@FXML
 	private void ready() {
-		JSONObject message = new JSONObject();
-		// send an empty JSONObject, so the server knows the player is ready
-		client.get().sendToServer(ServerTypes.GAME_START.toString(), message);
+		// send an empty message, so the server knows the player is ready
+		client.get().sendToServer(new SimpleMessage(ServerTypes.GAME_START));
 	}
 
 	/**
@@ -91,7 +90,7 @@ public class ButtonsController {
 				readyButton.disableProperty().bind(Bindings.createBooleanBinding(() -> {
 					PlayerState state = client.get().getUser().getState();
 					return state != PlayerState.START_GAME;
-				}, client.get().getUser().stateProperty()));
+				}, UserProperties.of(client.get().getUser()).stateProperty()));
 			}
 		});
 	}
@@ -3,8 +3,6 @@ package lobby.chat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import org.json.JSONObject;
-
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -14,8 +12,7 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.Pane;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
-import network.protocol.ServerTypes;
+import network.protocol.messages.ChatMessage;
 import network.server.Server;
 
 /**
@@ -64,10 +61,7 @@ public class ChatController {
 	private void send() {
 		String message = writingField.getText();
 
-		JSONObject object = new JSONObject();
-		object.put(Attributes.MESSAGE.toString(), message);
-
-		clientConnection.get().sendToServer(ServerTypes.SEND_CHATMESSAGE.toString(), object);
+		clientConnection.get().sendToServer(new ChatMessage(message));
 
 		writingField.clear();
 	}
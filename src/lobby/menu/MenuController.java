@@ -26,7 +26,6 @@ import main.ApplicationInstance;
 import network.client.ClientConnection;
 import network.client.ClientController;
 import network.server.Server;
-import network.server.ServerController;
 import sounds.AudioPlayer;
 import users.AIUser;
 import users.User;
@@ -430,9 +429,11 @@ public class MenuController {
 		int portNumber = Integer.parseInt(port);
 		server.set(new Server(portNumber, this));
 
-		// Create new server controller.
-		ServerController serverController = new ServerController(chatController, new Lobby(), server.get());
-		server.get().setServerController(serverController);
+		// Set the chat controller used by the server's rooms.
+		server.get().setChatController(chatController);
+
+		// Send messages in the language of the user.
+		server.get().setLocale(ApplicationInstance.getInstance().getBundleProperty().get().getLocale());
 
 		// Starts the new server.
 		server.get().start();
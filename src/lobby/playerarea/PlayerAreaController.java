@@ -1,15 +1,15 @@
 package lobby.playerarea;
 
-import org.json.JSONObject;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.util.Callback;
 import lobby.Lobby;
+import lobby.LobbyProperties;
 import lobby.playerarea.playerareacell.PlayerAreaCell;
 import network.client.ClientConnection;
 import network.protocol.ServerTypes;
+import network.protocol.messages.SimpleMessage;
 import network.server.Server;
 import users.AIUser;
 import users.User;
@@ -56,8 +56,7 @@ public class PlayerAreaController {
 	 */
 	@FXML
 	private void ready() {
-		JSONObject message = new JSONObject();
-		client.sendToServer(ServerTypes.GAME_START.toString(), message);
+		client.sendToServer(new SimpleMessage(ServerTypes.GAME_START));
 	}
 
 	/**
@@ -77,7 +76,7 @@ public class PlayerAreaController {
 
 		});
 
-		userListView.setItems(lobby.getUsers());
+		userListView.setItems(LobbyProperties.of(lobby).usersProperty());
 		userListView.setMaxHeight(lobby.getMaxUsers() * PLAYER_CELL_HEIGHT + LIST_VIEW_EDGE_HEIGHT);
 	}
 
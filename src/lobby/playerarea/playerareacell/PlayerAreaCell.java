@@ -11,6 +11,7 @@ import javafx.scene.layout.HBox;
 import lobby.Lobby;
 import main.ApplicationInstance;
 import users.User;
+import users.UserProperties;
 
 /**
  * Represents a list cell containing information about a {@code User} inside a {@code Lobby}.
@@ -74,7 +75,7 @@ public class PlayerAreaCell extends ListCell<User> {
 					// Otherwise, disable the color chooser if the user is ready.
 					controller.getColorChooser().disableProperty().bind((Bindings.createBooleanBinding(() -> {
 						return user.getState() != PlayerState.START_GAME;
-					}, user.stateProperty())));
+					}, UserProperties.of(user).stateProperty())));
 				}
 			} catch (IOException exception) {
 				exception.printStackTrace();
@@ -1,11 +1,11 @@
 package lobby.playerarea.playerareacell;
 
-import org.json.JSONObject;
-
 import game.player.Player;
+import game.player.PlayerColor;
 import game.player.PlayerState;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
@@ -18,11 +18,11 @@ import javafx.scene.shape.Rectangle;
 import lobby.Lobby;
 import main.ApplicationInstance;
 import network.client.ClientConnection;
-import network.protocol.Attributes;
 import network.protocol.ProtocolStringConverter;
-import network.protocol.ServerTypes;
+import network.protocol.messages.PlayerMessage;
 import network.server.Server;
 import users.User;
+import users.UserProperties;
 
 /**
  * Represents a controller responsible for controlling a cell containing the information of a {@code User}.
@@ -63,7 +63,7 @@ public class PlayerAreaCellController {
 	 * @see User
 	 */
 	@FXML
-	private ComboBox<Color> colorChooser;
+	private ComboBox<PlayerColor> colorChooser;
 
 	/**
 	 * The label showing if the {@code Player} is ready.
@@ -83,21 +83,21 @@ public class PlayerAreaCellController {
 	/**
 	 * Represents a cell inside the colorChooser.
 	 */
-	private class ColorChooserCell extends ListCell<Color> {
+	private class ColorChooserCell extends ListCell<PlayerColor> {
 
 		/**
 		 * The rectangle visually representing the color associated with this cell.
 		 */
 		private final Rectangle rectangle = new Rectangle(10, 10);
 
-		@Override protected void updateItem(Color color, boolean empty) {
+		@Override protected void updateItem(PlayerColor color, boolean empty) {
 			super.updateItem(color, empty);
 
 			if (color == null || empty) {
 				setGraphic(null);
 			} else {
 				rectangle.setStroke(Color.BLACK);
-				rectangle.setFill(color);
+				rectangle.setFill(Color.web(color.getWebColor()));
 				setGraphic(rectangle);
 			}
 		}
@@ -109,14 +109,12 @@ public class PlayerAreaCellController {
 	 * @see Server
 	 * @see User
 	 */
-	private void changeColor(Color color) {
+	private void changeColor(PlayerColor color) {
 		// Create message.
-		JSONObject object = new JSONObject();
-		object.put(Attributes.COLOR.toString(), ProtocolStringConverter.getName(color));
-		object.put(Attributes.NAME.toString(), user.getName());
+		PlayerMessage message = new PlayerMessage(user.getName(), ProtocolStringConverter.getName(color));
 
 		// Send message.
-		client.sendToServer(ServerTypes.PLAYER.toString(), object);
+		client.sendToServer(message);
 	}
 
 	/**
@@ -130,20 +128,20 @@ public class PlayerAreaCellController {
 
 		// Set values.		
 		colorChooser.setValue(user.getColor());
-		colorChooser.setItems(lobby.getAllColors());
+		colorChooser.setItems(FXCollections.observableList(lobby.getAllColors()));
 
 		addBindings();
 
 		// Set onAction event.
 		if (user == ApplicationInstance.getInstance().getUser()) {
 			colorChooser.setOnAction((event) -> {
-				Color selectedColor = colorChooser.getSelectionModel().getSelectedItem();
+				PlayerColor selectedColor = colorChooser.getSelectionModel().getSelectedItem();
 				changeColor(selectedColor);
 			});
 		}
 
 		// Add listeners.
-		this.user.colorProperty().addListener((observableValue, oldValue, newValue) -> colorChooser.setValue(user.getColor()));
+		UserProperties.of(user).colorProperty().addListener((observableValue, oldValue, newValue) -> colorChooser.setValue(user.getColor()));
 
 		// Makes the colorChooser display colored rectangles instead of String representations of the colors.
 		colorChooser.setCellFactory(colorListView -> {
@@ -157,23 +155,23 @@ public class PlayerAreaCellController {
 	private void addBindings() {
 		Platform.runLater(() -> {
 			// Bind the username field to the name of the user.
-			userName.textProperty().bind(user.nameProperty());
+			userName.textProperty().bind(UserProperties.of(user).nameProperty());
 
 			// Bind the user image view to the image of the user.
 			userImage.imageProperty().bind(Bindings.createObjectBinding(() -> {
 				String imageLocation = user.getImageLocation();
 				return new Image(getClass().getResourceAsStream(imageLocation));
-			}, user.ImageLocationProperty()));
+			}, UserProperties.of(user).imageLocationProperty()));
 
 			// Binds the color in the button cell of the colorChooser to the color of the user.
 			colorChooser.buttonCellProperty().bind(Bindings.createObjectBinding(() -> {
 				return new ColorChooserCell();
-			}, user.colorProperty()));
+			}, UserProperties.of(user).colorProperty()));
 
 			// Show the ready label if the user wants to start the game.
 			readyLabel.visibleProperty().bind(Bindings.createBooleanBinding(() -> {
-				return user.stateProperty().get() != PlayerState.START_GAME;
-			}, user.stateProperty()));
+				return user.getState() != PlayerState.START_GAME;
+			}, UserProperties.of(user).stateProperty()));
 		});
 	}
 
@@ -181,7 +179,7 @@ public class PlayerAreaCellController {
 	 * Returns the {@code ComboBox} used for choosing a color.
 	 * @return the {@link ComboBox}.
 	 */
-	public ComboBox<Color> getColorChooser() {
+	public ComboBox<PlayerColor> getColorChooser() {
 		return colorChooser;
 	}
 
@@ -4,10 +4,8 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 
 import game.player.Player;
-import javafx.beans.binding.Bindings;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
 import users.HumanUser;
 import users.User;
 
@@ -35,10 +33,15 @@ public final class ApplicationInstance {
 	private Locale locale = new Locale("en","US");
 
 	/**
-	 * The property of the resource bundle.
+	 * The resource bundle of the current language.
 	 */
-	private ObjectProperty<ResourceBundle> bundleProperty = new SimpleObjectProperty<ResourceBundle>(
-			ResourceBundle.getBundle("internationalization.MessagesBundle", locale));
+	private ResourceBundle bundle = ResourceBundle.getBundle("internationalization.MessagesBundle", locale);
+
+	/**
+	 * The properties of the language for the views or null, if no view has requested them yet. They are created
+	 * lazily, so an AI client on a dedicated server reads the bundle without JavaFX.
+	 */
+	private LanguageProperties languageProperties;
 
 	/**
 	 * Creates a new instance of this application.
@@ -54,9 +57,7 @@ public final class ApplicationInstance {
 	 * @return  the String binding.
 	 */
 	public StringBinding createStringBinding(String key) {
-        return Bindings.createStringBinding(() -> {
-        	return bundleProperty.get().getString(key);
-        }, bundleProperty);
+        return getLanguageProperties().createStringBinding(key);
     }
 
 	/**
@@ -97,7 +98,10 @@ public final class ApplicationInstance {
 	 * @param newLocale the Locale of the new language
 	 */
 	public void changeLocale(Locale newLocale) {
-		bundleProperty.set(ResourceBundle.getBundle("internationalization.MessagesBundle", newLocale));
+		bundle = ResourceBundle.getBundle("internationalization.MessagesBundle", newLocale);
+		if (languageProperties != null) {
+			languageProperties.setBundle(bundle);
+		}
 	}
 	
 	/**
@@ -105,7 +109,26 @@ public final class ApplicationInstance {
 	 * @return the bundle property
 	 */
 	public ObjectProperty<ResourceBundle> getBundleProperty() {
-		return bundleProperty;
+		return getLanguageProperties().bundleProperty();
+	}
+
+	/**
+	 * Returns the properties of the language for the views, which are created when they are requested first.
+	 * @return the {@link LanguageProperties}.
+	 */
+	private LanguageProperties getLanguageProperties() {
+		if (languageProperties == null) {
+			languageProperties = new LanguageProperties(bundle);
+		}
+		return languageProperties;
+	}
+
+	/**
+	 * Returns the ResourceBundle of the current language.
+	 * @return the bundle.
+	 */
+	public ResourceBundle getBundle() {
+		return bundle;
 	}
 
 }
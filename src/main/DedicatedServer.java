@@ -0,0 +1,217 @@
+package main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import game.board.BoardConfiguration;
+import network.client.ClientConnection;
+import network.protocol.Encoding;
+import network.server.Server;
+import network.server.ServerController;
+import network.server.TransportType;
+import users.AIUser;
+
+/**
+ * The entry point of a dedicated server, which runs without user interface. Unlike {@link Main} it never starts the
+ * JavaFX toolkit, so it starts fast and runs on machines without display, e.g. in a container.
+ * <p>
+ * The options are read from an optional properties file given by {@code --config <file>} and from the command line,
+ * e.g. {@code --port 6789 --rooms 4}, which overrides the file. The supported options are:
+ * <ul>
+ * <li>{@code port}: the port of the server, 6789 by default.</li>
+ * <li>{@code rooms}: the maximum number of rooms hosted at the same time, 1 by default.</li>
+ * <li>{@code transport}: the {@link TransportType}, BLOCKING by default.</li>
+ * <li>{@code event-loops}: the number of event loops of the {@code NIO} transport.</li>
+ * <li>{@code max-pending}: the maximum number of messages waiting to be sent to a single client.</li>
+ * <li>{@code board-circles}: the number of circles of hexes of the boards.</li>
+ * <li>{@code ai}: the number of AIs connected to the server after it has started, 0 by default. There may be no
+ * more AIs than seats in all rooms.</li>
+ * <li>{@code ai-encoding}: the {@link Encoding} the AIs request, JSON by default.</li>
+ * <li>{@code locale}: the language of the messages sent by the server, e.g. de-DE.</li>
+ * <li>{@code log-level}: the level of the root logger, e.g. WARN.</li>
+ * </ul>
+ * The server stops gracefully, when the process is terminated, e.g. by SIGTERM. If the server cannot open its socket
+ * or an AI cannot connect to it, the process exits with status 1.
+ * @author Christoph Hermann
+ * @see Server
+ */
+public final class DedicatedServer {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(DedicatedServer.class.getName());
+
+	/**
+	 * The port of the server, if not specified otherwise.
+	 */
+	private static final int DEFAULT_PORT = 6789;
+
+	/**
+	 * The amount of time in milliseconds the server is given to stop, when the process is terminated.
+	 */
+	private static final long SHUTDOWN_TIMEOUT = 5000;
+
+	/**
+	 * The maximum amount of time in milliseconds waited for the server to open its socket.
+	 */
+	private static final long STARTUP_TIMEOUT = 10000;
+
+	/**
+	 * The maximum amount of time in milliseconds waited for an AI to connect to the server.
+	 */
+	private static final long AI_CONNECT_TIMEOUT = 10000;
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private DedicatedServer() {
+	}
+
+	/**
+	 * Starts a dedicated server with the options given on the command line and waits until it has stopped.
+	 * @param args the command line arguments.
+	 * @throws IOException if the configuration file cannot be read.
+	 * @throws InterruptedException if the main thread is interrupted while waiting for the server.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Properties options = parseOptions(args);
+
+		// Configure logging first, so the start of the server is logged as requested.
+		String logLevel = options.getProperty("log-level");
+		if (logLevel != null) {
+			Configurator.setRootLevel(Level.valueOf(logLevel));
+		}
+
+		int port = Integer.parseInt(options.getProperty("port", String.valueOf(DEFAULT_PORT)));
+		int rooms = Integer.parseInt(options.getProperty("rooms", "1"));
+		int numberOfAis = Integer.parseInt(options.getProperty("ai", "0"));
+		if (numberOfAis > rooms * ServerController.MAX_PLAYERS) {
+			throw new IllegalArgumentException(rooms + " rooms seat no more than " + rooms * ServerController.MAX_PLAYERS
+					+ " AIs, but got " + numberOfAis);
+		}
+
+		// Create server.
+		Server server = new Server(port, rooms);
+		server.setTransportType(TransportType.valueOf(options.getProperty("transport", "BLOCKING").toUpperCase()));
+		if (options.containsKey("event-loops")) {
+			server.setNumberOfEventLoops(Integer.parseInt(options.getProperty("event-loops")));
+		}
+		if (options.containsKey("max-pending")) {
+			server.setMaxPendingMessages(Integer.parseInt(options.getProperty("max-pending")));
+		}
+		if (options.containsKey("board-circles")) {
+			server.setBoardConfiguration(
+					BoardConfiguration.withNumberOfCircles(Integer.parseInt(options.getProperty("board-circles"))));
+		}
+		if (options.containsKey("locale")) {
+			server.setLocale(Locale.forLanguageTag(options.getProperty("locale")));
+		}
+
+		// Stop the server gracefully, when the process is terminated.
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			if (server.isAlive()) {
+				logger.info("Stopping server on port " + port + ".");
+				server.stopRunning();
+				try {
+					if (!server.awaitTermination(SHUTDOWN_TIMEOUT)) {
+						logger.warn("Server on port " + port + " did not stop in time.");
+					}
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, "Shutdown-" + port));
+
+		server.start();
+		if (!server.awaitStartup(STARTUP_TIMEOUT)) {
+			fail(server, "Server failed to start on port " + port + ".");
+		}
+		logger.info("Server started on port " + port + " with up to " + rooms + " rooms.");
+
+		// Fill the rooms with AIs.
+		if (numberOfAis > 0) {
+			Encoding encoding = Encoding.valueOf(options.getProperty("ai-encoding", "JSON").toUpperCase());
+			for (int i = 0; i < numberOfAis; i++) {
+				connectAi(server, port, encoding);
+			}
+		}
+
+		server.join();
+	}
+
+	/**
+	 * Connects a new AI to the server and waits until it is connected. If the AI cannot connect, the server is stopped
+	 * and the process exits.
+	 * @param server the {@link Server}.
+	 * @param port the port of the server.
+	 * @param encoding the {@link Encoding} the AI requests.
+	 * @throws InterruptedException if the main thread is interrupted while waiting for the AI.
+	 */
+	private static void connectAi(Server server, int port, Encoding encoding) throws InterruptedException {
+		ClientConnection aiClient;
+		try {
+			aiClient = AIUser.connect("localhost", port, encoding);
+		} catch (RuntimeException | LinkageError exception) {
+			// A missing library is only noticed, when the first AI is created.
+			logger.error("Failed to create an AI.", exception);
+			fail(server, "AI could not connect to the server on port " + port + ".");
+			return;
+		}
+
+		if (!aiClient.awaitConnection(AI_CONNECT_TIMEOUT)) {
+			fail(server, "AI could not connect to the server on port " + port + ".");
+		}
+	}
+
+	/**
+	 * Logs an error, stops the server and exits the process with a non-zero status.
+	 * @param server the {@link Server}.
+	 * @param message the error message.
+	 * @throws InterruptedException if the main thread is interrupted while waiting for the server to stop.
+	 */
+	private static void fail(Server server, String message) throws InterruptedException {
+		logger.error(message);
+		server.stopRunning();
+		server.awaitTermination(SHUTDOWN_TIMEOUT);
+		System.exit(1);
+	}
+
+	/**
+	 * Reads the options from the configuration file and the command line. An option is given on the command line as
+	 * {@code --name value}, the options of the command line override the ones of the file.
+	 * @param args the command line arguments.
+	 * @return the options.
+	 * @throws IOException if the configuration file cannot be read.
+	 * @throws IllegalArgumentException if an argument is not an option or has no value.
+	 */
+	private static Properties parseOptions(String[] args) throws IOException {
+		Properties commandLine = new Properties();
+		for (int i = 0; i < args.length; i += 2) {
+			if (!args[i].startsWith("--") || i + 1 >= args.length) {
+				throw new IllegalArgumentException("Expected an option followed by its value, but got " + args[i]);
+			}
+			commandLine.setProperty(args[i].substring(2), args[i + 1]);
+		}
+
+		Properties options = new Properties();
+		String config = commandLine.getProperty("config");
+		if (config != null) {
+			try (InputStream input = Files.newInputStream(Paths.get(config))) {
+				options.load(input);
+			}
+		}
+		options.putAll(commandLine);
+		return options;
+	}
+
+}
@@ -0,0 +1,57 @@
+package main;
+
+import java.util.ResourceBundle;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * Wraps the language of the {@code ApplicationInstance} in JavaFX properties for the views.
+ * @author Christoph Hermann
+ * @see ApplicationInstance
+ */
+final class LanguageProperties {
+
+	/**
+	 * The property of the resource bundle.
+	 */
+	private final ObjectProperty<ResourceBundle> bundleProperty;
+
+	/**
+	 * Creates a new adapter of the language.
+	 * @param bundle the ResourceBundle of the current language.
+	 */
+	LanguageProperties(ResourceBundle bundle) {
+		bundleProperty = new SimpleObjectProperty<ResourceBundle>(bundle);
+	}
+
+	/**
+	 * Creates a StringBinding to bind the textProperty of a Label to the bundleProperty, that is the language.
+	 * @param key the key value of the bundle the property is bound to.
+	 * @return the String binding.
+	 */
+	StringBinding createStringBinding(String key) {
+		return Bindings.createStringBinding(() -> {
+			return bundleProperty.get().getString(key);
+		}, bundleProperty);
+	}
+
+	/**
+	 * Sets the ResourceBundle of a new language.
+	 * @param bundle the bundle.
+	 */
+	void setBundle(ResourceBundle bundle) {
+		bundleProperty.set(bundle);
+	}
+
+	/**
+	 * Getter for the Property of the ResourceBundle containing the languages.
+	 * @return the bundle property
+	 */
+	ObjectProperty<ResourceBundle> bundleProperty() {
+		return bundleProperty;
+	}
+
+}
@@ -3,10 +3,7 @@ package main;
 import javafx.application.Application;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
-import lobby.Lobby;
-import lobby.menu.MenuController;
-import network.client.ClientConnection;
-import network.client.ClientController;
+import network.protocol.Encoding;
 import users.AIUser;
 
 /**
@@ -16,7 +13,9 @@ import users.AIUser;
 public class Main extends Application {
 
 	/**
-	 * The main method of this application. All it does is launch this application. 
+	 * The main method of this application. Without arguments, it launches this application. Otherwise it connects an
+	 * {@code AIUser} to the server with the host name and port given as the first two arguments. The optional third
+	 * argument names the {@code Encoding} the AI requests, e.g. BINARY.
 	 * @param args the command line arguments.
 	 */
 	public static void main(String[] args) {
@@ -25,37 +24,11 @@ public class Main extends Application {
 		} else {
 			String hostname = args[0];
 			int port = Integer.parseInt(args[1]);
-			createAIUser(hostname, port);
+			Encoding encoding = args.length > 2 ? Encoding.valueOf(args[2].toUpperCase()) : Encoding.JSON;
+			AIUser.connect(hostname, port, encoding);
 		}
 	}
 
-	/**
-	 * Creates an {@code AIUser} which connects to the server with the specified hostname and port.
-	 * @param hostname the hostname of the server the {@link AIUser} connects to.
-	 * @param port the port of the server the {@link AIUser} connects to.
-	 */
-	private static void createAIUser(String hostname, int port) {
-		// Create new lobby for the AIUser.
-		Lobby aiLobby = new Lobby();
-
-		// Create new AIUser.
-		AIUser aiUser = new AIUser(aiLobby.getAllColors());
-
-		// Create new ClientConnection for the AIUser.
-		ClientConnection aiClient = new ClientConnection(hostname, port, aiUser, new MenuController());
-		aiUser.setClient(aiClient);
-
-		// Add user to Lobby.
-		aiLobby.addUser(aiUser);
-
-		// Create new ClientController for the AIUser.
-		ClientController aiClientController = new ClientController(aiClient, aiLobby);
-		aiClient.setClientController(aiClientController);
-
-		// Start the AIUsers connection to the server.
-		aiClient.start();
-	}
-
 	@Override
 	public void start(Stage primaryStage) throws Exception {
 		primaryStage.titleProperty().bind(ApplicationInstance.getInstance().createStringBinding("WINDOW_TITLE"));
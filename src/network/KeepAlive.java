@@ -0,0 +1,86 @@
+package network;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketOption;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import jdk.net.ExtendedSocketOptions;
+import network.client.ClientConnection;
+import network.server.BlockingServerConnection;
+
+/**
+ * Detects connections lost without notice, e.g. because the peer's machine went down or the network between both ends
+ * failed, by the TCP keep-alive of the operating system. After a while without any data, the operating system sends
+ * probes to the peer. If the peer does not answer any of them, a thread blocked reading from the socket fails with an
+ * {@code IOException}, which closes the connection like any other read error. No thread of this application is needed
+ * for it.
+ * <p>
+ * Without further settings the operating system waits for hours before it sends the first probe, e.g. two hours on
+ * Linux. Where supported, the sockets are configured to detect a lost peer within about a minute instead.
+ * </p>
+ * @author Christoph Hermann
+ * @see ClientConnection
+ * @see BlockingServerConnection
+ */
+public final class KeepAlive {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(KeepAlive.class.getName());
+
+	/**
+	 * The time in seconds without any data, before the first probe is sent.
+	 */
+	private static final int IDLE_TIME = 30;
+
+	/**
+	 * The time in seconds between two probes not answered.
+	 */
+	private static final int PROBE_INTERVAL = 10;
+
+	/**
+	 * The number of probes not answered, before the connection is considered lost.
+	 */
+	private static final int PROBE_COUNT = 3;
+
+	/**
+	 * Creates a new KeepAlive.
+	 */
+	private KeepAlive() {
+		// This constructor is private to prevent any instantiation of this class.
+	}
+
+	/**
+	 * Enables the keep-alive of a socket, so that a thread reading from it fails, once the peer has been lost.
+	 * @param socket the connected {@link Socket}.
+	 * @throws IOException if the keep-alive cannot be enabled.
+	 */
+	public static void enable(Socket socket) throws IOException {
+		socket.setKeepAlive(true);
+
+		setIfSupported(socket, ExtendedSocketOptions.TCP_KEEPIDLE, IDLE_TIME);
+		setIfSupported(socket, ExtendedSocketOptions.TCP_KEEPINTERVAL, PROBE_INTERVAL);
+		setIfSupported(socket, ExtendedSocketOptions.TCP_KEEPCOUNT, PROBE_COUNT);
+	}
+
+	/**
+	 * Sets an option of a socket, if the operating system supports it. Otherwise the default of the operating system
+	 * is kept.
+	 * @param socket the {@link Socket}.
+	 * @param option the {@link SocketOption}.
+	 * @param value the value of the option.
+	 * @throws IOException if the option cannot be set.
+	 */
+	private static void setIfSupported(Socket socket, SocketOption<Integer> option, int value) throws IOException {
+		if (socket.supportedOptions().contains(option)) {
+			socket.setOption(option, value);
+		} else {
+			logger.debug("The socket option " + option.name() + " is not supported, the default is kept.");
+		}
+	}
+
+}
@@ -1,22 +1,31 @@
 package network.client;
 
-import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ResourceBundle;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
+import org.json.JSONException;
 
 import lobby.menu.MenuController;
 import main.ApplicationInstance;
+import network.KeepAlive;
+import network.protocol.Encoding;
+import network.protocol.FrameDecoder;
+import network.protocol.ProtocolTrace;
+import network.protocol.messages.ClientMessage;
+import network.protocol.messages.ClientMessageCodec;
+import network.protocol.messages.Message;
 import network.server.Server;
 import users.HumanUser;
 import users.User;
@@ -33,26 +42,56 @@ public class ClientConnection extends Thread {
 	 */
 	private static final Logger logger = LogManager.getLogger(ClientConnection.class.getName());
 
+	/**
+	 * The size in bytes of the buffer used to read from the socket.
+	 */
+	private static final int READ_BUFFER_SIZE = 8192;
+
 	/**
 	 * A status flag which determines if the thread should continue running or stop running. The volatile keyword
 	 * guarantees, that the correct value will be read at all times - even if a different thread changes it.
 	 */
 	private volatile boolean running;
 
+	/**
+	 * Whether this client has connected to the server or not.
+	 */
+	private volatile boolean connected;
+
+	/**
+	 * Is counted down, as soon as this client has tried to connect to the server, whether successfully or not.
+	 */
+	private final CountDownLatch connectionAttempt = new CountDownLatch(1);
+
 	/**
 	 * The socket of this client.
 	 */
-	private Socket socket;
+	private volatile Socket socket;
+
+	/**
+	 * The stream used to send messages to the server.
+	 */
+	private BufferedOutputStream output;
+
+	/**
+	 * The stream used to read messages from the server.
+	 */
+	private InputStream input;
 
 	/**
-	 * The writer used to send messages to the server.
+	 * The decoder splitting the bytes received from the server into single messages.
 	 */
-	private OutputStreamWriter writer;
+	private final FrameDecoder frameDecoder = new FrameDecoder();
 
 	/**
-	 * The reader used to read messages from the server.
+	 * The encoding used to exchange messages with the server.
 	 */
-	private BufferedReader reader;
+	private volatile Encoding encoding = Encoding.JSON;
+
+	/**
+	 * The encoding this client requests, if the server offers it.
+	 */
+	private Encoding preferredEncoding = Encoding.JSON;
 
 	/**
 	 * The controller handling all messages received by this client.
@@ -74,6 +113,17 @@ public class ClientConnection extends Thread {
 	 */
 	private final User user;
 
+	/**
+	 * Whether the messages of this client are read on a virtual thread or not.
+	 */
+	private boolean usingVirtualThread;
+
+	/**
+	 * The id of the room this client wants to join. A value less than 1 lets the server choose a room.
+	 * @see network.server.Room
+	 */
+	private int roomId;
+
 	/**
 	 * The controller responsible for starting this client.
 	 */
@@ -90,7 +140,8 @@ public class ClientConnection extends Thread {
 	 * @param hostName the host name of the server.
 	 * @param port the port of the server.
 	 * @param user the {@link User} connected to this client.
-	 * @param menuController the controller responsible for starting this client.
+	 * @param menuController the controller responsible for starting this client or null, if the client runs without
+	 *            user interface.
 	 */
 	public ClientConnection(String hostName, int port, User user, MenuController menuController) {
 		this.hostName = hostName;
@@ -99,15 +150,43 @@ public class ClientConnection extends Thread {
 		this.menuController = menuController;
 	}
 
+	/**
+	 * Starts this client. If this client uses a virtual thread, the messages are read on a new virtual thread instead of
+	 * this thread.
+	 */
+	@Override
+	public synchronized void start() {
+		if (usingVirtualThread) {
+			Thread.ofVirtual().name(getName()).start(this);
+		} else {
+			super.start();
+		}
+	}
+
 	@Override
 	public void run() {
 		running= true;
 
-		connect(hostName, port);
+		try {
+			connect(hostName, port);
+		} finally {
+			connectionAttempt.countDown();
+		}
 		checkRegularlyIfConnectionLost();
 		listenForMessages();
 	}
 
+	/**
+	 * Waits until this client has tried to connect to the server.
+	 * @param timeout the maximum time to wait in milliseconds.
+	 * @return true, if this client has connected to the server. false, if it failed to connect or the time elapsed
+	 *         before.
+	 * @throws InterruptedException if the current thread is interrupted while waiting.
+	 */
+	public boolean awaitConnection(long timeout) throws InterruptedException {
+		return connectionAttempt.await(timeout, TimeUnit.MILLISECONDS) && connected;
+	}
+
 	/**
 	 * Connects to a server and opens input and output streams.
 	 * @param hostName the host name of the server.
@@ -117,11 +196,16 @@ public class ClientConnection extends Thread {
 		try {
 			// Create and configure socket.
 			socket = new Socket(hostName, port);
-			socket.setSoTimeout(1000);
+			if (usingVirtualThread) {
+				KeepAlive.enable(socket);
+			} else {
+				socket.setSoTimeout(1000);
+			}
 
 			// Open streams.
-			writer = new OutputStreamWriter(socket.getOutputStream(), "UTF-8");
-			reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+			output = new BufferedOutputStream(socket.getOutputStream());
+			input = socket.getInputStream();
+			connected = true;
 
 			// Log message.
 			logger.info("Successfully connected to server.");
@@ -141,11 +225,16 @@ public class ClientConnection extends Thread {
 	 * @see ClientConnection
 	 */
 	private void checkRegularlyIfConnectionLost() {
+		if (usingVirtualThread) {
+			// The reading thread blocks without timeout and fails, once the keep-alive of the socket detects a lost peer.
+			return;
+		}
+
 		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
 		Runnable checkReaderOpen = () -> {
 			try {
-				reader.ready();
+				input.available();
 			} catch (IOException exception) {
 				executor.shutdown();
 				stopRunning();
@@ -159,30 +248,34 @@ public class ClientConnection extends Thread {
 	 * Waits for incoming messages and gives them to the controller to handle.
 	 */
 	private void listenForMessages() {
+		ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
 		while (running) {
 			try {
-				JSONObject message = new JSONObject();
-
 				try {
-					// Read incoming message.
-					String line = reader.readLine();
-					message = new JSONObject(line);
+					// Read incoming bytes.
+					int nBytes = input.read(readBuffer.array());
+
+					if (nBytes < 0) {
+						throw new IOException("End of stream reached.");
+					}
+
+					// Handle every message received completely.
+					readBuffer.position(0).limit(nBytes);
+					byte[] frame;
+					while (running && (frame = frameDecoder.nextFrame(readBuffer)) != null) {
+						handleFrame(frame);
+					}
 				} catch (SocketTimeoutException exception) {
 					throw exception;
 				} catch (IOException | NullPointerException exception) {
 					// Log message.
-					logger.error("Connection to server lost.");
+					if (running) {
+						logger.error("Connection to server lost.");
+					}
 
 					stopRunning();
 				}
-
-				if (running) {
-					// Log the message.
-					logger.info("Received: " + message.toString());
-
-					// Handle the message.
-					clientController.handle(message);
-				}
 			} catch (SocketTimeoutException exception) {
 				// This exception is thrown regularly so that the while condition is checked regularly.
 			}
@@ -191,25 +284,52 @@ public class ClientConnection extends Thread {
 		closeConnection();
 	}
 
+	/**
+	 * Decodes a single message received from the server into a typed {@code ClientMessage} and gives it to the
+	 * controller to handle. Malformed messages are ignored.
+	 * @param frame the received message without line break or length prefix.
+	 */
+	private void handleFrame(byte[] frame) {
+		ClientMessage message;
+		try {
+			if (encoding == Encoding.JSON) {
+				message = ClientMessageCodec.decode(new String(frame, StandardCharsets.UTF_8));
+			} else {
+				message = ClientMessageCodec.decode(frame);
+			}
+		} catch (JSONException exception) {
+			logger.error("Invalid message from server ignored: " + exception.getMessage());
+			return;
+		}
+
+		// Trace the message.
+		ProtocolTrace.received("server", -1, message.getType().toString(), encoding, frame);
+
+		// Handle the message.
+		clientController.handle(message);
+	}
+
 	/**
 	 * Closes the connection between this client and the server.
 	 */
 	private void closeConnection() {
 		// Remove the reference to this client.
-		menuController.clientProperty().set(null);
+		if (menuController != null) {
+			menuController.clientProperty().set(null);
+		}
 
-		closeReader();
-		closeWriter();
+		closeInput();
+		closeOutput();
 		closeSocket();
 	}
 
 	/**
-	 * Closes the reader.
+	 * Closes the input stream.
 	 */
-	private void closeReader() {
+	private void closeInput() {
 		try {
-			if (reader != null) {
-				reader.close();
+			if (input != null) {
+				input.close();
 			}
 		} catch (IOException exception) {
 			logger.error("Client reader could not be closed properly.");
@@ -217,12 +337,12 @@ public class ClientConnection extends Thread {
 	}
 
 	/**
-	 * Closes the writer.
+	 * Closes the output stream.
 	 */
-	private void closeWriter() {
+	private void closeOutput() {
 		try {
-			if (writer != null) {
-				writer.close();
+			if (output != null) {
+				output.close();
 			}
 		} catch (IOException exception) {
 			logger.error("Client writer could not be closed properly.");
@@ -244,22 +364,18 @@ public class ClientConnection extends Thread {
 	}
 
 	/**
-	 * Sends the specified {@code JSONObject} to the {@code Server}.
-	 * @param type Type of the Message 
-	 * @param jsonObject Content of the Message
+	 * Sends the specified {@code Message} to the {@code Server}.
+	 * @param message the {@link Message} to send.
 	 * @see Server
 	 */
-	public synchronized void sendToServer(String type, JSONObject jsonObject) {
-		// Complete the message.
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
-
+	public synchronized void sendToServer(Message message) {
 		try {
 			// Send the message.
-			writer.write(completeMessage + "\n");
-			writer.flush();
+			byte[] encodedMessage = encoding.encode(message);
+			output.write(encodedMessage);
+			output.flush();
 
-			logger.info("Send: " + completeMessage);
+			ProtocolTrace.sent("server", -1, message.getType().toString(), encoding, encodedMessage);
 		} catch (NullPointerException | IOException exception) {
 			logger.error("Writer could not write the message.");
 
@@ -272,6 +388,54 @@ public class ClientConnection extends Thread {
 	 */
 	public void stopRunning() {
 		running = false;
+
+		// A virtual thread reads without timeout, so it must be woken up by closing the socket.
+		if (usingVirtualThread) {
+			try {
+				Socket openSocket = socket;
+				if (openSocket != null) {
+					openSocket.close();
+				}
+			} catch (IOException exception) {
+				logger.error("Client socket could not be closed properly.");
+			}
+		}
+	}
+
+	/**
+	 * Sets whether the messages of this client are read on a virtual thread or not. Must be set before this client is
+	 * started.
+	 * @param usingVirtualThread true, if a virtual thread should be used. false, otherwise.
+	 */
+	public void setUsingVirtualThread(boolean usingVirtualThread) {
+		this.usingVirtualThread = usingVirtualThread;
+	}
+
+	/**
+	 * Switches to the specified encoding. All following messages are sent and received using this encoding. Must only
+	 * be called while handling the HELLO message of the server, right after the answer requesting this encoding has
+	 * been sent.
+	 * @param encoding the {@link Encoding}.
+	 */
+	public synchronized void switchEncoding(Encoding encoding) {
+		this.encoding = encoding;
+		frameDecoder.setEncoding(encoding);
+	}
+
+	/**
+	 * Returns the encoding this client requests, if the server offers it.
+	 * @return the preferred {@link Encoding}.
+	 */
+	public Encoding getPreferredEncoding() {
+		return preferredEncoding;
+	}
+
+	/**
+	 * Sets the encoding this client requests, if the server offers it. Must be set before this client is started.
+	 * @param preferredEncoding the preferred {@link Encoding}.
+	 */
+	public void setPreferredEncoding(Encoding preferredEncoding) {
+		this.preferredEncoding = preferredEncoding;
 	}
 
 	/**
@@ -290,6 +454,24 @@ public class ClientConnection extends Thread {
 		this.clientController = clientController;
 	}
 
+	/**
+	 * Returns the id of the room this client wants to join.
+	 * @return the room id. A value less than 1 lets the server choose a room.
+	 * @see network.server.Room
+	 */
+	public int getRoomId() {
+		return roomId;
+	}
+
+	/**
+	 * Sets the id of the room this client wants to join. Must be set before this thread is started.
+	 * @param roomId the room id. A value less than 1 lets the server choose a room.
+	 * @see network.server.Room
+	 */
+	public void setRoomId(int roomId) {
+		this.roomId = roomId;
+	}
+
 	/**
 	 * Returns the {@code User} connected to this client.
 	 * @return the {@link User}.
@@ -4,13 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import game.Game;
 import game.TradingRatios;
 import game.ai.playertracker.PlayerTracker;
 import game.board.Board;
+import game.board.BoardConfiguration;
 import game.board.construction.Construction;
 import game.board.construction.localities.City;
 import game.board.construction.localities.Locality;
@@ -29,22 +27,49 @@ import game.cards.specialcards.SpecialCard;
 import game.cards.victorypointcards.VictoryPointCard;
 import game.dice.Dice;
 import game.player.Player;
+import game.player.PlayerColor;
 import game.player.PlayerState;
 import game.resources.ResourceType;
 import game.resources.Resources;
 import game.trade.Trade;
 import javafx.application.Platform;
-import javafx.beans.property.ObjectProperty;
-import javafx.scene.paint.Color;
 import lobby.Lobby;
 import lobby.chat.ChatController;
 import main.ApplicationController;
 import main.ApplicationInstance;
 import network.protocol.Attributes;
-import network.protocol.ClientTypes;
+import network.protocol.Encoding;
 import network.protocol.ProtocolJSONObjectConverter;
 import network.protocol.ProtocolStringConverter;
-import network.protocol.ServerTypes;
+import network.protocol.messages.BuildingMessage;
+import network.protocol.messages.ChatBroadcastMessage;
+import network.protocol.messages.ClientMessage;
+import network.protocol.messages.ConstructionInfo;
+import network.protocol.messages.DevelopmentCardBoughtMessage;
+import network.protocol.messages.DiceMessage;
+import network.protocol.messages.ErrorMessage;
+import network.protocol.messages.GameFinishedMessage;
+import network.protocol.messages.GameStartedMessage;
+import network.protocol.messages.GameStartedMessage.HarborInfo;
+import network.protocol.messages.GameStartedMessage.HexInfo;
+import network.protocol.messages.HelloMessage;
+import network.protocol.messages.KnightPlayedMessage;
+import network.protocol.messages.MonopolyPlayedMessage;
+import network.protocol.messages.PlayerMessage;
+import network.protocol.messages.ResourceCards;
+import network.protocol.messages.ResourcesMessage;
+import network.protocol.messages.RoadBuildingPlayedMessage;
+import network.protocol.messages.RobberMovedMessage;
+import network.protocol.messages.ServerHelloMessage;
+import network.protocol.messages.ServerReplyMessage;
+import network.protocol.messages.SpecialCardMessage;
+import network.protocol.messages.StateUpdateMessage;
+import network.protocol.messages.TradeAcceptedMessage;
+import network.protocol.messages.TradeCanceledMessage;
+import network.protocol.messages.TradeExecutedMessage;
+import network.protocol.messages.TradeOfferMessage;
+import network.protocol.messages.WelcomeMessage;
+import network.protocol.messages.YearOfPlentyPlayedMessage;
 import network.server.Server;
 import sounds.AudioPlayer;
 import sounds.BackgroundMusicPlayer;
@@ -62,9 +87,9 @@ import users.User;
 public class ClientController {
 
 	/**
-	 * The audio player.
+	 * The audio player or null, if the user of this controller is an AI.
 	 */
-	private AudioPlayer audioPlayer = new AudioPlayer();
+	private AudioPlayer audioPlayer;
 
 	/**
 	 * The {@link Lobby} used by this controller.
@@ -81,11 +106,6 @@ public class ClientController {
 	 */
 	private Game game;
 
-	/**
-	 * The bundle containing all error messages.
-	 */
-	private ObjectProperty<ResourceBundle> bundleProperty = ApplicationInstance.getInstance().getBundleProperty();
-
 	/**
 	 * The {@code ChatController} that is used to display messages.
 	 */
@@ -100,9 +120,9 @@ public class ClientController {
 	private ApplicationController applicationController;
 
 	/**
-	 * The player for the background music.
+	 * The player for the background music or null, if the user of this controller is an AI.
 	 */
-	private BackgroundMusicPlayer backgroundMusicPlayer = new BackgroundMusicPlayer();
+	private BackgroundMusicPlayer backgroundMusicPlayer;
 
 	/**
 	 * Creates a new ClientController.
@@ -125,10 +145,13 @@ public class ClientController {
 		this.chatController = chatController;
 		this.lobby = lobby;
 		this.applicationController = applicationController;
+		this.audioPlayer = new AudioPlayer();
+		this.backgroundMusicPlayer = new BackgroundMusicPlayer();
 	}
 
 	/**
-	 * Creates a new ClientController.
+	 * Creates a new ClientController for an AI. It plays no sounds, so it does
+	 * not need the JavaFX toolkit, e.g. on a dedicated server.
 	 * 
 	 * @param client
 	 *            the {@link ClientConnection} this controller uses to send messages
@@ -142,35 +165,24 @@ public class ClientController {
 	}
 
 	/**
-	 * Checks the Key of the JSONObject and specifies the according actions
+	 * Checks the type of the message and specifies the according actions
 	 * 
-	 * @param jsonObject
-	 *            received message as JSONObject
+	 * @param message
+	 *            received {@link ClientMessage}
 	 */
-	public synchronized void handle(JSONObject jsonObject) {
-		JSONObject obj;
-		ClientTypes messageType;
-
-		String type = jsonObject.firstKey();
-		if (type.equals(ClientTypes.SERVER_REPLY.toString())) {
-			messageType = ClientTypes.SERVER_REPLY;
-			obj = jsonObject;
-		} else {
-			messageType = determineMessageType(type);
-			obj = (JSONObject) jsonObject.get(type);
-		}
-
-		switch (messageType) {
+	public synchronized void handle(ClientMessage message) {
+		switch (message.getType()) {
 		case HELLO:
-			if (usesSupportedProtocol(obj)) {
-				sendClientProtocolVersionToServer();
+			ServerHelloMessage helloMessage = (ServerHelloMessage) message;
+			if (usesSupportedProtocol(helloMessage)) {
+				sendClientProtocolVersionToServer(helloMessage);
 			} else {
 				client.stopRunning();
 			}
 			break;
 
 		case WELCOME:
-			setUserID(obj);
+			setUserID((WelcomeMessage) message);
 
 			if (client.getUser() instanceof AIUser) {
 				((AIUser) client.getUser()).getAi().makeNextMove();
@@ -181,8 +193,8 @@ public class ClientController {
 			break;
 
 		case STATE_UPDATE:
-			JSONObject userOrPlayer = obj.getJSONObject(Attributes.PLAYER.toString());
-			PlayerState state = getState(userOrPlayer);
+			StateUpdateMessage userOrPlayer = (StateUpdateMessage) message;
+			PlayerState state = getState(userOrPlayer.getState());
 
 			if (gameHasStarted()) {
 				if (newRoundOfHumanUserStarted(userOrPlayer)) {
@@ -195,18 +207,6 @@ public class ClientController {
 					((AIUser) client.getUser()).getAi().setWasTrade(false);
 				}
 
-				//update victoryPoints of everyone when someone win
-				if (userOrPlayer.has(Attributes.VICTORY_POINTS.toString()) && userOrPlayer.has(Attributes.RESOURCE.toString())) {
-					int playerInfoId = userOrPlayer.getInt(Attributes.ID.toString());
-					JSONObject resources = obj.getJSONObject(Attributes.RESOURCES.toString());
-
-					if(!resources.has(Attributes.UNKNOWN.toString()) && state == game.searchPlayers(client.getUser().getId()).getState()) {				
-						int victoryPoints = userOrPlayer.getInt(Attributes.VICTORY_POINTS.toString());
-						//??shuold i use Plattform(()->)?
-						game.searchPlayers(playerInfoId).setVictoryPoints(victoryPoints);
-					}
-				}
-				
 				updatePlayer(userOrPlayer);
 
 				
@@ -233,7 +233,7 @@ public class ClientController {
 				if (state == PlayerState.CONNECTION_LOST) {
 					deleteUser(userOrPlayer);
 				} else {
-					int userId = userOrPlayer.getInt(Attributes.ID.toString());
+					int userId = userOrPlayer.getId();
 					User user = lobby.getUser(userId);
 
 					if (user == null) {
@@ -260,22 +260,19 @@ public class ClientController {
 			break;
 
 		case GAME_STARTED: {
-			// create new Players and a new Board.
-			createNewGame();
+			GameStartedMessage gameStartedMessage = (GameStartedMessage) message;
+			List<HexInfo> hexes = gameStartedMessage.getHexes();
 
-			JSONObject jBoard = (JSONObject) obj.get("Karte");
-			JSONArray jaHex = (JSONArray) jBoard.get(Attributes.HEXES.toString());
-			JSONArray jaCon = (JSONArray) jBoard.get(Attributes.CONSTRUCTIONS.toString());
-			JSONArray jaHar = (JSONArray) jBoard.get(Attributes.HARBORS.toString());
-			JSONObject jaRobber = (JSONObject) jBoard.get(Attributes.ROBBER.toString());
+			// create new Players and a new Board of the same size as the board of the server.
+			createNewGame(BoardConfiguration.withNumberOfCircles(BoardConfiguration.numberOfCircles(hexes.size())));
 
-			setHexes(jaHex);
+			setHexes(hexes);
 
-			setConstructions(jaCon);
+			setConstructions(gameStartedMessage.getConstructions());
 
-			setHarbors(jaHar);
-			Hex robberPos = ProtocolJSONObjectConverter.getRobberPosition(jaRobber, game.getBoard());
-			game.getBoard().getRobber().move(robberPos);
+			setHarbors(gameStartedMessage.getHarbors());
+			String robberPos = ProtocolJSONObjectConverter.getHexPosition(gameStartedMessage.getRobber(), game.getBoard());
+			game.getBoard().getRobber().move(game.getBoard().searchHex(robberPos));
 
 			if (client.getUser() instanceof AIUser) {
 				AIUser aiUser = (AIUser) client.getUser();
@@ -284,7 +281,7 @@ public class ClientController {
 				applicationController.setGame(game);
 				applicationController.setClient(client);
 
-				Platform.runLater(() -> {
+				runLater(() -> {
 					applicationController.loadGameView();
 				});
 			}
@@ -295,21 +292,21 @@ public class ClientController {
 		}
 		break;
 		case BUILDING: {
-			JSONObject jConstruction = (JSONObject) obj.get(Attributes.CONSTRUCTIONS.toString());
-			int playerID = (int) jConstruction.get(Attributes.OWNER.toString());
+			ConstructionInfo construction = ((BuildingMessage) message).getConstruction();
+			int playerID = construction.getOwner();
 
-			String constructionPos = ProtocolJSONObjectConverter.getPosition(jConstruction, game.getBoard());
+			String constructionPos = ProtocolJSONObjectConverter.getPosition(construction.getPosition(), game.getBoard());
 			Player player = game.searchPlayers(playerID);
 
 			if (client.getUser() instanceof HumanUser) {
 				audioPlayer.playConstructionSound();
 			}
 
-			String constructionType = jConstruction.getString(Attributes.TYPE.toString());
+			String constructionType = construction.getType();
 			switch (constructionType) {
 			case "Dorf": {
 				Settlement settlement = new Settlement(player, game.getBoard().searchCorner(constructionPos));
-				Platform.runLater(() -> {
+				runLater(() -> {
 					if(player.getLocalities().size()<2) {
 						if(player.getLocalities().size()==1) {
 							updateLastReceivedResources(settlement);
@@ -324,7 +321,6 @@ public class ClientController {
 						}
 					}
 					player.addLocality(settlement);
-					updateAvialableCornersForPlayers(settlement.getPosition());
 					game.getBoard().addConstruction(settlement);
 					player.updateVictoryPoints();
 
@@ -339,7 +335,7 @@ public class ClientController {
 			break;
 			case "Stadt": {
 				City city = new City(player, game.getBoard().searchCorner(constructionPos));
-				Platform.runLater(() -> {
+				runLater(() -> {
 					player.addCity(city);
 					game.getBoard().addCityinBoard(city);
 					player.updateVictoryPoints();
@@ -355,9 +351,8 @@ public class ClientController {
 			break;
 			case "Strasse": {
 				Road road = new Road(player, game.getBoard().searchEdge(constructionPos));
-				Platform.runLater(() -> {
+				runLater(() -> {
 					player.addRoad(road);
-					updateAvialableEdgesForPlayers(road.getPosition());
 					game.getBoard().addConstruction(road);
 					player.updateLongestRoadLengthProperty();
 					if (player.getRoads().size()>2) {
@@ -383,10 +378,10 @@ public class ClientController {
 		}
 		break;
 		case DICE: {
-			JSONArray dice = (JSONArray) obj.get(Attributes.DICE_VALUE.toString());
+			DiceMessage diceMessage = (DiceMessage) message;
 
-			int dieOne = (int) dice.get(0);
-			int dieTwo = (int) dice.get(1);
+			int dieOne = diceMessage.getDieOne();
+			int dieTwo = diceMessage.getDieTwo();
 
 			//update the PlayerTracker in ai
 			if (client.getUser() instanceof AIUser) {
@@ -403,9 +398,10 @@ public class ClientController {
 		break;
 		case CHATMESSAGE: {
 			if (client.getUser() instanceof HumanUser) {
-				if (obj.has(Attributes.SENDER.toString())) {
-					int sender = (int) obj.get(Attributes.SENDER.toString());
-					String msg = (String) obj.get(Attributes.MESSAGE.toString());
+				ChatBroadcastMessage chatMessage = (ChatBroadcastMessage) message;
+				if (chatMessage.hasSender()) {
+					int sender = chatMessage.getSender();
+					String msg = chatMessage.getText();
 					String playerName = lobby.getUser(sender).getName();
 
 					chatController.displayChatMessage(playerName, msg);
@@ -415,7 +411,7 @@ public class ClientController {
 		}
 		break;
 		case ERROR: {
-			String msg = (String) obj.get(Attributes.REPORT.toString());
+			String msg = ((ErrorMessage) message).getReport();
 
 			User user = client.getUser();
 			if (user instanceof AIUser) {
@@ -429,15 +425,16 @@ public class ClientController {
 		}
 		break;
 		case RESOURCE_QUANTITY: {
-			int playerID = (int) obj.get(Attributes.PLAYER.toString());
+			ResourcesMessage resourcesMessage = (ResourcesMessage) message;
+			int playerID = resourcesMessage.getPlayer();
 			Player player = game.searchPlayers(playerID);
 
-			JSONObject jResources = obj.getJSONObject(Attributes.RESOURCES.toString());
-			if (jResources.has(Attributes.UNKNOWN.toString())) {
+			ResourceCards resourceCards = resourcesMessage.getResources();
+			if (!resourceCards.isKnown()) {
 				// Case 1: Only resources amounts available.
-				Platform.runLater(() -> {
+				runLater(() -> {
 					int oldQuantity = player.getResourceQuantity();
-					int additionalQuantity = jResources.getInt(Attributes.UNKNOWN.toString());
+					int additionalQuantity = resourceCards.getTotal();
 					int newQuantity = oldQuantity + additionalQuantity;
 
 					player.setResourceQuantity(newQuantity);
@@ -450,8 +447,8 @@ public class ClientController {
 			} else if (playerID != client.getUser().getId()) {
 				// Case 2: Resources and amounts available, but not belong to the connected
 				// client.
-				Platform.runLater(() -> {
-					Resources resourcesToAdd = ProtocolJSONObjectConverter.getResources(jResources);
+				runLater(() -> {
+					Resources resourcesToAdd = resourceCards.getResources();
 					int oldQuantity = player.getResourceQuantity();
 					int additionalQuantity = resourcesToAdd.getSum();
 					int newQuantity = oldQuantity + additionalQuantity;
@@ -464,9 +461,9 @@ public class ClientController {
 				});
 			} else {
 				// Case 3: Resources types and amounts available, for the connected client.
-				Resources additionalResources = getResources(jResources);
+				Resources additionalResources = resourceCards.getResources();
 
-				Platform.runLater(() -> {
+				runLater(() -> {
 					player.getResources().add(additionalResources);
 					player.updateResourceQuantity();
 				});
@@ -474,16 +471,17 @@ public class ClientController {
 		}
 		break;
 		case PRICE: {
-			int playerID = (int) obj.get(Attributes.PLAYER.toString());
+			ResourcesMessage resourcesMessage = (ResourcesMessage) message;
+			int playerID = resourcesMessage.getPlayer();
 			Player player = game.searchPlayers(playerID);
 
-			JSONObject jResources = obj.getJSONObject(Attributes.RESOURCES.toString());
-			if (jResources.has(Attributes.UNKNOWN.toString())) {
-				// The jResources object only contains the total amount of resources but not the
+			ResourceCards resourceCards = resourcesMessage.getResources();
+			if (!resourceCards.isKnown()) {
+				// The resource cards only contain the total amount of resources but not the
 				// individual types.
-				Platform.runLater(() -> {
+				runLater(() -> {
 					int oldQuantity = player.getResourceQuantity();
-					int quantityToSubtract = jResources.getInt(Attributes.UNKNOWN.toString());
+					int quantityToSubtract = resourceCards.getTotal();
 					int newQuantity = oldQuantity - quantityToSubtract;
 
 					player.setResourceQuantity(newQuantity);
@@ -497,10 +495,10 @@ public class ClientController {
 					}
 				});
 			} else if (playerID != client.getUser().getId()) {
-				// The jResources object contains the types of resources and their amounts, but
+				// The resource cards contain the types of resources and their amounts, but
 				// not belong to the connected client.
-				Platform.runLater(() -> {
-					Resources resourcesToSubtract = ProtocolJSONObjectConverter.getResources(jResources);
+				runLater(() -> {
+					Resources resourcesToSubtract = resourceCards.getResources();
 					int oldQuantity = player.getResourceQuantity();
 					int quantityToSubtract = resourcesToSubtract.getSum();
 					int newQuantity = oldQuantity - quantityToSubtract;
@@ -512,11 +510,11 @@ public class ClientController {
 					}
 				});
 			} else {
-				// The jResources object contains the the individual types of resources and
+				// The resource cards contain the the individual types of resources and
 				// their amounts.
-				Resources additionalResources = getResources(jResources);
+				Resources additionalResources = resourceCards.getResources();
 
-				Platform.runLater(() -> {
+				runLater(() -> {
 					player.getResources().subtract(additionalResources);
 					player.updateResourceQuantity();
 				});
@@ -529,13 +527,14 @@ public class ClientController {
 			}
 
 			// set the robber Position
-			String position = ProtocolJSONObjectConverter.getHexPosition(obj, game.getBoard());
+			RobberMovedMessage robberMessage = (RobberMovedMessage) message;
+			String position = ProtocolJSONObjectConverter.getHexPosition(robberMessage.getPosition(), game.getBoard());
 			game.getBoard().getRobber().move(game.getBoard().searchHex(position));
-			if (obj.has(Attributes.PLAYER.toString()) && obj.has(Attributes.TARGET.toString())) {
-				int playerId = obj.getInt(Attributes.PLAYER.toString());
+			if (robberMessage.hasPlayer() && robberMessage.hasTarget()) {
+				int playerId = robberMessage.getPlayer();
 				Player player = getPlayer(playerId);
 
-				int targetId = obj.getInt(Attributes.TARGET.toString());
+				int targetId = robberMessage.getTarget();
 				Player target = getPlayer(targetId);
 
 				if (player == client.getUser().getPlayer() && target != null) {
@@ -561,14 +560,15 @@ public class ClientController {
 		}
 		break;
 		case DEVELOMENTCARD_BOUGHT: {
-			int playerID = (int) obj.get(Attributes.PLAYER.toString());
+			DevelopmentCardBoughtMessage cardMessage = (DevelopmentCardBoughtMessage) message;
+			int playerID = cardMessage.getPlayer();
 			// searches for the player
 			Player player = game.searchPlayers(playerID);
-			String stringCardType = obj.getString(Attributes.DEVELOMENTCARD.toString());
+			String stringCardType = cardMessage.getCard();
 			PlayableDevelopmentCardType developmentCardType;
 			if ((developmentCardType = determineDevelopmentCardType(stringCardType)) != null) {
 				PlayableDevelopmentCard developmentCard = new PlayableDevelopmentCard(developmentCardType);
-				Platform.runLater(() -> {
+				runLater(() -> {
 					if (client.getUser() instanceof AIUser) {
 						AIUser aiUser = (AIUser) client.getUser();
 						aiUser.getAi().setAttempt(0);
@@ -578,7 +578,7 @@ public class ClientController {
 				});
 			} else {
 				VictoryPointCard victoryPointCard = new VictoryPointCard();
-				Platform.runLater(() -> {
+				runLater(() -> {
 					if (client.getUser() instanceof AIUser) {
 						AIUser aiUser = (AIUser) client.getUser();
 						aiUser.getAi().makeNextMove();
@@ -587,7 +587,7 @@ public class ClientController {
 					player.updateVictoryPoints();
 				});
 			}
-			Platform.runLater(() -> {
+			runLater(() -> {
 				player.getLastLostResources().set(DevelopmentCard.getCost());
 				//update the PlayerTracker in ai
 				if (client.getUser() instanceof AIUser && client.getUser().getPlayer().getId() != playerID) {
@@ -599,16 +599,16 @@ public class ClientController {
 		break;
 		case LONGEST_ROAD: {
 			SpecialCard specialCard = game.getLongestRoadCard();
-			handleSpecialCard(obj, specialCard);
+			handleSpecialCard((SpecialCardMessage) message, specialCard);
 		}
 		break;
 		case LARGEST_ARMY: {
 			SpecialCard specialCard = game.getLargestArmyCard();
-			handleSpecialCard(obj, specialCard);
+			handleSpecialCard((SpecialCardMessage) message, specialCard);
 		}
 		break;
 		case SERVER_REPLY: {
-			String reply = (String) obj.get(ClientTypes.SERVER_REPLY.toString());
+			String reply = ((ServerReplyMessage) message).getReply();
 
 			if (client.getUser() instanceof AIUser) {
 				if ((!reply.equalsIgnoreCase("OK"))) {
@@ -644,15 +644,16 @@ public class ClientController {
 		}
 		break;
 		case PLAY_MONOPOLY: {
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			MonopolyPlayedMessage monopolyMessage = (MonopolyPlayedMessage) message;
+			int playerId = monopolyMessage.getPlayer();
 			Player player = getPlayer(playerId);
 
-			ResourceType resourceType = getResourceType(obj.getString(Attributes.RESOURCE.toString()));
+			ResourceType resourceType = getResourceType(monopolyMessage.getResourceType());
 
 			if (player == client.getUser().getPlayer()) {
 				removeDevelopmentCard(PlayableDevelopmentCardType.MONOPOLY);
 			} else {
-				Platform.runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
+				runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
 			}
 			if (client.getUser() instanceof AIUser) {
 				for(Player p : game.getPlayers()){
@@ -668,9 +669,14 @@ public class ClientController {
 		}
 		break;
 		case PLAY_KNIGHT: {
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			KnightPlayedMessage knightMessage = (KnightPlayedMessage) message;
+			// Only knights robbing a player are handled.
+			if (!knightMessage.hasTarget()) {
+				break;
+			}
+			int playerId = knightMessage.getPlayer();
 			Player player = getPlayer(playerId);
-			int targetId = obj.getInt(Attributes.TARGET.toString());
+			int targetId = knightMessage.getTarget();
 			Player target = getPlayer(targetId);
 
 			if (player == client.getUser().getPlayer()) {
@@ -690,30 +696,31 @@ public class ClientController {
 					aiUser.getAi().getPlayerTracker(targetId).decreaseResources(1);
 					aiUser.getAi().getPlayerTracker(playerId).increaseResources(1);
 				} 
-				Platform.runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
+				runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
 			}
 		}
 		break;
 		case PLAY_ROAD_BUILDING: {
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			RoadBuildingPlayedMessage roadBuildingMessage = (RoadBuildingPlayedMessage) message;
+			int playerId = roadBuildingMessage.getPlayer();
 			Player player = getPlayer(playerId);
 
-			String stringPosition_1 = ProtocolJSONObjectConverter.getStreetOnePosition(obj, game.getBoard());
+			String stringPosition_1 = ProtocolJSONObjectConverter.getPosition(roadBuildingMessage.getFirstRoad(), game.getBoard());
 			player.getCardRoadPositions().add(game.getBoard().searchEdge(stringPosition_1));
-			if(obj.has(Attributes.STREAT_TWO.toString())) {
-				String stringPosition_2 = ProtocolJSONObjectConverter.getStreetTwoPosition(obj, game.getBoard());
+			if(roadBuildingMessage.hasSecondRoad()) {
+				String stringPosition_2 = ProtocolJSONObjectConverter.getPosition(roadBuildingMessage.getSecondRoad(), game.getBoard());
 				player.getCardRoadPositions().add(game.getBoard().searchEdge(stringPosition_2));
 			}
 
 			if (player == client.getUser().getPlayer()) {
 				removeDevelopmentCard(PlayableDevelopmentCardType.ROAD_BUILDING);
 			} else {
-				Platform.runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
+				runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
 			}
 		}
 		break;
 		case PLAY_YEAR_OF_PLENTY: {
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			int playerId = ((YearOfPlentyPlayedMessage) message).getPlayer();
 			Player player = getPlayer(playerId);
 
 			if (player == client.getUser().getPlayer()) {
@@ -723,7 +730,7 @@ public class ClientController {
 					AIUser aiUser = (AIUser) client.getUser();
 					aiUser.getAi().getPlayerTracker(playerId).increaseResources(2);
 				} 
-				Platform.runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
+				runLater(() -> player.getDevelopmentCards().remove(player.getDevelopmentCards().size() - 1));
 			}
 		}
 		break;
@@ -732,13 +739,14 @@ public class ClientController {
 			//if player == ai then ai.acceptTade()
 			Trade trade = new Trade();
 
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			TradeOfferMessage offerMessage = (TradeOfferMessage) message;
+			int playerId = offerMessage.getPlayer();
 			Player player = getPlayer(playerId);
 			trade.setPlayer(player);
-			int tradeID = obj.getInt(Attributes.TRADING_ID.toString());
+			int tradeID = offerMessage.getTradeId();
 			trade.setTradeID(tradeID);
-			Resources supply = getResources(obj.getJSONObject(Attributes.SUPPLY.toString()));
-			Resources demand = getResources(obj.getJSONObject(Attributes.DEMAND.toString()));
+			Resources supply = offerMessage.getSupply();
+			Resources demand = offerMessage.getDemand();
 			trade.setTradeOffer(supply);
 			trade.setTradeRequest(demand);
 
@@ -750,21 +758,21 @@ public class ClientController {
 					((AIUser) client.getUser()).getAi().acceptTrade(trade);
 				}
 			} else {
-				Platform.runLater(() -> game.setTrade(trade));
+				runLater(() -> game.setTrade(trade));
 			}
 		}
 		break;
 		case GAME_FINISHED: {
 			// Set Winner
-			int winnerId = obj.getInt(Attributes.WINNER.toString());
-			Platform.runLater(() -> game.setWinner(getPlayer(winnerId)));
+			int winnerId = ((GameFinishedMessage) message).getWinner();
+			runLater(() -> game.setWinner(getPlayer(winnerId)));
 			game.setGameOver(true);
 
-			// Stop music.
-			backgroundMusicPlayer.stopBackgroundMusic();
-
 			// Play sound
 			if (client.getUser() instanceof HumanUser) {
+				// Stop music.
+				backgroundMusicPlayer.stopBackgroundMusic();
+
 				if (getPlayer(winnerId) == client.getUser().getPlayer()) {
 					audioPlayer.playVictorySound();
 				} else {
@@ -777,10 +785,11 @@ public class ClientController {
 		}
 		break;
 		case TRADE_ACCEPTED:{
-			int fellowPlayerId = obj.getInt(Attributes.FELLOW_PLAYER.toString());
+			TradeAcceptedMessage acceptedMessage = (TradeAcceptedMessage) message;
+			int fellowPlayerId = acceptedMessage.getFellowPlayer();
 			Player fellowPlayer = game.searchPlayers(fellowPlayerId);
 
-			boolean hasAccepted = obj.getBoolean(Attributes.ACCEPT.toString());
+			boolean hasAccepted = acceptedMessage.isAccepted();
 
 			if(client.getUser().getId()==game.getActivePlayer().getId()) {
 				// Case 1: This player started the trade.
@@ -789,7 +798,7 @@ public class ClientController {
 						((AIUser) client.getUser()).getAi().addTradeActor(fellowPlayer);
 						((AIUser) client.getUser()).getAi().executeTrade(fellowPlayer, game.getTrade(),game.getPlayersNumberInGame());
 					} else {
-						Platform.runLater(() -> {
+						runLater(() -> {
 							if (game.getTrade() != null) {
 								game.getTrade().addAcceptingPlayer(fellowPlayer);
 							}
@@ -803,7 +812,7 @@ public class ClientController {
 							((AIUser) client.getUser()).getAi().cancelTrade(game.getTrade());
 						}
 					} else {
-						Platform.runLater(() -> {
+						runLater(() -> {
 							if (game.getTrade() != null) {
 								game.getTrade().addDecliningPlayer(fellowPlayer);
 
@@ -818,14 +827,14 @@ public class ClientController {
 			} else if(client.getUser().getId()==fellowPlayerId) {
 				if (hasAccepted) {
 					// Case 2: This player accepted the trade.
-					Platform.runLater(() -> {
+					runLater(() -> {
 						if (game.getTrade() != null) {
 							game.getTrade().addAcceptingPlayer(fellowPlayer);
 						}
 					});
 				} else {
 					// Case 3: This player declined the trade.
-					Platform.runLater(() -> {
+					runLater(() -> {
 						if (game.getTrade() != null) {
 							game.getTrade().addDecliningPlayer(fellowPlayer);
 						}
@@ -835,7 +844,7 @@ public class ClientController {
 		}
 		break;
 		case TRADE_CANCELED:{
-			int playerId = obj.getInt(Attributes.PLAYER.toString());
+			int playerId = ((TradeCanceledMessage) message).getPlayer();
 
 			if (client.getUser().getId() == playerId) {
 				if (game.getActivePlayer().getId()==playerId) {
@@ -846,20 +855,20 @@ public class ClientController {
 						((AIUser) client.getUser()).getAi().setWasTrade(true);
 						((AIUser) client.getUser()).getAi().makeNextMove();
 					} else {
-						Platform.runLater(() -> game.setTrade(null));
+						runLater(() -> game.setTrade(null));
 					}
 				} else {
-					Platform.runLater(() -> game.getTrade().getAcceptedList().remove(game.searchPlayers(playerId)));
+					runLater(() -> game.getTrade().removeAcceptingPlayer(game.searchPlayers(playerId)));
 					//*** current AI can not withdraw accept trade(ai decision is not affected by decision from others), 
 					//*** if he can, following code should be used
 					/*
 					if (client.getUser() instanceof AIUser) {
 						Player udonPlayer = game.searchPlayers(playerId);
 						((AIUser) client.getUser()).getAi().minusTradeActor(udonPlayer);
-						game.getTrade().getAcceptedList().remove(game.searchPlayers(playerId));
+						game.getTrade().removeAcceptingPlayer(game.searchPlayers(playerId));
 						((AIUser) client.getUser()).getAi().makeNextMove();
 					} else {
-						Platform.runLater(() -> game.getTrade().getAcceptedList().remove(game.searchPlayers(playerId)));
+						runLater(() -> game.getTrade().removeAcceptingPlayer(game.searchPlayers(playerId)));
 					}*/
 				}
 			} else {
@@ -868,22 +877,22 @@ public class ClientController {
 						Player udonPlayer = game.searchPlayers(playerId);
 						((AIUser) client.getUser()).getAi().minusTradeActor(udonPlayer);
 					} else {
-						Platform.runLater(() -> game.getTrade().getAcceptedList().remove(game.searchPlayers(playerId)));
+						runLater(() -> game.getTrade().removeAcceptingPlayer(game.searchPlayers(playerId)));
 					}
 				} else if (game.getActivePlayer().getId() == playerId) {
 					if (client.getUser() instanceof AIUser) {
 						game.setTrade(null);
 					} else {
-						Platform.runLater(() -> game.setTrade(null));
+						runLater(() -> game.setTrade(null));
 					}
 				}
 			}
 		}
 		break;
 		case TRADE_EXECUTED:{
-			int fellowPlayerId = obj.getInt(Attributes.FELLOW_PLAYER.toString());
+			int fellowPlayerId = ((TradeExecutedMessage) message).getFellowPlayer();
 			Player fellowPlayer = game.searchPlayers(fellowPlayerId);
-			Platform.runLater(() -> {
+			runLater(() -> {
 				if (client.getUser().getId() == game.getActivePlayer().getId()||client.getUser().getId() == fellowPlayerId) {
 					if (client.getUser() instanceof HumanUser) {
 						audioPlayer.playTradeSound();
@@ -914,34 +923,14 @@ public class ClientController {
 		}
 	}
 
-	/**
-	 * updates the avialableEdges for all players
-	 * @param edge the specific available edge
-	 */
-	private void updateAvialableEdgesForPlayers(Edge edge) {
-		for(Player p : game.getPlayers()){
-			p.updateAvialableEdges(edge);
-		}
-	}
-
-	/**
-	 * updates the avialableCorners for all players
-	 * @param corner the available corner
-	 */
-	private void updateAvialableCornersForPlayers(Corner corner) {
-		for(Player p : game.getPlayers()){
-			p.updateAvialableCorners(corner);
-		}
-	}
-
 	/**Checks if a new round of human user started
-	 * @param jsonPlayer or player as jsonObject
+	 * @param update the state update of the player
 	 * @return true or false
 	 */
-	private boolean newRoundOfHumanUserStarted(JSONObject jsonPlayer) {
-		Player player = getPlayer(jsonPlayer.getInt(Attributes.ID.toString()));
+	private boolean newRoundOfHumanUserStarted(StateUpdateMessage update) {
+		Player player = getPlayer(update.getId());
 		PlayerState oldState = player.getState();
-		PlayerState newState = getState(jsonPlayer);
+		PlayerState newState = getState(update.getState());
 
 		return (oldState == PlayerState.WAIT
 				&& newState == PlayerState.ROLL_DICE
@@ -950,38 +939,38 @@ public class ClientController {
 	}
 
 	/**
-	 * Deletes the {@code User} specified by the {@code JSONObject} from the
+	 * Deletes the {@code User} specified by the {@code StateUpdateMessage} from the
 	 * {@code Lobby}.
 	 * 
 	 * @param userOrPlayer
-	 *            the {@link JSONObject} containing the {@link User}.
+	 *            the {@link StateUpdateMessage} containing the {@link User}.
 	 * @see Lobby
 	 */
-	private void deleteUser(JSONObject userOrPlayer) {
-		int userId = userOrPlayer.getInt(Attributes.ID.toString());
+	private void deleteUser(StateUpdateMessage userOrPlayer) {
+		int userId = userOrPlayer.getId();
 		User disconnectedUser = lobby.getUser(userId);
-		Platform.runLater(() -> lobby.getUsers().remove(disconnectedUser));
+		runLater(() -> lobby.getUsers().remove(disconnectedUser));
 	}
 
 	/**
 	 * Changes the ownership of the {@code SpecialCard} and updates the victory
 	 * points of the affected {@code Players}.
 	 * 
-	 * @param obj
-	 *            the {@link JSONObject} containing information about the new owner
+	 * @param message
+	 *            the {@link SpecialCardMessage} containing information about the new owner
 	 *            of the {@link SpecialCard}.
 	 * @param specialCard
 	 *            the {@link SpecialCard}.
 	 * @see Player
 	 */
-	private void handleSpecialCard(JSONObject obj, SpecialCard specialCard) {
-		if (obj.has(Attributes.PLAYER.toString())) {
+	private void handleSpecialCard(SpecialCardMessage message, SpecialCard specialCard) {
+		if (message.hasPlayer()) {
 			// Get variables.
-			int playerID = (int) obj.get(Attributes.PLAYER.toString());
+			int playerID = message.getPlayer();
 			Player newOwner = game.searchPlayers(playerID);
 			Player previousOwner = specialCard.getOwner();
 
-			Platform.runLater(() -> {
+			runLater(() -> {
 				// Change ownership of the card.
 				specialCard.giveTo(newOwner);
 
@@ -1001,7 +990,7 @@ public class ClientController {
 			Player previousOwner = specialCard.getOwner();
 
 			// Change ownership of the card.
-			Platform.runLater(() -> {
+			runLater(() -> {
 				specialCard.resetOwnership();
 
 				// Update victory points.
@@ -1018,21 +1007,16 @@ public class ClientController {
 	 * @see User
 	 */
 	private void sendUserUpdateToServer() {
-		JSONObject message = new JSONObject();
-		message.put(Attributes.NAME.toString(), client.getUser().getName());
-
 		String color = ProtocolStringConverter.getName(client.getUser().getColor());
 		if (color == null) {
 			// The protocol does not allow the user name to be send on its own. In order to
 			// send the user name, it is
 			// required to send a color, too. If no color has been selected, the color red
 			// will be sent.
-			message.put(Attributes.COLOR.toString(), ProtocolStringConverter.getName(Color.RED));
-		} else {
-			message.put(Attributes.COLOR.toString(), color);
+			color = ProtocolStringConverter.getName(PlayerColor.RED);
 		}
 
-		client.sendToServer(Attributes.PLAYER.toString(), message);
+		client.sendToServer(new PlayerMessage(client.getUser().getName(), color));
 	}
 
 	/**
@@ -1049,27 +1033,6 @@ public class ClientController {
 		lobby.addUser(user);
 	}
 
-	/**
-	 * Uses a string representation of a {@code ClientType} to determine the actual
-	 * type of a message.
-	 * 
-	 * @param typeString
-	 *            the string representation of the {@link ClientTypes ClientType}.
-	 * @return the actual ClientType of the message.
-	 */
-	private ClientTypes determineMessageType(String typeString) {
-		ClientTypes messageType = null;
-
-		for (ClientTypes info : ClientTypes.values()) {
-			if (typeString.equals(info.toString())) {
-				messageType = info;
-				break;
-			}
-		}
-
-		return messageType;
-	}
-
 	/**
 	 * Uses a string representation of a {@code DevelopmentCardType} to determine
 	 * the actual type of the {@code DevelopmentCard}.
@@ -1093,63 +1056,58 @@ public class ClientController {
 
 	/**
 	 * Updates the characteristics of a {@code Player} with the information inside a
-	 * {@code JSONObject}.
+	 * {@code StateUpdateMessage}.
 	 * 
-	 * @param object
-	 *            the {@link JSONObject}
+	 * @param update
+	 *            the {@link StateUpdateMessage}
 	 * @see Player
 	 */
-	private void updatePlayer(JSONObject object) {
-		Platform.runLater(() -> {
+	private void updatePlayer(StateUpdateMessage update) {
+		runLater(() -> {
 			// Find the player to update.
-			int playerId = object.getInt(Attributes.ID.toString());
+			int playerId = update.getId();
 			Player player = getPlayer(playerId);
 
 			// Update name.
-			if (object.has(Attributes.NAME.toString())) {
-				String playerName = object.getString(Attributes.NAME.toString());
-				player.setName(playerName);
+			if (update.getName() != null) {
+				player.setName(update.getName());
 			}
 
 			// Update color.
-			if (object.has(Attributes.COLOR.toString())) {
-				String colorName = object.getString(Attributes.COLOR.toString());
-				Color color = ProtocolStringConverter.getColor(colorName);
+			if (update.getColor() != null) {
+				PlayerColor color = ProtocolStringConverter.getColor(update.getColor());
 				player.setColor(color);
 			}
 
 			// Update victory points.
-			if (object.has(Attributes.VICTORY_POINTS.toString())) {
-				int victoryPoints = object.optInt(Attributes.VICTORY_POINTS.toString());
-				player.setVictoryPoints(victoryPoints);
+			if (update.getVictoryPoints() != null) {
+				player.setVictoryPoints(update.getVictoryPoints());
 			}
 
 			// Update resources.
-			JSONObject jResources = object.getJSONObject(Attributes.RESOURCES.toString());
-
-			if (jResources.has(Attributes.UNKNOWN.toString())) {
-				// The jResources object only contains the total amount of resources but not the
-				// individual types.
-				int resourceQuantity = jResources.getInt(Attributes.UNKNOWN.toString());
-				player.setResourceQuantity(resourceQuantity);
-			} else {
-				// The jResources object contains the the individual types of resources and
-				// their amounts.
-				Resources resources = ProtocolStringConverter.getResources(jResources);
+			ResourceCards resourceCards = update.getResources();
 
-				player.getResources().set(resources);
-				player.updateResourceQuantity();
+			if (resourceCards != null) {
+				if (!resourceCards.isKnown()) {
+					// The resource cards only contain the total amount of resources but not the
+					// individual types.
+					player.setResourceQuantity(resourceCards.getTotal());
+				} else {
+					// The resource cards contain the the individual types of resources and
+					// their amounts.
+					player.getResources().set(resourceCards.getResources());
+					player.updateResourceQuantity();
+				}
 			}
 
 			// Update played knight cards.
-			if (object.has(Attributes.ARMY.toString())) {
-				int playedKnightCards = object.optInt(Attributes.ARMY.toString());
-				player.setPlayedKnightCards(playedKnightCards);
+			if (update.getArmy() != null) {
+				player.setPlayedKnightCards(update.getArmy());
 			}
 
 			// Update state
-			if (object.has(Attributes.STATE.toString())) {
-				PlayerState state = getState(object);
+			if (update.getState() != null) {
+				PlayerState state = getState(update.getState());
 				if (state != player.getState()) {
 					player.setState(state);
 				}
@@ -1180,42 +1138,38 @@ public class ClientController {
 
 	/**
 	 * Updates the characteristics of a {@code User} with the information inside a
-	 * {@code JSONObject}.
+	 * {@code StateUpdateMessage}.
 	 * 
-	 * @param object
-	 *            the {@link JSONObject}
+	 * @param update
+	 *            the {@link StateUpdateMessage}
 	 * @see User
 	 */
-	private void updateUser(JSONObject object) {
-		int userId = object.getInt(Attributes.ID.toString());
-		User user = lobby.getUser(userId);
-		PlayerState state = getState(object);
+	private void updateUser(StateUpdateMessage update) {
+		User user = lobby.getUser(update.getId());
+		PlayerState state = getState(update.getState());
 		user.setState(state);
 
-		if (!object.isNull(Attributes.NAME.toString())) {
-			String name = object.getString(Attributes.NAME.toString());
-			Platform.runLater(() -> user.setName(name));
+		if (update.getName() != null) {
+			String name = update.getName();
+			runLater(() -> user.setName(name));
 		}
 
-		if (object.has(Attributes.COLOR.toString())) {
-			String colorName = object.getString(Attributes.COLOR.toString());
-			Color color = ProtocolStringConverter.getColor(colorName);
-			Platform.runLater(() -> {
+		if (update.getColor() != null) {
+			PlayerColor color = ProtocolStringConverter.getColor(update.getColor());
+			runLater(() -> {
 				user.setColor(color);
 			});
 		}
 	}
 
 	/**
-	 * Returns the {@code PlayerState} specified inside a {@code JSONObject}.
+	 * Returns the {@code PlayerState} specified by its name in the protocol.
 	 * 
-	 * @param object
-	 *            the {@link JSONObject}
+	 * @param stateString
+	 *            the name of the state or null
 	 * @return the {@link PlayerState}
 	 */
-	private PlayerState getState(JSONObject object) {
-		String stateString = object.optString(Attributes.STATE.toString());
-
+	private PlayerState getState(String stateString) {
 		for (PlayerState state : PlayerState.values()) {
 			if (state.toString().equals(stateString)) {
 				return state;
@@ -1236,31 +1190,44 @@ public class ClientController {
 
 	/**
 	 * Sets the id of the {@code User} associated with this instance of the
-	 * application to the id specified inside a {@code JSONObject}.
+	 * application to the id specified inside a {@code WelcomeMessage}.
 	 * 
-	 * @param obj
-	 *            the {@link JSONObject}.
+	 * @param message
+	 *            the {@link WelcomeMessage}.
 	 */
-	private void setUserID(JSONObject obj) {
-		int userId = obj.getInt(Attributes.ID.toString());
+	private void setUserID(WelcomeMessage message) {
+		int userId = message.getId();
 		client.getUser().setId(userId);
 	}
 
 	/**
-	 * Sends the protocol version of this client to the {@code Server}.
+	 * Sends the protocol version of this client to the {@code Server}. If the
+	 * server offers the preferred encoding of this client, the encoding is
+	 * requested and used for all following messages.
 	 * 
+	 * @param hello
+	 *            the HELLO message of the server.
 	 * @see Server
+	 * @see Encoding
 	 */
-	private void sendClientProtocolVersionToServer() {
-		JSONObject message = new JSONObject();
-
+	private void sendClientProtocolVersionToServer(ServerHelloMessage hello) {
+		String version;
 		if (client.getUser() instanceof HumanUser) {
-			message.put(Attributes.VERSION.toString(), Attributes.VERSION_VALUE.toString());
+			version = Attributes.VERSION_VALUE.toString();
 		} else {
-			message.put(Attributes.VERSION.toString(), Attributes.VERSION_VALUE_KI.toString());
+			version = Attributes.VERSION_VALUE_KI.toString();
 		}
 
-		client.sendToServer(ServerTypes.HELLO.toString(), message);
+		// Request the preferred encoding, if the server offers it. A room id of 0 requests no specific room.
+		Encoding encoding = client.getPreferredEncoding();
+		boolean switchEncoding = encoding != Encoding.JSON && hello.offersEncoding(encoding.toString());
+
+		client.sendToServer(new HelloMessage(version, client.getRoomId(),
+				switchEncoding ? encoding.toString() : null));
+
+		if (switchEncoding) {
+			client.switchEncoding(encoding);
+		}
 	}
 
 	/**
@@ -1275,7 +1242,7 @@ public class ClientController {
 		for (DevelopmentCard card : player.getDevelopmentCards()) {
 			if (card instanceof PlayableDevelopmentCard) {
 				if (((PlayableDevelopmentCard) card).getType() == type) {
-					Platform.runLater(() -> {
+					runLater(() -> {
 						player.getDevelopmentCards().remove(card);
 						player.setHasPlayedDevelopmentCardThisTurn();
 						if (client.getUser() instanceof AIUser) {
@@ -1306,7 +1273,7 @@ public class ClientController {
 					}
 				}
 			}
-			Platform.runLater(() -> player.getLastReceivedResources().set(resources));
+			runLater(() -> player.getLastReceivedResources().set(resources));
 		}
 	}
 
@@ -1333,47 +1300,6 @@ public class ClientController {
 		}
 	}
 
-	/**
-	 * Gets the Values of the Resources which the server send and returns the
-	 * corresponding {@code Resource} object.
-	 * 
-	 * @param jRessources
-	 *            JSONObject containing the resources.
-	 * @return the {@link Resources}.
-	 */
-	private Resources getResources(JSONObject jRessources) {
-
-		Resources resources = new Resources();
-
-		int lumber = 0;
-		int wool = 0;
-		int brick = 0;
-		int grain = 0;
-		int ore = 0;
-
-		if (jRessources.has("Holz")) {
-			lumber = (int) jRessources.get("Holz");
-		}
-		if (jRessources.has("Wolle")) {
-			wool = (int) jRessources.get("Wolle");
-		}
-		if (jRessources.has("Lehm")) {
-			brick = (int) jRessources.get("Lehm");
-		}
-		if (jRessources.has("Getreide")) {
-			grain = (int) jRessources.get("Getreide");
-		}
-		if (jRessources.has("Erz")) {
-			ore = (int) jRessources.get("Erz");
-		}
-		resources.getResources().put(ResourceType.LUMBER, lumber);
-		resources.getResources().put(ResourceType.WOOL, wool);
-		resources.getResources().put(ResourceType.BRICK, brick);
-		resources.getResources().put(ResourceType.GRAIN, grain);
-		resources.getResources().put(ResourceType.ORE, ore);
-		return resources;
-	}
-
 	/**
 	 * Gets the corresponding HexType of the String
 	 * 
@@ -1467,10 +1393,12 @@ public class ClientController {
 
 	/**
 	 * creates a new Game with new players, for each Users
+	 * 
+	 * @param boardConfiguration the {@link BoardConfiguration} of the board
 	 */
-	private void createNewGame() {
+	private void createNewGame(BoardConfiguration boardConfiguration) {
 		String name;
-		Color color;
+		PlayerColor color;
 		int id;
 		PlayerState state;
 		List<Player> players = new ArrayList<>();
@@ -1489,26 +1417,19 @@ public class ClientController {
 			}
 		}
 
-		game = new Game(players);
+		game = new Game(players, boardConfiguration);
 	}
 
 	/**
-	 * Gets a JSONArray of hexes and changes the Type and Token accordingly
+	 * Gets a list of hexes and changes the Type and Token accordingly
 	 * 
-	 * @param jaHex JSONArray of hexesjaHex
+	 * @param hexes list of hexes
 	 */
-	private void setHexes(JSONArray jaHex) {
-		for (Object object : jaHex) {
-			JSONObject joHex = (JSONObject) object;
-			//			String hexPos = (String) joHex.get(Attributes.POSITION.toString());
-			String hexPos = ProtocolJSONObjectConverter.getHexPosition(joHex, game.getBoard());
-			HexType hexType = getHexType(joHex.getString(Attributes.TYPE.toString()));
-			int hexToken;
-			try {
-				hexToken = (int) joHex.get(Attributes.NUMBER.toString());
-			} catch (Exception e) {
-				hexToken = 0;
-			}
+	private void setHexes(List<HexInfo> hexes) {
+		for (HexInfo hexInfo : hexes) {
+			String hexPos = ProtocolJSONObjectConverter.getHexPosition(hexInfo.getPosition(), game.getBoard());
+			HexType hexType = getHexType(hexInfo.getType());
+			int hexToken = hexInfo.getNumber();
 
 			Hex hex = game.getBoard().searchHex(hexPos);
 			hex.setToken(new Token(hexToken, hex));
@@ -1518,36 +1439,34 @@ public class ClientController {
 	}
 
 	/**
-	 * Gets the JSONArray of constructions and adds the construction to the Player
+	 * Gets the list of constructions and adds the construction to the Player
 	 * and the Board
 	 * 
-	 * @param jaCon JSONArray of constructions jaCon
+	 * @param constructionInfos list of constructions
 	 */
-	private void setConstructions(JSONArray jaCon) {
+	private void setConstructions(List<ConstructionInfo> constructionInfos) {
 		ArrayList<Construction> constructions = new ArrayList<Construction>();
-		for (Object object : jaCon) {
-			JSONObject joCon = (JSONObject) object;
-			int conOwner = (int) joCon.get(Attributes.OWNER.toString());
+		for (ConstructionInfo constructionInfo : constructionInfos) {
+			int conOwner = constructionInfo.getOwner();
 			Player player = game.searchPlayers(conOwner);
-			//			String conPos = (String) joCon.get(Attributes.POSITION.toString());
-			String conPos = ProtocolJSONObjectConverter.getPosition(joCon, game.getBoard());
-			String conType = (String) joCon.get(Attributes.TYPE.toString());
+			String conPos = ProtocolJSONObjectConverter.getPosition(constructionInfo.getPosition(), game.getBoard());
+			String conType = constructionInfo.getType();
 			switch (conType) {
 			case "Dorf": {
 				Settlement settlement = new Settlement(player, game.getBoard().searchCorner(conPos));
-				Platform.runLater(() -> constructions.add(settlement));
+				runLater(() -> constructions.add(settlement));
 				player.addLocality(settlement);
 			}
 			break;
 			case "Stadt": {
 				City city = new City(player, game.getBoard().searchCorner(conPos));
-				Platform.runLater(() -> constructions.add(city));
+				runLater(() -> constructions.add(city));
 				player.addLocality(city);
 			}
 			break;
 			case "Strasse": {
 				Road road = new Road(player, game.getBoard().searchEdge(conPos));
-				Platform.runLater(() -> constructions.add(road));
+				runLater(() -> constructions.add(road));
 				player.addRoad(road);
 			}
 			break;
@@ -1556,20 +1475,18 @@ public class ClientController {
 	}
 
 	/**
-	 * Gets the JSONArray of harbors and changes the HarborType in {@link Board}
+	 * Gets the list of harbors and changes the HarborType in {@link Board}
 	 * accordingly
 	 * 
-	 * @param jaHar JSONArray of harbors jaHar
+	 * @param harbors list of harbors
 	 */
-	private void setHarbors(JSONArray jaHar) {
+	private void setHarbors(List<HarborInfo> harbors) {
 		for (Edge edge : game.getBoard().getEdges()) {
 			edge.getHarbor().setType(HarborType.NONE);
 		}
-		for (Object object : jaHar) {
-			JSONObject joHar = (JSONObject) object;
-			//			String harPos = (String) joHar.get(Attributes.POSITION.toString());
-			String harPos = ProtocolJSONObjectConverter.getPosition(joHar, game.getBoard());
-			HarborType harType = getHarborType(joHar.getString(Attributes.TYPE.toString()));
+		for (HarborInfo harborInfo : harbors) {
+			String harPos = ProtocolJSONObjectConverter.getPosition(harborInfo.getPosition(), game.getBoard());
+			HarborType harType = getHarborType(harborInfo.getType());
 
 			Edge edge = game.getBoard().searchEdge(harPos);
 			edge.getHarbor().setType(harType);
@@ -1580,14 +1497,14 @@ public class ClientController {
 	/**
 	 * Checks if the clients protocol is supported by the {@code Server}.
 	 * 
-	 * @param obj
-	 *            the {@link JSONObject} containing the clients protocol
+	 * @param hello
+	 *            the {@link ServerHelloMessage} containing the clients protocol
 	 *            information.
 	 * @return true, if the protocol is supported. false, otherwise.
 	 */
-	private boolean usesSupportedProtocol(JSONObject obj) {
+	private boolean usesSupportedProtocol(ServerHelloMessage hello) {
 		String serverProtocolVersion = Attributes.PROTOCOL_VALUE.toString();
-		String clientProtocolVersion = obj.getString(Attributes.PROTOCOL.toString());
+		String clientProtocolVersion = hello.getProtocol();
 
 		return serverProtocolVersion.equals(clientProtocolVersion);
 	}
@@ -1597,14 +1514,31 @@ public class ClientController {
 	 * @return the ResourceBundle
 	 */
 	private ResourceBundle getBundle() {
-		return bundleProperty.get();
+		return ApplicationInstance.getInstance().getBundle();
 	}
 
 	/**
 	 * Stops the background music.
 	 */
 	public void stopBackgroundMusic() {
-		backgroundMusicPlayer.stopBackgroundMusic();
+		if (backgroundMusicPlayer != null) {
+			backgroundMusicPlayer.stopBackgroundMusic();
+		}
+	}
+
+	/**
+	 * Runs an update of the model on the JavaFX Application Thread, which is needed, if the model is displayed. The
+	 * model of an AI is not displayed, so its updates are run at once on the thread of its connection, which needs no
+	 * JavaFX toolkit.
+	 * @param runnable the update.
+	 * @see Platform#runLater(Runnable)
+	 */
+	private void runLater(Runnable runnable) {
+		if (client.getUser() instanceof AIUser) {
+			runnable.run();
+		} else {
+			Platform.runLater(runnable);
+		}
 	}
 
 }
@@ -0,0 +1,191 @@
+package network.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import network.protocol.messages.ClientMessage;
+import network.protocol.messages.Message;
+import network.server.LocalServerConnection;
+import network.server.Server;
+import users.User;
+
+/**
+ * Represents a client running in the same process as its server, e.g. an AI of a simulation. Messages are passed to
+ * and from the server by method calls, so this client neither opens a socket nor runs a thread of its own. The client
+ * receives the typed {@code ClientMessages} of the server and sends typed {@code Messages}. The messages of the server
+ * are handled by the {@code Mailbox} of the room the client joined.
+ * @author Christoph Hermann
+ * @see LocalServerConnection
+ * @see network.server.Mailbox
+ */
+public class LocalClientConnection extends ClientConnection {
+
+	/**
+	 * The server this client connects to.
+	 */
+	private final Server server;
+
+	/**
+	 * The server-side end of the connection or null, if this client has not been started yet.
+	 */
+	private volatile LocalServerConnection serverConnection;
+
+	/**
+	 * Is completed, when the connection has been closed.
+	 */
+	private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+	/**
+	 * The total time in nanoseconds spent handling the messages of the server, including the time the user needed to
+	 * decide on its answers.
+	 */
+	private long handlingNanos;
+
+	/**
+	 * The longest time in nanoseconds spent handling a single message of the server.
+	 */
+	private long maxHandlingNanos;
+
+	/**
+	 * The number of messages sent to the server.
+	 */
+	private int numberOfSentMessages;
+
+	/**
+	 * The number of messages this client may send, before it disconnects.
+	 */
+	private int maxNumberOfSentMessages = Integer.MAX_VALUE;
+
+	/**
+	 * Creates a new client connecting to a server running in the same process.
+	 * @param server the {@link Server}, which does not need to be started.
+	 * @param user the {@link User} connected to this client.
+	 */
+	public LocalClientConnection(Server server, User user) {
+		super(null, 0, user, null);
+		this.server = server;
+	}
+
+	/**
+	 * Connects this client to the server, which answers with the HELLO message right away. No thread is started.
+	 */
+	@Override
+	public synchronized void start() {
+		serverConnection = server.connectLocally(this::receive, () -> closed.complete(null));
+		serverConnection.start();
+	}
+
+	@Override
+	public void run() {
+		// This client has no thread of its own.
+	}
+
+	/**
+	 * Handles a message of the server.
+	 * @param message the {@link ClientMessage}.
+	 */
+	private void receive(ClientMessage message) {
+		long start = System.nanoTime();
+		getClientController().handle(message);
+		long nanos = System.nanoTime() - start;
+
+		handlingNanos += nanos;
+		maxHandlingNanos = Math.max(maxHandlingNanos, nanos);
+	}
+
+	@Override
+	public void sendToServer(Message message) {
+		// Give up, if the user does not make any progress, e.g. an AI repeating an invalid move.
+		if (numberOfSentMessages >= maxNumberOfSentMessages) {
+			stopRunning();
+			return;
+		}
+
+		// Send the message.
+		numberOfSentMessages++;
+		serverConnection.receive(message);
+	}
+
+	@Override
+	public void stopRunning() {
+		LocalServerConnection connection = serverConnection;
+		if (connection != null) {
+			connection.stopRunning();
+		}
+	}
+
+	/**
+	 * Sets the number of messages this client may send. Once it is exceeded, the client disconnects instead of sending
+	 * the message, which ends a running game.
+	 * @param maxNumberOfSentMessages the maximum number of sent messages.
+	 */
+	public void setMaxNumberOfSentMessages(int maxNumberOfSentMessages) {
+		this.maxNumberOfSentMessages = maxNumberOfSentMessages;
+	}
+
+	/**
+	 * Waits until the connection has been closed, e.g. because the game is over.
+	 * @param timeout the maximum time to wait in milliseconds.
+	 * @return true, if the connection has been closed. false, if the time elapsed before.
+	 * @throws InterruptedException if the current thread is interrupted while waiting.
+	 */
+	public boolean awaitTermination(long timeout) throws InterruptedException {
+		try {
+			closed.get(timeout, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (TimeoutException exception) {
+			return false;
+		} catch (ExecutionException exception) {
+			// The future is never completed exceptionally.
+			throw new IllegalStateException(exception.getCause());
+		}
+	}
+
+	/**
+	 * Returns whether the connection has been closed.
+	 * @return true, if the connection has been closed. false, otherwise.
+	 */
+	public boolean isTerminated() {
+		return closed.isDone();
+	}
+
+	/**
+	 * Returns a stage, which is completed by the thread closing the connection, e.g. to evaluate a game without
+	 * waiting for it.
+	 * @return the {@link CompletionStage} completed, when the connection has been closed.
+	 */
+	public CompletionStage<Void> getTermination() {
+		return closed.minimalCompletionStage();
+	}
+
+	/**
+	 * Returns the total time spent handling the messages of the server, including the time the user needed to decide
+	 * on its answers. Must only be called after the connection has been closed.
+	 * @return the time in nanoseconds.
+	 */
+	public long getHandlingNanos() {
+		return handlingNanos;
+	}
+
+	/**
+	 * Returns the longest time spent handling a single message of the server. Must only be called after the
+	 * connection has been closed.
+	 * @return the time in nanoseconds.
+	 */
+	public long getMaxHandlingNanos() {
+		return maxHandlingNanos;
+	}
+
+	/**
+	 * Returns the number of messages sent to the server, i.e. the number of moves, if the user is an AI. Must only be
+	 * called after the connection has been closed.
+	 * @return the number of sent messages.
+	 */
+	public int getNumberOfSentMessages() {
+		return numberOfSentMessages;
+	}
+
+}
@@ -413,7 +413,25 @@ public enum Attributes {
 	/**
 	 * The protocol attribute representing the y position.
 	 */
-	Y("y");
+	Y("y"),
+
+	/**
+	 * The protocol attribute representing the id of the {@code Room} a client wants to join.
+	 * @see network.server.Room
+	 */
+	ROOM("Raum"),
+
+	/**
+	 * The protocol attribute representing the encoding a client requests in its answer to the HELLO message.
+	 * @see Encoding
+	 */
+	ENCODING("Kodierung"),
+
+	/**
+	 * The protocol attribute representing the encodings the server offers in its HELLO message.
+	 * @see Encoding
+	 */
+	ENCODINGS("Kodierungen");
 
 	/**
 	 * The string representation of this attributes.
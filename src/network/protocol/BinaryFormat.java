@@ -0,0 +1,169 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Defines the compact binary encoding of messages shared by {@code BinaryWriter} and {@code BinaryReader}. A message is
+ * a sequence of tokens, each starting with a tag byte. Numbers are written as variable-length integers and every string
+ * known to the protocol, i.e. every property name, message type, resource type, player state, hex type, harbor type
+ * and development card type, is replaced by its index in the symbol table.
+ * @author Christoph Hermann
+ * @see Encoding#BINARY
+ */
+final class BinaryFormat {
+
+	/**
+	 * The tag ending the current object or array.
+	 */
+	static final byte END = 0;
+
+	/**
+	 * The tag beginning an object.
+	 */
+	static final byte OBJECT = 1;
+
+	/**
+	 * The tag beginning an array.
+	 */
+	static final byte ARRAY = 2;
+
+	/**
+	 * The tag of a string, followed by its length in bytes and its UTF-8 bytes.
+	 */
+	static final byte STRING = 3;
+
+	/**
+	 * The tag of a string from the symbol table, followed by its index.
+	 */
+	static final byte SYMBOL = 4;
+
+	/**
+	 * The tag of an integer, followed by the zig-zag encoded integer.
+	 */
+	static final byte INT = 5;
+
+	/**
+	 * The tag of the value true.
+	 */
+	static final byte TRUE = 6;
+
+	/**
+	 * The tag of the value false.
+	 */
+	static final byte FALSE = 7;
+
+	/**
+	 * The tag of the value null.
+	 */
+	static final byte NULL = 8;
+
+	/**
+	 * The tag of a floating-point number, followed by its eight bytes.
+	 */
+	static final byte DOUBLE = 9;
+
+	/**
+	 * The protocol strings of the player states, resource types, hex types, harbor types and development card types.
+	 * They are listed here instead of being read from their enums, so that the symbol table can be built without
+	 * loading the game model. Their order must match the order of the enum constants, because it determines the
+	 * indices and the fingerprint.
+	 */
+	private static final String[] GAME_SYMBOLS = {
+			// PlayerState
+			"Spiel starten", "Wartet auf Spielbeginn", "Dorf bauen", "Strasse bauen", "Wuerfeln",
+			"Karten wegen Raeuber abgeben", "Raeuber versetzen", "Handeln oder Bauen", "Warten", "Verbindung verloren",
+			// ResourceType
+			"Wolle", "Lehm", "Holz", "Getreide", "Erz",
+			// HexType
+			"Wueste", "Ackerland", "Wald", "Huegelland", "Gebirge", "Weideland", "Meer",
+			// HarborType
+			"", "Hafen", "Wolle Hafen", "Holz Hafen", "Erz Hafen", "Lehm Hafen", "Getreide Hafen",
+			// PlayableDevelopmentCardType
+			"Ritter", "Monopol", "Strassenbau", "Erfindung"
+	};
+
+	/**
+	 * The strings known to the protocol, in the order of their indices.
+	 */
+	private static final String[] SYMBOLS;
+
+	/**
+	 * The indices of the strings known to the protocol.
+	 */
+	private static final Map<String, Integer> INDICES;
+
+	/**
+	 * The checksum of the symbol table, which differs between incompatible versions of the table.
+	 */
+	private static final String FINGERPRINT;
+
+	static {
+		Set<String> symbols = new LinkedHashSet<>();
+		addAll(symbols, Attributes.values());
+		addAll(symbols, ServerTypes.values());
+		addAll(symbols, ClientTypes.values());
+		addAll(symbols, GAME_SYMBOLS);
+		SYMBOLS = symbols.toArray(new String[0]);
+
+		Map<String, Integer> indices = new HashMap<>();
+		CRC32 checksum = new CRC32();
+		for (int i = 0; i < SYMBOLS.length; i++) {
+			indices.put(SYMBOLS[i], i);
+			checksum.update(SYMBOLS[i].getBytes(StandardCharsets.UTF_8));
+			checksum.update(0);
+		}
+		INDICES = Collections.unmodifiableMap(indices);
+		FINGERPRINT = Long.toHexString(checksum.getValue());
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private BinaryFormat() {
+	}
+
+	/**
+	 * Adds the protocol strings of the specified constants to the symbol table.
+	 * @param symbols the symbol table.
+	 * @param constants the constants.
+	 */
+	private static void addAll(Set<String> symbols, Object[] constants) {
+		for (Object constant : constants) {
+			symbols.add(constant.toString());
+		}
+	}
+
+	/**
+	 * Returns the index of the specified string in the symbol table.
+	 * @param string the string.
+	 * @return the index or -1, if the string is not in the symbol table.
+	 */
+	static int indexOf(String string) {
+		Integer index = INDICES.get(string);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Returns the string with the specified index in the symbol table.
+	 * @param index the index.
+	 * @return the string or null, if the index is out of range.
+	 */
+	static String symbolAt(int index) {
+		return index >= 0 && index < SYMBOLS.length ? SYMBOLS[index] : null;
+	}
+
+	/**
+	 * Returns the checksum of the symbol table. Both ends of a connection must use the same symbol table.
+	 * @return the fingerprint.
+	 */
+	static String getFingerprint() {
+		return FINGERPRINT;
+	}
+
+}
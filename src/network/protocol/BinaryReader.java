@@ -0,0 +1,301 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Reads a message in the compact binary encoding one token at a time. Malformed input causes a
+ * {@code JSONException}, just like it does with the {@code JsonReader}.
+ * @author Christoph Hermann
+ * @see BinaryWriter
+ * @see Encoding#BINARY
+ */
+public class BinaryReader implements ProtocolReader {
+
+	/**
+	 * The maximum depth of nested objects and arrays.
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	/**
+	 * The message being read.
+	 */
+	private final byte[] bytes;
+
+	/**
+	 * The index of the next byte to read.
+	 */
+	private int position;
+
+	/**
+	 * The index following the last byte of the message.
+	 */
+	private final int limit;
+
+	/**
+	 * The number of objects and arrays currently open.
+	 */
+	private int depth;
+
+	/**
+	 * Whether the object or array at each depth is an object.
+	 */
+	private final boolean[] inObject = new boolean[MAX_DEPTH];
+
+	/**
+	 * Creates a new reader.
+	 * @param bytes the encoded message without length prefix.
+	 */
+	public BinaryReader(byte[] bytes) {
+		this(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Creates a new reader for a part of the specified array.
+	 * @param bytes the array containing the encoded message.
+	 * @param offset the index of the first byte of the message.
+	 * @param length the length of the message.
+	 */
+	public BinaryReader(byte[] bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.position = offset;
+		this.limit = offset + length;
+	}
+
+	@Override
+	public void beginObject() {
+		expect(BinaryFormat.OBJECT, "an object");
+		open(true);
+	}
+
+	@Override
+	public void endObject() {
+		expect(BinaryFormat.END, "the end of an object");
+		close(true);
+	}
+
+	@Override
+	public void beginArray() {
+		expect(BinaryFormat.ARRAY, "an array");
+		open(false);
+	}
+
+	@Override
+	public void endArray() {
+		expect(BinaryFormat.END, "the end of an array");
+		close(false);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < limit && bytes[position] != BinaryFormat.END;
+	}
+
+	@Override
+	public String nextName() {
+		if (depth == 0 || !inObject[depth - 1]) {
+			throw syntaxError("Name outside of an object");
+		}
+		return readText();
+	}
+
+	@Override
+	public String nextString() {
+		return readText();
+	}
+
+	@Override
+	public int nextInt() {
+		byte tag = readByte();
+
+		if (tag == BinaryFormat.INT) {
+			int zigZag = readVarInt();
+			return (zigZag >>> 1) ^ -(zigZag & 1);
+		} else if (tag == BinaryFormat.DOUBLE) {
+			return (int) readDouble();
+		}
+		throw syntaxError("Expected a number");
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		byte tag = readByte();
+
+		if (tag == BinaryFormat.TRUE) {
+			return true;
+		} else if (tag == BinaryFormat.FALSE) {
+			return false;
+		}
+		throw syntaxError("Expected a boolean");
+	}
+
+	@Override
+	public void skipValue() {
+		nextValue();
+	}
+
+	/**
+	 * Consumes the next value, whatever it is, and converts it the way a {@code JSONObject} represents it.
+	 * @return the {@link JSONObject}, {@link JSONArray}, string, Integer, Double, Boolean or {@code JSONObject.NULL}.
+	 */
+	public Object nextValue() {
+		if (position >= limit) {
+			throw syntaxError("Unexpected end of message");
+		}
+
+		switch (bytes[position]) {
+		case BinaryFormat.OBJECT:
+			JSONObject object = new JSONObject();
+			beginObject();
+			while (hasNext()) {
+				String name = nextName();
+				object.put(name, nextValue());
+			}
+			endObject();
+			return object;
+		case BinaryFormat.ARRAY:
+			JSONArray array = new JSONArray();
+			beginArray();
+			while (hasNext()) {
+				array.put(nextValue());
+			}
+			endArray();
+			return array;
+		case BinaryFormat.STRING:
+		case BinaryFormat.SYMBOL:
+			return readText();
+		case BinaryFormat.INT:
+			return nextInt();
+		case BinaryFormat.DOUBLE:
+			position++;
+			return readDouble();
+		case BinaryFormat.TRUE:
+		case BinaryFormat.FALSE:
+			return nextBoolean();
+		case BinaryFormat.NULL:
+			position++;
+			return JSONObject.NULL;
+		default:
+			throw syntaxError("Unknown tag " + bytes[position]);
+		}
+	}
+
+	@Override
+	public void endDocument() {
+		if (depth != 0 || position != limit) {
+			throw syntaxError("Unexpected end of message");
+		}
+	}
+
+	/**
+	 * Opens a new object or array.
+	 * @param object true, if an object is opened. false, if an array is opened.
+	 */
+	private void open(boolean object) {
+		if (depth == MAX_DEPTH) {
+			throw syntaxError("Nesting too deep");
+		}
+		inObject[depth++] = object;
+	}
+
+	/**
+	 * Closes the current object or array.
+	 * @param object true, if an object is closed. false, if an array is closed.
+	 */
+	private void close(boolean object) {
+		if (depth == 0 || inObject[depth - 1] != object) {
+			throw syntaxError("Unbalanced " + (object ? "object" : "array"));
+		}
+		depth--;
+	}
+
+	/**
+	 * Reads a string, which is either written out or taken from the symbol table.
+	 * @return the string.
+	 */
+	private String readText() {
+		byte tag = readByte();
+
+		if (tag == BinaryFormat.SYMBOL) {
+			String symbol = BinaryFormat.symbolAt(readVarInt());
+			if (symbol == null) {
+				throw syntaxError("Unknown symbol");
+			}
+			return symbol;
+		} else if (tag == BinaryFormat.STRING) {
+			int length = readVarInt();
+			if (length < 0 || length > limit - position) {
+				throw syntaxError("Illegal string length");
+			}
+			String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return text;
+		}
+		throw syntaxError("Expected a string");
+	}
+
+	/**
+	 * Reads the eight bytes of a floating-point number.
+	 * @return the number.
+	 */
+	private double readDouble() {
+		long bits = 0;
+		for (int i = 0; i < 8; i++) {
+			bits = (bits << 8) | (readByte() & 0xFF);
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Reads an unsigned integer written with seven bits per byte.
+	 * @return the integer.
+	 */
+	private int readVarInt() {
+		int value = 0;
+
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte next = readByte();
+			value |= (next & 0x7F) << shift;
+
+			if ((next & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw syntaxError("Malformed integer");
+	}
+
+	/**
+	 * Reads a single byte.
+	 * @return the byte.
+	 */
+	private byte readByte() {
+		if (position >= limit) {
+			throw syntaxError("Unexpected end of message");
+		}
+		return bytes[position++];
+	}
+
+	/**
+	 * Consumes the next tag, which must be the specified one.
+	 * @param tag the expected tag.
+	 * @param description the description of the expected token.
+	 */
+	private void expect(byte tag, String description) {
+		if (readByte() != tag) {
+			throw syntaxError("Expected " + description);
+		}
+	}
+
+	/**
+	 * Creates an exception describing a syntax error at the current position.
+	 * @param message the description of the error.
+	 * @return the {@link JSONException}.
+	 */
+	private JSONException syntaxError(String message) {
+		return new JSONException(message + " at " + position);
+	}
+
+}
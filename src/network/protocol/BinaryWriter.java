@@ -0,0 +1,238 @@
+package network.protocol;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Writes a message in the compact binary encoding. The space for the length prefix of the frame is reserved in front of
+ * the message, so that the complete frame can be created without copying the message twice.
+ * @author Christoph Hermann
+ * @see BinaryReader
+ * @see Encoding#BINARY
+ */
+public class BinaryWriter implements ProtocolWriter {
+
+	/**
+	 * The number of bytes of the length prefix of a frame.
+	 */
+	static final int HEADER_LENGTH = 4;
+
+	/**
+	 * The bytes written so far, starting with the space reserved for the length prefix.
+	 */
+	private byte[] bytes = new byte[64];
+
+	/**
+	 * The number of bytes used, including the length prefix.
+	 */
+	private int size = HEADER_LENGTH;
+
+	@Override
+	public BinaryWriter beginObject() {
+		writeByte(BinaryFormat.OBJECT);
+		return this;
+	}
+
+	@Override
+	public BinaryWriter endObject() {
+		writeByte(BinaryFormat.END);
+		return this;
+	}
+
+	@Override
+	public BinaryWriter beginArray() {
+		writeByte(BinaryFormat.ARRAY);
+		return this;
+	}
+
+	@Override
+	public BinaryWriter endArray() {
+		writeByte(BinaryFormat.END);
+		return this;
+	}
+
+	@Override
+	public BinaryWriter name(String name) {
+		writeText(name);
+		return this;
+	}
+
+	@Override
+	public BinaryWriter value(String value) {
+		if (value == null) {
+			writeByte(BinaryFormat.NULL);
+		} else {
+			writeText(value);
+		}
+		return this;
+	}
+
+	@Override
+	public BinaryWriter value(int value) {
+		writeByte(BinaryFormat.INT);
+		writeVarInt((value << 1) ^ (value >> 31));
+		return this;
+	}
+
+	@Override
+	public BinaryWriter value(boolean value) {
+		writeByte(value ? BinaryFormat.TRUE : BinaryFormat.FALSE);
+		return this;
+	}
+
+	/**
+	 * Writes any value of a {@code JSONObject}, including all nested objects and arrays. Maps, collections and Java
+	 * arrays put into a {@code JSONObject} are written like a {@code JSONObject} and a {@code JSONArray}.
+	 * @param value the {@link JSONObject}, {@link JSONArray}, map, collection, array, string, number, boolean or null.
+	 * @return this writer.
+	 * @throws JSONException if the value is of any other type, which has no representation in the protocol.
+	 */
+	public BinaryWriter value(Object value) {
+		if (value == null || value == JSONObject.NULL) {
+			writeByte(BinaryFormat.NULL);
+		} else if (value instanceof JSONObject) {
+			JSONObject object = (JSONObject) value;
+			beginObject();
+			for (String key : object.keySet()) {
+				name(key);
+				value(object.get(key));
+			}
+			endObject();
+		} else if (value instanceof JSONArray) {
+			JSONArray array = (JSONArray) value;
+			beginArray();
+			for (int i = 0; i < array.length(); i++) {
+				value(array.get(i));
+			}
+			endArray();
+		} else if (value instanceof Map) {
+			beginObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				name(String.valueOf(entry.getKey()));
+				value(entry.getValue());
+			}
+			endObject();
+		} else if (value instanceof Collection) {
+			beginArray();
+			for (Object element : (Collection<?>) value) {
+				value(element);
+			}
+			endArray();
+		} else if (value.getClass().isArray()) {
+			beginArray();
+			for (int i = 0; i < Array.getLength(value); i++) {
+				value(Array.get(value, i));
+			}
+			endArray();
+		} else if (value instanceof String) {
+			writeText((String) value);
+		} else if (value instanceof Boolean) {
+			value(((Boolean) value).booleanValue());
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			value(((Number) value).intValue());
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else {
+			throw new JSONException("A value of type " + value.getClass().getName() + " cannot be encoded.");
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a number which may not fit into an int.
+	 * @param number the number.
+	 */
+	private void writeNumber(Number number) {
+		double value = number.doubleValue();
+
+		if (value == (int) value) {
+			value((int) value);
+		} else {
+			writeByte(BinaryFormat.DOUBLE);
+			long bits = Double.doubleToLongBits(value);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				writeByte((byte) (bits >>> shift));
+			}
+		}
+	}
+
+	/**
+	 * Writes a string, using its index in the symbol table if possible.
+	 * @param text the string.
+	 */
+	private void writeText(String text) {
+		int index = BinaryFormat.indexOf(text);
+
+		if (index >= 0) {
+			writeByte(BinaryFormat.SYMBOL);
+			writeVarInt(index);
+		} else {
+			byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+			writeByte(BinaryFormat.STRING);
+			writeVarInt(utf8.length);
+			ensureCapacity(utf8.length);
+			System.arraycopy(utf8, 0, bytes, size, utf8.length);
+			size += utf8.length;
+		}
+	}
+
+	/**
+	 * Writes an unsigned integer using seven bits per byte. The highest bit of every byte but the last is set.
+	 * @param value the integer, treated as unsigned.
+	 */
+	private void writeVarInt(int value) {
+		while ((value & ~0x7F) != 0) {
+			writeByte((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		writeByte((byte) value);
+	}
+
+	/**
+	 * Writes a single byte.
+	 * @param value the byte.
+	 */
+	private void writeByte(byte value) {
+		ensureCapacity(1);
+		bytes[size++] = value;
+	}
+
+	/**
+	 * Makes sure that the specified number of bytes can be written without growing the array.
+	 * @param additionalBytes the number of bytes.
+	 */
+	private void ensureCapacity(int additionalBytes) {
+		if (size + additionalBytes > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additionalBytes));
+		}
+	}
+
+	/**
+	 * Returns the message written so far.
+	 * @return the encoded message without length prefix.
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOfRange(bytes, HEADER_LENGTH, size);
+	}
+
+	/**
+	 * Returns the message written so far as a frame, i.e. prefixed with its length as a four-byte big-endian integer.
+	 * @return the frame.
+	 */
+	public byte[] toFrame() {
+		int length = size - HEADER_LENGTH;
+		bytes[0] = (byte) (length >>> 24);
+		bytes[1] = (byte) (length >>> 16);
+		bytes[2] = (byte) (length >>> 8);
+		bytes[3] = (byte) length;
+		return Arrays.copyOf(bytes, size);
+	}
+
+}
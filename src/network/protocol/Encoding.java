@@ -0,0 +1,99 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import network.protocol.messages.ProtocolMessage;
+
+/**
+ * Enum of all encodings a client and the server can use to exchange messages. Every connection starts with JSON. The
+ * server offers all encodings in its HELLO message and the client may request one of them in its answer. Both switch
+ * to the requested encoding right after the answer of the client.
+ * @author Christoph Hermann
+ * @see FrameDecoder
+ */
+public enum Encoding {
+
+	/**
+	 * The default encoding. Every message is a line of JSON text, terminated by a line break.
+	 */
+	JSON("json"),
+
+	/**
+	 * The compact binary encoding. Every message is a frame prefixed with its length, in which numbers are written as
+	 * variable-length integers and all strings known to the protocol are replaced by their index in a symbol table. The
+	 * name of this encoding contains the fingerprint of the symbol table, so that only compatible versions use it.
+	 * @see BinaryWriter
+	 * @see BinaryReader
+	 */
+	BINARY("binaer-" + BinaryFormat.getFingerprint());
+
+	/**
+	 * The string representation of this encoding.
+	 */
+	private final String string;
+
+	/**
+	 * Creates a new encoding.
+	 * @param string the string representation of this encoding.
+	 */
+	private Encoding(String string) {
+		this.string = string;
+	}
+
+	/**
+	 * Encodes a message the way it is sent over the network, including the line break or the length prefix. The
+	 * encoded message can be sent to any number of clients using this encoding, but must not be modified afterwards.
+	 * @param message the {@link ProtocolMessage} to encode.
+	 * @return the encoded message.
+	 */
+	public byte[] encode(ProtocolMessage message) {
+		if (this == BINARY) {
+			BinaryWriter writer = new BinaryWriter();
+			message.write(writer);
+			return writer.toFrame();
+		}
+		return (message.encode() + "\n").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Decodes a message received as a single frame.
+	 * @param frame the message without line break or length prefix.
+	 * @return the decoded {@link JSONObject}.
+	 */
+	public JSONObject decode(byte[] frame) {
+		if (this == BINARY) {
+			BinaryReader reader = new BinaryReader(frame);
+			Object message = reader.nextValue();
+			reader.endDocument();
+
+			if (!(message instanceof JSONObject)) {
+				throw new JSONException("Message is not an object");
+			}
+			return (JSONObject) message;
+		}
+		return new JSONObject(new String(frame, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the encoding with the specified string representation.
+	 * @param string the string representation.
+	 * @return the encoding or null, if there is no encoding with this string representation.
+	 */
+	public static Encoding fromString(String string) {
+		for (Encoding encoding : values()) {
+			if (encoding.string.equals(string)) {
+				return encoding;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return string;
+	}
+
+}
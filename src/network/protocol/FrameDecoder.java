@@ -0,0 +1,163 @@
+package network.protocol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits the bytes received from a connection into single messages, according to the current {@code Encoding}. Bytes
+ * of incomplete messages are kept until the rest arrives, so the bytes can be handed over in chunks of any size. The
+ * encoding may be changed between two messages, e.g. right after the HELLO message has been handled.
+ * @author Christoph Hermann
+ * @see Encoding
+ */
+public class FrameDecoder {
+
+	/**
+	 * The maximum length in bytes of a single message.
+	 */
+	public static final int MAX_FRAME_LENGTH = 1 << 20;
+
+	/**
+	 * The byte separating two messages encoded using JSON.
+	 */
+	private static final byte LINE_FEED = '\n';
+
+	/**
+	 * The byte which may precede the line feed at the end of a message encoded using JSON.
+	 */
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	/**
+	 * The encoding of the next message.
+	 */
+	private Encoding encoding = Encoding.JSON;
+
+	/**
+	 * The bytes of the message currently being received, including the length prefix of a binary frame.
+	 */
+	private byte[] frame = new byte[256];
+
+	/**
+	 * The number of bytes of the message currently being received.
+	 */
+	private int size;
+
+	/**
+	 * The length of the binary frame currently being received or -1, if its length prefix is still incomplete.
+	 */
+	private int frameLength = -1;
+
+	/**
+	 * Takes bytes from the specified buffer until a message is complete.
+	 * @param input the buffer containing the received bytes.
+	 * @return the complete message without line break or length prefix, or null, if all bytes of the buffer have been
+	 *         consumed without completing a message.
+	 * @throws IOException if a message exceeds the maximum length.
+	 */
+	public byte[] nextFrame(ByteBuffer input) throws IOException {
+		if (encoding == Encoding.JSON) {
+			return nextLine(input);
+		}
+		return nextBinaryFrame(input);
+	}
+
+	/**
+	 * Takes bytes from the specified buffer until a line break is found.
+	 * @param input the buffer containing the received bytes.
+	 * @return the line without line break or null, if the line is not complete yet.
+	 * @throws IOException if the line exceeds the maximum length.
+	 */
+	private byte[] nextLine(ByteBuffer input) throws IOException {
+		while (input.hasRemaining()) {
+			byte next = input.get();
+
+			if (next == LINE_FEED) {
+				int length = size > 0 && frame[size - 1] == CARRIAGE_RETURN ? size - 1 : size;
+				size = 0;
+				return Arrays.copyOf(frame, length);
+			}
+			append(next);
+		}
+		return null;
+	}
+
+	/**
+	 * Takes bytes from the specified buffer until a binary frame is complete.
+	 * @param input the buffer containing the received bytes.
+	 * @return the frame without length prefix or null, if the frame is not complete yet.
+	 * @throws IOException if the frame exceeds the maximum length.
+	 */
+	private byte[] nextBinaryFrame(ByteBuffer input) throws IOException {
+		while (frameLength < 0) {
+			if (!input.hasRemaining()) {
+				return null;
+			}
+			append(input.get());
+
+			if (size == BinaryWriter.HEADER_LENGTH) {
+				frameLength = ((frame[0] & 0xFF) << 24) | ((frame[1] & 0xFF) << 16) | ((frame[2] & 0xFF) << 8)
+						| (frame[3] & 0xFF);
+
+				if (frameLength < 0 || frameLength > MAX_FRAME_LENGTH) {
+					throw new IOException("Message too long.");
+				}
+				ensureCapacity(BinaryWriter.HEADER_LENGTH + frameLength);
+			}
+		}
+
+		int missing = BinaryWriter.HEADER_LENGTH + frameLength - size;
+		int available = Math.min(missing, input.remaining());
+		input.get(frame, size, available);
+		size += available;
+
+		if (available < missing) {
+			return null;
+		}
+
+		byte[] complete = Arrays.copyOfRange(frame, BinaryWriter.HEADER_LENGTH, size);
+		size = 0;
+		frameLength = -1;
+		return complete;
+	}
+
+	/**
+	 * Appends a byte to the message currently being received.
+	 * @param next the byte.
+	 * @throws IOException if the message exceeds the maximum length.
+	 */
+	private void append(byte next) throws IOException {
+		if (size == MAX_FRAME_LENGTH) {
+			throw new IOException("Message too long.");
+		}
+		ensureCapacity(size + 1);
+		frame[size++] = next;
+	}
+
+	/**
+	 * Makes sure that the message currently being received can grow to the specified number of bytes.
+	 * @param capacity the number of bytes.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > frame.length) {
+			frame = Arrays.copyOf(frame, Math.max(frame.length * 2, capacity));
+		}
+	}
+
+	/**
+	 * Returns the encoding of the next message.
+	 * @return the {@link Encoding}.
+	 */
+	public Encoding getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Sets the encoding of the next message. Must only be called between two messages.
+	 * @param encoding the {@link Encoding}.
+	 */
+	public void setEncoding(Encoding encoding) {
+		this.encoding = encoding;
+	}
+
+}
@@ -0,0 +1,365 @@
+package network.protocol;
+
+import org.json.JSONException;
+
+/**
+ * Reads a JSON text one token at a time, without building a tree of {@code JSONObjects} first. The caller asks for the
+ * tokens it expects in the order they appear, e.g. {@link #beginObject()}, {@link #nextName()} and {@link #nextInt()},
+ * and skips everything it is not interested in using {@link #skipValue()}. Malformed input causes a
+ * {@code JSONException}, just like it does with {@code JSONObject}.
+ * @author Christoph Hermann
+ * @see JsonWriter
+ * @see BinaryReader
+ */
+public class JsonReader implements ProtocolReader {
+
+	/**
+	 * The maximum depth of nested objects and arrays.
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	/**
+	 * The text being read.
+	 */
+	private final String json;
+
+	/**
+	 * The index of the next character to read.
+	 */
+	private int position;
+
+	/**
+	 * The number of objects and arrays currently open.
+	 */
+	private int depth;
+
+	/**
+	 * Whether the object or array at each depth is an object.
+	 */
+	private final boolean[] inObject = new boolean[MAX_DEPTH];
+
+	/**
+	 * Whether the next element of the object or array at each depth is its first element.
+	 */
+	private final boolean[] first = new boolean[MAX_DEPTH];
+
+	/**
+	 * Creates a new reader.
+	 * @param json the JSON text to read.
+	 */
+	public JsonReader(String json) {
+		this.json = json;
+	}
+
+	@Override
+	public void beginObject() {
+		beforeValue();
+		expect('{');
+		open(true);
+	}
+
+	@Override
+	public void endObject() {
+		skipWhitespace();
+		expect('}');
+		close(true);
+	}
+
+	@Override
+	public void beginArray() {
+		beforeValue();
+		expect('[');
+		open(false);
+	}
+
+	@Override
+	public void endArray() {
+		skipWhitespace();
+		expect(']');
+		close(false);
+	}
+
+	@Override
+	public boolean hasNext() {
+		skipWhitespace();
+
+		if (position >= json.length()) {
+			return false;
+		}
+		char next = json.charAt(position);
+		return next != '}' && next != ']';
+	}
+
+	@Override
+	public String nextName() {
+		if (depth == 0 || !inObject[depth - 1]) {
+			throw syntaxError("Name outside of an object");
+		}
+		skipSeparator();
+
+		String name = readString();
+		skipWhitespace();
+		expect(':');
+		return name;
+	}
+
+	@Override
+	public String nextString() {
+		beforeValue();
+		return readString();
+	}
+
+	@Override
+	public int nextInt() {
+		beforeValue();
+		String number = readLiteral();
+
+		try {
+			return Integer.parseInt(number);
+		} catch (NumberFormatException exception) {
+			try {
+				return (int) Double.parseDouble(number);
+			} catch (NumberFormatException notANumber) {
+				throw syntaxError("Expected a number but was " + number);
+			}
+		}
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		beforeValue();
+		String literal = readLiteral();
+
+		if (literal.equals("true")) {
+			return true;
+		} else if (literal.equals("false")) {
+			return false;
+		}
+		throw syntaxError("Expected a boolean but was " + literal);
+	}
+
+	@Override
+	public void skipValue() {
+		beforeValue();
+		char next = peek();
+
+		if (next == '{' || next == '[') {
+			boolean object = next == '{';
+			position++;
+			open(object);
+
+			while (hasNext()) {
+				if (object) {
+					nextName();
+				}
+				skipValue();
+			}
+
+			skipWhitespace();
+			expect(object ? '}' : ']');
+			close(object);
+		} else if (next == '"') {
+			readString();
+		} else {
+			readLiteral();
+		}
+	}
+
+	@Override
+	public void endDocument() {
+		skipWhitespace();
+
+		if (depth != 0 || position != json.length()) {
+			throw syntaxError("Unexpected end of document");
+		}
+	}
+
+	/**
+	 * Prepares reading the next value, which is either the value of a property or an element of an array.
+	 */
+	private void beforeValue() {
+		if (depth > 0 && !inObject[depth - 1]) {
+			skipSeparator();
+		}
+		skipWhitespace();
+	}
+
+	/**
+	 * Consumes the comma in front of every element of an object or array but the first.
+	 */
+	private void skipSeparator() {
+		skipWhitespace();
+
+		if (first[depth - 1]) {
+			first[depth - 1] = false;
+		} else {
+			expect(',');
+			skipWhitespace();
+		}
+	}
+
+	/**
+	 * Opens a new object or array.
+	 * @param object true, if an object is opened. false, if an array is opened.
+	 */
+	private void open(boolean object) {
+		if (depth == MAX_DEPTH) {
+			throw syntaxError("Nesting too deep");
+		}
+		inObject[depth] = object;
+		first[depth] = true;
+		depth++;
+	}
+
+	/**
+	 * Closes the current object or array.
+	 * @param object true, if an object is closed. false, if an array is closed.
+	 */
+	private void close(boolean object) {
+		if (depth == 0 || inObject[depth - 1] != object) {
+			throw syntaxError("Unbalanced " + (object ? "object" : "array"));
+		}
+		depth--;
+	}
+
+	/**
+	 * Reads a string including its quotes and resolves all escape sequences.
+	 * @return the string.
+	 */
+	private String readString() {
+		expect('"');
+		int start = position;
+
+		// Most strings contain no escape sequences and can be taken as they are.
+		while (position < json.length()) {
+			char next = json.charAt(position);
+
+			if (next == '"') {
+				return json.substring(start, position++);
+			} else if (next == '\\') {
+				break;
+			}
+			position++;
+		}
+
+		StringBuilder builder = new StringBuilder(json.length() - start);
+		builder.append(json, start, position);
+
+		while (position < json.length()) {
+			char next = json.charAt(position++);
+
+			if (next == '"') {
+				return builder.toString();
+			} else if (next == '\\') {
+				builder.append(readEscapedCharacter());
+			} else {
+				builder.append(next);
+			}
+		}
+		throw syntaxError("Unterminated string");
+	}
+
+	/**
+	 * Reads the character following a backslash.
+	 * @return the character the escape sequence stands for.
+	 */
+	private char readEscapedCharacter() {
+		if (position >= json.length()) {
+			throw syntaxError("Unterminated escape sequence");
+		}
+		char escaped = json.charAt(position++);
+
+		switch (escaped) {
+		case 'b':
+			return '\b';
+		case 't':
+			return '\t';
+		case 'n':
+			return '\n';
+		case 'f':
+			return '\f';
+		case 'r':
+			return '\r';
+		case 'u':
+			if (position + 4 > json.length()) {
+				throw syntaxError("Unterminated escape sequence");
+			}
+			try {
+				char unicode = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+				position += 4;
+				return unicode;
+			} catch (NumberFormatException exception) {
+				throw syntaxError("Illegal escape sequence");
+			}
+		case '"':
+		case '\\':
+		case '/':
+			return escaped;
+		default:
+			throw syntaxError("Illegal escape sequence");
+		}
+	}
+
+	/**
+	 * Reads an unquoted value, i.e. a number, true, false or null.
+	 * @return the literal.
+	 */
+	private String readLiteral() {
+		int start = position;
+
+		while (position < json.length()) {
+			char next = json.charAt(position);
+
+			if (next == ',' || next == '}' || next == ']' || next == ':' || Character.isWhitespace(next)) {
+				break;
+			}
+			position++;
+		}
+
+		if (start == position) {
+			throw syntaxError("Expected a value");
+		}
+		return json.substring(start, position);
+	}
+
+	/**
+	 * Returns the next character without consuming it.
+	 * @return the next character.
+	 */
+	private char peek() {
+		if (position >= json.length()) {
+			throw syntaxError("Unexpected end of document");
+		}
+		return json.charAt(position);
+	}
+
+	/**
+	 * Consumes the next character, which must be the specified one.
+	 * @param expected the expected character.
+	 */
+	private void expect(char expected) {
+		if (peek() != expected) {
+			throw syntaxError("Expected '" + expected + "' but was '" + json.charAt(position) + "'");
+		}
+		position++;
+	}
+
+	/**
+	 * Skips all whitespace in front of the next token.
+	 */
+	private void skipWhitespace() {
+		while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+			position++;
+		}
+	}
+
+	/**
+	 * Creates an exception describing a syntax error at the current position.
+	 * @param message the description of the error.
+	 * @return the {@link JSONException}.
+	 */
+	private JSONException syntaxError(String message) {
+		return new JSONException(message + " at " + position);
+	}
+
+}
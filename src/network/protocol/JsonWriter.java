@@ -0,0 +1,196 @@
+package network.protocol;
+
+/**
+ * Writes a JSON text one token at a time directly into a {@code StringBuilder}, without building a tree of
+ * {@code JSONObjects} first. Commas and colons are inserted automatically.
+ * @author Christoph Hermann
+ * @see JsonReader
+ * @see BinaryWriter
+ */
+public class JsonWriter implements ProtocolWriter {
+
+	/**
+	 * The maximum depth of nested objects and arrays.
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	/**
+	 * The characters used for writing escape sequences.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * The text written so far.
+	 */
+	private final StringBuilder builder;
+
+	/**
+	 * The number of objects and arrays currently open.
+	 */
+	private int depth;
+
+	/**
+	 * Whether the next element of the object or array at each depth is its first element.
+	 */
+	private final boolean[] first = new boolean[MAX_DEPTH];
+
+	/**
+	 * Whether a name has just been written, so that the next value belongs to it.
+	 */
+	private boolean afterName;
+
+	/**
+	 * Creates a new writer.
+	 */
+	public JsonWriter() {
+		this(new StringBuilder());
+	}
+
+	/**
+	 * Creates a new writer appending to the specified builder.
+	 * @param builder the {@link StringBuilder} to append to.
+	 */
+	public JsonWriter(StringBuilder builder) {
+		this.builder = builder;
+	}
+
+	@Override
+	public JsonWriter beginObject() {
+		beforeValue();
+		builder.append('{');
+		open();
+		return this;
+	}
+
+	@Override
+	public JsonWriter endObject() {
+		builder.append('}');
+		depth--;
+		return this;
+	}
+
+	@Override
+	public JsonWriter beginArray() {
+		beforeValue();
+		builder.append('[');
+		open();
+		return this;
+	}
+
+	@Override
+	public JsonWriter endArray() {
+		builder.append(']');
+		depth--;
+		return this;
+	}
+
+	@Override
+	public JsonWriter name(String name) {
+		beforeValue();
+		writeString(name);
+		builder.append(':');
+		afterName = true;
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(String value) {
+		beforeValue();
+		if (value == null) {
+			builder.append("null");
+		} else {
+			writeString(value);
+		}
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(int value) {
+		beforeValue();
+		builder.append(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(boolean value) {
+		beforeValue();
+		builder.append(value);
+		return this;
+	}
+
+	/**
+	 * Inserts the comma in front of every element of an object or array but the first.
+	 */
+	private void beforeValue() {
+		if (afterName) {
+			afterName = false;
+		} else if (depth > 0) {
+			if (first[depth - 1]) {
+				first[depth - 1] = false;
+			} else {
+				builder.append(',');
+			}
+		}
+	}
+
+	/**
+	 * Opens a new object or array.
+	 */
+	private void open() {
+		if (depth == MAX_DEPTH) {
+			throw new IllegalStateException("Nesting too deep");
+		}
+		first[depth++] = true;
+	}
+
+	/**
+	 * Writes a string including its quotes and escapes all characters which must not appear in a JSON string.
+	 * @param value the string.
+	 */
+	private void writeString(String value) {
+		builder.append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+
+			switch (character) {
+			case '"':
+			case '\\':
+				builder.append('\\').append(character);
+				break;
+			case '\n':
+				builder.append("\\n");
+				break;
+			case '\r':
+				builder.append("\\r");
+				break;
+			case '\t':
+				builder.append("\\t");
+				break;
+			case '\b':
+				builder.append("\\b");
+				break;
+			case '\f':
+				builder.append("\\f");
+				break;
+			default:
+				if (character < ' ') {
+					builder.append("\\u00").append(HEX_DIGITS[character >> 4]).append(HEX_DIGITS[character & 0xF]);
+				} else {
+					builder.append(character);
+				}
+			}
+		}
+		builder.append('"');
+	}
+
+	/**
+	 * Returns the text written so far.
+	 * @return the JSON text.
+	 */
+	@Override
+	public String toString() {
+		return builder.toString();
+	}
+
+}
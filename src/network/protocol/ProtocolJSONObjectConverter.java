@@ -1,107 +1,39 @@
 package network.protocol;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.List;
 
 import game.board.Board;
 import game.board.construction.localities.City;
 import game.board.construction.localities.Settlement;
 import game.board.construction.roads.Road;
 import game.board.hexes.Hex;
-import game.resources.ResourceType;
-import game.resources.Resources;
+import network.protocol.messages.Coordinates;
 
 /**
- * A collection of functions for converting protocol JSONObjects 
- * to other Objects.  
+ * A collection of functions for converting the coordinates of the protocol
+ * to positions on the {@code Board}.
  * @author Christoph Hermann
  * @author Yize Sun
  */
 public class ProtocolJSONObjectConverter {
 
 	/**
-	 * Return the {@code Resources} which the protocol identifies 
-	 * with the specified JSONObject.
-	 * @param j_ressources 
-	 *                    JSONObject resources
-	 * @return resources
-	 */
-	public static Resources getResources(JSONObject j_ressources) {
-
-		Resources resources = new Resources();
-
-		int lumber = 0;
-		int wool = 0;
-		int brick = 0;
-		int grain = 0;
-		int ore = 0;
-
-		if (j_ressources.has("Holz")) {
-			lumber = (int) j_ressources.get("Holz");
-		}
-		if (j_ressources.has("Wolle")) {
-			wool = (int) j_ressources.get("Wolle");
-		}
-		if (j_ressources.has("Lehm")) {
-			brick = (int) j_ressources.get("Lehm");
-		}
-		if (j_ressources.has("Getreide")) {
-			grain = (int) j_ressources.get("Getreide");
-		}
-		if (j_ressources.has("Erz")) {
-			ore = (int) j_ressources.get("Erz");
-		}
-		resources.getResources().put(ResourceType.LUMBER, lumber);
-		resources.getResources().put(ResourceType.WOOL, wool);
-		resources.getResources().put(ResourceType.BRICK, brick);
-		resources.getResources().put(ResourceType.GRAIN, grain);
-		resources.getResources().put(ResourceType.ORE, ore);
-		return resources;
-	}
-
-	/**
-	 * Get {@code Robber} position from JSONObject.
-	 * @param jaRobber 
-	 *                JSONObject
-	 * @param board
-	 *             {@code Board} in {@code Game}
-	 * @return the Hex the robber is positioned on.
-	 */
-	public static Hex getRobberPosition(JSONObject jaRobber, Board board) {
-
-		int x = (int) jaRobber.get("x");
-		int y = (int) jaRobber.get("y");			
-		Hex hex = board.searchHex(x,y);
-
-		return hex;
-	}
-
-
-	/**
-	 * Get {@code Hex} position from JSONObject.
-	 * @param jaHex
-	 *             JSONObject
+	 * Get {@code Hex} position from decoded coordinates.
+	 * @param coordinates
+	 *                   the {@code Coordinates} of the hexagon
 	 * @param board 
 	 *             {@code Board} in {@code Game}
 	 * @return the xy position of hexagon in String
 	 */
-	public static String getHexPosition(JSONObject jaHex, Board board) {
-		String position="";		
-
-		JSONObject joPosition = jaHex.getJSONObject(Attributes.POSITION.toString());
-
-		int x = (int) joPosition.get("x");
-		int y = (int) joPosition.get("y");
-		Hex hex = board.searchHex(x,y);
-		position=position+hex.getLocality();
-
-		return position;
+	public static String getHexPosition(Coordinates coordinates, Board board) {
+		Hex hex = board.searchHex(coordinates.getX(), coordinates.getY());
+		return hex.getLocality();
 	}
 
 	/**
-	 * Get the {@code Construction} position from JSONObject.
-	 * @param object
-	 *              JSONObject
+	 * Get the {@code Construction} position from decoded coordinates.
+	 * @param coordinates
+	 *                   the {@code Coordinates} of the hexagons nearby this construction
 	 * @param board
 	 *             {@code Board} in {@code Game}
 	 * @return the xy position of hexagons nearby this construction in String
@@ -109,73 +41,13 @@ public class ProtocolJSONObjectConverter {
 	 * @see Settlement
 	 * @see City
 	 */
-	public static String getPosition(JSONObject object, Board board) {
-		String position="";
-
-		JSONArray array = new JSONArray();
-		array = object.getJSONArray(Attributes.POSITION.toString());
-
-		JSONObject joPosition = new JSONObject();
-		for(int i=0;i<array.length();i++) {
-			joPosition = (JSONObject) array.get(i);
-			int x = (int) joPosition.get("x");
-			int y = (int) joPosition.get("y");
-			Hex hex = board.searchHex(x,y);
-			position=position+hex.getLocality();
-		}
-		return position;
-	}
-	
-	/**
-	 * Get the first {@code Road} position from JSONObject.
-	 * @param object
-	 *              JSONObject
-	 * @param board
-	 *             {@code Board} in {@code Game}
-	 * @return the xy position of hexagons nearby this road in String
-	 * @see Road
-	 */
-	public static String getStreetOnePosition(JSONObject object, Board board) {
-		String position="";
-
-		JSONArray array = new JSONArray();
-
-		array = object.getJSONArray(Attributes.STREAT_ONE.toString());
-
-		JSONObject joPosition = new JSONObject();
-		for(int i=0;i<array.length();i++) {
-			joPosition = (JSONObject) array.get(i);
-			int x = (int) joPosition.get("x");
-			int y = (int) joPosition.get("y");
-			Hex hex = board.searchHex(x,y);
-			position=position+hex.getLocality();
-		}
-		return position;
-	}
-	
-	/**
-	 * Get the second {@code Road} position from JSONObject.
-	 * @param object
-	 *              JSONObject
-	 * @param board
-	 *             {@code Board} in {@code Game}
-	 * @return the xy position of hexagons nearby this road in String
-	 * @see Road
-	 */
-	public static String getStreetTwoPosition(JSONObject object, Board board) {
-		String position="";
-
-		JSONArray array = new JSONArray();
-		array = object.getJSONArray(Attributes.STREAT_TWO.toString());
+	public static String getPosition(List<Coordinates> coordinates, Board board) {
+		StringBuilder position = new StringBuilder();
 
-		JSONObject joPosition = new JSONObject();
-		for(int i=0;i<array.length();i++) {
-			joPosition = (JSONObject) array.get(i);
-			int x = (int) joPosition.get("x");
-			int y = (int) joPosition.get("y");
-			Hex hex = board.searchHex(x,y);
-			position=position+hex.getLocality();
+		for (Coordinates hexCoordinates : coordinates) {
+			Hex hex = board.searchHex(hexCoordinates.getX(), hexCoordinates.getY());
+			position.append(hex.getLocality());
 		}
-		return position;
+		return position.toString();
 	}
 }
@@ -0,0 +1,75 @@
+package network.protocol;
+
+import org.json.JSONException;
+
+/**
+ * Reads a message one token at a time, independently of its {@code Encoding}. The caller asks for the tokens it expects
+ * in the order they appear and skips everything it is not interested in using {@link #skipValue()}. Malformed input
+ * causes a {@link JSONException}.
+ * @author Christoph Hermann
+ * @see JsonReader
+ * @see BinaryReader
+ */
+public interface ProtocolReader {
+
+	/**
+	 * Consumes the beginning of an object.
+	 */
+	void beginObject();
+
+	/**
+	 * Consumes the end of the current object.
+	 */
+	void endObject();
+
+	/**
+	 * Consumes the beginning of an array.
+	 */
+	void beginArray();
+
+	/**
+	 * Consumes the end of the current array.
+	 */
+	void endArray();
+
+	/**
+	 * Returns whether the current object or array has another element.
+	 * @return true, if there is another element. false, if the end of the object or array has been reached.
+	 */
+	boolean hasNext();
+
+	/**
+	 * Consumes the name of the next property of the current object.
+	 * @return the name of the property.
+	 */
+	String nextName();
+
+	/**
+	 * Consumes the next value, which must be a string.
+	 * @return the string.
+	 */
+	String nextString();
+
+	/**
+	 * Consumes the next value, which must be a number. Numbers with a fraction are truncated.
+	 * @return the number as int.
+	 */
+	int nextInt();
+
+	/**
+	 * Consumes the next value, which must be true or false.
+	 * @return the boolean.
+	 */
+	boolean nextBoolean();
+
+	/**
+	 * Consumes the next value, whatever it is, including all nested objects and arrays.
+	 */
+	void skipValue();
+
+	/**
+	 * Makes sure that the whole message has been read.
+	 */
+	void endDocument();
+
+}
@@ -1,10 +1,7 @@
 package network.protocol;
 
-import org.json.JSONObject;
-
+import game.player.PlayerColor;
 import game.resources.ResourceType;
-import game.resources.Resources;
-import javafx.scene.paint.Color;
 
 /**
  * A collection of functions for converting protocol Strings to other 
@@ -18,11 +15,11 @@ public class ProtocolStringConverter {
 	 * @param color the color.
 	 * @return the name of the color.
 	 */
-	public static String getName(Color color) {
-		if (color == Color.RED) return Attributes.RED.toString();
-		if (color == Color.ORANGE) return Attributes.ORANGE.toString();
-		if (color == Color.WHITE) return Attributes.WHITE.toString();
-		if (color == Color.BLUE) return Attributes.BLUE.toString();
+	public static String getName(PlayerColor color) {
+		if (color == PlayerColor.RED) return Attributes.RED.toString();
+		if (color == PlayerColor.ORANGE) return Attributes.ORANGE.toString();
+		if (color == PlayerColor.WHITE) return Attributes.WHITE.toString();
+		if (color == PlayerColor.BLUE) return Attributes.BLUE.toString();
 		return null;
 	}
 
@@ -32,11 +29,11 @@ public class ProtocolStringConverter {
 	 * @param colorName the name of the color.
 	 * @return the color.
 	 */
-	public static Color getColor(String colorName) {
-		if (colorName.equals(Attributes.RED.toString())) return Color.RED;
-		if (colorName.equals(Attributes.ORANGE.toString())) return Color.ORANGE;
-		if (colorName.equals(Attributes.WHITE.toString())) return Color.WHITE;
-		if (colorName.equals(Attributes.BLUE.toString())) return Color.BLUE;
+	public static PlayerColor getColor(String colorName) {
+		if (colorName.equals(Attributes.RED.toString())) return PlayerColor.RED;
+		if (colorName.equals(Attributes.ORANGE.toString())) return PlayerColor.ORANGE;
+		if (colorName.equals(Attributes.WHITE.toString())) return PlayerColor.WHITE;
+		if (colorName.equals(Attributes.BLUE.toString())) return PlayerColor.BLUE;
 		return null;
 	}
 
@@ -69,22 +66,4 @@ public class ProtocolStringConverter {
 		return null;
 	}
 
-	/**
-	 * Return the {@code Resources} which the protocol identifies 
-	 * with the specified JSONObject.
-	 * @param j_resources JSONObject resources
-	 * @return resources
-	 */
-	public static Resources getResources(JSONObject j_resources) {
-		int brick,grain,lumber,ore,wool;
-
-		brick = j_resources.optInt(Attributes.BRICK.toString());
-		grain = j_resources.optInt(Attributes.GRAIN.toString());
-		lumber = j_resources.optInt(Attributes.LUMBER.toString());
-		ore = j_resources.optInt(Attributes.ORE.toString());
-		wool =  j_resources.optInt(Attributes.WOOL.toString());
-
-		return new Resources(ResourceType.BRICK,brick,ResourceType.GRAIN,grain,ResourceType.LUMBER,lumber,ResourceType.ORE,ore,ResourceType.WOOL,wool);
-	}
-
 }
@@ -0,0 +1,189 @@
+package network.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
+import org.apache.logging.log4j.message.Message;
+import org.json.JSONException;
+
+/**
+ * Logs every message sent or received over the network to a dedicated logger. Tracing a message only keeps a reference
+ * to its encoded form, the readable text is created later by the asynchronous appender, so that neither the server nor
+ * the client waits for the log. Every message is logged with a marker named like its type, whose parent is
+ * {@link #PROTOCOL}. This allows to disable or sample single message types in the configuration of log4j, e.g. using
+ * a {@code MarkerFilter} or a {@link SamplingFilter}.
+ * @author Christoph Hermann
+ * @see SamplingFilter
+ */
+public final class ProtocolTrace {
+
+	/**
+	 * The logger for the protocol trace.
+	 */
+	private static final Logger logger = LogManager.getLogger(ProtocolTrace.class.getName());
+
+	/**
+	 * The parent of the markers of all message types.
+	 */
+	public static final Marker PROTOCOL = MarkerManager.getMarker("PROTOCOL");
+
+	/**
+	 * The markers of the message types, by the string representation of the type.
+	 */
+	private static final Map<String, Marker> markers = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates no instance, this class only offers static methods.
+	 */
+	private ProtocolTrace() {
+	}
+
+	/**
+	 * Returns whether the protocol is traced at all.
+	 * @return true, if messages are traced.
+	 */
+	public static boolean isEnabled() {
+		return logger.isInfoEnabled(PROTOCOL);
+	}
+
+	/**
+	 * Traces a received message.
+	 * @param peer the kind of the sender, e.g. client.
+	 * @param peerId the id of the sender or -1, if there is only one.
+	 * @param type the string representation of the type of the message.
+	 * @param encoding the {@link Encoding} of the message.
+	 * @param frame the message without line break or length prefix.
+	 */
+	public static void received(String peer, int peerId, String type, Encoding encoding, byte[] frame) {
+		if (isEnabled()) {
+			logger.info(markerOf(type), new TraceMessage(false, peer, peerId, encoding, frame, 0));
+		}
+	}
+
+	/**
+	 * Traces a sent message.
+	 * @param peer the kind of the recipient, e.g. client or room.
+	 * @param peerId the id of the recipient or -1, if there is only one.
+	 * @param type the string representation of the type of the message.
+	 * @param encoding the {@link Encoding} of the message.
+	 * @param encodedMessage the message including line break or length prefix, which must not be modified afterwards.
+	 */
+	public static void sent(String peer, int peerId, String type, Encoding encoding, byte[] encodedMessage) {
+		if (isEnabled()) {
+			int offset = encoding == Encoding.BINARY ? BinaryWriter.HEADER_LENGTH : 0;
+			logger.info(markerOf(type), new TraceMessage(true, peer, peerId, encoding, encodedMessage, offset));
+		}
+	}
+
+	/**
+	 * Returns the marker of a message type. The marker is created the first time it is needed.
+	 * @param type the string representation of the type.
+	 * @return the {@link Marker}.
+	 */
+	private static Marker markerOf(String type) {
+		return markers.computeIfAbsent(type, name -> MarkerManager.getMarker(name).setParents(PROTOCOL));
+	}
+
+	/**
+	 * A traced message, which is converted into readable text only when it is written to the log.
+	 */
+	@AsynchronouslyFormattable
+	private static final class TraceMessage implements Message {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Whether the message has been sent. false, if it has been received.
+		 */
+		private final boolean sent;
+
+		/**
+		 * The kind of the sender or recipient.
+		 */
+		private final String peer;
+
+		/**
+		 * The id of the sender or recipient or -1, if there is only one.
+		 */
+		private final int peerId;
+
+		/**
+		 * The encoding of the message.
+		 */
+		private final Encoding encoding;
+
+		/**
+		 * The encoded message.
+		 */
+		private final byte[] data;
+
+		/**
+		 * The index of the first byte of the message without length prefix.
+		 */
+		private final int offset;
+
+		/**
+		 * Creates a new traced message.
+		 * @param sent true, if the message has been sent. false, if it has been received.
+		 * @param peer the kind of the sender or recipient.
+		 * @param peerId the id of the sender or recipient or -1, if there is only one.
+		 * @param encoding the {@link Encoding} of the message.
+		 * @param data the encoded message.
+		 * @param offset the index of the first byte of the message without length prefix.
+		 */
+		private TraceMessage(boolean sent, String peer, int peerId, Encoding encoding, byte[] data, int offset) {
+			this.sent = sent;
+			this.peer = peer;
+			this.peerId = peerId;
+			this.encoding = encoding;
+			this.data = data;
+			this.offset = offset;
+		}
+
+		@Override
+		public String getFormattedMessage() {
+			StringBuilder builder = new StringBuilder(data.length + 32);
+			builder.append(sent ? "Send to " : "Received from ").append(peer);
+			if (peerId >= 0) {
+				builder.append(' ').append(peerId);
+			}
+			builder.append(": ");
+
+			if (encoding == Encoding.JSON) {
+				String line = new String(data, offset, data.length - offset, StandardCharsets.UTF_8);
+				builder.append(line.trim());
+			} else {
+				try {
+					builder.append(encoding.decode(Arrays.copyOfRange(data, offset, data.length)));
+				} catch (JSONException exception) {
+					builder.append("<malformed ").append(data.length - offset).append(" bytes>");
+				}
+			}
+			return builder.toString();
+		}
+
+		@Override
+		public String getFormat() {
+			return "";
+		}
+
+		@Override
+		public Object[] getParameters() {
+			return null;
+		}
+
+		@Override
+		public Throwable getThrowable() {
+			return null;
+		}
+
+	}
+
+}
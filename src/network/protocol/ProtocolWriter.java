@@ -0,0 +1,63 @@
+package network.protocol;
+
+/**
+ * Writes a message one token at a time, independently of its {@code Encoding}.
+ * @author Christoph Hermann
+ * @see JsonWriter
+ * @see BinaryWriter
+ */
+public interface ProtocolWriter {
+
+	/**
+	 * Begins a new object.
+	 * @return this writer.
+	 */
+	ProtocolWriter beginObject();
+
+	/**
+	 * Ends the current object.
+	 * @return this writer.
+	 */
+	ProtocolWriter endObject();
+
+	/**
+	 * Begins a new array.
+	 * @return this writer.
+	 */
+	ProtocolWriter beginArray();
+
+	/**
+	 * Ends the current array.
+	 * @return this writer.
+	 */
+	ProtocolWriter endArray();
+
+	/**
+	 * Writes the name of the next property of the current object.
+	 * @param name the name of the property.
+	 * @return this writer.
+	 */
+	ProtocolWriter name(String name);
+
+	/**
+	 * Writes a string value.
+	 * @param value the string or null.
+	 * @return this writer.
+	 */
+	ProtocolWriter value(String value);
+
+	/**
+	 * Writes a number value.
+	 * @param value the number.
+	 * @return this writer.
+	 */
+	ProtocolWriter value(int value);
+
+	/**
+	 * Writes a boolean value.
+	 * @param value the boolean.
+	 * @return this writer.
+	 */
+	ProtocolWriter value(boolean value);
+
+}
@@ -0,0 +1,99 @@
+package network.protocol;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ * A log4j filter, which lets only every n-th event with a certain marker pass. Events without this marker are left to
+ * the other filters. Used to sample frequent message types of the {@link ProtocolTrace}, e.g.
+ * {@code <SamplingFilter marker="Statusupdate" rate="10"/>} logs only every tenth status update.
+ * @author Christoph Hermann
+ * @see ProtocolTrace
+ */
+@Plugin(name = "SamplingFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class SamplingFilter extends AbstractFilter {
+
+	/**
+	 * The name of the marker of the sampled events.
+	 */
+	private final String marker;
+
+	/**
+	 * Only every n-th event passes. 0, if no event passes.
+	 */
+	private final int rate;
+
+	/**
+	 * The number of events with the marker so far.
+	 */
+	private final AtomicLong counter = new AtomicLong();
+
+	/**
+	 * Creates a new filter.
+	 * @param marker the name of the marker of the sampled events.
+	 * @param rate only every n-th event passes.
+	 */
+	private SamplingFilter(String marker, int rate) {
+		super(Result.NEUTRAL, Result.DENY);
+		this.marker = marker;
+		this.rate = rate;
+	}
+
+	@Override
+	public Result filter(Logger logger, Level level, Marker marker, Message message, Throwable throwable) {
+		return filter(marker);
+	}
+
+	@Override
+	public Result filter(LogEvent event) {
+		return filter(event.getMarker());
+	}
+
+	/**
+	 * Decides whether an event passes.
+	 * @param eventMarker the {@link Marker} of the event.
+	 * @return neutral, if the event has not the marker or is sampled. deny, otherwise.
+	 */
+	private Result filter(Marker eventMarker) {
+		if (eventMarker == null || !eventMarker.isInstanceOf(marker)) {
+			return Result.NEUTRAL;
+		}
+		if (rate == 0) {
+			return onMismatch;
+		}
+		return counter.getAndIncrement() % rate == 0 ? onMatch : onMismatch;
+	}
+
+	@Override
+	public String toString() {
+		return "marker=" + marker + ", rate=" + rate;
+	}
+
+	/**
+	 * Creates a new filter from the configuration.
+	 * @param marker the name of the marker of the sampled events.
+	 * @param rate only every n-th event passes. 0 disables the events completely.
+	 * @return the {@link SamplingFilter}.
+	 */
+	@PluginFactory
+	public static SamplingFilter createFilter(@PluginAttribute("marker") String marker,
+			@PluginAttribute(value = "rate", defaultInt = 1) int rate) {
+		if (marker == null) {
+			LOGGER.error("A marker is required for the SamplingFilter.");
+			return null;
+		}
+		return new SamplingFilter(marker, Math.max(rate, 0));
+	}
+
+}
@@ -0,0 +1,89 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to accept or decline a trade offered by another player.
+ * @author Christoph Hermann
+ * @see ServerTypes#ACCEPT_TRADE
+ */
+public class AcceptTradeMessage extends Message {
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * Whether the trade is accepted or declined.
+	 */
+	private final boolean accepted;
+
+	/**
+	 * Creates a new message accepting or declining a trade.
+	 * @param tradeId the id of the trade.
+	 * @param accepted true, if the trade is accepted. false, if it is declined.
+	 */
+	public AcceptTradeMessage(int tradeId, boolean accepted) {
+		this.tradeId = tradeId;
+		this.accepted = accepted;
+	}
+
+	/**
+	 * Decodes the payload of a message accepting or declining a trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static AcceptTradeMessage decode(ProtocolReader reader) {
+		Integer tradeId = null;
+		Boolean accepted = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else if (name.equals(Attributes.ACCEPT.toString())) {
+				accepted = reader.nextBoolean();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new AcceptTradeMessage(PayloadFields.require(tradeId, Attributes.TRADING_ID),
+				PayloadFields.require(accepted, Attributes.ACCEPT));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.ACCEPT_TRADE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+		writer.name(Attributes.ACCEPT.toString()).value(accepted);
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+	/**
+	 * Returns whether the trade is accepted or declined.
+	 * @return true, if the trade is accepted. false, if it is declined.
+	 */
+	public boolean isAccepted() {
+		return accepted;
+	}
+
+}
@@ -0,0 +1,92 @@
+package network.protocol.messages;
+
+import java.util.List;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to build a road, settlement or city.
+ * @author Christoph Hermann
+ * @see ServerTypes#BUILD
+ */
+public class BuildMessage extends Message {
+
+	/**
+	 * The protocol name of the type of the construction.
+	 */
+	private final String constructionType;
+
+	/**
+	 * The hexagons touching the corner or edge the construction is built on.
+	 */
+	private final List<Coordinates> position;
+
+	/**
+	 * Creates a new message building a construction.
+	 * @param constructionType the protocol name of the type of the construction.
+	 * @param position the hexagons touching the corner or edge the construction is built on.
+	 */
+	public BuildMessage(String constructionType, List<Coordinates> position) {
+		this.constructionType = constructionType;
+		this.position = position;
+	}
+
+	/**
+	 * Decodes the payload of a message building a construction.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static BuildMessage decode(ProtocolReader reader) {
+		String constructionType = null;
+		List<Coordinates> position = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.TYPE.toString())) {
+				constructionType = reader.nextString();
+			} else if (name.equals(Attributes.POSITION.toString())) {
+				position = Coordinates.readList(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new BuildMessage(PayloadFields.require(constructionType, Attributes.TYPE),
+				PayloadFields.require(position, Attributes.POSITION));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.BUILD;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.TYPE.toString()).value(constructionType);
+		writer.name(Attributes.POSITION.toString());
+		Coordinates.writeList(writer, position);
+	}
+
+	/**
+	 * Returns the protocol name of the type of the construction.
+	 * @return the type of the construction.
+	 */
+	public String getConstructionType() {
+		return constructionType;
+	}
+
+	/**
+	 * Returns the hexagons touching the corner or edge the construction is built on.
+	 * @return the list of {@link Coordinates}.
+	 */
+	public List<Coordinates> getPosition() {
+		return position;
+	}
+
+}
@@ -0,0 +1,68 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a construction has been built.
+ * @author Christoph Hermann
+ * @see ClientTypes#BUILDING
+ */
+public class BuildingMessage extends ClientMessage {
+
+	/**
+	 * The construction which has been built.
+	 */
+	private final ConstructionInfo construction;
+
+	/**
+	 * Creates a new message announcing a construction.
+	 * @param construction the {@link ConstructionInfo} describing the construction which has been built.
+	 */
+	public BuildingMessage(ConstructionInfo construction) {
+		this.construction = construction;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a construction.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static BuildingMessage decode(ProtocolReader reader) {
+		ConstructionInfo construction = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.CONSTRUCTIONS.toString())) {
+				construction = ConstructionInfo.read(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new BuildingMessage(PayloadFields.require(construction, Attributes.CONSTRUCTIONS));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.BUILDING;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.CONSTRUCTIONS.toString());
+		construction.write(writer);
+	}
+
+	/**
+	 * Returns the construction which has been built.
+	 * @return the {@link ConstructionInfo}.
+	 */
+	public ConstructionInfo getConstruction() {
+		return construction;
+	}
+
+}
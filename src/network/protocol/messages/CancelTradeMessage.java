@@ -0,0 +1,67 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to cancel a trade it offered or accepted.
+ * @author Christoph Hermann
+ * @see ServerTypes#CANCEL_TRADE
+ */
+public class CancelTradeMessage extends Message {
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * Creates a new message cancelling a trade.
+	 * @param tradeId the id of the trade.
+	 */
+	public CancelTradeMessage(int tradeId) {
+		this.tradeId = tradeId;
+	}
+
+	/**
+	 * Decodes the payload of a message cancelling a trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static CancelTradeMessage decode(ProtocolReader reader) {
+		Integer tradeId = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new CancelTradeMessage(PayloadFields.require(tradeId, Attributes.TRADING_ID));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.CANCEL_TRADE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+}
@@ -0,0 +1,98 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients to pass on a chat message.
+ * @author Christoph Hermann
+ * @see ClientTypes#CHATMESSAGE
+ */
+public class ChatBroadcastMessage extends ClientMessage {
+
+	/**
+	 * The id of the user who wrote the message or null, if the server wrote it.
+	 */
+	private final Integer sender;
+
+	/**
+	 * The text of the message.
+	 */
+	private final String text;
+
+	/**
+	 * Creates a new chat message.
+	 * @param sender the id of the user who wrote the message or null, if the server wrote it.
+	 * @param text the text of the message.
+	 */
+	public ChatBroadcastMessage(Integer sender, String text) {
+		this.sender = sender;
+		this.text = text;
+	}
+
+	/**
+	 * Decodes the payload of a chat message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static ChatBroadcastMessage decode(ProtocolReader reader) {
+		Integer sender = null;
+		String text = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.SENDER.toString())) {
+				sender = reader.nextInt();
+			} else if (name.equals(Attributes.MESSAGE.toString())) {
+				text = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new ChatBroadcastMessage(sender, PayloadFields.require(text, Attributes.MESSAGE));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.CHATMESSAGE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (sender != null) {
+			writer.name(Attributes.SENDER.toString()).value(sender);
+		}
+		writer.name(Attributes.MESSAGE.toString()).value(text);
+	}
+
+	/**
+	 * Returns whether a user wrote the message.
+	 * @return true, if a user wrote the message. false, if the server wrote it.
+	 */
+	public boolean hasSender() {
+		return sender != null;
+	}
+
+	/**
+	 * Returns the id of the user who wrote the message.
+	 * @return the id of the user. Must only be called if {@link #hasSender()} returns true.
+	 */
+	public int getSender() {
+		return sender;
+	}
+
+	/**
+	 * Returns the text of the message.
+	 * @return the text of the message.
+	 */
+	public String getText() {
+		return text;
+	}
+
+}
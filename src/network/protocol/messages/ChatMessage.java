@@ -0,0 +1,67 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents a chat message sent by a client.
+ * @author Christoph Hermann
+ * @see ServerTypes#SEND_CHATMESSAGE
+ */
+public class ChatMessage extends Message {
+
+	/**
+	 * The text of the chat message.
+	 */
+	private final String text;
+
+	/**
+	 * Creates a new chat message.
+	 * @param text the text of the chat message.
+	 */
+	public ChatMessage(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * Decodes the payload of a chat message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static ChatMessage decode(ProtocolReader reader) {
+		String text = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.MESSAGE.toString())) {
+				text = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new ChatMessage(PayloadFields.require(text, Attributes.MESSAGE));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.SEND_CHATMESSAGE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.MESSAGE.toString()).value(text);
+	}
+
+	/**
+	 * Returns the text of the chat message.
+	 * @return the text.
+	 */
+	public String getText() {
+		return text;
+	}
+
+}
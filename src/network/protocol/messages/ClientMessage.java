@@ -0,0 +1,20 @@
+package network.protocol.messages;
+
+import network.protocol.ClientTypes;
+
+/**
+ * Represents a message sent from the server to a client. A message copies the mutable values it is created of, because
+ * a local client receives the message itself, which may happen after the server has changed them.
+ * @author Christoph Hermann
+ * @see ClientMessageCodec
+ */
+public abstract class ClientMessage extends ProtocolMessage {
+
+	/**
+	 * Returns the type of this message.
+	 * @return the {@link ClientTypes type} of this message.
+	 */
+	@Override
+	public abstract ClientTypes getType();
+
+}
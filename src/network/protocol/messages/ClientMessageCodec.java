@@ -0,0 +1,113 @@
+package network.protocol.messages;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONException;
+
+import network.protocol.BinaryReader;
+import network.protocol.ClientTypes;
+import network.protocol.Encoding;
+import network.protocol.JsonReader;
+import network.protocol.ProtocolReader;
+
+/**
+ * Decodes the messages sent from the server to a client straight into typed {@code ClientMessages}. Every message is a
+ * single object with exactly one property, whose name is the type of the message and whose value is the payload. The
+ * payload is read token by token by the decoder registered for the type, so no {@code JSONObject} is built, no matter
+ * which {@code Encoding} the message uses.
+ * @author Christoph Hermann
+ * @see ClientMessage
+ * @see ClientMessageDecoder
+ * @see MessageCodec
+ */
+public final class ClientMessageCodec {
+
+	/**
+	 * The decoders of all known message types, mapped by the name of the type.
+	 */
+	private static final Map<String, ClientMessageDecoder> DECODERS;
+
+	static {
+		Map<String, ClientMessageDecoder> decoders = new HashMap<>();
+		decoders.put(ClientTypes.HELLO.toString(), ServerHelloMessage::decode);
+		decoders.put(ClientTypes.WELCOME.toString(), WelcomeMessage::decode);
+		decoders.put(ClientTypes.SERVER_REPLY.toString(), ServerReplyMessage::decode);
+		decoders.put(ClientTypes.CHATMESSAGE.toString(), ChatBroadcastMessage::decode);
+		decoders.put(ClientTypes.ERROR.toString(), ErrorMessage::decode);
+		decoders.put(ClientTypes.GAME_STARTED.toString(), GameStartedMessage::decode);
+		decoders.put(ClientTypes.GAME_FINISHED.toString(), GameFinishedMessage::decode);
+		decoders.put(ClientTypes.STATE_UPDATE.toString(), StateUpdateMessage::decode);
+		decoders.put(ClientTypes.DICE.toString(), DiceMessage::decode);
+		decoders.put(ClientTypes.RESOURCE_QUANTITY.toString(), ResourcesMessage.decoder(ClientTypes.RESOURCE_QUANTITY));
+		decoders.put(ClientTypes.PRICE.toString(), ResourcesMessage.decoder(ClientTypes.PRICE));
+		decoders.put(ClientTypes.ROBBER_MOVED.toString(), RobberMovedMessage::decode);
+		decoders.put(ClientTypes.BUILDING.toString(), BuildingMessage::decode);
+		decoders.put(ClientTypes.DEVELOMENTCARD_BOUGHT.toString(), DevelopmentCardBoughtMessage::decode);
+		decoders.put(ClientTypes.LONGEST_ROAD.toString(), SpecialCardMessage.decoder(ClientTypes.LONGEST_ROAD));
+		decoders.put(ClientTypes.LARGEST_ARMY.toString(), SpecialCardMessage.decoder(ClientTypes.LARGEST_ARMY));
+		decoders.put(ClientTypes.TRADE_OFFER.toString(), TradeOfferMessage::decode);
+		decoders.put(ClientTypes.TRADE_ACCEPTED.toString(), TradeAcceptedMessage::decode);
+		decoders.put(ClientTypes.TRADE_EXECUTED.toString(), TradeExecutedMessage::decode);
+		decoders.put(ClientTypes.TRADE_CANCELED.toString(), TradeCanceledMessage::decode);
+		decoders.put(ClientTypes.PLAY_YEAR_OF_PLENTY.toString(), YearOfPlentyPlayedMessage::decode);
+		decoders.put(ClientTypes.PLAY_KNIGHT.toString(), KnightPlayedMessage::decode);
+		decoders.put(ClientTypes.PLAY_ROAD_BUILDING.toString(), RoadBuildingPlayedMessage::decode);
+		decoders.put(ClientTypes.PLAY_MONOPOLY.toString(), MonopolyPlayedMessage::decode);
+		DECODERS = Collections.unmodifiableMap(decoders);
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private ClientMessageCodec() {
+	}
+
+	/**
+	 * Decodes a single message encoded using JSON.
+	 * @param line the message as received from the server, without the terminating line break.
+	 * @return the decoded {@link ClientMessage}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 */
+	public static ClientMessage decode(String line) {
+		return decode(new JsonReader(line));
+	}
+
+	/**
+	 * Decodes a single message encoded using the compact binary encoding.
+	 * @param frame the message as received from the server, without the length prefix.
+	 * @return the decoded {@link ClientMessage}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 * @see Encoding#BINARY
+	 */
+	public static ClientMessage decode(byte[] frame) {
+		return decode(new BinaryReader(frame));
+	}
+
+	/**
+	 * Decodes a single message from the specified reader, which must contain nothing else.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded {@link ClientMessage}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 */
+	public static ClientMessage decode(ProtocolReader reader) {
+		reader.beginObject();
+
+		if (!reader.hasNext()) {
+			throw new JSONException("Message without type");
+		}
+		String type = reader.nextName();
+		ClientMessageDecoder decoder = DECODERS.get(type);
+
+		if (decoder == null) {
+			throw new JSONException("Unknown message type " + type);
+		}
+		ClientMessage message = decoder.decode(reader);
+
+		reader.endObject();
+		reader.endDocument();
+		return message;
+	}
+
+}
@@ -0,0 +1,20 @@
+package network.protocol.messages;
+
+import network.protocol.ProtocolReader;
+
+/**
+ * Decodes the payload of a single type of message sent from the server to a client.
+ * @author Christoph Hermann
+ * @see ClientMessageCodec
+ */
+@FunctionalInterface
+public interface ClientMessageDecoder {
+
+	/**
+	 * Decodes the payload of a message. The reader is positioned in front of the value containing the payload.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded {@link ClientMessage}.
+	 */
+	ClientMessage decode(ProtocolReader reader);
+
+}
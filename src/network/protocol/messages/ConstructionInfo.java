@@ -0,0 +1,132 @@
+package network.protocol.messages;
+
+import java.util.List;
+
+import game.board.construction.Construction;
+import game.board.construction.localities.City;
+import game.board.construction.localities.Locality;
+import game.board.construction.roads.Road;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents a construction on the board as it is described to the clients: its owner, its type and the hexagons
+ * touching the corner or edge it has been built on.
+ * @author Christoph Hermann
+ * @see GameStartedMessage
+ * @see BuildingMessage
+ */
+public final class ConstructionInfo {
+
+	/**
+	 * The id of the owner.
+	 */
+	private final int owner;
+
+	/**
+	 * The protocol name of the type of the construction.
+	 */
+	private final String type;
+
+	/**
+	 * The hexagons touching the corner or edge the construction has been built on.
+	 */
+	private final List<Coordinates> position;
+
+	/**
+	 * Creates a new description of a construction.
+	 * @param owner the id of the owner.
+	 * @param type the protocol name of the type of the construction.
+	 * @param position the hexagons touching the corner or edge the construction has been built on.
+	 */
+	public ConstructionInfo(int owner, String type, List<Coordinates> position) {
+		this.owner = owner;
+		this.type = type;
+		this.position = position;
+	}
+
+	/**
+	 * Describes a construction on the board.
+	 * @param construction the {@link Construction}.
+	 * @return the description of the construction.
+	 */
+	public static ConstructionInfo of(Construction construction) {
+		int owner = construction.getOwner().getId();
+
+		if (construction instanceof Road) {
+			return new ConstructionInfo(owner, Attributes.ROAD.toString(),
+					Coordinates.of(((Road) construction).getPosition()));
+		}
+		String type = construction instanceof City ? Attributes.CITY.toString() : Attributes.SETTLEMENT.toString();
+		return new ConstructionInfo(owner, type, Coordinates.of(((Locality) construction).getPosition()));
+	}
+
+	/**
+	 * Reads the description of a construction.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the description of the construction.
+	 */
+	static ConstructionInfo read(ProtocolReader reader) {
+		Integer owner = null;
+		String type = null;
+		List<Coordinates> position = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.OWNER.toString())) {
+				owner = reader.nextInt();
+			} else if (name.equals(Attributes.TYPE.toString())) {
+				type = reader.nextString();
+			} else if (name.equals(Attributes.POSITION.toString())) {
+				position = Coordinates.readList(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new ConstructionInfo(PayloadFields.require(owner, Attributes.OWNER),
+				PayloadFields.require(type, Attributes.TYPE), PayloadFields.require(position, Attributes.POSITION));
+	}
+
+	/**
+	 * Writes the description of this construction as an object.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 */
+	void write(ProtocolWriter writer) {
+		writer.beginObject();
+		writer.name(Attributes.OWNER.toString()).value(owner);
+		writer.name(Attributes.POSITION.toString());
+		Coordinates.writeList(writer, position);
+		writer.name(Attributes.TYPE.toString()).value(type);
+		writer.endObject();
+	}
+
+	/**
+	 * Returns the id of the owner.
+	 * @return the id of the owner.
+	 */
+	public int getOwner() {
+		return owner;
+	}
+
+	/**
+	 * Returns the protocol name of the type of the construction.
+	 * @return the type of the construction.
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the hexagons touching the corner or edge the construction has been built on.
+	 * @return the list of {@link Coordinates}.
+	 */
+	public List<Coordinates> getPosition() {
+		return position;
+	}
+
+}
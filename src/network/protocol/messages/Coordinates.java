@@ -0,0 +1,170 @@
+package network.protocol.messages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.json.JSONException;
+
+import game.board.corners.Corner;
+import game.board.edges.Edge;
+import game.board.hexes.Hex;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the x and y coordinates of a hexagon, as they are used by the protocol to describe positions on the board.
+ * Corners and edges are described by the list of the hexagons they touch.
+ * @author Christoph Hermann
+ */
+public final class Coordinates {
+
+	/**
+	 * The x coordinate.
+	 */
+	private final int x;
+
+	/**
+	 * The y coordinate.
+	 */
+	private final int y;
+
+	/**
+	 * Creates new coordinates.
+	 * @param x the x coordinate.
+	 * @param y the y coordinate.
+	 */
+	public Coordinates(int x, int y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Returns the coordinates of a hexagon.
+	 * @param hex the {@link Hex}.
+	 * @return the coordinates.
+	 */
+	public static Coordinates of(Hex hex) {
+		return new Coordinates(hex.getxPosAxialHex(), hex.getyPosAxialHex());
+	}
+
+	/**
+	 * Returns the coordinates of the hexagons touching a corner.
+	 * @param corner the {@link Corner}.
+	 * @return the list of coordinates.
+	 */
+	public static List<Coordinates> of(Corner corner) {
+		return of(corner.getAdjacentHexesOfCorner());
+	}
+
+	/**
+	 * Returns the coordinates of the hexagons touching an edge.
+	 * @param edge the {@link Edge}.
+	 * @return the list of coordinates.
+	 */
+	public static List<Coordinates> of(Edge edge) {
+		return of(edge.getAdjacentHexesOfEdge());
+	}
+
+	/**
+	 * Returns the coordinates of the specified hexagons.
+	 * @param hexes the list of {@link Hex hexagons}.
+	 * @return the list of coordinates.
+	 */
+	private static List<Coordinates> of(List<Hex> hexes) {
+		List<Coordinates> list = new ArrayList<>(hexes.size());
+
+		for (Hex hex : hexes) {
+			list.add(of(hex));
+		}
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * Reads coordinates from an object containing the properties x and y.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the coordinates.
+	 */
+	static Coordinates read(ProtocolReader reader) {
+		Integer x = null;
+		Integer y = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.X.toString())) {
+				x = reader.nextInt();
+			} else if (name.equals(Attributes.Y.toString())) {
+				y = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		if (x == null || y == null) {
+			throw new JSONException("Coordinates incomplete");
+		}
+		return new Coordinates(x, y);
+	}
+
+	/**
+	 * Reads an array of coordinates.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the list of coordinates.
+	 */
+	static List<Coordinates> readList(ProtocolReader reader) {
+		List<Coordinates> list = new ArrayList<>(3);
+
+		reader.beginArray();
+		while (reader.hasNext()) {
+			list.add(read(reader));
+		}
+		reader.endArray();
+
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * Writes these coordinates as an object containing the properties x and y.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 */
+	void write(ProtocolWriter writer) {
+		writer.beginObject();
+		writer.name(Attributes.X.toString()).value(x);
+		writer.name(Attributes.Y.toString()).value(y);
+		writer.endObject();
+	}
+
+	/**
+	 * Writes the specified list of coordinates as an array.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 * @param list the list of coordinates.
+	 */
+	static void writeList(ProtocolWriter writer, List<Coordinates> list) {
+		writer.beginArray();
+		for (Coordinates coordinates : list) {
+			coordinates.write(writer);
+		}
+		writer.endArray();
+	}
+
+	/**
+	 * Returns the x coordinate.
+	 * @return the x coordinate.
+	 */
+	public int getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the y coordinate.
+	 * @return the y coordinate.
+	 */
+	public int getY() {
+		return y;
+	}
+
+}
@@ -0,0 +1,90 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has bought a development card. Only the buyer
+ * is told the type of the card, everybody else is told {@link Attributes#UNKNOWN}.
+ * @author Christoph Hermann
+ * @see ClientTypes#DEVELOMENTCARD_BOUGHT
+ */
+public class DevelopmentCardBoughtMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who bought the card.
+	 */
+	private final int player;
+
+	/**
+	 * The protocol name of the type of the card.
+	 */
+	private final String card;
+
+	/**
+	 * Creates a new message announcing a bought development card.
+	 * @param player the id of the player who bought the card.
+	 * @param card the protocol name of the type of the card.
+	 */
+	public DevelopmentCardBoughtMessage(int player, String card) {
+		this.player = player;
+		this.card = card;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a bought development card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static DevelopmentCardBoughtMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		String card = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.DEVELOMENTCARD.toString())) {
+				card = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new DevelopmentCardBoughtMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(card, Attributes.DEVELOMENTCARD));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.DEVELOMENTCARD_BOUGHT;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.DEVELOMENTCARD.toString()).value(card);
+		writer.name(Attributes.PLAYER.toString()).value(player);
+	}
+
+	/**
+	 * Returns the id of the player who bought the card.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the protocol name of the type of the card.
+	 * @return the type of the card or {@link Attributes#UNKNOWN}.
+	 */
+	public String getCard() {
+		return card;
+	}
+
+}
@@ -0,0 +1,132 @@
+package network.protocol.messages;
+
+import org.json.JSONException;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has rolled the dice.
+ * @author Christoph Hermann
+ * @see ClientTypes#DICE
+ */
+public class DiceMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who rolled the dice.
+	 */
+	private final int player;
+
+	/**
+	 * The number of the first die.
+	 */
+	private final int dieOne;
+
+	/**
+	 * The number of the second die.
+	 */
+	private final int dieTwo;
+
+	/**
+	 * Creates a new message announcing the rolled dice.
+	 * @param player the id of the player who rolled the dice.
+	 * @param dieOne the number of the first die.
+	 * @param dieTwo the number of the second die.
+	 */
+	public DiceMessage(int player, int dieOne, int dieTwo) {
+		this.player = player;
+		this.dieOne = dieOne;
+		this.dieTwo = dieTwo;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing the rolled dice.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static DiceMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		int[] dice = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.DICE_VALUE.toString())) {
+				dice = readDice(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		PayloadFields.require(dice, Attributes.DICE_VALUE);
+		return new DiceMessage(PayloadFields.require(player, Attributes.PLAYER), dice[0], dice[1]);
+	}
+
+	/**
+	 * Reads the array containing the numbers of both dice.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the numbers of both dice.
+	 */
+	private static int[] readDice(ProtocolReader reader) {
+		int[] dice = new int[2];
+		int numberOfDice = 0;
+
+		reader.beginArray();
+		while (reader.hasNext()) {
+			if (numberOfDice < dice.length) {
+				dice[numberOfDice] = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+			numberOfDice++;
+		}
+		reader.endArray();
+
+		if (numberOfDice < dice.length) {
+			throw new JSONException("Property " + Attributes.DICE_VALUE + " incomplete");
+		}
+		return dice;
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.DICE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.DICE_VALUE.toString()).beginArray().value(dieOne).value(dieTwo).endArray();
+	}
+
+	/**
+	 * Returns the id of the player who rolled the dice.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the number of the first die.
+	 * @return the number of the first die.
+	 */
+	public int getDieOne() {
+		return dieOne;
+	}
+
+	/**
+	 * Returns the number of the second die.
+	 * @return the number of the second die.
+	 */
+	public int getDieTwo() {
+		return dieTwo;
+	}
+
+}
@@ -0,0 +1,67 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to tell a client that its name or color is not valid.
+ * @author Christoph Hermann
+ * @see ClientTypes#ERROR
+ */
+public class ErrorMessage extends ClientMessage {
+
+	/**
+	 * The description of the error.
+	 */
+	private final String report;
+
+	/**
+	 * Creates a new error message.
+	 * @param report the description of the error.
+	 */
+	public ErrorMessage(String report) {
+		this.report = report;
+	}
+
+	/**
+	 * Decodes the payload of an error message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static ErrorMessage decode(ProtocolReader reader) {
+		String report = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.REPORT.toString())) {
+				report = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new ErrorMessage(PayloadFields.require(report, Attributes.REPORT));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.ERROR;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.REPORT.toString()).value(report);
+	}
+
+	/**
+	 * Returns the description of the error.
+	 * @return the description of the error.
+	 */
+	public String getReport() {
+		return report;
+	}
+
+}
@@ -0,0 +1,89 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to execute its trade with one of the players who accepted it.
+ * @author Christoph Hermann
+ * @see ServerTypes#FINISH_TRADE
+ */
+public class FinishTradeMessage extends Message {
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * The id of the player the trade is executed with.
+	 */
+	private final int fellowPlayerId;
+
+	/**
+	 * Creates a new message executing a trade.
+	 * @param tradeId the id of the trade.
+	 * @param fellowPlayerId the id of the player the trade is executed with.
+	 */
+	public FinishTradeMessage(int tradeId, int fellowPlayerId) {
+		this.tradeId = tradeId;
+		this.fellowPlayerId = fellowPlayerId;
+	}
+
+	/**
+	 * Decodes the payload of a message executing a trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static FinishTradeMessage decode(ProtocolReader reader) {
+		Integer tradeId = null;
+		Integer fellowPlayerId = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else if (name.equals(Attributes.FELLOW_PLAYER.toString())) {
+				fellowPlayerId = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new FinishTradeMessage(PayloadFields.require(tradeId, Attributes.TRADING_ID),
+				PayloadFields.require(fellowPlayerId, Attributes.FELLOW_PLAYER));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.FINISH_TRADE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+		writer.name(Attributes.FELLOW_PLAYER.toString()).value(fellowPlayerId);
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+	/**
+	 * Returns the id of the player the trade is executed with.
+	 * @return the id of the fellow player.
+	 */
+	public int getFellowPlayerId() {
+		return fellowPlayerId;
+	}
+
+}
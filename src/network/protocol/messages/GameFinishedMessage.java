@@ -0,0 +1,90 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has won the game.
+ * @author Christoph Hermann
+ * @see ClientTypes#GAME_FINISHED
+ */
+public class GameFinishedMessage extends ClientMessage {
+
+	/**
+	 * The text announcing the winner.
+	 */
+	private final String text;
+
+	/**
+	 * The id of the winner.
+	 */
+	private final int winner;
+
+	/**
+	 * Creates a new message finishing the game.
+	 * @param text the text announcing the winner.
+	 * @param winner the id of the winner.
+	 */
+	public GameFinishedMessage(String text, int winner) {
+		this.text = text;
+		this.winner = winner;
+	}
+
+	/**
+	 * Decodes the payload of a message finishing the game.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static GameFinishedMessage decode(ProtocolReader reader) {
+		String text = null;
+		Integer winner = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.MESSAGE.toString())) {
+				text = reader.nextString();
+			} else if (name.equals(Attributes.WINNER.toString())) {
+				winner = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new GameFinishedMessage(text, PayloadFields.require(winner, Attributes.WINNER));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.GAME_FINISHED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (text != null) {
+			writer.name(Attributes.MESSAGE.toString()).value(text);
+		}
+		writer.name(Attributes.WINNER.toString()).value(winner);
+	}
+
+	/**
+	 * Returns the text announcing the winner.
+	 * @return the text or null, if the server sent none.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the id of the winner.
+	 * @return the id of the winner.
+	 */
+	public int getWinner() {
+		return winner;
+	}
+
+}
@@ -0,0 +1,404 @@
+package network.protocol.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import game.board.Board;
+import game.board.construction.Construction;
+import game.board.harbors.Harbor;
+import game.board.harbors.HarborType;
+import game.board.hexes.Hex;
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when the game has started. It describes the board: every
+ * hexagon with its type and number, the constructions already built, the harbors and the position of the robber.
+ * @author Christoph Hermann
+ * @see ClientTypes#GAME_STARTED
+ */
+public class GameStartedMessage extends ClientMessage {
+
+	/**
+	 * The hexagons of the board.
+	 */
+	private final List<HexInfo> hexes;
+
+	/**
+	 * The constructions already built on the board.
+	 */
+	private final List<ConstructionInfo> constructions;
+
+	/**
+	 * The harbors of the board.
+	 */
+	private final List<HarborInfo> harbors;
+
+	/**
+	 * The position of the robber.
+	 */
+	private final Coordinates robber;
+
+	/**
+	 * Creates a new message describing a board.
+	 * @param hexes the hexagons of the board.
+	 * @param constructions the constructions already built on the board.
+	 * @param harbors the harbors of the board.
+	 * @param robber the position of the robber.
+	 */
+	public GameStartedMessage(List<HexInfo> hexes, List<ConstructionInfo> constructions, List<HarborInfo> harbors,
+			Coordinates robber) {
+		this.hexes = hexes;
+		this.constructions = constructions;
+		this.harbors = harbors;
+		this.robber = robber;
+	}
+
+	/**
+	 * Creates a message describing a board. Edges without harbor are left out.
+	 * @param board the {@link Board}.
+	 * @return the message.
+	 */
+	public static GameStartedMessage of(Board board) {
+		List<HexInfo> hexes = new ArrayList<>();
+		for (Hex hex : board.getHexes()) {
+			// Water hexes don't have tokens.
+			Integer number = hex.getToken() == null ? null : hex.getToken().getNumber();
+			hexes.add(new HexInfo(Coordinates.of(hex), hex.getType().toString(), number));
+		}
+
+		List<ConstructionInfo> constructions = new ArrayList<>();
+		for (Construction construction : board.getConstructions()) {
+			constructions.add(ConstructionInfo.of(construction));
+		}
+
+		List<HarborInfo> harbors = new ArrayList<>();
+		for (Harbor harbor : board.getHarbors()) {
+			if (harbor.getType() != HarborType.NONE) {
+				harbors.add(new HarborInfo(Coordinates.of(harbor.getPosition()), harbor.getType().toString()));
+			}
+		}
+
+		return new GameStartedMessage(hexes, constructions, harbors, Coordinates.of(board.getRobber().getPosition()));
+	}
+
+	/**
+	 * Decodes the payload of a GAME_STARTED message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static GameStartedMessage decode(ProtocolReader reader) {
+		GameStartedMessage message = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.BOARD.toString())) {
+				message = readBoard(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return PayloadFields.require(message, Attributes.BOARD);
+	}
+
+	/**
+	 * Reads the description of a board.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the message.
+	 */
+	private static GameStartedMessage readBoard(ProtocolReader reader) {
+		List<HexInfo> hexes = null;
+		List<ConstructionInfo> constructions = new ArrayList<>();
+		List<HarborInfo> harbors = new ArrayList<>();
+		Coordinates robber = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.HEXES.toString())) {
+				hexes = new ArrayList<>();
+				reader.beginArray();
+				while (reader.hasNext()) {
+					hexes.add(HexInfo.read(reader));
+				}
+				reader.endArray();
+			} else if (name.equals(Attributes.CONSTRUCTIONS.toString())) {
+				reader.beginArray();
+				while (reader.hasNext()) {
+					constructions.add(ConstructionInfo.read(reader));
+				}
+				reader.endArray();
+			} else if (name.equals(Attributes.HARBORS.toString())) {
+				reader.beginArray();
+				while (reader.hasNext()) {
+					harbors.add(HarborInfo.read(reader));
+				}
+				reader.endArray();
+			} else if (name.equals(Attributes.ROBBER.toString())) {
+				robber = Coordinates.read(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new GameStartedMessage(PayloadFields.require(hexes, Attributes.HEXES), constructions, harbors,
+				PayloadFields.require(robber, Attributes.ROBBER));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.GAME_STARTED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.BOARD.toString()).beginObject();
+
+		writer.name(Attributes.HEXES.toString()).beginArray();
+		for (HexInfo hex : hexes) {
+			hex.write(writer);
+		}
+		writer.endArray();
+
+		writer.name(Attributes.CONSTRUCTIONS.toString()).beginArray();
+		for (ConstructionInfo construction : constructions) {
+			construction.write(writer);
+		}
+		writer.endArray();
+
+		writer.name(Attributes.HARBORS.toString()).beginArray();
+		for (HarborInfo harbor : harbors) {
+			harbor.write(writer);
+		}
+		writer.endArray();
+
+		writer.name(Attributes.ROBBER.toString());
+		robber.write(writer);
+
+		writer.endObject();
+	}
+
+	/**
+	 * Returns the hexagons of the board.
+	 * @return the list of {@link HexInfo HexInfos}.
+	 */
+	public List<HexInfo> getHexes() {
+		return hexes;
+	}
+
+	/**
+	 * Returns the constructions already built on the board.
+	 * @return the list of {@link ConstructionInfo ConstructionInfos}.
+	 */
+	public List<ConstructionInfo> getConstructions() {
+		return constructions;
+	}
+
+	/**
+	 * Returns the harbors of the board.
+	 * @return the list of {@link HarborInfo HarborInfos}.
+	 */
+	public List<HarborInfo> getHarbors() {
+		return harbors;
+	}
+
+	/**
+	 * Returns the position of the robber.
+	 * @return the {@link Coordinates} of the hexagon.
+	 */
+	public Coordinates getRobber() {
+		return robber;
+	}
+
+	/**
+	 * Represents a hexagon of the board as it is described to the clients.
+	 */
+	public static final class HexInfo {
+
+		/**
+		 * The position of the hexagon.
+		 */
+		private final Coordinates position;
+
+		/**
+		 * The protocol name of the type of the hexagon.
+		 */
+		private final String type;
+
+		/**
+		 * The number of the token on the hexagon or null, if the hexagon has no token.
+		 */
+		private final Integer number;
+
+		/**
+		 * Creates a new description of a hexagon.
+		 * @param position the position of the hexagon.
+		 * @param type the protocol name of the type of the hexagon.
+		 * @param number the number of the token on the hexagon or null, if the hexagon has no token.
+		 */
+		public HexInfo(Coordinates position, String type, Integer number) {
+			this.position = position;
+			this.type = type;
+			this.number = number;
+		}
+
+		/**
+		 * Reads the description of a hexagon.
+		 * @param reader the {@link ProtocolReader} to read from.
+		 * @return the description of the hexagon.
+		 */
+		private static HexInfo read(ProtocolReader reader) {
+			Coordinates position = null;
+			String type = null;
+			Integer number = null;
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+
+				if (name.equals(Attributes.POSITION.toString())) {
+					position = Coordinates.read(reader);
+				} else if (name.equals(Attributes.TYPE.toString())) {
+					type = reader.nextString();
+				} else if (name.equals(Attributes.NUMBER.toString())) {
+					number = reader.nextInt();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			return new HexInfo(PayloadFields.require(position, Attributes.POSITION),
+					PayloadFields.require(type, Attributes.TYPE), number);
+		}
+
+		/**
+		 * Writes the description of this hexagon.
+		 * @param writer the {@link ProtocolWriter} to write to.
+		 */
+		private void write(ProtocolWriter writer) {
+			writer.beginObject();
+			writer.name(Attributes.POSITION.toString());
+			position.write(writer);
+			writer.name(Attributes.TYPE.toString()).value(type);
+			if (number != null) {
+				writer.name(Attributes.NUMBER.toString()).value(number);
+			}
+			writer.endObject();
+		}
+
+		/**
+		 * Returns the position of the hexagon.
+		 * @return the {@link Coordinates}.
+		 */
+		public Coordinates getPosition() {
+			return position;
+		}
+
+		/**
+		 * Returns the protocol name of the type of the hexagon.
+		 * @return the type.
+		 */
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * Returns the number of the token on the hexagon.
+		 * @return the number or 0, if the hexagon has no token.
+		 */
+		public int getNumber() {
+			return number == null ? 0 : number;
+		}
+
+	}
+
+	/**
+	 * Represents a harbor of the board as it is described to the clients.
+	 */
+	public static final class HarborInfo {
+
+		/**
+		 * The hexagons touching the edge of the harbor.
+		 */
+		private final List<Coordinates> position;
+
+		/**
+		 * The protocol name of the type of the harbor.
+		 */
+		private final String type;
+
+		/**
+		 * Creates a new description of a harbor.
+		 * @param position the hexagons touching the edge of the harbor.
+		 * @param type the protocol name of the type of the harbor.
+		 */
+		public HarborInfo(List<Coordinates> position, String type) {
+			this.position = position;
+			this.type = type;
+		}
+
+		/**
+		 * Reads the description of a harbor.
+		 * @param reader the {@link ProtocolReader} to read from.
+		 * @return the description of the harbor.
+		 */
+		private static HarborInfo read(ProtocolReader reader) {
+			List<Coordinates> position = null;
+			String type = null;
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+
+				if (name.equals(Attributes.POSITION.toString())) {
+					position = Coordinates.readList(reader);
+				} else if (name.equals(Attributes.TYPE.toString())) {
+					type = reader.nextString();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			return new HarborInfo(PayloadFields.require(position, Attributes.POSITION),
+					PayloadFields.require(type, Attributes.TYPE));
+		}
+
+		/**
+		 * Writes the description of this harbor.
+		 * @param writer the {@link ProtocolWriter} to write to.
+		 */
+		private void write(ProtocolWriter writer) {
+			writer.beginObject();
+			writer.name(Attributes.POSITION.toString());
+			Coordinates.writeList(writer, position);
+			writer.name(Attributes.TYPE.toString()).value(type);
+			writer.endObject();
+		}
+
+		/**
+		 * Returns the hexagons touching the edge of the harbor.
+		 * @return the list of {@link Coordinates}.
+		 */
+		public List<Coordinates> getPosition() {
+			return position;
+		}
+
+		/**
+		 * Returns the protocol name of the type of the harbor.
+		 * @return the type.
+		 */
+		public String getType() {
+			return type;
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the answer of a client to the HELLO message of the server.
+ * @author Christoph Hermann
+ * @see ServerTypes#HELLO
+ */
+public class HelloMessage extends Message {
+
+	/**
+	 * The version of the client.
+	 */
+	private final String version;
+
+	/**
+	 * The id of the room requested by the client or 0, if the client did not request a room.
+	 */
+	private final int roomId;
+
+	/**
+	 * The encoding requested by the client or null, if the client keeps using JSON.
+	 */
+	private final String encoding;
+
+	/**
+	 * Creates a new HELLO message.
+	 * @param version the version of the client.
+	 * @param roomId the id of the requested room or 0, if no room is requested.
+	 * @param encoding the requested encoding or null, if no encoding is requested.
+	 */
+	public HelloMessage(String version, int roomId, String encoding) {
+		this.version = version;
+		this.roomId = roomId;
+		this.encoding = encoding;
+	}
+
+	/**
+	 * Decodes the payload of a HELLO message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static HelloMessage decode(ProtocolReader reader) {
+		String version = null;
+		int roomId = 0;
+		String encoding = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.VERSION.toString())) {
+				version = reader.nextString();
+			} else if (name.equals(Attributes.ROOM.toString())) {
+				roomId = reader.nextInt();
+			} else if (name.equals(Attributes.ENCODING.toString())) {
+				encoding = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new HelloMessage(version, roomId, encoding);
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.HELLO;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (version != null) {
+			writer.name(Attributes.VERSION.toString()).value(version);
+		}
+		if (roomId > 0) {
+			writer.name(Attributes.ROOM.toString()).value(roomId);
+		}
+		if (encoding != null) {
+			writer.name(Attributes.ENCODING.toString()).value(encoding);
+		}
+	}
+
+	/**
+	 * Returns the version of the client.
+	 * @return the version or null, if the client did not send it.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the id of the room requested by the client.
+	 * @return the id of the room or 0, if the client did not request a room.
+	 */
+	public int getRoomId() {
+		return roomId;
+	}
+
+	/**
+	 * Returns the encoding requested by the client.
+	 * @return the string representation of the {@link network.protocol.Encoding} or null, if the client keeps using
+	 *         JSON.
+	 */
+	public String getEncoding() {
+		return encoding;
+	}
+
+}
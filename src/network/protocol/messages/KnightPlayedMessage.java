@@ -0,0 +1,43 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+
+/**
+ * Represents the message the server sends to all clients when a player has played a knight card, which moves the
+ * robber just like announced by a {@code RobberMovedMessage}.
+ * @author Christoph Hermann
+ * @see ClientTypes#PLAY_KNIGHT
+ */
+public class KnightPlayedMessage extends RobberMovedMessage {
+
+	/**
+	 * Creates a new message announcing a played knight card.
+	 * @param player the id of the player who played the card.
+	 * @param position the new position of the robber.
+	 * @param target the id of the player being robbed or null, if nobody is robbed.
+	 */
+	public KnightPlayedMessage(Integer player, Coordinates position, Integer target) {
+		super(player, position, target);
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a played knight card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static KnightPlayedMessage decode(ProtocolReader reader) {
+		KnightPlayedMessage message = decode(reader, KnightPlayedMessage::new);
+
+		// Unlike the robber, a knight is always played by a known player.
+		PayloadFields.require(message.hasPlayer() ? message.getPlayer() : null, Attributes.PLAYER);
+		return message;
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.PLAY_KNIGHT;
+	}
+
+}
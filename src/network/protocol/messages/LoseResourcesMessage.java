@@ -0,0 +1,69 @@
+package network.protocol.messages;
+
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to discard resources after a seven has been rolled.
+ * @author Christoph Hermann
+ * @see ServerTypes#LOSE_RESOURCE
+ */
+public class LoseResourcesMessage extends Message {
+
+	/**
+	 * The discarded resources.
+	 */
+	private final Resources resources;
+
+	/**
+	 * Creates a new message discarding resources.
+	 * @param resources the discarded {@link Resources}.
+	 */
+	public LoseResourcesMessage(Resources resources) {
+		this.resources = resources;
+	}
+
+	/**
+	 * Decodes the payload of a message discarding resources.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static LoseResourcesMessage decode(ProtocolReader reader) {
+		Resources resources = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.SUBMIT.toString())) {
+				resources = PayloadFields.readResources(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new LoseResourcesMessage(PayloadFields.require(resources, Attributes.SUBMIT));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.LOSE_RESOURCE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.SUBMIT.toString());
+		PayloadFields.writeResources(writer, resources);
+	}
+
+	/**
+	 * Returns the discarded resources.
+	 * @return the {@link Resources}.
+	 */
+	public Resources getResources() {
+		return resources;
+	}
+
+}
@@ -0,0 +1,28 @@
+package network.protocol.messages;
+
+import network.protocol.ServerTypes;
+
+/**
+ * Represents a message sent from a client to the server.
+ * @author Christoph Hermann
+ * @see MessageCodec
+ */
+public abstract class Message extends ProtocolMessage {
+
+	/**
+	 * Returns the type of this message.
+	 * @return the {@link ServerTypes type} of this message.
+	 */
+	@Override
+	public abstract ServerTypes getType();
+
+	/**
+	 * Returns whether this message contains every property the server requires. A decoded message is always complete,
+	 * because the {@code MessageCodec} rejects incomplete ones, but a message passed within the process is not decoded.
+	 * @return true, if the message is complete. false, otherwise.
+	 */
+	public boolean isComplete() {
+		return true;
+	}
+
+}
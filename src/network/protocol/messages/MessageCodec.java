@@ -0,0 +1,107 @@
+package network.protocol.messages;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONException;
+
+import network.protocol.BinaryReader;
+import network.protocol.Encoding;
+import network.protocol.JsonReader;
+import network.protocol.ProtocolReader;
+import network.protocol.ServerTypes;
+
+/**
+ * Decodes the messages sent from a client to the server straight into typed {@code Messages}. Every message is a
+ * single object with exactly one property, whose name is the type of the message and whose value is the payload. The
+ * payload is read token by token by the decoder registered for the type, so no {@code JSONObject} is built, no matter
+ * which {@code Encoding} the message uses.
+ * @author Christoph Hermann
+ * @see Message
+ * @see MessageDecoder
+ */
+public final class MessageCodec {
+
+	/**
+	 * The decoders of all known message types, mapped by the name of the type.
+	 */
+	private static final Map<String, MessageDecoder> DECODERS;
+
+	static {
+		Map<String, MessageDecoder> decoders = new HashMap<>();
+		decoders.put(ServerTypes.HELLO.toString(), HelloMessage::decode);
+		decoders.put(ServerTypes.SEND_CHATMESSAGE.toString(), ChatMessage::decode);
+		decoders.put(ServerTypes.PLAYER.toString(), PlayerMessage::decode);
+		decoders.put(ServerTypes.GAME_START.toString(), SimpleMessage.decoder(ServerTypes.GAME_START));
+		decoders.put(ServerTypes.ROLL_DICE.toString(), SimpleMessage.decoder(ServerTypes.ROLL_DICE));
+		decoders.put(ServerTypes.LOSE_RESOURCE.toString(), LoseResourcesMessage::decode);
+		decoders.put(ServerTypes.MOVE_ROBBER.toString(), MoveRobberMessage::decode);
+		decoders.put(ServerTypes.BUILD.toString(), BuildMessage::decode);
+		decoders.put(ServerTypes.BUY_DEVLOPMENTCARD.toString(), SimpleMessage.decoder(ServerTypes.BUY_DEVLOPMENTCARD));
+		decoders.put(ServerTypes.SEA_TRADING.toString(), SeaTradeMessage::decode);
+		decoders.put(ServerTypes.END_TURN.toString(), SimpleMessage.decoder(ServerTypes.END_TURN));
+		decoders.put(ServerTypes.OFFER_TRADE.toString(), OfferTradeMessage::decode);
+		decoders.put(ServerTypes.ACCEPT_TRADE.toString(), AcceptTradeMessage::decode);
+		decoders.put(ServerTypes.FINISH_TRADE.toString(), FinishTradeMessage::decode);
+		decoders.put(ServerTypes.CANCEL_TRADE.toString(), CancelTradeMessage::decode);
+		decoders.put(ServerTypes.PLAY_KNIGHT.toString(), PlayKnightMessage::decode);
+		decoders.put(ServerTypes.PLAY_ROAD_BUILDING.toString(), PlayRoadBuildingMessage::decode);
+		decoders.put(ServerTypes.PLAY_MONOPOLY.toString(), PlayMonopolyMessage::decode);
+		decoders.put(ServerTypes.PLAY_YEAR_OF_PLENTY.toString(), PlayYearOfPlentyMessage::decode);
+		DECODERS = Collections.unmodifiableMap(decoders);
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private MessageCodec() {
+	}
+
+	/**
+	 * Decodes a single message encoded using JSON.
+	 * @param line the message as received from the client, without the terminating line break.
+	 * @return the decoded {@link Message}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 */
+	public static Message decode(String line) {
+		return decode(new JsonReader(line));
+	}
+
+	/**
+	 * Decodes a single message encoded using the compact binary encoding.
+	 * @param frame the message as received from the client, without the length prefix.
+	 * @return the decoded {@link Message}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 * @see Encoding#BINARY
+	 */
+	public static Message decode(byte[] frame) {
+		return decode(new BinaryReader(frame));
+	}
+
+	/**
+	 * Decodes a single message from the specified reader, which must contain nothing else.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded {@link Message}.
+	 * @throws JSONException if the message is malformed, has an unknown type or lacks a required property.
+	 */
+	public static Message decode(ProtocolReader reader) {
+		reader.beginObject();
+
+		if (!reader.hasNext()) {
+			throw new JSONException("Message without type");
+		}
+		String type = reader.nextName();
+		MessageDecoder decoder = DECODERS.get(type);
+
+		if (decoder == null) {
+			throw new JSONException("Unknown message type " + type);
+		}
+		Message message = decoder.decode(reader);
+
+		reader.endObject();
+		reader.endDocument();
+		return message;
+	}
+
+}
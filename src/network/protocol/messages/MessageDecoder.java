@@ -0,0 +1,20 @@
+package network.protocol.messages;
+
+import network.protocol.ProtocolReader;
+
+/**
+ * Decodes the payload of a single type of message.
+ * @author Christoph Hermann
+ * @see MessageCodec
+ */
+@FunctionalInterface
+public interface MessageDecoder {
+
+	/**
+	 * Decodes the payload of a message. The reader is positioned in front of the object containing the payload.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded {@link Message}.
+	 */
+	Message decode(ProtocolReader reader);
+
+}
@@ -0,0 +1,89 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has played a monopoly card.
+ * @author Christoph Hermann
+ * @see ClientTypes#PLAY_MONOPOLY
+ */
+public class MonopolyPlayedMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who played the card.
+	 */
+	private final int player;
+
+	/**
+	 * The protocol name of the resource type the player takes from everybody else.
+	 */
+	private final String resourceType;
+
+	/**
+	 * Creates a new message announcing a played monopoly card.
+	 * @param player the id of the player who played the card.
+	 * @param resourceType the protocol name of the resource type the player takes from everybody else.
+	 */
+	public MonopolyPlayedMessage(int player, String resourceType) {
+		this.player = player;
+		this.resourceType = resourceType;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a played monopoly card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static MonopolyPlayedMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		String resourceType = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.RESOURCE.toString())) {
+				resourceType = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new MonopolyPlayedMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(resourceType, Attributes.RESOURCE));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.PLAY_MONOPOLY;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.RESOURCE.toString()).value(resourceType);
+	}
+
+	/**
+	 * Returns the id of the player who played the card.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the protocol name of the resource type the player takes from everybody else.
+	 * @return the resource type.
+	 */
+	public String getResourceType() {
+		return resourceType;
+	}
+
+}
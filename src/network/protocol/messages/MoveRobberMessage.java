@@ -0,0 +1,114 @@
+package network.protocol.messages;
+
+import java.util.function.BiFunction;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to move the robber to a new hexagon and optionally rob another player.
+ * @author Christoph Hermann
+ * @see ServerTypes#MOVE_ROBBER
+ */
+public class MoveRobberMessage extends Message {
+
+	/**
+	 * The new position of the robber.
+	 */
+	private final Coordinates position;
+
+	/**
+	 * The id of the player being robbed or null, if nobody is robbed.
+	 */
+	private final Integer target;
+
+	/**
+	 * Creates a new message moving the robber.
+	 * @param position the new position of the robber.
+	 * @param target the id of the player being robbed or null, if nobody is robbed.
+	 */
+	public MoveRobberMessage(Coordinates position, Integer target) {
+		this.position = position;
+		this.target = target;
+	}
+
+	/**
+	 * Decodes the payload of a message moving the robber.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static MoveRobberMessage decode(ProtocolReader reader) {
+		return decode(reader, MoveRobberMessage::new);
+	}
+
+	/**
+	 * Decodes the payload of a message moving the robber and creates the message using the specified constructor.
+	 * @param <T> the type of the message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @param constructor the constructor of the message.
+	 * @return the decoded message.
+	 */
+	protected static <T extends MoveRobberMessage> T decode(ProtocolReader reader,
+			BiFunction<Coordinates, Integer, T> constructor) {
+		Coordinates position = null;
+		Integer target = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.POSITION.toString())) {
+				position = Coordinates.read(reader);
+			} else if (name.equals(Attributes.TARGET.toString())) {
+				target = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return constructor.apply(PayloadFields.require(position, Attributes.POSITION), target);
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.MOVE_ROBBER;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.POSITION.toString());
+		position.write(writer);
+
+		if (target != null) {
+			writer.name(Attributes.TARGET.toString()).value(target);
+		}
+	}
+
+	/**
+	 * Returns the new position of the robber.
+	 * @return the {@link Coordinates} of the hexagon.
+	 */
+	public Coordinates getPosition() {
+		return position;
+	}
+
+	/**
+	 * Returns whether a player is robbed.
+	 * @return true, if a player is robbed. false, otherwise.
+	 */
+	public boolean hasTarget() {
+		return target != null;
+	}
+
+	/**
+	 * Returns the id of the player being robbed.
+	 * @return the id of the player. Must only be called if {@link #hasTarget()} returns true.
+	 */
+	public int getTarget() {
+		return target;
+	}
+
+}
@@ -0,0 +1,38 @@
+package network.protocol.messages;
+
+import game.resources.Resources;
+import network.protocol.ProtocolReader;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to offer a trade to the other players. It contains a supply and a demand just
+ * like {@code SeaTradeMessage}.
+ * @author Christoph Hermann
+ * @see ServerTypes#OFFER_TRADE
+ */
+public class OfferTradeMessage extends SeaTradeMessage {
+
+	/**
+	 * Creates a new message offering a trade.
+	 * @param supply the offered {@link Resources}.
+	 * @param demand the requested {@link Resources}.
+	 */
+	public OfferTradeMessage(Resources supply, Resources demand) {
+		super(supply, demand);
+	}
+
+	/**
+	 * Decodes the payload of a message offering a trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static OfferTradeMessage decode(ProtocolReader reader) {
+		return decode(reader, OfferTradeMessage::new);
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.OFFER_TRADE;
+	}
+
+}
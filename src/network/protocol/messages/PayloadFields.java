@@ -0,0 +1,81 @@
+package network.protocol.messages;
+
+import org.json.JSONException;
+
+import game.resources.ResourceType;
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolStringConverter;
+import network.protocol.ProtocolWriter;
+
+/**
+ * A collection of functions for reading and writing the values shared by several types of messages.
+ * @author Christoph Hermann
+ */
+final class PayloadFields {
+
+	/**
+	 * Creates a new PayloadFields.
+	 */
+	private PayloadFields() {
+		// This constructor is private to prevent any instantiation of this class.
+	}
+
+	/**
+	 * Reads {@code Resources} from an object mapping the protocol names of the resource types to their amounts. Missing
+	 * resource types have an amount of zero.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the {@link Resources}.
+	 */
+	static Resources readResources(ProtocolReader reader) {
+		Resources resources = new Resources();
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			ResourceType type = ProtocolStringConverter.getResourceType(reader.nextName());
+
+			if (type == null) {
+				reader.skipValue();
+			} else {
+				resources.set(type, reader.nextInt());
+			}
+		}
+		reader.endObject();
+
+		return resources;
+	}
+
+	/**
+	 * Writes {@code Resources} as an object mapping the protocol names of the resource types to their amounts.
+	 * Resource types with an amount of zero are left out.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 * @param resources the {@link Resources} to write.
+	 */
+	static void writeResources(ProtocolWriter writer, Resources resources) {
+		writer.beginObject();
+		for (ResourceType type : ResourceType.values()) {
+			int amount = resources.get(type);
+
+			if (amount > 0) {
+				writer.name(ProtocolStringConverter.getName(type)).value(amount);
+			}
+		}
+		writer.endObject();
+	}
+
+	/**
+	 * Makes sure a property required by a message has been read.
+	 * @param <T> the type of the value.
+	 * @param value the value read or null, if the property was missing.
+	 * @param attribute the property.
+	 * @return the value.
+	 */
+	static <T> T require(T value, Attributes attribute) {
+		if (value == null) {
+			throw new JSONException("Property " + attribute + " missing");
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,37 @@
+package network.protocol.messages;
+
+import network.protocol.ProtocolReader;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to play a knight card, which moves the robber just like
+ * {@code MoveRobberMessage}.
+ * @author Christoph Hermann
+ * @see ServerTypes#PLAY_KNIGHT
+ */
+public class PlayKnightMessage extends MoveRobberMessage {
+
+	/**
+	 * Creates a new message playing a knight card.
+	 * @param position the new position of the robber.
+	 * @param target the id of the player being robbed or null, if nobody is robbed.
+	 */
+	public PlayKnightMessage(Coordinates position, Integer target) {
+		super(position, target);
+	}
+
+	/**
+	 * Decodes the payload of a message playing a knight card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static PlayKnightMessage decode(ProtocolReader reader) {
+		return decode(reader, PlayKnightMessage::new);
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.PLAY_KNIGHT;
+	}
+
+}
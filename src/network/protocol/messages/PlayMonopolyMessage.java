@@ -0,0 +1,67 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to play a monopoly card.
+ * @author Christoph Hermann
+ * @see ServerTypes#PLAY_MONOPOLY
+ */
+public class PlayMonopolyMessage extends Message {
+
+	/**
+	 * The protocol name of the monopolized resource type.
+	 */
+	private final String resourceType;
+
+	/**
+	 * Creates a new message playing a monopoly card.
+	 * @param resourceType the protocol name of the monopolized resource type.
+	 */
+	public PlayMonopolyMessage(String resourceType) {
+		this.resourceType = resourceType;
+	}
+
+	/**
+	 * Decodes the payload of a message playing a monopoly card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static PlayMonopolyMessage decode(ProtocolReader reader) {
+		String resourceType = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.RESOURCE.toString())) {
+				resourceType = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new PlayMonopolyMessage(PayloadFields.require(resourceType, Attributes.RESOURCE));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.PLAY_MONOPOLY;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.RESOURCE.toString()).value(resourceType);
+	}
+
+	/**
+	 * Returns the protocol name of the monopolized resource type.
+	 * @return the name of the resource type.
+	 */
+	public String getResourceType() {
+		return resourceType;
+	}
+
+}
@@ -0,0 +1,100 @@
+package network.protocol.messages;
+
+import java.util.List;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to play a road building card.
+ * @author Christoph Hermann
+ * @see ServerTypes#PLAY_ROAD_BUILDING
+ */
+public class PlayRoadBuildingMessage extends Message {
+
+	/**
+	 * The hexagons touching the edge of the first road.
+	 */
+	private final List<Coordinates> firstRoad;
+
+	/**
+	 * The hexagons touching the edge of the second road.
+	 */
+	private final List<Coordinates> secondRoad;
+
+	/**
+	 * Creates a new message playing a road building card.
+	 * @param firstRoad the hexagons touching the edge of the first road.
+	 * @param secondRoad the hexagons touching the edge of the second road or null, if only one road was selected.
+	 */
+	public PlayRoadBuildingMessage(List<Coordinates> firstRoad, List<Coordinates> secondRoad) {
+		this.firstRoad = firstRoad;
+		this.secondRoad = secondRoad;
+	}
+
+	/**
+	 * Decodes the payload of a message playing a road building card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static PlayRoadBuildingMessage decode(ProtocolReader reader) {
+		List<Coordinates> firstRoad = null;
+		List<Coordinates> secondRoad = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.STREAT_ONE.toString())) {
+				firstRoad = Coordinates.readList(reader);
+			} else if (name.equals(Attributes.STREAT_TWO.toString())) {
+				secondRoad = Coordinates.readList(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new PlayRoadBuildingMessage(PayloadFields.require(firstRoad, Attributes.STREAT_ONE),
+				PayloadFields.require(secondRoad, Attributes.STREAT_TWO));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.PLAY_ROAD_BUILDING;
+	}
+
+	@Override
+	public boolean isComplete() {
+		return secondRoad != null;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.STREAT_ONE.toString());
+		Coordinates.writeList(writer, firstRoad);
+		if (secondRoad != null) {
+			writer.name(Attributes.STREAT_TWO.toString());
+			Coordinates.writeList(writer, secondRoad);
+		}
+	}
+
+	/**
+	 * Returns the hexagons touching the edge of the first road.
+	 * @return the list of {@link Coordinates}.
+	 */
+	public List<Coordinates> getFirstRoad() {
+		return firstRoad;
+	}
+
+	/**
+	 * Returns the hexagons touching the edge of the second road.
+	 * @return the list of {@link Coordinates}.
+	 */
+	public List<Coordinates> getSecondRoad() {
+		return secondRoad;
+	}
+
+}
@@ -0,0 +1,69 @@
+package network.protocol.messages;
+
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to play a year of plenty card.
+ * @author Christoph Hermann
+ * @see ServerTypes#PLAY_YEAR_OF_PLENTY
+ */
+public class PlayYearOfPlentyMessage extends Message {
+
+	/**
+	 * The resources taken from the bank.
+	 */
+	private final Resources resources;
+
+	/**
+	 * Creates a new message playing a year of plenty card.
+	 * @param resources the {@link Resources} taken from the bank.
+	 */
+	public PlayYearOfPlentyMessage(Resources resources) {
+		this.resources = resources;
+	}
+
+	/**
+	 * Decodes the payload of a message playing a year of plenty card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static PlayYearOfPlentyMessage decode(ProtocolReader reader) {
+		Resources resources = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.RESOURCES.toString())) {
+				resources = PayloadFields.readResources(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new PlayYearOfPlentyMessage(PayloadFields.require(resources, Attributes.RESOURCES));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.PLAY_YEAR_OF_PLENTY;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.RESOURCES.toString());
+		PayloadFields.writeResources(writer, resources);
+	}
+
+	/**
+	 * Returns the resources taken from the bank.
+	 * @return the {@link Resources}.
+	 */
+	public Resources getResources() {
+		return resources;
+	}
+
+}
@@ -0,0 +1,92 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to choose its name and color.
+ * @author Christoph Hermann
+ * @see ServerTypes#PLAYER
+ */
+public class PlayerMessage extends Message {
+
+	/**
+	 * The chosen name or null, if the name is not changed.
+	 */
+	private final String name;
+
+	/**
+	 * The protocol name of the chosen color or null, if the color is not changed.
+	 */
+	private final String color;
+
+	/**
+	 * Creates a new PLAYER message.
+	 * @param name the chosen name or null, if the name is not changed.
+	 * @param color the protocol name of the chosen color or null, if the color is not changed.
+	 */
+	public PlayerMessage(String name, String color) {
+		this.name = name;
+		this.color = color;
+	}
+
+	/**
+	 * Decodes the payload of a PLAYER message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static PlayerMessage decode(ProtocolReader reader) {
+		String name = null;
+		String color = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String property = reader.nextName();
+
+			if (property.equals(Attributes.NAME.toString())) {
+				name = reader.nextString();
+			} else if (property.equals(Attributes.COLOR.toString())) {
+				color = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new PlayerMessage(name, color);
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.PLAYER;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (name != null) {
+			writer.name(Attributes.NAME.toString()).value(name);
+		}
+		if (color != null) {
+			writer.name(Attributes.COLOR.toString()).value(color);
+		}
+	}
+
+	/**
+	 * Returns the chosen name.
+	 * @return the name or null, if the name is not changed.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the protocol name of the chosen color.
+	 * @return the name of the color or null, if the color is not changed.
+	 */
+	public String getColor() {
+		return color;
+	}
+
+}
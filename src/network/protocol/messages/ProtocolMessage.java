@@ -0,0 +1,66 @@
+package network.protocol.messages;
+
+import network.protocol.BinaryWriter;
+import network.protocol.Encoding;
+import network.protocol.JsonWriter;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents a message exchanged between a client and the server. Every message knows its type and how to write its
+ * payload, so that it can be encoded without building a {@code JSONObject} first.
+ * @author Christoph Hermann
+ * @see Message
+ * @see ClientMessage
+ */
+public abstract class ProtocolMessage {
+
+	/**
+	 * Returns the type of this message.
+	 * @return the type of this message.
+	 */
+	public abstract Enum<?> getType();
+
+	/**
+	 * Writes the properties of this message into the object which has already been opened by the caller.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 */
+	protected abstract void writePayload(ProtocolWriter writer);
+
+	/**
+	 * Writes this message, i.e. an object whose only property is named after the type of this message and contains its
+	 * payload.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 */
+	public void write(ProtocolWriter writer) {
+		writer.beginObject().name(getType().toString()).beginObject();
+		writePayload(writer);
+		writer.endObject().endObject();
+	}
+
+	/**
+	 * Encodes this message the way it is sent over the network using JSON.
+	 * @return the encoded message.
+	 */
+	public String encode() {
+		JsonWriter writer = new JsonWriter();
+		write(writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Encodes this message the way it is sent over the network using the compact binary encoding.
+	 * @return the encoded message without length prefix.
+	 * @see Encoding#BINARY
+	 */
+	public byte[] encodeBinary() {
+		BinaryWriter writer = new BinaryWriter();
+		write(writer);
+		return writer.toByteArray();
+	}
+
+	@Override
+	public String toString() {
+		return encode();
+	}
+
+}
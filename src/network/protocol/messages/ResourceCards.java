@@ -0,0 +1,127 @@
+package network.protocol.messages;
+
+import game.resources.ResourceType;
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolStringConverter;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the resource cards of a player as far as the recipient of a message may know them. Either the amount of
+ * every resource type is known or only the total number of cards, which the protocol writes as the amount of the
+ * resource type {@link Attributes#UNKNOWN}.
+ * @author Christoph Hermann
+ */
+public final class ResourceCards {
+
+	/**
+	 * The known resources or null, if only their total is known.
+	 */
+	private final Resources resources;
+
+	/**
+	 * The total number of resource cards.
+	 */
+	private final int total;
+
+	/**
+	 * Creates new resource cards.
+	 * @param resources the known resources or null, if only their total is known.
+	 * @param total the total number of resource cards.
+	 */
+	private ResourceCards(Resources resources, int total) {
+		this.resources = resources;
+		this.total = total;
+	}
+
+	/**
+	 * Returns resource cards whose types and amounts are known. Only the positive amounts are copied, just like only
+	 * these are written, so a local client receiving the message itself sees the same cards as a remote client.
+	 * @param resources the {@link Resources}.
+	 * @return the resource cards.
+	 */
+	public static ResourceCards known(Resources resources) {
+		Resources cards = new Resources();
+		for (ResourceType type : ResourceType.values()) {
+			if (resources.get(type) > 0) {
+				cards.set(type, resources.get(type));
+			}
+		}
+		return new ResourceCards(cards, cards.getSum());
+	}
+
+	/**
+	 * Returns resource cards of which only the total number is known.
+	 * @param total the total number of resource cards.
+	 * @return the resource cards.
+	 */
+	public static ResourceCards unknown(int total) {
+		return new ResourceCards(null, total);
+	}
+
+	/**
+	 * Reads resource cards from an object mapping the protocol names of the resource types to their amounts or
+	 * containing the total number of cards only.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the resource cards.
+	 */
+	static ResourceCards read(ProtocolReader reader) {
+		Resources resources = new Resources();
+		Integer total = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			ResourceType type = ProtocolStringConverter.getResourceType(name);
+
+			if (type != null) {
+				resources.set(type, reader.nextInt());
+			} else if (name.equals(Attributes.UNKNOWN.toString())) {
+				total = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return total == null ? known(resources) : unknown(total);
+	}
+
+	/**
+	 * Writes these resource cards as an object. Known resource types with an amount of zero are left out.
+	 * @param writer the {@link ProtocolWriter} to write to.
+	 */
+	void write(ProtocolWriter writer) {
+		if (resources == null) {
+			writer.beginObject().name(Attributes.UNKNOWN.toString()).value(total).endObject();
+		} else {
+			PayloadFields.writeResources(writer, resources);
+		}
+	}
+
+	/**
+	 * Returns whether the type and amount of every resource is known.
+	 * @return true, if the resources are known. false, if only their total is known.
+	 */
+	public boolean isKnown() {
+		return resources != null;
+	}
+
+	/**
+	 * Returns the known resources.
+	 * @return the {@link Resources}. Must only be called if {@link #isKnown()} returns true.
+	 */
+	public Resources getResources() {
+		return resources;
+	}
+
+	/**
+	 * Returns the total number of resource cards.
+	 * @return the total number.
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+}
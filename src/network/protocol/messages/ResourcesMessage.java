@@ -0,0 +1,101 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to the clients when a player has received or paid resources. The player is
+ * told the resources, everybody else may only be told their total.
+ * @author Christoph Hermann
+ * @see ClientTypes#RESOURCE_QUANTITY
+ * @see ClientTypes#PRICE
+ */
+public class ResourcesMessage extends ClientMessage {
+
+	/**
+	 * The type of this message.
+	 */
+	private final ClientTypes type;
+
+	/**
+	 * The id of the player who received or paid the resources.
+	 */
+	private final int player;
+
+	/**
+	 * The resources received or paid.
+	 */
+	private final ResourceCards resources;
+
+	/**
+	 * Creates a new message announcing received or paid resources.
+	 * @param type {@link ClientTypes#RESOURCE_QUANTITY} for received, {@link ClientTypes#PRICE} for paid resources.
+	 * @param player the id of the player who received or paid the resources.
+	 * @param resources the {@link ResourceCards} received or paid.
+	 */
+	public ResourcesMessage(ClientTypes type, int player, ResourceCards resources) {
+		this.type = type;
+		this.player = player;
+		this.resources = resources;
+	}
+
+	/**
+	 * Returns a decoder for messages of the specified type.
+	 * @param type the type of the messages.
+	 * @return the {@link ClientMessageDecoder}.
+	 */
+	public static ClientMessageDecoder decoder(ClientTypes type) {
+		return (ProtocolReader reader) -> {
+			Integer player = null;
+			ResourceCards resources = null;
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+
+				if (name.equals(Attributes.PLAYER.toString())) {
+					player = reader.nextInt();
+				} else if (name.equals(Attributes.RESOURCES.toString())) {
+					resources = ResourceCards.read(reader);
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			return new ResourcesMessage(type, PayloadFields.require(player, Attributes.PLAYER),
+					PayloadFields.require(resources, Attributes.RESOURCES));
+		};
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return type;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.RESOURCES.toString());
+		resources.write(writer);
+		writer.name(Attributes.PLAYER.toString()).value(player);
+	}
+
+	/**
+	 * Returns the id of the player who received or paid the resources.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the resources received or paid.
+	 * @return the {@link ResourceCards}.
+	 */
+	public ResourceCards getResources() {
+		return resources;
+	}
+
+}
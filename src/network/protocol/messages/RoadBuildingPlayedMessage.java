@@ -0,0 +1,124 @@
+package network.protocol.messages;
+
+import java.util.List;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has played a road building card. The roads
+ * themselves are announced by separate {@code BuildingMessages}.
+ * @author Christoph Hermann
+ * @see ClientTypes#PLAY_ROAD_BUILDING
+ */
+public class RoadBuildingPlayedMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who played the card.
+	 */
+	private final int player;
+
+	/**
+	 * The hexagons touching the edge of the first road.
+	 */
+	private final List<Coordinates> firstRoad;
+
+	/**
+	 * The hexagons touching the edge of the second road or null, if only one road is built.
+	 */
+	private final List<Coordinates> secondRoad;
+
+	/**
+	 * Creates a new message announcing a played road building card.
+	 * @param player the id of the player who played the card.
+	 * @param firstRoad the hexagons touching the edge of the first road.
+	 * @param secondRoad the hexagons touching the edge of the second road or null, if only one road is built.
+	 */
+	public RoadBuildingPlayedMessage(int player, List<Coordinates> firstRoad, List<Coordinates> secondRoad) {
+		this.player = player;
+		this.firstRoad = firstRoad;
+		this.secondRoad = secondRoad;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a played road building card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static RoadBuildingPlayedMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		List<Coordinates> firstRoad = null;
+		List<Coordinates> secondRoad = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.STREAT_ONE.toString())) {
+				firstRoad = Coordinates.readList(reader);
+			} else if (name.equals(Attributes.STREAT_TWO.toString())) {
+				secondRoad = Coordinates.readList(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new RoadBuildingPlayedMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(firstRoad, Attributes.STREAT_ONE), secondRoad);
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.PLAY_ROAD_BUILDING;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.STREAT_ONE.toString());
+		Coordinates.writeList(writer, firstRoad);
+
+		if (secondRoad != null) {
+			writer.name(Attributes.STREAT_TWO.toString());
+			Coordinates.writeList(writer, secondRoad);
+		}
+	}
+
+	/**
+	 * Returns the id of the player who played the card.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the hexagons touching the edge of the first road.
+	 * @return the list of {@link Coordinates}.
+	 */
+	public List<Coordinates> getFirstRoad() {
+		return firstRoad;
+	}
+
+	/**
+	 * Returns whether a second road is built.
+	 * @return true, if two roads are built. false, if only one road is built.
+	 */
+	public boolean hasSecondRoad() {
+		return secondRoad != null;
+	}
+
+	/**
+	 * Returns the hexagons touching the edge of the second road.
+	 * @return the list of {@link Coordinates}. Must only be called if {@link #hasSecondRoad()} returns true.
+	 */
+	public List<Coordinates> getSecondRoad() {
+		return secondRoad;
+	}
+
+}
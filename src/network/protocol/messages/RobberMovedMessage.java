@@ -0,0 +1,160 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when the robber has been moved and optionally a player has
+ * been robbed.
+ * @author Christoph Hermann
+ * @see ClientTypes#ROBBER_MOVED
+ */
+public class RobberMovedMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who moved the robber or null, if the message does not tell.
+	 */
+	private final Integer player;
+
+	/**
+	 * The new position of the robber.
+	 */
+	private final Coordinates position;
+
+	/**
+	 * The id of the player being robbed or null, if nobody is robbed.
+	 */
+	private final Integer target;
+
+	/**
+	 * Creates a new message announcing the moved robber.
+	 * @param player the id of the player who moved the robber or null, if the message does not tell.
+	 * @param position the new position of the robber.
+	 * @param target the id of the player being robbed or null, if nobody is robbed.
+	 */
+	public RobberMovedMessage(Integer player, Coordinates position, Integer target) {
+		this.player = player;
+		this.position = position;
+		this.target = target;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing the moved robber.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static RobberMovedMessage decode(ProtocolReader reader) {
+		return decode(reader, RobberMovedMessage::new);
+	}
+
+	/**
+	 * Decodes the payload of a message announcing the moved robber and creates the message using the specified
+	 * constructor.
+	 * @param <T> the type of the message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @param constructor the constructor of the message.
+	 * @return the decoded message.
+	 */
+	protected static <T extends RobberMovedMessage> T decode(ProtocolReader reader, Constructor<T> constructor) {
+		Integer player = null;
+		Coordinates position = null;
+		Integer target = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.POSITION.toString())) {
+				position = Coordinates.read(reader);
+			} else if (name.equals(Attributes.TARGET.toString())) {
+				target = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return constructor.create(player, PayloadFields.require(position, Attributes.POSITION), target);
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.ROBBER_MOVED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (player != null) {
+			writer.name(Attributes.PLAYER.toString()).value(player);
+		}
+		writer.name(Attributes.POSITION.toString());
+		position.write(writer);
+
+		if (target != null) {
+			writer.name(Attributes.TARGET.toString()).value(target);
+		}
+	}
+
+	/**
+	 * Returns whether the message tells who moved the robber.
+	 * @return true, if the player is known. false, otherwise.
+	 */
+	public boolean hasPlayer() {
+		return player != null;
+	}
+
+	/**
+	 * Returns the id of the player who moved the robber.
+	 * @return the id of the player. Must only be called if {@link #hasPlayer()} returns true.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the new position of the robber.
+	 * @return the {@link Coordinates} of the hexagon.
+	 */
+	public Coordinates getPosition() {
+		return position;
+	}
+
+	/**
+	 * Returns whether a player is robbed.
+	 * @return true, if a player is robbed. false, otherwise.
+	 */
+	public boolean hasTarget() {
+		return target != null;
+	}
+
+	/**
+	 * Returns the id of the player being robbed.
+	 * @return the id of the player. Must only be called if {@link #hasTarget()} returns true.
+	 */
+	public int getTarget() {
+		return target;
+	}
+
+	/**
+	 * Creates a message from the decoded properties.
+	 * @param <T> the type of the message.
+	 */
+	@FunctionalInterface
+	protected interface Constructor<T extends RobberMovedMessage> {
+
+		/**
+		 * Creates a message.
+		 * @param player the id of the player who moved the robber or null, if the message does not tell.
+		 * @param position the new position of the robber.
+		 * @param target the id of the player being robbed or null, if nobody is robbed.
+		 * @return the message.
+		 */
+		T create(Integer player, Coordinates position, Integer target);
+
+	}
+
+}
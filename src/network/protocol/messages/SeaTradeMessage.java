@@ -0,0 +1,107 @@
+package network.protocol.messages;
+
+import java.util.function.BiFunction;
+
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents the message a client sends to trade resources with the bank.
+ * @author Christoph Hermann
+ * @see ServerTypes#SEA_TRADING
+ */
+public class SeaTradeMessage extends Message {
+
+	/**
+	 * The resources offered by the player.
+	 */
+	private final Resources supply;
+
+	/**
+	 * The resources requested by the player.
+	 */
+	private final Resources demand;
+
+	/**
+	 * Creates a new message trading with the bank.
+	 * @param supply the offered {@link Resources}.
+	 * @param demand the requested {@link Resources}.
+	 */
+	public SeaTradeMessage(Resources supply, Resources demand) {
+		this.supply = supply;
+		this.demand = demand;
+	}
+
+	/**
+	 * Decodes the payload of a message trading with the bank.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static SeaTradeMessage decode(ProtocolReader reader) {
+		return decode(reader, SeaTradeMessage::new);
+	}
+
+	/**
+	 * Decodes the payload of a message containing a supply and a demand and creates the message using the specified
+	 * constructor.
+	 * @param <T> the type of the message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @param constructor the constructor of the message.
+	 * @return the decoded message.
+	 */
+	protected static <T extends SeaTradeMessage> T decode(ProtocolReader reader,
+			BiFunction<Resources, Resources, T> constructor) {
+		Resources supply = null;
+		Resources demand = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.SUPPLY.toString())) {
+				supply = PayloadFields.readResources(reader);
+			} else if (name.equals(Attributes.DEMAND.toString())) {
+				demand = PayloadFields.readResources(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return constructor.apply(PayloadFields.require(supply, Attributes.SUPPLY),
+				PayloadFields.require(demand, Attributes.DEMAND));
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return ServerTypes.SEA_TRADING;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.SUPPLY.toString());
+		PayloadFields.writeResources(writer, supply);
+		writer.name(Attributes.DEMAND.toString());
+		PayloadFields.writeResources(writer, demand);
+	}
+
+	/**
+	 * Returns the resources offered by the player.
+	 * @return the offered {@link Resources}.
+	 */
+	public Resources getSupply() {
+		return supply;
+	}
+
+	/**
+	 * Returns the resources requested by the player.
+	 * @return the requested {@link Resources}.
+	 */
+	public Resources getDemand() {
+		return demand;
+	}
+
+}
@@ -0,0 +1,122 @@
+package network.protocol.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the HELLO message the server sends to every client which has just connected. It tells the version of the
+ * server, the protocol it speaks and the encodings the client may switch to.
+ * @author Christoph Hermann
+ * @see ClientTypes#HELLO
+ */
+public class ServerHelloMessage extends ClientMessage {
+
+	/**
+	 * The version of the server or null, if the server does not tell.
+	 */
+	private final String version;
+
+	/**
+	 * The version of the protocol spoken by the server.
+	 */
+	private final String protocol;
+
+	/**
+	 * The string representations of the encodings offered by the server.
+	 */
+	private final List<String> encodings;
+
+	/**
+	 * Creates a new HELLO message.
+	 * @param version the version of the server or null, if the server does not tell.
+	 * @param protocol the version of the protocol spoken by the server.
+	 * @param encodings the string representations of the offered encodings.
+	 */
+	public ServerHelloMessage(String version, String protocol, List<String> encodings) {
+		this.version = version;
+		this.protocol = protocol;
+		this.encodings = encodings;
+	}
+
+	/**
+	 * Decodes the payload of a HELLO message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static ServerHelloMessage decode(ProtocolReader reader) {
+		String version = null;
+		String protocol = null;
+		List<String> encodings = new ArrayList<>();
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.VERSION.toString())) {
+				version = reader.nextString();
+			} else if (name.equals(Attributes.PROTOCOL.toString())) {
+				protocol = reader.nextString();
+			} else if (name.equals(Attributes.ENCODINGS.toString())) {
+				reader.beginArray();
+				while (reader.hasNext()) {
+					encodings.add(reader.nextString());
+				}
+				reader.endArray();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new ServerHelloMessage(version, PayloadFields.require(protocol, Attributes.PROTOCOL), encodings);
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.HELLO;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (version != null) {
+			writer.name(Attributes.VERSION.toString()).value(version);
+		}
+		writer.name(Attributes.PROTOCOL.toString()).value(protocol);
+		writer.name(Attributes.ENCODINGS.toString()).beginArray();
+		for (String encoding : encodings) {
+			writer.value(encoding);
+		}
+		writer.endArray();
+	}
+
+	/**
+	 * Returns the version of the server.
+	 * @return the version or null, if the server does not tell.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the version of the protocol spoken by the server.
+	 * @return the version of the protocol.
+	 */
+	public String getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Returns whether the server offers the specified encoding.
+	 * @param encoding the string representation of the {@link network.protocol.Encoding}.
+	 * @return true, if the client may switch to the encoding. false, otherwise.
+	 */
+	public boolean offersEncoding(String encoding) {
+		return encodings.contains(encoding);
+	}
+
+}
@@ -0,0 +1,74 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the answer of the server to a request of a client. Unlike all other messages, its payload is not an
+ * object but the text of the answer, which is {@link Attributes#OK} if the request has been approved.
+ * @author Christoph Hermann
+ * @see ClientTypes#SERVER_REPLY
+ */
+public class ServerReplyMessage extends ClientMessage {
+
+	/**
+	 * The answer approving a request.
+	 */
+	public static final ServerReplyMessage OK = new ServerReplyMessage(Attributes.OK.toString());
+
+	/**
+	 * The text of the answer.
+	 */
+	private final String reply;
+
+	/**
+	 * Creates a new answer.
+	 * @param reply the text of the answer.
+	 */
+	public ServerReplyMessage(String reply) {
+		this.reply = reply;
+	}
+
+	/**
+	 * Decodes the text of an answer.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static ServerReplyMessage decode(ProtocolReader reader) {
+		return new ServerReplyMessage(reader.nextString());
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.SERVER_REPLY;
+	}
+
+	@Override
+	public void write(ProtocolWriter writer) {
+		writer.beginObject().name(getType().toString()).value(reply).endObject();
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		// The text is written in place of the payload object, see write.
+	}
+
+	/**
+	 * Returns whether the request has been approved.
+	 * @return true, if the answer is OK. false, otherwise.
+	 */
+	public boolean isOk() {
+		return reply.equalsIgnoreCase(Attributes.OK.toString());
+	}
+
+	/**
+	 * Returns the text of the answer.
+	 * @return the text of the answer.
+	 */
+	public String getReply() {
+		return reply;
+	}
+
+}
@@ -0,0 +1,55 @@
+package network.protocol.messages;
+
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+import network.protocol.ServerTypes;
+
+/**
+ * Represents a message without any properties, like the request to roll the dice or to end the turn.
+ * @author Christoph Hermann
+ * @see ServerTypes#GAME_START
+ * @see ServerTypes#ROLL_DICE
+ * @see ServerTypes#BUY_DEVLOPMENTCARD
+ * @see ServerTypes#END_TURN
+ */
+public class SimpleMessage extends Message {
+
+	/**
+	 * The type of this message.
+	 */
+	private final ServerTypes type;
+
+	/**
+	 * Creates a new message without properties.
+	 * @param type the type of the message.
+	 */
+	public SimpleMessage(ServerTypes type) {
+		this.type = type;
+	}
+
+	/**
+	 * Returns a decoder for messages of the specified type, which ignores all properties of the message.
+	 * @param type the type of the messages.
+	 * @return the {@link MessageDecoder}.
+	 */
+	public static MessageDecoder decoder(ServerTypes type) {
+		SimpleMessage message = new SimpleMessage(type);
+
+		// The message has no state, so the same instance is used for all messages of this type.
+		return (ProtocolReader reader) -> {
+			reader.skipValue();
+			return message;
+		};
+	}
+
+	@Override
+	public ServerTypes getType() {
+		return type;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		// This message has no properties.
+	}
+
+}
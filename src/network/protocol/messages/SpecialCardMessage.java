@@ -0,0 +1,87 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when the longest road or the largest army changes its owner.
+ * @author Christoph Hermann
+ * @see ClientTypes#LONGEST_ROAD
+ * @see ClientTypes#LARGEST_ARMY
+ */
+public class SpecialCardMessage extends ClientMessage {
+
+	/**
+	 * The type of this message.
+	 */
+	private final ClientTypes type;
+
+	/**
+	 * The id of the new owner of the card or null, if nobody owns it anymore.
+	 */
+	private final Integer player;
+
+	/**
+	 * Creates a new message announcing the owner of a special card.
+	 * @param type the type of the message, which names the card.
+	 * @param player the id of the new owner of the card or null, if nobody owns it anymore.
+	 */
+	public SpecialCardMessage(ClientTypes type, Integer player) {
+		this.type = type;
+		this.player = player;
+	}
+
+	/**
+	 * Returns a decoder for messages of the specified type.
+	 * @param type the type of the messages.
+	 * @return the {@link ClientMessageDecoder}.
+	 */
+	public static ClientMessageDecoder decoder(ClientTypes type) {
+		return (ProtocolReader reader) -> {
+			Integer player = null;
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if (reader.nextName().equals(Attributes.PLAYER.toString())) {
+					player = reader.nextInt();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			return new SpecialCardMessage(type, player);
+		};
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return type;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		if (player != null) {
+			writer.name(Attributes.PLAYER.toString()).value(player);
+		}
+	}
+
+	/**
+	 * Returns whether anybody owns the card.
+	 * @return true, if a player owns the card. false, otherwise.
+	 */
+	public boolean hasPlayer() {
+		return player != null;
+	}
+
+	/**
+	 * Returns the id of the new owner of the card.
+	 * @return the id of the player. Must only be called if {@link #hasPlayer()} returns true.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+}
@@ -0,0 +1,401 @@
+package network.protocol.messages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import game.cards.DevelopmentCard;
+import game.cards.playabledevelopmentcards.PlayableDevelopmentCard;
+import game.cards.victorypointcards.VictoryPointCard;
+import game.player.Player;
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolStringConverter;
+import network.protocol.ProtocolWriter;
+import users.User;
+
+/**
+ * Represents the message the server sends to the clients when the state of a user or a player has changed. Before the
+ * game has started, the message describes a {@code User} by its id, state, name and color. Once the game has started,
+ * it describes a {@code Player} completely, where the resources and development cards of other players are concealed
+ * by their totals.
+ * @author Christoph Hermann
+ * @see ClientTypes#STATE_UPDATE
+ */
+public class StateUpdateMessage extends ClientMessage {
+
+	/**
+	 * The id of the user or player.
+	 */
+	private final int id;
+
+	/**
+	 * The name of the user or player or null, if the message does not tell.
+	 */
+	private String name;
+
+	/**
+	 * The protocol name of the color of the user or player or null, if the message does not tell.
+	 */
+	private String color;
+
+	/**
+	 * The string representation of the state of the user or player or null, if the message does not tell.
+	 */
+	private String state;
+
+	/**
+	 * The victory points of the player or null, if the message describes a user.
+	 */
+	private Integer victoryPoints;
+
+	/**
+	 * The resource cards of the player or null, if the message describes a user.
+	 */
+	private ResourceCards resources;
+
+	/**
+	 * The number of knight cards played by the player or null, if the message describes a user.
+	 */
+	private Integer army;
+
+	/**
+	 * The numbers of development cards of the player by the protocol names of their types or null, if the message
+	 * describes a user.
+	 */
+	private Map<String, Integer> developmentCards;
+
+	/**
+	 * Whether the player owns the largest army or null, if the message describes a user.
+	 */
+	private Boolean largestArmy;
+
+	/**
+	 * Whether the player owns the longest road or null, if the message describes a user.
+	 */
+	private Boolean longestRoad;
+
+	/**
+	 * Creates a new message describing the user or player with the specified id. All other properties are unknown
+	 * until they are set.
+	 * @param id the id of the user or player.
+	 */
+	private StateUpdateMessage(int id) {
+		this.id = id;
+	}
+
+	/**
+	 * Creates a message describing a user, who has not started a game yet.
+	 * @param user the {@link User}.
+	 * @return the message.
+	 */
+	public static StateUpdateMessage of(User user) {
+		StateUpdateMessage message = new StateUpdateMessage(user.getId());
+		message.name = user.getName();
+		message.color = user.getColor() == null ? null : ProtocolStringConverter.getName(user.getColor());
+		message.state = user.getState() == null ? null : user.getState().toString();
+		return message;
+	}
+
+	/**
+	 * Creates a message describing a player to the player themselves, i.e. including their resources and development
+	 * cards.
+	 * @param player the {@link Player}.
+	 * @return the message.
+	 */
+	public static StateUpdateMessage of(Player player) {
+		StateUpdateMessage message = describePublicly(player);
+		message.victoryPoints = player.getVictoryPoints();
+		message.resources = ResourceCards.known(player.getResources());
+		message.developmentCards = countDevelopmentCards(player);
+		return message;
+	}
+
+	/**
+	 * Creates a message describing a player to the other players, i.e. the resources and development cards are
+	 * concealed by their totals and only the visible victory points are told.
+	 * @param player the {@link Player}.
+	 * @return the message.
+	 */
+	public static StateUpdateMessage concealed(Player player) {
+		StateUpdateMessage message = describePublicly(player);
+		message.victoryPoints = player.getVisibleVictoryPoints();
+		message.resources = ResourceCards.unknown(player.getResources().getSum());
+		message.developmentCards = Collections.singletonMap(Attributes.UNKNOWN.toString(),
+				player.getNumberOfAllDevelopmentCard());
+		return message;
+	}
+
+	/**
+	 * Creates a message describing the properties of a player everybody knows.
+	 * @param player the {@link Player}.
+	 * @return the message.
+	 */
+	private static StateUpdateMessage describePublicly(Player player) {
+		StateUpdateMessage message = new StateUpdateMessage(player.getId());
+		message.color = player.getColor() == null ? null : ProtocolStringConverter.getName(player.getColor());
+		message.name = player.getName();
+		message.state = player.getState().toString();
+		message.army = player.getPlayedKnightCards();
+		message.largestArmy = player.hasLargestArmyCard();
+		message.longestRoad = player.hasLongestRoadCard();
+		return message;
+	}
+
+	/**
+	 * Counts the development cards of a player by their types.
+	 * @param player the {@link Player}.
+	 * @return the numbers of the development cards by the protocol names of their types.
+	 */
+	private static Map<String, Integer> countDevelopmentCards(Player player) {
+		int knights = 0;
+		int monopolies = 0;
+		int roadBuildings = 0;
+		int yearsOfPlenty = 0;
+		int victoryPoints = 0;
+
+		for (DevelopmentCard developmentCard : player.getDevelopmentCards()) {
+			if (developmentCard instanceof PlayableDevelopmentCard) {
+				switch (((PlayableDevelopmentCard) developmentCard).getType()) {
+				case KNIGHT:
+					knights++;
+					break;
+				case MONOPOLY:
+					monopolies++;
+					break;
+				case ROAD_BUILDING:
+					roadBuildings++;
+					break;
+				case YEAR_OF_PLENTY:
+					yearsOfPlenty++;
+					break;
+				}
+			} else if (developmentCard instanceof VictoryPointCard) {
+				victoryPoints++;
+			}
+		}
+
+		Map<String, Integer> developmentCards = new LinkedHashMap<>();
+		developmentCards.put(Attributes.KNIGHT.toString(), knights);
+		developmentCards.put(Attributes.MONOPOLY.toString(), monopolies);
+		developmentCards.put(Attributes.ROAD_BUILDING.toString(), roadBuildings);
+		developmentCards.put(Attributes.YEAR_OF_PLENTY.toString(), yearsOfPlenty);
+		developmentCards.put(Attributes.VICTORY_POINT.toString(), victoryPoints);
+		return developmentCards;
+	}
+
+	/**
+	 * Decodes the payload of a STATE_UPDATE message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static StateUpdateMessage decode(ProtocolReader reader) {
+		StateUpdateMessage message = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.PLAYER.toString())) {
+				message = readPlayer(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return PayloadFields.require(message, Attributes.PLAYER);
+	}
+
+	/**
+	 * Reads the description of a user or player.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the message.
+	 */
+	private static StateUpdateMessage readPlayer(ProtocolReader reader) {
+		Integer id = null;
+		String name = null;
+		String color = null;
+		String state = null;
+		Integer victoryPoints = null;
+		ResourceCards resources = null;
+		Integer army = null;
+		Map<String, Integer> developmentCards = null;
+		Boolean largestArmy = null;
+		Boolean longestRoad = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String property = reader.nextName();
+
+			if (property.equals(Attributes.ID.toString())) {
+				id = reader.nextInt();
+			} else if (property.equals(Attributes.NAME.toString())) {
+				name = reader.nextString();
+			} else if (property.equals(Attributes.COLOR.toString())) {
+				color = reader.nextString();
+			} else if (property.equals(Attributes.STATE.toString())) {
+				state = reader.nextString();
+			} else if (property.equals(Attributes.VICTORY_POINTS.toString())) {
+				victoryPoints = reader.nextInt();
+			} else if (property.equals(Attributes.RESOURCES.toString())) {
+				resources = ResourceCards.read(reader);
+			} else if (property.equals(Attributes.ARMY.toString())) {
+				army = reader.nextInt();
+			} else if (property.equals(Attributes.DEVELOMENTCARDS.toString())) {
+				developmentCards = new LinkedHashMap<>();
+				reader.beginObject();
+				while (reader.hasNext()) {
+					developmentCards.put(reader.nextName(), reader.nextInt());
+				}
+				reader.endObject();
+			} else if (property.equals(Attributes.LARGEST_ARMY.toString())) {
+				largestArmy = reader.nextBoolean();
+			} else if (property.equals(Attributes.LONGEST_ROAD.toString())) {
+				longestRoad = reader.nextBoolean();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		StateUpdateMessage message = new StateUpdateMessage(PayloadFields.require(id, Attributes.ID));
+		message.name = name;
+		message.color = color;
+		message.state = state;
+		message.victoryPoints = victoryPoints;
+		message.resources = resources;
+		message.army = army;
+		message.developmentCards = developmentCards;
+		message.largestArmy = largestArmy;
+		message.longestRoad = longestRoad;
+		return message;
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.STATE_UPDATE;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).beginObject();
+		writer.name(Attributes.ID.toString()).value(id);
+
+		if (color != null) {
+			writer.name(Attributes.COLOR.toString()).value(color);
+		}
+		if (name != null) {
+			writer.name(Attributes.NAME.toString()).value(name);
+		}
+		if (state != null) {
+			writer.name(Attributes.STATE.toString()).value(state);
+		}
+		if (victoryPoints != null) {
+			writer.name(Attributes.VICTORY_POINTS.toString()).value(victoryPoints);
+		}
+		if (resources != null) {
+			writer.name(Attributes.RESOURCES.toString());
+			resources.write(writer);
+		}
+		if (army != null) {
+			writer.name(Attributes.ARMY.toString()).value(army);
+		}
+		if (developmentCards != null) {
+			writer.name(Attributes.DEVELOMENTCARDS.toString()).beginObject();
+			for (Map.Entry<String, Integer> entry : developmentCards.entrySet()) {
+				writer.name(entry.getKey()).value(entry.getValue());
+			}
+			writer.endObject();
+		}
+		if (largestArmy != null) {
+			writer.name(Attributes.LARGEST_ARMY.toString()).value(largestArmy);
+		}
+		if (longestRoad != null) {
+			writer.name(Attributes.LONGEST_ROAD.toString()).value(longestRoad);
+		}
+		writer.endObject();
+	}
+
+	/**
+	 * Returns the id of the user or player.
+	 * @return the id.
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the name of the user or player.
+	 * @return the name or null, if the message does not tell.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the protocol name of the color of the user or player.
+	 * @return the name of the color or null, if the message does not tell.
+	 */
+	public String getColor() {
+		return color;
+	}
+
+	/**
+	 * Returns the string representation of the state of the user or player.
+	 * @return the state or null, if the message does not tell.
+	 */
+	public String getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the victory points of the player.
+	 * @return the victory points or null, if the message describes a user.
+	 */
+	public Integer getVictoryPoints() {
+		return victoryPoints;
+	}
+
+	/**
+	 * Returns the resource cards of the player.
+	 * @return the {@link ResourceCards} or null, if the message describes a user.
+	 * @see Resources
+	 */
+	public ResourceCards getResources() {
+		return resources;
+	}
+
+	/**
+	 * Returns the number of knight cards played by the player.
+	 * @return the number of played knight cards or null, if the message describes a user.
+	 */
+	public Integer getArmy() {
+		return army;
+	}
+
+	/**
+	 * Returns the numbers of development cards of the player.
+	 * @return the numbers by the protocol names of the types of the cards or null, if the message describes a user.
+	 */
+	public Map<String, Integer> getDevelopmentCards() {
+		return developmentCards;
+	}
+
+	/**
+	 * Returns whether the player owns the largest army.
+	 * @return true, if the player owns the largest army or null, if the message describes a user.
+	 */
+	public Boolean hasLargestArmy() {
+		return largestArmy;
+	}
+
+	/**
+	 * Returns whether the player owns the longest road.
+	 * @return true, if the player owns the longest road or null, if the message describes a user.
+	 */
+	public Boolean hasLongestRoad() {
+		return longestRoad;
+	}
+
+}
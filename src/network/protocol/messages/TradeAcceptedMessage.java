@@ -0,0 +1,108 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has accepted or declined a trade offer.
+ * @author Christoph Hermann
+ * @see ClientTypes#TRADE_ACCEPTED
+ */
+public class TradeAcceptedMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who answered the offer.
+	 */
+	private final int fellowPlayer;
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * Whether the offer has been accepted.
+	 */
+	private final boolean accepted;
+
+	/**
+	 * Creates a new message announcing the answer to a trade offer.
+	 * @param fellowPlayer the id of the player who answered the offer.
+	 * @param tradeId the id of the trade.
+	 * @param accepted true, if the offer has been accepted. false, if it has been declined.
+	 */
+	public TradeAcceptedMessage(int fellowPlayer, int tradeId, boolean accepted) {
+		this.fellowPlayer = fellowPlayer;
+		this.tradeId = tradeId;
+		this.accepted = accepted;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing the answer to a trade offer.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static TradeAcceptedMessage decode(ProtocolReader reader) {
+		Integer fellowPlayer = null;
+		Integer tradeId = null;
+		Boolean accepted = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.FELLOW_PLAYER.toString())) {
+				fellowPlayer = reader.nextInt();
+			} else if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else if (name.equals(Attributes.ACCEPT.toString())) {
+				accepted = reader.nextBoolean();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new TradeAcceptedMessage(PayloadFields.require(fellowPlayer, Attributes.FELLOW_PLAYER),
+				PayloadFields.require(tradeId, Attributes.TRADING_ID), PayloadFields.require(accepted, Attributes.ACCEPT));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.TRADE_ACCEPTED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.FELLOW_PLAYER.toString()).value(fellowPlayer);
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+		writer.name(Attributes.ACCEPT.toString()).value(accepted);
+	}
+
+	/**
+	 * Returns the id of the player who answered the offer.
+	 * @return the id of the player.
+	 */
+	public int getFellowPlayer() {
+		return fellowPlayer;
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+	/**
+	 * Returns whether the offer has been accepted.
+	 * @return true, if the offer has been accepted. false, if it has been declined.
+	 */
+	public boolean isAccepted() {
+		return accepted;
+	}
+
+}
@@ -0,0 +1,89 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has withdrawn from a trade.
+ * @author Christoph Hermann
+ * @see ClientTypes#TRADE_CANCELED
+ */
+public class TradeCanceledMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who withdrew from the trade.
+	 */
+	private final int player;
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * Creates a new message announcing a canceled trade.
+	 * @param player the id of the player who withdrew from the trade.
+	 * @param tradeId the id of the trade.
+	 */
+	public TradeCanceledMessage(int player, int tradeId) {
+		this.player = player;
+		this.tradeId = tradeId;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a canceled trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static TradeCanceledMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		Integer tradeId = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new TradeCanceledMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(tradeId, Attributes.TRADING_ID));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.TRADE_CANCELED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+	}
+
+	/**
+	 * Returns the id of the player who withdrew from the trade.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+}
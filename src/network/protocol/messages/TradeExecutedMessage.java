@@ -0,0 +1,109 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when two players have traded.
+ * @author Christoph Hermann
+ * @see ClientTypes#TRADE_EXECUTED
+ */
+public class TradeExecutedMessage extends ClientMessage {
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * The id of the player who offered the trade.
+	 */
+	private final int player;
+
+	/**
+	 * The id of the player who accepted the trade.
+	 */
+	private final int fellowPlayer;
+
+	/**
+	 * Creates a new message announcing an executed trade.
+	 * @param tradeId the id of the trade.
+	 * @param player the id of the player who offered the trade.
+	 * @param fellowPlayer the id of the player who accepted the trade.
+	 */
+	public TradeExecutedMessage(int tradeId, int player, int fellowPlayer) {
+		this.tradeId = tradeId;
+		this.player = player;
+		this.fellowPlayer = fellowPlayer;
+	}
+
+	/**
+	 * Decodes the payload of a message announcing an executed trade.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static TradeExecutedMessage decode(ProtocolReader reader) {
+		Integer tradeId = null;
+		Integer player = null;
+		Integer fellowPlayer = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.FELLOW_PLAYER.toString())) {
+				fellowPlayer = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new TradeExecutedMessage(PayloadFields.require(tradeId, Attributes.TRADING_ID),
+				PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(fellowPlayer, Attributes.FELLOW_PLAYER));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.TRADE_EXECUTED;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.FELLOW_PLAYER.toString()).value(fellowPlayer);
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+	/**
+	 * Returns the id of the player who offered the trade.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the id of the player who accepted the trade.
+	 * @return the id of the player.
+	 */
+	public int getFellowPlayer() {
+		return fellowPlayer;
+	}
+
+}
@@ -0,0 +1,131 @@
+package network.protocol.messages;
+
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player offers a trade to the other players.
+ * @author Christoph Hermann
+ * @see ClientTypes#TRADE_OFFER
+ */
+public class TradeOfferMessage extends ClientMessage {
+
+	/**
+	 * The id of the player offering the trade.
+	 */
+	private final int player;
+
+	/**
+	 * The id of the trade.
+	 */
+	private final int tradeId;
+
+	/**
+	 * The resources offered.
+	 */
+	private final Resources supply;
+
+	/**
+	 * The resources demanded in return.
+	 */
+	private final Resources demand;
+
+	/**
+	 * Creates a new message announcing a trade offer.
+	 * @param player the id of the player offering the trade.
+	 * @param tradeId the id of the trade.
+	 * @param supply the {@link Resources} offered.
+	 * @param demand the {@link Resources} demanded in return.
+	 */
+	public TradeOfferMessage(int player, int tradeId, Resources supply, Resources demand) {
+		this.player = player;
+		this.tradeId = tradeId;
+		this.supply = new Resources(supply);
+		this.demand = new Resources(demand);
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a trade offer.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static TradeOfferMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		Integer tradeId = null;
+		Resources supply = null;
+		Resources demand = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.TRADING_ID.toString())) {
+				tradeId = reader.nextInt();
+			} else if (name.equals(Attributes.SUPPLY.toString())) {
+				supply = PayloadFields.readResources(reader);
+			} else if (name.equals(Attributes.DEMAND.toString())) {
+				demand = PayloadFields.readResources(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new TradeOfferMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(tradeId, Attributes.TRADING_ID), PayloadFields.require(supply, Attributes.SUPPLY),
+				PayloadFields.require(demand, Attributes.DEMAND));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.TRADE_OFFER;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.TRADING_ID.toString()).value(tradeId);
+		writer.name(Attributes.SUPPLY.toString());
+		PayloadFields.writeResources(writer, supply);
+		writer.name(Attributes.DEMAND.toString());
+		PayloadFields.writeResources(writer, demand);
+	}
+
+	/**
+	 * Returns the id of the player offering the trade.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the id of the trade.
+	 * @return the id of the trade.
+	 */
+	public int getTradeId() {
+		return tradeId;
+	}
+
+	/**
+	 * Returns the resources offered.
+	 * @return the offered {@link Resources}.
+	 */
+	public Resources getSupply() {
+		return supply;
+	}
+
+	/**
+	 * Returns the resources demanded in return.
+	 * @return the demanded {@link Resources}.
+	 */
+	public Resources getDemand() {
+		return demand;
+	}
+
+}
@@ -0,0 +1,67 @@
+package network.protocol.messages;
+
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to welcome a client, telling the client the id of its user.
+ * @author Christoph Hermann
+ * @see ClientTypes#WELCOME
+ */
+public class WelcomeMessage extends ClientMessage {
+
+	/**
+	 * The id of the user.
+	 */
+	private final int id;
+
+	/**
+	 * Creates a new WELCOME message.
+	 * @param id the id of the user.
+	 */
+	public WelcomeMessage(int id) {
+		this.id = id;
+	}
+
+	/**
+	 * Decodes the payload of a WELCOME message.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static WelcomeMessage decode(ProtocolReader reader) {
+		Integer id = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (reader.nextName().equals(Attributes.ID.toString())) {
+				id = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new WelcomeMessage(PayloadFields.require(id, Attributes.ID));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.WELCOME;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.ID.toString()).value(id);
+	}
+
+	/**
+	 * Returns the id of the user.
+	 * @return the id of the user.
+	 */
+	public int getId() {
+		return id;
+	}
+
+}
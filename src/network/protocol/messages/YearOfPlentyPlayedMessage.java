@@ -0,0 +1,91 @@
+package network.protocol.messages;
+
+import game.resources.Resources;
+import network.protocol.Attributes;
+import network.protocol.ClientTypes;
+import network.protocol.ProtocolReader;
+import network.protocol.ProtocolWriter;
+
+/**
+ * Represents the message the server sends to all clients when a player has played a year of plenty card.
+ * @author Christoph Hermann
+ * @see ClientTypes#PLAY_YEAR_OF_PLENTY
+ */
+public class YearOfPlentyPlayedMessage extends ClientMessage {
+
+	/**
+	 * The id of the player who played the card.
+	 */
+	private final int player;
+
+	/**
+	 * The resources the player takes from the bank.
+	 */
+	private final Resources resources;
+
+	/**
+	 * Creates a new message announcing a played year of plenty card.
+	 * @param player the id of the player who played the card.
+	 * @param resources the {@link Resources} the player takes from the bank.
+	 */
+	public YearOfPlentyPlayedMessage(int player, Resources resources) {
+		this.player = player;
+		this.resources = new Resources(resources);
+	}
+
+	/**
+	 * Decodes the payload of a message announcing a played year of plenty card.
+	 * @param reader the {@link ProtocolReader} to read from.
+	 * @return the decoded message.
+	 */
+	public static YearOfPlentyPlayedMessage decode(ProtocolReader reader) {
+		Integer player = null;
+		Resources resources = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+
+			if (name.equals(Attributes.PLAYER.toString())) {
+				player = reader.nextInt();
+			} else if (name.equals(Attributes.RESOURCES.toString())) {
+				resources = PayloadFields.readResources(reader);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return new YearOfPlentyPlayedMessage(PayloadFields.require(player, Attributes.PLAYER),
+				PayloadFields.require(resources, Attributes.RESOURCES));
+	}
+
+	@Override
+	public ClientTypes getType() {
+		return ClientTypes.PLAY_YEAR_OF_PLENTY;
+	}
+
+	@Override
+	protected void writePayload(ProtocolWriter writer) {
+		writer.name(Attributes.PLAYER.toString()).value(player);
+		writer.name(Attributes.RESOURCES.toString());
+		PayloadFields.writeResources(writer, resources);
+	}
+
+	/**
+	 * Returns the id of the player who played the card.
+	 * @return the id of the player.
+	 */
+	public int getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the resources the player takes from the bank.
+	 * @return the {@link Resources}.
+	 */
+	public Resources getResources() {
+		return resources;
+	}
+
+}
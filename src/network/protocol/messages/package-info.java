@@ -0,0 +1,6 @@
+/**
+ * Contains the typed messages exchanged between the clients and the server and the codecs which decode them. Every
+ * {@code ProtocolMessage} writes itself to a {@code ProtocolWriter}, so the same message can be sent in every encoding.
+ * @author Christoph Hermann
+ */
+package network.protocol.messages;
@@ -0,0 +1,332 @@
+package network.server;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import network.KeepAlive;
+
+/**
+ * Represents a connection to a single client, which uses blocking I/O and its own thread to read messages. The thread is
+ * either a platform thread, which wakes up regularly to check if it should stop, or a virtual thread, which blocks
+ * until a message arrives or the socket is closed. A virtual thread relies on the {@code KeepAlive} of the socket to
+ * detect a lost client. A second thread of the same kind writes the queued messages, so that all messages queued in
+ * the meantime are sent with a single flush.
+ * @author Christoph Hermann
+ * @see TransportType#BLOCKING
+ * @see TransportType#VIRTUAL_THREADS
+ * @see KeepAlive
+ */
+public class BlockingServerConnection extends ServerConnection implements Runnable {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(BlockingServerConnection.class.getName());
+
+	/**
+	 * The size in bytes of the buffer used to read from the stream.
+	 */
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	/**
+	 * The maximum number of messages written before the output is flushed.
+	 */
+	private static final int MAX_MESSAGES_PER_FLUSH = 64;
+
+	/**
+	 * The amount of time in milliseconds the reading thread waits for the pending messages to be sent, before the
+	 * connection is closed anyway.
+	 */
+	private static final int SEND_TIMEOUT = 5000;
+
+	/**
+	 * A status flag which determines if the thread should continue running or
+	 * stop running. The volatile keyword guarantees, that the correct value
+	 * will be read at all times even, if a different thread changes it.
+	 */
+	private volatile boolean running = true;
+
+	/**
+	 * The socket of the client this thread is communicating with.
+	 */
+	private volatile Socket socket;
+
+	/**
+	 * The stream used to send messages to the client.
+	 */
+	private BufferedOutputStream output;
+
+	/**
+	 * The thread writing the queued messages to the client.
+	 */
+	private Thread writerThread;
+
+	/**
+	 * The stream used to read messages from the client.
+	 */
+	private InputStream input;
+
+	/**
+	 * The buffer used to read from the stream.
+	 */
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+	/**
+	 * Whether this connection runs on a virtual thread or not.
+	 */
+	private final boolean virtualThread;
+
+	/**
+	 * Creates a new server thread communicating with a user.
+	 * @param socket the socket on the user's end.
+	 * @param server the {@link Server} this connection belongs to.
+	 * @param virtualThread whether this connection runs on a virtual thread or not.
+	 */
+	public BlockingServerConnection(Socket socket, Server server, boolean virtualThread) {
+		super(server);
+		this.socket = socket;
+		this.virtualThread = virtualThread;
+	}
+
+	@Override
+	public void start() {
+		if (virtualThread) {
+			Thread.ofVirtual().start(this);
+		} else {
+			new Thread(this).start();
+		}
+	}
+
+	@Override
+	public void run() {
+		if (couldStreamsBeOpenedSuccessfully()) {
+			startWriting();
+			checkRegularlyIfConnectionLost();
+			sendProtocolInformation();
+			listenForMessages();
+			waitForPendingMessages();
+		}
+
+		closeConnection();
+	}
+
+	/**
+	 * Checks regularly if the connection to the client is still open. If not, this ServerConnection closes.
+	 */
+	private void checkRegularlyIfConnectionLost() {
+		if (virtualThread) {
+			// The reading thread blocks without timeout and fails, once the keep-alive of the socket detects a lost peer.
+			return;
+		}
+
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+		Runnable checkReaderOpen = () -> {
+			try {
+				input.available();
+			} catch (IOException exception) {
+				executor.shutdown();
+				stopRunning();
+			}
+		};
+
+		executor.scheduleAtFixedRate(checkReaderOpen, 0, 2, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Opens the input and output streams to the client.
+	 * @return true, if the streams could successfully be opened. false, otherwise.
+	 */
+	private boolean couldStreamsBeOpenedSuccessfully() {
+		try	{
+			output = new BufferedOutputStream(socket.getOutputStream());
+			input = socket.getInputStream();
+
+			return true;
+		} catch (IOException exception) {
+			getServer().displayErrorMessage("CONNECTION_FAILED");
+			return false;
+		}
+	}
+
+	/**
+	 * Waits for incoming messages and gives them to the controller to handle.
+	 * @see ServerController
+	 */
+	private void listenForMessages() {
+		while (running) {
+			try {
+				// Read incoming bytes.
+				int nBytes = input.read(readBuffer.array());
+
+				if (nBytes < 0) {
+					throw new IOException("End of stream reached.");
+				}
+
+				// Handle every message received completely.
+				readBuffer.position(0).limit(nBytes);
+				receive(readBuffer);
+			} catch (SocketTimeoutException exception) {
+				// This exception is thrown regularly so that the while condition is checked regularly.
+			} catch (IOException exception) {
+				if (running) {
+					logger.error("Connection to client " + getUserId() + " lost.");
+				}
+				stopRunning();
+			}
+		}
+	}
+
+	/**
+	 * Starts the thread writing the queued messages to the client.
+	 */
+	private void startWriting() {
+		if (virtualThread) {
+			writerThread = Thread.ofVirtual().start(this::writeMessages);
+		} else {
+			writerThread = new Thread(this::writeMessages);
+			writerThread.start();
+		}
+	}
+
+	/**
+	 * Writes the queued messages to the client until this connection stops running and all messages have been sent.
+	 */
+	private void writeMessages() {
+		List<byte[]> messages = new ArrayList<>();
+
+		try {
+			while (true) {
+				if (drainPendingMessages(messages, MAX_MESSAGES_PER_FLUSH) == 0) {
+					if (!running) {
+						break;
+					}
+
+					// Woken up by flushLater() or stopRunning().
+					LockSupport.park(this);
+					continue;
+				}
+
+				for (byte[] message : messages) {
+					output.write(message);
+				}
+				output.flush();
+				messages.clear();
+			}
+		} catch (IOException exception) {
+			if (running) {
+				logger.error("Failed to send the message.");
+			}
+			stopRunning();
+		}
+	}
+
+	/**
+	 * Waits until the thread writing the queued messages has sent all of them, but not longer than the send timeout.
+	 */
+	private void waitForPendingMessages() {
+		LockSupport.unpark(writerThread);
+
+		try {
+			writerThread.join(SEND_TIMEOUT);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	protected boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	protected void flushLater() {
+		Thread thread = writerThread;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	@Override
+	protected void closeStreams() {
+		// Closing the socket first unblocks a thread still reading or writing.
+		closeSocket();
+		closeInput();
+		closeOutput();
+	}
+
+	/**
+	 * Closes the input stream.
+	 */
+	private void closeInput() {
+		try {
+			if (input != null) {
+				input.close();
+			}
+		} catch (IOException exception) {
+			logger.error("Server reader could not be closed properly.");
+		}
+	}
+
+	/**
+	 * Closes the output stream.
+	 */
+	private void closeOutput() {
+		try {
+			if (output != null) {
+				output.close();
+			}
+		} catch (IOException exception) {
+			// The socket has already been closed, so the remaining messages cannot be sent anymore.
+		}
+	}
+
+	/**
+	 * Closes the socket.
+	 */
+	private void closeSocket() {
+		try {
+			if (socket != null) {
+				socket.close();
+				socket = null;
+			}
+		} catch (IOException exception) {
+			logger.error("Server socket could not be closed properly.");
+		}
+	}
+
+	@Override
+	public void stopRunning() {
+		running = false;
+		flushLater();
+
+		/*
+		 * A virtual thread blocks without timeout, so it must be woken up by shutting down the input of the socket. The
+		 * output stays open until the pending messages have been sent.
+		 */
+		if (virtualThread) {
+			try {
+				Socket openSocket = socket;
+				if (openSocket != null && !openSocket.isClosed() && !openSocket.isInputShutdown()) {
+					openSocket.shutdownInput();
+				}
+			} catch (IOException exception) {
+				logger.error("Server socket could not be closed properly.");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,214 @@
+package network.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONObject;
+
+import network.protocol.ServerTypes;
+import network.protocol.messages.Message;
+import network.protocol.messages.MessageCodec;
+
+/**
+ * Measures how many messages per second can be decoded and dispatched to their handlers. The typed paths decode
+ * messages with the {@code MessageCodec}, either from JSON or from the compact binary encoding, and dispatch them
+ * through a {@code MessageDispatcher}. The legacy path
+ * parses messages into a {@code JSONObject} and determines their type by comparing the key with every
+ * {@code ServerTypes} constant, like the {@code ServerController} used to do. The handlers do nothing, so only the
+ * cost of decoding and dispatching is measured.
+ * <p>
+ * All paths are warmed up first and then measured in turns within the same JVM. For numbers free of any influence of
+ * the other paths, a single path can be run in a JVM of its own.
+ * </p>
+ * <p>
+ * Usage: {@code java network.server.DispatchBenchmark [messages per round] [legacy|json|binary]}
+ * </p>
+ * @author Christoph Hermann
+ * @see MessageCodec
+ * @see MessageDispatcher
+ */
+public final class DispatchBenchmark {
+
+	/**
+	 * The name of the path parsing messages into a {@code JSONObject}.
+	 */
+	private static final String LEGACY = "legacy";
+
+	/**
+	 * The name of the path decoding JSON messages with the {@code MessageCodec}.
+	 */
+	private static final String JSON = "json";
+
+	/**
+	 * The name of the path decoding binary messages with the {@code MessageCodec}.
+	 */
+	private static final String BINARY = "binary";
+
+	/**
+	 * The number of messages handled per round by default.
+	 */
+	private static final int DEFAULT_MESSAGES_PER_ROUND = 1_000_000;
+
+	/**
+	 * The number of rounds used to warm up the JIT compiler.
+	 */
+	private static final int WARM_UP_ROUNDS = 3;
+
+	/**
+	 * The number of measured rounds.
+	 */
+	private static final int MEASURED_ROUNDS = 5;
+
+	/**
+	 * A mix of typical messages, as sent by the clients during a game.
+	 */
+	private static final List<String> MESSAGES = Arrays.asList(
+			"{\"Wuerfeln\":{}}",
+			"{\"Bauen\":{\"Typ\":\"Strasse\",\"Ort\":[{\"x\":0,\"y\":0},{\"x\":1,\"y\":0}]}}",
+			"{\"Bauen\":{\"Typ\":\"Dorf\",\"Ort\":[{\"x\":0,\"y\":0},{\"x\":1,\"y\":0},{\"x\":0,\"y\":1}]}}",
+			"{\"Handel anbieten\":{\"Angebot\":{\"Holz\":1,\"Lehm\":1},\"Nachfrage\":{\"Erz\":2}}}",
+			"{\"Handel annehmen\":{\"Handel id\":3,\"Annehmen\":true}}",
+			"{\"Seehandel\":{\"Angebot\":{\"Wolle\":4},\"Nachfrage\":{\"Getreide\":1}}}",
+			"{\"Raeuber versetzen\":{\"Ort\":{\"x\":-1,\"y\":2},\"Ziel\":2}}",
+			"{\"Chatnachricht senden\":{\"Nachricht\":\"Wer hat Erz?\"}}",
+			"{\"Zug beenden\":{}}");
+
+	/**
+	 * Keeps the results of the legacy path alive, so that the JIT compiler cannot remove the work.
+	 */
+	private static int sink;
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private DispatchBenchmark() {
+	}
+
+	/**
+	 * Runs the benchmark and prints the results.
+	 * @param args the number of messages per round and the name of a single path to run, both optional.
+	 */
+	public static void main(String[] args) {
+		int messagesPerRound = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MESSAGES_PER_ROUND;
+		String onlyPath = args.length > 1 ? args[1] : null;
+		String[] messages = MESSAGES.toArray(new String[0]);
+
+		// Register a handler doing nothing for every type.
+		MessageDispatcher dispatcher = new MessageDispatcher();
+		for (ServerTypes type : ServerTypes.values()) {
+			dispatcher.register(type, Message.class, (message, sender) -> sink++);
+		}
+
+		// Encode the same messages using the compact binary encoding.
+		byte[][] frames = new byte[messages.length][];
+		int jsonBytes = 0;
+		int binaryBytes = 0;
+		for (int i = 0; i < messages.length; i++) {
+			frames[i] = MessageCodec.decode(messages[i]).encodeBinary();
+			jsonBytes += messages[i].length() + 1;
+			binaryBytes += frames[i].length + 4;
+		}
+
+		// Create paths.
+		Map<String, Runnable> paths = new LinkedHashMap<>();
+		paths.put(LEGACY, () -> runLegacy(messages, messagesPerRound));
+		paths.put(JSON, () -> runTyped(messages, messagesPerRound, dispatcher));
+		paths.put(BINARY, () -> runTypedBinary(frames, messagesPerRound, dispatcher));
+		if (onlyPath != null) {
+			if (!paths.containsKey(onlyPath)) {
+				throw new IllegalArgumentException("Unknown path " + onlyPath + ", expected one of " + paths.keySet());
+			}
+			paths.keySet().retainAll(Collections.singleton(onlyPath));
+		}
+
+		Map<String, Double> results = measure(paths, messagesPerRound);
+		for (Map.Entry<String, Double> result : results.entrySet()) {
+			System.out.printf("%-10s %,15.0f messages/s%n", result.getKey(), result.getValue());
+		}
+		if (onlyPath == null) {
+			System.out.printf("speedup: %.2fx (JSON), %.2fx (binary)%n", results.get(JSON) / results.get(LEGACY),
+					results.get(BINARY) / results.get(LEGACY));
+		}
+		System.out.printf("bytes per message: %.1f (JSON), %.1f (binary)%n", (double) jsonBytes / messages.length,
+				(double) binaryBytes / messages.length);
+	}
+
+	/**
+	 * Warms up all paths, before any of them is measured, and then measures them in turns. Since the paths share the
+	 * dispatcher and parts of the codec, a path measured right after its own warm up would be compiled for that path
+	 * only and the paths measured later would pay for the deoptimization. Measuring in turns also spreads any
+	 * disturbance of the machine evenly across the paths.
+	 * @param paths the code running a single round of every path, by the name of the path.
+	 * @param messagesPerRound the number of messages per round.
+	 * @return the best throughput of all measured rounds in messages per second, by the name of the path.
+	 */
+	private static Map<String, Double> measure(Map<String, Runnable> paths, int messagesPerRound) {
+		for (Runnable round : paths.values()) {
+			for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+				round.run();
+			}
+		}
+
+		Map<String, Double> best = new LinkedHashMap<>();
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			for (Map.Entry<String, Runnable> path : paths.entrySet()) {
+				long start = System.nanoTime();
+				path.getValue().run();
+				long duration = System.nanoTime() - start;
+
+				best.merge(path.getKey(), messagesPerRound * 1e9 / duration, Math::max);
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Decodes and dispatches messages the way the server does.
+	 * @param messages the messages to handle.
+	 * @param count the number of messages to handle.
+	 * @param dispatcher the {@link MessageDispatcher} to dispatch the messages with.
+	 */
+	private static void runTyped(String[] messages, int count, MessageDispatcher dispatcher) {
+		for (int i = 0; i < count; i++) {
+			Message message = MessageCodec.decode(messages[i % messages.length]);
+			dispatcher.dispatch(message, null);
+		}
+	}
+
+	/**
+	 * Decodes and dispatches messages using the compact binary encoding.
+	 * @param frames the messages to handle, without length prefix.
+	 * @param count the number of messages to handle.
+	 * @param dispatcher the {@link MessageDispatcher} to dispatch the messages with.
+	 */
+	private static void runTypedBinary(byte[][] frames, int count, MessageDispatcher dispatcher) {
+		for (int i = 0; i < count; i++) {
+			Message message = MessageCodec.decode(frames[i % frames.length]);
+			dispatcher.dispatch(message, null);
+		}
+	}
+
+	/**
+	 * Decodes messages into {@code JSONObjects} and determines their type by comparing the key with every type.
+	 * @param messages the messages to handle.
+	 * @param count the number of messages to handle.
+	 */
+	private static void runLegacy(String[] messages, int count) {
+		for (int i = 0; i < count; i++) {
+			JSONObject jsonObject = new JSONObject(messages[i % messages.length]);
+			String type = jsonObject.firstKey();
+			JSONObject payload = jsonObject.getJSONObject(type);
+
+			for (ServerTypes serverType : ServerTypes.values()) {
+				if (type.equals(serverType.toString())) {
+					sink += serverType.ordinal() + payload.length();
+					break;
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+package network.server;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Represents a thread which handles the non-blocking I/O of many {@code NioServerConnections} using a single
+ * {@code Selector}. All operations on the channels registered with an event loop are executed by the event loop's thread.
+ * Other threads hand work to an event loop using {@link #execute(Runnable)}.
+ * @author Christoph Hermann
+ * @see NioServerConnection
+ * @see Selector
+ */
+public class EventLoop extends Thread {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(EventLoop.class.getName());
+
+	/**
+	 * A status flag which determines if the thread should continue running or stop running. The volatile keyword
+	 * guarantees, that the correct value will be read at all times, even if a different thread changes it.
+	 */
+	private volatile boolean running = true;
+
+	/**
+	 * The selector used to wait for channels that are ready for reading or writing.
+	 */
+	private final Selector selector;
+
+	/**
+	 * The tasks handed to this event loop by other threads, which have not been executed yet.
+	 */
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Creates a new event loop.
+	 * @param name the name of the thread.
+	 * @throws IOException if the selector could not be opened.
+	 */
+	public EventLoop(String name) throws IOException {
+		super(name);
+		this.selector = Selector.open();
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				selector.select();
+			} catch (IOException exception) {
+				logger.error("Error while waiting for channels.");
+				break;
+			}
+
+			runTasks();
+			handleSelectedKeys();
+		}
+
+		closeSelector();
+	}
+
+	/**
+	 * Executes all tasks handed to this event loop.
+	 */
+	private void runTasks() {
+		Runnable task;
+
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (RuntimeException exception) {
+				logger.error("Task of event loop failed.", exception);
+			}
+		}
+	}
+
+	/**
+	 * Lets the connections of all channels that are ready read or write.
+	 */
+	private void handleSelectedKeys() {
+		Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+		while (iterator.hasNext()) {
+			SelectionKey key = iterator.next();
+			iterator.remove();
+
+			NioServerConnection connection = (NioServerConnection) key.attachment();
+
+			try {
+				if (key.isValid() && key.isReadable()) {
+					connection.read();
+				}
+				if (key.isValid() && key.isWritable()) {
+					connection.flush();
+				}
+			} catch (RuntimeException exception) {
+				// A faulty message of one client must not stop the communication with all other clients.
+				logger.error("Failed to handle the message of client " + connection.getUserId() + ".", exception);
+				connection.closeConnection();
+			}
+		}
+	}
+
+	/**
+	 * Registers the specified channel with this event loop and starts the communication with the client.
+	 * @param channel the {@link SocketChannel} of the client.
+	 * @param connection the {@link NioServerConnection} handling the communication with the client.
+	 */
+	public void register(SocketChannel channel, NioServerConnection connection) {
+		execute(() -> {
+			try {
+				channel.configureBlocking(false);
+				SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+				connection.open(key);
+			} catch (ClosedChannelException exception) {
+				connection.closeConnection();
+			} catch (IOException exception) {
+				logger.error("Channel could not be registered.");
+				connection.closeConnection();
+			}
+		});
+	}
+
+	/**
+	 * Hands a task to this event loop. The task will be executed by the thread of this event loop.
+	 * @param task the task to execute.
+	 */
+	public void execute(Runnable task) {
+		if (Thread.currentThread() == this) {
+			task.run();
+		} else {
+			tasks.add(task);
+			selector.wakeup();
+		}
+	}
+
+	/**
+	 * Closes the selector and all channels still registered with it.
+	 */
+	private void closeSelector() {
+		try {
+			for (SelectionKey key : new ArrayList<>(selector.keys())) {
+				((NioServerConnection) key.attachment()).closeConnection();
+			}
+			selector.close();
+		} catch (IOException exception) {
+			logger.error("Selector could not be closed properly.");
+		}
+	}
+
+	/**
+	 * Tells this thread to stop running.
+	 */
+	public void stopRunning() {
+		running = false;
+		selector.wakeup();
+	}
+
+}
@@ -0,0 +1,135 @@
+package network.server;
+
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import network.client.LocalClientConnection;
+import network.protocol.messages.ClientMessage;
+import network.protocol.messages.Message;
+
+/**
+ * Represents a connection to a client running in the same process, e.g. an AI of a simulation. Messages are passed by
+ * method calls, so they are neither encoded nor sent through a socket. The client receives typed
+ * {@code ClientMessages} and sends typed {@code Messages}. Once the client has joined a room, the messages for the client are handled by the room's {@code Mailbox} as well, so a whole game runs
+ * one step after another without any thread of its own and without waiting for the network.
+ * @author Christoph Hermann
+ * @see LocalClientConnection
+ * @see Server#connectLocally(Consumer, Runnable)
+ */
+public class LocalServerConnection extends ServerConnection {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(LocalServerConnection.class.getName());
+
+	/**
+	 * A status flag which determines if the connection should continue running or stop running. The volatile keyword
+	 * guarantees, that the correct value will be read at all times, even if a different thread changes it.
+	 */
+	private volatile boolean running;
+
+	/**
+	 * Handles the messages sent to the client.
+	 */
+	private final Consumer<ClientMessage> client;
+
+	/**
+	 * Is told, when this connection has been closed.
+	 */
+	private final Runnable closeHandler;
+
+	/**
+	 * Creates a new connection to a client running in the same process.
+	 * @param server the {@link Server} this connection belongs to.
+	 * @param client handles the messages sent to the client.
+	 * @param closeHandler is told, when this connection has been closed.
+	 */
+	LocalServerConnection(Server server, Consumer<ClientMessage> client, Runnable closeHandler) {
+		super(server);
+		this.client = client;
+		this.closeHandler = closeHandler;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		sendProtocolInformation();
+	}
+
+	/**
+	 * Receives a message from the client. Incomplete messages are ignored, just like the server ignores them, when they
+	 * are sent over the network.
+	 * @param message the {@link Message} built by the client.
+	 */
+	public void receive(Message message) {
+		if (!running) {
+			return;
+		}
+
+		if (!message.isComplete()) {
+			logger.error("Incomplete message from client " + getUserId() + " ignored: " + message.getType());
+			return;
+		}
+		handle(message);
+	}
+
+	@Override
+	public void sendToClient(ClientMessage message) {
+		deliver(message);
+	}
+
+	@Override
+	void sendToClient(ClientMessage message, byte[][] encodedMessages) {
+		deliver(message);
+	}
+
+	/**
+	 * Gives a message to the client. The HELLO message and the answers to it are given at once, all messages sent
+	 * after the client has joined a room are handled by the room's mailbox after the message being handled right now.
+	 * @param message the {@link ClientMessage}.
+	 */
+	private void deliver(ClientMessage message) {
+		if (!running) {
+			return;
+		}
+
+		Room room = getRoom();
+		if (room == null) {
+			client.accept(message);
+		} else {
+			room.getMailbox().post(() -> client.accept(message));
+		}
+	}
+
+	@Override
+	protected boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	protected void flushLater() {
+		// Messages are given to the client right away, nothing is queued.
+	}
+
+	@Override
+	protected void closeStreams() {
+		closeHandler.run();
+	}
+
+	@Override
+	public void stopRunning() {
+		running = false;
+
+		// Messages already sent are still given to the client, before the connection closes.
+		Room room = getRoom();
+		if (room == null) {
+			closeConnection();
+		} else {
+			room.getMailbox().post(this::closeConnection);
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+package network.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Represents the mailbox of a {@code Room}. Tasks posted to a mailbox are executed one after another in the order they
+ * were posted, but not necessarily on the same thread. The tasks of different mailboxes are executed in parallel by a
+ * thread pool shared by all rooms, so that no lock is needed to keep the state of a single game consistent.
+ * @author Christoph Hermann
+ * @see Room
+ * @see ServerController
+ */
+public class Mailbox implements Runnable {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(Mailbox.class.getName());
+
+	/**
+	 * The maximum number of tasks executed in a row, before the thread is handed to the next mailbox.
+	 */
+	private static final int MAX_TASKS_IN_A_ROW = 64;
+
+	/**
+	 * The executor used to execute the tasks.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The tasks which have not been executed yet.
+	 */
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Whether this mailbox has been handed to the executor and will execute its tasks soon.
+	 */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/**
+	 * Is told, whenever this mailbox has executed all its tasks, or null.
+	 */
+	private volatile Runnable idleHandler;
+
+	/**
+	 * Creates a new mailbox.
+	 * @param executor the {@link Executor} used to execute the tasks.
+	 */
+	public Mailbox(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Posts a task to this mailbox. The task is executed after all tasks posted before.
+	 * @param task the task to execute.
+	 */
+	public void post(Runnable task) {
+		tasks.add(task);
+		schedule();
+	}
+
+	/**
+	 * Hands this mailbox to the executor, unless it has already been handed to it.
+	 */
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException exception) {
+				// The server is shutting down.
+				scheduled.set(false);
+				tasks.clear();
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		try {
+			for (int i = 0; i < MAX_TASKS_IN_A_ROW; i++) {
+				Runnable task = tasks.poll();
+
+				if (task == null) {
+					handleIdle();
+					break;
+				}
+
+				try {
+					task.run();
+				} catch (RuntimeException exception) {
+					// A faulty message must not stop the game.
+					logger.error("Failed to handle a message.", exception);
+				}
+			}
+		} finally {
+			scheduled.set(false);
+
+			if (!tasks.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+
+	/**
+	 * Tells the idle handler, that all tasks have been executed. Tasks it posts are executed afterwards.
+	 */
+	private void handleIdle() {
+		Runnable handler = idleHandler;
+		if (handler == null) {
+			return;
+		}
+
+		try {
+			handler.run();
+		} catch (RuntimeException exception) {
+			logger.error("Failed to handle an idle mailbox.", exception);
+		}
+	}
+
+	/**
+	 * Sets a task, which is executed whenever this mailbox has executed all its tasks. It is executed by this mailbox
+	 * like any other task, so no other task of this mailbox runs at the same time. If all clients of a room run in the
+	 * same process, an idle mailbox means that nothing will ever happen in the room again, unless a task is posted from
+	 * outside.
+	 * @param idleHandler the task or null, if nothing should be done.
+	 */
+	public void setIdleHandler(Runnable idleHandler) {
+		this.idleHandler = idleHandler;
+	}
+
+	/**
+	 * Returns the number of tasks which have not been executed yet.
+	 * @return the number of pending tasks.
+	 */
+	public int getNumberOfPendingTasks() {
+		return tasks.size();
+	}
+
+}
@@ -0,0 +1,73 @@
+package network.server;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import network.protocol.ServerTypes;
+import network.protocol.messages.Message;
+import network.protocol.messages.MessageCodec;
+
+/**
+ * Represents a dispatch table mapping every type of message to the handler responsible for it. The table is built
+ * once, so dispatching a message is a single lookup, and every handler receives the message already decoded into its
+ * own class.
+ * @author Christoph Hermann
+ * @see MessageHandler
+ * @see MessageCodec
+ * @see ServerController
+ */
+public class MessageDispatcher {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(MessageDispatcher.class.getName());
+
+	/**
+	 * The handlers of all registered message types.
+	 */
+	private final Map<ServerTypes, MessageHandler<Message>> handlers = new EnumMap<>(ServerTypes.class);
+
+	/**
+	 * Registers the handler for a type of message. A handler registered before for the same type is replaced.
+	 * @param type the type of the messages.
+	 * @param messageClass the class the messages of this type are decoded into.
+	 * @param handler the {@link MessageHandler} for the messages.
+	 * @param <T> the class of the messages.
+	 */
+	public <T extends Message> void register(ServerTypes type, Class<T> messageClass,
+			MessageHandler<? super T> handler) {
+		handlers.put(type, (message, sender) -> handler.handle(messageClass.cast(message), sender));
+	}
+
+	/**
+	 * Hands a message to the handler registered for its type.
+	 * @param message the decoded message.
+	 * @param sender the {@link ServerConnection} of the client who sent the message.
+	 * @return true, if a handler has been found. false, if the message has been ignored.
+	 */
+	public boolean dispatch(Message message, ServerConnection sender) {
+		MessageHandler<Message> handler = handlers.get(message.getType());
+
+		if (handler == null) {
+			logger.error("No handler for message of type " + message.getType() + ".");
+			return false;
+		}
+
+		handler.handle(message, sender);
+		return true;
+	}
+
+	/**
+	 * Returns whether a handler has been registered for the specified type of message.
+	 * @param type the type of the messages.
+	 * @return true, if a handler has been registered. false, otherwise.
+	 */
+	public boolean isRegistered(ServerTypes type) {
+		return handlers.containsKey(type);
+	}
+
+}
@@ -0,0 +1,21 @@
+package network.server;
+
+import network.protocol.messages.Message;
+
+/**
+ * Handles a single type of message received from a client.
+ * @author Christoph Hermann
+ * @param <T> the type of the messages handled.
+ * @see MessageDispatcher
+ */
+@FunctionalInterface
+public interface MessageHandler<T extends Message> {
+
+	/**
+	 * Handles a message.
+	 * @param message the decoded message.
+	 * @param sender the {@link ServerConnection} of the client who sent the message.
+	 */
+	void handle(T message, ServerConnection sender);
+
+}
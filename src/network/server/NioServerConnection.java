@@ -0,0 +1,220 @@
+package network.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Represents a connection to a single client, which uses non-blocking I/O. The connection has no thread of its own.
+ * Instead, it is driven by the {@code EventLoop} its channel is registered with. Messages are framed according to the
+ * negotiated {@code Encoding}, just like with the {@code BlockingServerConnection}.
+ * @author Christoph Hermann
+ * @see EventLoop
+ * @see TransportType#NIO
+ */
+public class NioServerConnection extends ServerConnection {
+
+	/**
+	 * The logger for this class.
+	 */
+	private static final Logger logger = LogManager.getLogger(NioServerConnection.class.getName());
+
+	/**
+	 * The size in bytes of the buffer used to read from the channel.
+	 */
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	/**
+	 * The maximum number of messages written to the channel at once.
+	 */
+	private static final int MAX_MESSAGES_PER_WRITE = 64;
+
+	/**
+	 * A status flag which determines if the connection should continue running or stop running. The volatile keyword
+	 * guarantees, that the correct value will be read at all times, even if a different thread changes it.
+	 */
+	private volatile boolean running = true;
+
+	/**
+	 * The channel of the client this connection is communicating with.
+	 */
+	private final SocketChannel channel;
+
+	/**
+	 * The event loop the channel is registered with.
+	 */
+	private final EventLoop eventLoop;
+
+	/**
+	 * The key representing the registration of the channel with the event loop.
+	 */
+	private SelectionKey key;
+
+	/**
+	 * The buffer used to read from the channel.
+	 */
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+	/**
+	 * The messages taken from the queue to be written to the channel at once.
+	 */
+	private final List<byte[]> batch = new ArrayList<>();
+
+	/**
+	 * The messages currently being written to the channel. Is null if all messages taken from the queue have been
+	 * written completely.
+	 */
+	private ByteBuffer[] buffers;
+
+	/**
+	 * Whether the event loop has already been told to flush this connection.
+	 */
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	/**
+	 * Creates a new connection communicating with a user.
+	 * @param channel the channel on the user's end.
+	 * @param eventLoop the {@link EventLoop} the channel will be registered with.
+	 * @param server the {@link Server} this connection belongs to.
+	 */
+	public NioServerConnection(SocketChannel channel, EventLoop eventLoop, Server server) {
+		super(server);
+		this.channel = channel;
+		this.eventLoop = eventLoop;
+	}
+
+	@Override
+	public void start() {
+		eventLoop.register(channel, this);
+	}
+
+	/**
+	 * Called by the event loop once the channel has been registered.
+	 * @param key the key representing the registration of the channel.
+	 */
+	void open(SelectionKey key) {
+		this.key = key;
+		sendProtocolInformation();
+	}
+
+	/**
+	 * Reads all available bytes from the channel and handles every complete message. Must only be called by the event
+	 * loop.
+	 */
+	void read() {
+		int nBytes;
+
+		try {
+			nBytes = channel.read(readBuffer);
+		} catch (IOException exception) {
+			nBytes = -1;
+		}
+
+		if (nBytes < 0) {
+			logger.error("Connection to client " + getUserId() + " lost.");
+			closeConnection();
+			return;
+		}
+
+		readBuffer.flip();
+		try {
+			receive(readBuffer);
+		} catch (IOException exception) {
+			logger.error("Invalid message from client " + getUserId() + ": " + exception.getMessage());
+			closeConnection();
+			return;
+		}
+		readBuffer.clear();
+	}
+
+	@Override
+	protected boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	protected void flushLater() {
+		// Messages queued while a flush is pending are written by that flush.
+		if (flushScheduled.compareAndSet(false, true)) {
+			eventLoop.execute(this::flush);
+		}
+	}
+
+	/**
+	 * Writes as many pending messages to the channel as possible without blocking. Several messages are written with a
+	 * single gathering write. If not all messages could be written, the event loop is told to continue once the channel
+	 * is ready for writing again. Must only be called by the event loop.
+	 */
+	void flush() {
+		flushScheduled.set(false);
+
+		if (key == null || !key.isValid()) {
+			return;
+		}
+
+		try {
+			while (buffers != null || takeBatch()) {
+				channel.write(buffers);
+
+				if (buffers[buffers.length - 1].hasRemaining()) {
+					key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+					return;
+				}
+				buffers = null;
+			}
+			key.interestOps(SelectionKey.OP_READ);
+		} catch (IOException exception) {
+			logger.error("Failed to send the message.");
+			closeConnection();
+			return;
+		}
+
+		// A stopped connection closes as soon as all pending messages have been sent.
+		if (!running) {
+			closeConnection();
+		}
+	}
+
+	/**
+	 * Takes the next messages to write from the queue.
+	 * @return true, if there are messages to write. false, otherwise.
+	 */
+	private boolean takeBatch() {
+		if (drainPendingMessages(batch, MAX_MESSAGES_PER_WRITE) == 0) {
+			return false;
+		}
+
+		buffers = new ByteBuffer[batch.size()];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = ByteBuffer.wrap(batch.get(i));
+		}
+		batch.clear();
+		return true;
+	}
+
+	@Override
+	protected void closeStreams() {
+		try {
+			if (key != null) {
+				key.cancel();
+			}
+			channel.close();
+		} catch (IOException exception) {
+			logger.error("Server channel could not be closed properly.");
+		}
+	}
+
+	@Override
+	public void stopRunning() {
+		running = false;
+		eventLoop.execute(this::flush);
+	}
+
+}
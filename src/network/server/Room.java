@@ -0,0 +1,294 @@
+package network.server;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lobby.Lobby;
+import lobby.chat.ChatController;
+import network.protocol.Encoding;
+import network.protocol.ProtocolTrace;
+import network.protocol.messages.ClientMessage;
+
+/**
+ * Represents a single game table hosted by a {@code Server}. Every room has its own {@code Lobby}, its own
+ * {@code ServerController} and its own list of connected clients, so that the games of different rooms are completely
+ * independent of each other. All messages of a room are handled one after another by the room's {@code Mailbox}.
+ * Messages sent to several clients are encoded only once per {@code Encoding} and the same bytes are queued for every
+ * recipient using that encoding.
+ * <p>
+ * The class is final, because its constructor passes the room to its {@code ServerController} once all other fields
+ * are set. A subclass could not initialize its own fields before that.
+ * </p>
+ * @author Christoph Hermann
+ * @see Server
+ * @see ServerController
+ * @see Mailbox
+ */
+public final class Room {
+
+	/**
+	 * The maximum numbers of clients that can be connected to this room at the same time, one for every player of a
+	 * game.
+	 */
+	private static final int MAX_N_CLIENTS = ServerController.MAX_PLAYERS;
+
+	/**
+	 * The number of encodings the clients may use.
+	 */
+	private static final int NUMBER_OF_ENCODINGS = Encoding.values().length;
+
+	/**
+	 * The id of this room.
+	 */
+	private final int id;
+
+	/**
+	 * The server hosting this room.
+	 */
+	private final Server server;
+
+	/**
+	 * A List of all threads handling the communication with the clients which are connected to this room.
+	 */
+	private final List<ServerConnection> clients = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The controller responsible for handling all messages received from the clients of this room.
+	 */
+	private final ServerController serverController;
+
+	/**
+	 * The mailbox used to handle all messages of this room one after another.
+	 */
+	private final Mailbox mailbox;
+
+	/**
+	 * Whether this room has been closed or not.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new room.
+	 * @param id the id of this room.
+	 * @param server the {@link Server} hosting this room.
+	 * @param chatController the {@link ChatController} that is used to display messages.
+	 */
+	public Room(int id, Server server, ChatController chatController) {
+		this.id = id;
+		this.server = server;
+		this.mailbox = new Mailbox(server.getGameExecutor());
+
+		// Create the controller last, it keeps a reference to this room.
+		this.serverController = new ServerController(chatController, new Lobby(), this);
+	}
+
+	/**
+	 * Adds the specified client to this room, if the room is neither full nor closed and its game has not started yet.
+	 * @param client the {@link ServerConnection} of the client.
+	 * @return true, if the client joined this room. false, otherwise.
+	 */
+	public synchronized boolean join(ServerConnection client) {
+		if (!isOpen()) {
+			return false;
+		}
+
+		clients.add(client);
+		return true;
+	}
+
+	/**
+	 * Removes the specified client from this room. If the last client leaves before the game has started, the room is
+	 * removed from its {@code Server}.
+	 * @param client the {@link ServerConnection} of the client.
+	 * @see Server
+	 */
+	public void leave(ServerConnection client) {
+		synchronized (this) {
+			clients.remove(client);
+
+			if (closed || !clients.isEmpty() || serverController.hasGameStarted()) {
+				return;
+			}
+			closed = true;
+		}
+
+		server.removeRoom(this);
+	}
+
+	/**
+	 * Closes this room. All clients of this room are disconnected and the room is removed from its {@code Server}.
+	 * @see Server
+	 */
+	public void close() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+
+		for (ServerConnection client : clients) {
+			client.stopRunning();
+		}
+
+		server.closeRoom(this);
+	}
+
+	/**
+	 * Sends a message to every client connected to this room.
+	 * @param message the {@link ClientMessage} to broadcast.
+	 */
+	public void broadcast(ClientMessage message) {
+		byte[][] encodedMessages = new byte[NUMBER_OF_ENCODINGS][];
+
+		for (ServerConnection client : clients) {
+			client.sendToClient(message, encodedMessages);
+		}
+		trace(message, encodedMessages);
+	}
+
+	/**
+	 * Sends a message to every client connected to this room except the specified one.
+	 * @param message the {@link ClientMessage} to send.
+	 * @param sender the {@link ServerConnection} of the client who doesn't receive this message.
+	 */
+	public void sendToEverybodyElse(ClientMessage message, ServerConnection sender) {
+		byte[][] encodedMessages = new byte[NUMBER_OF_ENCODINGS][];
+
+		for (ServerConnection client : clients) {
+			if (client != sender) {
+				client.sendToClient(message, encodedMessages);
+			}
+		}
+		trace(message, encodedMessages);
+	}
+
+	/**
+	 * Sends a message to the client with the specified id.
+	 * @param message the {@link ClientMessage} to send.
+	 * @param id the ClientId of whom receives this message.
+	 */
+	public void sendToSomeone(ClientMessage message, int id) {
+		for (ServerConnection client : clients) {
+			if (client.getUserId() == id) {
+				client.sendToClient(message);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Sends a message to every client connected to this room except the one with the specified id.
+	 * @param message the {@link ClientMessage} to send.
+	 * @param id the ClientId of whom not receives this message.
+	 */
+	public void sendToSomeoneElse(ClientMessage message, int id) {
+		byte[][] encodedMessages = new byte[NUMBER_OF_ENCODINGS][];
+
+		for (ServerConnection client : clients) {
+			if (client.getUserId() != id) {
+				client.sendToClient(message, encodedMessages);
+			}
+		}
+		trace(message, encodedMessages);
+	}
+
+	/**
+	 * Encodes a message sent to several clients. The message is encoded only once per encoding, no matter how many
+	 * clients use the same encoding.
+	 * @param message the message to encode.
+	 * @param encoding the {@link Encoding} of the recipient.
+	 * @param encodedMessages the message encoded so far, indexed by the ordinal of the encoding.
+	 * @return the encoded message.
+	 */
+	static byte[] encode(ClientMessage message, Encoding encoding, byte[][] encodedMessages) {
+		byte[] encodedMessage = encodedMessages[encoding.ordinal()];
+
+		if (encodedMessage == null) {
+			encodedMessage = encoding.encode(message);
+			encodedMessages[encoding.ordinal()] = encodedMessage;
+		}
+		return encodedMessage;
+	}
+
+	/**
+	 * Traces a message sent to several clients once, using any of the encodings it has been encoded with. Nothing is
+	 * traced, if the message has not been sent to anybody.
+	 * @param message the sent {@link ClientMessage}.
+	 * @param encodedMessages the message in every encoding used, by the ordinal of the encoding.
+	 * @see ProtocolTrace
+	 */
+	private void trace(ClientMessage message, byte[][] encodedMessages) {
+		for (Encoding encoding : Encoding.values()) {
+			if (encodedMessages[encoding.ordinal()] != null) {
+				ProtocolTrace.sent("room", id, message.getType().toString(), encoding, encodedMessages[encoding.ordinal()]);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether new clients can join this room.
+	 * @return true, if the room is neither full nor closed and its game has not started yet. false, otherwise.
+	 */
+	public synchronized boolean isOpen() {
+		return !closed && !isFull() && !serverController.hasGameStarted();
+	}
+
+	/**
+	 * Returns whether the maximum amount of clients are connected to this room.
+	 * @return true, if this room is full. false, otherwise.
+	 */
+	public boolean isFull() {
+		return clients.size() >= MAX_N_CLIENTS;
+	}
+
+	/**
+	 * Returns whether no clients are connected to this room.
+	 * @return true, if this room is empty. false, otherwise.
+	 */
+	public boolean isEmpty() {
+		return clients.isEmpty();
+	}
+
+	/**
+	 * Returns the id of this room.
+	 * @return the id.
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the list of all clients connected to this room.
+	 * @return the clients.
+	 */
+	public List<ServerConnection> getClients() {
+		return clients;
+	}
+
+	/**
+	 * Returns the controller responsible for handling all messages received from the clients of this room.
+	 * @return the {@link ServerController}.
+	 */
+	public ServerController getServerController() {
+		return serverController;
+	}
+
+	/**
+	 * Returns the mailbox used to handle all messages of this room one after another.
+	 * @return the {@link Mailbox}.
+	 */
+	public Mailbox getMailbox() {
+		return mailbox;
+	}
+
+	/**
+	 * Returns the server hosting this room.
+	 * @return the {@link Server}.
+	 */
+	public Server getServer() {
+		return server;
+	}
+
+}
@@ -1,22 +1,43 @@
 package network.server;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.util.ArrayList;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import game.board.BoardConfiguration;
+import lobby.chat.ChatController;
 import lobby.menu.MenuController;
-import main.ApplicationInstance;
+import network.KeepAlive;
+import network.protocol.messages.ClientMessage;
 
 /**
- * Represents a server.
+ * Represents a server. A server hosts one or more {@code Rooms}, each running an independent game. Clients are routed
+ * to a room when they answer the server's HELLO message.
  * @author Christoph Hermann
+ * @see Room
  */
 public class Server extends Thread {
 
@@ -39,10 +60,78 @@ public class Server extends Thread {
 	 */
 	private volatile boolean running = true;
 
+	/**
+	 * Is counted down, as soon as this server has tried to open its socket, whether successfully or not.
+	 */
+	private final CountDownLatch startup = new CountDownLatch(1);
+
 	/**
 	 * The socket of this server.
 	 */
-	private ServerSocket serverSocket;
+	private volatile ServerSocket serverSocket;
+
+	/**
+	 * The channel of this server, if the {@code NIO} transport is used.
+	 * @see TransportType#NIO
+	 */
+	private ServerSocketChannel serverSocketChannel;
+
+	/**
+	 * The selector used to wait for connection requests, if the {@code NIO} transport is used.
+	 * @see TransportType#NIO
+	 */
+	private Selector acceptSelector;
+
+	/**
+	 * The way messages are transported between this server and its clients.
+	 */
+	private TransportType transportType = TransportType.BLOCKING;
+
+	/**
+	 * The configuration of the boards of all games on this server.
+	 * @see BoardConfiguration
+	 */
+	private BoardConfiguration boardConfiguration = BoardConfiguration.STANDARD;
+
+	/**
+	 * The number of event loops used, if the {@code NIO} transport is used.
+	 * @see TransportType#NIO
+	 */
+	private int numberOfEventLoops = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+	/**
+	 * The event loops handling the clients, if the {@code NIO} transport is used.
+	 * @see TransportType#NIO
+	 */
+	private EventLoop[] eventLoops = new EventLoop[0];
+
+	/**
+	 * The index of the event loop the next client will be registered with.
+	 */
+	private int nextEventLoop;
+
+	/**
+	 * The threads handling the messages of all rooms. Each room hands its messages to these threads through its own
+	 * {@code Mailbox}, so that the messages of a single game are handled one after another, while different games are
+	 * handled in parallel. The mailboxes are handled in the order they have been scheduled.
+	 * @see Mailbox
+	 */
+	private final ExecutorService gameExecutor;
+
+	/**
+	 * The maximum number of messages waiting to be sent to a single client, if not specified otherwise.
+	 */
+	private static final int DEFAULT_MAX_PENDING_MESSAGES = 1024;
+
+	/**
+	 * The maximum number of messages waiting to be sent to a single client. A client exceeding it is disconnected.
+	 */
+	private int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
+
+	/**
+	 * The number of clients which have been disconnected, because they did not read their messages fast enough.
+	 */
+	private final AtomicInteger numberOfSlowConsumers = new AtomicInteger();
 
 	/**
 	 * The port number of this server.
@@ -52,28 +141,58 @@ public class Server extends Thread {
 	/**
 	 * A List of all threads handling the communication with the clients which are connected to this server.
 	 */
-	private List<ServerConnection> clients = new ArrayList<>();
+	private List<ServerConnection> clients = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The maximum number of rooms a server hosts, if not specified otherwise.
+	 */
+	private static final int DEFAULT_MAX_N_ROOMS = 1;
+
+	/**
+	 * The maximum number of rooms that can be hosted by this server at the same time.
+	 */
+	private final int maxRooms;
 
 	/**
-	 * The maximum numbers of clients that can be connected to this server at the same time.
+	 * All rooms currently hosted by this server, mapped by their id.
 	 */
-	private static final int MAX_N_CLIENTS = 4;
-	
+	private final Map<Integer, Room> rooms = new LinkedHashMap<>();
+
+	/**
+	 * The id of the next room created without being requested by a client.
+	 */
+	private int nextRoomId = 1;
+
 	/**
-	 * The controller responsible for starting this server.
+	 * The controller responsible for starting this server or null, if the server runs without user interface.
 	 */
 	private MenuController menuController;
 
 	/**
-	 * The controller responsible for handling all messages received from clients.
+	 * The {@code ChatController} that is used to display messages or null, if the server runs without user interface.
+	 * @see ChatController
+	 */
+	private ChatController chatController;
+
+	/**
+	 * The locale of the messages sent by this server, if not specified otherwise.
 	 */
-	private ServerController serverController;
+	private static final Locale DEFAULT_LOCALE = Locale.US;
 
 	/**
 	 * The bundle containing all error messages.
 	 */
-	private ResourceBundle errorMessages = ResourceBundle.getBundle("internationalization.MessagesBundle",
-			ApplicationInstance.getInstance().getLocale());
+	private volatile ResourceBundle errorMessages = ResourceBundle.getBundle("internationalization.MessagesBundle",
+			DEFAULT_LOCALE);
+
+	/**
+	 * Creates a new Server using the specified port, which runs without user interface.
+	 * @param port the port.
+	 * @param maxRooms the maximum number of {@link Room Rooms} hosted at the same time.
+	 */
+	public Server(int port, int maxRooms) {
+		this(port, maxRooms, null);
+	}
 
 	/**
 	 * Creates a new Server using the specified port.
@@ -81,14 +200,45 @@ public class Server extends Thread {
 	 * @param menuController the controller responsible for starting this server.
 	 */
 	public Server(int port, MenuController menuController) {
+		this(port, DEFAULT_MAX_N_ROOMS, menuController);
+	}
+
+	/**
+	 * Creates a new Server using the specified port, which hosts up to the specified number of rooms.
+	 * @param port the port.
+	 * @param maxRooms the maximum number of {@link Room Rooms} hosted at the same time.
+	 * @param menuController the controller responsible for starting this server or null, if the server runs without
+	 *            user interface.
+	 */
+	public Server(int port, int maxRooms, MenuController menuController) {
 		this.port = port;
+		this.maxRooms = maxRooms;
 		this.menuController = menuController;
+
+		// All mailboxes wait in a single queue shared by the game threads. A mailbox scheduled again by a game thread
+		// is queued behind every mailbox scheduled before, e.g. the first message of a new room, so no room can keep
+		// a thread to itself while others wait.
+		int numberOfGameThreads = Runtime.getRuntime().availableProcessors();
+		AtomicInteger nextThreadId = new AtomicInteger();
+		this.gameExecutor = new ThreadPoolExecutor(numberOfGameThreads, numberOfGameThreads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Game-" + port + "-" + nextThreadId.getAndIncrement());
+					thread.setDaemon(true);
+					return thread;
+				});
 	}
 
 	@Override
 	public void run() {
-		openConnection(port);
-		listenForClientConnectionRequests();
+		if (transportType == TransportType.NIO) {
+			openChannel(port);
+			startup.countDown();
+			listenForClientConnectionRequestsWithSelector();
+		} else {
+			openConnection(port);
+			startup.countDown();
+			listenForClientConnectionRequests();
+		}
 
 		closeConnection();
 	}
@@ -101,15 +251,86 @@ public class Server extends Thread {
 		try {
 			serverSocket = new ServerSocket(port);
 			serverSocket.setReuseAddress(true);
-			serverSocket.setSoTimeout(SERVER_SOCKET_TIMEOUT);
+
+			// Virtual threads block until stopRunning() closes the socket, so they don't need a timeout.
+			if (transportType != TransportType.VIRTUAL_THREADS) {
+				serverSocket.setSoTimeout(SERVER_SOCKET_TIMEOUT);
+			}
 		} catch (IllegalArgumentException | NullPointerException | IOException excepton) {
 			stopRunning();
 
 			logger.error(excepton.getMessage());
-			serverController.getChatController().displayErrorMessage(errorMessages.getString("SERVER_START_FAILED"));
+			displayErrorMessage("SERVER_START_FAILED");
+		}
+	}
+
+	/**
+	 * Opens a non-blocking channel with a specified port that clients can connect to and starts the event loops.
+	 * @param port the port.
+	 * @see TransportType#NIO
+	 */
+	private void openChannel(int port) {
+		try {
+			serverSocketChannel = ServerSocketChannel.open();
+			serverSocket = serverSocketChannel.socket();
+			serverSocket.setReuseAddress(true);
+			serverSocketChannel.bind(new InetSocketAddress(port));
+			serverSocketChannel.configureBlocking(false);
+
+			acceptSelector = Selector.open();
+			serverSocketChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+
+			eventLoops = new EventLoop[numberOfEventLoops];
+			for (int i = 0; i < eventLoops.length; i++) {
+				eventLoops[i] = new EventLoop("EventLoop-" + port + "-" + i);
+				eventLoops[i].start();
+			}
+		} catch (IllegalArgumentException | IOException excepton) {
+			stopRunning();
+
+			logger.error(excepton.getMessage());
+			displayErrorMessage("SERVER_START_FAILED");
+		}
+	}
+
+	/**
+	 * Listens for incoming connection requests using a selector and registers a new {@code NioServerConnection} with
+	 * one of the event loops for each of them.
+	 * @see TransportType#NIO
+	 */
+	private void listenForClientConnectionRequestsWithSelector() {
+		while (running) {
+			try {
+				// Times out regularly so that the while condition is checked regularly.
+				acceptSelector.select(SERVER_SOCKET_TIMEOUT);
+				acceptSelector.selectedKeys().clear();
+
+				SocketChannel clientChannel;
+				while (running && (clientChannel = serverSocketChannel.accept()) != null) {
+					startNewNioServerConnection(clientChannel);
+				}
+			} catch (IOException exception) {
+				logger.error("Error while listening for incoming connections.");
+			}
 		}
 	}
 
+	/**
+	 * Starts a new {@code NioServerConnection} for the specified client channel. The clients are distributed evenly
+	 * among the event loops.
+	 * @param clientChannel the client channel.
+	 * @see NioServerConnection
+	 */
+	private void startNewNioServerConnection(SocketChannel clientChannel) {
+		EventLoop eventLoop = eventLoops[nextEventLoop];
+		nextEventLoop = (nextEventLoop + 1) % eventLoops.length;
+
+		ServerConnection newClient = new NioServerConnection(clientChannel, eventLoop, this);
+		clients.add(newClient);
+
+		newClient.start();
+	}
+
 	/**
 	 * Listens for incoming connection requests and starts a new {@code ServerConnection} for each of them.
 	 */
@@ -117,7 +338,11 @@ public class Server extends Thread {
 		while (running) {
 			try {
 				Socket clientSocket = serverSocket.accept();
-				clientSocket.setSoTimeout(1000);
+				if (transportType == TransportType.VIRTUAL_THREADS) {
+					KeepAlive.enable(clientSocket);
+				} else {
+					clientSocket.setSoTimeout(1000);
+				}
 
 				/* 
 				 * If the server was told to shut down while it was waiting for connections, it will break here when the
@@ -131,26 +356,116 @@ public class Server extends Thread {
 			} catch (SocketTimeoutException exception) {
 				// This exception is thrown regularly so that the while condition is checked regularly.
 			} catch (IOException exception) {
-				logger.error("Error while listening for incoming connections.");
+				// Closing the socket while waiting for connections is the regular way to stop waiting.
+				if (running) {
+					logger.error("Error while listening for incoming connections.");
+				}
 			}
 		}
 	}
 
 	/**
-	 * Starts a new {@code ServerConnection} thread for the specified client socket.
+	 * Starts a new {@code BlockingServerConnection} thread for the specified client socket.
 	 * @param clientSocket the client socket.
-	 * @see ServerConnection
+	 * @see BlockingServerConnection
 	 */
 	private void startNewServerConnection(Socket clientSocket) {
-		ServerConnection newClient = new ServerConnection(clientSocket, clients, serverController);
+		boolean virtualThread = transportType == TransportType.VIRTUAL_THREADS;
+		ServerConnection newClient = new BlockingServerConnection(clientSocket, this, virtualThread);
+		clients.add(newClient);
 
-		if (clients.size() < MAX_N_CLIENTS) {
-			clients.add(newClient);
-		} else {
-			newClient.setServerFull();
+		newClient.start();
+	}
+
+	/**
+	 * Creates a new connection to a client running in the same process, e.g. an AI of a simulation. This server does
+	 * not need to be started to host such clients. The connection must be started to send the HELLO message to the
+	 * client.
+	 * @param client handles the messages sent to the client.
+	 * @param closeHandler is told, when the connection has been closed.
+	 * @return the new {@link LocalServerConnection}.
+	 */
+	public LocalServerConnection connectLocally(Consumer<ClientMessage> client, Runnable closeHandler) {
+		LocalServerConnection newClient = new LocalServerConnection(this, client, closeHandler);
+		clients.add(newClient);
+
+		return newClient;
+	}
+
+	/**
+	 * Finds the room a client should be routed to. If a room id is requested, the room with that id is returned and
+	 * created if it does not exist yet. Otherwise the first room still open for new clients is returned, or a new room
+	 * is created.
+	 * @param requestedRoomId the id of the requested room or a value less than 1, if no room was requested.
+	 * @return the {@link Room} or null, if the maximum number of rooms is already hosted.
+	 */
+	public synchronized Room findRoom(int requestedRoomId) {
+		if (requestedRoomId > 0) {
+			Room room = rooms.get(requestedRoomId);
+
+			if (room == null && rooms.size() < maxRooms) {
+				room = createRoom(requestedRoomId);
+			}
+			return room;
 		}
 
-		newClient.start();
+		for (Room room : rooms.values()) {
+			if (room.isOpen()) {
+				return room;
+			}
+		}
+
+		if (rooms.size() < maxRooms) {
+			while (rooms.containsKey(nextRoomId)) {
+				nextRoomId++;
+			}
+			return createRoom(nextRoomId++);
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a new room with the specified id and adds it to the rooms of this server.
+	 * @param id the id of the new room.
+	 * @return the new {@link Room}.
+	 */
+	private Room createRoom(int id) {
+		Room room = new Room(id, this, chatController);
+		rooms.put(id, room);
+
+		logger.info("Room " + id + " opened.");
+		return room;
+	}
+
+	/**
+	 * Removes the specified room from this server. If this server hosts a single room only, the server stops running
+	 * together with the room.
+	 * @param room the {@link Room} that has been closed.
+	 */
+	synchronized void closeRoom(Room room) {
+		removeRoom(room);
+
+		if (maxRooms == 1) {
+			stopRunning();
+		}
+	}
+
+	/**
+	 * Removes the specified room from this server without stopping the server.
+	 * @param room the {@link Room} to remove.
+	 */
+	synchronized void removeRoom(Room room) {
+		if (rooms.remove(room.getId(), room)) {
+			logger.info("Room " + room.getId() + " closed.");
+		}
+	}
+
+	/**
+	 * Removes the specified client from the list of clients connected to this server.
+	 * @param client the {@link ServerConnection} of the client.
+	 */
+	void removeClient(ServerConnection client) {
+		clients.remove(client);
 	}
 
 	/**
@@ -163,13 +478,26 @@ public class Server extends Thread {
 				client.stopRunning();
 			}
 
+			// Stop the event loops, if there are any.
+			for (EventLoop eventLoop : eventLoops) {
+				eventLoop.stopRunning();
+			}
+
+			// Messages already posted are still handled, new ones are dropped.
+			gameExecutor.shutdown();
+
 			// Remove the reference to this server.
-			menuController.serverProperty().set(null);
+			if (menuController != null) {
+				menuController.serverProperty().set(null);
+			}
 
 			// Close the socket
 			if (serverSocket != null) {
 				serverSocket.close();
 			}
+			if (acceptSelector != null) {
+				acceptSelector.close();
+			}
 		} catch (IOException exception) {
 			logger.error("Failed to terminate the server properly.");
 		} finally {
@@ -182,14 +510,181 @@ public class Server extends Thread {
 	 */
 	public void stopRunning() {
 		running = false;
+
+		// A server waiting for connections without timeout must be woken up by closing its socket.
+		if (transportType == TransportType.VIRTUAL_THREADS && serverSocket != null) {
+			try {
+				serverSocket.close();
+			} catch (IOException exception) {
+				logger.error("Failed to terminate the server properly.");
+			}
+		}
+	}
+
+	/**
+	 * Waits until this server has opened its socket, so that clients can connect to it.
+	 * @param timeout the maximum time to wait in milliseconds.
+	 * @return true, if this server accepts connections. false, if it failed to open its socket or the time elapsed
+	 *         before.
+	 * @throws InterruptedException if the current thread is interrupted while waiting.
+	 */
+	public boolean awaitStartup(long timeout) throws InterruptedException {
+		return startup.await(timeout, TimeUnit.MILLISECONDS) && running;
+	}
+
+	/**
+	 * Waits until this server has stopped, e.g. after {@link #stopRunning()}.
+	 * @param timeout the maximum time to wait in milliseconds.
+	 * @return true, if this server has stopped. false, if the time elapsed before.
+	 * @throws InterruptedException if the current thread is interrupted while waiting.
+	 */
+	public boolean awaitTermination(long timeout) throws InterruptedException {
+		join(timeout);
+		return !isAlive();
+	}
+
+	/**
+	 * Logs an error message and displays it in the chat of the user, who started this server, if there is any.
+	 * @param key the key of the message in the bundle of error messages.
+	 */
+	void displayErrorMessage(String key) {
+		String message = errorMessages.getString(key);
+
+		logger.error(message);
+		if (chatController != null) {
+			chatController.displayErrorMessage(message);
+		}
+	}
+
+	/**
+	 * Sets the locale of the messages sent by this server and its rooms, e.g. the language chosen by the user who
+	 * started the server.
+	 * @param locale the {@link Locale}.
+	 */
+	public void setLocale(Locale locale) {
+		errorMessages = ResourceBundle.getBundle("internationalization.MessagesBundle", locale);
+	}
+
+	/**
+	 * Returns the bundle containing all messages sent by this server and its rooms.
+	 * @return the {@link ResourceBundle}.
+	 */
+	public ResourceBundle getErrorMessages() {
+		return errorMessages;
+	}
+
+	/**
+	 * Sets the {@code ChatController} that is used by this server and its rooms to display messages.
+	 * @param chatController the {@link ChatController} to set.
+	 */
+	public void setChatController(ChatController chatController) {
+		this.chatController = chatController;
+	}
+
+	/**
+	 * Returns the {@code ChatController} that is used by this server and its rooms to display messages.
+	 * @return the {@link ChatController}.
+	 */
+	public ChatController getChatController() {
+		return chatController;
+	}
+
+	/**
+	 * Sets the way messages are transported between this server and its clients. Must be set before this server is
+	 * started.
+	 * @param transportType the {@link TransportType} to use.
+	 */
+	public void setTransportType(TransportType transportType) {
+		this.transportType = transportType;
+	}
+
+	/**
+	 * Sets the configuration of the boards of the games started afterwards, e.g. a larger board for more players or
+	 * for stress tests.
+	 * @param boardConfiguration the {@link BoardConfiguration}.
+	 */
+	public void setBoardConfiguration(BoardConfiguration boardConfiguration) {
+		this.boardConfiguration = boardConfiguration;
+	}
+
+	/**
+	 * Returns the configuration of the boards of the games on this server.
+	 * @return the {@link BoardConfiguration}.
+	 */
+	public BoardConfiguration getBoardConfiguration() {
+		return boardConfiguration;
+	}
+
+	/**
+	 * Sets the number of event loops used, if the {@code NIO} transport is used. Must be set before this server is
+	 * started.
+	 * @param numberOfEventLoops the number of {@link EventLoop EventLoops}.
+	 * @see TransportType#NIO
+	 */
+	public void setNumberOfEventLoops(int numberOfEventLoops) {
+		this.numberOfEventLoops = Math.max(1, numberOfEventLoops);
+	}
+
+	/**
+	 * Sets the maximum number of messages waiting to be sent to a single client. A client which does not read its
+	 * messages fast enough to stay below this limit is disconnected. Must be set before this server is started.
+	 * @param maxPendingMessages the maximum number of pending messages per client.
+	 */
+	public void setMaxPendingMessages(int maxPendingMessages) {
+		this.maxPendingMessages = Math.max(1, maxPendingMessages);
+	}
+
+	/**
+	 * Returns the maximum number of messages waiting to be sent to a single client.
+	 * @return the maximum number of pending messages per client.
+	 */
+	public int getMaxPendingMessages() {
+		return maxPendingMessages;
+	}
+
+	/**
+	 * Counts a client which has been disconnected, because it did not read its messages fast enough.
+	 */
+	void countSlowConsumer() {
+		numberOfSlowConsumers.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of clients which have been disconnected, because they did not read their messages fast
+	 * enough.
+	 * @return the number of slow clients disconnected.
+	 */
+	public int getNumberOfSlowConsumers() {
+		return numberOfSlowConsumers.get();
+	}
+
+	/**
+	 * Returns the number of messages waiting to be sent to all clients of this server.
+	 * @return the number of pending messages.
+	 */
+	public int getNumberOfPendingMessages() {
+		int numberOfPendingMessages = 0;
+
+		for (ServerConnection client : clients) {
+			numberOfPendingMessages += client.getNumberOfPendingMessages();
+		}
+		return numberOfPendingMessages;
+	}
+
+	/**
+	 * Returns the executor which handles the messages of all rooms of this server.
+	 * @return the {@link Executor} shared by the {@link Mailbox Mailboxes} of all rooms.
+	 */
+	Executor getGameExecutor() {
+		return gameExecutor;
 	}
 
 	/**
-	 * Sets the controller responsible for handling all messages received from clients.
-	 * @param serverController the server controller to set.
+	 * Returns the number of rooms currently hosted by this server.
+	 * @return the number of {@link Room Rooms}.
 	 */
-	public void setServerController(ServerController serverController) {
-		this.serverController = serverController;
+	public synchronized int getNumberOfRooms() {
+		return rooms.size();
 	}
 
 	/**
@@ -1,38 +1,51 @@
 package network.server;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.ResourceBundle;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
+import org.json.JSONException;
 
-import main.ApplicationInstance;
 import network.client.ClientConnection;
 import network.protocol.Attributes;
-import network.protocol.ClientTypes;
+import network.protocol.Encoding;
+import network.protocol.FrameDecoder;
+import network.protocol.ProtocolTrace;
+import network.protocol.ServerTypes;
+import network.protocol.messages.ClientMessage;
+import network.protocol.messages.HelloMessage;
+import network.protocol.messages.Message;
+import network.protocol.messages.MessageCodec;
+import network.protocol.messages.ServerHelloMessage;
+import network.protocol.messages.ServerReplyMessage;
 import users.User;
 
 /**
- * Represents a thread on the server-side which handles the communication with a single client.
+ * Represents the server-side end of the communication with a single client. This class contains everything that is
+ * independent of how the bytes are transported: routing the client to a {@code Room}, handing received messages to the
+ * {@code ServerController} and queueing messages for the client. Subclasses implement the actual transport, which
+ * sends the queued messages on its own thread, so that the game is never blocked by a slow client. A client which does
+ * not read its messages fast enough to keep the queue from overflowing is disconnected.
  * @author Christoph Hermann
  * @see ClientConnection
+ * @see BlockingServerConnection
+ * @see NioServerConnection
  */
-public class ServerConnection extends Thread {
+public abstract class ServerConnection {
 
 	/**
 	 * The id of the {@code User} associated with this connection.
 	 */
-	private int userId;
+	private volatile int userId;
 
 	/**
 	 * The logger for this class.
@@ -40,78 +53,106 @@ public class ServerConnection extends Thread {
 	private static final Logger logger = LogManager.getLogger(ServerConnection.class.getName());
 
 	/**
-	 * A status flag which determines if the thread should continue running or
-	 * stop running. The volatile keyword guarantees, that the correct value
-	 * will be read at all times even, if a different thread changes it.
+	 * The server this connection belongs to.
 	 */
-	private volatile boolean running = true;
+	private final Server server;
 
 	/**
-	 * The socket of the client this thread is communicating with.
+	 * The room the client has been routed to. Is null until the client answered the HELLO message.
 	 */
-	private Socket socket;
+	private Room room;
 
 	/**
-	 * The writer used to send messages to the client.
+	 * The controller responsible for handling all messages received from the client.
 	 */
-	private OutputStreamWriter writer;
+	private ServerController serverController;
 
 	/**
-	 * The reader used to read messages from the client.
+	 * Whether this connection has already been closed or not.
 	 */
-	private BufferedReader reader;
+	private volatile boolean closed;
 
 	/**
-	 * The controller responsible for handling all messages received from the client.
+	 * The encoded messages which have not been sent to the client yet.
 	 */
-	private ServerController serverController;
+	private final BlockingQueue<byte[]> outbound;
 
 	/**
-	 * A List of all threads handling the communication with the clients which are connected to this server.
+	 * The encoding used to exchange messages with the client.
 	 */
-	private List<ServerConnection> clients;
+	private volatile Encoding encoding = Encoding.JSON;
 
 	/**
-	 * Whether the {@code Server} is full or not.
-	 * @see Server
+	 * The decoder splitting the bytes received from the client into single messages.
 	 */
-	private boolean serverFull;
+	private final FrameDecoder frameDecoder = new FrameDecoder();
 
 	/**
-	 * The bundle containing all error messages.
+	 * The highest number of messages that have been waiting to be sent at the same time.
 	 */
-	private ResourceBundle errorMessages = ResourceBundle.getBundle("internationalization.MessagesBundle",
-			ApplicationInstance.getInstance().getLocale());
+	private final AtomicInteger peakNumberOfPendingMessages = new AtomicInteger();
 
 	/**
-	 * Creates a new server thread communicating with a user.
-	 * @param socket the socket on the user's end.
-	 * @param clients a list of all ServerThreads.
-	 * @param serverController the {@link ServerController} handling all messages received from the client.
+	 * Creates a new connection to a client.
+	 * @param server the {@link Server} this connection belongs to.
 	 */
-	public ServerConnection(Socket socket, List<ServerConnection> clients, ServerController serverController) {
-		this.socket = socket;
-		this.clients = clients;
-		this.serverController = serverController;
+	protected ServerConnection(Server server) {
+		this.server = server;
+		this.outbound = new LinkedBlockingQueue<>(server.getMaxPendingMessages());
 	}
 
-	@Override
-	public void run() {
-		if (couldStreamsBeOpenedSuccessfully()) {
-			if (serverController.hasGameStarted()) {
+	/**
+	 * Starts the communication with the client.
+	 */
+	public abstract void start();
+
+	/**
+	 * Tells this connection to stop communicating with the client. Messages already sent may still be delivered before
+	 * the connection closes.
+	 */
+	public abstract void stopRunning();
+
+	/**
+	 * Returns whether this connection is still communicating with the client.
+	 * @return true, if this connection is running. false, if it has been told to stop.
+	 */
+	protected abstract boolean isRunning();
+
+	/**
+	 * Tells the transport that new messages are waiting to be sent. Must not block.
+	 */
+	protected abstract void flushLater();
+
+	/**
+	 * Closes the reader, writer and socket or channel used by this connection.
+	 */
+	protected abstract void closeStreams();
+
+	/**
+	 * Routes the client to a {@code Room} based on its answer to the HELLO message. If the client requested a specific
+	 * room, it joins that room. Otherwise it joins the first room still open for new clients.
+	 * @param hello the HELLO message of the client.
+	 * @return true, if the client joined a room. false, otherwise.
+	 * @see Room
+	 */
+	private boolean joinRoom(HelloMessage hello) {
+		Room requestedRoom = server.findRoom(hello.getRoomId());
+
+		if (requestedRoom == null) {
+			sendServerFullMessage();
+			return false;
+		} else if (!requestedRoom.join(this)) {
+			if (requestedRoom.getServerController().hasGameStarted()) {
 				sendGameStartedMessage();
-				stopRunning();
-			} else if (serverFull) {
-				sendServerFullMessage();
-				stopRunning();
 			} else {
-				checkRegularlyIfConnectionLost();
-				sendProtocolInformation();
-				listenForMessages();
+				sendServerFullMessage();
 			}
+			return false;
 		}
 
-		closeConnection();
+		room = requestedRoom;
+		serverController = room.getServerController();
+		return true;
 	}
 
 	/**
@@ -119,9 +160,7 @@ public class ServerConnection extends Thread {
 	 * @see ClientConnection
 	 */
 	private void sendGameStartedMessage() {
-		JSONObject message = new JSONObject();
-		message.put(ClientTypes.SERVER_REPLY.toString(), errorMessages.getString("GAME_ALREADY_STARTED"));
-		sendToClient(message);
+		sendToClient(new ServerReplyMessage(getErrorMessages().getString("GAME_ALREADY_STARTED")));
 	}
 
 	/**
@@ -130,257 +169,224 @@ public class ServerConnection extends Thread {
 	 * @see Server
 	 */
 	private void sendServerFullMessage() {
-		JSONObject message = new JSONObject();
-		message.put(ClientTypes.SERVER_REPLY.toString(), errorMessages.getString("SERVER_FULL"));
-		sendToClient(message);
+		sendToClient(new ServerReplyMessage(getErrorMessages().getString("SERVER_FULL")));
 	}
 
 	/**
-	 * Checks regularly if the connection to the client is still open. If not, this ServerConnection closes.
-	 * @see ClientConnection
+	 * Sends the first message containing the protocol information to the CLient to start the communication. The message
+	 * also offers all encodings the client may switch to.
+	 * @see Encoding
 	 */
-	private void checkRegularlyIfConnectionLost() {
-		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-
-		Runnable checkReaderOpen = () -> {
-			try {
-				reader.ready();
-			} catch (IOException exception) {
-				executor.shutdown();
-				stopRunning();
-			}
-		};
+	protected void sendProtocolInformation() {
+		List<String> encodings = new ArrayList<>();
+		for (Encoding offeredEncoding : Encoding.values()) {
+			encodings.add(offeredEncoding.toString());
+		}
 
-		executor.scheduleAtFixedRate(checkReaderOpen, 0, 2, TimeUnit.SECONDS);
+		sendToClient(new ServerHelloMessage(Attributes.VERSION_VALUE.toString(), Attributes.PROTOCOL_VALUE.toString(),
+				encodings));
 	}
 
 	/**
-	 * Opens the input and output streams to the client.
-	 * @return true, if the streams could successfully be opened. false, otherwise.
+	 * Hands all complete messages contained in the received bytes on to be handled. Bytes of an incomplete message are
+	 * kept until the rest arrives.
+	 * No further messages are handled once this connection stops running.
+	 * @param input the buffer containing the received bytes.
+	 * @throws IOException if a message exceeds the maximum length.
+	 * @see FrameDecoder
 	 */
-	private boolean couldStreamsBeOpenedSuccessfully() {
-		try	{
-			writer = new OutputStreamWriter(socket.getOutputStream(), "UTF-8");
-			reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
-
-			return true;
-		} catch (IOException exception) {
-			serverController.getChatController().displayErrorMessage(errorMessages.getString("CONNECTION_FAILED"));
-			return false;
+	protected void receive(ByteBuffer input) throws IOException {
+		byte[] frame;
+		while (isRunning() && (frame = frameDecoder.nextFrame(input)) != null) {
+			handleFrame(frame);
 		}
 	}
 
 	/**
-	 * Sends the first message containing the protocol information to the CLient to start the communication.
+	 * Handles a single message received from the client. The message is decoded into a typed {@code Message} right
+	 * away, malformed messages are ignored.
+	 * @param frame the received message without line break or length prefix.
+	 * @see MessageCodec
+	 * @see #handle(Message)
 	 */
-	private void sendProtocolInformation() {
-		JSONObject object = new JSONObject();
-		JSONObject message = new JSONObject();
-		message.put(Attributes.VERSION.toString(), Attributes.VERSION_VALUE.toString());
-		message.put(Attributes.PROTOCOL.toString(), Attributes.PROTOCOL_VALUE.toString());
-		object.put(ClientTypes.HELLO.toString(), message);
+	protected void handleFrame(byte[] frame) {
+		// Decode the message.
+		Message message;
+		try {
+			if (encoding == Encoding.JSON) {
+				message = MessageCodec.decode(new String(frame, StandardCharsets.UTF_8));
+			} else {
+				message = MessageCodec.decode(frame);
+			}
+		} catch (JSONException exception) {
+			logger.error("Invalid message from client " + userId + " ignored: " + exception.getMessage());
+			return;
+		}
+		ProtocolTrace.received("client", userId, message.getType().toString(), encoding, frame);
 
-		sendToClient(object);
+		handle(message);
 	}
 
 	/**
-	 * Waits for incoming messages and gives them to the controller to handle.
+	 * Handles a single decoded message received from the client. The first message of a client must be its answer to
+	 * the HELLO message, which is used to switch to the encoding requested by the client and to route the client to a
+	 * room. All messages are posted to the mailbox of that room, which gives them to the room's controller one after
+	 * another.
+	 * @param message the received {@link Message}.
 	 * @see ServerController
-	 */
-	private void listenForMessages() {
-		JSONObject message = new JSONObject();
-
-		while (running) {
-			try {
-				try {
-					// Read incoming message.
-					String line = reader.readLine();
-					message = new JSONObject(line);
-				} catch (SocketTimeoutException exception) {
-					throw exception;
-				} catch (IOException | NullPointerException exception) {
-					logger.error("Connection to client " + userId + " lost.");
-					stopRunning();
-				}
-
-				if (running) {
-					// Log the message.
-					logger.info("Received: " + message.toString());
-
-					// Handle the message.
-					serverController.handle(message, this);
-				}
-			} catch (SocketTimeoutException exception) {
-				// This exception is thrown regularly so that the while condition is checked regularly.
+	 * @see Mailbox
+	 */
+	protected void handle(Message message) {
+		// Route the client to a room first.
+		if (room == null) {
+			if (message.getType() != ServerTypes.HELLO) {
+				logger.error("Message from client ignored, because it has not joined a room yet.");
+				return;
 			}
-		}
-	}
 
-	/**
-	 * Closes the connection between the server and the client.
-	 */
-	private synchronized void closeConnection() {
-		clients.remove(this);
+			HelloMessage hello = (HelloMessage) message;
+			switchEncoding(hello.getEncoding());
 
-		if (!serverFull) {
-			serverController.removeUserAndOrPlayer(this);
+			if (!joinRoom(hello)) {
+				stopRunning();
+				return;
+			}
 		}
 
-		closeReader();
-		closeWriter();
-		closeSocket();
+		// Handle the message.
+		room.getMailbox().post(() -> serverController.handle(message, this));
 	}
 
 	/**
-	 * Closes the reader.
+	 * Switches to the encoding requested by the client in its answer to the HELLO message. All following messages are
+	 * sent and received using this encoding.
+	 * @param requestedEncoding the string representation of the requested encoding or null, if the client keeps using
+	 *            JSON.
 	 */
-	private void closeReader() {
-		try {
-			if (reader != null) {
-				reader.close();
-			}
-		} catch (IOException exception) {
-			logger.error("Server reader could not be closed properly.");
+	private void switchEncoding(String requestedEncoding) {
+		if (requestedEncoding == null) {
+			return;
 		}
-	}
 
-	/**
-	 * Closes the writer.
-	 */
-	private void closeWriter() {
-		try {
-			if (writer != null) {
-				writer.close();
-			}
-		} catch (IOException exception) {
-			logger.error("Server writer could not be closed properly.");
+		Encoding newEncoding = Encoding.fromString(requestedEncoding);
+		if (newEncoding == null) {
+			logger.error("Client requested unknown encoding " + requestedEncoding + ".");
+			return;
 		}
+
+		encoding = newEncoding;
+		frameDecoder.setEncoding(newEncoding);
 	}
 
 	/**
-	 * Closes the socket.
+	 * Closes the connection between the server and the client.
 	 */
-	private void closeSocket() {
-		try {
-			if (socket != null) {
-				socket.close();
-				socket = null;
-			}
-		} catch (IOException exception) {
-			logger.error("Server socket could not be closed properly.");
+	protected synchronized void closeConnection() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		server.removeClient(this);
+
+		if (room != null) {
+			room.leave(this);
+			room.getMailbox().post(() -> serverController.removeUserAndOrPlayer(this));
 		}
+
+		closeStreams();
 	}
 
 	/**
-	 * Sends a message to the client.
-	 * @param jsonObject the {@link JSONObject} to send.
+	 * Sends a message to the client. The message is only queued, the transport sends it later.
+	 * @param message the {@link ClientMessage} to send.
 	 */
-	public void sendToClient(JSONObject jsonObject) {
-		try {
-			writer.write(jsonObject.toString() + "\n");
-			writer.flush();
-			logger.info("Send: " + jsonObject.toString());
-		} catch (IOException | NullPointerException exception) {
-			logger.error("Failed to send the message.");
+	public void sendToClient(ClientMessage message) {
+		byte[] encodedMessage = encoding.encode(message);
+
+		if (enqueue(encodedMessage)) {
+			ProtocolTrace.sent("client", userId, message.getType().toString(), encoding, encodedMessage);
 		}
 	}
 
 	/**
-	 * Sends a message to the client.
-	 * @param type the type of the message.
-	 * @param jsonObject the {@link JSONObject} to send.
+	 * Sends a message, which is sent to several clients at once, to the client. The message is encoded only once per
+	 * encoding, no matter how many clients use the same encoding.
+	 * @param message the {@link ClientMessage} to send.
+	 * @param encodedMessages the message encoded so far, indexed by the ordinal of the encoding.
+	 * @see Room#broadcast(ClientMessage)
 	 */
-	public void sendToClient(String type, JSONObject jsonObject) {
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
-		try {
-			writer.write(completeMessage.toString() + "\n");
-			writer.flush();
-			logger.info("Send: " + completeMessage);
-		} catch (IOException | NullPointerException exception) {
-			logger.error("Failed to send the message.");
-		}
+	void sendToClient(ClientMessage message, byte[][] encodedMessages) {
+		enqueue(Room.encode(message, encoding, encodedMessages));
 	}
 
 	/**
-	 * Sends a message to every client but the one that this thread is communicating with.
-	 * @param type the type of the message.
-	 * @param jsonObject the {@link JSONObject} to send.
+	 * Adds an encoded message, including the line break or length prefix, to the messages waiting to be sent. If too many
+	 * messages are waiting already, the client is disconnected. The same encoded message may be queued for several
+	 * clients, so it is never modified.
+	 * @param message the encoded message.
+	 * @return true, if the message has been queued. false, if the connection is closed or has been closed because of
+	 *         this message.
 	 */
-	public synchronized void sendToEverybodyElse(String type, JSONObject jsonObject) {
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
+	protected boolean enqueue(byte[] message) {
+		if (closed) {
+			return false;
+		}
 
-		for (int i=0; i<clients.size(); i++) {
-			if (!clients.get(i).equals(this)) {
-				clients.get(i).sendToClient(completeMessage);
-			}
+		if (!outbound.offer(message)) {
+			disconnectSlowConsumer();
+			return false;
 		}
+
+		peakNumberOfPendingMessages.accumulateAndGet(outbound.size(), Math::max);
+		flushLater();
+		return true;
 	}
 
 	/**
-	 * Sends a message to one client but the one that this thread can be communicating with or not.
-	 * @param type the type of the message.
-	 * @param jsonObject the {@link JSONObject} to send.
-	 * @param id the ClientId of whom receives this message.
+	 * Disconnects a client which does not read its messages fast enough. The messages still waiting are dropped.
 	 */
-	public synchronized void sendToSomeone(String type, JSONObject jsonObject, int id) {
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
-		for(int i=0; i<clients.size(); i++) {
-			if(clients.get(i).getUserId()==id) {
-				clients.get(i).sendToClient(completeMessage);
-				break;
-			}
-		}
+	private void disconnectSlowConsumer() {
+		logger.error("Client " + userId + " does not read its messages fast enough and is disconnected.");
+		server.countSlowConsumer();
+
+		outbound.clear();
+		stopRunning();
+		closeConnection();
 	}
 
 	/**
-	 * Sends a message to all other client but the one that this thread can be communicating with or not.
-	 * @param type the type of the message.
-	 * @param jsonObject the {@link JSONObject} to send.
-	 * @param id the ClientId of whom not receives this message.
+	 * Moves up to the specified number of messages waiting to be sent into the specified collection.
+	 * @param messages the collection to add the messages to.
+	 * @param maxMessages the maximum number of messages to move.
+	 * @return the number of messages moved.
 	 */
-	public synchronized void sendToSomeoneElse(String type, JSONObject jsonObject, int id) {
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
-
-		for (int i=0; i<clients.size(); i++) {
-			if (clients.get(i).getUserId()!=id) {
-				clients.get(i).sendToClient(completeMessage);
-			}
-		}
+	protected int drainPendingMessages(Collection<byte[]> messages, int maxMessages) {
+		return outbound.drainTo(messages, maxMessages);
 	}
 
 	/**
-	 * Sends a message to every client that is connected to the server.
-	 * @param message the {@link JSONObject} to broadcast.
+	 * Returns the number of messages waiting to be sent to the client.
+	 * @return the number of pending messages.
 	 */
-	public synchronized void broadcast(JSONObject message) {
-		for (int i=0; i<clients.size(); i++) {
-			clients.get(i).sendToClient(message);
-		}
+	public int getNumberOfPendingMessages() {
+		return outbound.size();
 	}
 
 	/**
-	 * Sends a message to every client that is connected to the server.
-	 * @param type the type of the message.
-	 * @param jsonObject the {@link JSONObject} to broadcast.
+	 * Returns the highest number of messages that have been waiting to be sent to the client at the same time.
+	 * @return the peak number of pending messages.
 	 */
-	public synchronized void broadcast(String type, JSONObject jsonObject) {
-		JSONObject completeMessage = new JSONObject();
-		completeMessage.put(type, jsonObject);
-
-		for (int i=0; i<clients.size(); i++) {
-			clients.get(i).sendToClient(completeMessage);
-		}
+	public int getPeakNumberOfPendingMessages() {
+		return peakNumberOfPendingMessages.get();
 	}
 
 	/**
-	 * Tells this thread to stop running.
+	 * Returns the encoding used to exchange messages with the client.
+	 * @return the {@link Encoding}.
 	 */
-	public void stopRunning() {
-		running = false;
+	public Encoding getEncoding() {
+		return encoding;
 	}
 
 	/**
@@ -400,11 +406,28 @@ public class ServerConnection extends Thread {
 	}
 
 	/**
-	 * Tells this serverConnection, that the {@code Server} is full.
-	 * @see Server
+	 * Returns the room the client has been routed to.
+	 * @return the {@link Room} or null, if the client has not joined a room yet.
+	 */
+	public Room getRoom() {
+		return room;
+	}
+
+	/**
+	 * Returns the server this connection belongs to.
+	 * @return the {@link Server}.
+	 */
+	protected Server getServer() {
+		return server;
+	}
+
+	/**
+	 * Returns the bundle containing all error messages.
+	 * @return the error messages.
+	 * @see Server#getErrorMessages()
 	 */
-	public void setServerFull() {
-		serverFull = true;
+	protected ResourceBundle getErrorMessages() {
+		return server.getErrorMessages();
 	}
 
 }
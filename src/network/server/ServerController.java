@@ -6,15 +6,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.ResourceBundle;
-
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.TreeMap;
 
 import game.Game;
 import game.GamePhases;
 import game.TradingRatios;
 import game.bank.Bank;
 import game.board.Board;
+import game.board.MoveGenerator;
+import game.board.ProductionIndex;
 import game.board.construction.Construction;
 import game.board.construction.localities.City;
 import game.board.construction.localities.Locality;
@@ -27,7 +27,6 @@ import game.board.harbors.HarborType;
 import game.board.hexes.Hex;
 import game.board.hexes.HexType;
 import game.board.robber.Robber;
-import game.board.tokens.Token;
 import game.cards.DevelopmentCard;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCard;
 import game.cards.playabledevelopmentcards.PlayableDevelopmentCardType;
@@ -36,16 +35,13 @@ import game.cards.specialcards.SpecialCardType;
 import game.cards.victorypointcards.VictoryPointCard;
 import game.dice.Dice;
 import game.player.Player;
+import game.player.PlayerColor;
 import game.player.PlayerState;
 import game.resources.ResourceType;
 import game.resources.Resources;
 import game.trade.Trade;
-import javafx.beans.property.ObjectProperty;
-import javafx.scene.paint.Color;
 import lobby.Lobby;
 import lobby.chat.ChatController;
-import main.ApplicationInstance;
-import network.Mapper;
 import network.client.ClientController;
 import network.protocol.Attributes;
 import network.protocol.CheatCodes;
@@ -53,6 +49,47 @@ import network.protocol.ClientTypes;
 import network.protocol.ProtocolJSONObjectConverter;
 import network.protocol.ProtocolStringConverter;
 import network.protocol.ServerTypes;
+import network.protocol.messages.AcceptTradeMessage;
+import network.protocol.messages.BuildMessage;
+import network.protocol.messages.BuildingMessage;
+import network.protocol.messages.CancelTradeMessage;
+import network.protocol.messages.ChatBroadcastMessage;
+import network.protocol.messages.ChatMessage;
+import network.protocol.messages.ConstructionInfo;
+import network.protocol.messages.Coordinates;
+import network.protocol.messages.DevelopmentCardBoughtMessage;
+import network.protocol.messages.DiceMessage;
+import network.protocol.messages.ErrorMessage;
+import network.protocol.messages.FinishTradeMessage;
+import network.protocol.messages.GameFinishedMessage;
+import network.protocol.messages.GameStartedMessage;
+import network.protocol.messages.HelloMessage;
+import network.protocol.messages.KnightPlayedMessage;
+import network.protocol.messages.LoseResourcesMessage;
+import network.protocol.messages.Message;
+import network.protocol.messages.MessageCodec;
+import network.protocol.messages.MonopolyPlayedMessage;
+import network.protocol.messages.MoveRobberMessage;
+import network.protocol.messages.OfferTradeMessage;
+import network.protocol.messages.PlayKnightMessage;
+import network.protocol.messages.PlayMonopolyMessage;
+import network.protocol.messages.PlayRoadBuildingMessage;
+import network.protocol.messages.PlayYearOfPlentyMessage;
+import network.protocol.messages.PlayerMessage;
+import network.protocol.messages.ResourceCards;
+import network.protocol.messages.ResourcesMessage;
+import network.protocol.messages.RoadBuildingPlayedMessage;
+import network.protocol.messages.RobberMovedMessage;
+import network.protocol.messages.SeaTradeMessage;
+import network.protocol.messages.ServerReplyMessage;
+import network.protocol.messages.SpecialCardMessage;
+import network.protocol.messages.StateUpdateMessage;
+import network.protocol.messages.TradeAcceptedMessage;
+import network.protocol.messages.TradeCanceledMessage;
+import network.protocol.messages.TradeExecutedMessage;
+import network.protocol.messages.TradeOfferMessage;
+import network.protocol.messages.WelcomeMessage;
+import network.protocol.messages.YearOfPlentyPlayedMessage;
 import users.AIUser;
 import users.HumanUser;
 import users.User;
@@ -67,16 +104,6 @@ import users.User;
  */
 public class ServerController {
 
-	/**
-	 * ServerConnection ID for Client
-	 */
-	private int serverConnectionId;
-
-	/**
-	 * ServerConnection {@code User}
-	 */
-	private User serverConnectionUser;
-
 	/**
 	 * The number of players in {@code Game}
 	 * 
@@ -112,17 +139,17 @@ public class ServerController {
 	/**
 	 * If {@code Game} starts or not
 	 */
-	private boolean gameStarted = false;
+	private volatile boolean gameStarted = false;
 	// !!!5 or 6 when 5 or 6 players in gamemodel
 	/**
 	 * The maximal number of {@code Player} in {@code Game}
 	 */
-	private final int MAX_PLAYERS = 4;
+	public static final int MAX_PLAYERS = 4;
 
 	/**
 	 * The minimal number of {@code User} for game start
 	 */
-	private final int MIN_PLAYERS = MAX_PLAYERS - 1;
+	public static final int MIN_PLAYERS = MAX_PLAYERS - 1;
 
 	/**
 	 * The tool to count round, to be used to help checking how many players in one
@@ -180,6 +207,11 @@ public class ServerController {
 	 */
 	private int nextUserId = 1;
 
+	/**
+	 * The source of randomness of the game, which is passed to it when it starts.
+	 */
+	private Random random = new Random();
+
 	/**
 	 * The {@code Lobby} being controlled by this controller.
 	 * 
@@ -187,21 +219,11 @@ public class ServerController {
 	 */
 	private Lobby lobby;
 
-	/**
-	 * The ServerConnection of this Controller
-	 */
-	private ServerConnection serverConnection;
-
 	/**
 	 * Game that in server runs for all player
 	 */
 	private Game game;
 
-	/**
-	 * The bundle containing all error messages.
-	 */
-	private ObjectProperty<ResourceBundle> bundleProperty = ApplicationInstance.getInstance().getBundleProperty();
-
 	/**
 	 * The {@code ChatController} that is used to display messages.
 	 * 
@@ -210,9 +232,14 @@ public class ServerController {
 	private ChatController chatController;
 
 	/**
-	 * The server this controller runs on.
+	 * The room this controller runs in.
+	 */
+	private final Room room;
+
+	/**
+	 * The dispatch table mapping every type of message to the method handling it.
 	 */
-	private final Server server;
+	private final MessageDispatcher dispatcher;
 
 	/**
 	 * Creates a new server controller.
@@ -221,1097 +248,1266 @@ public class ServerController {
 	 *            the {@link ChatController} that is used to display messages.
 	 * @param lobby
 	 *            the {@link Lobby} being controlled by this controller.
-	 * @param server
-	 *            the {@link Server} this controller runs on.
+	 * @param room
+	 *            the {@link Room} this controller runs in.
 	 */
-	public ServerController(ChatController chatController, Lobby lobby, Server server) {
+	public ServerController(ChatController chatController, Lobby lobby, Room room) {
 		this.chatController = chatController;
 		this.lobby = lobby;
-		this.server = server;
+		this.room = room;
+		this.dispatcher = createDispatcher();
 	}
 
 	/**
-	 * Checks the Key of the JSONObject and specifies the according actions
+	 * Creates the dispatch table mapping every type of message to the method
+	 * handling it.
 	 * 
-	 * @param jsonObject
-	 *            received message as JSONObject
-	 * @param serverConnection
-	 *            the {@link ServerConnection} which forwarded the JSONObject to
-	 *            this controller.
+	 * @return the {@link MessageDispatcher}.
 	 */
-	public synchronized void handle(JSONObject jsonObject, ServerConnection serverConnection) {
-		this.serverConnection = serverConnection;
-		this.serverConnectionId = serverConnection.getUserId();
-		List<User> serverConnectionUsers = lobby.getUsers();
-
-		for (User serverConnectionUser : serverConnectionUsers) {
-			if (serverConnectionUser.getId() == serverConnectionId) {
-				this.serverConnectionUser = serverConnectionUser;
-				break;
-			}
-		}
+	private MessageDispatcher createDispatcher() {
+		MessageDispatcher dispatcher = new MessageDispatcher();
+		dispatcher.register(ServerTypes.HELLO, HelloMessage.class, this::handleHello);
+		dispatcher.register(ServerTypes.PLAYER, PlayerMessage.class, this::handlePlayer);
+		dispatcher.register(ServerTypes.GAME_START, Message.class, this::handleGameStart);
+		dispatcher.register(ServerTypes.ROLL_DICE, Message.class, this::handleRollDice);
+		dispatcher.register(ServerTypes.LOSE_RESOURCE, LoseResourcesMessage.class, this::handleLoseResources);
+		dispatcher.register(ServerTypes.MOVE_ROBBER, MoveRobberMessage.class, this::handleMoveRobber);
+		dispatcher.register(ServerTypes.BUILD, BuildMessage.class, this::handleBuild);
+		dispatcher.register(ServerTypes.BUY_DEVLOPMENTCARD, Message.class, this::handleBuyDevelopmentCard);
+		dispatcher.register(ServerTypes.SEA_TRADING, SeaTradeMessage.class, this::handleSeaTrade);
+		dispatcher.register(ServerTypes.END_TURN, Message.class, this::handleEndTurn);
+		dispatcher.register(ServerTypes.OFFER_TRADE, OfferTradeMessage.class, this::handleOfferTrade);
+		dispatcher.register(ServerTypes.ACCEPT_TRADE, AcceptTradeMessage.class, this::handleAcceptTrade);
+		dispatcher.register(ServerTypes.FINISH_TRADE, FinishTradeMessage.class, this::handleFinishTrade);
+		dispatcher.register(ServerTypes.CANCEL_TRADE, CancelTradeMessage.class, this::handleCancelTrade);
+		dispatcher.register(ServerTypes.PLAY_KNIGHT, PlayKnightMessage.class, this::handlePlayKnight);
+		dispatcher.register(ServerTypes.PLAY_ROAD_BUILDING, PlayRoadBuildingMessage.class, this::handlePlayRoadBuilding);
+		dispatcher.register(ServerTypes.PLAY_MONOPOLY, PlayMonopolyMessage.class, this::handlePlayMonopoly);
+		dispatcher.register(ServerTypes.PLAY_YEAR_OF_PLENTY, PlayYearOfPlentyMessage.class, this::handlePlayYearOfPlenty);
+		dispatcher.register(ServerTypes.SEND_CHATMESSAGE, ChatMessage.class, this::handleChatMessage);
+		return dispatcher;
+	}
 
-		String type = jsonObject.firstKey();
-		JSONObject obj = (JSONObject) jsonObject.get(type);
-		ServerTypes messageType = determineMessageType(type);
+	/**
+	 * Checks the type of the message and specifies the according actions. Must
+	 * only be called by the {@code Mailbox} of the room, so that all messages of a
+	 * game are handled one after another.
+	 * 
+	 * @param message
+	 *            received message, already decoded by the {@code MessageCodec}
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 * @see Mailbox
+	 * @see MessageCodec
+	 */
+	public void handle(Message message, ServerConnection sender) {
+		ServerTypes messageType = message.getType();
 		// before gamestart every message will be solved
 		// if game started
 		// message will be solved, if message is a chatMessage
 		// or if player is not in PlayerState.WAIT.
-		boolean haveRightSolveJSON = haveRightSolveJSON(messageType);
+		boolean haveRightSolveJSON = haveRightSolveJSON(sender, messageType);
 		// message will be solved
 		if (haveRightSolveJSON) {
 			if (game != null) {
 				gameActivePlayerId = game.getActivePlayer().getId();
 			}
-			switch (messageType) {
+			dispatcher.dispatch(message, sender);
+		}
+	}
 
-			case HELLO:
-				User user = addNewUser(serverConnection);
-				sendWelcomeMessage(user);
-				sendStatusMessages(user);
-				break;
+	/**
+	 * Handles the answer of a client to the HELLO message: adds a new
+	 * {@code User} and welcomes the client.
+	 * 
+	 * @param message
+	 *            the received {@link HelloMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleHello(HelloMessage message, ServerConnection sender) {
+		User user = addNewUser(sender);
+		sendWelcomeMessage(sender, user);
+		sendStatusMessages(sender, user);
+	}
 
-			case PLAYER: {
+	/**
+	 * Handles the name and color chosen by a {@code User}.
+	 * 
+	 * @param playerMessage
+	 *            the received {@link PlayerMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handlePlayer(PlayerMessage playerMessage, ServerConnection sender) {
+		int senderId = sender.getUserId();
+		User senderUser = lobby.getUser(senderId);
 
-				if (obj.has(Attributes.NAME.toString())) {
-					String name = (String) obj.get(Attributes.NAME.toString());
-					serverConnectionUser.setName(name);
-				}
-				if (obj.has(Attributes.COLOR.toString())) {
-					String colorName = obj.getString(Attributes.COLOR.toString());
-					Color color = ProtocolStringConverter.getColor(colorName);
-					serverConnectionUser.setColor(color);
-				}
-				serverConnectionUser.setState(PlayerState.START_GAME);
-				sendStatusMessages(serverConnectionUser);
-				sendOK();
-			}
-			break;
+		if (playerMessage.getName() != null) {
+			String name = playerMessage.getName();
+			senderUser.setName(name);
+		}
+		if (playerMessage.getColor() != null) {
+			String colorName = playerMessage.getColor();
+			PlayerColor color = ProtocolStringConverter.getColor(colorName);
+			senderUser.setColor(color);
+		}
+		senderUser.setState(PlayerState.START_GAME);
+		sendStatusMessages(sender, senderUser);
+		sendOK(sender);
+	}
 
-			case GAME_START: {
-				String name = serverConnectionUser.getName();
-				Color color = serverConnectionUser.getColor();
+	/**
+	 * Handles the request of a {@code User} to start the game.
+	 * 
+	 * @param message
+	 *            the received message.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleGameStart(Message message, ServerConnection sender) {
+		int senderId = sender.getUserId();
+		User senderUser = lobby.getUser(senderId);
 
-				boolean nameAvailable = checkNameAvailable(name);
-				boolean colorAvailable = checkColorAvailable(color);
-				boolean haveMinPlayer = haveMinPlayer();
+		String name = senderUser.getName();
+		PlayerColor color = senderUser.getColor();
 
-				if (nameAvailable && colorAvailable) {
-					// set user state as "Wartet auf Spielbeginn"
-					serverConnectionUser.setState(PlayerState.WAIT_FOR_GAME_START);
+		boolean nameAvailable = checkNameAvailable(name);
+		boolean colorAvailable = checkColorAvailable(color, senderId);
+		boolean haveMinPlayer = haveMinPlayer();
 
-					JSONObject message = new Mapper().writeValueAsJson(serverConnectionUser);
-					serverConnection.broadcast(ClientTypes.STATE_UPDATE.toString(), message);
-					sendOK();
-				}
-				// name or color not available
-				else {
-					// name not available
-					if (!nameAvailable) {
-						sendEmptyNameMessage();
-					}
-					// color not available
-					if (!colorAvailable) {
-						sendNoAvaliableColorMessage();
-					}
+		if (nameAvailable && colorAvailable) {
+			// set user state as "Wartet auf Spielbeginn"
+			senderUser.setState(PlayerState.WAIT_FOR_GAME_START);
+
+			room.broadcast(StateUpdateMessage.of(senderUser));
+			sendOK(sender);
+		}
+		// name or color not available
+		else {
+			// name not available
+			if (!nameAvailable) {
+				sendEmptyNameMessage(sender);
+			}
+			// color not available
+			if (!colorAvailable) {
+				sendNoAvaliableColorMessage(sender);
+			}
+		}
+		// 3(or 5) users in lobby
+		if (haveMinPlayer) {
+			// users in lobby all ready
+			if (playersAllready()) {
+				// game start
+				gameStart();
+			}
+		}
+	}
+
+	/**
+	 * Handles the request of the active {@code Player} to roll the dice.
+	 * 
+	 * @param message
+	 *            the received message.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleRollDice(Message message, ServerConnection sender) {
+		int diceSum = 0;
+		// is playerstate roll dice
+		// is gamePhase to choose beginner
+		// is diceSum 7
+		boolean hasRightToRollDice = checkRightToRollDice();
+		boolean phaseToChooseBeginner = isPhaseToChooseBeginner();
+		boolean diceSumToDropCards;
+
+		// playerstate roll dice
+		// (if playerstate not roll dice, player is not allowed to dice)
+		if (hasRightToRollDice) {
+			// dice result e.g.[3,6]
+			// send result to every players
+			// calculate dice sum
+			int[] diceNumbers = rollDice();
+			sendDiceNumbertoEveryone(diceNumbers);
+			diceSum = calculateDiceSum(diceNumbers);
+
+			// phase to choose a beginner
+			if (phaseToChooseBeginner) {
+
+				if (diceSum > maxDiceSum) {
+					maxDiceSum = diceSum;
+					playersWithDiceMaxValue.clear();
+					// player who first dice maxValue
+					playersWithDiceMaxValue.add(activePlayer);
+				} else if (diceSum == maxDiceSum) {
+					// player who dice maxValue after
+					playersWithDiceMaxValue.add(activePlayer);
 				}
-				// 3(or 5) users in lobby
-				if (haveMinPlayer) {
-					// users in lobby all ready
-					if (playersAllready()) {
-						// game start
-						gameStart();
+				// everyone roll dice once, (countRound < variableCountRound(= 4) )means first
+				// three players have rolled dice
+				// if m players has rolled maxValue, variableCountRound = m, then these m
+				// players roll dice one by one
+				if (countRound < variableRoundLimit) {
+					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+					sendOK(sender);
+					int nextPlayerId;
+					if (!moreRoundToChooseBeginner) {
+						nextPlayerId = game.getNextPlayerId();
+					} else {
+						// here the nextPlayer should be the second player in list
+						int nextPlayer = countRound;
+						nextPlayerId = savePlayersWithDiceMaxValue.get(nextPlayer).getId();
+						game.giveControlToPlayer(nextPlayerId);
 					}
+					countRound++;
+					setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayerId);
 				}
-			}
-			break;
-
-			case ROLL_DICE: {
-				int diceSum = 0;
-				// is playerstate roll dice
-				// is gamePhase to choose beginner
-				// is diceSum 7
-				boolean hasRightToRollDice = checkRightToRollDice();
-				boolean phaseToChooseBeginner = isPhaseToChooseBeginner();
-				boolean diceSumToDropCards;
-
-				// playerstate roll dice
-				// (if playerstate not roll dice, player is not allowed to dice)
-				if (hasRightToRollDice) {
-					// dice result e.g.[3,6]
-					// send result to every players
-					// calculate dice sum
-					int[] diceNumbers = rollDice();
-					sendDiceNumbertoEveryone(diceNumbers);
-					diceSum = calculateDiceSum(diceNumbers);
-
-					// phase to choose a beginner
-					if (phaseToChooseBeginner) {
-
-						if (diceSum > maxDiceSum) {
-							maxDiceSum = diceSum;
-							playersWithDiceMaxValue.clear();
-							// player who first dice maxValue
-							playersWithDiceMaxValue.add(activePlayer);
-						} else if (diceSum == maxDiceSum) {
-							// player who dice maxValue after
-							playersWithDiceMaxValue.add(activePlayer);
-						}
-						// everyone roll dice once, (countRound < variableCountRound(= 4) )means first
-						// three players have rolled dice
-						// if m players has rolled maxValue, variableCountRound = m, then these m
-						// players roll dice one by one
-						if (countRound < variableRoundLimit) {
-							setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-							sendOK();
-							int nextPlayerId;
-							if (!moreRoundToChooseBeginner) {
-								nextPlayerId = game.getNextPlayerId();
-							} else {
-								// here the nextPlayer should be the second player in list
-								int nextPlayer = countRound;
-								nextPlayerId = savePlayersWithDiceMaxValue.get(nextPlayer).getId();
-								game.giveControlToPlayer(nextPlayerId);
-							}
-							countRound++;
-							setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayerId);
-						}
-						// after last player had rolled dice
-						else {
-							countRound = COUNTROUND_RESET;
-							sendOK();
-
-							boolean moreThanOnePlayerHasMaxValue = playersWithDiceMaxValue.size() > 1;
+				// after last player had rolled dice
+				else {
+					countRound = COUNTROUND_RESET;
+					sendOK(sender);
 
-							setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-							// after last player has rolled dice, there are more than one player has rolled
-							// the same max value
-							if (moreThanOnePlayerHasMaxValue) {
-								// select first player
-								// set this player as active player in game
-								// set number of players, who need to roll dice again
-								// remove this player from list
-								// reset maxDiceSum
-								// tell nextPlayer to roll dice
-								Player nextPlayer = playersWithDiceMaxValue.get(0);
-								game.giveControlToPlayer(nextPlayer.getId());
-								variableRoundLimit = playersWithDiceMaxValue.size();
-
-								List<Player> playerList = new ArrayList<>();
-
-								for (Player player : playersWithDiceMaxValue) {
-									playerList.add(player);
-								}
-								savePlayersWithDiceMaxValue = playerList;
+					boolean moreThanOnePlayerHasMaxValue = playersWithDiceMaxValue.size() > 1;
 
-								playersWithDiceMaxValue.clear();
-								maxDiceSum = MAX_DICESUM_RESET;
-								moreRoundToChooseBeginner = true;
-								setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayer.getId());
-							}
-							// after last player has rolled dice, there is only one player has rolled the
-							// max value
-							else {
-								int nextPlayerId = playersWithDiceMaxValue.get(0).getId();
-
-								if (nextPlayerId != gameActivePlayerId) {
-									setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-									game.giveControlToPlayer(nextPlayerId);
-								}
-								game.setPhase(GamePhases.FREE_BUILD);
-								setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
-							}
+					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+					// after last player has rolled dice, there are more than one player has rolled
+					// the same max value
+					if (moreThanOnePlayerHasMaxValue) {
+						// select first player
+						// set this player as active player in game
+						// set number of players, who need to roll dice again
+						// remove this player from list
+						// reset maxDiceSum
+						// tell nextPlayer to roll dice
+						Player nextPlayer = playersWithDiceMaxValue.get(0);
+						game.giveControlToPlayer(nextPlayer.getId());
+						variableRoundLimit = playersWithDiceMaxValue.size();
+
+						List<Player> playerList = new ArrayList<>();
+
+						for (Player player : playersWithDiceMaxValue) {
+							playerList.add(player);
 						}
-					} else {
-						diceSumToDropCards = isDiceSumToDropCards(diceSum);
-						savePlayerId = game.getActivePlayer().getId();
-						// dicesum = 7
-						if (diceSumToDropCards) {
-							playerIdsWhohasMoreThanSevenResourceCards = findPlayerIdsWhohasMoreThanSevenResourceCards();
-							// one player has more than 7 resource cards
-							if (playerIdsWhohasMoreThanSevenResourceCards.size() > 0) {
-								// the first player in list is player, who has rolled 7
-								if (playerIdsWhohasMoreThanSevenResourceCards.get(0).equals(game.getActivePlayer())) {
-									// tell active player to drop resources cards
-									setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, gameActivePlayerId);
-								}
-								// the first player in list is not the player, who has rolled 7
-								else {
-									setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-									int nextPlayerId = findNextPlayerIdFromList(
-											playerIdsWhohasMoreThanSevenResourceCards);
-									setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
-								}
-							}
-							// no one has more than 7 resource cards
-							else {
-								setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
-							}
+						savePlayersWithDiceMaxValue = playerList;
 
-						}
-						// dicesum != 7
-						else {
-							// check token number
-							List<Token> tokens = game.getBoard().getTokens();
-							List<Token> resourcesTokens = new ArrayList<>();
-
-							for (int i = 0; i < tokens.size(); i++) {
-								Token token = tokens.get(i);
-								if (token.getNumber() != 0) {
-									if (diceSum == token.getNumber()) {
-										boolean robberIsNotOnToken = checkRobberIsNotOnToken(token);
-										// there is no robber on this token
-										if (robberIsNotOnToken) {
-											if (!resourcesTokens.contains(token)) {
-												resourcesTokens.add(token);
-											}
-										}
-									}
-								}
-							}
-							AddResourceToPlayersOn(resourcesTokens);
-							game.setPhase(GamePhases.BIULD_TRADE_PHASE);
-							setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, gameActivePlayerId);
-						}
+						playersWithDiceMaxValue.clear();
+						maxDiceSum = MAX_DICESUM_RESET;
+						moreRoundToChooseBeginner = true;
+						setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayer.getId());
 					}
-					sendOK();
-				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_ROLL_DICE"));
-				}
-			}
-			break;
+					// after last player has rolled dice, there is only one player has rolled the
+					// max value
+					else {
+						int nextPlayerId = playersWithDiceMaxValue.get(0).getId();
 
-			case LOSE_RESOURCE: {
-				JSONObject j_resources = obj.getJSONObject(Attributes.SUBMIT.toString());
-				Resources resources = ProtocolJSONObjectConverter.getResources(j_resources);
-
-				// if activePlayer the player who has rolled dice 7
-				boolean activePlayerTheDicePlayer = isactivePlayerTheDicePlayer();
-				;
-				boolean hasDroppedRightNumberOfCards = checkDroppedCardsNumber(resources);
-
-				if (hasDroppedRightNumberOfCards) {
-					// activePlayer drop resource cards
-					// delete active player from the list
-					minusResources(resources);
-					playerIdsWhohasMoreThanSevenResourceCards.remove(game.getActivePlayer());
-
-					// if there more than one player need drop resources cards
-					boolean stillHavePlayerNeedDropResources = playerIdsWhohasMoreThanSevenResourceCards.size() > 0;
-
-					// activePlayer is the player who has rolled dice 7
-					if (activePlayerTheDicePlayer) {
-						// there is still players in list, who need to drop resource cards
-						if (stillHavePlayerNeedDropResources) {
-							// tell activePlayer his cards are dropped
-							// set activePlayer wait
-							// find next player, who need drop cards
-							// change activePlayer and told others
-							sendOK();
+						if (nextPlayerId != gameActivePlayerId) {
 							setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-							int nextPlayerId = findNextPlayerIdFromList(playerIdsWhohasMoreThanSevenResourceCards);
-							setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
-						}
-						// there is no other players in list
-						else {
-
-							// tell active player his cards are dropped
-							// tell active player its time to move robber
-							sendOK();
-							setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
+							game.giveControlToPlayer(nextPlayerId);
 						}
+						game.setPhase(GamePhases.FREE_BUILD);
+						setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
 					}
-					// activePlayer is not the player who has rolled dice 7
-					else {
-						// there is still players in list, who need to drop resource cards
-						if (stillHavePlayerNeedDropResources) {
-							// tell active player his cards are dropped
-							// set active player wait
-							// find next player, who need drop cards
-							// tell next player, its time to drop cards
-							sendOK();
-							setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-							int nextPlayerId = findNextPlayerIdFromList(playerIdsWhohasMoreThanSevenResourceCards);
-							setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
+				}
+			} else {
+				diceSumToDropCards = isDiceSumToDropCards(diceSum);
+				savePlayerId = game.getActivePlayer().getId();
+				// dicesum = 7
+				if (diceSumToDropCards) {
+					playerIdsWhohasMoreThanSevenResourceCards = findPlayerIdsWhohasMoreThanSevenResourceCards();
+					// one player has more than 7 resource cards
+					if (playerIdsWhohasMoreThanSevenResourceCards.size() > 0) {
+						// the first player in list is player, who has rolled 7
+						if (playerIdsWhohasMoreThanSevenResourceCards.get(0).equals(game.getActivePlayer())) {
+							// tell active player to drop resources cards
+							setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, gameActivePlayerId);
 						}
-						// no one need to drop resource card
+						// the first player in list is not the player, who has rolled 7
 						else {
-							// tell active player his cards are dropped
-							// set active player wait
-							// give the control back to player who has diced 7
-							// tell player who has rolled 7, please move robber
-							sendOK();
 							setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-							game.giveControlToPlayer(savePlayerId);
-							setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, savePlayerId);
+							int nextPlayerId = findNextPlayerIdFromList(
+									playerIdsWhohasMoreThanSevenResourceCards);
+							setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
 						}
 					}
-				} else {
-					//					ResourceBundle bundle = ResourceBundle.getBundle("network.ErrorMessages", locale);
-					sendNoRightErrorInfoToClient(getBundle().getString("WRONG_DROPPED_RESOURCES"));
+					// no one has more than 7 resource cards
+					else {
+						setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
+					}
+
+				}
+				// dicesum != 7
+				else {
+					// give the resources of the hexes with this number
+					addResourcesToPlayers(diceSum);
+					game.setPhase(GamePhases.BIULD_TRADE_PHASE);
+					setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, gameActivePlayerId);
 				}
 			}
-			break;
+			sendOK(sender);
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_ROLL_DICE"));
+		}
+	}
 
-			case MOVE_ROBBER: {
-				if (activePlayer.getState() == PlayerState.MOVE_ROBBER) {
-					// take out the new robber (string) Position from JSONObject
-					// find out the new robber (hex)position
-					// current (hex) position of robber
-					// is this (hex)position a sea Hex, return true, if this (hex)position is a hex
-					// in hexList of game and is not a sea hex
-					// String stringPosition = obj.getString(Attributes.POSITION.toString());
-
-					String stringPosition = ProtocolJSONObjectConverter.getHexPosition(obj, game.getBoard());
-					JSONObject xyPosition = obj.getJSONObject(Attributes.POSITION.toString());
-					Hex newRobberPosition = findHexPositionFromString(stringPosition);
-					Hex oldRobberPosition = game.getBoard().getRobber().getPosition();
-					boolean positionOneValidPosition = isPositionInGameArea(newRobberPosition);
-
-					// robber must be moved in a different (hex)position than before
-					// robber is not moved or new (hex)position is not a valid position
-					if (oldRobberPosition == newRobberPosition || (!positionOneValidPosition)) {
-						// send error info to activePlayer
-						// send PlayerState update to this player
-						// pls move robber
-						sendNoRightErrorInfoToClient(getBundle().getString("WRONG_ROBBER_POSITION"));
-						setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
+	/**
+	 * Handles the resources a {@code Player} gives away after a seven has been
+	 * rolled.
+	 * 
+	 * @param message
+	 *            the received {@link LoseResourcesMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleLoseResources(LoseResourcesMessage message, ServerConnection sender) {
+		Resources resources = message.getResources();
+
+		// if activePlayer the player who has rolled dice 7
+		boolean activePlayerTheDicePlayer = isactivePlayerTheDicePlayer();
+		;
+		boolean hasDroppedRightNumberOfCards = checkDroppedCardsNumber(resources);
+
+		if (hasDroppedRightNumberOfCards) {
+			// activePlayer drop resource cards
+			// delete active player from the list
+			minusResources(resources);
+			playerIdsWhohasMoreThanSevenResourceCards.remove(game.getActivePlayer());
+
+			// if there more than one player need drop resources cards
+			boolean stillHavePlayerNeedDropResources = playerIdsWhohasMoreThanSevenResourceCards.size() > 0;
+
+			// activePlayer is the player who has rolled dice 7
+			if (activePlayerTheDicePlayer) {
+				// there is still players in list, who need to drop resource cards
+				if (stillHavePlayerNeedDropResources) {
+					// tell activePlayer his cards are dropped
+					// set activePlayer wait
+					// find next player, who need drop cards
+					// change activePlayer and told others
+					sendOK(sender);
+					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+					int nextPlayerId = findNextPlayerIdFromList(playerIdsWhohasMoreThanSevenResourceCards);
+					setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
+				}
+				// there is no other players in list
+				else {
+
+					// tell active player his cards are dropped
+					// tell active player its time to move robber
+					sendOK(sender);
+					setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
+				}
+			}
+			// activePlayer is not the player who has rolled dice 7
+			else {
+				// there is still players in list, who need to drop resource cards
+				if (stillHavePlayerNeedDropResources) {
+					// tell active player his cards are dropped
+					// set active player wait
+					// find next player, who need drop cards
+					// tell next player, its time to drop cards
+					sendOK(sender);
+					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+					int nextPlayerId = findNextPlayerIdFromList(playerIdsWhohasMoreThanSevenResourceCards);
+					setPlayerStateAndSendMessage(PlayerState.DISCARD_RESOURCES, nextPlayerId);
+				}
+				// no one need to drop resource card
+				else {
+					// tell active player his cards are dropped
+					// set active player wait
+					// give the control back to player who has diced 7
+					// tell player who has rolled 7, please move robber
+					sendOK(sender);
+					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+					game.giveControlToPlayer(savePlayerId);
+					setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, savePlayerId);
+				}
+			}
+		} else {
+			//					ResourceBundle bundle = ResourceBundle.getBundle("network.ErrorMessages", locale);
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_DROPPED_RESOURCES"));
+		}
+	}
+
+	/**
+	 * Handles the request of the active {@code Player} to move the
+	 * {@code Robber}.
+	 * 
+	 * @param message
+	 *            the received {@link MoveRobberMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleMoveRobber(MoveRobberMessage message, ServerConnection sender) {
+		if (activePlayer.getState() == PlayerState.MOVE_ROBBER) {
+			// take out the new robber (string) Position from JSONObject
+			// find out the new robber (hex)position
+			// current (hex) position of robber
+			// is this (hex)position a sea Hex, return true, if this (hex)position is a hex
+			// in hexList of game and is not a sea hex
+			// String stringPosition = obj.getString(Attributes.POSITION.toString());
+
+			String stringPosition = ProtocolJSONObjectConverter.getHexPosition(message.getPosition(), game.getBoard());
+			Coordinates xyPosition = message.getPosition();
+			Hex newRobberPosition = findHexPositionFromString(stringPosition);
+			Hex oldRobberPosition = game.getBoard().getRobber().getPosition();
+			boolean positionOneValidPosition = isPositionInGameArea(newRobberPosition);
+
+			// robber must be moved in a different (hex)position than before
+			// robber is not moved or new (hex)position is not a valid position
+			if (oldRobberPosition == newRobberPosition || (!positionOneValidPosition)) {
+				// send error info to activePlayer
+				// send PlayerState update to this player
+				// pls move robber
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_ROBBER_POSITION"));
+				setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, gameActivePlayerId);
+			}
+			// robber is moved and new (hex)position is a valid position
+			else {
+				// If a player has been selected as the target of the robbing.
+				if (message.hasTarget()) {
+					int targetPlayerId = message.getTarget();
+					// get (int[]) id of all players, who has settlement or city near by this
+					// (hex)position,which is new occupied by robber
+					// is target player near by this robber
+					// has target player at least one resource card or not
+					List<Player> relativePlayers = getRelativePlayerListOfOneHex(newRobberPosition);
+					boolean tragetPlayerIsNearby = isListIncludTargetPlayer(relativePlayers, targetPlayerId);
+					boolean targetPlayerHasEnoughResources = hasTargetPlayerEnoughResources(targetPlayerId);
+
+					// if robber can be moved in a empty area, new case should be added
+					// e.g.player id is from 1 to 4, when playerId is 0, then server know robber
+					// will be moved but no one will be grabbed(if())
+					// target player is near by robber
+					if (tragetPlayerIsNearby) {
+						// if no resources player can be grabbed,this case should be fit
+						// target player have at least one resource card
+						if (targetPlayerHasEnoughResources) {
+							grabResourceFromTargetPlayerAndSendMessageToAll(targetPlayerId);
+						}
+						// move robber in new (hex) position
+						// tell all players the new position of robber
+						// update playerState as trade or build
+						// set game phase in build Trade
+						// tell activePlayer robber is moved successfully
+						game.getBoard().getRobber().move(newRobberPosition);
+
+						sendRobberInfoToAll(xyPosition, targetPlayerId);
+						setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, this.gameActivePlayerId);
+						game.setPhase(GamePhases.BIULD_TRADE_PHASE);
+						sendOK(sender);
 					}
-					// robber is moved and new (hex)position is a valid position
+					// target player is not near by robber
 					else {
-						// If a player has been selected as the target of the robbing.
-						if (obj.has(Attributes.TARGET.toString())) {
-							int targetPlayerId = obj.getInt(Attributes.TARGET.toString());
-							// get (int[]) id of all players, who has settlement or city near by this
-							// (hex)position,which is new occupied by robber
-							// is target player near by this robber
-							// has target player at least one resource card or not
-							List<Player> relativePlayers = getRelativePlayerListOfOneHex(newRobberPosition);
-							boolean tragetPlayerIsNearby = isListIncludTargetPlayer(relativePlayers, targetPlayerId);
-							boolean targetPlayerHasEnoughResources = hasTargetPlayerEnoughResources(targetPlayerId);
-
-							// if robber can be moved in a empty area, new case should be added
-							// e.g.player id is from 1 to 4, when playerId is 0, then server know robber
-							// will be moved but no one will be grabbed(if())
-							// target player is near by robber
-							if (tragetPlayerIsNearby) {
-								// if no resources player can be grabbed,this case should be fit
-								// target player have at least one resource card
-								if (targetPlayerHasEnoughResources) {
-									grabResourceFromTargetPlayerAndSendMessageToAll(targetPlayerId);
-								}
-								// move robber in new (hex) position
-								// tell all players the new position of robber
-								// update playerState as trade or build
-								// set game phase in build Trade
-								// tell activePlayer robber is moved successfully
-								game.getBoard().getRobber().move(newRobberPosition);
-
-								sendRobberInfoToAll(xyPosition, targetPlayerId);
-								setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, this.gameActivePlayerId);
-								game.setPhase(GamePhases.BIULD_TRADE_PHASE);
-								sendOK();
-							}
-							// target player is not near by robber
-							else {
-								sendNoRightErrorInfoToClient(getBundle().getString("WRONG_TARGET_PLAYER"));
-								setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, this.gameActivePlayerId);
-							}
-						} else {
-							// Move the robber to the new position.
-							Robber robber = game.getBoard().getRobber();
-							robber.move(newRobberPosition);
-
-							// Send a message to all players.
-							sendRobberMovedMessage(xyPosition);
-							setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, this.gameActivePlayerId);
-							game.setPhase(GamePhases.BIULD_TRADE_PHASE);
-							sendOK();
-						}
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_TARGET_PLAYER"));
+						setPlayerStateAndSendMessage(PlayerState.MOVE_ROBBER, this.gameActivePlayerId);
 					}
 				} else {
-					// The player is not allowed to move the robber right now
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_MOVE_ROBBER"));
+					// Move the robber to the new position.
+					Robber robber = game.getBoard().getRobber();
+					robber.move(newRobberPosition);
+
+					// Send a message to all players.
+					sendRobberMovedMessage(xyPosition);
+					setPlayerStateAndSendMessage(PlayerState.TRADE_OR_BUILD, this.gameActivePlayerId);
+					game.setPhase(GamePhases.BIULD_TRADE_PHASE);
+					sendOK(sender);
 				}
 			}
-			break;
+		} else {
+			// The player is not allowed to move the robber right now
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_MOVE_ROBBER"));
+		}
+	}
 
-			case BUILD: {
-				String construction = obj.getString(Attributes.TYPE.toString());
-				String stringPosition = ProtocolJSONObjectConverter.getPosition(obj, game.getBoard());
-				boolean hasRightToBuilding = checkRightToBuilding();
-				boolean positionOneValidPosition;
-				boolean hasEnoughResources;
-				boolean free_Build = isA_Free_Build();
-				boolean building_Settlement = isBuilding_Settlement(construction);
-				boolean building_Road = isBuilding_Road(construction);
-
-				if (!hasRightToBuilding) {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD"));
-				} else {
-					// build not free construction
-					if (!free_Build) {
-						// build settlement
-						if (building_Settlement) {
-							boolean hasMaxSettlement = hasMaxSettlement();
-							// player has builded less than 4 settlements
-							if (!hasMaxSettlement) {
-								Corner settlementPosition = findsettlementPositionFromString(stringPosition);
-								positionOneValidPosition = isPositionOneValidSettlementPosition(settlementPosition);
-								// near this corner there is one own road
-								if (positionOneValidPosition) {
-									hasEnoughResources = hasEnoughResourcesToBuild(construction);
-									if (hasEnoughResources) {
-										boolean isHarbor = isHarbor(settlementPosition);
-										// this corner is one side of harbor
-										if (isHarbor) {
-											buildHarbor(settlementPosition);
-											buildSettlementAndSendMessage(settlementPosition);
-										} else {
-											buildSettlementAndSendMessage(settlementPosition);
+	/**
+	 * Handles the request of the active {@code Player} to build a
+	 * {@code Construction}.
+	 * 
+	 * @param buildMessage
+	 *            the received {@link BuildMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleBuild(BuildMessage buildMessage, ServerConnection sender) {
+		String construction = buildMessage.getConstructionType();
+		String stringPosition = ProtocolJSONObjectConverter.getPosition(buildMessage.getPosition(), game.getBoard());
+		boolean hasRightToBuilding = checkRightToBuilding();
+		boolean positionOneValidPosition;
+		boolean hasEnoughResources;
+		boolean free_Build = isA_Free_Build();
+		boolean building_Settlement = isBuilding_Settlement(construction);
+		boolean building_Road = isBuilding_Road(construction);
+
+		if (!hasRightToBuilding) {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD"));
+		} else {
+			// build not free construction
+			if (!free_Build) {
+				// build settlement
+				if (building_Settlement) {
+					boolean hasMaxSettlement = hasMaxSettlement();
+					// player has builded less than 4 settlements
+					if (!hasMaxSettlement) {
+						Corner settlementPosition = findsettlementPositionFromString(stringPosition);
+						positionOneValidPosition = isPositionOneValidSettlementPosition(settlementPosition);
+						// near this corner there is one own road
+						if (positionOneValidPosition) {
+							hasEnoughResources = hasEnoughResourcesToBuild(construction);
+							if (hasEnoughResources) {
+								boolean isHarbor = isHarbor(settlementPosition);
+								// this corner is one side of harbor
+								if (isHarbor) {
+									buildHarbor(settlementPosition);
+									buildSettlementAndSendMessage(settlementPosition);
+								} else {
+									buildSettlementAndSendMessage(settlementPosition);
+								}
+								sendOK(sender);
+
+								boolean longestRoadIsBroken = isLongestRoadBroken(settlementPosition);
+								int longestRoad = 5;
+								List<Player> playerWhoHasLongestRoad = new ArrayList<>();
+
+								// *** only when a settlement is builded, can a longest linked road be broken.
+								// ***
+								// *** rules for choose next player, who can get the longest road card
+								// *** check, who has the longest length 
+								// *** if two player has the same longest length, then no one will get the
+								// *** longest card
+
+								// after the settlement has been builded, the longest road is broken and the
+								// longest road card allowed not to be kept
+								if (longestRoadIsBroken) {
+									for (Player player : game.getPlayers()) {
+										// player has linked roads length > 5 or longest road length
+										if (player.getLongestRoadLength() > longestRoad) {
+											longestRoad = player.getLongestRoadLength();
+											playerWhoHasLongestRoad.clear();
+											// every player in list playerWhoHasLongestRoad has roads >= 5
+											playerWhoHasLongestRoad.add(player);
 										}
-										sendOK();
-
-										boolean longestRoadIsBroken = isLongestRoadBroken(settlementPosition);
-										int longestRoad = 5;
-										List<Player> playerWhoHasLongestRoad = new ArrayList<>();
-
-										// *** only when a settlement is builded, can a longest linked road be broken.
-										// ***
-										// *** rules for choose next player, who can get the longest road card
-										// *** check, who has the longest length 
-										// *** if two player has the same longest length, then no one will get the
-										// *** longest card
-
-										// after the settlement has been builded, the longest road is broken and the
-										// longest road card allowed not to be kept
-										if (longestRoadIsBroken) {
-											for (Player player : game.getPlayers()) {
-												// player has linked roads length > 5 or longest road length
-												if (player.getLongestRoadLength() > longestRoad) {
-													longestRoad = player.getLongestRoadLength();
-													playerWhoHasLongestRoad.clear();
-													// every player in list playerWhoHasLongestRoad has roads >= 5
-													playerWhoHasLongestRoad.add(player);
-												}
-												// player has linked roads length = 5 or longest road length
-												else if (player.getLongestRoadLength() == longestRoad) {
-													// every player in list playerWhoHasLongestRoad has roads >= 5
-													playerWhoHasLongestRoad.add(player);
-												}
-											}
-											// only one player has the longest road length
-											if (playerWhoHasLongestRoad.size() == 1) {
-												giveLongestRoadCardTo(playerWhoHasLongestRoad.get(0));
-												sendLongestRoadMessage(playerWhoHasLongestRoad.get(0).getId());
-												checkWin(playerWhoHasLongestRoad.get(0));
-											}
-											// no one has the linked roads with more than length 5
-											else {
-												sendLoseLongestRoadCardMessage(
-														game.getLongestRoadCard().getOwner().getId());
-												Player previousOwner = game.getLongestRoadCard().getOwner();
-												game.getLongestRoadCard().resetOwnership();
-												previousOwner.updateVictoryPoints();
-											}
+										// player has linked roads length = 5 or longest road length
+										else if (player.getLongestRoadLength() == longestRoad) {
+											// every player in list playerWhoHasLongestRoad has roads >= 5
+											playerWhoHasLongestRoad.add(player);
 										}
-									} else {
-										sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
 									}
-								} else {
-									sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD_HERE"));
+									// only one player has the longest road length
+									if (playerWhoHasLongestRoad.size() == 1) {
+										giveLongestRoadCardTo(playerWhoHasLongestRoad.get(0));
+										sendLongestRoadMessage(playerWhoHasLongestRoad.get(0).getId());
+										checkWin(playerWhoHasLongestRoad.get(0));
+									}
+									// no one has the linked roads with more than length 5
+									else {
+										sendLoseLongestRoadCardMessage(
+												game.getLongestRoadCard().getOwner().getId());
+										Player previousOwner = game.getLongestRoadCard().getOwner();
+										game.getLongestRoadCard().resetOwnership();
+										previousOwner.updateVictoryPoints();
+									}
 								}
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("NO_SETTLEMENT"));
+								sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 							}
+						} else {
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD_HERE"));
 						}
-						// build road
-						else if (building_Road) {
-							boolean hasMaxRoad = hasMaxRoad();
-
-							// has builded less than 15 roads
-							if (!hasMaxRoad) {
-								Edge roadPosition = findRoadPositionFromString(stringPosition);
-								positionOneValidPosition = isPositionOneValidRoadPosition(roadPosition);
-								// there is one own settlement or own road that is linked with this position
-								if (positionOneValidPosition) {
-									hasEnoughResources = hasEnoughResourcesToBuild(construction);
-									// player has enough resources
-									if (hasEnoughResources) {
-										buildRoadAndSendMessage(roadPosition);
-										sendOK();
-
-										boolean hasLongestRoad = checkLongestRoad();
-
-										if (hasLongestRoad) {
-											giveLongestRoadCardTo(game.getActivePlayer());
-											sendLongestRoadMessage(gameActivePlayerId);
-											checkWin();
-										}
-									} else {
-										sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
-									}
-								} else {
-									sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD_HERE"));
+					} else {
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_SETTLEMENT"));
+					}
+				}
+				// build road
+				else if (building_Road) {
+					boolean hasMaxRoad = hasMaxRoad();
+
+					// has builded less than 15 roads
+					if (!hasMaxRoad) {
+						Edge roadPosition = findRoadPositionFromString(stringPosition);
+						positionOneValidPosition = isPositionOneValidRoadPosition(roadPosition);
+						// there is one own settlement or own road that is linked with this position
+						if (positionOneValidPosition) {
+							hasEnoughResources = hasEnoughResourcesToBuild(construction);
+							// player has enough resources
+							if (hasEnoughResources) {
+								buildRoadAndSendMessage(roadPosition);
+								sendOK(sender);
+
+								boolean hasLongestRoad = checkLongestRoad();
+
+								if (hasLongestRoad) {
+									giveLongestRoadCardTo(game.getActivePlayer());
+									sendLongestRoadMessage(gameActivePlayerId);
+									checkWin();
 								}
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("NO_ROAD"));
+								sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 							}
+						} else {
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD_HERE"));
 						}
-						// build city
-						else {
-							boolean hasMaxCity = hasMaxCity();
-							// has builded less than 3 cities
-							if (!hasMaxCity) {
-								Corner cityPosition = findCityPositionFromString(stringPosition);
-								positionOneValidPosition = isPositionOneValidCityPosition(cityPosition);
-								// on position there is one own settlement
-								if (positionOneValidPosition) {
-									hasEnoughResources = hasEnoughResourcesToBuild(construction);
-									if (hasEnoughResources) {
-										buildCityAndSendMessage(cityPosition);
-										sendOK();
-									} else {
-										sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
-									}
-								} else {
-									sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD_HERE"));
-								}
+					} else {
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_ROAD"));
+					}
+				}
+				// build city
+				else {
+					boolean hasMaxCity = hasMaxCity();
+					// has builded less than 3 cities
+					if (!hasMaxCity) {
+						Corner cityPosition = findCityPositionFromString(stringPosition);
+						positionOneValidPosition = isPositionOneValidCityPosition(cityPosition);
+						// on position there is one own settlement
+						if (positionOneValidPosition) {
+							hasEnoughResources = hasEnoughResourcesToBuild(construction);
+							if (hasEnoughResources) {
+								buildCityAndSendMessage(cityPosition);
+								sendOK(sender);
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("NO_CITY"));
+								sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 							}
+						} else {
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD_HERE"));
 						}
+					} else {
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_CITY"));
 					}
+				}
+			}
 
-					// build_free_construction
-					else {
-						// build settlement
-						if (building_Settlement) {
-							Corner settlementPosition = findsettlementPositionFromString(stringPosition);
-							boolean isValidPositionForBuildFreeSettlement = isValidPositionForBuildFreeSettlement(
-									settlementPosition);
-							// position in a game area
-							if (isValidPositionForBuildFreeSettlement) {
-								boolean isHarbor = isHarbor(settlementPosition);
-
-								if (isHarbor) {
-									buildHarbor(settlementPosition);
-									buildFreeSettlementAndSendMessage(settlementPosition);
-								} else {
-									buildFreeSettlementAndSendMessage(settlementPosition);
-								}
-								// get resources when build a settlement in second free building round
-								if (secondRoundToFreeBuild) {
-									getResourceFromCornerAndSendMessage(settlementPosition);
-								}
-								sendOK();
-								setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_ROAD, gameActivePlayerId);
+			// build_free_construction
+			else {
+				// build settlement
+				if (building_Settlement) {
+					Corner settlementPosition = findsettlementPositionFromString(stringPosition);
+					boolean isValidPositionForBuildFreeSettlement = isValidPositionForBuildFreeSettlement(
+							settlementPosition);
+					// position in a game area
+					if (isValidPositionForBuildFreeSettlement) {
+						boolean isHarbor = isHarbor(settlementPosition);
+
+						if (isHarbor) {
+							buildHarbor(settlementPosition);
+							buildFreeSettlementAndSendMessage(settlementPosition);
+						} else {
+							buildFreeSettlementAndSendMessage(settlementPosition);
+						}
+						// get resources when build a settlement in second free building round
+						if (secondRoundToFreeBuild) {
+							getResourceFromCornerAndSendMessage(settlementPosition);
+						}
+						sendOK(sender);
+						setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_ROAD, gameActivePlayerId);
+					} else {
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD_HERE"));
+					}
+				}
+				// build road
+				// We still have to check if the player tries to build a road. If they try to build a city, we
+				// would get a NullPointerException.
+				else if (building_Road) {
+					Edge roadPosition = findRoadPositionFromString(stringPosition);
+					// check if own settlement is nearby
+					boolean isValidPositionForBuildFreeRoad = isValidPositionForBuildFreeRoad(roadPosition);
+					// own settlement is nearby
+					if (isValidPositionForBuildFreeRoad) {
+						buildFreeRoadAndSendMessage(roadPosition);
+						sendOK(sender);
+						// round for 4 players
+						// e.g.for the first free building round:
+						// player1->player2->player3, countRound:1->2->3->4
+						if (countRound < maxCountRound) {
+							if (!secondRoundToFreeBuild) {
+								// set active player wait
+								// find next player as active player
+								// for first free building round:
+								// (e.g.player1->player2->player3->player4)
+								setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+								int nextPlayerId = findNextPlayerIdForFreeBuild();
+								setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD_HERE"));
+								// set active player wait
+								// find next player as active player
+								// e.g.for second free building round:
+								// (e.g.player4->player3->player2->player1)
+								setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+								int nextPlayerId = findNextPlayerIdForFreeBuildInSecondRound();
+								setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
 							}
 						}
-						// build road
-						// We still have to check if the player tries to build a road. If they try to build a city, we
-						// would get a NullPointerException.
-						else if (building_Road) {
-							Edge roadPosition = findRoadPositionFromString(stringPosition);
-							// check if own settlement is nearby
-							boolean isValidPositionForBuildFreeRoad = isValidPositionForBuildFreeRoad(roadPosition);
-							// own settlement is nearby
-							if (isValidPositionForBuildFreeRoad) {
-								buildFreeRoadAndSendMessage(roadPosition);
-								sendOK();
-								// round for 4 players
-								// e.g.for the first free building round:
-								// player1->player2->player3, countRound:1->2->3->4
-								if (countRound < maxCountRound) {
-									if (!secondRoundToFreeBuild) {
-										// set active player wait
-										// find next player as active player
-										// for first free building round:
-										// (e.g.player1->player2->player3->player4)
-										setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-										int nextPlayerId = findNextPlayerIdForFreeBuild();
-										setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
-									} else {
-										// set active player wait
-										// find next player as active player
-										// e.g.for second free building round:
-										// (e.g.player4->player3->player2->player1)
-										setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-										int nextPlayerId = findNextPlayerIdForFreeBuildInSecondRound();
-										setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT, nextPlayerId);
-									}
-								}
-								// round for player
-								// e.g.for the first free building round:
-								// (e.g.player4, countRound=conuntRoundReset=1)
-								else {
-									countRound = COUNTROUND_RESET;
-									if (!secondRoundToFreeBuild) {
-										// get resources when build a settlement in second free building round
-										secondRoundToFreeBuild = !secondRoundToFreeBuild;
-										setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT,
-												gameActivePlayerId);
-									} else {
-										// game start with this active player
-										game.setPhase(GamePhases.ROLL_DICE_PHASE);
-										setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, gameActivePlayerId);
-									}
-								}
+						// round for player
+						// e.g.for the first free building round:
+						// (e.g.player4, countRound=conuntRoundReset=1)
+						else {
+							countRound = COUNTROUND_RESET;
+							if (!secondRoundToFreeBuild) {
+								// get resources when build a settlement in second free building round
+								secondRoundToFreeBuild = !secondRoundToFreeBuild;
+								setPlayerStateAndSendMessage(PlayerState.BUILD_FREE_SETTLEMENT,
+										gameActivePlayerId);
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUILD_HERE"));
+								// game start with this active player
+								game.setPhase(GamePhases.ROLL_DICE_PHASE);
+								setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, gameActivePlayerId);
 							}
 						}
+					} else {
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUILD_HERE"));
 					}
 				}
 			}
-			break;
+		}
+	}
 
-			case BUY_DEVLOPMENTCARD: {
-				boolean isThereStillAnyDevelopmentcard = isThereStillAnyDevelopmentcard();
-				boolean hasEnoughResources = hasEnoughResourcesToBuyDevelopmentCards();
-				boolean hasRightToBuyDevelopmentCard = hasRightToBuyDevelopmentCard();
-
-				if (hasRightToBuyDevelopmentCard) {
-					// there is still development card in bank
-					if (isThereStillAnyDevelopmentcard) {
-						// player has enough resources to buy development cards
-						if (hasEnoughResources) {
-							buyDevelopmentCardAndSendMessage();
-							sendOK();
-							checkWin();
-						} else {
-							sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
-						}
-					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_DEVELOPMENTCARD_IN_BANK"));
-					}
+	/**
+	 * Handles the request of the active {@code Player} to buy a
+	 * {@code DevelopmentCard}.
+	 * 
+	 * @param message
+	 *            the received message.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleBuyDevelopmentCard(Message message, ServerConnection sender) {
+		boolean isThereStillAnyDevelopmentcard = isThereStillAnyDevelopmentcard();
+		boolean hasEnoughResources = hasEnoughResourcesToBuyDevelopmentCards();
+		boolean hasRightToBuyDevelopmentCard = hasRightToBuyDevelopmentCard();
+
+		if (hasRightToBuyDevelopmentCard) {
+			// there is still development card in bank
+			if (isThereStillAnyDevelopmentcard) {
+				// player has enough resources to buy development cards
+				if (hasEnoughResources) {
+					buyDevelopmentCardAndSendMessage();
+					sendOK(sender);
+					checkWin();
 				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_BUY_CARD"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_DEVELOPMENTCARD_IN_BANK"));
 			}
-			break;
-
-			case SEA_TRADING: {
-				JSONObject j_supply = obj.getJSONObject(Attributes.SUPPLY.toString());
-				JSONObject j_demand = obj.getJSONObject(Attributes.DEMAND.toString());
-				Resources supply = ProtocolJSONObjectConverter.getResources(j_supply);
-				Resources demand = ProtocolJSONObjectConverter.getResources(j_demand);
-
-				boolean hasRightForSeaTrad = hasRightForSeaTrad();
-				boolean playerHasEnoughResourcesToTrad = checkPlayerHasEnoughrResourceToTrad(supply);
-				boolean bankHasEnoughResoucesToTrad = checkBankHasEnoughResourceToTrad(demand);
-				// !!in this case, there is situation to check if more than two types of
-				// resources as supply
-				if (hasRightForSeaTrad) {
-					if (!haveSameResourceType(supply, demand)) {
-						if (!(supply.getSum() == 0 || demand.getSum() == 0)) {
-							if (playerHasEnoughResourcesToTrad) {
-								if (bankHasEnoughResoucesToTrad) {
-									if (isRatioCorrect(game.getActivePlayer().getTradingRatios(), supply, demand)) {
-										seaTrad(supply, demand);
-										sendOK();
-										broadcastLoseResourcesMessage(supply, gameActivePlayerId);
-										broadcastGetResourcesMessage(demand, gameActivePlayerId);
-									} else {
-										sendNoRightErrorInfoToClient(getBundle().getString("WRONG_RATIO"));
-									}
-								} else {
-									sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES_IN_BANK"));
-								}
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_BUY_CARD"));
+		}
+	}
+
+	/**
+	 * Handles a trade of the active {@code Player} with the {@code Bank}.
+	 * 
+	 * @param seaTradeMessage
+	 *            the received {@link SeaTradeMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleSeaTrade(SeaTradeMessage seaTradeMessage, ServerConnection sender) {
+		Resources supply = seaTradeMessage.getSupply();
+		Resources demand = seaTradeMessage.getDemand();
+
+		boolean hasRightForSeaTrad = hasRightForSeaTrad();
+		boolean playerHasEnoughResourcesToTrad = checkPlayerHasEnoughrResourceToTrad(supply);
+		boolean bankHasEnoughResoucesToTrad = checkBankHasEnoughResourceToTrad(demand);
+		// !!in this case, there is situation to check if more than two types of
+		// resources as supply
+		if (hasRightForSeaTrad) {
+			if (!haveSameResourceType(supply, demand)) {
+				if (!(supply.getSum() == 0 || demand.getSum() == 0)) {
+					if (playerHasEnoughResourcesToTrad) {
+						if (bankHasEnoughResoucesToTrad) {
+							if (isRatioCorrect(game.getActivePlayer().getTradingRatios(), supply, demand)) {
+								seaTrad(supply, demand);
+								sendOK(sender);
+								broadcastLoseResourcesMessage(supply, gameActivePlayerId);
+								broadcastGetResourcesMessage(demand, gameActivePlayerId);
 							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
+								sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_RATIO"));
 							}
 						} else {
-							sendNoRightErrorInfoToClient(getBundle().getString("CANT_GIVE_OR_RECEIVE_RESOURCES_AS_GIFTS"));
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES_IN_BANK"));
 						}
 					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("SUPPLY_AND_DEMAND_CONTAIN_SAME_RESOURCE_TYPES"));
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 					}
 				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_SEA_TRADE"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_GIVE_OR_RECEIVE_RESOURCES_AS_GIFTS"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("SUPPLY_AND_DEMAND_CONTAIN_SAME_RESOURCE_TYPES"));
 			}
-			break;
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_SEA_TRADE"));
+		}
+	}
 
-			case END_TURN: {
-				boolean hasRightToFinishRound = checkRightToFinishRound();
+	/**
+	 * Handles the request of the active {@code Player} to end the turn.
+	 * 
+	 * @param message
+	 *            the received message.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleEndTurn(Message message, ServerConnection sender) {
+		boolean hasRightToFinishRound = checkRightToFinishRound();
+
+		if (hasRightToFinishRound) {
+			setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
+			sendOK(sender);
+			int nextPlayerId = findNextPlayerIdFinishRound();
+			setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayerId);
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_FINISH_ROUND"));
+		}
+	}
 
-				if (hasRightToFinishRound) {
-					setPlayerStateAndSendMessage(PlayerState.WAIT, gameActivePlayerId);
-					sendOK();
-					int nextPlayerId = findNextPlayerIdFinishRound();
-					setPlayerStateAndSendMessage(PlayerState.ROLL_DICE, nextPlayerId);
+	/**
+	 * Handles a {@code Trade} offered by the active {@code Player} to the other
+	 * players.
+	 * 
+	 * @param offerTradeMessage
+	 *            the received {@link OfferTradeMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleOfferTrade(OfferTradeMessage offerTradeMessage, ServerConnection sender) {
+		Resources supply = offerTradeMessage.getSupply();
+		Resources demand = offerTradeMessage.getDemand();
+
+		boolean hasEnoughResources = hasEnoughResources(game.getActivePlayer().getResources(), supply);
+
+		if (!haveSameResourceType(supply, demand)) {
+			if (!(supply.getSum() == 0 || demand.getSum() == 0)) {
+				if (hasEnoughResources) {
+					int tradeId = idMaker();
+					// set trade in game and in player, subtract supply from player's resources
+					makeTradeOffer(tradeId, supply, demand);
+					sendSupplyMessage(tradeId, supply, demand);
+					sendOK(sender);
 				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_FINISH_ROUND"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_GIVE_OR_RECEIVE_RESOURCES_AS_GIFTS"));
 			}
-			break;
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
+		}
+	}
+
+	/**
+	 * Handles a {@code Player} accepting or declining the current
+	 * {@code Trade}.
+	 * 
+	 * @param acceptTradeMessage
+	 *            the received {@link AcceptTradeMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleAcceptTrade(AcceptTradeMessage acceptTradeMessage, ServerConnection sender) {
+		int tradeId = acceptTradeMessage.getTradeId();
 
-			case OFFER_TRADE: {
-				JSONObject j_supply = obj.getJSONObject(Attributes.SUPPLY.toString());
-				JSONObject j_demand = obj.getJSONObject(Attributes.DEMAND.toString());
-				Resources supply = ProtocolJSONObjectConverter.getResources(j_supply);
-				Resources demand = ProtocolJSONObjectConverter.getResources(j_demand);
-
-				boolean hasEnoughResources = hasEnoughResources(game.getActivePlayer().getResources(), supply);
-
-				if (!haveSameResourceType(supply, demand)) {
-					if (!(supply.getSum() == 0 || demand.getSum() == 0)) {
-						if (hasEnoughResources) {
-							int tradeId = idMaker();
-							// set trade in game and in player, subtract supply from player's resources
-							makeTradeOffer(tradeId, supply, demand);
-							sendSupplyMessage(tradeId, supply, demand);
-							sendOK();
-						} else {
-							sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
-						}
-					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("CANT_GIVE_OR_RECEIVE_RESOURCES_AS_GIFTS"));
-					}
-				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
+		// The trade may have been cancelled in the meantime.
+		if (game.getTrade() == null) {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_TRADE"));
+			return;
+		}
+
+		if (acceptTradeMessage.isAccepted()) {
+			// The player accepted the trade.
+			Resources demand = game.getTrade().getTradeRequest();
+			// dont need check supply, because supply has been checked by offering a trade
+			boolean hasEnoughResources = hasEnoughResources(activePlayer.getResources(), demand);
+			// player's resources >= demand resources
+			if (hasEnoughResources) {
+				if (game.getTrade() != null) {
+				game.getTrade().addAcceptingPlayer(game.getPlayerWithId(activePlayer.getId()));
+				sendAcceptMessage(tradeId, true);
+				sendOK(sender);
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES"));
 			}
-			break;
-
-			case ACCEPT_TRADE: {
-				int tradeId = obj.getInt(Attributes.TRADING_ID.toString());
-
-				if (obj.getBoolean(Attributes.ACCEPT.toString())) {
-					// The player accepted the trade.
-					Resources demand = game.getTrade().getTradeRequest();
-					// dont need check supply, because supply has been checked by offering a trade
-					boolean hasEnoughResources = hasEnoughResources(activePlayer.getResources(), demand);
-					// player's resources >= demand resources
-					if (hasEnoughResources) {
-						if (game.getTrade() != null) {
-						game.getTrade().getAcceptedList().add(game.getPlayerWithId(activePlayer.getId()));
-						sendAcceptMessage(tradeId, true);
-						sendOK();
-						}
-					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES"));
-					}
-				} else {
-					// The player declined the trade.
+		} else {
+			// The player declined the trade.
                     if(game.getTrade() != null) {
-					game.getTrade().addDecliningPlayer(activePlayer);
-					sendAcceptMessage(tradeId, false);
-					sendOK();
-					}
-				}
+			game.getTrade().addDecliningPlayer(activePlayer);
+			sendAcceptMessage(tradeId, false);
+			sendOK(sender);
 			}
-			break;
+		}
+	}
+
+	/**
+	 * Handles the active {@code Player} executing the current {@code Trade} with
+	 * one of the players who accepted it.
+	 * 
+	 * @param finishTradeMessage
+	 *            the received {@link FinishTradeMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleFinishTrade(FinishTradeMessage finishTradeMessage, ServerConnection sender) {
+		int tradeId = finishTradeMessage.getTradeId();
+		int fellowPlayerId = finishTradeMessage.getFellowPlayerId();
 
-			case FINISH_TRADE: {
-				int tradeId = obj.getInt(Attributes.TRADING_ID.toString());
-				int fellowPlayerId = obj.getInt(Attributes.FELLOW_PLAYER.toString());
+		executeTrade(sender, tradeId, fellowPlayerId);
+		sendOK(sender);
+	}
 
-				executeTrade(tradeId, fellowPlayerId);
-				sendOK();
+	/**
+	 * Handles a {@code Player} cancelling the current {@code Trade}.
+	 * 
+	 * @param message
+	 *            the received {@link CancelTradeMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleCancelTrade(CancelTradeMessage message, ServerConnection sender) {
+		int tradeId = message.getTradeId();
+		if(game.getTrade()!=null) {
+			if (game.getTrade().getPlayer().getId() != activePlayer.getId()) {
+				game.getTrade().removeAcceptingPlayer(activePlayer);
+			} else {
+				game.setTrade(null);
 			}
-			break;
+			sendCancelMessage(tradeId, activePlayer.getId());
+			sendOK(sender);
+		}
+	}
 
-			case CANCEL_TRADE: {
-				int tradeId = obj.getInt(Attributes.TRADING_ID.toString());
-				if(game.getTrade()!=null) {
-					if (game.getTrade().getPlayer().getId() != activePlayer.getId()) {
-						game.getTrade().getAcceptedList().remove(activePlayer);
-					} else {
-						game.setTrade(null);
-					}
-					sendCancelMessage(tradeId, activePlayer.getId());
-					sendOK();
-				}}
-			break;
+	/**
+	 * Handles the active {@code Player} playing a knight card.
+	 * 
+	 * @param knightMessage
+	 *            the received {@link PlayKnightMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handlePlayKnight(PlayKnightMessage knightMessage, ServerConnection sender) {
+		// String stringPosition = obj.getString(Attributes.POSITION.toString());
+		String stringPosition = ProtocolJSONObjectConverter.getHexPosition(knightMessage.getPosition(), game.getBoard());
+		Coordinates xyPosition = knightMessage.getPosition();
+		Hex newRobberPosition = findHexPositionFromString(stringPosition);
+		Hex oldRobberPosition = game.getBoard().getRobber().getPosition();
+		PlayerState savePlayerState = game.getActivePlayer().getState();
+		boolean positionOneValidPosition = isPositionInGameArea(newRobberPosition);
+		boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
+		boolean hasValidKnightCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.KNIGHT);
 
-			case PLAY_KNIGHT: {
-				// String stringPosition = obj.getString(Attributes.POSITION.toString());
-				String stringPosition = ProtocolJSONObjectConverter.getHexPosition(obj, game.getBoard());
-				JSONObject xyPosition = obj.getJSONObject(Attributes.POSITION.toString());
-				Hex newRobberPosition = findHexPositionFromString(stringPosition);
-				Hex oldRobberPosition = game.getBoard().getRobber().getPosition();
-				PlayerState savePlayerState = game.getActivePlayer().getState();
-				boolean positionOneValidPosition = isPositionInGameArea(newRobberPosition);
-				boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
-				boolean hasValidKnightCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.KNIGHT);
-
-				if (hasRightToPlayDevelopmentCard) {
-					// has knight card, and this card has been already bought before
-					if (hasValidKnightCard) {
-						// robber has not been moved or robber is not in game area
-						if (oldRobberPosition == newRobberPosition || (!positionOneValidPosition)) {
-							sendNoRightErrorInfoToClient(getBundle().getString("CANT_MOVE_ROBBER"));
+		if (hasRightToPlayDevelopmentCard) {
+			// has knight card, and this card has been already bought before
+			if (hasValidKnightCard) {
+				// robber has not been moved or robber is not in game area
+				if (oldRobberPosition == newRobberPosition || (!positionOneValidPosition)) {
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_MOVE_ROBBER"));
+				}
+				// robber is moved and new (hex)position is a valid position
+				else {
+					if (knightMessage.hasTarget()) {
+						int targetPlayerId = knightMessage.getTarget();
+						// get (int[]) id of all players, who has settlement or city near by this
+						// (hex)position,which is new occupied by robber
+						// is target player near by this robber
+						// has target player at least one resource card or not
+						List<Player> relativePlayers = getRelativePlayerListOfOneHex(newRobberPosition);
+						boolean tragetPlayerIsNearby = isListIncludTargetPlayer(relativePlayers,
+								targetPlayerId);
+						boolean targetPlayerHasEnoughResources = hasTargetPlayerEnoughResources(targetPlayerId);
+
+						// target player is near by robber
+						if (tragetPlayerIsNearby) {
+							// if no resources player can be grabbed,this case should be fit
+							// target player have at least one resource card
+							if (targetPlayerHasEnoughResources) {
+								grabResourceFromTargetPlayerAndSendMessageToAll(targetPlayerId);
+							}
+							// useKnightCard
+							// move robber in new (hex) position
+							// tell all players Knightcard message
+							// grab one resource card from target player and send lose_resource(Kosten)
+							// message
+							// tell activePlayer robber is moved successfully
+							// update playerState as trade or build
+							playKnightCard();
+							game.getBoard().getRobber().move(newRobberPosition);
+							sendKnightCardMessageToAll(xyPosition, targetPlayerId);
+							// ??im not very sure, whether move Robber message will be send here
+							sendRobberInfoToAll(xyPosition, targetPlayerId);
+							sendOK(sender);
+
+							boolean hasLargestArmy = checkLargestArmy();
+
+							if (hasLargestArmy) {
+								giveLargestArmyCardTo(game.getActivePlayer());
+								sendLargestArmyMessage();
+								checkWin();
+							}
+							setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
 						}
-						// robber is moved and new (hex)position is a valid position
+						// target player is not near by robber
 						else {
-							if (obj.has(Attributes.TARGET.toString())) {
-								int targetPlayerId = obj.getInt(Attributes.TARGET.toString());
-								// get (int[]) id of all players, who has settlement or city near by this
-								// (hex)position,which is new occupied by robber
-								// is target player near by this robber
-								// has target player at least one resource card or not
-								List<Player> relativePlayers = getRelativePlayerListOfOneHex(newRobberPosition);
-								boolean tragetPlayerIsNearby = isListIncludTargetPlayer(relativePlayers,
-										targetPlayerId);
-								boolean targetPlayerHasEnoughResources = hasTargetPlayerEnoughResources(targetPlayerId);
-
-								// target player is near by robber
-								if (tragetPlayerIsNearby) {
-									// if no resources player can be grabbed,this case should be fit
-									// target player have at least one resource card
-									if (targetPlayerHasEnoughResources) {
-										grabResourceFromTargetPlayerAndSendMessageToAll(targetPlayerId);
-									}
-									// useKnightCard
-									// move robber in new (hex) position
-									// tell all players Knightcard message
-									// grab one resource card from target player and send lose_resource(Kosten)
-									// message
-									// tell activePlayer robber is moved successfully
-									// update playerState as trade or build
-									playKnightCard();
-									game.getBoard().getRobber().move(newRobberPosition);
-									sendKnightCardMessageToAll(xyPosition, targetPlayerId);
-									// ??im not very sure, whether move Robber message will be send here
-									sendRobberInfoToAll(xyPosition, targetPlayerId);
-									sendOK();
-
-									boolean hasLargestArmy = checkLargestArmy();
-
-									if (hasLargestArmy) {
-										giveLargestArmyCardTo(game.getActivePlayer());
-										sendLargestArmyMessage();
-										checkWin();
-									}
-									setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-								}
-								// target player is not near by robber
-								else {
-									sendNoRightErrorInfoToClient(getBundle().getString("WRONG_ROBBER_POSITION"));
-								}
-							} else {
-								playKnightCard();
-								game.getBoard().getRobber().move(newRobberPosition);
-								sendKnightCardWithoutTargetPlayerMessageToAll(xyPosition);
-								sendRobberMovedMessage(xyPosition);
-								sendOK();
-								setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-							}
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_ROBBER_POSITION"));
 						}
 					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_KNIGHT_CARD"));
+						playKnightCard();
+						game.getBoard().getRobber().move(newRobberPosition);
+						sendKnightCardWithoutTargetPlayerMessageToAll(xyPosition);
+						sendRobberMovedMessage(xyPosition);
+						sendOK(sender);
+						setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
 					}
-				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_PLAY_CARD"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_KNIGHT_CARD"));
 			}
-			break;
-
-			case PLAY_ROAD_BUILDING: {
-				//if positions are sent by Strings
-				// String stringPosition_1 = obj.getString(Attributes.STREAT_ONE.toString());
-				// String stringPosition_2 = obj.getString(Attributes.STREAT_TWO.toString());
-				//
-				//				String stringPos_1 = obj.getString(Attributes.STREAT_ONE.toString());
-				//				String stringPos_2 = obj.getString(Attributes.STREAT_TWO.toString());
-
-				String stringPosition_1 = ProtocolJSONObjectConverter.getStreetOnePosition(obj, game.getBoard());
-				String stringPosition_2 = ProtocolJSONObjectConverter.getStreetTwoPosition(obj, game.getBoard());
-				JSONArray xyPosition_1 = obj.getJSONArray(Attributes.STREAT_ONE.toString());
-				JSONArray xyPosition_2 = obj.getJSONArray(Attributes.STREAT_TWO.toString());
-
-				Edge roadPosition_1 = findRoadPositionFromString(stringPosition_1);
-				Edge roadPosition_2 = findRoadPositionFromString(stringPosition_2);
-
-				PlayerState savePlayerState = game.getActivePlayer().getState();
-
-				boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
-				boolean hasValidRoadCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.ROAD_BUILDING);
-				boolean hasRoadToBeBuilded = checkRoadNumber();
-				boolean position_1_Valid = isPositionOneValidRoadPosition(roadPosition_1);
-				boolean position_2_Valid = isPositionOneValidRoadPosition(roadPosition_2);
-				// roadPosition_1 is next to roadPosition_2 and roadPosition_2 is valid.
-				position_1_Valid = position_1_Valid || position_2_Valid && roadPosition_2.getAdjacentEdgesOfEdge().contains(roadPosition_1);
-				// roadPosition_2 is next to roadPosition_1 and roadPosition_1 is valid.
-				position_2_Valid = position_2_Valid || position_1_Valid && roadPosition_1.getAdjacentEdgesOfEdge().contains(roadPosition_2);
-				boolean twoRoadsCanBeBuilded = checkMoreThanTwoRoadsCanBeBuilded();
-
-				if (hasRightToPlayDevelopmentCard) {
-					if (hasValidRoadCard) {
-						// player has builded less than 15 roads(e.g. 1,2,...,13,14)
-						if (hasRoadToBeBuilded) {
-							// position_1 or position_2 not valid
-							if (!position_1_Valid || !position_2_Valid) {
-								if (!position_1_Valid && !position_2_Valid) {
-									sendNoRightErrorInfoToClient(getBundle().getString("WRONG_ROAD_POSITIONS"));
-								} // position_1 valid
-								else if (position_1_Valid) {
-									playRoadCard();
-									sendPlayRoadCardMessage(xyPosition_1);
-									buildRoadWithCardAndSendMessage(roadPosition_1);
-									sendOK();
-									checkWin();
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_PLAY_CARD"));
+		}
+	}
+
+	/**
+	 * Handles the active {@code Player} playing a road building card.
+	 * 
+	 * @param roadBuildingMessage
+	 *            the received {@link PlayRoadBuildingMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handlePlayRoadBuilding(PlayRoadBuildingMessage roadBuildingMessage, ServerConnection sender) {
+		//if positions are sent by Strings
+		// String stringPosition_1 = obj.getString(Attributes.STREAT_ONE.toString());
+		// String stringPosition_2 = obj.getString(Attributes.STREAT_TWO.toString());
+		//
+		//				String stringPos_1 = obj.getString(Attributes.STREAT_ONE.toString());
+		//				String stringPos_2 = obj.getString(Attributes.STREAT_TWO.toString());
+
+		String stringPosition_1 = ProtocolJSONObjectConverter.getPosition(roadBuildingMessage.getFirstRoad(), game.getBoard());
+		String stringPosition_2 = ProtocolJSONObjectConverter.getPosition(roadBuildingMessage.getSecondRoad(), game.getBoard());
+		List<Coordinates> xyPosition_1 = roadBuildingMessage.getFirstRoad();
+		List<Coordinates> xyPosition_2 = roadBuildingMessage.getSecondRoad();
+
+		Edge roadPosition_1 = findRoadPositionFromString(stringPosition_1);
+		Edge roadPosition_2 = findRoadPositionFromString(stringPosition_2);
+
+		PlayerState savePlayerState = game.getActivePlayer().getState();
+
+		boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
+		boolean hasValidRoadCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.ROAD_BUILDING);
+		boolean hasRoadToBeBuilded = checkRoadNumber();
+		boolean position_1_Valid = isPositionOneValidRoadPosition(roadPosition_1);
+		boolean position_2_Valid = isPositionOneValidRoadPosition(roadPosition_2);
+		// roadPosition_1 is next to roadPosition_2 and roadPosition_2 is valid.
+		position_1_Valid = position_1_Valid || position_2_Valid && roadPosition_2.getAdjacentEdgesOfEdge().contains(roadPosition_1);
+		// roadPosition_2 is next to roadPosition_1 and roadPosition_1 is valid.
+		position_2_Valid = position_2_Valid || position_1_Valid && roadPosition_1.getAdjacentEdgesOfEdge().contains(roadPosition_2);
+		boolean twoRoadsCanBeBuilded = checkMoreThanTwoRoadsCanBeBuilded();
+
+		if (hasRightToPlayDevelopmentCard) {
+			if (hasValidRoadCard) {
+				// player has builded less than 15 roads(e.g. 1,2,...,13,14)
+				if (hasRoadToBeBuilded) {
+					// position_1 or position_2 not valid
+					if (!position_1_Valid || !position_2_Valid) {
+						if (!position_1_Valid && !position_2_Valid) {
+							sendNoRightErrorInfoToClient(sender, getBundle().getString("WRONG_ROAD_POSITIONS"));
+						} // position_1 valid
+						else if (position_1_Valid) {
+							playRoadCard();
+							sendPlayRoadCardMessage(xyPosition_1);
+							buildRoadWithCardAndSendMessage(roadPosition_1);
+							sendOK(sender);
+							checkWin();
 
-									boolean hasLongestRoad = checkLongestRoad();
+							boolean hasLongestRoad = checkLongestRoad();
 
-									if (hasLongestRoad) {
-										giveLongestRoadCardTo(game.getActivePlayer());
-										sendLongestRoadMessage(gameActivePlayerId);
-										checkWin();
-									}
-									setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-								}
-								// position_2 valid
-								else {
-									playRoadCard();
-									sendPlayRoadCardMessage(xyPosition_2);
-									buildRoadWithCardAndSendMessage(roadPosition_2);
-									sendOK();
-									checkWin();
+							if (hasLongestRoad) {
+								giveLongestRoadCardTo(game.getActivePlayer());
+								sendLongestRoadMessage(gameActivePlayerId);
+								checkWin();
+							}
+							setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
+						}
+						// position_2 valid
+						else {
+							playRoadCard();
+							sendPlayRoadCardMessage(xyPosition_2);
+							buildRoadWithCardAndSendMessage(roadPosition_2);
+							sendOK(sender);
+							checkWin();
 
-									boolean hasLongestRoad = checkLongestRoad();
+							boolean hasLongestRoad = checkLongestRoad();
 
-									if (hasLongestRoad) {
-										giveLongestRoadCardTo(game.getActivePlayer());
-										sendLongestRoadMessage(gameActivePlayerId);
-										checkWin();
-									}
-									setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-								}
+							if (hasLongestRoad) {
+								giveLongestRoadCardTo(game.getActivePlayer());
+								sendLongestRoadMessage(gameActivePlayerId);
+								checkWin();
 							}
-							// position_1 and position_2 both are valid
-							else {
-								// has builded less than 14 roads(e.g.1,2,..,12,13)
-								if (twoRoadsCanBeBuilded) {
-									playRoadCard();
-									buildRoadWithCardAndSendMessage(roadPosition_1);
-									buildRoadWithCardAndSendMessage(roadPosition_2);
-									sendPlayRoadCardMessage(xyPosition_1, xyPosition_2);
-									sendOK();
-									checkWin();
+							setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
+						}
+					}
+					// position_1 and position_2 both are valid
+					else {
+						// has builded less than 14 roads(e.g.1,2,..,12,13)
+						if (twoRoadsCanBeBuilded) {
+							playRoadCard();
+							buildRoadWithCardAndSendMessage(roadPosition_1);
+							buildRoadWithCardAndSendMessage(roadPosition_2);
+							sendPlayRoadCardMessage(xyPosition_1, xyPosition_2);
+							sendOK(sender);
+							checkWin();
 
-									boolean hasLongestRoad = checkLongestRoad();
+							boolean hasLongestRoad = checkLongestRoad();
 
-									if (hasLongestRoad) {
-										giveLongestRoadCardTo(game.getActivePlayer());
-										sendLongestRoadMessage(gameActivePlayerId);
-										checkWin();
-									}
-									setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-								}
-								// has builded 14 roads
-								else {
-									playRoadCard();
-									sendPlayRoadCardMessage(xyPosition_1);
-									buildRoadWithCardAndSendMessage(roadPosition_1);
-									sendOK();
-									checkWin();
+							if (hasLongestRoad) {
+								giveLongestRoadCardTo(game.getActivePlayer());
+								sendLongestRoadMessage(gameActivePlayerId);
+								checkWin();
+							}
+							setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
+						}
+						// has builded 14 roads
+						else {
+							playRoadCard();
+							sendPlayRoadCardMessage(xyPosition_1);
+							buildRoadWithCardAndSendMessage(roadPosition_1);
+							sendOK(sender);
+							checkWin();
 
-									boolean hasLongestRoad = checkLongestRoad();
+							boolean hasLongestRoad = checkLongestRoad();
 
-									if (hasLongestRoad) {
-										giveLongestRoadCardTo(game.getActivePlayer());
-										sendLongestRoadMessage(gameActivePlayerId);
-										checkWin();
-									}
-									setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-								}
+							if (hasLongestRoad) {
+								giveLongestRoadCardTo(game.getActivePlayer());
+								sendLongestRoadMessage(gameActivePlayerId);
+								checkWin();
 							}
-						} else {
-							sendNoRightErrorInfoToClient(getBundle().getString("NO_ROAD"));
+							setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
 						}
-					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_BUILD_ROAD_CARD"));
 					}
 				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_PLAY_CARD"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_ROAD"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_BUILD_ROAD_CARD"));
 			}
-			break;
-
-			case PLAY_MONOPOLY: {
-				String j_resourceType = obj.getString(Attributes.RESOURCE.toString());
-				ResourceType resourceType = ProtocolStringConverter.getResourceType(j_resourceType);
-
-				PlayerState savePlayerState = game.getActivePlayer().getState();
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_PLAY_CARD"));
+		}
+	}
 
-				boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
-				boolean hasValidMonopolyCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.MONOPOLY);
+	/**
+	 * Handles the active {@code Player} playing a monopoly card.
+	 * 
+	 * @param message
+	 *            the received {@link PlayMonopolyMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handlePlayMonopoly(PlayMonopolyMessage message, ServerConnection sender) {
+		String j_resourceType = message.getResourceType();
+		ResourceType resourceType = ProtocolStringConverter.getResourceType(j_resourceType);
+
+		PlayerState savePlayerState = game.getActivePlayer().getState();
+
+		boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
+		boolean hasValidMonopolyCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.MONOPOLY);
+
+		if (hasRightToPlayDevelopmentCard) {
+			if (hasValidMonopolyCard) {
+				playMonopolyCard();
+				sendPlayMonopolyCardMessage(j_resourceType);
+				monopolizeMarket(resourceType);
+				sendOK(sender);
+				setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_MONOPOL_CARD"));
+			}
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_PLAY_CARD"));
+		}
+	}
 
-				if (hasRightToPlayDevelopmentCard) {
-					if (hasValidMonopolyCard) {
-						playMonopolyCard();
-						sendPlayMonopolyCardMessage(j_resourceType);
-						monopolizeMarket(resourceType);
-						sendOK();
+	/**
+	 * Handles the active {@code Player} playing a year of plenty card.
+	 * 
+	 * @param message
+	 *            the received {@link PlayYearOfPlentyMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handlePlayYearOfPlenty(PlayYearOfPlentyMessage message, ServerConnection sender) {
+		Resources resources = message.getResources();
+
+		PlayerState savePlayerState = game.getActivePlayer().getState();
+
+		boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
+		boolean hasValidMonopolyCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.YEAR_OF_PLENTY);
+		boolean rightPlentyValue = rightPlentyValue(resources);
+		boolean bankHasEnoughResources = checkBankResources(resources);
+
+		if (hasRightToPlayDevelopmentCard) {
+			if (hasValidMonopolyCard) {
+				// 0<resources<=2
+				if (rightPlentyValue) {
+					if (bankHasEnoughResources) {
+						playPlentyCard();
+						sendPlentyCardMessage(resources);
+						plentyYearComes(resources);
+						sendOK(sender);
 						setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
 					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_MONOPOL_CARD"));
+						sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_RESOURCES_IN_BANK"));
 					}
 				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_PLAY_CARD"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("CAN_MORE_RESOURCES"));
 				}
+			} else {
+				sendNoRightErrorInfoToClient(sender, getBundle().getString("NO_PLENTY_YEAR_CARD"));
 			}
-			break;
+		} else {
+			sendNoRightErrorInfoToClient(sender, getBundle().getString("CANT_PLAY_CARD"));
+		}
+	}
 
-			case PLAY_YEAR_OF_PLENTY: {
-				JSONObject j_resources = obj.getJSONObject(Attributes.RESOURCES.toString());
-				Resources resources = ProtocolJSONObjectConverter.getResources(j_resources);
-
-				PlayerState savePlayerState = game.getActivePlayer().getState();
-
-				boolean hasRightToPlayDevelopmentCard = checkRightToPlayCard();
-				boolean hasValidMonopolyCard = checkPlayableDevelopmentCard(PlayableDevelopmentCardType.YEAR_OF_PLENTY);
-				boolean rightPlentyValue = rightPlentyValue(resources);
-				boolean bankHasEnoughResources = checkBankResources(resources);
-
-				if (hasRightToPlayDevelopmentCard) {
-					if (hasValidMonopolyCard) {
-						// 0<resources<=2
-						if (rightPlentyValue) {
-							if (bankHasEnoughResources) {
-								playPlentyCard();
-								sendPlentyCardMessage(j_resources);
-								plentyYearComes(resources);
-								sendOK();
-								setPlayerStateAndSendMessage(savePlayerState, gameActivePlayerId);
-							} else {
-								sendNoRightErrorInfoToClient(getBundle().getString("NO_RESOURCES_IN_BANK"));
-							}
-						} else {
-							sendNoRightErrorInfoToClient(getBundle().getString("CAN_MORE_RESOURCES"));
-						}
-					} else {
-						sendNoRightErrorInfoToClient(getBundle().getString("NO_PLENTY_YEAR_CARD"));
-					}
-				} else {
-					sendNoRightErrorInfoToClient(getBundle().getString("CANT_PLAY_CARD"));
-				}
-			}
-			break;
+	/**
+	 * Handles a chat message, which may also contain a cheat code.
+	 * 
+	 * @param message
+	 *            the received {@link ChatMessage}.
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the
+	 *            message.
+	 */
+	private void handleChatMessage(ChatMessage message, ServerConnection sender) {
+		int senderId = sender.getUserId();
 
-			case SEND_CHATMESSAGE: {
-				String message = (String) obj.get(Attributes.MESSAGE.toString());
+		String text = message.getText();
 
-				if (isCheatCode(message) && gameStarted) {
-					CheatCodes cheatCode = getCheatCode(message);
-					applyCheatCode(cheatCode);
-					sendOK();
-				} else {
-					JSONObject j_message = new JSONObject();
-					j_message.put(Attributes.SENDER.toString(), serverConnectionId);
-					j_message.put(Attributes.MESSAGE.toString(), message);
-					serverConnection.broadcast(ClientTypes.CHATMESSAGE.toString(), j_message);
-					sendOK();
-				}
-			}
-			break;
-			}
+		if (isCheatCode(text) && gameStarted) {
+			CheatCodes cheatCode = getCheatCode(text);
+			applyCheatCode(cheatCode);
+			sendOK(sender);
+		} else {
+			room.broadcast(new ChatBroadcastMessage(senderId, text));
+			sendOK(sender);
 		}
 	}
 
@@ -1339,7 +1535,7 @@ public class ServerController {
 		sendLoseResourcesInfoToAll(cost, gameActivePlayerId);
 		game.getActivePlayer().addDevelopmentCard(developmentCard);
 		game.getActivePlayer().calculateNumberOfDevelopmentCards();
-		sendDevelopmentCardMessageToAll(developmentCard, serverConnectionId);
+		sendDevelopmentCardMessageToAll(developmentCard, activePlayer.getId());
 	}
 
 	/**
@@ -1350,8 +1546,8 @@ public class ServerController {
 	 */
 	private boolean haveSameResourceType(Resources supply, Resources demand) {
 		for (ResourceType type : ResourceType.values()) {
-			boolean supplyContainsResourceType = supply.getResources().get(type) != 0;
-			boolean demandContainsResourceType = demand.getResources().get(type) != 0;
+			boolean supplyContainsResourceType = supply.get(type) != 0;
+			boolean demandContainsResourceType = demand.get(type) != 0;
 
 			if (supplyContainsResourceType && demandContainsResourceType) {
 				return true;
@@ -1375,10 +1571,10 @@ public class ServerController {
 		int nDemandedResourcesForCorrectRatio = 0;
 
 		// Check for each individual resource if it was supplied in the correct ratio.
-		for (ResourceType type : supply.getResources().keySet()) {
-			if(supply.getResources().get(type)!=0) {
-				if (tradingRatios.isCorrectRatio(type, supply.getResources().get(type))) {
-					int amountOfTrades = supply.getResources().get(type) / tradingRatios.getRatios().get(type);
+		for (ResourceType type : ResourceType.values()) {
+			if(supply.get(type)!=0) {
+				if (tradingRatios.isCorrectRatio(type, supply.get(type))) {
+					int amountOfTrades = supply.get(type) / tradingRatios.getRatios().get(type);
 					nDemandedResourcesForCorrectRatio += amountOfTrades;
 				} else {
 					return false;
@@ -1425,13 +1621,13 @@ public class ServerController {
 
 		case WIN:
 			winTheGameAndsendWinMessageToALL();
-			server.stopRunning();
+			room.close();
 			break;
 
 		case LOSE:
 			Player winner = game.getPlayerWithMostPointsOtherThan(activePlayer);
 			winTheGameAndsendWinMessageToALL(winner);
-			server.stopRunning();
+			room.close();
 			break;
 
 		case DEVELOPMENT_CARDS:
@@ -1532,9 +1728,7 @@ public class ServerController {
 	 * @see SpecialCardType
 	 */
 	private void sendLongestRoadMessage(int playerId) {
-		JSONObject j_longestRoad = new JSONObject();
-		j_longestRoad.put(Attributes.PLAYER.toString(), playerId);
-		serverConnection.broadcast(ClientTypes.LONGEST_ROAD.toString(), j_longestRoad);
+		room.broadcast(new SpecialCardMessage(ClientTypes.LONGEST_ROAD, playerId));
 	}
 
 	/**
@@ -1546,8 +1740,7 @@ public class ServerController {
 	 * @see SpecialCardType
 	 */
 	private void sendLoseLongestRoadCardMessage(int id) {
-		JSONObject j_loseLongestRoad = new JSONObject();
-		serverConnection.broadcast(ClientTypes.LONGEST_ROAD.toString(), j_loseLongestRoad);
+		room.broadcast(new SpecialCardMessage(ClientTypes.LONGEST_ROAD, null));
 	}
 
 	/**
@@ -1596,9 +1789,7 @@ public class ServerController {
 	 * largest army card in {@code Game}.
 	 */
 	private void sendLargestArmyMessage() {
-		JSONObject j_largestArmy = new JSONObject();
-		j_largestArmy.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		serverConnection.broadcast(ClientTypes.LARGEST_ARMY.toString(), j_largestArmy);
+		room.broadcast(new SpecialCardMessage(ClientTypes.LARGEST_ARMY, gameActivePlayerId));
 	}
 
 	/**
@@ -1727,15 +1918,12 @@ public class ServerController {
 	 * Sends a message to the all client, saying, active {@code Player} has played
 	 * the plenty year card in {@code Game} and get resources from {@code Bank}.
 	 * 
-	 * @param j_resources
-	 *            the JSONObject of resources, which should be given to active
+	 * @param resources
+	 *            the resources, which should be given to active
 	 *            {@code Player}.
 	 */
-	private void sendPlentyCardMessage(JSONObject j_resources) {
-		JSONObject j_plenty_card = new JSONObject();
-		j_plenty_card.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_plenty_card.put(Attributes.RESOURCES.toString(), j_resources);
-		serverConnection.broadcast(ClientTypes.PLAY_YEAR_OF_PLENTY.toString(), j_plenty_card);
+	private void sendPlentyCardMessage(Resources resources) {
+		room.broadcast(new YearOfPlentyPlayedMessage(gameActivePlayerId, resources));
 	}
 
 	/**
@@ -1767,10 +1955,7 @@ public class ServerController {
 	 *            the type to be chosen by active {@code Player}
 	 */
 	private void sendPlayMonopolyCardMessage(String resourceType) {
-		JSONObject j_monopoly_card = new JSONObject();
-		j_monopoly_card.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_monopoly_card.put(Attributes.RESOURCE.toString(), resourceType);
-		serverConnection.broadcast(ClientTypes.PLAY_MONOPOLY.toString(), j_monopoly_card);
+		room.broadcast(new MonopolyPlayedMessage(gameActivePlayerId, resourceType));
 	}
 
 	/**
@@ -1804,7 +1989,7 @@ public class ServerController {
 		Map<Integer, Integer> resourceList = new HashMap<>();
 		for (Player player : game.getPlayers()) {
 			if (player.getId() != gameActivePlayerId) {
-				Integer subtractResource = player.getResources().getResources().get(resourceType);
+				Integer subtractResource = player.getResources().get(resourceType);
 				if (subtractResource != 0) {
 					player.getResources().subtractOneTypeResource(subtractResource, resourceType);
 					resourceList.put(player.getId(), subtractResource);
@@ -1830,12 +2015,8 @@ public class ServerController {
 	 * @see Edge
 	 * @see Road
 	 */
-	private void sendPlayRoadCardMessage(JSONArray position_1, JSONArray position_2) {
-		JSONObject j_road_card = new JSONObject();
-		j_road_card.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_road_card.put(Attributes.STREAT_ONE.toString(), position_1);
-		j_road_card.put(Attributes.STREAT_TWO.toString(), position_2);
-		serverConnection.broadcast(ClientTypes.PLAY_ROAD_BUILDING.toString(), j_road_card);
+	private void sendPlayRoadCardMessage(List<Coordinates> position_1, List<Coordinates> position_2) {
+		room.broadcast(new RoadBuildingPlayedMessage(gameActivePlayerId, position_1, position_2));
 	}
 
 	/**
@@ -1847,11 +2028,8 @@ public class ServerController {
 	 * @see Edge
 	 * @see Road
 	 */
-	private void sendPlayRoadCardMessage(JSONArray position) {
-		JSONObject j_road_card = new JSONObject();
-		j_road_card.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_road_card.put(Attributes.STREAT_ONE.toString(), position);
-		serverConnection.broadcast(ClientTypes.PLAY_ROAD_BUILDING.toString(), j_road_card);
+	private void sendPlayRoadCardMessage(List<Coordinates> position) {
+		room.broadcast(new RoadBuildingPlayedMessage(gameActivePlayerId, position, null));
 	}
 
 	/**
@@ -1946,7 +2124,7 @@ public class ServerController {
 	 * @return true, if the player has one playable development card.
 	 */
 	private boolean checkPlayableDevelopmentCard(PlayableDevelopmentCardType type) {
-		if (game.getActivePlayer().developmentCardsProperty().getSize() > 0) {
+		if (game.getActivePlayer().getDevelopmentCards().size() > 0) {
 			for (DevelopmentCard developmentCard : game.getActivePlayer().getDevelopmentCards()) {
 				if (developmentCard instanceof PlayableDevelopmentCard) {
 					if (((PlayableDevelopmentCard) developmentCard).getType() == type) {
@@ -1993,12 +2171,8 @@ public class ServerController {
 	 * @param targetPlayerId
 	 *            the id of player who is set as target player.
 	 */
-	private void sendKnightCardMessageToAll(JSONObject position, int targetPlayerId) {
-		JSONObject j_KnightCard = new JSONObject();
-		j_KnightCard.put(Attributes.POSITION.toString(), position);
-		j_KnightCard.put(Attributes.TARGET.toString(), targetPlayerId);
-		j_KnightCard.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		serverConnection.broadcast(ClientTypes.PLAY_KNIGHT.toString(), j_KnightCard);
+	private void sendKnightCardMessageToAll(Coordinates position, int targetPlayerId) {
+		room.broadcast(new KnightPlayedMessage(gameActivePlayerId, position, targetPlayerId));
 	}
 
 	/**
@@ -2008,11 +2182,8 @@ public class ServerController {
 	 * @param position
 	 *            the new robber position
 	 */
-	private void sendKnightCardWithoutTargetPlayerMessageToAll(JSONObject position) {
-		JSONObject j_KnightCard = new JSONObject();
-		j_KnightCard.put(Attributes.POSITION.toString(), position);
-		j_KnightCard.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		serverConnection.broadcast(ClientTypes.PLAY_KNIGHT.toString(), j_KnightCard);
+	private void sendKnightCardWithoutTargetPlayerMessageToAll(Coordinates position) {
+		room.broadcast(new KnightPlayedMessage(gameActivePlayerId, position, null));
 	}
 
 	/**
@@ -2059,10 +2230,7 @@ public class ServerController {
 	 *            the ID of the {@link Player} who started the trade.
 	 */
 	private void sendCancelMessage(int tradeId, int playerId) {
-		JSONObject j_cancelMessage = new JSONObject();
-		j_cancelMessage.put(Attributes.PLAYER.toString(), playerId);
-		j_cancelMessage.put(Attributes.TRADING_ID.toString(), tradeId);
-		serverConnection.broadcast(ClientTypes.TRADE_CANCELED.toString(), j_cancelMessage);
+		room.broadcast(new TradeCanceledMessage(playerId, tradeId));
 	}
 
 	/**
@@ -2072,26 +2240,21 @@ public class ServerController {
 	 *            the player who make trade with active {@code Player}
 	 */
 	private void sendExecuteTradeMessage(int fellowPlayerId) {
-		JSONObject j_executeTradeMessage = new JSONObject();
-		j_executeTradeMessage.put(Attributes.TRADING_ID.toString(), game.getTrade().getTradeID());
-		j_executeTradeMessage.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_executeTradeMessage.put(Attributes.FELLOW_PLAYER.toString(), fellowPlayerId);
-
-		JSONObject message = new JSONObject();
-		message.put(ClientTypes.TRADE_EXECUTED.toString(), j_executeTradeMessage);
-		serverConnection.broadcast(message);
+		room.broadcast(new TradeExecutedMessage(game.getTrade().getTradeID(), gameActivePlayerId, fellowPlayerId));
 	}
 
 	/**
 	 * The {@code Trade} is executed between active {@code Player} and fellow
 	 * player.
 	 * 
+	 * @param sender
+	 *            the {@link ServerConnection} of the active player
 	 * @param tradeId
 	 *            the ID of this Trade
 	 * @param fellowPlayerId
 	 *            the ID of fellow player
 	 */
-	private void executeTrade(int tradeId, int fellowPlayerId) {
+	private void executeTrade(ServerConnection sender, int tradeId, int fellowPlayerId) {
 		if (game.getTrade() != null) {
 			if (game.getTrade().getAcceptedList().contains(game.getPlayerWithId(fellowPlayerId))) {
 				if ((!game.getTrade().getDeclinedList().contains(game.getPlayerWithId(fellowPlayerId)))) {
@@ -2111,14 +2274,14 @@ public class ServerController {
 					game.setTrade(null);
 				} else {
 					String name = game.getPlayerWithId(fellowPlayerId).getName();
-					sendNoRightErrorInfoToClient("Der Spieler " + name + " hat dieses Handel abgebrochen");
+					sendNoRightErrorInfoToClient(sender, "Der Spieler " + name + " hat dieses Handel abgebrochen");
 				}
 			} else {
 				String name = game.getPlayerWithId(fellowPlayerId).getName();
-				sendNoRightErrorInfoToClient("Der Spieler " + name + " hat dieses Handel nicht akzeptiert.");
+				sendNoRightErrorInfoToClient(sender, "Der Spieler " + name + " hat dieses Handel nicht akzeptiert.");
 			}
 		} else {
-			sendNoRightErrorInfoToClient("Es gibt kein Handel");
+			sendNoRightErrorInfoToClient(sender, "Es gibt kein Handel");
 		}
 	}
 
@@ -2150,11 +2313,7 @@ public class ServerController {
 	 *            true, if the {@link Trade} has been accepted. false, otherwise.
 	 */
 	private void sendAcceptMessage(int trade_id, boolean accepted) {
-		JSONObject j_accept = new JSONObject();
-		j_accept.put(Attributes.FELLOW_PLAYER.toString(), activePlayer.getId());
-		j_accept.put(Attributes.TRADING_ID.toString(), trade_id);
-		j_accept.put(Attributes.ACCEPT.toString(), accepted);
-		serverConnection.broadcast(ClientTypes.TRADE_ACCEPTED.toString(), j_accept);
+		room.broadcast(new TradeAcceptedMessage(activePlayer.getId(), trade_id, accepted));
 	}
 
 	/**
@@ -2171,16 +2330,7 @@ public class ServerController {
 	 * @see ResourceType
 	 */
 	private void sendSupplyMessage(int id, Resources supply, Resources demand) {
-		JSONObject j_Trade_offer = new JSONObject();
-		JSONObject j_supply = new Mapper().writeValueAsJson(supply);
-		JSONObject j_demand = new Mapper().writeValueAsJson(demand);
-
-		j_Trade_offer.put(Attributes.PLAYER.toString(), gameActivePlayerId);
-		j_Trade_offer.put(Attributes.TRADING_ID.toString(), id);
-		j_Trade_offer.put(Attributes.DEMAND.toString(), j_demand);
-		j_Trade_offer.put(Attributes.SUPPLY.toString(), j_supply);
-		serverConnection.broadcast(ClientTypes.TRADE_OFFER.toString(), j_Trade_offer);
-
+		room.broadcast(new TradeOfferMessage(gameActivePlayerId, id, supply, demand));
 	}
 
 	/**
@@ -2331,21 +2481,15 @@ public class ServerController {
 	 * @see PlayableDevelopmentCardType
 	 */
 	private void sendDevelopmentCardMessageToAll(DevelopmentCard developmentCard, int playerId) {
-		JSONObject j_developmentCard = new JSONObject();
+		String cardType;
 		if (developmentCard instanceof PlayableDevelopmentCard) {
-			j_developmentCard.put(Attributes.DEVELOMENTCARD.toString(),
-					((PlayableDevelopmentCard) developmentCard).getType().toString());
+			cardType = ((PlayableDevelopmentCard) developmentCard).getType().toString();
 		} else {
-			j_developmentCard.put(Attributes.DEVELOMENTCARD.toString(), Attributes.VICTORY_POINT.toString());
+			cardType = Attributes.VICTORY_POINT.toString();
 		}
-		j_developmentCard.put(Attributes.PLAYER.toString(), playerId);
-
-		JSONObject j_unknowndevelopmentCard = new JSONObject();
-		j_unknowndevelopmentCard.put(Attributes.PLAYER.toString(), playerId);
-		j_unknowndevelopmentCard.put(Attributes.DEVELOMENTCARD.toString(), Attributes.UNKNOWN.toString());
 
-		serverConnection.sendToClient(ClientTypes.DEVELOMENTCARD_BOUGHT.toString(), j_developmentCard);
-		serverConnection.sendToEverybodyElse(ClientTypes.DEVELOMENTCARD_BOUGHT.toString(), j_unknowndevelopmentCard);
+		room.sendToSomeone(new DevelopmentCardBoughtMessage(playerId, cardType), playerId);
+		room.sendToSomeoneElse(new DevelopmentCardBoughtMessage(playerId, Attributes.UNKNOWN.toString()), playerId);
 	}
 
 	/**
@@ -2579,11 +2723,7 @@ public class ServerController {
 	 * @param construction the specific {@code Construction}
 	 */
 	private void sendBuildInfoToAll(Construction construction) {
-		JSONObject j_build = new Mapper().writeValueAsJson(construction);
-		JSONObject message = new JSONObject();
-		message.put(Attributes.CONSTRUCTIONS.toString(), j_build);
-
-		serverConnection.broadcast(ClientTypes.BUILDING.toString(), message);
+		room.broadcast(new BuildingMessage(ConstructionInfo.of(construction)));
 	}
 
 	/**
@@ -2600,7 +2740,7 @@ public class ServerController {
 			winTheGameAndsendWinMessageToALL();
 
 			// Shut the server down.
-			server.stopRunning();
+			room.close();
 		}
 	}
 
@@ -2699,12 +2839,8 @@ public class ServerController {
 	 * @see City
 	 */
 	private boolean isPositionOneValidCityPosition(Corner cityPosition) {
-		if (cityPosition.isCornerOccupied()) {
-			if ((cityPosition.getLocality().getOwner().getId()) == (gameActivePlayerId)) {
-				return true;
-			}
-		}
-		return false;
+		return isPositionInGameArea(cityPosition)
+				&& getMoveGenerator().canBuildCity(gameActivePlayerId, cityPosition.getCornerID());
 	}
 
 	/**
@@ -2720,32 +2856,8 @@ public class ServerController {
 	 * @see Edge
 	 */
 	private boolean isPositionOneValidRoadPosition(Edge roadPosition) {
-		boolean surroundingRoad = false;
-		boolean surroundingLocality = false;
-
-		if (isPositionInGameArea(roadPosition)) {
-			for (Edge edge : roadPosition.getAdjacentEdgesOfEdge()) {
-				if (edge.getRoad() != null) {
-					if (edge.getRoad().getOwner().getId() == gameActivePlayerId) {
-						surroundingRoad = true;
-					}
-				}
-			}
-		}
-
-		for (Corner corner : roadPosition.getAdjacentCornersOfEdge()) {
-			if (corner.getLocality() != null) {
-				if (corner.getLocality().getOwner().getId() == gameActivePlayerId) {
-					surroundingLocality = true;
-				}
-			}
-		}
-
-		if (surroundingRoad || surroundingLocality) {
-			return !roadPosition.isOccupied();
-		} else {
-			return false;
-		}
+		return isPositionInGameArea(roadPosition)
+				&& getMoveGenerator().canBuildRoad(gameActivePlayerId, roadPosition.getEdgeID());
 	}
 
 	/**
@@ -2759,18 +2871,8 @@ public class ServerController {
 	 * @see Settlement
 	 */
 	private boolean isValidPositionForBuildFreeSettlement(Corner settlementPosition) {
-		List<Corner> cornersNearTheSettlementPosition = settlementPosition.getAdjacentCornersOfCorner();
-		if (settlementPosition.isCornerOccupied()) {
-			return false;
-		} else {
-			for (Corner corner : cornersNearTheSettlementPosition) {
-				if (corner.isCornerOccupied()) {
-					// return false
-					return false;
-				}
-			}
-		}
-		return isPositionInGameArea(settlementPosition);
+		return isPositionInGameArea(settlementPosition)
+				&& getMoveGenerator().canBuildFreeSettlement(settlementPosition.getCornerID());
 	}
 
 	/**
@@ -2778,19 +2880,13 @@ public class ServerController {
 	 * 
 	 * @param roadPosition
 	 *            the {@code Edge} where the road will be builded
-	 * @return true, if there is one own settlement nearby.
+	 * @return true, if the edge is free and there is one own settlement nearby.
 	 * @see Road
 	 * @see Settlement
 	 * @see Edge
 	 */
 	private boolean isValidPositionForBuildFreeRoad(Edge roadPosition) {
-		boolean isOwnSettlementNearBy = isOwnSettlementNearBy(roadPosition);
-		if (isPositionInGameArea(roadPosition)) {
-			if (isOwnSettlementNearBy) {
-				return true;
-			}
-		}
-		return false;
+		return isPositionOneValidRoadPosition(roadPosition) && isOwnSettlementNearBy(roadPosition);
 	}
 
 	/**
@@ -2831,33 +2927,18 @@ public class ServerController {
 	 * @see Corner
 	 */
 	private boolean isPositionOneValidSettlementPosition(Corner settlementPosition) {
-		List<Corner> cornersNearTheSettlementPosition = settlementPosition.getAdjacentCornersOfCorner();
-		List<Edge> edgesNearTheSettlementPosition = settlementPosition.getAdjacentEdgesOfCorner();
-
-		if (settlementPosition.getLocality() != null) {
-			return false;
-		}
+		return isPositionInGameArea(settlementPosition)
+				&& getMoveGenerator().canBuildSettlement(gameActivePlayerId, settlementPosition.getCornerID());
+	}
 
-		// near this corner there is no settlement
-		for (Corner corner : cornersNearTheSettlementPosition) {
-			if (corner.isCornerOccupied()) {
-				return false;
-			}
-		}
-		// All edges near this corner
-		for (Edge edge : edgesNearTheSettlementPosition) {
-			// find Roads at these edges
-			if (edge.getRoad() != null) {
-				// activePlayer have one Road near this corner and this corner is in gamearea
-				if ((edge.getRoad().getOwner().getId() == gameActivePlayerId)
-						&& (isPositionInGameArea(settlementPosition))) {
-					// than this corner is a valid position to build settlement
-					// return true otherwise return false
-					return true;
-				}
-			}
-		}
-		return false;
+	/**
+	 * Returns the generator of the legal moves on the board of the game.
+	 * 
+	 * @return the {@code MoveGenerator}.
+	 * @see MoveGenerator
+	 */
+	private MoveGenerator getMoveGenerator() {
+		return game.getBoard().getTopology().getMoveGenerator();
 	}
 
 	/**
@@ -2938,13 +3019,9 @@ public class ServerController {
 	 * @see Robber
 	 * @see Player
 	 */
-	private void sendRobberInfoToAll(JSONObject xyPosition, int targetPlayerId) {
+	private void sendRobberInfoToAll(Coordinates xyPosition, int targetPlayerId) {
 		int playerIdWhoMoveRobber = this.gameActivePlayerId;
-		JSONObject j_Robber_Moved = new JSONObject();
-		j_Robber_Moved.put(Attributes.PLAYER.toString(), playerIdWhoMoveRobber);
-		j_Robber_Moved.put(Attributes.POSITION.toString(), xyPosition);
-		j_Robber_Moved.put(Attributes.TARGET.toString(), targetPlayerId);
-		serverConnection.broadcast(ClientTypes.ROBBER_MOVED.toString(), j_Robber_Moved);
+		room.broadcast(new RobberMovedMessage(playerIdWhoMoveRobber, xyPosition, targetPlayerId));
 	}
 
 	/**
@@ -2960,7 +3037,7 @@ public class ServerController {
 		int resourceTypeNumber = 5;
 		int[] vaildResourcesList = new int[resourceTypeNumber];
 		ResourceType[] resourceTypeList = ResourceType.values();
-		Random random = new Random();
+		Random random = game.getRandom();
 		int randomNumber = random.nextInt(resourceTypeNumber);
 		Resources grabResources = new Resources();
 
@@ -2970,7 +3047,7 @@ public class ServerController {
 
 					Resources resources = player.getResources();
 					for (int i = 0; i < resourceTypeNumber; i++) {
-						int amount = resources.getResources().get(resourceTypeList[i]);
+						int amount = resources.get(resourceTypeList[i]);
 						if (amount > 0) {
 							vaildResourcesList[i % resourceTypeNumber] = 1;
 						}
@@ -3016,44 +3093,6 @@ public class ServerController {
 		}
 	}
 
-	/**
-	 * Make a JSONObject of resources.
-	 * 
-	 * @param resources
-	 *            the {@code Resources}
-	 * @param playerId
-	 *            the ID of player
-	 * @return JSONObject {Player:playerId, Resources:resources}
-	 */
-	private JSONObject makeJSONObjectOfResource(Resources resources, int playerId) {
-		JSONObject j_resources = new Mapper().writeValueAsJson(resources);
-
-		JSONObject j_Resources = new JSONObject();
-		j_Resources.put(Attributes.RESOURCES.toString(), j_resources);
-		j_Resources.put(Attributes.PLAYER.toString(), playerId);
-
-		return j_Resources;
-	}
-
-	/**
-	 * Make unknown JSONObject of {@code Resources}
-	 * 
-	 * @param resources
-	 *            the resources
-	 * @param playerId
-	 *            the ID of player
-	 * @return unknown JSONObject {Player:playerId, Resources: sum}
-	 */
-	private JSONObject makeJSONObjectOfUnknownResource(Resources resources, int playerId) {
-		JSONObject j_resources = new Mapper().writeValueAsJsonUnknownResources(resources);
-
-		JSONObject cost = new JSONObject();
-		cost.put(Attributes.RESOURCES.toString(), j_resources);
-		cost.put(Attributes.PLAYER.toString(), playerId);
-
-		return cost;
-	}
-
 	/**
 	 * Sends a message to all client, saying, the {@code Player} has lost the
 	 * {@code Resources}.
@@ -3066,13 +3105,9 @@ public class ServerController {
 	 * @see Resources
 	 */
 	private void sendLoseResourcesInfoToAll(Resources resources, int playerId) {
-		JSONObject j_resource = new JSONObject();
-		JSONObject j_UnknownResourcesToElse = new JSONObject();
-		j_resource = makeJSONObjectOfResource(resources, playerId);
-		j_UnknownResourcesToElse = makeJSONObjectOfUnknownResource(resources, playerId);
-
-		serverConnection.sendToSomeone(ClientTypes.PRICE.toString(), j_resource, playerId);
-		serverConnection.sendToSomeoneElse(ClientTypes.PRICE.toString(), j_UnknownResourcesToElse, playerId);
+		room.sendToSomeone(new ResourcesMessage(ClientTypes.PRICE, playerId, ResourceCards.known(resources)), playerId);
+		room.sendToSomeoneElse(new ResourcesMessage(ClientTypes.PRICE, playerId,
+				ResourceCards.unknown(resources.getSum())), playerId);
 	}
 
 	/**
@@ -3085,10 +3120,7 @@ public class ServerController {
 	 *            the ID of player, who make a sea trade
 	 */
 	private void broadcastLoseResourcesMessage(Resources resources, int playerId) {
-		JSONObject j_resource = new JSONObject();
-		j_resource = makeJSONObjectOfResource(resources, playerId);
-
-		serverConnection.broadcast(ClientTypes.PRICE.toString(), j_resource);
+		room.broadcast(new ResourcesMessage(ClientTypes.PRICE, playerId, ResourceCards.known(resources)));
 	}
 
 	/**
@@ -3101,10 +3133,7 @@ public class ServerController {
 	 *            the ID of player, who make a sea trade
 	 */
 	private void broadcastGetResourcesMessage(Resources resources, int playerId) {
-		JSONObject j_resource = new JSONObject();
-		j_resource = makeJSONObjectOfResource(resources, playerId);
-
-		serverConnection.broadcast(ClientTypes.RESOURCE_QUANTITY.toString(), j_resource);
+		room.broadcast(new ResourcesMessage(ClientTypes.RESOURCE_QUANTITY, playerId, ResourceCards.known(resources)));
 	}
 
 	/**
@@ -3117,14 +3146,10 @@ public class ServerController {
 	 *            the ID of player
 	 */
 	private void sendGetResourcesInfoToAll(Resources resources, int playerId) {
-		JSONObject j_resource = new JSONObject();
-		JSONObject j_UnknownResourcesToElse = new JSONObject();
-		j_resource = makeJSONObjectOfResource(resources, playerId);
-		j_UnknownResourcesToElse = makeJSONObjectOfUnknownResource(resources, playerId);
-
-		serverConnection.sendToSomeone(ClientTypes.RESOURCE_QUANTITY.toString(), j_resource, playerId);
-		serverConnection.sendToSomeoneElse(ClientTypes.RESOURCE_QUANTITY.toString(), j_UnknownResourcesToElse,
-				playerId);
+		room.sendToSomeone(new ResourcesMessage(ClientTypes.RESOURCE_QUANTITY, playerId,
+				ResourceCards.known(resources)), playerId);
+		room.sendToSomeoneElse(new ResourcesMessage(ClientTypes.RESOURCE_QUANTITY, playerId,
+				ResourceCards.unknown(resources.getSum())), playerId);
 	}
 
 	/**
@@ -3132,12 +3157,10 @@ public class ServerController {
 	 * {@code Player} has won the game.
 	 */
 	private void winTheGameAndsendWinMessageToALL() {
-		JSONObject j_win = new JSONObject();
+		room.broadcast(new GameFinishedMessage(
+				"Der Spieler " + game.getActivePlayer().getName() + " hat das Spiel gewonnen.", gameActivePlayerId));
 
-		j_win.put(Attributes.MESSAGE.toString(),
-				"Der Spieler " + game.getActivePlayer().getName() + " hat das Spiel gewonnen.");
-		j_win.put(Attributes.WINNER.toString(), gameActivePlayerId);
-		serverConnection.broadcast(ClientTypes.GAME_FINISHED.toString(), j_win);
+		game.setWinner(game.getPlayerWithId(gameActivePlayerId));
 	}
 
 	/**
@@ -3146,10 +3169,7 @@ public class ServerController {
 	private void updateVictoryPointsOfAllAndSendMessageToAll() {
 		for(Player player:game.getPlayers()) {
 				player.updateVictoryPoints();
-				JSONObject jsonPlayer = new Mapper().writeValueAsJson(player);
-				JSONObject message = new JSONObject();
-				message.put(Attributes.PLAYER.toString(), jsonPlayer);
-				serverConnection.broadcast(ClientTypes.STATE_UPDATE.toString(),message);
+				room.broadcast(StateUpdateMessage.of(player));
 		}
 	}
 
@@ -3159,10 +3179,10 @@ public class ServerController {
 	 * @param player the {@link Player}
 	 */
 	private void winTheGameAndsendWinMessageToALL(Player player) {
-		JSONObject j_win = new JSONObject();
-		j_win.put(Attributes.MESSAGE.toString(), "Spieler " + player.getName() + " hat das Spiel gewonnen.");
-		j_win.put(Attributes.WINNER.toString(), player.getId());
-		serverConnection.broadcast(ClientTypes.GAME_FINISHED.toString(), j_win);
+		room.broadcast(new GameFinishedMessage("Spieler " + player.getName() + " hat das Spiel gewonnen.",
+				player.getId()));
+
+		game.setWinner(player);
 	}
 
 	/**
@@ -3217,10 +3237,10 @@ public class ServerController {
 	 * @return true, if the hex is in game area.
 	 */
 	private boolean isPositionInGameArea(Hex hex) {
-		if (hex.getType() == HexType.WATER || hex == null) {
+		if (hex == null || hex.getType() == HexType.WATER) {
 			return false;
 		}
-		return game.getBoard().getHexes().contains(hex);
+		return game.getBoard().getTopology().contains(hex);
 	}
 
 	/**
@@ -3232,26 +3252,8 @@ public class ServerController {
 	 * @see Corner
 	 */
 	private boolean isPositionInGameArea(Corner corner) {
-		int countWaterHex = 0;
-		int countOtherHex = 0;
-		int maxWaterHexNumbernearCorner = 2;
-		int hexNumbernearCorner = 3;
-		for (Hex hex : corner.getAdjacentHexesOfCorner()) {
-			if (hex != null) {
-				if (hex.getType() == HexType.WATER) {
-					countWaterHex++;
-				} else {
-					countOtherHex++;
-				}
-			}
-		}
-		if (countWaterHex > maxWaterHexNumbernearCorner) {
-			return false;
-		} else if (countOtherHex + countWaterHex == hexNumbernearCorner) {
-			return game.getBoard().getCorners().contains(corner);
-		} else {
-			return false;
-		}
+		// The board only has corners next to land.
+		return game.getBoard().getTopology().contains(corner);
 	}
 
 	/**
@@ -3262,26 +3264,8 @@ public class ServerController {
 	 * @return true, if the edge is in game area.
 	 */
 	private boolean isPositionInGameArea(Edge edge) {
-		int countWaterHex = 0;
-		int countOtherHex = 0;
-		int maxWaterHexNumbernearEdge = 1;
-		int hexNumbernearEdge = 2;
-		for (Hex hex : edge.getAdjacentHexesOfEdge()) {
-			if (hex != null) {
-				if (hex.getType() == HexType.WATER) {
-					countWaterHex++;
-				} else {
-					countOtherHex++;
-				}
-			}
-		}
-		if (countWaterHex > maxWaterHexNumbernearEdge) {
-			return false;
-		} else if (countOtherHex + countWaterHex == hexNumbernearEdge) {
-			return game.getBoard().getEdges().contains(edge);
-		} else {
-			return false;
-		}
+		// The board only has edges next to land.
+		return game.getBoard().getTopology().contains(edge);
 	}
 
 	/**
@@ -3347,6 +3331,8 @@ public class ServerController {
 	 * Check whether the {@code PlayerState} is not "wait" or is SEND_CHATMESSAGE or
 	 * ACCEPT_TRADE.
 	 * 
+	 * @param sender
+	 *            the {@link ServerConnection} of the client who sent the message
 	 * @param messageType
 	 *            the type of message
 	 * @return true, if the {@code Player} want send a chat message, accept one
@@ -3354,16 +3340,16 @@ public class ServerController {
 	 * @see PlayerState
 	 * @see ServerTypes
 	 */
-	private boolean haveRightSolveJSON(ServerTypes messageType) {
+	private boolean haveRightSolveJSON(ServerConnection sender, ServerTypes messageType) {
 		boolean haveRightSolveJSON = true;
 		if (gameStarted) {
-			Player player = findPlayerWithId(serverConnectionId);
+			Player player = findPlayerWithId(sender.getUserId());
 			if (player.getState() != PlayerState.WAIT) {
 				this.activePlayer = player;
 			} else {
 				if (messageType != ServerTypes.SEND_CHATMESSAGE && messageType != ServerTypes.ACCEPT_TRADE && messageType != ServerTypes.CANCEL_TRADE) {
 					haveRightSolveJSON = false;
-					sendNoRightErrorInfoToClient(getBundle().getString("PLEASE_WAIT"));
+					sendNoRightErrorInfoToClient(sender, getBundle().getString("PLEASE_WAIT"));
 				} else {
 					this.activePlayer = player;
 				}
@@ -3376,25 +3362,22 @@ public class ServerController {
 	 * Sends a message to the client, saying, that the action of player is wrong or
 	 * not allowed.
 	 * 
+	 * @param sender the {@link ServerConnection} of the client.
 	 * @param message the message to send.
 	 */
-	private void sendNoRightErrorInfoToClient(String message) {
-		JSONObject j_erro = new JSONObject();
-		j_erro.put(ClientTypes.SERVER_REPLY.toString(), message);
-
-		serverConnection.sendToClient(j_erro);
+	private void sendNoRightErrorInfoToClient(ServerConnection sender, String message) {
+		sender.sendToClient(new ServerReplyMessage(message));
 	}
 
 	/**
 	 * Sends a message to the client, saying, that the requested action has been
 	 * approved.
 	 * 
+	 * @param sender the {@link ServerConnection} of the client.
 	 * @see ClientController
 	 */
-	private void sendOK() {
-		JSONObject message = new JSONObject();
-		message.put(ClientTypes.SERVER_REPLY.toString(), Attributes.OK.toString());
-		serverConnection.sendToClient(message);
+	private void sendOK(ServerConnection sender) {
+		sender.sendToClient(ServerReplyMessage.OK);
 	}
 
 	/**
@@ -3402,34 +3385,31 @@ public class ServerController {
 	 * First, the specified {@link User Users} {@link PlayerState} is send to all
 	 * other users. Second, the states of all users are send to the new user.
 	 * 
+	 * @param sender
+	 *            the {@link ServerConnection} of the new user.
 	 * @param newUser
 	 *            the newly connected user.
 	 */
-	private void sendStatusMessages(User newUser) {
+	private void sendStatusMessages(ServerConnection sender, User newUser) {
 		// Send status info of new user to everybody else.
-		JSONObject message = new Mapper().writeValueAsJson(newUser);
-		serverConnection.sendToEverybodyElse(ClientTypes.STATE_UPDATE.toString(), message);
+		room.sendToEverybodyElse(StateUpdateMessage.of(newUser), sender);
 
 		// Send status info of all users to the new user.
 		for (User user : lobby.getUsers()) {
-			message = new Mapper().writeValueAsJson(user);
-			serverConnection.sendToClient(ClientTypes.STATE_UPDATE.toString(), message);
+			sender.sendToClient(StateUpdateMessage.of(user));
 		}
 	}
 
 	/**
 	 * Sends a welcome message to the specified {@code User}.
 	 * 
+	 * @param sender
+	 *            the {@link ServerConnection} of the user.
 	 * @param user
 	 *            the {@link User} to whom the message is sent.
 	 */
-	private void sendWelcomeMessage(User user) {
-		// Create message.
-		JSONObject message = new JSONObject();
-		message.put(Attributes.ID.toString(), user.getId());
-
-		// Send message.
-		serverConnection.sendToClient(ClientTypes.WELCOME.toString(), message);
+	private void sendWelcomeMessage(ServerConnection sender, User user) {
+		sender.sendToClient(new WelcomeMessage(user.getId()));
 	}
 
 	/**
@@ -3439,39 +3419,32 @@ public class ServerController {
 	 * @param hexPosition the {@link Hex} the {@link Robber} has been moved to.
 	 * @see Player
 	 */
-	private void sendRobberMovedMessage(JSONObject hexPosition) {
-		// Create message.
-		JSONObject message = new JSONObject();
-		message.put(Attributes.POSITION.toString(), hexPosition);
-
-		// Send message.
-		serverConnection.broadcast(ClientTypes.ROBBER_MOVED.toString(), message);
+	private void sendRobberMovedMessage(Coordinates hexPosition) {
+		room.broadcast(new RobberMovedMessage(null, hexPosition, null));
 	}
 
 	/**
 	 * Sends a error message to the specified {@code User}, saying, he has no valid
 	 * name.
 	 * 
+	 * @param sender the {@link ServerConnection} of the user.
 	 * @see HumanUser
 	 * @see User
 	 */
-	private void sendEmptyNameMessage() {
-		JSONObject emptyName = new JSONObject();
-		emptyName.put(Attributes.REPORT.toString(), getBundle().getString("NO_VALID_NAME"));
-		serverConnection.sendToClient(ClientTypes.ERROR.toString(), emptyName);
+	private void sendEmptyNameMessage(ServerConnection sender) {
+		sender.sendToClient(new ErrorMessage(getBundle().getString("NO_VALID_NAME")));
 	}
 
 	/**
 	 * Sends a error message to the specified {@code User}, saying, he has no valid
 	 * color.
 	 * 
+	 * @param sender the {@link ServerConnection} of the user.
 	 * @see HumanUser
 	 * @see User
 	 */
-	private void sendNoAvaliableColorMessage() {
-		JSONObject colorUsed = new JSONObject();
-		colorUsed.put(Attributes.REPORT.toString(), getBundle().getString("NO_VALID_COLOR"));
-		serverConnection.sendToClient(ClientTypes.ERROR.toString(), colorUsed);
+	private void sendNoAvaliableColorMessage(ServerConnection sender) {
+		sender.sendToClient(new ErrorMessage(getBundle().getString("NO_VALID_COLOR")));
 	}
 
 	/**
@@ -3496,10 +3469,7 @@ public class ServerController {
 	 *            dice number that active {@code Player} has rolled
 	 */
 	private void sendDiceNumbertoEveryone(int[] diceNumbers) {
-		JSONObject j_dice = new JSONObject();
-		j_dice.put(Attributes.PLAYER.toString(), serverConnectionId);
-		j_dice.put(Attributes.DICE_VALUE.toString(), diceNumbers);
-		serverConnection.broadcast(ClientTypes.DICE.toString(), j_dice);
+		room.broadcast(new DiceMessage(activePlayer.getId(), diceNumbers[0], diceNumbers[1]));
 	}
 
 	/**
@@ -3633,21 +3603,11 @@ public class ServerController {
 				if (player.getId() == id) {
 					player.setState(playerState);
 
-					// Generate message
-					JSONObject jsonPlayer = new Mapper().writeValueAsJson(player);
-					JSONObject message = new JSONObject();
-					message.put(Attributes.PLAYER.toString(), jsonPlayer);
-
 					// Send playerstate info to the player whose state changed.
-					serverConnection.sendToSomeone(ClientTypes.STATE_UPDATE.toString(), message, id);
-
-					// Generate message
-					JSONObject jsonUnknownPlayer = new Mapper().writeUnknownValueAsJson(player);
-					JSONObject unknownmessage = new JSONObject();
-					unknownmessage.put(Attributes.PLAYER.toString(), jsonUnknownPlayer);
+					room.sendToSomeone(StateUpdateMessage.of(player), id);
 
 					// Send playerstate info to everyone else.
-					serverConnection.sendToSomeoneElse(ClientTypes.STATE_UPDATE.toString(), unknownmessage, id);
+					room.sendToSomeoneElse(StateUpdateMessage.concealed(player), id);
 					break;
 				}
 			}
@@ -3679,7 +3639,7 @@ public class ServerController {
 		gameStarted = true;
 		List<Player> players = new ArrayList<>();
 		players = makeAllPlayers();
-		this.game = new Game(players);
+		this.game = new Game(players, room.getServer().getBoardConfiguration(), random);
 		// this.tokens = getTokensFromBoard();
 		this.playersNumberInGame = players.size();
 		game.setPhase(GamePhases.CHOOSE_BEGINNER);
@@ -3706,7 +3666,7 @@ public class ServerController {
 	 * each other.
 	 */
 	private void changeAllPlayerStateToWaitSendMapAndThenFindOneBeginner() {
-		Random random = new Random();
+		Random random = game.getRandom();
 		int randomGameBeginner = random.nextInt(playersNumberInGame) + 1;
 		for (Player player : game.getPlayers()) {
 			setPlayerStateAndSendMessage(PlayerState.WAIT, player.getId());
@@ -3722,10 +3682,7 @@ public class ServerController {
 	 * @see Board
 	 */
 	private void sendMapToAllAtBeginnOfTheGame() {
-		JSONObject map = new Mapper().writeValueAsJson(game.getBoard());
-		JSONObject message = new JSONObject();
-		message.put(Attributes.BOARD.toString(), map);
-		serverConnection.broadcast(ClientTypes.GAME_STARTED.toString(), message);
+		room.broadcast(GameStartedMessage.of(game.getBoard()));
 	}
 
 	/**
@@ -3741,7 +3698,7 @@ public class ServerController {
 				int userId = user.getId();
 				String userName = user.getName();
 				String imageLocation = user.getImageLocation();
-				Color userColor = user.getColor();
+				PlayerColor userColor = user.getColor();
 				PlayerState playerState = user.getState();
 				Player player = new Player(userId, userName, imageLocation, userColor, playerState);
 				players.add(player);
@@ -3753,57 +3710,32 @@ public class ServerController {
 	}
 
 	/**
-	 * Add {@code Resources} for all players, who has a locality on this token, and
-	 * send message to them.
+	 * Add {@code Resources} for all players, who have a locality on a hex with
+	 * the rolled number, and send message to them. The producing localities are
+	 * taken from the {@code ProductionIndex} of the board, which already leaves
+	 * out the hex with the robber.
 	 * 
-	 * @param tokens over the {@code Hex} for view.
+	 * @param diceSum
+	 *            the rolled number.
+	 * @see ProductionIndex
 	 */
-	private void AddResourceToPlayersOn(List<Token> tokens) {
-		Map<Integer, Resources> resourcesOfPlayer = new HashMap<>();
-
-		for (int i = 0; i < tokens.size(); i++) {
-			Token token = tokens.get(i);
-			Hex hex = token.getHex();
-			List<Locality> localities = getLocalitiesOfOneHex(hex);
+	private void addResourcesToPlayers(int diceSum) {
+		ProductionIndex production = game.getBoard().getTopology().getProduction();
+		Resources bank = game.getBank().getResources();
+		Map<Integer, Resources> resourcesOfPlayer = new TreeMap<>();
 
-			for (int j = 0; j < localities.size(); j++) {
-				Locality locality = localities.get(j);
-				int playerId = locality.getOwner().getId();
+		for (int i = 0; i < production.getNumberOfEntries(diceSum); i++) {
+			ResourceType resourceType = production.getResource(diceSum, i);
+			int available = bank.get(resourceType);
 
-				Resources resources = new Resources();
-				for (ResourceType resourceType : hex.getResources().getResources().keySet()) {
-					resources.getResources().put(resourceType, hex.getResources().getResources().get(resourceType));
-				}
-
-				if (locality instanceof Settlement) {
-					if (game.getBank().getResources().isGreaterThanOrEqualTo(resources)) {
-						game.getBank().getResources().subtract(resources);
-						if (resourcesOfPlayer.containsKey(playerId)) {
-							resources.add(resourcesOfPlayer.get(playerId));
-						}
-						resourcesOfPlayer.put(playerId, resources);
-					}
-				} else if (locality instanceof City) {
-					Resources saveResources = new Resources();
-					for (ResourceType resourceType : resources.getResources().keySet()) {
-						saveResources.getResources().put(resourceType, resources.getResources().get(resourceType));
-					}
+			// A city only gets a single resource, if the bank has not enough for both.
+			int amount = Math.min(production.getAmount(diceSum, i), available);
+			if (amount > 0) {
+				bank.set(resourceType, available - amount);
 
-					resources.multiply(City.getMultiplier());
-					if (game.getBank().getResources().isGreaterThanOrEqualTo(resources)) {
-						game.getBank().getResources().subtract(resources);
-						if (resourcesOfPlayer.containsKey(playerId)) {
-							resources.add(resourcesOfPlayer.get(playerId));
-						}
-						resourcesOfPlayer.put(playerId, resources);
-					} else if (game.getBank().getResources().isGreaterThanOrEqualTo(saveResources)) {
-						game.getBank().getResources().subtract(saveResources);
-						if (resourcesOfPlayer.containsKey(playerId)) {
-							saveResources.add(resourcesOfPlayer.get(playerId));
-						}
-						resourcesOfPlayer.put(playerId, saveResources);
-					}
-				}
+				Resources resources = resourcesOfPlayer.computeIfAbsent(production.getOwner(diceSum, i),
+						playerId -> new Resources());
+				resources.set(resourceType, resources.get(resourceType) + amount);
 			}
 		}
 
@@ -3901,40 +3833,22 @@ public class ServerController {
 		return chatController;
 	}
 
-	/**
-	 * Determine the type of message.
-	 * 
-	 * @param type
-	 *            type of message
-	 * @return type of message
-	 * @see ServerTypes
-	 */
-	private ServerTypes determineMessageType(String type) {
-		ServerTypes messageType = null;
-		for (ServerTypes serverType : ServerTypes.values()) {
-			if (type.equals(serverType.toString())) {
-				messageType = serverType;
-				break;
-			}
-		}
-		return messageType;
-	}
-
 	/**
 	 * Check whether the {@code User} has a valid color.
 	 * 
 	 * @param color the color the user has chosen
+	 * @param userId the id of the user
 	 * @return true, if the color is selected and different with color of other
 	 *         users.
 	 * @see HumanUser
 	 * @see AIUser
 	 */
-	private boolean checkColorAvailable(Color color) {
+	private boolean checkColorAvailable(PlayerColor color, int userId) {
 		if (color == null) {
 			return false;
 		}
 		for (User user : lobby.getUsers()) {
-			if (user.getId() != serverConnection.getUserId()) {
+			if (user.getId() != userId) {
 				if (user.getColor() != null && user.getColor().equals(color)) {
 					return false;
 				}
@@ -3959,16 +3873,6 @@ public class ServerController {
 		return false;
 	}
 
-	/**
-	 * Check whether the {@code Robber} is not on this token.
-	 * 
-	 * @param token this token 
-	 * @return true, if the robber is not on this token.
-	 */
-	private boolean checkRobberIsNotOnToken(Token token) {
-		return token.getHex() != game.getBoard().getRobber().getPosition();
-	}
-
 	/**
 	 * Removes the {@code User} and/or {@code Player} associated with the specified
 	 * {@code ServerConnection}.
@@ -3976,12 +3880,12 @@ public class ServerController {
 	 * @param serverConnection
 	 *            the {@link ServerConnection}.
 	 */
-	public synchronized void removeUserAndOrPlayer(ServerConnection serverConnection) {
+	public void removeUserAndOrPlayer(ServerConnection serverConnection) {
 		int userId = serverConnection.getUserId();
 
 		if (gameStarted) {
 			setPlayerStateAndSendMessage(PlayerState.CONNECTION_LOST, userId);
-			server.stopRunning();
+			room.close();
 		} else {
 			User disconnectedUser = lobby.getUser(userId);
 
@@ -3989,14 +3893,29 @@ public class ServerController {
 			disconnectedUser.setState(PlayerState.CONNECTION_LOST);
 
 			// Broadcast to all clients that the user has lost their connection.
-			JSONObject message = new Mapper().writeValueAsJson(disconnectedUser);
-			serverConnection.broadcast(ClientTypes.STATE_UPDATE.toString(), message);
+			room.broadcast(StateUpdateMessage.of(disconnectedUser));
 
 			// Remove the user.
 			lobby.getUsers().remove(disconnectedUser);
 		}
 	}
 
+	/**
+	 * Returns the game running in the room of this controller, e.g. to evaluate it after it is over.
+	 * @return the {@link Game} or null, if the game has not started yet.
+	 */
+	public Game getGame() {
+		return game;
+	}
+
+	/**
+	 * Sets the source of randomness of the game started afterwards, e.g. a seeded one to replay a game.
+	 * @param random the {@link Random} source.
+	 */
+	public void setRandom(Random random) {
+		this.random = random;
+	}
+
 	/**
 	 * Returns whether the game has started or not.
 	 * @return true, if the game has started. false, otherwise.
@@ -4010,7 +3929,7 @@ public class ServerController {
 	 * @return the ResourceBundle
 	 */
 	private ResourceBundle getBundle() {
-		return bundleProperty.get();
+		return room.getServer().getErrorMessages();
 	}
 
 }
\ No newline at end of file
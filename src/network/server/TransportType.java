@@ -0,0 +1,31 @@
+package network.server;
+
+/**
+ * The ways a {@code Server} can transport messages between itself and its clients. All transports use the same
+ * newline-delimited wire format, so clients do not notice which one is used.
+ * @author Christoph Hermann
+ * @see Server
+ */
+public enum TransportType {
+
+	/**
+	 * Every client is handled by its own thread using blocking I/O.
+	 * @see BlockingServerConnection
+	 */
+	BLOCKING,
+
+	/**
+	 * Every client is handled by its own virtual thread using blocking I/O. Reading and accepting block without
+	 * timeouts and are woken up by closing the socket on shutdown.
+	 * @see BlockingServerConnection
+	 */
+	VIRTUAL_THREADS,
+
+	/**
+	 * All clients are handled by a small, fixed number of threads using non-blocking I/O.
+	 * @see NioServerConnection
+	 * @see EventLoop
+	 */
+	NIO;
+
+}
@@ -2,10 +2,16 @@ package users;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import game.ai.Ai;
-import javafx.scene.paint.Color;
+import game.player.PlayerColor;
+import lobby.Lobby;
 import network.client.ClientConnection;
+import network.client.ClientController;
+import network.client.LocalClientConnection;
+import network.protocol.Encoding;
+import network.server.Server;
 import users.usernamegenerator.UsernameGenerator;
 
 /**
@@ -23,7 +29,7 @@ public class AIUser extends User {
 	/**
 	 * The list of available colors.
 	 */
-	private List<Color> availableColors = new ArrayList<>();
+	private List<PlayerColor> availableColors = new ArrayList<>();
 
 	/**
 	 * The {@code Ai} component used by this AIUser.
@@ -35,38 +41,109 @@ public class AIUser extends User {
 	 * Creates a new AIUser who can chose its color from among the specified colors.
 	 * @param availableColors the list of colors this AIUser can chose from.
 	 */
-	public AIUser(List<Color> availableColors) {
+	public AIUser(List<PlayerColor> availableColors) {
+		this(availableColors, new Random());
+	}
+
+	/**
+	 * Creates a new AIUser who can chose its color from among the specified colors and whose {@code Ai} takes its
+	 * random decisions from the specified source, e.g. a seeded one to replay a game.
+	 * @param availableColors the list of colors this AIUser can chose from.
+	 * @param random the source of randomness of the {@link Ai}.
+	 */
+	public AIUser(List<PlayerColor> availableColors, Random random) {
 		super(); 
 
 		this.availableColors = availableColors;
-		this.ai = new Ai();
+		this.ai = new Ai(random);
 
 		setName();
 	}
 
 	/**
-	 * Sets the name of this AIUser.
+	 * Creates a new AIUser in a lobby of its own and connects it to the server with the specified hostname and port.
+	 * The AIUser needs no user interface.
+	 * @param hostname the hostname of the server.
+	 * @param port the port of the server.
+	 * @param encoding the {@link Encoding} the AIUser requests.
+	 * @return the started {@link ClientConnection} of the AIUser.
+	 */
+	public static ClientConnection connect(String hostname, int port, Encoding encoding) {
+		// Create new lobby for the AIUser.
+		Lobby aiLobby = new Lobby();
+
+		// Create new AIUser.
+		AIUser aiUser = new AIUser(aiLobby.getAllColors());
+
+		// Create new ClientConnection for the AIUser.
+		ClientConnection aiClient = new ClientConnection(hostname, port, aiUser, null);
+		aiClient.setPreferredEncoding(encoding);
+		aiUser.setClient(aiClient);
+
+		// Add user to Lobby.
+		aiLobby.addUser(aiUser);
+
+		// Create new ClientController for the AIUser.
+		ClientController aiClientController = new ClientController(aiClient, aiLobby);
+		aiClient.setClientController(aiClientController);
+
+		// Start the AIUsers connection to the server.
+		aiClient.start();
+		return aiClient;
+	}
+
+	/**
+	 * Creates a new AIUser in a lobby of its own and a client connecting it to a server running in the same process,
+	 * e.g. for a simulation. The client is not started yet.
+	 * @param server the {@link Server}.
+	 * @param roomId the id of the room the AIUser joins or a value less than 1, if the server chooses the room.
+	 * @param random the source of randomness of the {@link Ai}.
+	 * @return the {@link LocalClientConnection} of the AIUser.
+	 */
+	public static LocalClientConnection createLocalClient(Server server, int roomId, Random random) {
+		// Create new lobby for the AIUser.
+		Lobby aiLobby = new Lobby();
+
+		// Create new AIUser.
+		AIUser aiUser = new AIUser(aiLobby.getAllColors(), random);
+
+		// Create new LocalClientConnection for the AIUser.
+		LocalClientConnection aiClient = new LocalClientConnection(server, aiUser);
+		aiClient.setRoomId(roomId);
+		aiUser.setClient(aiClient);
+
+		// Add user to Lobby.
+		aiLobby.addUser(aiUser);
+
+		// Create new ClientController for the AIUser.
+		ClientController aiClientController = new ClientController(aiClient, aiLobby);
+		aiClient.setClientController(aiClientController);
+
+		return aiClient;
+	}
+
+	/**
+	 * Sets the name of this AIUser. It is called by the constructor, before anyone can listen to changes of the name.
 	 */
 	private void setName() {
-		String username = UsernameGenerator.getRandomUsername() + NAME_AFFIX;
-		name.set(username);
+		name = UsernameGenerator.getRandomUsername() + NAME_AFFIX;
 	}
 
 	/**
 	 * Chooses a different color than the one currently selected.
 	 */
 	public void chooseDifferentColor() {
-		if (color.get() == null) {
-			color.set(availableColors.get(0));
+		if (color == null) {
+			setColor(availableColors.get(0));
 		} else {
 			for (int i=0; i < availableColors.size(); i++) {
-				if (color.get() == availableColors.get(i)) {
+				if (color == availableColors.get(i)) {
 					// Select the next color in the list. Loop around to the first element if the end of the list is reached. 
 					int nextColorId = (i+1) % availableColors.size();
-					Color nextColor = availableColors.get(nextColorId);
+					PlayerColor nextColor = availableColors.get(nextColorId);
 
 					// Set the new color.
-					color.set(nextColor);
+					setColor(nextColor);
 
 					break;
 				}
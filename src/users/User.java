@@ -1,30 +1,48 @@
 package users;
 
+import java.util.Objects;
+
+import game.ObservableModel;
 import game.player.Player;
+import game.player.PlayerColor;
 import game.player.PlayerState;
-import javafx.beans.binding.Bindings;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
-import javafx.scene.paint.Color;
 import network.client.ClientConnection;
 
 /**
  * Represents a user of this program.
  * @author Christoph Hermann
  */
-public abstract class User {
+public abstract class User extends ObservableModel {
 
 	/**
-	 * The name of this user.
+	 * The name of the property of the name of a user.
+	 */
+	public static final String NAME = "name";
+
+	/**
+	 * The name of the property of the image location of a user.
 	 */
-	StringProperty name = new SimpleStringProperty();
+	public static final String IMAGE_LOCATION = "imageLocation";
 
 	/**
-	 * The location of this users profile picture.
+	 * The name of the property of the state of a user.
 	 */
-	StringProperty imageLocation = new SimpleStringProperty();
+	public static final String STATE = "state";
+
+	/**
+	 * The name of the property of the color of a user.
+	 */
+	public static final String COLOR = "color";
+
+	/**
+	 * The location of the profile picture of users, who haven't chosen a color yet.
+	 */
+	private static final String DEFAULT_IMAGE_LOCATION = "/game/player/images/profilepic.png";
+
+	/**
+	 * The name of this user.
+	 */
+	String name;
 
 	/**
 	 * The id of this user.
@@ -35,12 +53,12 @@ public abstract class User {
 	 * The state of this user.
 	 * @see PlayerState
 	 */
-	ObjectProperty<PlayerState> state = new SimpleObjectProperty<>();
+	PlayerState state = PlayerState.START_GAME;
 
 	/**
 	 * The color of this user.
 	 */
-	ObjectProperty<Color> color = new SimpleObjectProperty<>();
+	PlayerColor color;
 
 	/**
 	 * The {@code Player} controlled by this user.
@@ -57,30 +75,6 @@ public abstract class User {
 	 * Creates a new User.
 	 */
 	public User() {
-		state.set(PlayerState.START_GAME);
-
-		imageLocation.bind(Bindings.createStringBinding(() -> {
-			String location = "/game/player/images/profilepic.png";
-
-			if (color.get() != null) {
-				switch (color.get().toString()) {
-				case "0xff0000ff":
-					location = "/game/player/images/red.png";
-					break;
-				case "0xffa500ff":
-					location = "/game/player/images/orange.png";
-					break;
-				case "0xffffffff":
-					location = "/game/player/images/white.png";
-					break;
-				case "0x0000ffff":
-					location = "/game/player/images/blue.png";
-					break;
-				}
-			}
-
-			return location;
-		}, color));
 	}
 
 	/**
@@ -88,15 +82,15 @@ public abstract class User {
 	 * @return the name.
 	 */
 	public String getName() {
-		return name.get();
+		return name;
 	}
 
 	/**
-	 * Returns the location of the image of this user.
+	 * Returns the location of the image of this user, which depends on the color of this user.
 	 * @return the image location.
 	 */
 	public String getImageLocation() {
-		return imageLocation.get();
+		return color == null ? DEFAULT_IMAGE_LOCATION : color.getImageLocation();
 	}
 
 	/**
@@ -104,7 +98,10 @@ public abstract class User {
 	 * @param name the name.
 	 */
 	public void setName(String name) {
-		this.name.set(name);
+		if (!Objects.equals(this.name, name)) {
+			this.name = name;
+			fireChanged(NAME);
+		}
 	}
 
 	/**
@@ -127,15 +124,7 @@ public abstract class User {
 	 * Returns the color of this user.
 	 * @return the color.
 	 */
-	public Color getColor() {
-		return color.get();
-	}
-
-	/**
-	 * Returns the color property of this user.
-	 * @return the color property.
-	 */
-	public ObjectProperty<Color> colorProperty() {
+	public PlayerColor getColor() {
 		return color;
 	}
 
@@ -143,8 +132,12 @@ public abstract class User {
 	 * Sets the color of this user.
 	 * @param color the color to set.
 	 */
-	public void setColor(Color color) {
-		this.color.set(color);
+	public void setColor(PlayerColor color) {
+		if (this.color != color) {
+			this.color = color;
+			fireChanged(COLOR);
+			fireChanged(IMAGE_LOCATION);
+		}
 	}
 
 	/**
@@ -152,7 +145,10 @@ public abstract class User {
 	 * @param state the {@link PlayerState}.
 	 */
 	public void setState(PlayerState state) {
-		this.state.set(state);
+		if (this.state != state) {
+			this.state = state;
+			fireChanged(STATE);
+		}
 	}
 
 	/**
@@ -160,33 +156,9 @@ public abstract class User {
 	 * @return state the {@link PlayerState}.
 	 */
 	public PlayerState getState() {
-		return state.get();
-	}
-
-	/**
-	 * Returns the state property of this user.
-	 * @return state the {@link PlayerState} property.
-	 */
-	public ObjectProperty<PlayerState> stateProperty() {
 		return state;
 	}
 
-	/**
-	 * Returns the name property of this user
-	 * @return the name property.
-	 */
-	public StringProperty nameProperty() {
-		return name;
-	}
-
-	/**
-	 * Returns the image location property of this user.
-	 * @return the image location property.
-	 */
-	public StringProperty ImageLocationProperty() {
-		return imageLocation;
-	}
-
 	/**
 	 * Returns the {@code Player} controlled by this user.
 	 * @return the {@link Player}.
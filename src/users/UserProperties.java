@@ -0,0 +1,71 @@
+package users;
+
+import game.ModelProperties;
+import game.player.PlayerColor;
+import game.player.PlayerState;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * Wraps a {@code User} in JavaFX properties for the views of the lobby.
+ * @author Christoph Hermann
+ * @see User
+ */
+public class UserProperties extends ModelProperties {
+
+	/**
+	 * The wrapped user.
+	 */
+	private final User user;
+
+	/**
+	 * Creates a new adapter of the specified user.
+	 * @param user the {@link User}.
+	 */
+	private UserProperties(User user) {
+		super(user);
+		this.user = user;
+	}
+
+	/**
+	 * Returns the adapter of the specified user, which is created when it is requested first.
+	 * @param user the {@link User}.
+	 * @return the adapter.
+	 */
+	public static UserProperties of(User user) {
+		return user.getView(() -> new UserProperties(user));
+	}
+
+	/**
+	 * Returns the name property of the user.
+	 * @return the name property.
+	 */
+	public StringProperty nameProperty() {
+		return stringProperty(User.NAME, user::getName, user::setName);
+	}
+
+	/**
+	 * Returns the image location property of the user.
+	 * @return the image location property.
+	 */
+	public StringProperty imageLocationProperty() {
+		return stringProperty(User.IMAGE_LOCATION, user::getImageLocation, null);
+	}
+
+	/**
+	 * Returns the state property of the user.
+	 * @return the {@link PlayerState} property.
+	 */
+	public ObjectProperty<PlayerState> stateProperty() {
+		return objectProperty(User.STATE, user::getState, user::setState);
+	}
+
+	/**
+	 * Returns the color property of the user.
+	 * @return the {@link PlayerColor} property.
+	 */
+	public ObjectProperty<PlayerColor> colorProperty() {
+		return objectProperty(User.COLOR, user::getColor, user::setColor);
+	}
+
+}